@@ -112,6 +112,15 @@ public enum UnityCatalogConfigurationProperty
                           "volume1,volume2",
                           false),
 
+    /**
+     * Provide the maximum number of requests that are issued to Unity Catalog at the same time when retrieving the contents of the schemas in a catalog.
+     */
+    MAX_CONCURRENT_REQUESTS ("maxConcurrentRequests",
+                             "Provide the maximum number of requests that are issued to Unity Catalog at the same time when retrieving the contents of the schemas in a catalog.",
+                             "integer",
+                             "4",
+                             false),
+
     /**
      * The name of the catalog being described.
      */
@@ -267,6 +276,7 @@ public enum UnityCatalogConfigurationProperty
         recognizedConfigurationProperties.add(UnityCatalogConfigurationProperty.EXCLUDE_FUNCTION_NAMES.getName());
         recognizedConfigurationProperties.add(UnityCatalogConfigurationProperty.INCLUDE_VOLUME_NAMES.getName());
         recognizedConfigurationProperties.add(UnityCatalogConfigurationProperty.EXCLUDE_VOLUME_NAMES.getName());
+        recognizedConfigurationProperties.add(UnityCatalogConfigurationProperty.MAX_CONCURRENT_REQUESTS.getName());
 
         return recognizedConfigurationProperties;
     }
@@ -289,6 +299,7 @@ public enum UnityCatalogConfigurationProperty
         configurationPropertyTypes.add(UnityCatalogConfigurationProperty.EXCLUDE_FUNCTION_NAMES.getConfigurationPropertyType());
         configurationPropertyTypes.add(UnityCatalogConfigurationProperty.INCLUDE_VOLUME_NAMES.getConfigurationPropertyType());
         configurationPropertyTypes.add(UnityCatalogConfigurationProperty.EXCLUDE_VOLUME_NAMES.getConfigurationPropertyType());
+        configurationPropertyTypes.add(UnityCatalogConfigurationProperty.MAX_CONCURRENT_REQUESTS.getConfigurationPropertyType());
 
         return configurationPropertyTypes;
     }
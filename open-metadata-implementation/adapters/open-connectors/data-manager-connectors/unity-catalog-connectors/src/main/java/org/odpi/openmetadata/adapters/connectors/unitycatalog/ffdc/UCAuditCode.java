@@ -187,6 +187,15 @@ public enum UCAuditCode implements AuditLogMessageSet
                                 "The connector continues to scan and synchronize metadata as configured.  Without the listener, updates to open metadata elements with only be synchronized to Unity Catalog during a refresh scan.",
                                 "The likely cause of this error is that the Asset Manager OMAS in the metadata access server used by the integration daemon is not configured to support topics.  This can be changed by reconfiguring the metadata access server to support topics.  A less likely cause is that the metadata access server has stopped running."),
 
+    /**
+     * UNITY-CATALOG-CONNECTOR-0019 - The {0} integration connector retrieved {1} tables from {2} schemas in catalog {3} of Unity Catalog (UC) at {4}; {5} tables were unchanged since the last synchronization
+     */
+    TABLES_RETRIEVED("UNITY-CATALOG-CONNECTOR-0019",
+                     AuditLogRecordSeverityLevel.INFO,
+                     "The {0} integration connector retrieved {1} tables from {2} schemas in catalog {3} of Unity Catalog (UC) at {4}; {5} tables were unchanged since the last synchronization",
+                     "The connector compares the tables with their equivalent elements in the open metadata ecosystem.  Tables that have not changed in either Unity Catalog or the open metadata ecosystem since the last synchronization are skipped.",
+                     "No action is required.  This message records the amount of work performed by the synchronization."),
+
     ;
 
     private final String                     logMessageId;
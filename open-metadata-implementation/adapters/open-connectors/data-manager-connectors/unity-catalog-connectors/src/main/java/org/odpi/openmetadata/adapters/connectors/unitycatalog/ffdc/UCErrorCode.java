@@ -59,6 +59,22 @@ public enum UCErrorCode implements ExceptionMessageSet
                                "The connector has issued a call to the open metadata access service REST API in a remote server and has received an exception from the local client libraries.",
                                "Look for errors in the local server's console to understand and correct the source of the error."),
 
+    /**
+     * UNITY-CATALOG-CONNECTOR-503-002 - API call {0} to Unity Catalog (UC) {1} at {2} returned page token {3} more than once
+     */
+    REPEATED_PAGE_TOKEN(503, "UNITY-CATALOG-CONNECTOR-503-002",
+                        "API call {0} to Unity Catalog (UC) {1} at {2} returned page token {3} more than once",
+                        "The connector stops retrieving the list because requesting the same page again would never complete.  The request fails rather than return an incomplete list.",
+                        "Check the version and logs of the Unity Catalog server to understand why it is returning the same page token."),
+
+    /**
+     * UNITY-CATALOG-CONNECTOR-503-003 - API call {0} to Unity Catalog (UC) {1} at {2} returned more than {3} pages of results
+     */
+    TOO_MANY_PAGES(503, "UNITY-CATALOG-CONNECTOR-503-003",
+                   "API call {0} to Unity Catalog (UC) {1} at {2} returned more than {3} pages of results",
+                   "The connector stops retrieving the list because the number of pages exceeds the limit.  The request fails rather than return an incomplete list.",
+                   "Check the Unity Catalog server is returning the page tokens correctly.  If the list really is this long, increase the page size (maxResults) of the connector."),
+
     ;
 
     private final int    httpErrorCode;
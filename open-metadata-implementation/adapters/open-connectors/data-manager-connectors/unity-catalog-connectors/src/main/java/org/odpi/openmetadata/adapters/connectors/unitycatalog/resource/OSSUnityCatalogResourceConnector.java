@@ -17,8 +17,13 @@ import org.odpi.openmetadata.frameworks.connectors.ffdc.ConnectorCheckedExceptio
 import org.odpi.openmetadata.frameworks.connectors.ffdc.PropertyServerException;
 import org.odpi.openmetadata.frameworks.connectors.properties.EndpointProperties;
 
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
+import java.util.function.Function;
 
 public class OSSUnityCatalogResourceConnector extends ConnectorBase implements AuditLoggingComponent
 {
@@ -30,6 +35,17 @@ public class OSSUnityCatalogResourceConnector extends ConnectorBase implements A
 
     private RESTClientConnector clientConnector = null;
 
+    /*
+     * The maximum number of elements requested in each page of a list request.
+     */
+    private int maxResults = 1000;
+
+    /*
+     * The maximum number of pages retrieved for a single list request.  This stops a server that keeps
+     * returning new page tokens from looping the connector forever.
+     */
+    private int maxPages = 10000;
+
 
 
     /**
@@ -62,6 +78,36 @@ public class OSSUnityCatalogResourceConnector extends ConnectorBase implements A
     }
 
 
+    /**
+     * Set up the maximum number of elements requested in each page of a list request.  The list methods
+     * retrieve all the pages, so this controls the size of each response rather than the number of elements returned.
+     *
+     * @param maxResults page size
+     */
+    public void setMaxResults(int maxResults)
+    {
+        if (maxResults > 0)
+        {
+            this.maxResults = maxResults;
+        }
+    }
+
+
+    /**
+     * Set up the maximum number of pages retrieved for a single list request.  A list request that needs
+     * more pages fails.
+     *
+     * @param maxPages page limit
+     */
+    public void setMaxPages(int maxPages)
+    {
+        if (maxPages > 0)
+        {
+            this.maxPages = maxPages;
+        }
+    }
+
+
     /**
      * Set up a new instance name (must be called before start()).
      *
@@ -276,7 +322,7 @@ public class OSSUnityCatalogResourceConnector extends ConnectorBase implements A
 
 
     /**
-     * Get all catalog.
+     * Get all catalogs.  The catalogs are retrieved a page at a time.
      *
      * @return resulting catalog info
      * @throws PropertyServerException problem with the call
@@ -286,16 +332,11 @@ public class OSSUnityCatalogResourceConnector extends ConnectorBase implements A
         final String methodName = "listCatalogs";
         final String urlTemplate = targetRootURL + "/api/2.1/unity-catalog/catalogs";
 
-        ListCatalogsResponse response =  callGetRESTCallNoParams(methodName,
-                                                                 ListCatalogsResponse.class,
-                                                                 urlTemplate);
-
-        if (response != null)
-        {
-            return response.getCatalogs();
-        }
-
-        return null;
+        return callPagedGetRESTCall(methodName,
+                                    ListCatalogsResponse.class,
+                                    ListCatalogsResponse::getCatalogs,
+                                    ListCatalogsResponse::getNext_page_token,
+                                    urlTemplate);
     }
 
 
@@ -431,8 +472,9 @@ public class OSSUnityCatalogResourceConnector extends ConnectorBase implements A
 
 
     /**
-     * Get all schema.
+     * Get all schemas in a catalog.  The schemas are retrieved a page at a time.
      *
+     * @param catalogName name of the catalog
      * @return resulting schema info
      * @throws PropertyServerException problem with the call
      */
@@ -441,17 +483,12 @@ public class OSSUnityCatalogResourceConnector extends ConnectorBase implements A
         final String methodName = "listSchemas";
         final String urlTemplate = targetRootURL + "/api/2.1/unity-catalog/schemas?catalog_name={1}";
 
-        ListSchemasResponse response = callGetRESTCall(methodName,
-                                                       ListSchemasResponse.class,
-                                                       urlTemplate,
-                                                       catalogName);
-
-        if (response != null)
-        {
-            return response.getSchemas();
-        }
-
-        return null;
+        return callPagedGetRESTCall(methodName,
+                                    ListSchemasResponse.class,
+                                    ListSchemasResponse::getSchemas,
+                                    ListSchemasResponse::getNext_page_token,
+                                    urlTemplate,
+                                    catalogName);
     }
 
 
@@ -608,7 +645,7 @@ public class OSSUnityCatalogResourceConnector extends ConnectorBase implements A
 
 
     /**
-     * Get all volumes.
+     * Get all volumes in a schema.  The volumes are retrieved a page at a time.
      *
      * @param catalogName name of the catalog
      * @param schemaName name of the schema
@@ -621,18 +658,13 @@ public class OSSUnityCatalogResourceConnector extends ConnectorBase implements A
         final String methodName = "listVolumes";
         final String urlTemplate = targetRootURL + "/api/2.1/unity-catalog/volumes?catalog_name={1}&schema_name={2}";
 
-        ListVolumesResponse response = callGetRESTCall(methodName,
-                                                       ListVolumesResponse.class,
-                                                       urlTemplate,
-                                                       catalogName,
-                                                       schemaName);
-
-        if (response != null)
-        {
-            return response.getVolumes();
-        }
-
-        return null;
+        return callPagedGetRESTCall(methodName,
+                                    ListVolumesResponse.class,
+                                    ListVolumesResponse::getVolumes,
+                                    ListVolumesResponse::getNext_page_token,
+                                    urlTemplate,
+                                    catalogName,
+                                    schemaName);
     }
 
 
@@ -794,7 +826,7 @@ public class OSSUnityCatalogResourceConnector extends ConnectorBase implements A
 
 
     /**
-     * Get all tables.
+     * Get all tables in a schema.  The tables are retrieved a page at a time.
      *
      * @param catalogName name of the catalog
      * @param schemaName name of the schema
@@ -807,18 +839,13 @@ public class OSSUnityCatalogResourceConnector extends ConnectorBase implements A
         final String methodName = "listTables";
         final String urlTemplate = targetRootURL + "/api/2.1/unity-catalog/tables?catalog_name={1}&schema_name={2}";
 
-        ListTablesResponse response = callGetRESTCall(methodName,
-                                                      ListTablesResponse.class,
-                                                      urlTemplate,
-                                                      catalogName,
-                                                      schemaName);
-
-        if (response != null)
-        {
-            return response.getTables();
-        }
-
-        return null;
+        return callPagedGetRESTCall(methodName,
+                                    ListTablesResponse.class,
+                                    ListTablesResponse::getTables,
+                                    ListTablesResponse::getNext_page_token,
+                                    urlTemplate,
+                                    catalogName,
+                                    schemaName);
     }
 
 
@@ -888,7 +915,7 @@ public class OSSUnityCatalogResourceConnector extends ConnectorBase implements A
 
 
     /**
-     * Get all functions.
+     * Get all functions in a schema.  The functions are retrieved a page at a time.
      *
      * @param catalogName name of the catalog
      * @param schemaName name of the schema
@@ -901,18 +928,13 @@ public class OSSUnityCatalogResourceConnector extends ConnectorBase implements A
         final String methodName = "listFunction";
         final String urlTemplate = targetRootURL + "/api/2.1/unity-catalog/functions?catalog_name={1}&schema_name={2}";
 
-        ListFunctionsResponse response = callGetRESTCall(methodName,
-                                                         ListFunctionsResponse.class,
-                                                         urlTemplate,
-                                                         catalogName,
-                                                         schemaName);
-
-        if (response != null)
-        {
-            return response.getFunctions();
-        }
-
-        return null;
+        return callPagedGetRESTCall(methodName,
+                                    ListFunctionsResponse.class,
+                                    ListFunctionsResponse::getFunctions,
+                                    ListFunctionsResponse::getNext_page_token,
+                                    urlTemplate,
+                                    catalogName,
+                                    schemaName);
     }
 
 
@@ -929,17 +951,19 @@ public class OSSUnityCatalogResourceConnector extends ConnectorBase implements A
      * @param methodName  name of the method being called.
      * @param returnClass class of the response object.
      * @param urlTemplate template of the URL for the REST API call with place-holders for the parameters.
+     * @param params      a list of parameters that are slotted into the url template.
      *
      * @return response object
      * @throws PropertyServerException something went wrong with the REST call stack.
      */
-    private   <T> T callGetRESTCallNoParams(String    methodName,
-                                            Class<T>  returnClass,
-                                            String    urlTemplate) throws PropertyServerException
+    private    <T> T callGetRESTCall(String    methodName,
+                                     Class<T>  returnClass,
+                                     String    urlTemplate,
+                                     Object... params) throws PropertyServerException
     {
         try
         {
-            return clientConnector.callGetRESTCall(methodName, returnClass, urlTemplate);
+            return clientConnector.callGetRESTCall(methodName, returnClass, urlTemplate, params);
         }
         catch (Exception error)
         {
@@ -951,32 +975,98 @@ public class OSSUnityCatalogResourceConnector extends ConnectorBase implements A
 
 
     /**
-     * Issue a GET REST call that returns a response object.
+     * Issue a sequence of GET REST calls to retrieve all the pages of a list request.  The max_results and
+     * page_token parameters are added to the supplied URL template.  The calls stop when Unity Catalog does
+     * not return a token for the next page.  The request fails if Unity Catalog returns a page token it has
+     * already returned, or more than the maximum number of pages, since either would otherwise never finish.
      *
-     * @param <T> return type
+     * @param <R> response type
+     * @param <T> element type
      * @param methodName  name of the method being called.
-     * @param returnClass class of the response object.
+     * @param responseClass class of the response object.
+     * @param getElements function to extract the elements from a response
+     * @param getNextPageToken function to extract the next page token from a response
      * @param urlTemplate template of the URL for the REST API call with place-holders for the parameters.
      * @param params      a list of parameters that are slotted into the url template.
      *
-     * @return response object
+     * @return list of elements or null if Unity Catalog did not return a response
      * @throws PropertyServerException something went wrong with the REST call stack.
      */
-    private    <T> T callGetRESTCall(String    methodName,
-                                     Class<T>  returnClass,
-                                     String    urlTemplate,
-                                     Object... params) throws PropertyServerException
+    private <R, T> List<T> callPagedGetRESTCall(String               methodName,
+                                                Class<R>             responseClass,
+                                                Function<R, List<T>> getElements,
+                                                Function<R, String>  getNextPageToken,
+                                                String               urlTemplate,
+                                                Object...            params) throws PropertyServerException
     {
-        try
+        String separator         = urlTemplate.contains("?") ? "&" : "?";
+        String firstPageTemplate = urlTemplate + separator + "max_results={" + (params.length + 1) + "}";
+        String nextPageTemplate  = firstPageTemplate + "&page_token={" + (params.length + 2) + "}";
+
+        Object[] pageParams = new Object[params.length + 2];
+
+        System.arraycopy(params, 0, pageParams, 0, params.length);
+        pageParams[params.length] = Integer.toString(maxResults);
+
+        R response = callGetRESTCall(methodName,
+                                     responseClass,
+                                     firstPageTemplate,
+                                     Arrays.copyOf(pageParams, params.length + 1));
+
+        if (response == null)
         {
-            return clientConnector.callGetRESTCall(methodName, returnClass, urlTemplate, params);
+            return null;
         }
-        catch (Exception error)
+
+        List<T>     elements   = new ArrayList<>();
+        Set<String> pageTokens = new HashSet<>();
+        int         pageCount  = 1;
+
+        while (response != null)
         {
-            logRESTCallException(methodName, true, error);
+            if (getElements.apply(response) != null)
+            {
+                elements.addAll(getElements.apply(response));
+            }
+
+            String nextPageToken = getNextPageToken.apply(response);
+
+            if ((nextPageToken == null) || (nextPageToken.isBlank()))
+            {
+                break;
+            }
+
+            if (! pageTokens.add(nextPageToken))
+            {
+                throw new PropertyServerException(UCErrorCode.REPEATED_PAGE_TOKEN.getMessageDefinition(methodName,
+                                                                                                       ucInstanceName,
+                                                                                                       targetRootURL,
+                                                                                                       nextPageToken),
+                                                  this.getClass().getName(),
+                                                  methodName);
+            }
+
+            if (pageCount >= maxPages)
+            {
+                throw new PropertyServerException(UCErrorCode.TOO_MANY_PAGES.getMessageDefinition(methodName,
+                                                                                                  ucInstanceName,
+                                                                                                  targetRootURL,
+                                                                                                  Integer.toString(maxPages)),
+                                                  this.getClass().getName(),
+                                                  methodName);
+            }
+
+            pageCount++;
+
+            pageParams[params.length + 1] = nextPageToken;
+
+            response = callGetRESTCall(methodName,
+                                       responseClass,
+                                       nextPageTemplate,
+                                       pageParams);
         }
 
-        return null;
+        return elements;
     }
 
 
@@ -34,16 +34,22 @@ import java.util.Map;
 public class OSSUnityCatalogInsideCatalogSyncConnector extends CatalogIntegratorConnector implements CatalogTargetIntegrator,
                                                                                                      AssetManagerEventListener
 {
-    private List<String> defaultExcludeSchemaNames   = null;
-    private List<String> defaultIncludeSchemaNames   = null;
-    private List<String> defaultExcludeTableNames    = null;
-    private List<String> defaultIncludeTableNames    = null;
-    private List<String> defaultExcludeFunctionNames = null;
-    private List<String> defaultIncludeFunctionNames = null;
-    private List<String> defaultExcludeVolumeNames   = null;
-    private List<String> defaultIncludeVolumeNames   = null;
+    private List<String> defaultExcludeSchemaNames    = null;
+    private List<String> defaultIncludeSchemaNames    = null;
+    private List<String> defaultExcludeTableNames     = null;
+    private List<String> defaultIncludeTableNames     = null;
+    private List<String> defaultExcludeFunctionNames  = null;
+    private List<String> defaultIncludeFunctionNames  = null;
+    private List<String> defaultExcludeVolumeNames    = null;
+    private List<String> defaultIncludeVolumeNames    = null;
+    private int          defaultMaxConcurrentRequests = 4;
 
     private Date lastRefreshCompleteTime = null;
+
+    /*
+     * Results of the last successful synchronization of the tables in each catalog - keyed by catalog target name and catalog name.
+     */
+    private final Map<String, OSSUnityCatalogSyncWatermark> tableWatermarks = new HashMap<>();
     
     /**
      * Indicates that the connector is completely configured and can begin processing.
@@ -99,6 +105,13 @@ public class OSSUnityCatalogInsideCatalogSyncConnector extends CatalogIntegrator
         this.defaultIncludeVolumeNames = super.getArrayConfigurationProperty(UnityCatalogConfigurationProperty.INCLUDE_VOLUME_NAMES.getName(),
                                                                              connectionProperties.getConfigurationProperties(),
                                                                              null);
+
+        int maxConcurrentRequests = super.getIntConfigurationProperty(UnityCatalogConfigurationProperty.MAX_CONCURRENT_REQUESTS.getName(),
+                                                                      connectionProperties.getConfigurationProperties());
+        if (maxConcurrentRequests > 0)
+        {
+            this.defaultMaxConcurrentRequests = maxConcurrentRequests;
+        }
     }
 
 
@@ -399,6 +412,15 @@ public class OSSUnityCatalogInsideCatalogSyncConnector extends CatalogIntegrator
                                                                               configurationProperties,
                                                                               defaultIncludeVolumeNames);
 
+        int maxConcurrentRequests = super.getIntConfigurationProperty(UnityCatalogConfigurationProperty.MAX_CONCURRENT_REQUESTS.getName(),
+                                                                      configurationProperties);
+        if (maxConcurrentRequests <= 0)
+        {
+            maxConcurrentRequests = defaultMaxConcurrentRequests;
+        }
+
+        String watermarkKey = catalogTargetName + ":" + catalogName;
+
         try
         {
             OSSUnityCatalogInsideCatalogSyncSchema syncSchema = new OSSUnityCatalogInsideCatalogSyncSchema(connectorName,
@@ -445,9 +467,12 @@ public class OSSUnityCatalogInsideCatalogSyncConnector extends CatalogIntegrator
                                                                                                            configurationProperties,
                                                                                                            excludeTableNames,
                                                                                                            includeTableNames,
+                                                                                                           maxConcurrentRequests,
+                                                                                                           tableWatermarks.get(watermarkKey),
                                                                                                            auditLog);
 
             ucFullNameToEgeriaGUID.putAll(syncTables.refresh());
+            tableWatermarks.put(watermarkKey, syncTables.getWatermark());
 
             OSSUnityCatalogInsideCatalogSyncFunctions syncFunctions = new OSSUnityCatalogInsideCatalogSyncFunctions(connectorName,
                                                                                                                     this.getContext(),
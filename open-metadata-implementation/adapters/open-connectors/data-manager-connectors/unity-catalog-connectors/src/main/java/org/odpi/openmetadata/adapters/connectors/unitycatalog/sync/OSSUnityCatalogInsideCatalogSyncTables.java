@@ -6,6 +6,7 @@ package org.odpi.openmetadata.adapters.connectors.unitycatalog.sync;
 import org.odpi.openmetadata.adapters.connectors.unitycatalog.controls.UnityCatalogDeployedImplementationType;
 import org.odpi.openmetadata.adapters.connectors.unitycatalog.controls.UnityCatalogPlaceholderProperty;
 import org.odpi.openmetadata.adapters.connectors.unitycatalog.ffdc.UCAuditCode;
+import org.odpi.openmetadata.adapters.connectors.unitycatalog.ffdc.UCErrorCode;
 import org.odpi.openmetadata.adapters.connectors.unitycatalog.properties.*;
 import org.odpi.openmetadata.adapters.connectors.unitycatalog.resource.OSSUnityCatalogResourceConnector;
 import org.odpi.openmetadata.frameworks.auditlog.AuditLog;
@@ -27,10 +28,17 @@ import org.odpi.openmetadata.frameworks.openmetadata.types.OpenMetadataProperty;
 import org.odpi.openmetadata.frameworks.openmetadata.types.OpenMetadataType;
 import org.odpi.openmetadata.integrationservices.catalog.connector.CatalogIntegratorContext;
 
+import java.util.ArrayDeque;
 import java.util.ArrayList;
+import java.util.Deque;
 import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
 
 /**
  * Provides the specialist methods for working with Unity Catalog (UC) Tables.
@@ -41,6 +49,24 @@ public class OSSUnityCatalogInsideCatalogSyncTables extends OSSUnityCatalogInsid
 
     private String templateGUID = null;
 
+    private final int                          maxConcurrentRequests;
+    private final OSSUnityCatalogSyncWatermark previousWatermark;
+    private final long                         syncStartTime = System.currentTimeMillis();
+
+    /*
+     * The tables retrieved from UC at the start of the refresh.  They are listed by schema full name for the
+     * second sweep and by table full name for the first sweep.
+     */
+    private final Map<String, List<TableInfo>> ucSchemaTables      = new LinkedHashMap<>();
+    private final Map<String, TableInfo>       ucTables            = new HashMap<>();
+    private       boolean                      ucTablesLoaded      = false;
+    private       int                          unchangedTableCount = 0;
+
+    /*
+     * The UC creation/update time of each table that has been synchronized by this refresh, keyed by table full name.
+     */
+    private final Map<String, Long>            syncedUCUpdateTimes = new HashMap<>();
+
 
     /**
      * Set up the table synchronizer.
@@ -57,6 +83,8 @@ public class OSSUnityCatalogInsideCatalogSyncTables extends OSSUnityCatalogInsid
      * @param configurationProperties configuration properties supplied through the catalog target
      * @param excludeNames list of catalogs to ignore (and include all others)
      * @param includeNames list of catalogs to include (and ignore all others) - overrides excludeCatalogs
+     * @param maxConcurrentRequests maximum number of schemas whose tables are retrieved from UC at the same time
+     * @param previousWatermark results of the previous synchronization of this catalog (null if none)
      * @param auditLog logging destination
      */
     public OSSUnityCatalogInsideCatalogSyncTables(String                           connectorName,
@@ -71,6 +99,8 @@ public class OSSUnityCatalogInsideCatalogSyncTables extends OSSUnityCatalogInsid
                                                   Map<String, Object>              configurationProperties,
                                                   List<String>                     excludeNames,
                                                   List<String>                     includeNames,
+                                                  int                              maxConcurrentRequests,
+                                                  OSSUnityCatalogSyncWatermark     previousWatermark,
                                                   AuditLog                         auditLog)
     {
         super(connectorName,
@@ -92,6 +122,170 @@ public class OSSUnityCatalogInsideCatalogSyncTables extends OSSUnityCatalogInsid
         {
             this.templateGUID = templates.get(deployedImplementationType.getDeployedImplementationType());
         }
+
+        this.maxConcurrentRequests = Math.max(maxConcurrentRequests, 1);
+        this.previousWatermark     = previousWatermark;
+    }
+
+
+    /**
+     * Return the watermark that describes this synchronization.  It should only be saved if the refresh
+     * completed successfully.
+     *
+     * @return watermark
+     */
+    OSSUnityCatalogSyncWatermark getWatermark()
+    {
+        return new OSSUnityCatalogSyncWatermark(syncedUCUpdateTimes, syncStartTime);
+    }
+
+
+    /**
+     * Record the UC creation/update time of a table that has been synchronized so that it can be skipped by the
+     * next refresh if it has not changed.
+     *
+     * @param tableFullName full name of the table
+     * @param tableInfo table from UC
+     */
+    private void recordSyncedTable(String    tableFullName,
+                                   TableInfo tableInfo)
+    {
+        syncedUCUpdateTimes.put(tableFullName, Math.max(tableInfo.getCreated_at(), tableInfo.getUpdated_at()));
+    }
+
+
+    /**
+     * Retrieve all the tables in the catalog from UC.  The schemas are processed in parallel by a bounded pool
+     * of worker threads, and each schema's tables are retrieved a page at a time.  The results are added to the
+     * maps on this thread.  If any schema can not be listed, the refresh fails rather than treating its tables
+     * as deleted.
+     *
+     * @throws PropertyServerException problem communicating with UC
+     */
+    private void loadUnityCatalogTables() throws PropertyServerException
+    {
+        final String methodName = "loadUnityCatalogTables";
+
+        List<SchemaInfo> ucSchemaList = ucConnector.listSchemas(catalogName);
+
+        if (ucSchemaList == null)
+        {
+            return;
+        }
+
+        ExecutorService                listExecutor    = Executors.newFixedThreadPool(maxConcurrentRequests);
+        Deque<Future<List<TableInfo>>> pendingRequests = new ArrayDeque<>();
+        Deque<SchemaInfo>              pendingSchemas  = new ArrayDeque<>();
+
+        try
+        {
+            for (SchemaInfo schemaInfo : ucSchemaList)
+            {
+                if (schemaInfo != null)
+                {
+                    pendingSchemas.add(schemaInfo);
+                    pendingRequests.add(listExecutor.submit(() -> ucConnector.listTables(catalogName, schemaInfo.getName())));
+                }
+            }
+
+            while (! pendingRequests.isEmpty())
+            {
+                SchemaInfo      schemaInfo   = pendingSchemas.removeFirst();
+                List<TableInfo> ucTableList  = this.getTableList(pendingRequests.removeFirst(), methodName);
+                List<TableInfo> schemaTables = new ArrayList<>();
+
+                if (ucTableList != null)
+                {
+                    for (TableInfo tableInfo : ucTableList)
+                    {
+                        if (tableInfo != null)
+                        {
+                            schemaTables.add(tableInfo);
+                            ucTables.put(tableInfo.getCatalog_name() + "." + tableInfo.getSchema_name() + "." + tableInfo.getName(), tableInfo);
+                        }
+                    }
+                }
+
+                ucSchemaTables.put(schemaInfo.getFull_name(), schemaTables);
+            }
+        }
+        finally
+        {
+            listExecutor.shutdownNow();
+        }
+
+        ucTablesLoaded = true;
+    }
+
+
+    /**
+     * Wait for the result of a request to list the tables in a schema.
+     *
+     * @param request future for the request
+     * @param methodName calling method
+     * @return list of tables
+     * @throws PropertyServerException problem communicating with UC
+     */
+    private List<TableInfo> getTableList(Future<List<TableInfo>> request,
+                                         String                  methodName) throws PropertyServerException
+    {
+        try
+        {
+            return request.get();
+        }
+        catch (ExecutionException error)
+        {
+            if (error.getCause() instanceof PropertyServerException propertyServerException)
+            {
+                throw propertyServerException;
+            }
+
+            throw new PropertyServerException(UCErrorCode.UNEXPECTED_EXCEPTION.getMessageDefinition(connectorName,
+                                                                                                      error.getCause().getClass().getName(),
+                                                                                                      methodName,
+                                                                                                      error.getCause().getMessage()),
+                                              this.getClass().getName(),
+                                              methodName,
+                                              error.getCause());
+        }
+        catch (InterruptedException error)
+        {
+            Thread.currentThread().interrupt();
+
+            throw new PropertyServerException(UCErrorCode.UNEXPECTED_EXCEPTION.getMessageDefinition(connectorName,
+                                                                                                      error.getClass().getName(),
+                                                                                                      methodName,
+                                                                                                      error.getMessage()),
+                                              this.getClass().getName(),
+                                              methodName,
+                                              error);
+        }
+    }
+
+
+    /**
+     * Return the UC table with the supplied full name.  The tables retrieved at the start of the refresh are used
+     * for tables in this catalog.  Other tables are retrieved individually.
+     *
+     * @param tableName full name of the table
+     * @return table or null if it is not defined in UC
+     */
+    private TableInfo getUCTable(String tableName)
+    {
+        if ((ucTablesLoaded) && (catalogName.equals(ucConnector.getCatalogNameFromThreePartName(tableName))))
+        {
+            return ucTables.get(tableName);
+        }
+
+        try
+        {
+            return ucConnector.getTable(tableName);
+        }
+        catch (Exception missing)
+        {
+            // this is not necessarily an error
+            return null;
+        }
     }
 
 
@@ -110,6 +304,8 @@ public class OSSUnityCatalogInsideCatalogSyncTables extends OSSUnityCatalogInsid
     {
         final String methodName = "refreshEgeriaTables";
 
+        this.loadUnityCatalogTables();
+
         MetadataCollectionIterator tableIterator = new MetadataCollectionIterator(this.context.getMetadataSourceGUID(),
                                                                                    this.context.getMetadataSourceQualifiedName(),
                                                                                    catalogTargetName,
@@ -145,20 +341,20 @@ public class OSSUnityCatalogInsideCatalogSyncTables extends OSSUnityCatalogInsid
 
                     if (context.elementShouldBeCatalogued(tableName, excludeNames, includeNames))
                     {
-                        try
-                        {
-                            tableInfo = ucConnector.getTable(tableName);
-                        }
-                        catch (Exception missing)
-                        {
-                            // this is not necessarily an error
-                        }
+                        tableInfo = this.getUCTable(tableName);
 
                         MemberAction memberAction = MemberAction.NO_ACTION;
                         if (tableInfo == null)
                         {
                             memberAction = nextElement.getMemberAction(null, null);
                         }
+                        else if ((previousWatermark != null) && (previousWatermark.isUnchanged(tableName, tableInfo, nextElement.getElement().getVersions())))
+                        {
+                            /*
+                             * Neither copy has changed since the last synchronization.
+                             */
+                            unchangedTableCount ++;
+                        }
                         else if (noMismatchInExternalIdentifier(tableInfo.getTable_id(), nextElement))
                         {
                             memberAction = nextElement.getMemberAction(this.getDateFromLong(tableInfo.getCreated_at()),
@@ -170,6 +366,15 @@ public class OSSUnityCatalogInsideCatalogSyncTables extends OSSUnityCatalogInsid
                                         memberAction,
                                         nextElement,
                                         tableInfo);
+
+                        /*
+                         * Record that this table has been matched so that it is not processed again in the second sweep.
+                         */
+                        if ((tableInfo != null) && (memberAction != MemberAction.DELETE_INSTANCE_IN_THIRD_PARTY))
+                        {
+                            ucFullNameToEgeriaGUID.put(tableName, nextElement.getElement().getElementGUID());
+                            this.recordSyncedTable(tableName, tableInfo);
+                        }
                     }
                 }
             }
@@ -193,45 +398,47 @@ public class OSSUnityCatalogInsideCatalogSyncTables extends OSSUnityCatalogInsid
                                                                             PropertyServerException,
                                                                             UserNotAuthorizedException
     {
-        List<SchemaInfo> ucSchemaList = ucConnector.listSchemas(catalogName);
+        final String methodName = "refreshUnityCatalogTables";
 
-        if (ucSchemaList != null)
+        if (! ucTablesLoaded)
         {
-            for (SchemaInfo schemaInfo : ucSchemaList)
+            return;
+        }
+
+        for (String schemaFullName : ucSchemaTables.keySet())
+        {
+            String schemaGUID = ucFullNameToEgeriaGUID.get(schemaFullName);
+
+            if (schemaGUID != null)
             {
-                if (schemaInfo != null)
+                for (TableInfo tableInfo : ucSchemaTables.get(schemaFullName))
                 {
-                    String schemaGUID = ucFullNameToEgeriaGUID.get(schemaInfo.getFull_name());
+                    String tableFullName = tableInfo.getCatalog_name() + "." + tableInfo.getSchema_name() + "." + tableInfo.getName();
 
-                    if (schemaGUID != null)
+                    if ((ucFullNameToEgeriaGUID.get(tableFullName) == null) && (ucTables.containsKey(tableFullName)))
                     {
-                        List<TableInfo> ucTableList = ucConnector.listTables(catalogName, schemaInfo.getName());
+                        String ucTableQualifiedName = this.getQualifiedName(tableFullName);
 
-                        if (ucTableList != null)
+                        MemberElement memberElement = iterator.getMemberByQualifiedName(ucTableQualifiedName);
+                        MemberAction memberAction = memberElement.getMemberAction(this.getDateFromLong(tableInfo.getCreated_at()),
+                                                                                  this.getDateFromLong(tableInfo.getUpdated_at()));
+                        if (noMismatchInExternalIdentifier(tableInfo.getTable_id(), memberElement))
                         {
-                            for (TableInfo tableInfo : ucTableList)
-                            {
-                                if (tableInfo != null)
-                                {
-                                    if (ucFullNameToEgeriaGUID.get(tableInfo.getCatalog_name() + "." + tableInfo.getSchema_name() + "." + tableInfo.getName()) == null)
-                                    {
-                                        String ucTableQualifiedName = this.getQualifiedName(tableInfo.getCatalog_name() + "." + tableInfo.getSchema_name() + "." + tableInfo.getName());
-
-                                        MemberElement memberElement = iterator.getMemberByQualifiedName(ucTableQualifiedName);
-                                        MemberAction memberAction = memberElement.getMemberAction(this.getDateFromLong(tableInfo.getCreated_at()),
-                                                                                                  this.getDateFromLong(tableInfo.getUpdated_at()));
-                                        if (noMismatchInExternalIdentifier(tableInfo.getTable_id(), memberElement))
-                                        {
-                                            this.takeAction(schemaGUID, tableInfo.getSchema_name(), memberAction, memberElement, tableInfo);
-                                        }
-                                    }
-                                }
-                            }
+                            this.takeAction(schemaGUID, tableInfo.getSchema_name(), memberAction, memberElement, tableInfo);
+                            this.recordSyncedTable(tableFullName, tableInfo);
                         }
                     }
                 }
             }
         }
+
+        auditLog.logMessage(methodName,
+                            UCAuditCode.TABLES_RETRIEVED.getMessageDefinition(connectorName,
+                                                                              Integer.toString(ucTables.size()),
+                                                                              Integer.toString(ucSchemaTables.size()),
+                                                                              catalogName,
+                                                                              ucServerEndpoint,
+                                                                              Integer.toString(unchangedTableCount)));
     }
 
 
@@ -0,0 +1,86 @@
+/* SPDX-License-Identifier: Apache-2.0 */
+/* Copyright Contributors to the ODPi Egeria project. */
+
+package org.odpi.openmetadata.adapters.connectors.unitycatalog.sync;
+
+import org.odpi.openmetadata.adapters.connectors.unitycatalog.properties.ElementBase;
+import org.odpi.openmetadata.frameworks.openmetadata.metadataelements.ElementVersions;
+
+import java.util.Date;
+import java.util.Map;
+
+/**
+ * OSSUnityCatalogSyncWatermark records the results of a previous synchronization of a catalog.  It holds the
+ * creation/update time that Unity Catalog (UC) reported for each element that was synchronized, and the time that
+ * the synchronization started (using the connector's clock).  An element whose UC time is the same as the one
+ * recorded, and whose open metadata copy has not changed since the synchronization started, was synchronized by
+ * the previous refresh and can be skipped.  Each element is compared with its own recorded time because the
+ * elements are listed from UC in parallel, so a single high-water mark would miss an element that is updated
+ * while the listing is in progress.
+ */
+class OSSUnityCatalogSyncWatermark
+{
+    private final Map<String, Long> ucUpdateTimes;
+    private final long              egeriaSyncTime;
+
+
+    /**
+     * Constructor
+     *
+     * @param ucUpdateTimes map of full name to the creation/update time of each element that was synchronized
+     * @param egeriaSyncTime time that the synchronization started
+     */
+    OSSUnityCatalogSyncWatermark(Map<String, Long> ucUpdateTimes,
+                                 long              egeriaSyncTime)
+    {
+        this.ucUpdateTimes  = ucUpdateTimes;
+        this.egeriaSyncTime = egeriaSyncTime;
+    }
+
+
+    /**
+     * Return the time that the synchronization started.
+     *
+     * @return milliseconds since the epoch (connector's clock)
+     */
+    long getEgeriaSyncTime()
+    {
+        return egeriaSyncTime;
+    }
+
+
+    /**
+     * Return whether neither copy of an element has changed since the synchronization recorded by this watermark.
+     *
+     * @param ucFullName full name of the element in UC
+     * @param ucElement element from UC
+     * @param egeriaVersions version information of the equivalent element from open metadata
+     * @return boolean
+     */
+    boolean isUnchanged(String          ucFullName,
+                        ElementBase     ucElement,
+                        ElementVersions egeriaVersions)
+    {
+        if ((ucElement == null) || (egeriaVersions == null))
+        {
+            return false;
+        }
+
+        long ucElementTime = Math.max(ucElement.getCreated_at(), ucElement.getUpdated_at());
+        Long syncedUCTime  = ucUpdateTimes.get(ucFullName);
+
+        if ((ucElementTime == 0) || (syncedUCTime == null) || (ucElementTime != syncedUCTime))
+        {
+            return false;
+        }
+
+        Date egeriaElementTime = egeriaVersions.getUpdateTime();
+
+        if (egeriaElementTime == null)
+        {
+            egeriaElementTime = egeriaVersions.getCreateTime();
+        }
+
+        return (egeriaElementTime != null) && (egeriaElementTime.getTime() < egeriaSyncTime);
+    }
+}
@@ -0,0 +1,229 @@
+/* SPDX-License-Identifier: Apache-2.0 */
+/* Copyright Contributors to the ODPi Egeria project. */
+package org.odpi.openmetadata.adapters.connectors.unitycatalog.resource;
+
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+import org.odpi.openmetadata.adapters.connectors.unitycatalog.ffdc.UCErrorCode;
+import org.odpi.openmetadata.adapters.connectors.unitycatalog.properties.CatalogInfo;
+import org.odpi.openmetadata.frameworks.connectors.ConnectorBroker;
+import org.odpi.openmetadata.frameworks.connectors.ffdc.PropertyServerException;
+import org.odpi.openmetadata.frameworks.connectors.properties.beans.Connection;
+import org.odpi.openmetadata.frameworks.connectors.properties.beans.Endpoint;
+import org.testng.annotations.AfterMethod;
+import org.testng.annotations.BeforeMethod;
+import org.testng.annotations.Test;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.fail;
+
+
+/**
+ * Verify that the list requests of the Unity Catalog resource connector retrieve every page from a stub
+ * HTTP server, and stop when the server keeps returning page tokens.
+ */
+public class OSSUnityCatalogResourceConnectorTest
+{
+    private static final String catalogsPath = "/api/2.1/unity-catalog/catalogs";
+
+    private HttpServer                       ucServer      = null;
+    private OSSUnityCatalogResourceConnector ucConnector   = null;
+    private final List<String>               requestedURIs = Collections.synchronizedList(new ArrayList<>());
+
+    /*
+     * How the stub server chooses the next page token.
+     */
+    private enum PagingMode
+    {
+        SINGLE_PAGE,
+        THREE_PAGES,
+        REPEATED_TOKEN,
+        ENDLESS
+    }
+
+    private volatile PagingMode pagingMode = PagingMode.SINGLE_PAGE;
+
+
+    /**
+     * Start the stub Unity Catalog server and a connector that calls it.
+     *
+     * @throws Exception unable to start the server or the connector
+     */
+    @BeforeMethod
+    public void setUp() throws Exception
+    {
+        pagingMode = PagingMode.SINGLE_PAGE;
+
+        ucServer = HttpServer.create(new InetSocketAddress("localhost", 0), 0);
+
+        ucServer.createContext(catalogsPath, this::replyWithCatalogs);
+        ucServer.start();
+
+        Endpoint   endpoint   = new Endpoint();
+        Connection connection = new Connection();
+
+        endpoint.setAddress("http://localhost:" + ucServer.getAddress().getPort());
+        connection.setEndpoint(endpoint);
+        connection.setConnectorType(new OSSUnityCatalogResourceProvider().getConnectorType());
+
+        ucConnector = (OSSUnityCatalogResourceConnector)new ConnectorBroker().getConnector(connection);
+        ucConnector.setMaxResults(2);
+        ucConnector.start();
+
+        requestedURIs.clear();
+    }
+
+
+    /**
+     * Stop the connector and the stub server.
+     *
+     * @throws Exception unable to stop the connector
+     */
+    @AfterMethod
+    public void tearDown() throws Exception
+    {
+        if (ucConnector != null)
+        {
+            ucConnector.disconnect();
+        }
+
+        if (ucServer != null)
+        {
+            ucServer.stop(0);
+        }
+    }
+
+
+    /**
+     * Every page is retrieved, passing the token from the previous page, until the server returns an empty token.
+     *
+     * @throws Exception test failure
+     */
+    @Test
+    public void testAllPagesRetrieved() throws Exception
+    {
+        pagingMode = PagingMode.THREE_PAGES;
+
+        List<String> names = new ArrayList<>();
+
+        for (CatalogInfo catalogInfo : ucConnector.listCatalogs())
+        {
+            names.add(catalogInfo.getName());
+        }
+
+        assertEquals(names, List.of("first-1", "first-2", "p2-1", "p2-2", "p3-1", "p3-2"));
+        assertEquals(requestedURIs, List.of(catalogsPath + "?max_results=2",
+                                            catalogsPath + "?max_results=2&page_token=p2",
+                                            catalogsPath + "?max_results=2&page_token=p3"));
+    }
+
+
+    /**
+     * A server that returns a page token for a second time fails the request rather than looping forever.
+     *
+     * @throws Exception test failure
+     */
+    @Test
+    public void testRepeatedPageToken() throws Exception
+    {
+        pagingMode = PagingMode.REPEATED_TOKEN;
+
+        try
+        {
+            ucConnector.listCatalogs();
+            fail("The repeated page token was not detected");
+        }
+        catch (PropertyServerException error)
+        {
+            assertEquals(error.getReportedErrorMessageId(), UCErrorCode.REPEATED_PAGE_TOKEN.getMessageDefinition().getMessageId());
+        }
+
+        assertEquals(requestedURIs.size(), 2);
+    }
+
+
+    /**
+     * A server that keeps returning new page tokens is stopped after the maximum number of pages.
+     *
+     * @throws Exception test failure
+     */
+    @Test
+    public void testMaximumPages() throws Exception
+    {
+        pagingMode = PagingMode.ENDLESS;
+        ucConnector.setMaxPages(5);
+
+        try
+        {
+            ucConnector.listCatalogs();
+            fail("The page limit was not applied");
+        }
+        catch (PropertyServerException error)
+        {
+            assertEquals(error.getReportedErrorMessageId(), UCErrorCode.TOO_MANY_PAGES.getMessageDefinition().getMessageId());
+        }
+
+        assertEquals(requestedURIs.size(), 5);
+    }
+
+
+    /**
+     * Return a page of catalogs.  Each page holds two catalogs named after the page token that requested it.
+     *
+     * @param exchange HTTP request and response
+     * @throws IOException unable to send the response
+     */
+    private void replyWithCatalogs(HttpExchange exchange) throws IOException
+    {
+        requestedURIs.add(exchange.getRequestURI().toString());
+
+        String pageToken = "first";
+        String query     = exchange.getRequestURI().getQuery();
+
+        if ((query != null) && (query.contains("page_token=")))
+        {
+            pageToken = query.substring(query.indexOf("page_token=") + "page_token=".length());
+        }
+
+        String nextPageToken = switch (pagingMode)
+        {
+            case SINGLE_PAGE    -> "";
+            case THREE_PAGES    -> pageToken.equals("first") ? "p2" : pageToken.equals("p2") ? "p3" : "";
+            case REPEATED_TOKEN -> "p2";
+            case ENDLESS        -> "p" + requestedURIs.size();
+        };
+
+        this.reply(exchange, "{\"catalogs\":[{\"name\":\"" + pageToken + "-1\"},{\"name\":\"" + pageToken + "-2\"}]," +
+                             "\"next_page_token\":\"" + nextPageToken + "\"}");
+    }
+
+
+    /**
+     * Send a JSON response.
+     *
+     * @param exchange HTTP request and response
+     * @param json response body
+     * @throws IOException unable to send the response
+     */
+    private void reply(HttpExchange exchange,
+                       String       json) throws IOException
+    {
+        byte[] body = json.getBytes(StandardCharsets.UTF_8);
+
+        exchange.getResponseHeaders().add("Content-Type", "application/json");
+        exchange.sendResponseHeaders(200, body.length);
+
+        try (OutputStream outputStream = exchange.getResponseBody())
+        {
+            outputStream.write(body);
+        }
+    }
+}
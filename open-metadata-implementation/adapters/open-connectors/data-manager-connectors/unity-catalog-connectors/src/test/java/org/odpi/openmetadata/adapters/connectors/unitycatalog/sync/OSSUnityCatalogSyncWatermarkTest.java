@@ -0,0 +1,102 @@
+/* SPDX-License-Identifier: Apache-2.0 */
+/* Copyright Contributors to the ODPi Egeria project. */
+package org.odpi.openmetadata.adapters.connectors.unitycatalog.sync;
+
+import org.odpi.openmetadata.adapters.connectors.unitycatalog.properties.TableInfo;
+import org.odpi.openmetadata.frameworks.openmetadata.metadataelements.ElementVersions;
+import org.testng.annotations.Test;
+
+import java.util.Date;
+import java.util.Map;
+
+import static org.testng.Assert.assertFalse;
+import static org.testng.Assert.assertTrue;
+
+
+/**
+ * Verify that a table is only skipped when neither its Unity Catalog copy nor its open metadata copy has changed
+ * since the previous synchronization.
+ */
+public class OSSUnityCatalogSyncWatermarkTest
+{
+    private static final long   syncStartTime = 1_000_000L;
+    private static final String tableName     = "catalog1.schema1.table1";
+
+
+    /**
+     * A table whose UC time matches the recorded time and whose open metadata copy is older than the
+     * previous synchronization is unchanged.
+     */
+    @Test
+    public void testUnchangedTable()
+    {
+        OSSUnityCatalogSyncWatermark watermark = new OSSUnityCatalogSyncWatermark(Map.of(tableName, 500L), syncStartTime);
+
+        assertTrue(watermark.isUnchanged(tableName, this.getTable(400L, 500L), this.getVersions(syncStartTime - 1)));
+    }
+
+
+    /**
+     * A table updated while the previous listing was in progress is processed, even though its update time is
+     * older than the times of other tables listed later.
+     */
+    @Test
+    public void testTableUpdatedDuringListing()
+    {
+        OSSUnityCatalogSyncWatermark watermark = new OSSUnityCatalogSyncWatermark(Map.of(tableName, 500L,
+                                                                                          "catalog1.schema2.table2", 900L),
+                                                                                   syncStartTime);
+
+        assertFalse(watermark.isUnchanged(tableName, this.getTable(400L, 700L), this.getVersions(syncStartTime - 1)));
+    }
+
+
+    /**
+     * Tables that were not synchronized by the previous refresh, or whose open metadata copy has changed since,
+     * are processed.
+     */
+    @Test
+    public void testChangedOrNewTable()
+    {
+        OSSUnityCatalogSyncWatermark watermark = new OSSUnityCatalogSyncWatermark(Map.of(tableName, 500L), syncStartTime);
+
+        assertFalse(watermark.isUnchanged("catalog1.schema1.newTable", this.getTable(400L, 500L), this.getVersions(syncStartTime - 1)));
+        assertFalse(watermark.isUnchanged(tableName, this.getTable(400L, 500L), this.getVersions(syncStartTime + 1)));
+        assertFalse(watermark.isUnchanged(tableName, this.getTable(0L, 0L), this.getVersions(syncStartTime - 1)));
+    }
+
+
+    /**
+     * Return a table from UC.
+     *
+     * @param createdAt creation time
+     * @param updatedAt update time
+     * @return table
+     */
+    private TableInfo getTable(long createdAt,
+                               long updatedAt)
+    {
+        TableInfo tableInfo = new TableInfo();
+
+        tableInfo.setCreated_at(createdAt);
+        tableInfo.setUpdated_at(updatedAt);
+
+        return tableInfo;
+    }
+
+
+    /**
+     * Return the version information of a table in open metadata.
+     *
+     * @param updateTime time of the last update
+     * @return versions
+     */
+    private ElementVersions getVersions(long updateTime)
+    {
+        ElementVersions versions = new ElementVersions();
+
+        versions.setUpdateTime(new Date(updateTime));
+
+        return versions;
+    }
+}
@@ -297,6 +297,120 @@ public class JDBCResourceConnector extends ConnectorBase implements AuditLogging
 
         PreparedStatement preparedStatement = jdbcConnection.prepareStatement(sqlCommand);
 
+        this.setInsertParameters(preparedStatement, columnNameValueMap);
+
+        int rowsInserted = preparedStatement.executeUpdate();
+
+        if ((rowsInserted > 1) && (auditLog != null))
+        {
+            auditLog.logMessage(methodName,
+                                JDBCAuditCode.UNEXPECTED_ROW_COUNT_FROM_DATABASE.getMessageDefinition(jdbcDatabaseName,
+                                                                                                      Integer.toString(rowsInserted),
+                                                                                                      sqlCommand));
+        }
+
+        preparedStatement.close();
+    }
+
+
+    /**
+     * Insert a list of rows into a table using batched INSERT SQL statements.  Consecutive rows with the same columns
+     * share a prepared statement and are sent to the database in a single batch.  The caller controls the transaction
+     * (for example, by turning off auto-commit and committing once the batch is written).
+     *
+     * @param jdbcConnection connection to send the request
+     * @param tableName name of the table where the rows are to be added
+     * @param rows list of rows, each a map of column names, values and types
+     * @throws SQLException problem executing the command
+     */
+    public void insertRowsIntoTable(Connection                       jdbcConnection,
+                                    String                           tableName,
+                                    List<Map<String, JDBCDataValue>> rows) throws SQLException
+    {
+        final String methodName = "insertRowsIntoTable";
+
+        if ((rows == null) || (rows.isEmpty()))
+        {
+            return;
+        }
+
+        String            sqlCommand        = null;
+        PreparedStatement preparedStatement = null;
+
+        try
+        {
+            for (Map<String, JDBCDataValue> columnNameValueMap : rows)
+            {
+                String rowSQLCommand = "INSERT INTO " + tableName + this.getInsertColumnList(columnNameValueMap) + " ON CONFLICT DO NOTHING";
+
+                if (! rowSQLCommand.equals(sqlCommand))
+                {
+                    if (preparedStatement != null)
+                    {
+                        this.executeInsertBatch(preparedStatement, sqlCommand, methodName);
+                        preparedStatement.close();
+                    }
+
+                    sqlCommand        = rowSQLCommand;
+                    preparedStatement = jdbcConnection.prepareStatement(sqlCommand);
+                }
+
+                this.setInsertParameters(preparedStatement, columnNameValueMap);
+                preparedStatement.addBatch();
+            }
+
+            this.executeInsertBatch(preparedStatement, sqlCommand, methodName);
+        }
+        finally
+        {
+            if (preparedStatement != null)
+            {
+                preparedStatement.close();
+            }
+        }
+    }
+
+
+    /**
+     * Send the batched rows to the database and check the number of rows inserted for each one.
+     *
+     * @param preparedStatement statement with the batched rows
+     * @param sqlCommand SQL command used in the statement
+     * @param methodName calling method
+     * @throws SQLException problem executing the command
+     */
+    private void executeInsertBatch(PreparedStatement preparedStatement,
+                                    String            sqlCommand,
+                                    String            methodName) throws SQLException
+    {
+        int[] rowCounts = preparedStatement.executeBatch();
+
+        if ((rowCounts != null) && (auditLog != null))
+        {
+            for (int rowsInserted : rowCounts)
+            {
+                if (rowsInserted > 1)
+                {
+                    auditLog.logMessage(methodName,
+                                        JDBCAuditCode.UNEXPECTED_ROW_COUNT_FROM_DATABASE.getMessageDefinition(jdbcDatabaseName,
+                                                                                                              Integer.toString(rowsInserted),
+                                                                                                              sqlCommand));
+                }
+            }
+        }
+    }
+
+
+    /**
+     * Set the values for a row into the placeholders of an INSERT SQL statement.
+     *
+     * @param preparedStatement statement to fill out
+     * @param columnNameValueMap column names, values and types
+     * @throws SQLException problem setting a value
+     */
+    private void setInsertParameters(PreparedStatement          preparedStatement,
+                                     Map<String, JDBCDataValue> columnNameValueMap) throws SQLException
+    {
         int parameterIndex = 1;
         for (String columnName : columnNameValueMap.keySet())
         {
@@ -318,18 +432,6 @@ public class JDBCResourceConnector extends ConnectorBase implements AuditLogging
 
             parameterIndex++;
         }
-
-        int rowsInserted = preparedStatement.executeUpdate();
-
-        if ((rowsInserted > 1) && (auditLog != null))
-        {
-            auditLog.logMessage(methodName,
-                                JDBCAuditCode.UNEXPECTED_ROW_COUNT_FROM_DATABASE.getMessageDefinition(jdbcDatabaseName,
-                                                                                                      Integer.toString(rowsInserted),
-                                                                                                      sqlCommand));
-        }
-
-        preparedStatement.close();
     }
 
 
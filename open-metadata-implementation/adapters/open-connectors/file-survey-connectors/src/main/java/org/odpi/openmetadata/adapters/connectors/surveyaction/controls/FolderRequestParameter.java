@@ -16,6 +16,18 @@ public enum FolderRequestParameter
 {
     ANALYSIS_LEVEL ("analysisLevel",
                     "Determines the level of analysis to perform.  The default value is 'TOP_LEVEL_ONLY' which produces summary statistics for the top-level directory only. If it is set to 'ALL_FOLDERS' then there are statistics created for the top level directory, and all subdirectories.  If it set to 'TOP_LEVEL_AND_FILES' then statistics are created for the top-level directory and all files that are encountered.  Finally, if it is set to 'ALL_FOLDERS_AND_FILES' then statistics are created for all directories and files encountered.", "string", "myFile.csv"),
+
+    MAX_CONCURRENCY ("maxConcurrency",
+                     "The maximum number of threads used to walk the folder tree and examine the files.  The default is the number of processors available to the server.", "integer", "8"),
+
+    INCREMENTAL_SURVEY ("incrementalSurvey",
+                        "If set to 'true', the size and last modified time of each file is saved after the survey and the next survey of the same folder only re-examines files that have changed.  The results for unchanged files are reused.  The default is 'false'.", "boolean", "true"),
+
+    FINGERPRINT_CONTENT_HASH ("fingerprintContentHash",
+                              "Only used with incrementalSurvey.  If set to 'true', a hash of each file's content is added to its fingerprint so that changes that do not alter the size or last modified time of the file are detected.  This means every file is read on each survey.  The default is 'false'.", "boolean", "false"),
+
+    FINGERPRINT_CACHE_DIRECTORY ("fingerprintCacheDirectory",
+                                 "Only used with incrementalSurvey.  The directory where the file fingerprints are saved between surveys.  The default is the directory data/servers/{serverName}/surveys under the platform's working directory.", "string", "/var/egeria/survey-cache"),
     ;
 
 
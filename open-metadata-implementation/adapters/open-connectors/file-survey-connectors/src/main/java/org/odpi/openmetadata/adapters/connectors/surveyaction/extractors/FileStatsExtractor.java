@@ -29,6 +29,7 @@ public class FileStatsExtractor
     final private File file;
     final private SurveyActionServiceConnector surveyActionServiceConnector;
     final private FileClassifier fileClassifier;
+    final private FileClassification fileClassification;
 
 
     /**
@@ -42,6 +43,23 @@ public class FileStatsExtractor
     {
         this.file = file;
         this.fileClassifier = fileClassifier;
+        this.fileClassification = null;
+        this.surveyActionServiceConnector = surveyActionServiceConnector;
+    }
+
+
+    /**
+     * Constructor used when the file has already been classified.  This avoids classifying the file a second time.
+     *
+     * @param fileClassification classification of the file to analyse
+     * @param surveyActionServiceConnector calling connector
+     */
+    public FileStatsExtractor(FileClassification           fileClassification,
+                              SurveyActionServiceConnector surveyActionServiceConnector)
+    {
+        this.file = null;
+        this.fileClassifier = null;
+        this.fileClassification = fileClassification;
         this.surveyActionServiceConnector = surveyActionServiceConnector;
     }
 
@@ -51,7 +69,12 @@ public class FileStatsExtractor
                                              UserNotAuthorizedException,
                                              IOException
     {
-        FileClassification fileClassification = fileClassifier.classifyFile(file);
+        FileClassification fileClassification = this.fileClassification;
+
+        if (fileClassification == null)
+        {
+            fileClassification = fileClassifier.classifyFile(file);
+        }
 
         ResourcePhysicalStatusAnnotation measurementAnnotation = new ResourcePhysicalStatusAnnotation();
 
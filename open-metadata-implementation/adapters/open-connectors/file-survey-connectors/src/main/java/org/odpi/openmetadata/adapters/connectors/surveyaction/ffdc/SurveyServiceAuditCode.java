@@ -77,6 +77,24 @@ public enum SurveyServiceAuditCode implements AuditLogMessageSet
                          "The file is skipped and will not appear in the totals for this folder.  However a separate request for action annotation with a log file of all of the inaccessible files is created.",
                          "If this file is of interest and you want it to be included in the survey report, use the details from the error message to determine the cause of the access error; retry the survey once it is resolved."),
 
+    /**
+     * SURVEY-ACTION-SERVICE-0007 - The survey action service {0} reused the results from its previous survey for {1} unchanged files and examined {2} new or changed files
+     */
+    INCREMENTAL_SURVEY("SURVEY-ACTION-SERVICE-0007",
+                       AuditLogRecordSeverityLevel.INFO,
+                       "The survey action service {0} reused the results from its previous survey for {1} unchanged files and examined {2} new or changed files",
+                       "The fingerprints (size, last modified time and optional content hash) of the files are compared with those saved by the previous survey.  Only the files that have changed are examined.",
+                       "No specific action is required.  Delete the fingerprint file {3} to force a full survey."),
+
+    /**
+     * SURVEY-ACTION-SERVICE-0008 - The survey action service {0} is unable to use its file fingerprint cache {1} due to a {2} exception; the error message was: {3}
+     */
+    FINGERPRINT_CACHE_ERROR("SURVEY-ACTION-SERVICE-0008",
+                            AuditLogRecordSeverityLevel.ERROR,
+                            "The survey action service {0} is unable to use its file fingerprint cache {1} due to a {2} exception; the error message was: {3}",
+                            "If the cache could not be read, every file is examined.  If the cache could not be written, the next survey will examine every file.",
+                            "Use the details from the error message to determine the cause of the error.  The survey results are not affected."),
+
     ;
 
     private final String                     logMessageId;
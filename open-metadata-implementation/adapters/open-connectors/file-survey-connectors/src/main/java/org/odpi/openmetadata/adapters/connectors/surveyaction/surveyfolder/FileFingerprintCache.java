@@ -0,0 +1,551 @@
+/* SPDX-License-Identifier: Apache-2.0 */
+/* Copyright Contributors to the ODPi Egeria project. */
+package org.odpi.openmetadata.adapters.connectors.surveyaction.surveyfolder;
+
+import org.odpi.openmetadata.frameworks.governanceaction.fileclassifier.FileClassification;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Date;
+import java.util.HashMap;
+import java.util.HexFormat;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.GZIPOutputStream;
+
+
+/**
+ * FileFingerprintCache supports incremental folder surveys.  It holds the fingerprint (size, last modified time,
+ * permissions and, optionally, a hash of the content) and the classification of each file seen by the previous survey
+ * of a folder.  A file whose fingerprint is unchanged does not need to be classified again.  Only its creation and
+ * last accessed times are taken from the current walk of the folder, and its reference data is looked up again by
+ * the caller so changes to the valid values are picked up.  At the end of the survey, the
+ * fingerprints of the files seen in this survey replace the previous set, so deleted files drop out of the cache.
+ * <br><br>
+ * The cache is stored in a compressed binary file alongside the other files produced by the survey.
+ */
+class FileFingerprintCache
+{
+    private static final int    formatVersion      = 2;
+    private static final String hashAlgorithm      = "SHA-256";
+    private static final int    hashBufferSize     = 64 * 1024;
+
+    private final File                         cacheFile;
+    private final boolean                      useContentHash;
+    private final Map<String, CachedFile>      previousFiles = new HashMap<>();
+    private final Map<String, CachedFile>      currentFiles  = new ConcurrentHashMap<>();
+    private final AtomicLong                   reusedCount   = new AtomicLong(0);
+    private final AtomicLong                   examinedCount = new AtomicLong(0);
+
+
+    /**
+     * Constructor.
+     *
+     * @param cacheFile file where the fingerprints are stored between surveys
+     * @param useContentHash should a hash of each file's content be part of its fingerprint?
+     */
+    FileFingerprintCache(File    cacheFile,
+                         boolean useContentHash)
+    {
+        this.cacheFile      = cacheFile;
+        this.useContentHash = useContentHash;
+    }
+
+
+    /**
+     * Return the file where the fingerprints are stored.
+     *
+     * @return file
+     */
+    File getCacheFile()
+    {
+        return cacheFile;
+    }
+
+
+    /**
+     * Return the number of files whose previous results were reused.
+     *
+     * @return count
+     */
+    long getReusedCount()
+    {
+        return reusedCount.get();
+    }
+
+
+    /**
+     * Return the number of files that were new or changed and so were examined.
+     *
+     * @return count
+     */
+    long getExaminedCount()
+    {
+        return examinedCount.get();
+    }
+
+
+    /**
+     * Read the fingerprints saved by the previous survey.  If there is no cache file, every file is treated as new.
+     *
+     * @throws IOException unable to read the cache file
+     */
+    void load() throws IOException
+    {
+        if (! cacheFile.exists())
+        {
+            return;
+        }
+
+        try (DataInputStream input = new DataInputStream(new BufferedInputStream(new GZIPInputStream(Files.newInputStream(cacheFile.toPath())))))
+        {
+            if (input.readInt() != formatVersion)
+            {
+                return;
+            }
+
+            int fileCount = input.readInt();
+
+            for (int i = 0; i < fileCount; i++)
+            {
+                String pathName = input.readUTF();
+
+                previousFiles.put(pathName, readCachedFile(input, pathName));
+            }
+        }
+    }
+
+
+    /**
+     * Calculate the fingerprint of a file.
+     *
+     * @param path location of the file
+     * @param attributes attributes of the file retrieved while walking the folder
+     * @return fingerprint
+     * @throws IOException unable to read the file's content
+     */
+    Fingerprint getFingerprint(Path                path,
+                               BasicFileAttributes attributes) throws IOException
+    {
+        File   file        = path.toFile();
+        String contentHash = null;
+
+        if (useContentHash)
+        {
+            contentHash = hashContent(path);
+        }
+
+        return new Fingerprint(attributes.size(),
+                               attributes.lastModifiedTime().toMillis(),
+                               file.canRead(),
+                               file.canWrite(),
+                               file.canExecute(),
+                               file.isHidden(),
+                               attributes.isSymbolicLink(),
+                               contentHash);
+    }
+
+
+    /**
+     * Return the classification from the previous survey if the file is unchanged.  The creation and last accessed
+     * times are not part of the fingerprint, so they are taken from the current attributes of the file.
+     * The file is carried forward into the new set of fingerprints.
+     *
+     * @param pathName absolute path name of the file
+     * @param fingerprint current fingerprint of the file
+     * @param attributes attributes of the file retrieved while walking the folder
+     * @return previous classification or null if the file is new or has changed
+     */
+    FileClassification getUnchangedClassification(String              pathName,
+                                                  Fingerprint         fingerprint,
+                                                  BasicFileAttributes attributes)
+    {
+        CachedFile cachedFile = previousFiles.get(pathName);
+
+        if ((cachedFile != null) && (cachedFile.fingerprint.equals(fingerprint)))
+        {
+            FileClassification previous = cachedFile.fileClassification;
+            FileClassification current  = new FileClassification(previous.getFileName(),
+                                                                 previous.getPathName(),
+                                                                 previous.getFileExtension(),
+                                                                 new Date(attributes.creationTime().toMillis()),
+                                                                 previous.getLastModifiedTime(),
+                                                                 new Date(attributes.lastAccessTime().toMillis()),
+                                                                 previous.isCanRead(),
+                                                                 previous.isCanWrite(),
+                                                                 previous.isCanExecute(),
+                                                                 previous.isHidden(),
+                                                                 previous.isSymLink(),
+                                                                 previous.getFileType(),
+                                                                 previous.getDeployedImplementationType(),
+                                                                 previous.getEncoding(),
+                                                                 previous.getAssetTypeName(),
+                                                                 previous.getFileSize());
+
+            currentFiles.put(pathName, new CachedFile(cachedFile.fingerprint, current));
+            reusedCount.incrementAndGet();
+
+            return current;
+        }
+
+        return null;
+    }
+
+
+    /**
+     * Save the classification of a file that has been examined in this survey.
+     *
+     * @param pathName absolute path name of the file
+     * @param fingerprint current fingerprint of the file
+     * @param fileClassification classification from the file classifier
+     */
+    void recordClassification(String             pathName,
+                              Fingerprint        fingerprint,
+                              FileClassification fileClassification)
+    {
+        currentFiles.put(pathName, new CachedFile(fingerprint, fileClassification));
+        examinedCount.incrementAndGet();
+    }
+
+
+    /**
+     * Write the fingerprints of the files seen in this survey.  The cache is written to a temporary file and then
+     * moved into place so a failure part way through does not leave a corrupt cache.
+     *
+     * @throws IOException unable to write the cache
+     */
+    void save() throws IOException
+    {
+        File parentDirectory = cacheFile.getAbsoluteFile().getParentFile();
+
+        if (parentDirectory != null)
+        {
+            Files.createDirectories(parentDirectory.toPath());
+        }
+
+        Path temporaryFile = Files.createTempFile(parentDirectory == null ? null : parentDirectory.toPath(), cacheFile.getName(), ".tmp");
+
+        try (DataOutputStream output = new DataOutputStream(new BufferedOutputStream(new GZIPOutputStream(Files.newOutputStream(temporaryFile)))))
+        {
+            output.writeInt(formatVersion);
+            output.writeInt(currentFiles.size());
+
+            for (Map.Entry<String, CachedFile> entry : currentFiles.entrySet())
+            {
+                output.writeUTF(entry.getKey());
+                writeCachedFile(output, entry.getValue());
+            }
+        }
+
+        Files.move(temporaryFile, cacheFile.toPath(), StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+    }
+
+
+    /**
+     * Calculate a hash of the file's content.
+     *
+     * @param path location of the file
+     * @return hex string
+     * @throws IOException unable to read the file
+     */
+    private String hashContent(Path path) throws IOException
+    {
+        try (InputStream inputStream = Files.newInputStream(path))
+        {
+            MessageDigest messageDigest = MessageDigest.getInstance(hashAlgorithm);
+            byte[]        buffer        = new byte[hashBufferSize];
+            int           bytesRead     = inputStream.read(buffer);
+
+            while (bytesRead != -1)
+            {
+                messageDigest.update(buffer, 0, bytesRead);
+                bytesRead = inputStream.read(buffer);
+            }
+
+            return HexFormat.of().formatHex(messageDigest.digest());
+        }
+        catch (NoSuchAlgorithmException error)
+        {
+            throw new IOException(error);
+        }
+    }
+
+
+    /**
+     * Read a single cached file.
+     *
+     * @param input input stream
+     * @param pathName path name of the file
+     * @return cached file
+     * @throws IOException problem reading the cache
+     */
+    private CachedFile readCachedFile(DataInputStream input,
+                                      String          pathName) throws IOException
+    {
+        Fingerprint fingerprint = new Fingerprint(input.readLong(),
+                                                  input.readLong(),
+                                                  input.readBoolean(),
+                                                  input.readBoolean(),
+                                                  input.readBoolean(),
+                                                  input.readBoolean(),
+                                                  input.readBoolean(),
+                                                  readOptionalString(input));
+
+        FileClassification fileClassification = new FileClassification(readOptionalString(input),
+                                                                        pathName,
+                                                                        readOptionalString(input),
+                                                                        readOptionalDate(input),
+                                                                        readOptionalDate(input),
+                                                                        readOptionalDate(input),
+                                                                        input.readBoolean(),
+                                                                        input.readBoolean(),
+                                                                        input.readBoolean(),
+                                                                        input.readBoolean(),
+                                                                        input.readBoolean(),
+                                                                        readOptionalString(input),
+                                                                        readOptionalString(input),
+                                                                        readOptionalString(input),
+                                                                        readOptionalString(input),
+                                                                        fingerprint.size);
+
+        return new CachedFile(fingerprint, fileClassification);
+    }
+
+
+    /**
+     * Write a single cached file.  The order of the fields must match readCachedFile.
+     *
+     * @param output output stream
+     * @param cachedFile cached file
+     * @throws IOException problem writing the cache
+     */
+    private void writeCachedFile(DataOutputStream output,
+                                 CachedFile       cachedFile) throws IOException
+    {
+        FileClassification fileClassification = cachedFile.fileClassification;
+
+        output.writeLong(cachedFile.fingerprint.size);
+        output.writeLong(cachedFile.fingerprint.lastModified);
+        output.writeBoolean(cachedFile.fingerprint.canRead);
+        output.writeBoolean(cachedFile.fingerprint.canWrite);
+        output.writeBoolean(cachedFile.fingerprint.canExecute);
+        output.writeBoolean(cachedFile.fingerprint.isHidden);
+        output.writeBoolean(cachedFile.fingerprint.isSymLink);
+        writeOptionalString(output, cachedFile.fingerprint.contentHash);
+        writeOptionalString(output, fileClassification.getFileName());
+        writeOptionalString(output, fileClassification.getFileExtension());
+        writeOptionalDate(output, fileClassification.getCreationTime());
+        writeOptionalDate(output, fileClassification.getLastModifiedTime());
+        writeOptionalDate(output, fileClassification.getLastAccessedTime());
+        output.writeBoolean(fileClassification.isCanRead());
+        output.writeBoolean(fileClassification.isCanWrite());
+        output.writeBoolean(fileClassification.isCanExecute());
+        output.writeBoolean(fileClassification.isHidden());
+        output.writeBoolean(fileClassification.isSymLink());
+        writeOptionalString(output, fileClassification.getFileType());
+        writeOptionalString(output, fileClassification.getDeployedImplementationType());
+        writeOptionalString(output, fileClassification.getEncoding());
+        writeOptionalString(output, fileClassification.getAssetTypeName());
+    }
+
+
+    /**
+     * Read a string that may be null.
+     *
+     * @param input input stream
+     * @return string or null
+     * @throws IOException problem reading the cache
+     */
+    private String readOptionalString(DataInputStream input) throws IOException
+    {
+        if (input.readBoolean())
+        {
+            return input.readUTF();
+        }
+
+        return null;
+    }
+
+
+    /**
+     * Write a string that may be null.
+     *
+     * @param output output stream
+     * @param value string or null
+     * @throws IOException problem writing the cache
+     */
+    private void writeOptionalString(DataOutputStream output,
+                                     String           value) throws IOException
+    {
+        output.writeBoolean(value != null);
+
+        if (value != null)
+        {
+            output.writeUTF(value);
+        }
+    }
+
+
+    /**
+     * Read a date that may be null.
+     *
+     * @param input input stream
+     * @return date or null
+     * @throws IOException problem reading the cache
+     */
+    private Date readOptionalDate(DataInputStream input) throws IOException
+    {
+        if (input.readBoolean())
+        {
+            return new Date(input.readLong());
+        }
+
+        return null;
+    }
+
+
+    /**
+     * Write a date that may be null.
+     *
+     * @param output output stream
+     * @param value date or null
+     * @throws IOException problem writing the cache
+     */
+    private void writeOptionalDate(DataOutputStream output,
+                                   Date             value) throws IOException
+    {
+        output.writeBoolean(value != null);
+
+        if (value != null)
+        {
+            output.writeLong(value.getTime());
+        }
+    }
+
+
+    /**
+     * The values that identify a version of a file.  The permissions are included because they are part of the
+     * file's classification but changing them does not change the last modified time.
+     */
+    static class Fingerprint
+    {
+        private final long    size;
+        private final long    lastModified;
+        private final boolean canRead;
+        private final boolean canWrite;
+        private final boolean canExecute;
+        private final boolean isHidden;
+        private final boolean isSymLink;
+        private final String  contentHash;
+
+
+        /**
+         * Constructor.
+         *
+         * @param size size of the file in bytes
+         * @param lastModified last modified time in milliseconds
+         * @param canRead can the file be read
+         * @param canWrite can the file be written to
+         * @param canExecute can the file be executed
+         * @param isHidden is the file hidden
+         * @param isSymLink is the file a symbolic link
+         * @param contentHash hash of the content (or null)
+         */
+        Fingerprint(long    size,
+                    long    lastModified,
+                    boolean canRead,
+                    boolean canWrite,
+                    boolean canExecute,
+                    boolean isHidden,
+                    boolean isSymLink,
+                    String  contentHash)
+        {
+            this.size         = size;
+            this.lastModified = lastModified;
+            this.canRead      = canRead;
+            this.canWrite     = canWrite;
+            this.canExecute   = canExecute;
+            this.isHidden     = isHidden;
+            this.isSymLink    = isSymLink;
+            this.contentHash  = contentHash;
+        }
+
+
+        /**
+         * Compare the values of the supplied object with those stored in the current object.
+         *
+         * @param objectToCompare supplied object
+         * @return boolean result of comparison
+         */
+        @Override
+        public boolean equals(Object objectToCompare)
+        {
+            if (this == objectToCompare)
+            {
+                return true;
+            }
+            if (! (objectToCompare instanceof Fingerprint that))
+            {
+                return false;
+            }
+            return size == that.size &&
+                   lastModified == that.lastModified &&
+                   canRead == that.canRead &&
+                   canWrite == that.canWrite &&
+                   canExecute == that.canExecute &&
+                   isHidden == that.isHidden &&
+                   isSymLink == that.isSymLink &&
+                   Objects.equals(contentHash, that.contentHash);
+        }
+
+
+        /**
+         * Create a hash code for this element type.
+         *
+         * @return int hash code
+         */
+        @Override
+        public int hashCode()
+        {
+            return Objects.hash(size, lastModified, canRead, canWrite, canExecute, isHidden, isSymLink, contentHash);
+        }
+    }
+
+
+    /**
+     * The fingerprint and classification of a file.
+     */
+    private static class CachedFile
+    {
+        private final Fingerprint        fingerprint;
+        private final FileClassification fileClassification;
+
+
+        /**
+         * Constructor.
+         *
+         * @param fingerprint fingerprint of the file
+         * @param fileClassification classification of the file
+         */
+        CachedFile(Fingerprint        fingerprint,
+                   FileClassification fileClassification)
+        {
+            this.fingerprint        = fingerprint;
+            this.fileClassification = fileClassification;
+        }
+    }
+}
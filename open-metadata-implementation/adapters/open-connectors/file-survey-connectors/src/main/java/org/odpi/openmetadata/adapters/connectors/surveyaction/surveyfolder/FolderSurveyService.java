@@ -15,7 +15,6 @@ import org.odpi.openmetadata.frameworks.connectors.ffdc.PropertyServerException;
 import org.odpi.openmetadata.frameworks.connectors.ffdc.UserNotAuthorizedException;
 import org.odpi.openmetadata.frameworks.connectors.properties.AssetUniverse;
 import org.odpi.openmetadata.frameworks.governanceaction.fileclassifier.FileClassification;
-import org.odpi.openmetadata.frameworks.governanceaction.fileclassifier.FileClassifier;
 import org.odpi.openmetadata.frameworks.openmetadata.types.OpenMetadataType;
 import org.odpi.openmetadata.frameworks.surveyaction.AnnotationStore;
 import org.odpi.openmetadata.frameworks.surveyaction.SurveyActionServiceConnector;
@@ -27,7 +26,14 @@ import org.odpi.openmetadata.frameworks.surveyaction.properties.*;
 
 import java.io.File;
 import java.io.IOException;
+import java.nio.file.DirectoryIteratorException;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.BasicFileAttributes;
 import java.util.*;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveTask;
 
 
 /**
@@ -104,6 +110,32 @@ public class FolderSurveyService extends SurveyActionServiceConnector
                 }
             }
 
+            int     maxConcurrency         = Runtime.getRuntime().availableProcessors();
+            boolean incrementalSurvey      = false;
+            boolean fingerprintContentHash = false;
+            String  fingerprintCacheDirectory = null;
+
+            if (surveyContext.getRequestParameters() != null)
+            {
+                String parameterValue = surveyContext.getRequestParameters().get(FolderRequestParameter.MAX_CONCURRENCY.getName());
+
+                if (parameterValue != null)
+                {
+                    try
+                    {
+                        maxConcurrency = Math.max(1, Integer.parseInt(parameterValue.trim()));
+                    }
+                    catch (NumberFormatException invalidValue)
+                    {
+                        // keep the default
+                    }
+                }
+
+                incrementalSurvey = Boolean.parseBoolean(surveyContext.getRequestParameters().get(FolderRequestParameter.INCREMENTAL_SURVEY.getName()));
+                fingerprintContentHash = Boolean.parseBoolean(surveyContext.getRequestParameters().get(FolderRequestParameter.FINGERPRINT_CONTENT_HASH.getName()));
+                fingerprintCacheDirectory = surveyContext.getRequestParameters().get(FolderRequestParameter.FINGERPRINT_CACHE_DIRECTORY.getName());
+            }
+
             /*
              * The asset should have a special connector for files.  If the connector is wrong,
              * the cast will fail.
@@ -142,9 +174,49 @@ public class FolderSurveyService extends SurveyActionServiceConnector
             annotationStore.setAnalysisStep(AnalysisStep.PROFILING_ASSOCIATED_RESOURCES.getName());
 
 
-            LogFileProgress logFileProgress = new LogFileProgress(auditLog, surveyActionServiceName);
+            LogFileProgress      logFileProgress      = new LogFileProgress(auditLog, surveyActionServiceName);
+            FileFingerprintCache fileFingerprintCache = null;
+
+            if (incrementalSurvey)
+            {
+                fileFingerprintCache = new FileFingerprintCache(getFingerprintCacheFile(fingerprintCacheDirectory,
+                                                                                        surveyContext.getOpenMetadataStore().getServerName(),
+                                                                                        assetUniverse.getGUID()),
+                                                                fingerprintContentHash);
+
+                try
+                {
+                    fileFingerprintCache.load();
+                }
+                catch (IOException error)
+                {
+                    logFingerprintCacheError(fileFingerprintCache, error);
+                }
+            }
+
+            FolderProfile folderProfile = profileFolder(rootFolder,
+                                                        logFileProgress,
+                                                        fileFingerprintCache,
+                                                        deepFolderAnalysis,
+                                                        deepFileAnalysis,
+                                                        maxConcurrency);
+
+            if (fileFingerprintCache != null)
+            {
+                try
+                {
+                    fileFingerprintCache.save();
+                }
+                catch (IOException error)
+                {
+                    logFingerprintCacheError(fileFingerprintCache, error);
+                }
 
-            FolderProfile folderProfile = profileFolder(rootFolder, logFileProgress, deepFolderAnalysis, deepFileAnalysis);
+                auditLog.logMessage(methodName, SurveyServiceAuditCode.INCREMENTAL_SURVEY.getMessageDefinition(surveyActionServiceName,
+                                                                                                               Long.toString(fileFingerprintCache.getReusedCount()),
+                                                                                                               Long.toString(fileFingerprintCache.getExaminedCount()),
+                                                                                                               fileFingerprintCache.getCacheFile().getPath()));
+            }
 
             List<Annotation> annotations = folderProfile.getAnnotations(annotationStore.getSurveyReportGUID());
 
@@ -192,148 +264,408 @@ public class FolderSurveyService extends SurveyActionServiceConnector
 
 
     /**
-     * Profile a single folder.
+     * Return the file where the fingerprints of the files in a folder are saved between surveys.  If no directory
+     * is requested, the file is placed with the server's other data under the platform's working directory.
+     *
+     * @param fingerprintCacheDirectory requested directory (or null)
+     * @param serverName name of the server running the survey
+     * @param assetGUID unique identifier of the folder's asset
+     * @return cache file
+     */
+    static File getFingerprintCacheFile(String fingerprintCacheDirectory,
+                                        String serverName,
+                                        String assetGUID)
+    {
+        File cacheDirectory;
+
+        if ((fingerprintCacheDirectory != null) && (! fingerprintCacheDirectory.isBlank()))
+        {
+            cacheDirectory = new File(fingerprintCacheDirectory.trim());
+        }
+        else if (serverName != null)
+        {
+            cacheDirectory = new File("data/servers/" + serverName + "/surveys");
+        }
+        else
+        {
+            cacheDirectory = new File("data/surveys");
+        }
+
+        return new File(cacheDirectory, "folder-survey-" + assetGUID + "-fingerprints.dat");
+    }
+
+
+    /**
+     * Log a failure to read or write the file fingerprint cache.  The survey continues without it.
      *
-     * @param fileFolder folder to profile
+     * @param fileFingerprintCache cache
+     * @param error exception from the file system
+     */
+    private void logFingerprintCacheError(FileFingerprintCache fileFingerprintCache,
+                                          IOException          error)
+    {
+        final String methodName = "logFingerprintCacheError";
+
+        auditLog.logException(methodName,
+                              SurveyServiceAuditCode.FINGERPRINT_CACHE_ERROR.getMessageDefinition(surveyActionServiceName,
+                                                                                                   fileFingerprintCache.getCacheFile().getPath(),
+                                                                                                   error.getClass().getName(),
+                                                                                                   error.getMessage()),
+                              error);
+    }
+
+
+    /**
+     * Profile a folder and all of its nested folders.  Each folder is profiled by a separate task in a fork-join pool
+     * so that the nested folders are walked in parallel.
+     *
+     * @param rootFolder folder to profile
      * @param logFileProgress progressBar
+     * @param fileFingerprintCache fingerprints from the previous survey (null if this is not an incremental survey)
+     * @param deepFolderAnalysis produce an annotation for each nested folder
+     * @param deepFileAnalysis produce an annotation for each file
+     * @param maxConcurrency maximum number of threads walking the folders
+     * @return profile of the root folder
      * @throws InvalidParameterException invalid parameter
      * @throws PropertyServerException problem connecting to the open metadata repositories
      * @throws UserNotAuthorizedException insufficient access
-     * @throws ConnectorCheckedException exception thrown if connector is no longer active
+     * @throws ConnectorCheckedException the survey context is no longer active
      */
-    private FolderProfile profileFolder(File                    fileFolder,
-                                        LogFileProgress         logFileProgress,
-                                        boolean                 deepFolderAnalysis,
-                                        boolean                 deepFileAnalysis) throws InvalidParameterException,
-                                                                                         PropertyServerException,
-                                                                                         UserNotAuthorizedException,
-                                                                                         ConnectorCheckedException
+    private FolderProfile profileFolder(File                 rootFolder,
+                                        LogFileProgress      logFileProgress,
+                                        FileFingerprintCache fileFingerprintCache,
+                                        boolean              deepFolderAnalysis,
+                                        boolean              deepFileAnalysis,
+                                        int                  maxConcurrency) throws InvalidParameterException,
+                                                                                    PropertyServerException,
+                                                                                    UserNotAuthorizedException,
+                                                                                    ConnectorCheckedException
     {
-        FolderProfile folderProfile = new FolderProfile(auditLog,
-                                                        fileFolder.getPath(),
-                                                        this,
-                                                        surveyActionServiceName,
-                                                        surveyContext.getAssetStore());
+        ForkJoinPool forkJoinPool = new ForkJoinPool(maxConcurrency);
 
-        if (fileFolder.listFiles() != null)
+        try
+        {
+            return forkJoinPool.invoke(new FolderProfileTask(rootFolder.toPath(),
+                                                             logFileProgress,
+                                                             fileFingerprintCache,
+                                                             deepFolderAnalysis,
+                                                             deepFileAnalysis));
+        }
+        catch (FolderProfileException error)
         {
-            for (File nestedFile : Objects.requireNonNull(fileFolder.listFiles()))
+            Exception cause = error.getCause();
+
+            if (cause instanceof InvalidParameterException invalidParameterException)
             {
-                if (nestedFile.isDirectory())
-                {
-                    folderProfile.folderCount++;
-                    logFileProgress.logFilesProcessed();
+                throw invalidParameterException;
+            }
+            if (cause instanceof PropertyServerException propertyServerException)
+            {
+                throw propertyServerException;
+            }
+            if (cause instanceof UserNotAuthorizedException userNotAuthorizedException)
+            {
+                throw userNotAuthorizedException;
+            }
+            if (cause instanceof ConnectorCheckedException connectorCheckedException)
+            {
+                throw connectorCheckedException;
+            }
+            throw error;
+        }
+        finally
+        {
+            forkJoinPool.shutdownNow();
+        }
+    }
 
-                    if (!FileUtils.isSymlink(nestedFile))
-                    {
-                        FolderProfile nestedFolderProfile = profileFolder(nestedFile,
-                                                                          logFileProgress,
-                                                                          deepFolderAnalysis,
-                                                                          deepFileAnalysis);
 
-                        if (deepFolderAnalysis)
-                        {
-                            folderProfile.saveAnnotation(nestedFolderProfile.getFolderAnnotation());
-                        }
+    /**
+     * Add the details of a single file to the profile of its folder.  If the file is unchanged since the
+     * previous survey, its classification is taken from the fingerprint cache rather than from the file classifier.
+     *
+     * @param folderProfile profile of the folder that contains the file
+     * @param nestedFile location of the file
+     * @param attributes file attributes retrieved while listing the folder
+     * @param fileFingerprintCache fingerprints from the previous survey (or null)
+     * @param deepFileAnalysis produce an annotation for the file
+     * @throws InvalidParameterException invalid parameter
+     * @throws PropertyServerException problem connecting to the open metadata repositories
+     * @throws UserNotAuthorizedException insufficient access
+     * @throws ConnectorCheckedException the survey context is no longer active
+     */
+    private void profileFile(FolderProfile        folderProfile,
+                             Path                 nestedFile,
+                             BasicFileAttributes  attributes,
+                             FileFingerprintCache fileFingerprintCache,
+                             boolean              deepFileAnalysis) throws InvalidParameterException,
+                                                                           PropertyServerException,
+                                                                           UserNotAuthorizedException,
+                                                                           ConnectorCheckedException
+    {
+        try
+        {
+            File               file               = nestedFile.toFile();
+            FileClassification fileClassification = null;
 
-                        folderProfile.addNestedProfile(nestedFolderProfile);
-                    }
+            if (fileFingerprintCache != null)
+            {
+                String                           pathName    = file.getAbsolutePath();
+                FileFingerprintCache.Fingerprint fingerprint = fileFingerprintCache.getFingerprint(nestedFile, attributes);
+
+                fileClassification = fileFingerprintCache.getUnchangedClassification(pathName, fingerprint, attributes);
+
+                if (fileClassification == null)
+                {
+                    fileClassification = surveyContext.getFileClassifier().classifyFile(file);
+                    fileFingerprintCache.recordClassification(pathName, fingerprint, fileClassification);
                 }
-                else if (nestedFile.isFile())
+                else
                 {
-                    try
-                    {
-                        FileClassifier     fileClassifier     = surveyContext.getFileClassifier();
-                        FileClassification fileClassification = fileClassifier.classifyFile(nestedFile);
+                    /*
+                     * The reference data may have been updated since the previous survey.
+                     */
+                    fileClassification = surveyContext.getFileClassifier().updateReferenceData(fileClassification);
+                }
+            }
+            else
+            {
+                fileClassification = surveyContext.getFileClassifier().classifyFile(file);
+            }
 
-                        if (deepFileAnalysis)
-                        {
-                            FileStatsExtractor fileStatsExtractor = new FileStatsExtractor(nestedFile,
-                                                                                           fileClassifier,
-                                                                                           this);
+            if (deepFileAnalysis)
+            {
+                FileStatsExtractor fileStatsExtractor = new FileStatsExtractor(fileClassification, this);
 
-                            folderProfile.saveAnnotation(fileStatsExtractor.getAnnotation());
-                        }
+                folderProfile.saveAnnotation(fileStatsExtractor.getAnnotation());
+            }
 
-                        folderProfile.fileCount++;
-                        logFileProgress.logFilesProcessed();
+            folderProfile.fileCount++;
 
-                        folderProfile.totalSize = folderProfile.totalSize + fileClassification.getFileSize();
+            folderProfile.totalSize = folderProfile.totalSize + fileClassification.getFileSize();
 
-                        if ((fileClassification.getFileType() == null) ||
-                             fileClassification.getAssetTypeName() == null ||
-                             fileClassification.getDeployedImplementationType() == null)
-                        {
-                            folderProfile.missingReferenceData.add(fileClassification);
-                        }
+            if ((fileClassification.getFileType() == null) ||
+                 fileClassification.getAssetTypeName() == null ||
+                 fileClassification.getDeployedImplementationType() == null)
+            {
+                folderProfile.missingReferenceData.add(fileClassification);
+            }
 
-                        if ((folderProfile.lastFileCreationTime == null) || ((fileClassification.getCreationTime() != null) &&
-                                (folderProfile.lastFileCreationTime.before(fileClassification.getCreationTime()))))
-                        {
-                            folderProfile.lastFileCreationTime = fileClassification.getCreationTime();
-                        }
+            if ((folderProfile.lastFileCreationTime == null) || ((fileClassification.getCreationTime() != null) &&
+                    (folderProfile.lastFileCreationTime.before(fileClassification.getCreationTime()))))
+            {
+                folderProfile.lastFileCreationTime = fileClassification.getCreationTime();
+            }
 
-                        if ((folderProfile.lastFileModificationTime == null) || ((fileClassification.getLastModifiedTime() != null) &&
-                                (folderProfile.lastFileModificationTime.before(fileClassification.getLastModifiedTime()))))
-                        {
-                            folderProfile.lastFileModificationTime = fileClassification.getLastModifiedTime();
-                        }
+            if ((folderProfile.lastFileModificationTime == null) || ((fileClassification.getLastModifiedTime() != null) &&
+                    (folderProfile.lastFileModificationTime.before(fileClassification.getLastModifiedTime()))))
+            {
+                folderProfile.lastFileModificationTime = fileClassification.getLastModifiedTime();
+            }
 
-                        if ((folderProfile.lastFileAccessTime == null) || ((fileClassification.getLastAccessedTime() != null) &&
-                                (folderProfile.lastFileAccessTime.before(fileClassification.getLastAccessedTime()))))
-                        {
-                            folderProfile.lastFileAccessTime = fileClassification.getLastAccessedTime();
-                        }
+            if ((folderProfile.lastFileAccessTime == null) || ((fileClassification.getLastAccessedTime() != null) &&
+                    (folderProfile.lastFileAccessTime.before(fileClassification.getLastAccessedTime()))))
+            {
+                folderProfile.lastFileAccessTime = fileClassification.getLastAccessedTime();
+            }
 
-                        updateValueCount(folderProfile.fileExtensionCounts, fileClassification.getFileExtension());
-                        updateValueCount(folderProfile.fileNameCounts, fileClassification.getFileName());
-                        updateValueCount(folderProfile.fileTypeCounts, fileClassification.getFileType());
-                        updateValueCount(folderProfile.deployedImplementationTypeCounts, fileClassification.getDeployedImplementationType());
-                        updateValueCount(folderProfile.assetTypeCounts, fileClassification.getAssetTypeName());
+            updateValueCount(folderProfile.fileExtensionCounts, fileClassification.getFileExtension());
+            updateValueCount(folderProfile.fileNameCounts, fileClassification.getFileName());
+            updateValueCount(folderProfile.fileTypeCounts, fileClassification.getFileType());
+            updateValueCount(folderProfile.deployedImplementationTypeCounts, fileClassification.getDeployedImplementationType());
+            updateValueCount(folderProfile.assetTypeCounts, fileClassification.getAssetTypeName());
+
+            if (fileClassification.isCanRead())
+            {
+                folderProfile.canReadCount++;
+            }
+
+            if (fileClassification.isCanWrite())
+            {
+                folderProfile.canWriteCount++;
+            }
+
+            if (fileClassification.isCanExecute())
+            {
+                folderProfile.canExecuteCount++;
+            }
+
+            if (fileClassification.isSymLink())
+            {
+                folderProfile.isSymLink++;
+            }
+
+            if (fileClassification.isHidden())
+            {
+                folderProfile.isHidden++;
+            }
+        }
+        catch (IOException invalidFile)
+        {
+            final String methodName = "profileFile";
+
+            auditLog.logException(methodName, SurveyServiceAuditCode.FILE_IO_ERROR.getMessageDefinition(surveyActionServiceName,
+                                                                                                        invalidFile.getClass().getName(),
+                                                                                                        nestedFile.toString(),
+                                                                                                        invalidFile.getMessage()),
+                                  invalidFile);
+
+            folderProfile.saveInaccessibleFile(nestedFile.toString(),
+                                               invalidFile.getClass().getName(),
+                                               invalidFile.getMessage());
+        }
+    }
+
+
+    /**
+     * FolderProfileTask profiles a single folder.  A new task is forked for each nested folder and the results are
+     * merged into this folder's profile in the order that the nested folders were listed.
+     */
+    private class FolderProfileTask extends RecursiveTask<FolderProfile>
+    {
+        private final Path                 fileFolder;
+        private final LogFileProgress      logFileProgress;
+        private final FileFingerprintCache fileFingerprintCache;
+        private final boolean              deepFolderAnalysis;
+        private final boolean              deepFileAnalysis;
 
-                        if (fileClassification.isCanRead())
-                        {
-                            folderProfile.canReadCount++;
-                        }
 
-                        if (fileClassification.isCanWrite())
+        /**
+         * Constructor.
+         *
+         * @param fileFolder folder to profile
+         * @param logFileProgress progressBar
+         * @param fileFingerprintCache fingerprints from the previous survey (or null)
+         * @param deepFolderAnalysis produce an annotation for each nested folder
+         * @param deepFileAnalysis produce an annotation for each file
+         */
+        FolderProfileTask(Path                 fileFolder,
+                          LogFileProgress      logFileProgress,
+                          FileFingerprintCache fileFingerprintCache,
+                          boolean              deepFolderAnalysis,
+                          boolean              deepFileAnalysis)
+        {
+            this.fileFolder           = fileFolder;
+            this.logFileProgress      = logFileProgress;
+            this.fileFingerprintCache = fileFingerprintCache;
+            this.deepFolderAnalysis   = deepFolderAnalysis;
+            this.deepFileAnalysis     = deepFileAnalysis;
+        }
+
+
+        /**
+         * Profile the folder.
+         *
+         * @return profile of the folder and its nested folders
+         */
+        @Override
+        protected FolderProfile compute()
+        {
+            FolderProfile           folderProfile;
+            List<FolderProfileTask> nestedTasks   = new ArrayList<>();
+
+            try
+            {
+                folderProfile = new FolderProfile(auditLog,
+                                                  fileFolder.toString(),
+                                                  FolderSurveyService.this,
+                                                  surveyActionServiceName,
+                                                  surveyContext.getAssetStore());
+
+                try (DirectoryStream<Path> directoryStream = Files.newDirectoryStream(fileFolder))
+                {
+                    for (Path nestedFile : directoryStream)
+                    {
+                        BasicFileAttributes attributes;
+
+                        try
                         {
-                            folderProfile.canWriteCount++;
+                            attributes = Files.readAttributes(nestedFile, BasicFileAttributes.class);
                         }
-
-                        if (fileClassification.isCanExecute())
+                        catch (IOException notAccessible)
                         {
-                            folderProfile.canExecuteCount++;
+                            continue;
                         }
 
-                        if (fileClassification.isSymLink())
+                        if (attributes.isDirectory())
                         {
-                            folderProfile.isSymLink++;
+                            folderProfile.folderCount++;
+                            logFileProgress.logFilesProcessed();
+
+                            if (! Files.isSymbolicLink(nestedFile))
+                            {
+                                FolderProfileTask nestedTask = new FolderProfileTask(nestedFile,
+                                                                                     logFileProgress,
+                                                                                     fileFingerprintCache,
+                                                                                     deepFolderAnalysis,
+                                                                                     deepFileAnalysis);
+                                nestedTask.fork();
+                                nestedTasks.add(nestedTask);
+                            }
                         }
-
-                        if (fileClassification.isHidden())
+                        else if (attributes.isRegularFile())
                         {
-                            folderProfile.isHidden++;
+                            profileFile(folderProfile, nestedFile, attributes, fileFingerprintCache, deepFileAnalysis);
+                            logFileProgress.logFilesProcessed();
                         }
                     }
-                    catch (IOException invalidFile)
-                    {
-                        final String methodName = "Profile Folder";
+                }
+                catch (IOException | DirectoryIteratorException unreadableFolder)
+                {
+                    /*
+                     * The folder can not be listed.  As with File.listFiles(), it is treated as empty.
+                     */
+                }
 
-                        auditLog.logException(methodName, SurveyServiceAuditCode.FILE_IO_ERROR.getMessageDefinition(methodName,
-                                                                                                                    nestedFile.getPath(),
-                                                                                                                    invalidFile.getMessage()),
-                                              invalidFile);
+                for (FolderProfileTask nestedTask : nestedTasks)
+                {
+                    FolderProfile nestedFolderProfile = nestedTask.join();
 
-                        folderProfile.saveInaccessibleFile(nestedFile.getPath(),
-                                                           invalidFile.getClass().getName(),
-                                                           invalidFile.getMessage());
+                    if (deepFolderAnalysis)
+                    {
+                        folderProfile.saveAnnotation(nestedFolderProfile.getFolderAnnotation());
                     }
+
+                    folderProfile.addNestedProfile(nestedFolderProfile);
                 }
             }
+            catch (InvalidParameterException | PropertyServerException | UserNotAuthorizedException | ConnectorCheckedException error)
+            {
+                throw new FolderProfileException(error);
+            }
+
+            return folderProfile;
         }
+    }
+
 
-        return folderProfile;
+    /**
+     * FolderProfileException carries a checked exception out of a FolderProfileTask so it can be rethrown
+     * by profileFolder.
+     */
+    private static class FolderProfileException extends RuntimeException
+    {
+        /**
+         * Constructor.
+         *
+         * @param cause checked exception from profiling
+         */
+        FolderProfileException(Exception cause)
+        {
+            super(cause);
+        }
+
+
+        /**
+         * Return the checked exception.
+         *
+         * @return exception
+         */
+        @Override
+        public synchronized Exception getCause()
+        {
+            return (Exception)super.getCause();
+        }
     }
 
 
@@ -798,7 +1130,7 @@ public class FolderSurveyService extends SurveyActionServiceConnector
         /**
          * Log a message every 5000 files.
          */
-        public void logFilesProcessed()
+        public synchronized void logFilesProcessed()
         {
             final String methodName   = "logFilesProcessed";
             final long   fileLogLimit = 5000;
@@ -0,0 +1,225 @@
+/* SPDX-License-Identifier: Apache-2.0 */
+/* Copyright Contributors to the ODPi Egeria project. */
+package org.odpi.openmetadata.adapters.connectors.surveyaction.surveyfolder;
+
+import org.odpi.openmetadata.frameworks.governanceaction.fileclassifier.FileClassification;
+import org.testng.annotations.Test;
+
+import java.io.File;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.nio.file.attribute.FileTime;
+import java.util.Date;
+
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertNotNull;
+import static org.testng.Assert.assertNull;
+import static org.testng.Assert.assertTrue;
+
+
+/**
+ * Verify that an incremental folder survey reuses the results for unchanged files and re-examines changed ones.
+ */
+public class FileFingerprintCacheTest
+{
+    /**
+     * A file that has not changed since the previous survey reuses its classification; a changed file does not.
+     *
+     * @throws Exception test failure
+     */
+    @Test
+    public void testUnchangedFileIsReused() throws Exception
+    {
+        Path directory = Files.createTempDirectory("fingerprint-cache");
+        Path dataFile  = directory.resolve("data.csv");
+        File cacheFile = FolderSurveyService.getFingerprintCacheFile(directory.resolve("cache").toString(), "testServer", "asset-guid");
+
+        try
+        {
+            Files.writeString(dataFile, "a,b,c\n");
+
+            /*
+             * First survey: the file is new so it is examined and recorded.
+             */
+            FileFingerprintCache firstSurvey = new FileFingerprintCache(cacheFile, false);
+
+            firstSurvey.load();
+
+            FileFingerprintCache.Fingerprint fingerprint = firstSurvey.getFingerprint(dataFile, this.getAttributes(dataFile));
+
+            assertNull(firstSurvey.getUnchangedClassification(dataFile.toString(), fingerprint, this.getAttributes(dataFile)));
+            firstSurvey.recordClassification(dataFile.toString(), fingerprint, this.getClassification(dataFile));
+            firstSurvey.save();
+
+            assertEquals(firstSurvey.getExaminedCount(), 1);
+            assertEquals(firstSurvey.getReusedCount(), 0);
+
+            /*
+             * Second survey: the file is unchanged so the previous classification is returned.
+             */
+            FileFingerprintCache secondSurvey = new FileFingerprintCache(cacheFile, false);
+
+            secondSurvey.load();
+
+            BasicFileAttributes attributes = this.getAttributes(dataFile);
+            FileClassification  reused     = secondSurvey.getUnchangedClassification(dataFile.toString(),
+                                                                                     secondSurvey.getFingerprint(dataFile, attributes),
+                                                                                     attributes);
+
+            assertNotNull(reused);
+            assertEquals(reused.getFileName(), "data.csv");
+            assertEquals(reused.getFileType(), "csv");
+            assertEquals(secondSurvey.getReusedCount(), 1);
+            secondSurvey.save();
+
+            /*
+             * Third survey: the file has changed so it must be examined again.
+             */
+            Files.writeString(dataFile, "a,b,c\n1,2,3\n");
+            Files.setLastModifiedTime(dataFile, FileTime.fromMillis(System.currentTimeMillis() + 5000));
+
+            FileFingerprintCache thirdSurvey = new FileFingerprintCache(cacheFile, false);
+
+            thirdSurvey.load();
+
+            attributes = this.getAttributes(dataFile);
+
+            assertNull(thirdSurvey.getUnchangedClassification(dataFile.toString(),
+                                                              thirdSurvey.getFingerprint(dataFile, attributes),
+                                                              attributes));
+        }
+        finally
+        {
+            Files.deleteIfExists(cacheFile.toPath());
+            Files.deleteIfExists(cacheFile.getParentFile().toPath());
+            Files.deleteIfExists(dataFile);
+            Files.deleteIfExists(directory);
+        }
+    }
+
+
+    /**
+     * A change of permissions does not change the last modified time, but the file must still be examined again.
+     * When an unchanged file is reused, its last accessed time comes from the current attributes rather than the cache.
+     *
+     * @throws Exception test failure
+     */
+    @Test
+    public void testPermissionsAndAccessTime() throws Exception
+    {
+        Path directory = Files.createTempDirectory("fingerprint-cache");
+        Path dataFile  = directory.resolve("data.csv");
+        File cacheFile = FolderSurveyService.getFingerprintCacheFile(directory.resolve("cache").toString(), "testServer", "asset-guid");
+
+        try
+        {
+            Files.writeString(dataFile, "a,b,c\n");
+            assertTrue(dataFile.toFile().setExecutable(false, false));
+
+            FileFingerprintCache firstSurvey = new FileFingerprintCache(cacheFile, false);
+            BasicFileAttributes  attributes  = this.getAttributes(dataFile);
+
+            firstSurvey.recordClassification(dataFile.toString(),
+                                             firstSurvey.getFingerprint(dataFile, attributes),
+                                             this.getClassification(dataFile));
+            firstSurvey.save();
+
+            /*
+             * Only the access time changes: the file is reused with the new time.
+             */
+            FileTime accessTime = FileTime.fromMillis(attributes.lastAccessTime().toMillis() + 60000);
+
+            Files.setAttribute(dataFile, "lastAccessTime", accessTime);
+
+            FileFingerprintCache secondSurvey = new FileFingerprintCache(cacheFile, false);
+
+            secondSurvey.load();
+            attributes = this.getAttributes(dataFile);
+
+            FileClassification reused = secondSurvey.getUnchangedClassification(dataFile.toString(),
+                                                                                secondSurvey.getFingerprint(dataFile, attributes),
+                                                                                attributes);
+
+            assertNotNull(reused);
+            assertEquals(reused.getLastAccessedTime().getTime(), accessTime.toMillis());
+            secondSurvey.save();
+
+            /*
+             * The file becomes executable: it is examined again.
+             */
+            assertTrue(dataFile.toFile().setExecutable(true, false));
+
+            FileFingerprintCache thirdSurvey = new FileFingerprintCache(cacheFile, false);
+
+            thirdSurvey.load();
+            attributes = this.getAttributes(dataFile);
+
+            assertNull(thirdSurvey.getUnchangedClassification(dataFile.toString(),
+                                                              thirdSurvey.getFingerprint(dataFile, attributes),
+                                                              attributes));
+        }
+        finally
+        {
+            Files.deleteIfExists(cacheFile.toPath());
+            Files.deleteIfExists(cacheFile.getParentFile().toPath());
+            Files.deleteIfExists(dataFile);
+            Files.deleteIfExists(directory);
+        }
+    }
+
+
+    /**
+     * The cache is placed in the requested directory, or with the server's data if there is no request.
+     */
+    @Test
+    public void testCacheFileLocation()
+    {
+        assertEquals(FolderSurveyService.getFingerprintCacheFile("/var/cache/surveys", "server1", "guid1"),
+                     new File("/var/cache/surveys", "folder-survey-guid1-fingerprints.dat"));
+        assertEquals(FolderSurveyService.getFingerprintCacheFile(null, "server1", "guid1"),
+                     new File("data/servers/server1/surveys", "folder-survey-guid1-fingerprints.dat"));
+        assertEquals(FolderSurveyService.getFingerprintCacheFile(" ", null, "guid1"),
+                     new File("data/surveys", "folder-survey-guid1-fingerprints.dat"));
+    }
+
+
+    /**
+     * Return the attributes of a file as they are retrieved while walking a folder.
+     *
+     * @param path file
+     * @return attributes
+     * @throws Exception unable to read the attributes
+     */
+    private BasicFileAttributes getAttributes(Path path) throws Exception
+    {
+        return Files.readAttributes(path, BasicFileAttributes.class);
+    }
+
+
+    /**
+     * Return a classification for a test file.
+     *
+     * @param path file
+     * @return classification
+     */
+    private FileClassification getClassification(Path path)
+    {
+        return new FileClassification(path.getFileName().toString(),
+                                      path.toString(),
+                                      "csv",
+                                      new Date(),
+                                      new Date(),
+                                      new Date(),
+                                      true,
+                                      true,
+                                      false,
+                                      false,
+                                      false,
+                                      "csv",
+                                      "CSV Data File",
+                                      "UTF-8",
+                                      "CSVFile",
+                                      6);
+    }
+}
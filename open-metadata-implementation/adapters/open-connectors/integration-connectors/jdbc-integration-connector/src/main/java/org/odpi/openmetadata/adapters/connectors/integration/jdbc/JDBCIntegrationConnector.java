@@ -2,9 +2,11 @@
 /* Copyright Contributors to the ODPi Egeria project. */
 package org.odpi.openmetadata.adapters.connectors.integration.jdbc;
 
+import org.odpi.openmetadata.adapters.connectors.integration.jdbc.controls.JDBCConfigurationProperty;
 import org.odpi.openmetadata.adapters.connectors.integration.jdbc.ffdc.JDBCIntegrationConnectorAuditCode;
 import org.odpi.openmetadata.adapters.connectors.integration.jdbc.transfer.JdbcMetadata;
 import org.odpi.openmetadata.adapters.connectors.integration.jdbc.transfer.JdbcMetadataTransfer;
+import org.odpi.openmetadata.adapters.connectors.integration.jdbc.transfer.TransferFingerprints;
 import org.odpi.openmetadata.adapters.connectors.integration.jdbc.transfer.customization.TransferCustomizations;
 import org.odpi.openmetadata.adapters.connectors.resource.jdbc.JDBCResourceConnector;
 import org.odpi.openmetadata.frameworks.connectors.Connector;
@@ -20,6 +22,7 @@ import java.sql.Connection;
 import java.sql.DatabaseMetaData;
 import java.sql.SQLException;
 import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 
 
 
@@ -28,8 +31,15 @@ import java.util.Map;
  */
 public class JDBCIntegrationConnector extends DatabaseIntegratorConnector implements CatalogTargetIntegrator
 {
+    private static final int defaultMaxTransferThreads = 4;
+
     final PropertyHelper propertyHelper = new PropertyHelper();
 
+    /*
+     * What was transferred for each database by the previous refresh.
+     */
+    private final Map<String, TransferFingerprints> transferFingerprints = new ConcurrentHashMap<>();
+
     /**
      * Requests that the connector does a comparison of the metadata in the third party technology and open metadata repositories.
      * Refresh is called when the integration connector first starts and then at intervals defined in the connector's configuration
@@ -177,12 +187,23 @@ public class JDBCIntegrationConnector extends DatabaseIntegratorConnector implem
                     catalog = configurationProperties.get("catalog").toString();
                 }
 
+                int maxTransferThreads = super.getIntConfigurationProperty(JDBCConfigurationProperty.MAX_TRANSFER_THREADS.getName(),
+                                                                           configurationProperties);
+
+                if (maxTransferThreads <= 0)
+                {
+                    maxTransferThreads = defaultMaxTransferThreads;
+                }
+
                 JdbcMetadataTransfer jdbcMetadataTransfer = new JdbcMetadataTransfer(new JdbcMetadata(databaseMetaData),
                                                                                      getContext(),
                                                                                      databaseElement,
                                                                                      address,
                                                                                      catalog,
                                                                                      transferCustomizations,
+                                                                                     transferFingerprints.computeIfAbsent(databaseName,
+                                                                                                                          key -> new TransferFingerprints()),
+                                                                                     maxTransferThreads,
                                                                                      auditLog);
 
                 /*
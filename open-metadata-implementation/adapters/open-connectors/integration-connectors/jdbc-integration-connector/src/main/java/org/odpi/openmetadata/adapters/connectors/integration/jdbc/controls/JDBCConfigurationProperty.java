@@ -95,6 +95,15 @@ public enum JDBCConfigurationProperty
                         "schema1,schema2",
                         false),
 
+    /**
+     * Maximum number of threads used to send database metadata to the open metadata ecosystem.
+     */
+    MAX_TRANSFER_THREADS ("maxTransferThreads",
+                          "Maximum number of threads used to send database metadata to the open metadata ecosystem.",
+                          "integer",
+                          "4",
+                          false),
+
     ;
 
     public final String  name;
@@ -122,6 +122,16 @@ public enum JDBCIntegrationConnectorAuditCode implements AuditLogMessageSet
                              "Exiting from method {0} as a result of a failed metadata query test",
                              "Stopping execution",
                              "Investigate log for additional details"),
+    SCHEMA_WIDE_METADATA_NOT_SUPPORTED("JDBC-INTEGRATION-CONNECTOR-0015",
+                                       AuditLogRecordSeverityLevel.INFO,
+                                       "The {0} of all tables in schema {1} could not be retrieved in one call; they will be retrieved table by table. Exception message is: {2}",
+                                       "Continue execution retrieving the metadata for one table at a time",
+                                       "None unless the exception message indicates a problem with the database rather than a limitation of the JDBC driver"),
+    UNCHANGED_TABLES_SKIPPED("JDBC-INTEGRATION-CONNECTOR-0016",
+                             AuditLogRecordSeverityLevel.INFO,
+                             "Metadata transfer skipped for the columns of {0} tables whose columns and primary keys have not changed since the last refresh",
+                             "Continue execution",
+                             "None"),
 
 
 
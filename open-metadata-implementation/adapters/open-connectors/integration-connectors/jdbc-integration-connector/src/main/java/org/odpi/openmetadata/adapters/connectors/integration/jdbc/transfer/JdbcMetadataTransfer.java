@@ -5,25 +5,41 @@ package org.odpi.openmetadata.adapters.connectors.integration.jdbc.transfer;
 import org.apache.commons.lang3.StringUtils;
 
 import org.odpi.openmetadata.adapters.connectors.integration.jdbc.transfer.customization.TransferCustomizations;
+import org.odpi.openmetadata.adapters.connectors.integration.jdbc.transfer.model.JdbcColumn;
 import org.odpi.openmetadata.adapters.connectors.integration.jdbc.transfer.model.JdbcForeignKey;
 import org.odpi.openmetadata.adapters.connectors.integration.jdbc.transfer.model.JdbcPrimaryKey;
+import org.odpi.openmetadata.adapters.connectors.integration.jdbc.transfer.model.JdbcTable;
 import org.odpi.openmetadata.adapters.connectors.integration.jdbc.transfer.requests.Jdbc;
 import org.odpi.openmetadata.adapters.connectors.integration.jdbc.transfer.requests.Omas;
 import org.odpi.openmetadata.frameworks.auditlog.AuditLog;
 import org.odpi.openmetadata.frameworks.openmetadata.metadataelements.*;
 import org.odpi.openmetadata.integrationservices.database.connector.DatabaseIntegratorContext;
 
+import java.util.ArrayList;
+import java.util.Collection;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
 import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.function.Function;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
 
 import static org.odpi.openmetadata.adapters.connectors.integration.jdbc.ffdc.JDBCIntegrationConnectorAuditCode.EXITING_ON_DATABASE_TRANSFER_FAIL;
 import static org.odpi.openmetadata.adapters.connectors.integration.jdbc.ffdc.JDBCIntegrationConnectorAuditCode.PARTIAL_TRANSFER_COMPLETE_FOR_DB_OBJECTS;
 import static org.odpi.openmetadata.adapters.connectors.integration.jdbc.ffdc.JDBCIntegrationConnectorAuditCode.TRANSFER_EXCEPTIONS_FOR_DB_OBJECT;
+import static org.odpi.openmetadata.adapters.connectors.integration.jdbc.ffdc.JDBCIntegrationConnectorAuditCode.UNCHANGED_TABLES_SKIPPED;
 
 /**
- * Transfers metadata from jdbc in an exploratory way. What can be accessed will be transferred
+ * Transfers metadata from jdbc in an exploratory way. What can be accessed will be transferred. Columns, primary keys
+ * and foreign keys are read for a whole schema at a time where the driver supports it, and only the columns of tables
+ * that have changed since the previous refresh are sent to the open metadata ecosystem. The calls to the open metadata
+ * ecosystem are spread over a bounded pool of threads owned by the transfer.
  */
 public class JdbcMetadataTransfer
 {
@@ -43,6 +59,10 @@ public class JdbcMetadataTransfer
     private final String          address;
     private final String catalog;
     private final TransferCustomizations transferCustomizations;
+    private final TransferFingerprints transferFingerprints;
+    private final int maxTransferThreads;
+    private final Set<String> changedTables = ConcurrentHashMap.newKeySet();
+    private ExecutorService transferExecutor;
 
     private final AuditLog auditLog;
 
@@ -52,6 +72,8 @@ public class JdbcMetadataTransfer
                                 String                    endpointJDBCConnectionURL,
                                 String                    catalogName,
                                 TransferCustomizations    transferCustomizations,
+                                TransferFingerprints      transferFingerprints,
+                                int                       maxTransferThreads,
                                 AuditLog                  auditLog)
     {
         this.jdbc = new Jdbc(jdbcMetadata, auditLog);
@@ -61,6 +83,8 @@ public class JdbcMetadataTransfer
         this.address             = endpointJDBCConnectionURL;
         this.catalog = catalogName;
         this.transferCustomizations = transferCustomizations;
+        this.transferFingerprints = transferFingerprints;
+        this.maxTransferThreads = Math.max(1, maxTransferThreads);
         this.auditLog = auditLog;
     }
 
@@ -80,21 +104,35 @@ public class JdbcMetadataTransfer
             return;
         }
 
-        transferTablesWithoutSchema(databaseElement);
-        transferViewsWithoutSchema(databaseElement);
-        transferColumnsOfTablesWithoutSchema(databaseElement);
-        transferForeignKeysIgnoringSchemas(databaseElement);
+        transferExecutor = Executors.newFixedThreadPool(maxTransferThreads, runnable -> {
+            Thread thread = new Thread(runnable, "JdbcMetadataTransfer");
+            thread.setDaemon(true);
+            return thread;
+        });
 
-        transferSchemas(databaseElement);
-        List<DatabaseSchemaElement> schemas = omas.getSchemas(databaseElement.getElementHeader().getGUID());
-        if (schemas.isEmpty())
+        try
         {
-            return;
+            transferTablesWithoutSchema(databaseElement);
+            transferViewsWithoutSchema(databaseElement);
+            transferColumnsOfTablesWithoutSchema(databaseElement);
+            transferForeignKeysIgnoringSchemas(databaseElement);
+
+            transferSchemas(databaseElement);
+            List<DatabaseSchemaElement> schemas = omas.getSchemas(databaseElement.getElementHeader().getGUID());
+            if (!schemas.isEmpty())
+            {
+                transferTables(databaseElement, schemas);
+                transferViews(databaseElement, schemas);
+                transferColumns(databaseElement, schemas);
+                transferForeignKeys(databaseElement);
+            }
+
+            transferFingerprints.completeRefresh();
+        }
+        finally
+        {
+            transferExecutor.shutdownNow();
         }
-        transferTables(databaseElement, schemas);
-        transferViews(databaseElement, schemas);
-        transferColumns(databaseElement, schemas);
-        transferForeignKeys(databaseElement);
     }
 
     /**
@@ -112,11 +150,12 @@ public class JdbcMetadataTransfer
         // already known tables by the omas, previously transferred
         List<DatabaseTableElement> omasTables = omas.getTables(databaseGuid);
         // a table update will always occur as long as the table is returned by jdbc
-        List<DatabaseTableElement> omasTablesUpdated = jdbc.getTables(catalog,"").parallelStream()
+        List<JdbcTable> jdbcTables = jdbc.getTables(catalog,"").stream()
                 .filter(jdbcTable -> jdbcTable.getTableSchem() == null || jdbcTable.getTableSchem().isEmpty())
                 .filter(table -> transferCustomizations.shouldTransferTable(table.getTableName()))
-                .map(new TableTransfer(omas, auditLog, omasTables, databaseQualifiedName, databaseGuid))
                 .toList();
+        List<DatabaseTableElement> omasTablesUpdated = transferInParallel(jdbcTables,
+                new TableTransfer(omas, auditLog, omasTables, databaseQualifiedName, databaseGuid));
 
         // will remove all updated tables, and what remains are the ones deleted in jdbc
         omasTables.removeAll(omasTablesUpdated);
@@ -148,11 +187,12 @@ public class JdbcMetadataTransfer
         // already known views by the omas, previously transferred
         List<DatabaseViewElement> omasViews = omas.getViews(databaseGuid);
         // a view update will always occur as long as the view is returned by jdbc
-        List<DatabaseViewElement> omasViewsUpdated = jdbc.getViews(catalog,"").parallelStream()
+        List<JdbcTable> jdbcViews = jdbc.getViews(catalog,"").stream()
                 .filter(jdbcView -> jdbcView.getTableSchem() == null || jdbcView.getTableSchem().isEmpty())
                 .filter(view -> transferCustomizations.shouldTransferTable(view.getTableName()))
-                .map(new ViewTransfer(omas, auditLog, omasViews, databaseQualifiedName, databaseGuid))
                 .toList();
+        List<DatabaseViewElement> omasViewsUpdated = transferInParallel(jdbcViews,
+                new ViewTransfer(omas, auditLog, omasViews, databaseQualifiedName, databaseGuid));
 
         // will remove all updated views, and what remains are the ones deleted in jdbc
         omasViews.removeAll(omasViewsUpdated);
@@ -179,26 +219,15 @@ public class JdbcMetadataTransfer
 
         String databaseGuid = databaseElement.getElementHeader().getGUID();
 
-        omas.getTables(databaseGuid).parallelStream()
+        List<DatabaseTableElement> tables = omas.getTables(databaseGuid).stream()
                 .filter(table -> transferCustomizations.shouldTransferTable(table.getDatabaseTableProperties().getDisplayName()))
-                .peek(table -> {
-                    String schemaName = "";
-                    String tableName = table.getDatabaseTableProperties().getDisplayName();
-                    String tableGuid = table.getElementHeader().getGUID();
-
-                    List<JdbcPrimaryKey> jdbcPrimaryKeys = jdbc.getPrimaryKeys(schemaName, tableName);
-                    // already known columns by the omas, previously transferred
-                    List<DatabaseColumnElement> omasColumns = omas.getColumns(tableGuid);
-                    // a column update will always occur as long as the column is returned by jdbc
-                    List<DatabaseColumnElement> omasUpdatedColumns = jdbc.getColumns(catalog, schemaName, tableName).parallelStream()
-                            .filter(column -> transferCustomizations.shouldTransferColumn(column.getColumnName()))
-                            .map(new ColumnTransfer(omas, auditLog, omasColumns, jdbcPrimaryKeys, table)).toList();
-
-                    // will remove all updated column, and what remains are the ones deleted in jdbc
-                    omasColumns.removeAll(omasUpdatedColumns);
-                    // remove from omas the columns deleted in jdbc
-                    omasColumns.forEach(omas::removeColumn);
-                }).collect(Collectors.toList());
+                .toList();
+        int unchangedTables = transferColumnsOfTables("", tables);
+
+        if(unchangedTables > 0) {
+            auditLog.logMessage(SKIPPING + COLUMNS_OF_TABLES_WITH_NO_SCHEMA,
+                    UNCHANGED_TABLES_SKIPPED.getMessageDefinition("" + unchangedTables));
+        }
 
         String excludedColumns = transferCustomizations.getExcludedColumns();
         if(StringUtils.isNotEmpty(excludedColumns)) {
@@ -219,16 +248,11 @@ public class JdbcMetadataTransfer
     private void transferForeignKeysIgnoringSchemas(DatabaseElement databaseElement){
         long start = System.currentTimeMillis();
 
-        Set<JdbcForeignKey> foreignKeys = Stream.concat(
-                        jdbc.getTables(catalog, "").stream()
-                                .filter(table -> transferCustomizations.shouldTransferTable(table.getTableName()))
-                                .flatMap( t -> jdbc.getImportedKeys(catalog, "", t.getTableName()).stream() ),
-                        jdbc.getTables(catalog, "").stream()
-                                .filter(table -> transferCustomizations.shouldTransferTable(table.getTableName()))
-                                .flatMap( t -> jdbc.getExportedKeys(catalog, "", t.getTableName()).stream() ))
-                .collect(Collectors.toSet());
+        List<JdbcTable> tables = jdbc.getTables(catalog, "").stream()
+                .filter(table -> transferCustomizations.shouldTransferTable(table.getTableName()))
+                .toList();
 
-        foreignKeys.forEach(new ForeignKeyTransfer(omas, auditLog, databaseElement));
+        transferForeignKeys(databaseElement, getForeignKeys("", tables));
 
         long end = System.currentTimeMillis();
         auditLog.logMessage("Foreign key transfer complete",
@@ -251,11 +275,11 @@ public class JdbcMetadataTransfer
         // already known schemas by the omas, previously transferred
         List<DatabaseSchemaElement> omasSchemas = omas.getSchemas(databaseGuid);
         // a schema update will always occur as long as the schema is returned by jdbc
-        List<DatabaseSchemaElement> omasSchemasUpdated =
-                jdbc.getSchemas(catalog).parallelStream()
+        List<DatabaseSchemaElement> omasSchemasUpdated = transferInParallel(
+                jdbc.getSchemas(catalog).stream()
                         .filter(schema -> transferCustomizations.shouldTransferSchema(schema.getTableSchem()))
-                        .map(new SchemaTransfer(omas, auditLog, omasSchemas, databaseQualifiedName, databaseGuid))
-                        .toList();
+                        .toList(),
+                new SchemaTransfer(omas, auditLog, omasSchemas, databaseQualifiedName, databaseGuid));
 
         // will remove all updated schemas, and what remains are the ones deleted in jdbc
         omasSchemas.removeAll(omasSchemasUpdated);
@@ -281,9 +305,9 @@ public class JdbcMetadataTransfer
     private void transferTables(DatabaseElement databaseElement, List<DatabaseSchemaElement> schemas){
         long start = System.currentTimeMillis();
 
-        schemas.parallelStream()
+        schemas.stream()
                 .filter(schema -> transferCustomizations.shouldTransferSchema(schema.getDatabaseSchemaProperties().getName()))
-                .peek(schema -> {
+                .forEach(schema -> {
             String schemaDisplayName = schema.getDatabaseSchemaProperties().getName();
             String schemaGuid = schema.getElementHeader().getGUID();
             String schemaQualifiedName = schema.getDatabaseSchemaProperties().getQualifiedName();
@@ -291,16 +315,17 @@ public class JdbcMetadataTransfer
             // already known tables by the omas, previously transferred
             List<DatabaseTableElement> omasTables = omas.getTables(schemaGuid);
             // a table update will always occur as long as the table is returned by jdbc
-            List<DatabaseTableElement> omasTablesUpdated = jdbc.getTables(catalog, schemaDisplayName).parallelStream()
+            List<JdbcTable> jdbcTables = jdbc.getTables(catalog, schemaDisplayName).stream()
                     .filter(table -> transferCustomizations.shouldTransferTable(table.getTableName()))
-                    .map(new TableTransfer(omas, auditLog, omasTables, schemaQualifiedName, schemaGuid))
                     .toList();
+            List<DatabaseTableElement> omasTablesUpdated = transferInParallel(jdbcTables,
+                    new TableTransfer(omas, auditLog, omasTables, schemaQualifiedName, schemaGuid));
 
             // will remove all updated tables, and what remains are the ones deleted in jdbc
             omasTables.removeAll(omasTablesUpdated);
             // remove from omas the tables deleted in jdbc
             omasTables.forEach(omas::removeTable);
-        }).collect(Collectors.toList());
+        });
 
         String excludedTables = transferCustomizations.getExcludedTables();
         if(StringUtils.isNotEmpty(excludedTables)) {
@@ -321,9 +346,9 @@ public class JdbcMetadataTransfer
     private void transferViews(DatabaseElement databaseElement, List<DatabaseSchemaElement> schemas){
         long start = System.currentTimeMillis();
 
-        schemas.parallelStream()
+        schemas.stream()
                 .filter(schema -> transferCustomizations.shouldTransferSchema(schema.getDatabaseSchemaProperties().getName()))
-                .peek(schema -> {
+                .forEach(schema -> {
                     String schemaDisplayName = schema.getDatabaseSchemaProperties().getName();
                     String schemaGuid = schema.getElementHeader().getGUID();
                     String schemaQualifiedName = schema.getDatabaseSchemaProperties().getQualifiedName();
@@ -331,16 +356,17 @@ public class JdbcMetadataTransfer
                     // already known views by the omas, previously transferred
                     List<DatabaseViewElement> omasViews = omas.getViews(schemaGuid);
                     // a view update will always occur as long as the view is returned by jdbc
-                    List<DatabaseViewElement> omasViewsUpdated = jdbc.getViews(catalog, schemaDisplayName).parallelStream()
+                    List<JdbcTable> jdbcViews = jdbc.getViews(catalog, schemaDisplayName).stream()
                             .filter(jdbcView -> transferCustomizations.shouldTransferTable(jdbcView.getTableName()))
-                            .map(new ViewTransfer(omas, auditLog, omasViews, schemaQualifiedName, schemaGuid))
                             .toList();
+                    List<DatabaseViewElement> omasViewsUpdated = transferInParallel(jdbcViews,
+                            new ViewTransfer(omas, auditLog, omasViews, schemaQualifiedName, schemaGuid));
 
                     // will remove all updated tables, and what remains are the ones deleted in jdbc
                     omasViews.removeAll(omasViewsUpdated);
                     // remove from omas the tables deleted in jdbc
                     omasViews.forEach(omas::removeView);
-                }).collect(Collectors.toList());
+                });
 
         String excludedViews = transferCustomizations.getExcludedViews();
         if(StringUtils.isNotEmpty(excludedViews)) {
@@ -361,28 +387,20 @@ public class JdbcMetadataTransfer
     private void transferColumns(DatabaseElement databaseElement, List<DatabaseSchemaElement> schemas){
         long start = System.currentTimeMillis();
 
-         schemas.parallelStream()
-                 .filter(schema -> transferCustomizations.shouldTransferSchema(schema.getDatabaseSchemaProperties().getName()))
-                 .flatMap(s -> omas.getTables(s.getElementHeader().getGUID()).parallelStream())
-                 .filter(table -> transferCustomizations.shouldTransferTable(table.getDatabaseTableProperties().getDisplayName()))
-                 .peek(table -> {
-                     String schemaName = table.getDatabaseTableProperties().getAdditionalProperties().get(Jdbc.JDBC_SCHEMA_KEY);
-                     String tableName = table.getDatabaseTableProperties().getDisplayName();
-                     String tableGuid = table.getElementHeader().getGUID();
-
-                     List<JdbcPrimaryKey> jdbcPrimaryKeys = jdbc.getPrimaryKeys(schemaName, tableName);
-                     // already known columns by the omas, previously transferred
-                     List<DatabaseColumnElement> omasColumns = omas.getColumns(tableGuid);
-                     // a column update will always occur as long as the column is returned by jdbc
-                     List<DatabaseColumnElement> omasUpdatedColumns = jdbc.getColumns(catalog, schemaName, tableName).parallelStream()
-                             .filter(column -> transferCustomizations.shouldTransferColumn(column.getColumnName()))
-                             .map(new ColumnTransfer(omas, auditLog, omasColumns, jdbcPrimaryKeys, table)).collect(Collectors.toList());
-
-                     // will remove all updated column, and what remains are the ones deleted in jdbc
-                     omasColumns.removeAll(omasUpdatedColumns);
-                     // remove from omas the columns deleted in jdbc
-                     omasColumns.forEach(omas::removeColumn);
-                }).collect(Collectors.toList());
+        int unchangedTables = schemas.stream()
+                .filter(schema -> transferCustomizations.shouldTransferSchema(schema.getDatabaseSchemaProperties().getName()))
+                .mapToInt(schema -> {
+                    String schemaName = schema.getDatabaseSchemaProperties().getName();
+                    List<DatabaseTableElement> tables = omas.getTables(schema.getElementHeader().getGUID()).stream()
+                            .filter(table -> transferCustomizations.shouldTransferTable(table.getDatabaseTableProperties().getDisplayName()))
+                            .toList();
+                    return transferColumnsOfTables(schemaName, tables);
+                }).sum();
+
+        if(unchangedTables > 0) {
+            auditLog.logMessage(SKIPPING + COLUMNS,
+                    UNCHANGED_TABLES_SKIPPED.getMessageDefinition("" + unchangedTables));
+        }
 
         String excludedColumns = transferCustomizations.getExcludedColumns();
         if(StringUtils.isNotEmpty(excludedColumns)) {
@@ -403,23 +421,199 @@ public class JdbcMetadataTransfer
     private void transferForeignKeys(DatabaseElement databaseElement){
         long start = System.currentTimeMillis();
 
-        // all foreign keys as returned by calling getExportedKeys and getImportedKeys on jdbc
-        Set<JdbcForeignKey> foreignKeys = Stream.concat(
-                jdbc.getSchemas(catalog).stream().filter(schema -> transferCustomizations.shouldTransferSchema(schema.getTableSchem()))
-                        .flatMap(s -> jdbc.getTables(catalog, s.getTableSchem()).stream()
-                                .filter(table -> transferCustomizations.shouldTransferTable(table.getTableName())))
-                        .flatMap(t -> jdbc.getImportedKeys(catalog, t.getTableSchem(), t.getTableName()).stream()),
-                jdbc.getSchemas(catalog).stream().filter(schema -> transferCustomizations.shouldTransferSchema(schema.getTableSchem()))
-                        .flatMap(s -> jdbc.getTables(catalog, s.getTableSchem()).stream()
-                                .filter(table -> transferCustomizations.shouldTransferTable(table.getTableName())))
-                        .flatMap(t -> jdbc.getExportedKeys(catalog, t.getTableSchem(), t.getTableName()).stream())
-        ).collect(Collectors.toSet());
-
-        foreignKeys.forEach(new ForeignKeyTransfer(omas, auditLog, databaseElement));
+        // all foreign keys of the tables in the transferred schemas
+        Set<JdbcForeignKey> foreignKeys = jdbc.getSchemas(catalog).stream()
+                .filter(schema -> transferCustomizations.shouldTransferSchema(schema.getTableSchem()))
+                .flatMap(s -> getForeignKeys(s.getTableSchem(), jdbc.getTables(catalog, s.getTableSchem()).stream()
+                        .filter(table -> transferCustomizations.shouldTransferTable(table.getTableName()))
+                        .toList()).stream())
+                .collect(Collectors.toSet());
+
+        transferForeignKeys(databaseElement, foreignKeys);
 
         long end = System.currentTimeMillis();
         auditLog.logMessage("Foreign key transfer complete",
                 PARTIAL_TRANSFER_COMPLETE_FOR_DB_OBJECTS.getMessageDefinition("foreign keys", "" + (end - start)/1000));
     }
 
+    /**
+     * Transfers the columns of the tables of a schema. The columns and primary keys of all the tables are read from
+     * jdbc at once if the driver supports it, otherwise table by table. The columns of a table are only transferred if
+     * they, or its primary keys, have changed since the previous refresh
+     *
+     * @param schemaName schema name, empty for tables without schema
+     * @param tables tables of the schema
+     *
+     * @return number of tables skipped because they have not changed
+     */
+    private int transferColumnsOfTables(String schemaName, List<DatabaseTableElement> tables){
+        if(tables.isEmpty()) {
+            return 0;
+        }
+
+        Map<String, List<JdbcColumn>> schemaColumns = groupByTable(jdbc.getSchemaColumns(catalog, schemaName),
+                schemaName, JdbcColumn::getTableSchem, JdbcColumn::getTableName);
+        Map<String, List<JdbcPrimaryKey>> schemaPrimaryKeys = groupByTable(jdbc.getSchemaPrimaryKeys(schemaName),
+                schemaName, JdbcPrimaryKey::getTableSchem, JdbcPrimaryKey::getTableName);
+
+        List<Boolean> transferred = transferInParallel(tables,
+                table -> transferColumnsOfTable(schemaName, table, schemaColumns, schemaPrimaryKeys));
+
+        return (int) transferred.stream().filter(t -> !t).count();
+    }
+
+    /**
+     * Transfers the columns of a table if they have changed since the previous refresh
+     *
+     * @param schemaName schema name, empty for tables without schema
+     * @param table table
+     * @param schemaColumns columns of all tables in the schema, or null to read them for this table only
+     * @param schemaPrimaryKeys primary keys of all tables in the schema, or null to read them for this table only
+     *
+     * @return true if the columns were transferred, false if they have not changed
+     */
+    private boolean transferColumnsOfTable(String schemaName, DatabaseTableElement table,
+                                           Map<String, List<JdbcColumn>> schemaColumns,
+                                           Map<String, List<JdbcPrimaryKey>> schemaPrimaryKeys){
+        String tableName = table.getDatabaseTableProperties().getDisplayName();
+        String tableGuid = table.getElementHeader().getGUID();
+        String tableKey = TransferFingerprints.tableKey(schemaName, tableName);
+
+        List<JdbcPrimaryKey> jdbcPrimaryKeys = schemaPrimaryKeys == null ? jdbc.getPrimaryKeys(schemaName, tableName)
+                : schemaPrimaryKeys.getOrDefault(tableName, new ArrayList<>());
+        List<JdbcColumn> jdbcColumns = (schemaColumns == null ? jdbc.getColumns(catalog, schemaName, tableName)
+                : schemaColumns.getOrDefault(tableName, new ArrayList<>())).stream()
+                .filter(column -> transferCustomizations.shouldTransferColumn(column.getColumnName()))
+                .toList();
+
+        int fingerprint = TransferFingerprints.fingerprint(tableGuid, jdbcColumns, jdbcPrimaryKeys);
+        if(!transferFingerprints.hasChanged(tableKey, fingerprint)) {
+            return false;
+        }
+        changedTables.add(tableKey);
+
+        // already known columns by the omas, previously transferred
+        List<DatabaseColumnElement> omasColumns = omas.getColumns(tableGuid);
+        // a column update will always occur as long as the column is returned by jdbc
+        List<DatabaseColumnElement> omasUpdatedColumns = jdbcColumns.stream()
+                .map(new ColumnTransfer(omas, auditLog, omasColumns, jdbcPrimaryKeys, table)).toList();
+
+        // will remove all updated column, and what remains are the ones deleted in jdbc
+        omasColumns.removeAll(omasUpdatedColumns);
+        // remove from omas the columns deleted in jdbc
+        omasColumns.forEach(omas::removeColumn);
+
+        transferFingerprints.recordTable(tableKey, fingerprint);
+        return true;
+    }
+
+    /**
+     * Collects the foreign keys of the given tables of a schema. They are read from jdbc for the whole schema at once
+     * if the driver supports it, otherwise table by table
+     *
+     * @param schemaName schema name, empty for tables without schema
+     * @param tables tables of the schema
+     *
+     * @return foreign keys
+     */
+    private Set<JdbcForeignKey> getForeignKeys(String schemaName, List<JdbcTable> tables){
+        if(tables.isEmpty()) {
+            return Set.of();
+        }
+
+        List<JdbcForeignKey> schemaImportedKeys = jdbc.getSchemaImportedKeys(catalog, schemaName);
+        if(schemaImportedKeys != null) {
+            Set<String> tableNames = tables.stream().map(JdbcTable::getTableName).collect(Collectors.toSet());
+            return schemaImportedKeys.stream()
+                    .filter(fk -> schemaName.equals(Objects.toString(fk.getFkTableSchem(), "")))
+                    .filter(fk -> tableNames.contains(fk.getFkTableName()))
+                    .collect(Collectors.toSet());
+        }
+
+        // all foreign keys as returned by calling getExportedKeys and getImportedKeys on jdbc
+        return Stream.concat(
+                tables.stream().flatMap(t -> jdbc.getImportedKeys(catalog, schemaName, t.getTableName()).stream()),
+                tables.stream().flatMap(t -> jdbc.getExportedKeys(catalog, schemaName, t.getTableName()).stream()))
+                .collect(Collectors.toSet());
+    }
+
+    /**
+     * Transfers the foreign keys that are new, or that link a table whose columns have been transferred by this
+     * refresh (since a column update removes its foreign key). A foreign key is only remembered as transferred once
+     * the columns of the tables at both of its ends have been transferred
+     *
+     * @param databaseElement database element
+     * @param foreignKeys foreign keys
+     */
+    private void transferForeignKeys(DatabaseElement databaseElement, Set<JdbcForeignKey> foreignKeys){
+        List<JdbcForeignKey> foreignKeysToTransfer = foreignKeys.stream()
+                .filter(fk -> !transferFingerprints.isKnownForeignKey(fk)
+                        || changedTables.contains(TransferFingerprints.tableKey(fk.getFkTableSchem(), fk.getFkTableName()))
+                        || changedTables.contains(TransferFingerprints.tableKey(fk.getPkTableSchem(), fk.getPkTableName())))
+                .toList();
+
+        ForeignKeyTransfer foreignKeyTransfer = new ForeignKeyTransfer(omas, auditLog, databaseElement);
+        transferInParallel(foreignKeysToTransfer, fk -> {
+            foreignKeyTransfer.accept(fk);
+            return fk;
+        });
+
+        transferFingerprints.recordForeignKeys(foreignKeys.stream()
+                .filter(fk -> transferFingerprints.isTransferred(TransferFingerprints.tableKey(fk.getFkTableSchem(), fk.getFkTableName())))
+                .filter(fk -> transferFingerprints.isTransferred(TransferFingerprints.tableKey(fk.getPkTableSchem(), fk.getPkTableName())))
+                .collect(Collectors.toSet()));
+    }
+
+    /**
+     * Groups the metadata read from jdbc for a whole schema by table name. Elements of other schemas with a name
+     * matching the schema pattern are ignored
+     *
+     * @param elements metadata of the schema, or null if it could not be read for the whole schema
+     * @param schemaName schema name, empty for tables without schema
+     * @param schemaOf returns the schema name of an element
+     * @param tableOf returns the table name of an element
+     *
+     * @return elements by table name, or null if the elements could not be read for the whole schema
+     */
+    private <T> Map<String, List<T>> groupByTable(List<T> elements, String schemaName,
+                                                  Function<T, String> schemaOf, Function<T, String> tableOf){
+        if(elements == null) {
+            return null;
+        }
+        return elements.stream()
+                .filter(element -> schemaName.equals(Objects.toString(schemaOf.apply(element), "")))
+                .collect(Collectors.groupingBy(tableOf));
+    }
+
+    /**
+     * Applies a transfer to each element on the threads of the transfer executor, waiting for all of them to complete
+     *
+     * @param elements elements to transfer
+     * @param transfer transfer to apply to each element
+     *
+     * @return results of the transfer, in the order of the elements
+     */
+    private <T, R> List<R> transferInParallel(Collection<T> elements, Function<T, R> transfer){
+        List<Future<R>> futures = new ArrayList<>();
+        elements.forEach(element -> futures.add(transferExecutor.submit(() -> transfer.apply(element))));
+
+        List<R> results = new ArrayList<>();
+        try {
+            for (Future<R> future : futures) {
+                results.add(future.get());
+            }
+        } catch (InterruptedException e) {
+            futures.forEach(future -> future.cancel(true));
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted while transferring metadata", e);
+        } catch (ExecutionException e) {
+            futures.forEach(future -> future.cancel(true));
+            if (e.getCause() instanceof RuntimeException runtimeException) {
+                throw runtimeException;
+            }
+            throw new IllegalStateException(e.getCause());
+        }
+        return results;
+    }
+
 }
@@ -0,0 +1,119 @@
+/* SPDX-License-Identifier: Apache-2.0 */
+/* Copyright Contributors to the ODPi Egeria project. */
+package org.odpi.openmetadata.adapters.connectors.integration.jdbc.transfer;
+
+import org.odpi.openmetadata.adapters.connectors.integration.jdbc.transfer.model.JdbcColumn;
+import org.odpi.openmetadata.adapters.connectors.integration.jdbc.transfer.model.JdbcForeignKey;
+import org.odpi.openmetadata.adapters.connectors.integration.jdbc.transfer.model.JdbcPrimaryKey;
+
+import java.util.Comparator;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Remembers what was transferred for a database during the previous refresh so that the columns of tables that have
+ * not changed, and the foreign keys between them, are not sent to the open metadata ecosystem again. The fingerprints
+ * are held in memory, so the first refresh after the connector starts transfers everything.
+ */
+public class TransferFingerprints {
+
+    private final Map<String, Integer> tableFingerprints = new ConcurrentHashMap<>();
+    private final Set<JdbcForeignKey> transferredForeignKeys = ConcurrentHashMap.newKeySet();
+    private final Set<JdbcForeignKey> currentForeignKeys = ConcurrentHashMap.newKeySet();
+
+    /**
+     * Build the key that identifies a table in the fingerprints
+     *
+     * @param schemaName schema name, null or empty for tables without schema
+     * @param tableName table name
+     *
+     * @return key
+     */
+    public static String tableKey(String schemaName, String tableName) {
+        return Objects.toString(schemaName, "") + "::" + tableName;
+    }
+
+    /**
+     * Calculate the fingerprint of a table from the guid of its element and its columns and primary keys as
+     * returned by jdbc
+     *
+     * @param tableGuid guid of the table element
+     * @param columns columns of the table that are to be transferred
+     * @param primaryKeys primary keys of the table
+     *
+     * @return fingerprint
+     */
+    public static int fingerprint(String tableGuid, List<JdbcColumn> columns, List<JdbcPrimaryKey> primaryKeys) {
+        return Objects.hash(tableGuid, columns.stream().sorted(Comparator.comparingInt(JdbcColumn::getOrdinalPosition)).toList(),
+                primaryKeys.stream().sorted(Comparator.comparingInt(JdbcPrimaryKey::getKeySeq)).toList());
+    }
+
+    /**
+     * Check whether a table's columns have changed since they were last transferred
+     *
+     * @param tableKey key of the table
+     * @param fingerprint current fingerprint of the table
+     *
+     * @return true if the columns have not been transferred with this fingerprint
+     */
+    public boolean hasChanged(String tableKey, int fingerprint) {
+        Integer previous = tableFingerprints.get(tableKey);
+        return previous == null || previous != fingerprint;
+    }
+
+    /**
+     * Record the fingerprint of a table whose columns have been transferred
+     *
+     * @param tableKey key of the table
+     * @param fingerprint fingerprint of the table
+     */
+    public void recordTable(String tableKey, int fingerprint) {
+        tableFingerprints.put(tableKey, fingerprint);
+    }
+
+    /**
+     * Check whether the columns of a table have been transferred
+     *
+     * @param tableKey key of the table
+     *
+     * @return true if transferred by this or a previous refresh
+     */
+    public boolean isTransferred(String tableKey) {
+        return tableFingerprints.containsKey(tableKey);
+    }
+
+    /**
+     * Check whether a foreign key was transferred by the previous refresh
+     *
+     * @param foreignKey foreign key
+     *
+     * @return true if previously transferred
+     */
+    public boolean isKnownForeignKey(JdbcForeignKey foreignKey) {
+        return transferredForeignKeys.contains(foreignKey);
+    }
+
+    /**
+     * Record the foreign keys transferred by the current refresh
+     *
+     * @param foreignKeys foreign keys
+     */
+    public void recordForeignKeys(Set<JdbcForeignKey> foreignKeys) {
+        currentForeignKeys.addAll(foreignKeys);
+    }
+
+    /**
+     * Make the foreign keys transferred by the current refresh the ones known to the next refresh
+     */
+    public void completeRefresh() {
+        Set<JdbcForeignKey> foreignKeys = new HashSet<>(currentForeignKeys);
+        transferredForeignKeys.clear();
+        transferredForeignKeys.addAll(foreignKeys);
+        currentForeignKeys.clear();
+    }
+
+}
@@ -149,6 +149,42 @@ public class Jdbc {
         return new JdbcGetColumns(jdbcMetadata, auditLog).apply(catalog, schemaName, tableName);
     }
 
+    /**
+     * Get the columns of all tables of a schema
+     *
+     * @param catalog catalog
+     * @param schemaName schema name
+     *
+     * @return columns or null if they cannot be retrieved in one call
+     */
+    public List<JdbcColumn> getSchemaColumns(String catalog, String schemaName){
+        return new JdbcGetSchemaColumns(jdbcMetadata, auditLog).apply(catalog, schemaName);
+    }
+
+    /**
+     * Get the primary keys of all tables of a schema
+     *
+     * @param schemaName schema name
+     *
+     * @return primary keys or null if they cannot be retrieved in one call
+     */
+    public List<JdbcPrimaryKey> getSchemaPrimaryKeys(String schemaName){
+        return new JdbcGetSchemaPrimaryKeys(jdbcMetadata, auditLog).apply(null, schemaName);
+    }
+
+    /**
+     * Get the foreign keys of all tables of a schema, as described by the primary key columns referenced by their
+     * foreign key columns
+     *
+     * @param catalog catalog
+     * @param schemaName schema name
+     *
+     * @return foreign keys or null if they cannot be retrieved in one call
+     */
+    public List<JdbcForeignKey> getSchemaImportedKeys(String catalog, String schemaName){
+        return new JdbcGetSchemaImportedKeys(jdbcMetadata, auditLog).apply(catalog, schemaName);
+    }
+
     /**
      * Get all schemas
      *
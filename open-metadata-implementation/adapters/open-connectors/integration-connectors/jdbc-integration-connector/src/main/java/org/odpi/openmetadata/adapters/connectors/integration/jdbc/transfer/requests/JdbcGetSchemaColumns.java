@@ -0,0 +1,53 @@
+/* SPDX-License-Identifier: Apache-2.0 */
+/* Copyright Contributors to the ODPi Egeria project. */
+package org.odpi.openmetadata.adapters.connectors.integration.jdbc.transfer.requests;
+
+import org.odpi.openmetadata.adapters.connectors.integration.jdbc.transfer.JdbcMetadata;
+import org.odpi.openmetadata.adapters.connectors.integration.jdbc.transfer.model.JdbcColumn;
+import org.odpi.openmetadata.frameworks.auditlog.AuditLog;
+
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.function.BiFunction;
+
+import static org.odpi.openmetadata.adapters.connectors.integration.jdbc.ffdc.JDBCIntegrationConnectorAuditCode.SCHEMA_WIDE_METADATA_NOT_SUPPORTED;
+
+/**
+ * Manages the getColumns call to jdbc for all tables of a schema at once
+ */
+class JdbcGetSchemaColumns implements BiFunction<String, String, List<JdbcColumn>> {
+
+    private final JdbcMetadata jdbcMetadata;
+    private final AuditLog auditLog;
+
+    JdbcGetSchemaColumns(JdbcMetadata jdbcMetadata, AuditLog auditLog) {
+        this.jdbcMetadata = jdbcMetadata;
+        this.auditLog = auditLog;
+    }
+
+    /**
+     * Get columns of all tables in a schema
+     *
+     * @param catalog catalog
+     * @param schemaName schema name
+     *
+     * @return columns or null if the driver does not support retrieving them for all tables at once
+     *
+     * See {@link JdbcMetadata#getColumns(String, String, String, String)}
+     */
+    @Override
+    public List<JdbcColumn> apply(String catalog, String schemaName) {
+        String methodName = "JdbcGetSchemaColumns";
+        try {
+            return Optional.ofNullable(
+                    jdbcMetadata.getColumns(catalog, schemaName, "%", "%"))
+                    .orElseGet(ArrayList::new);
+        } catch (SQLException sqlException) {
+            auditLog.logMessage("Reading columns from JDBC for schema " + schemaName,
+                    SCHEMA_WIDE_METADATA_NOT_SUPPORTED.getMessageDefinition("columns", schemaName, sqlException.getMessage()));
+        }
+        return null;
+    }
+}
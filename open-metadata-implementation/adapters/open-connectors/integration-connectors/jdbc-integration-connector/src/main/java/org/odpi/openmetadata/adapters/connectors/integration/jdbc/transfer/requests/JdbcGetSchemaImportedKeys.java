@@ -0,0 +1,53 @@
+/* SPDX-License-Identifier: Apache-2.0 */
+/* Copyright Contributors to the ODPi Egeria project. */
+package org.odpi.openmetadata.adapters.connectors.integration.jdbc.transfer.requests;
+
+import org.odpi.openmetadata.adapters.connectors.integration.jdbc.transfer.JdbcMetadata;
+import org.odpi.openmetadata.adapters.connectors.integration.jdbc.transfer.model.JdbcForeignKey;
+import org.odpi.openmetadata.frameworks.auditlog.AuditLog;
+
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.function.BiFunction;
+
+import static org.odpi.openmetadata.adapters.connectors.integration.jdbc.ffdc.JDBCIntegrationConnectorAuditCode.SCHEMA_WIDE_METADATA_NOT_SUPPORTED;
+
+/**
+ * Manages the getImportedKeys call to jdbc for all tables of a schema at once
+ */
+class JdbcGetSchemaImportedKeys implements BiFunction<String, String, List<JdbcForeignKey>> {
+
+    private final JdbcMetadata jdbcMetadata;
+    private final AuditLog auditLog;
+
+    JdbcGetSchemaImportedKeys(JdbcMetadata jdbcMetadata, AuditLog auditLog) {
+        this.jdbcMetadata = jdbcMetadata;
+        this.auditLog = auditLog;
+    }
+
+    /**
+     * Get imported keys of all tables in a schema
+     *
+     * @param catalog catalog
+     * @param schemaName schema name
+     *
+     * @return imported keys or null if the driver does not support retrieving them for all tables at once
+     *
+     * See {@link JdbcMetadata#getImportedKeys(String, String, String)}
+     */
+    @Override
+    public List<JdbcForeignKey> apply(String catalog, String schemaName) {
+        String methodName = "JdbcGetSchemaImportedKeys";
+        try {
+            return Optional.ofNullable(
+                    jdbcMetadata.getImportedKeys(catalog, schemaName, null))
+                    .orElseGet(ArrayList::new);
+        } catch (SQLException sqlException) {
+            auditLog.logMessage("Reading imported keys from JDBC for schema " + schemaName,
+                    SCHEMA_WIDE_METADATA_NOT_SUPPORTED.getMessageDefinition("imported keys", schemaName, sqlException.getMessage()));
+        }
+        return null;
+    }
+}
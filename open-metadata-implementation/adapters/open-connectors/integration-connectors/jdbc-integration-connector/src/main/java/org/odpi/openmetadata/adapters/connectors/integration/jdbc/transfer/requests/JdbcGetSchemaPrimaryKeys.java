@@ -0,0 +1,53 @@
+/* SPDX-License-Identifier: Apache-2.0 */
+/* Copyright Contributors to the ODPi Egeria project. */
+package org.odpi.openmetadata.adapters.connectors.integration.jdbc.transfer.requests;
+
+import org.odpi.openmetadata.adapters.connectors.integration.jdbc.transfer.JdbcMetadata;
+import org.odpi.openmetadata.adapters.connectors.integration.jdbc.transfer.model.JdbcPrimaryKey;
+import org.odpi.openmetadata.frameworks.auditlog.AuditLog;
+
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.function.BiFunction;
+
+import static org.odpi.openmetadata.adapters.connectors.integration.jdbc.ffdc.JDBCIntegrationConnectorAuditCode.SCHEMA_WIDE_METADATA_NOT_SUPPORTED;
+
+/**
+ * Manages the getPrimaryKeys call to jdbc for all tables of a schema at once
+ */
+class JdbcGetSchemaPrimaryKeys implements BiFunction<String, String, List<JdbcPrimaryKey>> {
+
+    private final JdbcMetadata jdbcMetadata;
+    private final AuditLog auditLog;
+
+    JdbcGetSchemaPrimaryKeys(JdbcMetadata jdbcMetadata, AuditLog auditLog) {
+        this.jdbcMetadata = jdbcMetadata;
+        this.auditLog = auditLog;
+    }
+
+    /**
+     * Get primary keys of all tables in a schema
+     *
+     * @param catalog catalog
+     * @param schemaName schema name
+     *
+     * @return primary keys or null if the driver does not support retrieving them for all tables at once
+     *
+     * See {@link JdbcMetadata#getPrimaryKeys(String, String, String)}
+     */
+    @Override
+    public List<JdbcPrimaryKey> apply(String catalog, String schemaName) {
+        String methodName = "JdbcGetSchemaPrimaryKeys";
+        try {
+            return Optional.ofNullable(
+                    jdbcMetadata.getPrimaryKeys(null, schemaName, null))
+                    .orElseGet(ArrayList::new);
+        } catch (SQLException sqlException) {
+            auditLog.logMessage("Reading primary keys from JDBC for schema " + schemaName,
+                    SCHEMA_WIDE_METADATA_NOT_SUPPORTED.getMessageDefinition("primary keys", schemaName, sqlException.getMessage()));
+        }
+        return null;
+    }
+}
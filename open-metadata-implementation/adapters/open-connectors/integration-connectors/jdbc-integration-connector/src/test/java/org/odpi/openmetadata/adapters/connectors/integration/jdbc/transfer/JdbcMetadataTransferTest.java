@@ -0,0 +1,716 @@
+/* SPDX-License-Identifier: Apache-2.0 */
+/* Copyright Contributors to the ODPi Egeria project. */
+package org.odpi.openmetadata.adapters.connectors.integration.jdbc.transfer;
+
+import org.odpi.openmetadata.adapters.connectors.integration.jdbc.ffdc.JDBCIntegrationConnectorAuditCode;
+import org.odpi.openmetadata.adapters.connectors.integration.jdbc.transfer.customization.TransferCustomizations;
+import org.odpi.openmetadata.frameworks.auditlog.AuditLog;
+import org.odpi.openmetadata.frameworks.auditlog.AuditLogDestination;
+import org.odpi.openmetadata.frameworks.auditlog.AuditLogRecord;
+import org.odpi.openmetadata.frameworks.auditlog.ComponentDevelopmentStatus;
+import org.odpi.openmetadata.frameworks.openmetadata.metadataelements.DatabaseColumnElement;
+import org.odpi.openmetadata.frameworks.openmetadata.metadataelements.DatabaseElement;
+import org.odpi.openmetadata.frameworks.openmetadata.metadataelements.DatabaseSchemaElement;
+import org.odpi.openmetadata.frameworks.openmetadata.metadataelements.DatabaseTableElement;
+import org.odpi.openmetadata.frameworks.openmetadata.metadataelements.DatabaseViewElement;
+import org.odpi.openmetadata.frameworks.openmetadata.metadataelements.ElementHeader;
+import org.odpi.openmetadata.frameworks.openmetadata.properties.assets.databases.DatabaseProperties;
+import org.odpi.openmetadata.frameworks.openmetadata.properties.assets.databases.DatabaseSchemaProperties;
+import org.odpi.openmetadata.frameworks.openmetadata.properties.schema.databases.DatabaseColumnProperties;
+import org.odpi.openmetadata.frameworks.openmetadata.properties.schema.databases.DatabaseForeignKeyProperties;
+import org.odpi.openmetadata.frameworks.openmetadata.properties.schema.databases.DatabasePrimaryKeyProperties;
+import org.odpi.openmetadata.frameworks.openmetadata.properties.schema.databases.DatabaseTableProperties;
+import org.odpi.openmetadata.integrationservices.database.connector.DatabaseIntegratorContext;
+import org.testng.annotations.AfterMethod;
+import org.testng.annotations.BeforeMethod;
+import org.testng.annotations.Test;
+
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeSet;
+
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertFalse;
+import static org.testng.Assert.assertNotNull;
+import static org.testng.Assert.assertTrue;
+
+
+/**
+ * Verify that the metadata transfer only sends the columns of the tables that have changed since the previous
+ * refresh.  The tables are held in an in-memory H2 database and the open metadata ecosystem is simulated by a
+ * database integrator context that keeps the catalogued elements in memory.
+ */
+public class JdbcMetadataTransferTest
+{
+    private static final String databaseURL           = "jdbc:h2:mem:transferTest";
+    private static final String databaseQualifiedName = "H2::transferTest";
+    private static final String schemaName            = "SALES";
+    private static final String tableQualifiedName    = databaseQualifiedName + "::" + schemaName + "::";
+
+    private Connection           connection           = null;
+    private TestDatabaseContext  databaseContext      = null;
+    private TransferFingerprints transferFingerprints = null;
+    private AuditLog             auditLog             = null;
+    private final List<String>   messageIds           = Collections.synchronizedList(new ArrayList<>());
+
+
+    /**
+     * Create the tables of the SALES schema and an empty catalog.
+     *
+     * @throws Exception unable to create the database
+     */
+    @BeforeMethod
+    public void setUp() throws Exception
+    {
+        connection = DriverManager.getConnection(databaseURL);
+
+        this.executeSQL("CREATE SCHEMA SALES");
+        this.executeSQL("CREATE TABLE SALES.CUSTOMER (ID INT PRIMARY KEY, NAME VARCHAR(100))");
+        this.executeSQL("CREATE TABLE SALES.ORDERS (ID INT PRIMARY KEY, CUSTOMER_ID INT, " +
+                                "CONSTRAINT FK_CUSTOMER FOREIGN KEY (CUSTOMER_ID) REFERENCES SALES.CUSTOMER (ID))");
+        this.executeSQL("CREATE TABLE SALES.PRODUCT (ID INT PRIMARY KEY, NAME VARCHAR(100))");
+
+        messageIds.clear();
+
+        auditLog = new AuditLog(new TestAuditLogDestination(),
+                                1,
+                                ComponentDevelopmentStatus.IN_DEVELOPMENT,
+                                "testComponent",
+                                "test",
+                                null);
+
+        databaseContext      = new TestDatabaseContext(auditLog);
+        transferFingerprints = new TransferFingerprints();
+    }
+
+
+    /**
+     * Close the connection, which drops the in-memory database.
+     *
+     * @throws Exception unable to close the connection
+     */
+    @AfterMethod
+    public void tearDown() throws Exception
+    {
+        if (connection != null)
+        {
+            connection.close();
+            connection = null;
+        }
+    }
+
+
+    /**
+     * The first refresh catalogues every column, primary key and foreign key.
+     */
+    @Test
+    public void testFirstRefresh()
+    {
+        this.transfer();
+
+        assertEquals(databaseContext.getCataloguedColumnNames(), Set.of(tableQualifiedName + "CUSTOMER::ID",
+                                                                        tableQualifiedName + "CUSTOMER::NAME",
+                                                                        tableQualifiedName + "ORDERS::ID",
+                                                                        tableQualifiedName + "ORDERS::CUSTOMER_ID",
+                                                                        tableQualifiedName + "PRODUCT::ID",
+                                                                        tableQualifiedName + "PRODUCT::NAME"));
+        assertEquals(databaseContext.createdColumns.size(), 6);
+        assertTrue(databaseContext.updatedColumns.isEmpty());
+        assertEquals(databaseContext.getPrimaryKeyColumnNames(), Set.of(tableQualifiedName + "CUSTOMER::ID",
+                                                                        tableQualifiedName + "ORDERS::ID",
+                                                                        tableQualifiedName + "PRODUCT::ID"));
+        assertEquals(databaseContext.foreignKeys, List.of(tableQualifiedName + "CUSTOMER::ID -> " +
+                                                                  tableQualifiedName + "ORDERS::CUSTOMER_ID"));
+        assertFalse(messageIds.contains(JDBCIntegrationConnectorAuditCode.UNCHANGED_TABLES_SKIPPED.getMessageDefinition().getMessageId()));
+    }
+
+
+    /**
+     * A second refresh of an unchanged database sends no columns or foreign keys.
+     */
+    @Test
+    public void testUnchangedRefresh()
+    {
+        this.transfer();
+        databaseContext.clearChanges();
+        messageIds.clear();
+
+        this.transfer();
+
+        assertTrue(databaseContext.createdColumns.isEmpty());
+        assertTrue(databaseContext.updatedColumns.isEmpty());
+        assertTrue(databaseContext.removedColumns.isEmpty());
+        assertTrue(databaseContext.foreignKeys.isEmpty());
+        assertEquals(databaseContext.getCataloguedColumnNames().size(), 6);
+        assertTrue(messageIds.contains(JDBCIntegrationConnectorAuditCode.UNCHANGED_TABLES_SKIPPED.getMessageDefinition().getMessageId()));
+    }
+
+
+    /**
+     * Only the columns of the table that has gained a column are sent again.
+     *
+     * @throws Exception unable to change the table
+     */
+    @Test
+    public void testColumnAdded() throws Exception
+    {
+        this.transfer();
+        databaseContext.clearChanges();
+
+        this.executeSQL("ALTER TABLE SALES.PRODUCT ADD COLUMN PRICE DECIMAL(10, 2)");
+
+        this.transfer();
+
+        assertEquals(databaseContext.createdColumns, List.of(tableQualifiedName + "PRODUCT::PRICE"));
+        assertEquals(new TreeSet<>(databaseContext.updatedColumns), Set.of(tableQualifiedName + "PRODUCT::ID",
+                                                                           tableQualifiedName + "PRODUCT::NAME"));
+        assertTrue(databaseContext.removedColumns.isEmpty());
+        assertTrue(databaseContext.foreignKeys.isEmpty());
+    }
+
+
+    /**
+     * A dropped column is removed, and the foreign key of the changed table is sent again since updating its
+     * columns removes it.
+     *
+     * @throws Exception unable to change the table
+     */
+    @Test
+    public void testColumnDropped() throws Exception
+    {
+        this.transfer();
+        databaseContext.clearChanges();
+
+        this.executeSQL("ALTER TABLE SALES.CUSTOMER DROP COLUMN NAME");
+
+        this.transfer();
+
+        assertTrue(databaseContext.createdColumns.isEmpty());
+        assertEquals(databaseContext.updatedColumns, List.of(tableQualifiedName + "CUSTOMER::ID"));
+        assertEquals(databaseContext.removedColumns, List.of(tableQualifiedName + "CUSTOMER::NAME"));
+        assertEquals(databaseContext.foreignKeys, List.of(tableQualifiedName + "CUSTOMER::ID -> " +
+                                                                  tableQualifiedName + "ORDERS::CUSTOMER_ID"));
+    }
+
+
+    /**
+     * Run a refresh of the SALES schema.
+     */
+    private void transfer()
+    {
+        try
+        {
+            JdbcMetadataTransfer transfer = new JdbcMetadataTransfer(new JdbcMetadata(connection.getMetaData()),
+                                                                     databaseContext,
+                                                                     this.getDatabaseElement(),
+                                                                     databaseURL,
+                                                                     null,
+                                                                     new TransferCustomizations(Map.of(TransferCustomizations.INCLUDE_SCHEMA_NAMES, schemaName)),
+                                                                     transferFingerprints,
+                                                                     2,
+                                                                     auditLog);
+            transfer.execute();
+        }
+        catch (SQLException error)
+        {
+            throw new IllegalStateException(error);
+        }
+    }
+
+
+    /**
+     * Return the catalogued database that the transfer adds the schemas to.
+     *
+     * @return database element
+     */
+    private DatabaseElement getDatabaseElement()
+    {
+        ElementHeader      elementHeader      = new ElementHeader();
+        DatabaseProperties databaseProperties = new DatabaseProperties();
+        DatabaseElement    databaseElement    = new DatabaseElement();
+
+        elementHeader.setGUID(TestDatabaseContext.databaseGUID);
+        databaseProperties.setQualifiedName(databaseQualifiedName);
+        databaseProperties.setDatabaseImportedFrom(databaseURL);
+
+        databaseElement.setElementHeader(elementHeader);
+        databaseElement.setDatabaseProperties(databaseProperties);
+
+        return databaseElement;
+    }
+
+
+    /**
+     * Run an SQL statement against the test database.
+     *
+     * @param sql statement
+     * @throws SQLException the statement failed
+     */
+    private void executeSQL(String sql) throws SQLException
+    {
+        try (Statement statement = connection.createStatement())
+        {
+            statement.execute(sql);
+        }
+    }
+
+
+    /**
+     * Audit log destination that records the identifiers of the logged messages.
+     */
+    private class TestAuditLogDestination extends AuditLogDestination
+    {
+        /**
+         * Record the message identifier.
+         *
+         * @param logRecord log record
+         */
+        @Override
+        public void addLogRecord(AuditLogRecord logRecord)
+        {
+            messageIds.add(logRecord.getMessageId());
+        }
+    }
+
+
+    /**
+     * Database integrator context that keeps the catalogued schemas, tables and columns in memory and records the
+     * changes made to the columns and foreign keys.  The transfer calls it from several threads.
+     */
+    private static class TestDatabaseContext extends DatabaseIntegratorContext
+    {
+        static final String databaseGUID = "database-guid";
+
+        private final Map<String, DatabaseSchemaElement> schemas      = new LinkedHashMap<>();
+        private final Map<String, DatabaseTableElement>  tables       = new LinkedHashMap<>();
+        private final Map<String, DatabaseColumnElement> columns      = new LinkedHashMap<>();
+        private final Map<String, String>                parentGUIDs  = new HashMap<>();
+        private int                                      nextGUID     = 1;
+
+        final List<String> createdColumns = Collections.synchronizedList(new ArrayList<>());
+        final List<String> updatedColumns = Collections.synchronizedList(new ArrayList<>());
+        final List<String> removedColumns = Collections.synchronizedList(new ArrayList<>());
+        final List<String> foreignKeys    = Collections.synchronizedList(new ArrayList<>());
+
+
+        /**
+         * Constructor.
+         *
+         * @param auditLog audit log
+         */
+        TestDatabaseContext(AuditLog auditLog)
+        {
+            super("testConnector",
+                  "Test JDBC Connector",
+                  "testUser",
+                  "testServer",
+                  null,
+                  null,
+                  null,
+                  null,
+                  null,
+                  null,
+                  null,
+                  null,
+                  false,
+                  null,
+                  "integrationConnectorGUID",
+                  "databaseManagerGUID",
+                  "H2",
+                  auditLog,
+                  0);
+        }
+
+
+        /**
+         * Forget the changes recorded by the previous refresh.
+         */
+        synchronized void clearChanges()
+        {
+            createdColumns.clear();
+            updatedColumns.clear();
+            removedColumns.clear();
+            foreignKeys.clear();
+        }
+
+
+        /**
+         * Return the qualified names of the catalogued columns.
+         *
+         * @return set of qualified names
+         */
+        synchronized Set<String> getCataloguedColumnNames()
+        {
+            Set<String> columnNames = new TreeSet<>();
+
+            for (DatabaseColumnElement column : columns.values())
+            {
+                columnNames.add(column.getDatabaseColumnProperties().getQualifiedName());
+            }
+
+            return columnNames;
+        }
+
+
+        /**
+         * Return the qualified names of the catalogued columns that are primary keys.
+         *
+         * @return set of qualified names
+         */
+        synchronized Set<String> getPrimaryKeyColumnNames()
+        {
+            Set<String> columnNames = new TreeSet<>();
+
+            for (DatabaseColumnElement column : columns.values())
+            {
+                if (column.getPrimaryKeyProperties() != null)
+                {
+                    columnNames.add(column.getDatabaseColumnProperties().getQualifiedName());
+                }
+            }
+
+            return columnNames;
+        }
+
+
+        /**
+         * Return a header for a new element.
+         *
+         * @param parentGUID unique identifier of the element's parent
+         * @return element header
+         */
+        private ElementHeader newElementHeader(String parentGUID)
+        {
+            ElementHeader elementHeader = new ElementHeader();
+
+            elementHeader.setGUID("guid-" + nextGUID++);
+            parentGUIDs.put(elementHeader.getGUID(), parentGUID);
+
+            return elementHeader;
+        }
+
+
+        /**
+         * Return the elements that belong to a parent.
+         *
+         * @param elements catalogued elements
+         * @param parentGUID unique identifier of the parent
+         * @return list of elements
+         * @param <T> type of element
+         */
+        private <T> List<T> getChildren(Map<String, T> elements,
+                                        String         parentGUID)
+        {
+            List<T> children = new ArrayList<>();
+
+            for (String guid : elements.keySet())
+            {
+                if (parentGUID.equals(parentGUIDs.get(guid)))
+                {
+                    children.add(elements.get(guid));
+                }
+            }
+
+            return children;
+        }
+
+
+        /**
+         * Return the catalogued schemas of a database.
+         *
+         * @param databaseGUID unique identifier of the database
+         * @param startFrom paging start point
+         * @param pageSize maximum results that can be returned
+         * @return list of schemas
+         */
+        @Override
+        public synchronized List<DatabaseSchemaElement> getSchemasForDatabase(String databaseGUID,
+                                                                              int    startFrom,
+                                                                              int    pageSize)
+        {
+            return this.getChildren(schemas, databaseGUID);
+        }
+
+
+        /**
+         * Catalog a schema.
+         *
+         * @param databaseGUID unique identifier of the database
+         * @param databaseSchemaProperties properties of the schema
+         * @return unique identifier of the schema
+         */
+        @Override
+        public synchronized String createDatabaseSchema(String                   databaseGUID,
+                                                        DatabaseSchemaProperties databaseSchemaProperties)
+        {
+            DatabaseSchemaElement schema = new DatabaseSchemaElement();
+
+            schema.setElementHeader(this.newElementHeader(databaseGUID));
+            schema.setDatabaseSchemaProperties(databaseSchemaProperties);
+            schemas.put(schema.getElementHeader().getGUID(), schema);
+
+            return schema.getElementHeader().getGUID();
+        }
+
+
+        /**
+         * Update a catalogued schema.
+         *
+         * @param databaseSchemaGUID unique identifier of the schema
+         * @param isMergeUpdate are unspecified properties unchanged (true) or removed?
+         * @param databaseSchemaProperties properties of the schema
+         */
+        @Override
+        public synchronized void updateDatabaseSchema(String                   databaseSchemaGUID,
+                                                      boolean                  isMergeUpdate,
+                                                      DatabaseSchemaProperties databaseSchemaProperties)
+        {
+            schemas.get(databaseSchemaGUID).setDatabaseSchemaProperties(databaseSchemaProperties);
+        }
+
+
+        /**
+         * Remove a catalogued schema.
+         *
+         * @param databaseSchemaGUID unique identifier of the schema
+         */
+        @Override
+        public synchronized void removeDatabaseSchema(String databaseSchemaGUID)
+        {
+            schemas.remove(databaseSchemaGUID);
+        }
+
+
+        /**
+         * Return the catalogued tables of a database or schema.
+         *
+         * @param databaseSchemaGUID unique identifier of the database or schema
+         * @param startFrom paging start point
+         * @param pageSize maximum results that can be returned
+         * @return list of tables
+         */
+        @Override
+        public synchronized List<DatabaseTableElement> getTablesForDatabaseAsset(String databaseSchemaGUID,
+                                                                                 int    startFrom,
+                                                                                 int    pageSize)
+        {
+            return this.getChildren(tables, databaseSchemaGUID);
+        }
+
+
+        /**
+         * Catalog a table.
+         *
+         * @param databaseAssetGUID unique identifier of the database or schema
+         * @param databaseTableProperties properties of the table
+         * @return unique identifier of the table
+         */
+        @Override
+        public synchronized String createDatabaseTable(String                  databaseAssetGUID,
+                                                       DatabaseTableProperties databaseTableProperties)
+        {
+            DatabaseTableElement table = new DatabaseTableElement();
+
+            table.setElementHeader(this.newElementHeader(databaseAssetGUID));
+            table.setDatabaseTableProperties(databaseTableProperties);
+            tables.put(table.getElementHeader().getGUID(), table);
+
+            return table.getElementHeader().getGUID();
+        }
+
+
+        /**
+         * Update a catalogued table.
+         *
+         * @param databaseTableGUID unique identifier of the table
+         * @param isMergeUpdate are unspecified properties unchanged (true) or removed?
+         * @param databaseTableProperties properties of the table
+         */
+        @Override
+        public synchronized void updateDatabaseTable(String                  databaseTableGUID,
+                                                     boolean                 isMergeUpdate,
+                                                     DatabaseTableProperties databaseTableProperties)
+        {
+            tables.get(databaseTableGUID).setDatabaseTableProperties(databaseTableProperties);
+        }
+
+
+        /**
+         * Remove a catalogued table.
+         *
+         * @param databaseTableGUID unique identifier of the table
+         */
+        @Override
+        public synchronized void removeDatabaseTable(String databaseTableGUID)
+        {
+            tables.remove(databaseTableGUID);
+        }
+
+
+        /**
+         * The test database has no views.
+         *
+         * @param databaseAssetGUID unique identifier of the database or schema
+         * @param startFrom paging start point
+         * @param pageSize maximum results that can be returned
+         * @return empty list
+         */
+        @Override
+        public List<DatabaseViewElement> getViewsForDatabaseAsset(String databaseAssetGUID,
+                                                                  int    startFrom,
+                                                                  int    pageSize)
+        {
+            return new ArrayList<>();
+        }
+
+
+        /**
+         * Return the catalogued columns of a table.
+         *
+         * @param databaseTableGUID unique identifier of the table
+         * @param startFrom paging start point
+         * @param pageSize maximum results that can be returned
+         * @return list of columns
+         */
+        @Override
+        public synchronized List<DatabaseColumnElement> getColumnsForDatabaseTable(String databaseTableGUID,
+                                                                                   int    startFrom,
+                                                                                   int    pageSize)
+        {
+            return this.getChildren(columns, databaseTableGUID);
+        }
+
+
+        /**
+         * Return the catalogued columns with the requested qualified name.
+         *
+         * @param searchString qualified name of the column
+         * @param startFrom paging start point
+         * @param pageSize maximum results that can be returned
+         * @return list of columns
+         */
+        @Override
+        public synchronized List<DatabaseColumnElement> findDatabaseColumns(String searchString,
+                                                                            int    startFrom,
+                                                                            int    pageSize)
+        {
+            List<DatabaseColumnElement> matchingColumns = new ArrayList<>();
+
+            for (DatabaseColumnElement column : columns.values())
+            {
+                if (searchString.equals(column.getDatabaseColumnProperties().getQualifiedName()))
+                {
+                    matchingColumns.add(column);
+                }
+            }
+
+            return matchingColumns;
+        }
+
+
+        /**
+         * Catalog a column.
+         *
+         * @param databaseTableGUID unique identifier of the table
+         * @param databaseColumnProperties properties of the column
+         * @return unique identifier of the column
+         */
+        @Override
+        public synchronized String createDatabaseColumn(String                   databaseTableGUID,
+                                                        DatabaseColumnProperties databaseColumnProperties)
+        {
+            DatabaseColumnElement column = new DatabaseColumnElement();
+
+            column.setElementHeader(this.newElementHeader(databaseTableGUID));
+            column.setDatabaseColumnProperties(databaseColumnProperties);
+            columns.put(column.getElementHeader().getGUID(), column);
+            createdColumns.add(databaseColumnProperties.getQualifiedName());
+
+            return column.getElementHeader().getGUID();
+        }
+
+
+        /**
+         * Update a catalogued column.
+         *
+         * @param databaseColumnGUID unique identifier of the column
+         * @param isMergeUpdate are unspecified properties unchanged (true) or removed?
+         * @param databaseColumnProperties properties of the column
+         */
+        @Override
+        public synchronized void updateDatabaseColumn(String                   databaseColumnGUID,
+                                                      boolean                  isMergeUpdate,
+                                                      DatabaseColumnProperties databaseColumnProperties)
+        {
+            columns.get(databaseColumnGUID).setDatabaseColumnProperties(databaseColumnProperties);
+            updatedColumns.add(databaseColumnProperties.getQualifiedName());
+        }
+
+
+        /**
+         * Remove a catalogued column.
+         *
+         * @param databaseColumnGUID unique identifier of the column
+         */
+        @Override
+        public synchronized void removeDatabaseColumn(String databaseColumnGUID)
+        {
+            DatabaseColumnElement column = columns.remove(databaseColumnGUID);
+
+            assertNotNull(column);
+            removedColumns.add(column.getDatabaseColumnProperties().getQualifiedName());
+        }
+
+
+        /**
+         * Make a catalogued column a primary key.
+         *
+         * @param databaseColumnGUID unique identifier of the column
+         * @param databasePrimaryKeyProperties properties of the primary key
+         */
+        @Override
+        public synchronized void setPrimaryKeyOnColumn(String                       databaseColumnGUID,
+                                                       DatabasePrimaryKeyProperties databasePrimaryKeyProperties)
+        {
+            columns.get(databaseColumnGUID).setPrimaryKeyProperties(databasePrimaryKeyProperties);
+        }
+
+
+        /**
+         * Remove the primary key from a catalogued column.
+         *
+         * @param databaseColumnGUID unique identifier of the column
+         */
+        @Override
+        public synchronized void removePrimaryKeyFromColumn(String databaseColumnGUID)
+        {
+            columns.get(databaseColumnGUID).setPrimaryKeyProperties(null);
+        }
+
+
+        /**
+         * Record a foreign key between two catalogued columns.
+         *
+         * @param primaryKeyColumnGUID unique identifier of the primary key column
+         * @param foreignKeyColumnGUID unique identifier of the foreign key column
+         * @param databaseForeignKeyProperties properties of the foreign key
+         */
+        @Override
+        public synchronized void addForeignKeyRelationship(String                       primaryKeyColumnGUID,
+                                                           String                       foreignKeyColumnGUID,
+                                                           DatabaseForeignKeyProperties databaseForeignKeyProperties)
+        {
+            foreignKeys.add(columns.get(primaryKeyColumnGUID).getDatabaseColumnProperties().getQualifiedName() + " -> " +
+                                    columns.get(foreignKeyColumnGUID).getDatabaseColumnProperties().getQualifiedName());
+        }
+    }
+}
@@ -27,9 +27,17 @@ import org.odpi.openmetadata.frameworks.connectors.ffdc.UserNotAuthorizedExcepti
 import org.odpi.openmetadata.integrationservices.api.connector.APIIntegratorConnector;
 import org.odpi.openmetadata.integrationservices.api.connector.APIIntegratorContext;
 
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
 import java.util.HashMap;
+import java.util.HashSet;
+import java.util.HexFormat;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
 
 /**
  * OpenAPIMonitorIntegrationConnector provides common methods for the connectors in this module.
@@ -41,7 +49,8 @@ public class OpenAPIMonitorIntegrationConnector extends APIIntegratorConnector i
     private String templateQualifiedName = null;
     private String targetRootURL = null;
 
-    private final Map<String, RESTClient> restClients = new HashMap<>();
+    private final Map<String, RESTClient>                restClients         = new HashMap<>();
+    private final Map<String, OpenAPISpecificationState> specificationStates = new HashMap<>();
 
     private APIIntegratorContext myContext = null;
     public static final ObjectReader OBJECT_READER = new ObjectMapper().reader();
@@ -317,158 +326,344 @@ public class OpenAPIMonitorIntegrationConnector extends APIIntegratorConnector i
             {
                 try
                 {
-                    RESTClient restClient = restClients.get(url);
+                    RESTClient                restClient    = restClients.get(url);
+                    OpenAPISpecificationState previousState = specificationStates.get(url);
+                    Map<String, String>       validators    = new HashMap<>();
 
-                    String openAPIJSON = restClient.callGetRESTCallNoParams(methodName, String.class, url + "/v3/api-docs");
+                    if (previousState != null)
+                    {
+                        validators.putAll(previousState.getValidators());
+                    }
+
+                    /*
+                     * The validators from the previous retrieval make this a conditional request - null is returned if the
+                     * specification has not changed.
+                     */
+                    String  openAPIJSON = restClient.callConditionalGetRESTCallNoParams(methodName, String.class, url + "/v3/api-docs", validators);
+                    boolean unchanged   = (openAPIJSON == null);
 
                     if (openAPIJSON != null)
                     {
-                        OpenAPISpecification openAPISpecification = OBJECT_READER.readValue(openAPIJSON, OpenAPISpecification.class);
-                        String               title = "<Untitled>";
+                        String contentHash = this.getContentHash(openAPIJSON);
 
-                        if (openAPISpecification != null)
+                        if ((previousState != null) && (contentHash.equals(previousState.getContentHash())))
                         {
-                            if (auditLog != null)
-                            {
-                                if (openAPISpecification.getInfo() != null)
-                                {
-                                    title = openAPISpecification.getInfo().getTitle();
-                                }
-
-                                auditLog.logMessage(methodName,
-                                                    OpenAPIIntegrationConnectorAuditCode.RETRIEVED_OPEN_API_SPEC.getMessageDefinition(connectorName,
-                                                                                                                                      url,
-                                                                                                                                      title));
-                            }
-
                             /*
-                             * all the discovered APIs are added to the server's endpoint.
+                             * The server does not support conditional requests, or has issued new validators for the same content.
                              */
-                            String endpointGUID = this.getEndpointGUID(url, openAPISpecification);
+                            previousState.getValidators().clear();
+                            previousState.getValidators().putAll(validators);
 
-                            /*
-                             * Each API/Operation discovered is added to the map as it is added to the catalog.
-                             * This is used to create the summary audit log message - and as
-                             * lookup for the apiGUID/apiOperationGUID when adding detail elements.
-                             */
-                            Map<String, String> apiGUIDMap = new HashMap<>(); /* map from API (Tag) name to GUID */
-                            Map<String, String> apiOperationGUIDMap = new HashMap<>(); /* map from API (Path/Operation) name to GUID */
+                            unchanged = true;
+                        }
+                        else
+                        {
+                            OpenAPISpecification openAPISpecification = OBJECT_READER.readValue(openAPIJSON, OpenAPISpecification.class);
 
-                            if (openAPISpecification.getTags() != null)
+                            if (openAPISpecification != null)
                             {
-                                for (OpenAPITag tag : openAPISpecification.getTags())
-                                {
-                                    String apiGUID = getAPIGUID(url, endpointGUID, tag);
-
-                                    if (apiGUID != null)
-                                    {
-                                        apiGUIDMap.put(tag.getName(), apiGUID);
-                                    }
-                                }
+                                this.catalogOpenAPISpecification(url, openAPISpecification, contentHash, validators, previousState);
                             }
+                        }
+                    }
 
+                    if ((unchanged) && (previousState != null) && (auditLog != null))
+                    {
+                        auditLog.logMessage(methodName,
+                                            OpenAPIIntegrationConnectorAuditCode.UNCHANGED_OPEN_API_SPEC.getMessageDefinition(connectorName,
+                                                                                                                              url));
+                    }
+                }
+                catch (Exception error)
+                {
+                    if (auditLog != null)
+                    {
+                        auditLog.logMessage(methodName,
+                                            OpenAPIIntegrationConnectorAuditCode.UNABLE_TO_RETRIEVE_OPEN_API_SPEC.getMessageDefinition(error.getClass().getName(),
+                                                                                                                                       connectorName,
+                                                                                                                                       methodName,
+                                                                                                                                       url,
+                                                                                                                                       error.getMessage()));
 
-                            if (openAPISpecification.getPaths() != null)
-                            {
-                                Map<String, OpenAPIPathDescription> paths = openAPISpecification.getPaths();
-
-                                for (String pathName : paths.keySet())
-                                {
-                                    String apiOperationGUID;
-                                    String apiOperationQualifiedName;
+                    }
 
-                                    OpenAPIPathDescription pathDescription = paths.get(pathName);
+                    throw new ConnectorCheckedException(OpenAPIIntegrationConnectorErrorCode.UNEXPECTED_EXCEPTION.getMessageDefinition(connectorName,
+                                                                                                                                       error.getClass().getName(),
+                                                                                                                                       error.getMessage()),
+                                                        this.getClass().getName(),
+                                                        methodName,
+                                                        error);
+                }
+            }
+        }
+    }
 
-                                    if (pathDescription.getGet() != null)
-                                    {
-                                        apiOperationQualifiedName = "GET " + pathName;
 
-                                        apiOperationGUID = getAPIOperationGUID(apiGUIDMap, apiOperationQualifiedName, pathDescription.getGet());
+    /**
+     * Catalog the APIs and API operations described in an Open API Specification.  If the specification was catalogued
+     * before, only the differences between the two versions of the specification are applied to the catalog.
+     *
+     * @param url URL of the API
+     * @param openAPISpecification specification retrieved from the URL
+     * @param contentHash hash of the specification's content
+     * @param validators ETag and Last-Modified values returned with the specification
+     * @param previousState what was catalogued from the previous version of the specification (null if not processed before)
+     * @throws InvalidParameterException one of the parameters is not correct
+     * @throws UserNotAuthorizedException the connector's userId is not able to work with open metadata
+     * @throws PropertyServerException there is an issue with one of the open metadata repositories
+     */
+    private void catalogOpenAPISpecification(String                    url,
+                                             OpenAPISpecification      openAPISpecification,
+                                             String                    contentHash,
+                                             Map<String, String>       validators,
+                                             OpenAPISpecificationState previousState) throws InvalidParameterException,
+                                                                                               UserNotAuthorizedException,
+                                                                                               PropertyServerException
+    {
+        final String methodName = "refresh";
 
-                                        if (apiOperationGUID != null)
-                                        {
-                                            apiOperationGUIDMap.put(apiOperationQualifiedName, apiOperationGUID);
-                                        }
-                                    }
+        String title = "<Untitled>";
 
-                                    if (pathDescription.getPost() != null)
-                                    {
-                                        apiOperationQualifiedName = "POST " + pathName;
+        if (openAPISpecification.getInfo() != null)
+        {
+            title = openAPISpecification.getInfo().getTitle();
+        }
 
-                                        apiOperationGUID = getAPIOperationGUID(apiGUIDMap, apiOperationQualifiedName, pathDescription.getPost());
+        if (auditLog != null)
+        {
+            auditLog.logMessage(methodName,
+                                OpenAPIIntegrationConnectorAuditCode.RETRIEVED_OPEN_API_SPEC.getMessageDefinition(connectorName,
+                                                                                                                  url,
+                                                                                                                  title));
+        }
 
-                                        if (apiOperationGUID != null)
-                                        {
-                                            apiOperationGUIDMap.put(apiOperationQualifiedName, apiOperationGUID);
-                                        }
-                                    }
+        /*
+         * all the discovered APIs are added to the server's endpoint.
+         */
+        String endpointGUID;
 
+        if (previousState != null)
+        {
+            endpointGUID = previousState.getEndpointGUID();
+        }
+        else
+        {
+            endpointGUID = this.getEndpointGUID(url, openAPISpecification);
+        }
 
-                                    if (pathDescription.getPut() != null)
-                                    {
-                                        apiOperationQualifiedName = "PUT " + pathName;
+        /*
+         * Each API/Operation discovered is added to the new state as it is added to the catalog.
+         * This is used to create the summary audit log message - and as
+         * lookup for the apiGUID/apiOperationGUID when adding detail elements.
+         */
+        OpenAPISpecificationState newState = new OpenAPISpecificationState(validators, contentHash, endpointGUID);
 
-                                        apiOperationGUID = getAPIOperationGUID(apiGUIDMap, apiOperationQualifiedName, pathDescription.getPut());
+        int apisCreated          = 0;
+        int apisUpdated          = 0;
+        int apisRemoved          = 0;
+        int apiOperationsCreated = 0;
+        int apiOperationsUpdated = 0;
+        int apiOperationsRemoved = 0;
 
-                                        if (apiOperationGUID != null)
-                                        {
-                                            apiOperationGUIDMap.put(apiOperationQualifiedName, apiOperationGUID);
-                                        }
-                                    }
+        Set<String> tagNames = new HashSet<>();
 
+        if (openAPISpecification.getTags() != null)
+        {
+            for (OpenAPITag tag : openAPISpecification.getTags())
+            {
+                if ((tag != null) && (tag.getName() != null))
+                {
+                    OpenAPITag previousTag = null;
+                    String     apiGUID;
 
-                                    if (pathDescription.getDelete() != null)
-                                    {
-                                        apiOperationQualifiedName = "DELETE " + pathName;
+                    tagNames.add(tag.getName());
 
-                                        apiOperationGUID = getAPIOperationGUID(apiGUIDMap, apiOperationQualifiedName, pathDescription.getDelete());
+                    if (previousState != null)
+                    {
+                        previousTag = previousState.getAPI(tag.getName());
+                    }
 
-                                        if (apiOperationGUID != null)
-                                        {
-                                            apiOperationGUIDMap.put(apiOperationQualifiedName, apiOperationGUID);
-                                        }
-                                    }
-                                }
-                            }
+                    if (previousTag == null)
+                    {
+                        apiGUID = getAPIGUID(url, endpointGUID, tag);
+                        apisCreated ++;
+                    }
+                    else
+                    {
+                        apiGUID = previousState.getAPIGUIDs().get(tag.getName());
 
-                            if (auditLog != null)
-                            {
-                                auditLog.logMessage(methodName,
-                                                    OpenAPIIntegrationConnectorAuditCode.CATALOGUED_OPEN_API_SPEC.getMessageDefinition(connectorName,
-                                                                                                                                       url,
-                                                                                                                                       title,
-                                                                                                                                       endpointGUID,
-                                                                                                                                       Integer.toString(apiGUIDMap.size()),
-                                                                                                                                       Integer.toString(apiOperationGUIDMap.size())));
-                            }
+                        if (! Objects.equals(previousTag.getDescription(), tag.getDescription()))
+                        {
+                            myContext.updateAPI(apiGUID, false, this.getAPIProperties(url, tag));
+                            apisUpdated ++;
                         }
                     }
+
+                    if (apiGUID != null)
+                    {
+                        newState.addAPI(tag, apiGUID);
+                    }
                 }
-                catch (Exception error)
+            }
+        }
+
+        Map<String, OpenAPIOperation> operations = new LinkedHashMap<>();
+
+        if (openAPISpecification.getPaths() != null)
+        {
+            Map<String, OpenAPIPathDescription> paths = openAPISpecification.getPaths();
+
+            for (String pathName : paths.keySet())
+            {
+                OpenAPIPathDescription pathDescription = paths.get(pathName);
+
+                if (pathDescription != null)
                 {
-                    if (auditLog != null)
-                    {
-                        auditLog.logMessage(methodName,
-                                            OpenAPIIntegrationConnectorAuditCode.UNABLE_TO_RETRIEVE_OPEN_API_SPEC.getMessageDefinition(error.getClass().getName(),
-                                                                                                                                       connectorName,
-                                                                                                                                       methodName,
-                                                                                                                                       url,
-                                                                                                                                       error.getMessage()));
+                    this.addOperation(operations, "GET " + pathName, pathDescription.getGet());
+                    this.addOperation(operations, "POST " + pathName, pathDescription.getPost());
+                    this.addOperation(operations, "PUT " + pathName, pathDescription.getPut());
+                    this.addOperation(operations, "DELETE " + pathName, pathDescription.getDelete());
+                }
+            }
+        }
 
-                    }
+        for (String apiOperationQualifiedName : operations.keySet())
+        {
+            OpenAPIOperation operation         = operations.get(apiOperationQualifiedName);
+            OpenAPIOperation previousOperation = null;
+            String           apiGUID           = this.getOperationAPIGUID(newState.getAPIGUIDs(), operation);
+            String           apiOperationGUID  = null;
 
-                    throw new ConnectorCheckedException(OpenAPIIntegrationConnectorErrorCode.UNEXPECTED_EXCEPTION.getMessageDefinition(connectorName,
-                                                                                                                                       error.getClass().getName(),
-                                                                                                                                       error.getMessage()),
-                                                        this.getClass().getName(),
-                                                        methodName,
-                                                        error);
+            if (previousState != null)
+            {
+                previousOperation = previousState.getAPIOperation(apiOperationQualifiedName);
+            }
+
+            if (previousOperation != null)
+            {
+                apiOperationGUID = previousState.getAPIOperationGUIDs().get(apiOperationQualifiedName);
+
+                if (! Objects.equals(apiGUID, previousState.getAPIOperationAPIGUID(apiOperationQualifiedName)))
+                {
+                    /*
+                     * The operation has moved to a different API, so it is catalogued again under its new API.
+                     */
+                    myContext.removeAPIOperation(apiOperationGUID, apiOperationQualifiedName);
+
+                    apiOperationGUID = getAPIOperationGUID(newState.getAPIGUIDs(), apiOperationQualifiedName, operation);
+                    apiOperationsUpdated ++;
+                }
+                else if ((! Objects.equals(previousOperation.getOperationId(), operation.getOperationId())) ||
+                         (! Objects.equals(previousOperation.getDescription(), operation.getDescription())))
+                {
+                    myContext.updateAPIOperation(apiOperationGUID, false, this.getAPIOperationProperties(apiOperationQualifiedName, operation));
+                    apiOperationsUpdated ++;
                 }
             }
+            else
+            {
+                apiOperationGUID = getAPIOperationGUID(newState.getAPIGUIDs(), apiOperationQualifiedName, operation);
+
+                if (apiOperationGUID != null)
+                {
+                    apiOperationsCreated ++;
+                }
+            }
+
+            if (apiOperationGUID != null)
+            {
+                newState.addAPIOperation(apiOperationQualifiedName, operation, apiGUID, apiOperationGUID);
+            }
+        }
+
+        /*
+         * Remove the operations and then the APIs that are no longer in the specification.
+         */
+        if (previousState != null)
+        {
+            for (String apiOperationQualifiedName : previousState.getAPIOperationGUIDs().keySet())
+            {
+                if (! operations.containsKey(apiOperationQualifiedName))
+                {
+                    myContext.removeAPIOperation(previousState.getAPIOperationGUIDs().get(apiOperationQualifiedName), apiOperationQualifiedName);
+                    apiOperationsRemoved ++;
+                }
+            }
+
+            for (String tagName : previousState.getAPIGUIDs().keySet())
+            {
+                if (! tagNames.contains(tagName))
+                {
+                    myContext.removeAPI(previousState.getAPIGUIDs().get(tagName), this.getAPIQualifiedName(url, tagName));
+                    apisRemoved ++;
+                }
+            }
+        }
+
+        specificationStates.put(url, newState);
+
+        if (auditLog != null)
+        {
+            if (previousState == null)
+            {
+                auditLog.logMessage(methodName,
+                                    OpenAPIIntegrationConnectorAuditCode.CATALOGUED_OPEN_API_SPEC.getMessageDefinition(connectorName,
+                                                                                                                       url,
+                                                                                                                       title,
+                                                                                                                       endpointGUID,
+                                                                                                                       Integer.toString(newState.getAPIGUIDs().size()),
+                                                                                                                       Integer.toString(newState.getAPIOperationGUIDs().size())));
+            }
+            else
+            {
+                auditLog.logMessage(methodName,
+                                    OpenAPIIntegrationConnectorAuditCode.UPDATED_OPEN_API_SPEC.getMessageDefinition(connectorName,
+                                                                                                                    url,
+                                                                                                                    title,
+                                                                                                                    Integer.toString(apisCreated),
+                                                                                                                    Integer.toString(apisUpdated),
+                                                                                                                    Integer.toString(apisRemoved),
+                                                                                                                    Integer.toString(apiOperationsCreated),
+                                                                                                                    Integer.toString(apiOperationsUpdated),
+                                                                                                                    Integer.toString(apiOperationsRemoved)));
+            }
         }
     }
 
 
+    /**
+     * Add an operation from a path description to the map of operations (if the operation is defined).
+     *
+     * @param operations map of API operation qualified names to operations
+     * @param apiOperationQualifiedName unique name for the API operation in the open metadata catalog
+     * @param operation operation extracted from the open metadata specification (may be null)
+     */
+    private void addOperation(Map<String, OpenAPIOperation> operations,
+                              String                        apiOperationQualifiedName,
+                              OpenAPIOperation              operation)
+    {
+        if (operation != null)
+        {
+            operations.put(apiOperationQualifiedName, operation);
+        }
+    }
+
+
+    /**
+     * Return a hash of the content of an Open API Specification.
+     *
+     * @param openAPIJSON specification content
+     * @return hex string
+     * @throws NoSuchAlgorithmException the hash algorithm is not supported by the JVM
+     */
+    private String getContentHash(String openAPIJSON) throws NoSuchAlgorithmException
+    {
+        MessageDigest messageDigest = MessageDigest.getInstance("SHA-256");
+
+        return HexFormat.of().formatHex(messageDigest.digest(openAPIJSON.getBytes(StandardCharsets.UTF_8)));
+    }
+
+
     /**
      * Return the endpoint's GUID - it may create a catalog entry if it does not exist.
      *
@@ -545,7 +740,7 @@ public class OpenAPIMonitorIntegrationConnector extends APIIntegratorConnector i
 
         if (tag.getName() != null)
         {
-            String apiQualifiedName = "API:" + tag.getName() + "(" + url + ")";
+            String apiQualifiedName = this.getAPIQualifiedName(url, tag.getName());
 
             List<APIElement> apiElements = myContext.getAPIsByName(apiQualifiedName, 0, 0);
 
@@ -562,13 +757,7 @@ public class OpenAPIMonitorIntegrationConnector extends APIIntegratorConnector i
 
             if (apiGUID == null)
             {
-                APIProperties properties = new APIProperties();
-
-                properties.setQualifiedName(apiQualifiedName);
-                properties.setName(tag.getName());
-                properties.setDisplayDescription(tag.getDescription());
-
-                apiGUID = myContext.createAPI(endpointGUID, properties);
+                apiGUID = myContext.createAPI(endpointGUID, this.getAPIProperties(url, tag));
             }
 
             /*
@@ -581,6 +770,89 @@ public class OpenAPIMonitorIntegrationConnector extends APIIntegratorConnector i
     }
 
 
+    /**
+     * Return the unique name of the API element for a tag.
+     *
+     * @param url URL of the API
+     * @param tagName name of the tag from the openAPI spec
+     * @return qualified name
+     */
+    private String getAPIQualifiedName(String url,
+                                       String tagName)
+    {
+        return "API:" + tagName + "(" + url + ")";
+    }
+
+
+    /**
+     * Return the properties of the API element for a tag.
+     *
+     * @param url URL of the API
+     * @param tag API identifiers from the openAPI spec
+     * @return properties
+     */
+    private APIProperties getAPIProperties(String     url,
+                                           OpenAPITag tag)
+    {
+        APIProperties properties = new APIProperties();
+
+        properties.setQualifiedName(this.getAPIQualifiedName(url, tag.getName()));
+        properties.setName(tag.getName());
+        properties.setDisplayDescription(tag.getDescription());
+
+        return properties;
+    }
+
+
+    /**
+     * Return the unique identifier of the API element that an operation belongs to.  This is the API for the last
+     * of the operation's tags.
+     *
+     * @param apiGUIDMap map of known guids
+     * @param operation operation extracted from the open metadata specification.
+     * @return unique identifier of the API element or null if it is not known
+     */
+    private String getOperationAPIGUID(Map<String, String> apiGUIDMap,
+                                       OpenAPIOperation    operation)
+    {
+        String       apiGUID = null;
+        List<String> tags    = operation.getTags();
+
+        if (tags != null)
+        {
+            for (String tag : tags)
+            {
+                /*
+                 * The API operation has already been retrieved from the catalog and its GUID is known.
+                 */
+                apiGUID = apiGUIDMap.get(tag);
+            }
+        }
+
+        return apiGUID;
+    }
+
+
+    /**
+     * Return the properties of the API operation element for an operation.
+     *
+     * @param apiOperationQualifiedName unique name for the API operation in the open metadata catalog.
+     * @param operation operation extracted from the open metadata specification.
+     * @return properties
+     */
+    private APIOperationProperties getAPIOperationProperties(String           apiOperationQualifiedName,
+                                                             OpenAPIOperation operation)
+    {
+        APIOperationProperties properties = new APIOperationProperties();
+
+        properties.setQualifiedName(apiOperationQualifiedName);
+        properties.setDisplayName(operation.getOperationId());
+        properties.setDescription(operation.getDescription());
+
+        return properties;
+    }
+
+
     /**
      * Catalog an API operation if not already catalogued.  The GUID is returned but the caller is responsible for adding the new GUID to
      * the apiGUIDMap.
@@ -600,20 +872,7 @@ public class OpenAPIMonitorIntegrationConnector extends APIIntegratorConnector i
                                                                              PropertyServerException
     {
         String apiOperationGUID = null;
-        String apiGUID          = null;
-
-        List<String> tags = operation.getTags();
-
-        if (tags != null)
-        {
-            for (String tag : tags)
-            {
-                /*
-                 * The API operation has already been retrieved from the catalog and its GUID is known.
-                 */
-                apiGUID = apiGUIDMap.get(tag);
-            }
-        }
+        String apiGUID          = this.getOperationAPIGUID(apiGUIDMap, operation);
 
         if (apiGUID != null)
         {
@@ -640,13 +899,7 @@ public class OpenAPIMonitorIntegrationConnector extends APIIntegratorConnector i
                 /*
                  * Catalog the API Operation
                  */
-                APIOperationProperties properties = new APIOperationProperties();
-
-                properties.setQualifiedName(apiOperationQualifiedName);
-                properties.setDisplayName(operation.getOperationId());
-                properties.setDescription(operation.getDescription());
-
-                apiOperationGUID = myContext.createAPIOperation(apiGUID, properties);
+                apiOperationGUID = myContext.createAPIOperation(apiGUID, this.getAPIOperationProperties(apiOperationQualifiedName, operation));
             }
         }
 
@@ -0,0 +1,170 @@
+/* SPDX-License-Identifier: Apache-2.0 */
+/* Copyright Contributors to the ODPi Egeria project. */
+
+package org.odpi.openmetadata.adapters.connectors.integration.openapis;
+
+import org.odpi.openmetadata.adapters.connectors.integration.openapis.properties.OpenAPIOperation;
+import org.odpi.openmetadata.adapters.connectors.integration.openapis.properties.OpenAPITag;
+
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * OpenAPISpecificationState records what was catalogued from an Open API Specification the last time it was
+ * processed.  It holds the HTTP validators (ETag and Last-Modified) and a hash of the specification's content so
+ * an unchanged specification can be skipped, along with the APIs (tags) and API operations (path/operation pairs)
+ * that were catalogued so a changed specification can be compared with it.
+ */
+class OpenAPISpecificationState
+{
+    private final Map<String, String> validators;
+    private final String              contentHash;
+    private final String              endpointGUID;
+
+    private final Map<String, OpenAPITag>       apis                 = new HashMap<>();
+    private final Map<String, String>           apiGUIDs             = new HashMap<>();
+    private final Map<String, OpenAPIOperation> apiOperations        = new HashMap<>();
+    private final Map<String, String>           apiOperationGUIDs    = new HashMap<>();
+    private final Map<String, String>           apiOperationAPIGUIDs = new HashMap<>();
+
+
+    /**
+     * Constructor
+     *
+     * @param validators ETag and Last-Modified values returned with the specification
+     * @param contentHash hash of the specification's content
+     * @param endpointGUID unique identifier of the endpoint that the APIs are connected to
+     */
+    OpenAPISpecificationState(Map<String, String> validators,
+                              String              contentHash,
+                              String              endpointGUID)
+    {
+        this.validators   = validators;
+        this.contentHash  = contentHash;
+        this.endpointGUID = endpointGUID;
+    }
+
+
+    /**
+     * Return the ETag and Last-Modified values returned with the specification.
+     *
+     * @return map of header name to value
+     */
+    Map<String, String> getValidators()
+    {
+        return validators;
+    }
+
+
+    /**
+     * Return the hash of the specification's content.
+     *
+     * @return hex string
+     */
+    String getContentHash()
+    {
+        return contentHash;
+    }
+
+
+    /**
+     * Return the unique identifier of the endpoint that the APIs are connected to.
+     *
+     * @return guid
+     */
+    String getEndpointGUID()
+    {
+        return endpointGUID;
+    }
+
+
+    /**
+     * Record an API that was catalogued from a tag in the specification.
+     *
+     * @param tag tag from the specification
+     * @param apiGUID unique identifier of the API element
+     */
+    void addAPI(OpenAPITag tag,
+                String     apiGUID)
+    {
+        apis.put(tag.getName(), tag);
+        apiGUIDs.put(tag.getName(), apiGUID);
+    }
+
+
+    /**
+     * Return the tag that an API was catalogued from.
+     *
+     * @param tagName name of the tag
+     * @return tag or null if not catalogued
+     */
+    OpenAPITag getAPI(String tagName)
+    {
+        return apis.get(tagName);
+    }
+
+
+    /**
+     * Return the map of tag names to the unique identifiers of their API elements.
+     *
+     * @return map
+     */
+    Map<String, String> getAPIGUIDs()
+    {
+        return apiGUIDs;
+    }
+
+
+    /**
+     * Record an API operation that was catalogued from a path/operation pair in the specification.
+     *
+     * @param apiOperationQualifiedName unique name of the API operation
+     * @param operation operation from the specification
+     * @param apiGUID unique identifier of the API element that the operation belongs to
+     * @param apiOperationGUID unique identifier of the API operation element
+     */
+    void addAPIOperation(String           apiOperationQualifiedName,
+                         OpenAPIOperation operation,
+                         String           apiGUID,
+                         String           apiOperationGUID)
+    {
+        apiOperations.put(apiOperationQualifiedName, operation);
+        apiOperationGUIDs.put(apiOperationQualifiedName, apiOperationGUID);
+        apiOperationAPIGUIDs.put(apiOperationQualifiedName, apiGUID);
+    }
+
+
+    /**
+     * Return the operation that an API operation was catalogued from.
+     *
+     * @param apiOperationQualifiedName unique name of the API operation
+     * @return operation or null if not catalogued
+     */
+    OpenAPIOperation getAPIOperation(String apiOperationQualifiedName)
+    {
+        return apiOperations.get(apiOperationQualifiedName);
+    }
+
+
+    /**
+     * Return the unique identifier of the API element that an API operation belongs to.
+     *
+     * @param apiOperationQualifiedName unique name of the API operation
+     * @return guid or null if not catalogued
+     */
+    String getAPIOperationAPIGUID(String apiOperationQualifiedName)
+    {
+        return apiOperationAPIGUIDs.get(apiOperationQualifiedName);
+    }
+
+
+    /**
+     * Return the map of API operation qualified names to the unique identifiers of their API operation elements.
+     *
+     * @return map
+     */
+    Map<String, String> getAPIOperationGUIDs()
+    {
+        return apiOperationGUIDs;
+    }
+}
@@ -13,6 +13,8 @@ import org.odpi.openmetadata.frameworks.connectors.ffdc.InvalidParameterExceptio
 import org.odpi.openmetadata.frameworks.connectors.ffdc.PropertyServerException;
 import org.springframework.core.ParameterizedTypeReference;
 
+import java.util.Map;
+
 
 /**
  * RESTClient is responsible for issuing calls to the OMAS REST APIs.
@@ -135,6 +137,43 @@ public class RESTClient
     }
 
 
+    /**
+     * Issue a GET REST call that only returns a response object if the resource has changed since the
+     * validators (ETag and Last-Modified) were returned.  It's working only with {@link SpringRESTClientConnector} -
+     * other connectors always retrieve the resource.
+     *
+     * @param <T> return type
+     * @param methodName  name of the method being called.
+     * @param returnClass class of the response object.
+     * @param urlTemplate template of the URL for the REST API call with place-holders for the parameters.
+     * @param validators validators from the previous response - updated with the values from a new response
+     *
+     * @return response object or null if unchanged
+     * @throws PropertyServerException something went wrong with the REST call stack.
+     */
+    protected <T> T callConditionalGetRESTCallNoParams(String              methodName,
+                                                       Class<T>            returnClass,
+                                                       String              urlTemplate,
+                                                       Map<String, String> validators) throws PropertyServerException
+    {
+        try
+        {
+            if (clientConnector instanceof SpringRESTClientConnector springRESTClientConnector)
+            {
+                return springRESTClientConnector.callConditionalGetRESTCallNoParams(methodName, returnClass, urlTemplate, validators);
+            }
+
+            return clientConnector.callGetRESTCall(methodName, returnClass, urlTemplate);
+        }
+        catch (Exception error)
+        {
+            logRESTCallException(methodName, error);
+        }
+
+        return null;
+    }
+
+
     /**
      * Issue a GET REST call that returns a response object.
      *
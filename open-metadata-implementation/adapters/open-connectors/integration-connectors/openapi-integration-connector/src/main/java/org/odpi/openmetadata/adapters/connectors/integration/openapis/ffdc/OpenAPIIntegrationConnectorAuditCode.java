@@ -87,6 +87,18 @@ public enum OpenAPIIntegrationConnectorAuditCode implements AuditLogMessageSet
                                   "The connector is disconnecting.",
                                   "No action is required unless there are errors that follow indicating that there were problems shutting down."),
 
+    UNCHANGED_OPEN_API_SPEC("OPEN-API-INTEGRATION-CONNECTOR-0010",
+                            AuditLogRecordSeverityLevel.INFO,
+                            "The {0} integration connector found that the Open API Specification from URL {1} has not changed since it was last catalogued",
+                            "The connector skips the specification.  Either the server replied that the specification is not modified, or its content is identical to the version that was catalogued.",
+                            "No action is required.  The catalog is updated when the specification changes."),
+
+    UPDATED_OPEN_API_SPEC("OPEN-API-INTEGRATION-CONNECTOR-0011",
+                          AuditLogRecordSeverityLevel.INFO,
+                          "The {0} integration connector applied the changes to the Open API Specification from URL {1} ({2}): {3} APIs created, {4} updated and {5} removed; {6} operations created, {7} updated and {8} removed",
+                          "The connector compared the new version of the specification with the version it catalogued previously and applied only the differences to the catalog.",
+                          "Validate that the connector is extracting all the required information for your use case."),
+
 
     MISSING_TEMPLATE("OPEN-API-INTEGRATION-CONNECTOR-0015",
                      AuditLogRecordSeverityLevel.ERROR,
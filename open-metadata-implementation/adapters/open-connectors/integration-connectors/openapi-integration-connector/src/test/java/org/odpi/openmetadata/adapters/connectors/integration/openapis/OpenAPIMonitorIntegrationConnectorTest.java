@@ -0,0 +1,732 @@
+/* SPDX-License-Identifier: Apache-2.0 */
+/* Copyright Contributors to the ODPi Egeria project. */
+package org.odpi.openmetadata.adapters.connectors.integration.openapis;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+import org.odpi.openmetadata.adapters.connectors.integration.openapis.ffdc.OpenAPIIntegrationConnectorAuditCode;
+import org.odpi.openmetadata.adapters.connectors.integration.openapis.properties.OpenAPIOperation;
+import org.odpi.openmetadata.adapters.connectors.integration.openapis.properties.OpenAPIPathDescription;
+import org.odpi.openmetadata.adapters.connectors.integration.openapis.properties.OpenAPISpecification;
+import org.odpi.openmetadata.adapters.connectors.integration.openapis.properties.OpenAPITag;
+import org.odpi.openmetadata.frameworks.auditlog.AuditLog;
+import org.odpi.openmetadata.frameworks.auditlog.AuditLogDestination;
+import org.odpi.openmetadata.frameworks.auditlog.AuditLogRecord;
+import org.odpi.openmetadata.frameworks.auditlog.ComponentDevelopmentStatus;
+import org.odpi.openmetadata.frameworks.connectors.properties.ConnectionProperties;
+import org.odpi.openmetadata.frameworks.connectors.properties.beans.Connection;
+import org.odpi.openmetadata.frameworks.connectors.properties.beans.Endpoint;
+import org.odpi.openmetadata.frameworks.openmetadata.metadataelements.APIElement;
+import org.odpi.openmetadata.frameworks.openmetadata.metadataelements.APIOperationElement;
+import org.odpi.openmetadata.frameworks.openmetadata.metadataelements.ElementHeader;
+import org.odpi.openmetadata.frameworks.openmetadata.metadataelements.EndpointElement;
+import org.odpi.openmetadata.frameworks.openmetadata.properties.assets.apis.APIProperties;
+import org.odpi.openmetadata.frameworks.openmetadata.properties.connections.EndpointProperties;
+import org.odpi.openmetadata.frameworks.openmetadata.properties.schema.apis.APIOperationProperties;
+import org.odpi.openmetadata.integrationservices.api.connector.APIIntegratorContext;
+import org.testng.annotations.AfterMethod;
+import org.testng.annotations.BeforeMethod;
+import org.testng.annotations.Test;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertTrue;
+
+
+/**
+ * Verify that the OpenAPI monitor skips an Open API Specification that has not changed and applies only the
+ * differences from a changed specification.  The specification is served by a stub HTTP server and the catalog
+ * is held in memory by the test's integrator context.
+ */
+public class OpenAPIMonitorIntegrationConnectorTest
+{
+    private static final String specificationPath = "/v3/api-docs";
+
+    private HttpServer                         server     = null;
+    private String                             serverURL  = null;
+    private OpenAPIMonitorIntegrationConnector connector  = null;
+    private TestAPIContext                     apiContext = null;
+
+    private volatile String  specification = null;
+    private volatile boolean sendETag      = false;
+
+    private final List<Integer> responseCodes = Collections.synchronizedList(new ArrayList<>());
+    private final List<String>  messageIds    = Collections.synchronizedList(new ArrayList<>());
+
+
+    /**
+     * Start the stub server and a connector that monitors it.
+     *
+     * @throws Exception unable to start the server or the connector
+     */
+    @BeforeMethod
+    public void setUp() throws Exception
+    {
+        server = HttpServer.create(new InetSocketAddress("localhost", 0), 0);
+        server.createContext(specificationPath, this::replyWithSpecification);
+        server.start();
+
+        serverURL = "http://localhost:" + server.getAddress().getPort();
+
+        Endpoint   endpoint   = new Endpoint();
+        Connection connection = new Connection();
+
+        endpoint.setAddress(serverURL);
+        connection.setEndpoint(endpoint);
+
+        AuditLog auditLog = new AuditLog(new TestAuditLogDestination(),
+                                         1,
+                                         ComponentDevelopmentStatus.IN_DEVELOPMENT,
+                                         "testComponent",
+                                         "test",
+                                         null);
+
+        apiContext = new TestAPIContext(auditLog);
+        connector  = new OpenAPIMonitorIntegrationConnector();
+
+        connector.initialize("testConnector", new ConnectionProperties(connection));
+        connector.setAuditLog(auditLog);
+        connector.setContext(apiContext);
+        connector.start();
+    }
+
+
+    /**
+     * Stop the connector, its context's file monitor and the stub server.
+     *
+     * @throws Exception unable to stop the connector
+     */
+    @AfterMethod
+    public void tearDown() throws Exception
+    {
+        if (connector != null)
+        {
+            connector.disconnect();
+        }
+
+        if (apiContext != null)
+        {
+            apiContext.disconnect();
+        }
+
+        if (server != null)
+        {
+            server.stop(0);
+        }
+    }
+
+
+    /**
+     * The first refresh catalogues the endpoint, an API for each tag and an API operation for each operation.
+     *
+     * @throws Exception test failure
+     */
+    @Test
+    public void testFirstRefreshCataloguesSpecification() throws Exception
+    {
+        specification = this.getSpecification(this.getPetStoreTags(), this.getPetStoreOperations());
+
+        connector.refresh();
+
+        assertEquals(apiContext.getChanges(), List.of("createEndpoint ServerEndpoint:" + serverURL,
+                                                      "createAPI " + this.getAPIName("pets"),
+                                                      "createAPI " + this.getAPIName("stores"),
+                                                      "createAPIOperation GET /pets in " + this.getAPIName("pets"),
+                                                      "createAPIOperation GET /pets/search in " + this.getAPIName("pets"),
+                                                      "createAPIOperation GET /pets/{id} in " + this.getAPIName("pets"),
+                                                      "createAPIOperation GET /stores in " + this.getAPIName("stores")));
+        assertTrue(messageIds.contains(OpenAPIIntegrationConnectorAuditCode.CATALOGUED_OPEN_API_SPEC.getMessageDefinition().getMessageId()));
+    }
+
+
+    /**
+     * When the server returns 304 Not Modified, the specification is not parsed and the catalog is not consulted.
+     *
+     * @throws Exception test failure
+     */
+    @Test
+    public void testNotModifiedSkipsRefresh() throws Exception
+    {
+        sendETag      = true;
+        specification = this.getSpecification(this.getPetStoreTags(), this.getPetStoreOperations());
+
+        connector.refresh();
+        apiContext.reset();
+        connector.refresh();
+
+        assertEquals(responseCodes, List.of(200, 304));
+        assertTrue(apiContext.getChanges().isEmpty());
+        assertEquals(apiContext.getLookups(), 0);
+        assertTrue(messageIds.contains(OpenAPIIntegrationConnectorAuditCode.UNCHANGED_OPEN_API_SPEC.getMessageDefinition().getMessageId()));
+    }
+
+
+    /**
+     * When the server does not support conditional requests, a specification with the same content as the last one
+     * is skipped without consulting the catalog.
+     *
+     * @throws Exception test failure
+     */
+    @Test
+    public void testUnchangedContentSkipsRefresh() throws Exception
+    {
+        specification = this.getSpecification(this.getPetStoreTags(), this.getPetStoreOperations());
+
+        connector.refresh();
+        apiContext.reset();
+        connector.refresh();
+
+        assertEquals(responseCodes, List.of(200, 200));
+        assertTrue(apiContext.getChanges().isEmpty());
+        assertEquals(apiContext.getLookups(), 0);
+        assertTrue(messageIds.contains(OpenAPIIntegrationConnectorAuditCode.UNCHANGED_OPEN_API_SPEC.getMessageDefinition().getMessageId()));
+    }
+
+
+    /**
+     * Each added, changed or removed tag and operation results in exactly one matching create, update or remove.
+     * Only the new tags and operations are looked up in the catalog, and operations are removed before their APIs.
+     *
+     * @throws Exception test failure
+     */
+    @Test
+    public void testChangesApplied() throws Exception
+    {
+        specification = this.getSpecification(this.getPetStoreTags(), this.getPetStoreOperations());
+
+        connector.refresh();
+        apiContext.reset();
+
+        Map<String, String>           tags       = this.getPetStoreTags();
+        Map<String, OpenAPIOperation> operations = this.getPetStoreOperations();
+
+        tags.put("pets", "Pets that are for sale");
+        tags.remove("stores");
+        tags.put("owners", "Owners of pets");
+
+        operations.get("/pets/{id}").setDescription("Return a pet with its owner");
+        operations.remove("/pets/search");
+        operations.remove("/stores");
+        operations.put("/owners", this.getOperation("owners", "listOwners", "List the owners"));
+
+        specification = this.getSpecification(tags, operations);
+
+        connector.refresh();
+
+        List<String> changes = apiContext.getChanges();
+
+        assertEquals(changes.subList(0, 4), List.of("updateAPI " + this.getAPIName("pets"),
+                                                    "createAPI " + this.getAPIName("owners"),
+                                                    "updateAPIOperation GET /pets/{id}",
+                                                    "createAPIOperation GET /owners in " + this.getAPIName("owners")));
+        assertEquals(changes.size(), 7);
+        assertTrue(changes.subList(4, 6).containsAll(List.of("removeAPIOperation GET /pets/search",
+                                                             "removeAPIOperation GET /stores")));
+        assertEquals(changes.get(6), "removeAPI " + this.getAPIName("stores"));
+        assertEquals(apiContext.getLookups(), 2);
+        assertTrue(messageIds.contains(OpenAPIIntegrationConnectorAuditCode.UPDATED_OPEN_API_SPEC.getMessageDefinition().getMessageId()));
+    }
+
+
+    /**
+     * An operation that moves to another tag is removed from its old API and catalogued under its new API.
+     *
+     * @throws Exception test failure
+     */
+    @Test
+    public void testOperationMovedToAnotherTag() throws Exception
+    {
+        specification = this.getSpecification(this.getPetStoreTags(), this.getPetStoreOperations());
+
+        connector.refresh();
+        apiContext.reset();
+
+        Map<String, OpenAPIOperation> operations = this.getPetStoreOperations();
+
+        operations.get("/stores").setTags(List.of("pets"));
+
+        specification = this.getSpecification(this.getPetStoreTags(), operations);
+
+        connector.refresh();
+
+        assertEquals(apiContext.getChanges(), List.of("removeAPIOperation GET /stores",
+                                                      "createAPIOperation GET /stores in " + this.getAPIName("pets")));
+    }
+
+
+    /**
+     * Return the tags of the pet store specification.
+     *
+     * @return map of tag name to description
+     */
+    private Map<String, String> getPetStoreTags()
+    {
+        Map<String, String> tags = new LinkedHashMap<>();
+
+        tags.put("pets", "Pets");
+        tags.put("stores", "Stores");
+
+        return tags;
+    }
+
+
+    /**
+     * Return the GET operations of the pet store specification.
+     *
+     * @return map of path to operation
+     */
+    private Map<String, OpenAPIOperation> getPetStoreOperations()
+    {
+        Map<String, OpenAPIOperation> operations = new LinkedHashMap<>();
+
+        operations.put("/pets", this.getOperation("pets", "listPets", "List the pets"));
+        operations.put("/pets/search", this.getOperation("pets", "findPets", "Find pets by name"));
+        operations.put("/pets/{id}", this.getOperation("pets", "getPet", "Return a pet"));
+        operations.put("/stores", this.getOperation("stores", "listStores", "List the stores"));
+
+        return operations;
+    }
+
+
+    /**
+     * Return an operation.
+     *
+     * @param tagName tag that the operation belongs to
+     * @param operationId identifier of the operation
+     * @param description description of the operation
+     * @return operation
+     */
+    private OpenAPIOperation getOperation(String tagName,
+                                          String operationId,
+                                          String description)
+    {
+        OpenAPIOperation operation = new OpenAPIOperation();
+
+        operation.setTags(List.of(tagName));
+        operation.setOperationId(operationId);
+        operation.setDescription(description);
+
+        return operation;
+    }
+
+
+    /**
+     * Return the JSON for a specification with the supplied tags and GET operations.
+     *
+     * @param tags map of tag name to description
+     * @param operations map of path to operation
+     * @return JSON string
+     * @throws Exception unable to serialize the specification
+     */
+    private String getSpecification(Map<String, String>           tags,
+                                    Map<String, OpenAPIOperation> operations) throws Exception
+    {
+        OpenAPISpecification                openAPISpecification = new OpenAPISpecification();
+        List<OpenAPITag>                    openAPITags          = new ArrayList<>();
+        Map<String, OpenAPIPathDescription> paths                = new LinkedHashMap<>();
+
+        for (String tagName : tags.keySet())
+        {
+            OpenAPITag tag = new OpenAPITag();
+
+            tag.setName(tagName);
+            tag.setDescription(tags.get(tagName));
+            openAPITags.add(tag);
+        }
+
+        for (String pathName : operations.keySet())
+        {
+            OpenAPIPathDescription pathDescription = new OpenAPIPathDescription();
+
+            pathDescription.setGet(operations.get(pathName));
+            paths.put(pathName, pathDescription);
+        }
+
+        openAPISpecification.setOpenapi("3.0.1");
+        openAPISpecification.setTags(openAPITags);
+        openAPISpecification.setPaths(paths);
+
+        return new ObjectMapper().writeValueAsString(openAPISpecification);
+    }
+
+
+    /**
+     * Return the qualified name of the API catalogued for a tag.
+     *
+     * @param tagName name of the tag
+     * @return qualified name
+     */
+    private String getAPIName(String tagName)
+    {
+        return "API:" + tagName + "(" + serverURL + ")";
+    }
+
+
+    /**
+     * Return the specification, or 304 Not Modified if the request's ETag matches the current specification.
+     *
+     * @param exchange request and response
+     * @throws IOException unable to send the response
+     */
+    private void replyWithSpecification(HttpExchange exchange) throws IOException
+    {
+        String eTag = "\"" + Integer.toHexString(specification.hashCode()) + "\"";
+
+        if ((sendETag) && (eTag.equals(exchange.getRequestHeaders().getFirst("If-None-Match"))))
+        {
+            responseCodes.add(304);
+            exchange.sendResponseHeaders(304, -1);
+            exchange.close();
+
+            return;
+        }
+
+        if (sendETag)
+        {
+            exchange.getResponseHeaders().set("ETag", eTag);
+        }
+
+        byte[] body = specification.getBytes(StandardCharsets.UTF_8);
+
+        responseCodes.add(200);
+        exchange.getResponseHeaders().set("Content-Type", "application/json");
+        exchange.sendResponseHeaders(200, body.length);
+
+        try (OutputStream responseBody = exchange.getResponseBody())
+        {
+            responseBody.write(body);
+        }
+    }
+
+
+    /**
+     * Audit log destination that records the identifiers of the logged messages.
+     */
+    private class TestAuditLogDestination extends AuditLogDestination
+    {
+        /**
+         * Record the message identifier.
+         *
+         * @param logRecord log record
+         */
+        @Override
+        public void addLogRecord(AuditLogRecord logRecord)
+        {
+            messageIds.add(logRecord.getMessageId());
+        }
+    }
+
+
+    /**
+     * API integrator context that keeps the catalogued endpoints, APIs and API operations in memory and records
+     * the changes made to them.
+     */
+    private static class TestAPIContext extends APIIntegratorContext
+    {
+        private final List<EndpointElement>            endpoints     = new ArrayList<>();
+        private final Map<String, APIElement>          apis          = new HashMap<>();
+        private final Map<String, APIOperationElement> apiOperations = new HashMap<>();
+        private final Map<String, String>              apiNames      = new HashMap<>();
+        private final List<String>                     changes       = new ArrayList<>();
+        private int                                    lookups       = 0;
+        private int                                    nextGUID      = 0;
+
+
+        /**
+         * Constructor.
+         *
+         * @param auditLog audit log
+         */
+        TestAPIContext(AuditLog auditLog)
+        {
+            super("testConnector",
+                  "Test OpenAPI Monitor",
+                  "testUser",
+                  "testServer",
+                  null,
+                  null,
+                  null,
+                  null,
+                  null,
+                  null,
+                  null,
+                  null,
+                  false,
+                  null,
+                  "integrationConnectorGUID",
+                  "apiManagerGUID",
+                  "apiManager",
+                  auditLog,
+                  100);
+        }
+
+
+        /**
+         * Clear the record of the changes and lookups.
+         */
+        void reset()
+        {
+            changes.clear();
+            lookups = 0;
+        }
+
+
+        /**
+         * Return the changes made to the catalog in the order that they were made.
+         *
+         * @return list of changes
+         */
+        List<String> getChanges()
+        {
+            return changes;
+        }
+
+
+        /**
+         * Return the number of times that an API or API operation has been looked up by name.
+         *
+         * @return count
+         */
+        int getLookups()
+        {
+            return lookups;
+        }
+
+
+        /**
+         * Catalog an endpoint.
+         *
+         * @param endpointProperties properties of the endpoint
+         * @return unique identifier of the endpoint
+         */
+        @Override
+        public String createEndpoint(EndpointProperties endpointProperties)
+        {
+            EndpointElement endpointElement = new EndpointElement();
+            String          endpointGUID    = this.getGUID();
+
+            endpointElement.setElementHeader(this.getElementHeader(endpointGUID));
+            endpointElement.setEndpointProperties(endpointProperties);
+            endpoints.add(endpointElement);
+            changes.add("createEndpoint " + endpointProperties.getQualifiedName());
+
+            return endpointGUID;
+        }
+
+
+        /**
+         * Return the catalogued endpoints.
+         *
+         * @param searchString string to find in the properties
+         * @param startFrom starting element
+         * @param pageSize maximum elements to return
+         * @return list of endpoints
+         */
+        @Override
+        public List<EndpointElement> findEndpoints(String searchString,
+                                                   int    startFrom,
+                                                   int    pageSize)
+        {
+            return new ArrayList<>(endpoints);
+        }
+
+
+        /**
+         * Catalog an API.
+         *
+         * @param endpointGUID unique identifier of the endpoint
+         * @param apiProperties properties of the API
+         * @return unique identifier of the API
+         */
+        @Override
+        public String createAPI(String        endpointGUID,
+                                APIProperties apiProperties)
+        {
+            APIElement apiElement = new APIElement();
+            String     apiGUID    = this.getGUID();
+
+            apiElement.setElementHeader(this.getElementHeader(apiGUID));
+            apiElement.setAPIProperties(apiProperties);
+            apis.put(apiProperties.getQualifiedName(), apiElement);
+            apiNames.put(apiGUID, apiProperties.getQualifiedName());
+            changes.add("createAPI " + apiProperties.getQualifiedName());
+
+            return apiGUID;
+        }
+
+
+        /**
+         * Update a catalogued API.
+         *
+         * @param apiGUID unique identifier of the API
+         * @param isMergeUpdate should the properties be merged with the existing properties
+         * @param apiProperties new properties
+         */
+        @Override
+        public void updateAPI(String        apiGUID,
+                              boolean       isMergeUpdate,
+                              APIProperties apiProperties)
+        {
+            apis.get(apiNames.get(apiGUID)).setAPIProperties(apiProperties);
+            changes.add("updateAPI " + apiProperties.getQualifiedName());
+        }
+
+
+        /**
+         * Remove a catalogued API.
+         *
+         * @param apiGUID unique identifier of the API
+         * @param qualifiedName unique name of the API
+         */
+        @Override
+        public void removeAPI(String apiGUID,
+                              String qualifiedName)
+        {
+            apis.remove(qualifiedName);
+            changes.add("removeAPI " + qualifiedName);
+        }
+
+
+        /**
+         * Return the catalogued APIs with the requested name.
+         *
+         * @param name qualified name of the API
+         * @param startFrom starting element
+         * @param pageSize maximum elements to return
+         * @return list of APIs or null
+         */
+        @Override
+        public List<APIElement> getAPIsByName(String name,
+                                              int    startFrom,
+                                              int    pageSize)
+        {
+            lookups ++;
+
+            if (apis.get(name) == null)
+            {
+                return null;
+            }
+
+            return List.of(apis.get(name));
+        }
+
+
+        /**
+         * Catalog an API operation.
+         *
+         * @param apiGUID unique identifier of the API that the operation belongs to
+         * @param apiOperationProperties properties of the API operation
+         * @return unique identifier of the API operation
+         */
+        @Override
+        public String createAPIOperation(String                 apiGUID,
+                                         APIOperationProperties apiOperationProperties)
+        {
+            APIOperationElement apiOperationElement = new APIOperationElement();
+            String              apiOperationGUID    = this.getGUID();
+
+            apiOperationElement.setElementHeader(this.getElementHeader(apiOperationGUID));
+            apiOperationElement.setProperties(apiOperationProperties);
+            apiOperations.put(apiOperationProperties.getQualifiedName(), apiOperationElement);
+            changes.add("createAPIOperation " + apiOperationProperties.getQualifiedName() + " in " + apiNames.get(apiGUID));
+
+            return apiOperationGUID;
+        }
+
+
+        /**
+         * Update a catalogued API operation.
+         *
+         * @param apiOperationGUID unique identifier of the API operation
+         * @param isMergeUpdate should the properties be merged with the existing properties
+         * @param apiOperationProperties new properties
+         */
+        @Override
+        public void updateAPIOperation(String                 apiOperationGUID,
+                                       boolean                isMergeUpdate,
+                                       APIOperationProperties apiOperationProperties)
+        {
+            apiOperations.get(apiOperationProperties.getQualifiedName()).setProperties(apiOperationProperties);
+            changes.add("updateAPIOperation " + apiOperationProperties.getQualifiedName());
+        }
+
+
+        /**
+         * Remove a catalogued API operation.
+         *
+         * @param apiOperationGUID unique identifier of the API operation
+         * @param qualifiedName unique name of the API operation
+         */
+        @Override
+        public void removeAPIOperation(String apiOperationGUID,
+                                       String qualifiedName)
+        {
+            apiOperations.remove(qualifiedName);
+            changes.add("removeAPIOperation " + qualifiedName);
+        }
+
+
+        /**
+         * Return the catalogued API operations with the requested name.
+         *
+         * @param name qualified name of the API operation
+         * @param startFrom starting element
+         * @param pageSize maximum elements to return
+         * @return list of API operations or null
+         */
+        @Override
+        public List<APIOperationElement> getAPIOperationsByName(String name,
+                                                                int    startFrom,
+                                                                int    pageSize)
+        {
+            lookups ++;
+
+            if (apiOperations.get(name) == null)
+            {
+                return null;
+            }
+
+            return List.of(apiOperations.get(name));
+        }
+
+
+        /**
+         * Return a new unique identifier.
+         *
+         * @return guid
+         */
+        private String getGUID()
+        {
+            nextGUID ++;
+
+            return "guid-" + nextGUID;
+        }
+
+
+        /**
+         * Return an element header for a new element.
+         *
+         * @param guid unique identifier of the element
+         * @return element header
+         */
+        private ElementHeader getElementHeader(String guid)
+        {
+            ElementHeader elementHeader = new ElementHeader();
+
+            elementHeader.setGUID(guid);
+
+            return elementHeader;
+        }
+    }
+}
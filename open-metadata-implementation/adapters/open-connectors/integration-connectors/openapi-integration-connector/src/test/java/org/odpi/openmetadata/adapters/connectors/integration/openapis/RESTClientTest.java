@@ -0,0 +1,232 @@
+/* SPDX-License-Identifier: Apache-2.0 */
+/* Copyright Contributors to the ODPi Egeria project. */
+package org.odpi.openmetadata.adapters.connectors.integration.openapis;
+
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+import org.testng.annotations.AfterMethod;
+import org.testng.annotations.BeforeMethod;
+import org.testng.annotations.Test;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertNull;
+import static org.testng.Assert.assertTrue;
+
+
+/**
+ * Verify that RESTClient.callConditionalGetRESTCallNoParams sends the validators from the previous response and
+ * returns null when the server replies 304 Not Modified.  The calls go through the SpringRESTClientConnector
+ * created by the RESTClientFactory to a stub HTTP server.
+ */
+public class RESTClientTest
+{
+    private static final String resourcePath     = "/v3/api-docs";
+    private static final String eTagHeader       = "ETag";
+    private static final String lastModified     = "Last-Modified";
+    private static final String lastModifiedDate = "Wed, 21 Oct 2026 07:28:00 GMT";
+
+    private HttpServer server      = null;
+    private RESTClient restClient  = null;
+    private String     resourceURL = null;
+
+    private volatile String  resource         = "{\"version\":1}";
+    private volatile boolean sendETag         = false;
+    private volatile boolean sendLastModified = false;
+
+    private final List<String>  conditionalHeaders = Collections.synchronizedList(new ArrayList<>());
+    private final List<Integer> responseCodes      = Collections.synchronizedList(new ArrayList<>());
+
+
+    /**
+     * Start the stub server and a REST client that calls it.
+     *
+     * @throws Exception unable to start the server or create the client
+     */
+    @BeforeMethod
+    public void setUp() throws Exception
+    {
+        server = HttpServer.create(new InetSocketAddress("localhost", 0), 0);
+        server.createContext(resourcePath, this::reply);
+        server.start();
+
+        String serverURL = "http://localhost:" + server.getAddress().getPort();
+
+        resourceURL = serverURL + resourcePath;
+        restClient  = new RESTClient("testServer", serverURL, null);
+    }
+
+
+    /**
+     * Stop the stub server.
+     */
+    @AfterMethod
+    public void tearDown()
+    {
+        if (server != null)
+        {
+            server.stop(0);
+        }
+    }
+
+
+    /**
+     * The ETag from the first response is sent as If-None-Match on the next request.  An unchanged resource returns
+     * null and keeps the validators, a changed resource returns the new content and its new ETag.
+     *
+     * @throws Exception test failure
+     */
+    @Test
+    public void testETag() throws Exception
+    {
+        Map<String, String> validators = new HashMap<>();
+
+        sendETag = true;
+
+        assertEquals(this.get(validators), resource);
+        assertEquals(validators.get(eTagHeader), this.getETag());
+
+        String previousETag = validators.get(eTagHeader);
+
+        assertNull(this.get(validators));
+        assertEquals(validators.get(eTagHeader), previousETag);
+
+        resource = "{\"version\":2}";
+
+        assertEquals(this.get(validators), resource);
+        assertEquals(validators.get(eTagHeader), this.getETag());
+
+        assertEquals(conditionalHeaders, List.of("", "If-None-Match: " + previousETag, "If-None-Match: " + previousETag));
+        assertEquals(responseCodes, List.of(200, 304, 200));
+    }
+
+
+    /**
+     * The Last-Modified value from the first response is sent as If-Modified-Since on the next request.
+     *
+     * @throws Exception test failure
+     */
+    @Test
+    public void testLastModified() throws Exception
+    {
+        Map<String, String> validators = new HashMap<>();
+
+        sendLastModified = true;
+
+        assertEquals(this.get(validators), resource);
+        assertEquals(validators.get(lastModified), lastModifiedDate);
+        assertNull(this.get(validators));
+
+        assertEquals(conditionalHeaders, List.of("", "If-Modified-Since: " + lastModifiedDate));
+        assertEquals(responseCodes, List.of(200, 304));
+    }
+
+
+    /**
+     * A server that does not return validators receives unconditional requests and always returns the content.
+     *
+     * @throws Exception test failure
+     */
+    @Test
+    public void testNoValidators() throws Exception
+    {
+        Map<String, String> validators = new HashMap<>();
+
+        assertEquals(this.get(validators), resource);
+        assertTrue(validators.isEmpty());
+        assertEquals(this.get(validators), resource);
+
+        assertEquals(conditionalHeaders, List.of("", ""));
+        assertEquals(responseCodes, List.of(200, 200));
+    }
+
+
+    /**
+     * Issue a conditional request for the resource.
+     *
+     * @param validators validators from the previous response
+     * @return resource content or null if unchanged
+     * @throws Exception request failed
+     */
+    private String get(Map<String, String> validators) throws Exception
+    {
+        return restClient.callConditionalGetRESTCallNoParams("test", String.class, resourceURL, validators);
+    }
+
+
+    /**
+     * Return the ETag of the current resource content.
+     *
+     * @return quoted ETag
+     */
+    private String getETag()
+    {
+        return "\"" + Integer.toHexString(resource.hashCode()) + "\"";
+    }
+
+
+    /**
+     * Return the resource, or 304 Not Modified if the request's validators match the current resource.
+     *
+     * @param exchange request and response
+     * @throws IOException unable to send the response
+     */
+    private void reply(HttpExchange exchange) throws IOException
+    {
+        String ifNoneMatch     = exchange.getRequestHeaders().getFirst("If-None-Match");
+        String ifModifiedSince = exchange.getRequestHeaders().getFirst("If-Modified-Since");
+
+        if (ifNoneMatch != null)
+        {
+            conditionalHeaders.add("If-None-Match: " + ifNoneMatch);
+        }
+        else if (ifModifiedSince != null)
+        {
+            conditionalHeaders.add("If-Modified-Since: " + ifModifiedSince);
+        }
+        else
+        {
+            conditionalHeaders.add("");
+        }
+
+        if (((sendETag) && (this.getETag().equals(ifNoneMatch))) ||
+            ((sendLastModified) && (lastModifiedDate.equals(ifModifiedSince))))
+        {
+            responseCodes.add(304);
+            exchange.sendResponseHeaders(304, -1);
+            exchange.close();
+
+            return;
+        }
+
+        if (sendETag)
+        {
+            exchange.getResponseHeaders().set(eTagHeader, this.getETag());
+        }
+
+        if (sendLastModified)
+        {
+            exchange.getResponseHeaders().set(lastModified, lastModifiedDate);
+        }
+
+        byte[] body = resource.getBytes(StandardCharsets.UTF_8);
+
+        responseCodes.add(200);
+        exchange.getResponseHeaders().set("Content-Type", "application/json");
+        exchange.sendResponseHeaders(200, body.length);
+
+        try (OutputStream responseBody = exchange.getResponseBody())
+        {
+            responseBody.write(body);
+        }
+    }
+}
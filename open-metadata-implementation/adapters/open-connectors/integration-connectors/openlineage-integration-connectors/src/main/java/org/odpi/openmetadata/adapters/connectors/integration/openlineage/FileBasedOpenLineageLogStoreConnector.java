@@ -3,6 +3,8 @@
 package org.odpi.openmetadata.adapters.connectors.integration.openlineage;
 
 import org.apache.commons.io.FileUtils;
+import org.odpi.openmetadata.adapters.connectors.integration.openlineage.controls.OpenLineageLogStoreConfigurationProperty;
+import org.odpi.openmetadata.adapters.connectors.integration.openlineage.ffdc.OpenLineageIntegrationConnectorAuditCode;
 import org.odpi.openmetadata.adapters.connectors.integration.openlineage.ffdc.OpenLineageIntegrationConnectorErrorCode;
 import org.odpi.openmetadata.frameworks.connectors.ffdc.ConnectorCheckedException;
 import org.odpi.openmetadata.frameworks.connectors.ffdc.InvalidParameterException;
@@ -12,15 +14,30 @@ import org.odpi.openmetadata.integrationservices.lineage.properties.OpenLineageR
 import java.io.File;
 import java.time.ZonedDateTime;
 import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
 
 
 /**
  * FileBasedOpenLineageLogStoreConnector provides a connector implementation for a file based open lineage log.
  * The open lineage log is stored in a directory and each open lineage event record is stored as a file with a filename built
  * from the record's unique identifier (runId), time and status. The record is stored in a subdirectory that is made from the namespace and job.
+ * <br><br>
+ * Alternatively, when the segmentedLog configuration property is set, the events are appended to a segmented log in the directory.
+ * The segmented log has an index that is used to retrieve the events for a namespace, job or run within a time window.
  */
 public class FileBasedOpenLineageLogStoreConnector extends OpenLineageLogStoreConnectorBase
 {
+    private static final long megabyte = 1024L * 1024L;
+    private static final long minute   = 60L * 1000L;
+
+    private boolean useSegmentedLog  = false;
+    private long    maxSegmentSize   = 64 * megabyte;
+    private long    maxSegmentAge    = 60 * minute;
+    private boolean syncWrites       = true;
+    private boolean compressSegments = false;
+
+    private final Map<String, OpenLineageSegmentedLog> segmentedLogs = new ConcurrentHashMap<>();
+
     /**
      * Default constructor used by the connector provider.
      */
@@ -30,6 +47,50 @@ public class FileBasedOpenLineageLogStoreConnector extends OpenLineageLogStoreCo
     }
 
 
+    /**
+     * Indicates that the connector is completely configured and can begin processing.  The configuration
+     * properties are read before the destinations are set up.
+     *
+     * @throws ConnectorCheckedException there is a problem within the connector.
+     */
+    @Override
+    public void start() throws ConnectorCheckedException
+    {
+        Map<String, Object> configurationProperties = connectionProperties.getConfigurationProperties();
+
+        useSegmentedLog = super.getBooleanConfigurationProperty(OpenLineageLogStoreConfigurationProperty.SEGMENTED_LOG.getName(),
+                                                                configurationProperties);
+
+        if (useSegmentedLog)
+        {
+            int configuredSegmentSize = super.getIntConfigurationProperty(OpenLineageLogStoreConfigurationProperty.MAX_SEGMENT_SIZE.getName(),
+                                                                          configurationProperties);
+            if (configuredSegmentSize > 0)
+            {
+                maxSegmentSize = configuredSegmentSize * megabyte;
+            }
+
+            int configuredSegmentAge = super.getIntConfigurationProperty(OpenLineageLogStoreConfigurationProperty.MAX_SEGMENT_AGE.getName(),
+                                                                         configurationProperties);
+            if (configuredSegmentAge > 0)
+            {
+                maxSegmentAge = configuredSegmentAge * minute;
+            }
+
+            if ((configurationProperties != null) && (configurationProperties.get(OpenLineageLogStoreConfigurationProperty.SYNC_WRITES.getName()) != null))
+            {
+                syncWrites = super.getBooleanConfigurationProperty(OpenLineageLogStoreConfigurationProperty.SYNC_WRITES.getName(),
+                                                                   configurationProperties);
+            }
+
+            compressSegments = super.getBooleanConfigurationProperty(OpenLineageLogStoreConfigurationProperty.COMPRESS_SEGMENTS.getName(),
+                                                                     configurationProperties);
+        }
+
+        super.start();
+    }
+
+
     /**
      * Informs the subclasses that there is a new destination - in case they need to do special setup.
      *
@@ -46,6 +107,18 @@ public class FileBasedOpenLineageLogStoreConnector extends OpenLineageLogStoreCo
             File logStoreDirectory = new File(logStoreDirectoryName);
 
             FileUtils.forceMkdir(logStoreDirectory);
+
+            if ((useSegmentedLog) && (! segmentedLogs.containsKey(logStoreDirectoryName)))
+            {
+                OpenLineageSegmentedLog segmentedLog = new OpenLineageSegmentedLog(logStoreDirectory,
+                                                                                   maxSegmentSize,
+                                                                                   maxSegmentAge,
+                                                                                   syncWrites,
+                                                                                   compressSegments);
+
+                segmentedLogs.put(logStoreDirectoryName, segmentedLog);
+                this.logNewSegment(segmentedLog, logStoreDirectoryName);
+            }
         }
         catch (Exception error)
         {
@@ -81,8 +154,8 @@ public class FileBasedOpenLineageLogStoreConnector extends OpenLineageLogStoreCo
 
         if (rawEvent != null)
         {
-            String namespace = "default-namespace/";
-            String jobName = "unformatted/";
+            String namespace = "default-namespace";
+            String jobName = "unformatted";
             String runId = UUID.randomUUID().toString();
             String eventType = "UNKNOWN";
 
@@ -114,6 +187,18 @@ public class FileBasedOpenLineageLogStoreConnector extends OpenLineageLogStoreCo
                     }
                 }
 
+                OpenLineageSegmentedLog segmentedLog = segmentedLogs.get(logStoreDirectoryName);
+
+                if (segmentedLog != null)
+                {
+                    if (segmentedLog.appendEvent(zonedDateTime.toInstant().toEpochMilli(), namespace, jobName, runId, eventType, rawEvent))
+                    {
+                        this.logNewSegment(segmentedLog, logStoreDirectoryName);
+                    }
+
+                    return;
+                }
+
                 String timestamp = zonedDateTime.getYear() + "-" +
                                            zonedDateTime.getMonthValue() +  "-" +
                                            zonedDateTime.getDayOfMonth() +  ":" +
@@ -153,4 +238,115 @@ public class FileBasedOpenLineageLogStoreConnector extends OpenLineageLogStoreCo
             super.logNoRawEvent(openLineageEvent);
         }
     }
+
+
+    /**
+     * Return the open lineage events from a segmented log store that match the supplied criteria.  The events are returned
+     * in the order they were stored.
+     *
+     * @param logStoreDirectoryName directory of the log store
+     * @param namespace namespace of the job (null for any)
+     * @param jobName name of the job (null for any)
+     * @param runId identifier of the run (null for any)
+     * @param fromTime earliest event time (null for no lower bound)
+     * @param toTime latest event time (null for no upper bound)
+     * @param startFrom number of matching events to skip
+     * @param pageSize maximum number of events to return (0 for no limit)
+     * @return list of events in JSON or null if this destination is not a segmented log
+     * @throws PropertyServerException unable to read the log store
+     */
+    public List<String> getEvents(String logStoreDirectoryName,
+                                  String namespace,
+                                  String jobName,
+                                  String runId,
+                                  Date   fromTime,
+                                  Date   toTime,
+                                  int    startFrom,
+                                  int    pageSize) throws PropertyServerException
+    {
+        final String methodName = "getEvents";
+
+        OpenLineageSegmentedLog segmentedLog = segmentedLogs.get(logStoreDirectoryName);
+
+        if (segmentedLog == null)
+        {
+            return null;
+        }
+
+        try
+        {
+            return segmentedLog.getEvents(namespace,
+                                          jobName,
+                                          runId,
+                                          (fromTime == null) ? Long.MIN_VALUE : fromTime.getTime(),
+                                          (toTime == null) ? Long.MAX_VALUE : toTime.getTime(),
+                                          startFrom,
+                                          pageSize);
+        }
+        catch (Exception error)
+        {
+            throw new PropertyServerException(
+                    OpenLineageIntegrationConnectorErrorCode.UNEXPECTED_EXCEPTION.getMessageDefinition(connectorName,
+                                                                                                       error.getClass().getName(),
+                                                                                                       methodName,
+                                                                                                       error.getMessage()),
+                    this.getClass().getName(),
+                    methodName,
+                    error);
+        }
+    }
+
+
+    /**
+     * Log that the events are being stored in a new segment.
+     *
+     * @param segmentedLog segmented log
+     * @param logStoreDirectoryName directory of the log store
+     */
+    private void logNewSegment(OpenLineageSegmentedLog segmentedLog,
+                               String                  logStoreDirectoryName)
+    {
+        final String methodName = "logNewSegment";
+
+        if (auditLog != null)
+        {
+            auditLog.logMessage(methodName,
+                                OpenLineageIntegrationConnectorAuditCode.NEW_LOG_SEGMENT.getMessageDefinition(connectorName,
+                                                                                                              segmentedLog.getCurrentSegmentFileName(),
+                                                                                                              logStoreDirectoryName));
+        }
+    }
+
+
+    /**
+     * Close the segmented logs.
+     *
+     * @throws ConnectorCheckedException there is a problem within the connector.
+     */
+    @Override
+    public void disconnect() throws ConnectorCheckedException
+    {
+        final String methodName = "disconnect";
+
+        for (OpenLineageSegmentedLog segmentedLog : segmentedLogs.values())
+        {
+            try
+            {
+                segmentedLog.close();
+            }
+            catch (Exception error)
+            {
+                auditLog.logException(methodName,
+                                      OpenLineageIntegrationConnectorAuditCode.UNEXPECTED_EXCEPTION.getMessageDefinition(connectorName,
+                                                                                                                         error.getClass().getName(),
+                                                                                                                         methodName,
+                                                                                                                         error.getMessage()),
+                                      error);
+            }
+        }
+
+        segmentedLogs.clear();
+
+        super.disconnect();
+    }
 }
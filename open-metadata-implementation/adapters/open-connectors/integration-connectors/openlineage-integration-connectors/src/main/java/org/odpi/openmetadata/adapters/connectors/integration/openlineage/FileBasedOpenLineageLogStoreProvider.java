@@ -2,6 +2,7 @@
 /* Copyright Contributors to the ODPi Egeria project. */
 package org.odpi.openmetadata.adapters.connectors.integration.openlineage;
 
+import org.odpi.openmetadata.adapters.connectors.integration.openlineage.controls.OpenLineageLogStoreConfigurationProperty;
 import org.odpi.openmetadata.frameworks.auditlog.AuditLogReportingComponent;
 import org.odpi.openmetadata.frameworks.auditlog.ComponentDevelopmentStatus;
 import org.odpi.openmetadata.frameworks.connectors.properties.beans.ConnectorType;
@@ -51,6 +52,8 @@ public class FileBasedOpenLineageLogStoreProvider extends IntegrationConnectorPr
          */
         super.setConnectorClassName(connectorClassName);
 
+        super.supportedConfigurationProperties = OpenLineageLogStoreConfigurationProperty.getConfigurationPropertyTypes();
+
         /*
          * Set up the connector type that should be included in a connection used to configure this connector.
          */
@@ -62,6 +65,7 @@ public class FileBasedOpenLineageLogStoreProvider extends IntegrationConnectorPr
         connectorType.setDescription(connectorDescription);
         connectorType.setConnectorProviderClassName(this.getClass().getName());
         connectorType.setSupportedAssetTypeName(supportedAssetTypeName);
+        connectorType.setRecognizedConfigurationProperties(OpenLineageLogStoreConfigurationProperty.getRecognizedConfigurationProperties());
         connectorType.setSupportedDeployedImplementationType(DeployedImplementationType.LINEAGE_INTEGRATION_CONNECTOR.getDeployedImplementationType());
 
         super.connectorTypeBean = connectorType;
@@ -0,0 +1,858 @@
+/* SPDX-License-Identifier: Apache-2.0 */
+/* Copyright Contributors to the ODPi Egeria project. */
+package org.odpi.openmetadata.adapters.connectors.integration.openlineage;
+
+import java.io.BufferedInputStream;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.FileNotFoundException;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.RandomAccessFile;
+import java.nio.ByteBuffer;
+import java.nio.channels.ClosedChannelException;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.GZIPOutputStream;
+
+
+/**
+ * OpenLineageSegmentedLog stores open lineage events in an append-only log made up of a sequence of segment files in
+ * a single directory.  Each event is appended to the current segment as a line of JSON.  A new segment is started when the
+ * current segment reaches its maximum size or age.  Full segments may be compressed with gzip.  Compression runs on a
+ * background thread so that appends are not held up while a segment is compressed.
+ * <br><br>
+ * Each segment has an index file alongside it.  The index has a line for each event giving its event time, its position
+ * in the segment, its namespace, job name, run identifier and event type.  The index is used to retrieve the events for a
+ * job or run within a time window without reading the segments that do not hold them.
+ * <br><br>
+ * When the log is synchronizing writes, the caller waits until its event is on disk.  Callers that arrive while a disk sync
+ * is in progress are covered by the next sync, so concurrent events share the cost of the sync.
+ */
+public class OpenLineageSegmentedLog
+{
+    private static final String SEGMENT_PREFIX    = "openlineage-";
+    private static final String SEGMENT_SUFFIX    = ".log";
+    private static final String COMPRESSED_SUFFIX = ".log.gz";
+    private static final String INDEX_SUFFIX      = ".index";
+    private static final String TEMPORARY_SUFFIX  = ".tmp";
+
+    private static final byte[] NEW_LINE = "\n".getBytes(StandardCharsets.UTF_8);
+
+    private final File    logDirectory;
+    private final long    maxSegmentSize;
+    private final long    maxSegmentAge;
+    private final boolean syncWrites;
+    private final boolean compressSegments;
+
+    /*
+     * The current segment.  These values are guarded by the log's lock.
+     */
+    private long        segmentNumber      = 0L;
+    private long        segmentStartTime   = 0L;
+    private long        segmentSize        = 0L;
+    private long        indexSize          = 0L;
+    private FileChannel segmentChannel     = null;
+    private FileChannel indexChannel       = null;
+    private long        appendedBytes      = 0L;
+
+    /*
+     * The number of bytes known to be on disk.  This value is guarded by the sync lock.
+     */
+    private final Object syncLock    = new Object();
+    private       long   syncedBytes = 0L;
+
+    /*
+     * Earliest and latest event time of each full segment - used to skip segments outside a time window.
+     */
+    private final Map<Long, long[]> segmentTimeRanges = new ConcurrentHashMap<>();
+
+    /*
+     * Compresses the full segments one at a time.  This is null if the segments are not compressed.
+     */
+    private final ExecutorService compressionThread;
+
+
+    /**
+     * Constructor opens a new segment in the log directory.  Any existing segments are retained and are included in queries.
+     * If the segments are compressed, any full segment that was not compressed before the log was last closed is compressed now.
+     *
+     * @param logDirectory directory for the segment and index files
+     * @param maxSegmentSize number of bytes that a segment can reach before a new segment is started
+     * @param maxSegmentAge number of milliseconds that events are added to a segment before a new segment is started
+     * @param syncWrites wait for each event to be on disk before returning
+     * @param compressSegments compress the full segments
+     * @throws IOException unable to create the directory or the first segment
+     */
+    public OpenLineageSegmentedLog(File    logDirectory,
+                                   long    maxSegmentSize,
+                                   long    maxSegmentAge,
+                                   boolean syncWrites,
+                                   boolean compressSegments) throws IOException
+    {
+        this.logDirectory     = logDirectory;
+        this.maxSegmentSize   = maxSegmentSize;
+        this.maxSegmentAge    = maxSegmentAge;
+        this.syncWrites       = syncWrites;
+        this.compressSegments = compressSegments;
+
+        Files.createDirectories(logDirectory.toPath());
+
+        if (compressSegments)
+        {
+            this.compressionThread = Executors.newSingleThreadExecutor(runnable ->
+                                                                       {
+                                                                           Thread thread = new Thread(runnable, "OpenLineage segment compressor for " + logDirectory.getName());
+
+                                                                           thread.setDaemon(true);
+                                                                           return thread;
+                                                                       });
+        }
+        else
+        {
+            this.compressionThread = null;
+        }
+
+        for (Long existingSegmentNumber : this.getSegmentNumbers())
+        {
+            if (existingSegmentNumber > segmentNumber)
+            {
+                segmentNumber = existingSegmentNumber;
+            }
+
+            if (compressSegments)
+            {
+                this.recoverCompression(existingSegmentNumber);
+            }
+        }
+
+        this.openNewSegment();
+    }
+
+
+    /**
+     * Return the number of the segment that events are currently added to.
+     *
+     * @return segment number
+     */
+    public synchronized long getCurrentSegmentNumber()
+    {
+        return segmentNumber;
+    }
+
+
+    /**
+     * Return the name of the file for the segment that events are currently added to.
+     *
+     * @return file name
+     */
+    public synchronized String getCurrentSegmentFileName()
+    {
+        return this.getSegmentFile(segmentNumber).getName();
+    }
+
+
+    /**
+     * Append an event to the log.  If writes are synchronized, this method returns once the event and its index entry are on disk.
+     *
+     * @param eventTime time of the event in milliseconds
+     * @param namespace namespace of the event's job
+     * @param jobName name of the event's job
+     * @param runId identifier of the run
+     * @param eventType type of event
+     * @param rawEvent JSON version of the event
+     * @return true if a new segment was started for this event
+     * @throws IOException unable to write to the log
+     */
+    public boolean appendEvent(long   eventTime,
+                               String namespace,
+                               String jobName,
+                               String runId,
+                               String eventType,
+                               String rawEvent) throws IOException
+    {
+        byte[] eventBytes = rawEvent.getBytes(StandardCharsets.UTF_8);
+
+        boolean newSegment;
+        long    eventEnd;
+
+        synchronized (this)
+        {
+            newSegment = this.rollIfNeeded(eventBytes.length);
+
+            String indexEntry = eventTime + "\t" +
+                                segmentSize + "\t" +
+                                eventBytes.length + "\t" +
+                                this.getIndexField(namespace) + "\t" +
+                                this.getIndexField(jobName) + "\t" +
+                                this.getIndexField(runId) + "\t" +
+                                this.getIndexField(eventType) + "\n";
+
+            byte[] indexBytes = indexEntry.getBytes(StandardCharsets.UTF_8);
+
+            /*
+             * The event is written before its index entry so that the index never refers to missing data.
+             */
+            this.writeFully(segmentChannel, ByteBuffer.wrap(eventBytes));
+            this.writeFully(segmentChannel, ByteBuffer.wrap(NEW_LINE));
+            this.writeFully(indexChannel, ByteBuffer.wrap(indexBytes));
+
+            segmentSize   = segmentSize + eventBytes.length + NEW_LINE.length;
+            indexSize     = indexSize + indexBytes.length;
+            appendedBytes = appendedBytes + eventBytes.length + NEW_LINE.length + indexBytes.length;
+            eventEnd      = appendedBytes;
+        }
+
+        if (syncWrites)
+        {
+            this.syncTo(eventEnd);
+        }
+
+        return newSegment;
+    }
+
+
+    /**
+     * Return the events that match the supplied criteria in the order they were stored.  The index files are used to
+     * select the events, and segments with no events in the time window are skipped.
+     *
+     * @param namespace namespace of the job (null for any)
+     * @param jobName name of the job (null for any)
+     * @param runId identifier of the run (null for any)
+     * @param fromTime earliest event time in milliseconds (inclusive)
+     * @param toTime latest event time in milliseconds (inclusive)
+     * @param startFrom number of matching events to skip
+     * @param pageSize maximum number of events to return (0 for no limit)
+     * @return list of events in JSON
+     * @throws IOException unable to read the log
+     */
+    public List<String> getEvents(String namespace,
+                                  String jobName,
+                                  String runId,
+                                  long   fromTime,
+                                  long   toTime,
+                                  int    startFrom,
+                                  int    pageSize) throws IOException
+    {
+        List<String> results = new ArrayList<>();
+        int          skipped = 0;
+
+        long currentSegmentNumber;
+        long currentIndexSize;
+
+        synchronized (this)
+        {
+            currentSegmentNumber = segmentNumber;
+            currentIndexSize     = indexSize;
+        }
+
+        for (long segment : this.getSegmentNumbers())
+        {
+            if (segment > currentSegmentNumber)
+            {
+                break;
+            }
+
+            long[] timeRange = segmentTimeRanges.get(segment);
+
+            if ((timeRange != null) && ((timeRange[1] < fromTime) || (timeRange[0] > toTime)))
+            {
+                continue;
+            }
+
+            long indexLimit = (segment == currentSegmentNumber) ? currentIndexSize : Long.MAX_VALUE;
+
+            List<long[]> matchingEntries = new ArrayList<>();
+            long[]       segmentRange    = new long[]{ Long.MAX_VALUE, Long.MIN_VALUE };
+
+            for (String indexEntry : this.readIndex(segment, indexLimit))
+            {
+                String[] fields = indexEntry.split("\t", -1);
+
+                if (fields.length == 7)
+                {
+                    long entryTime = Long.parseLong(fields[0]);
+
+                    segmentRange[0] = Math.min(segmentRange[0], entryTime);
+                    segmentRange[1] = Math.max(segmentRange[1], entryTime);
+
+                    if ((entryTime >= fromTime) && (entryTime <= toTime) &&
+                        ((namespace == null) || (namespace.equals(fields[3]))) &&
+                        ((jobName == null) || (jobName.equals(fields[4]))) &&
+                        ((runId == null) || (runId.equals(fields[5]))))
+                    {
+                        if (skipped < startFrom)
+                        {
+                            skipped ++;
+                        }
+                        else if ((pageSize == 0) || (results.size() + matchingEntries.size() < pageSize))
+                        {
+                            matchingEntries.add(new long[]{ Long.parseLong(fields[1]), Long.parseLong(fields[2]) });
+                        }
+                    }
+                }
+            }
+
+            if ((segment != currentSegmentNumber) && (segmentRange[0] <= segmentRange[1]))
+            {
+                segmentTimeRanges.put(segment, segmentRange);
+            }
+
+            if (! matchingEntries.isEmpty())
+            {
+                results.addAll(this.readEvents(segment, matchingEntries));
+            }
+
+            if ((pageSize > 0) && (results.size() >= pageSize))
+            {
+                break;
+            }
+        }
+
+        return results;
+    }
+
+
+    /**
+     * Sync and close the current segment, and wait for the full segments to be compressed.
+     *
+     * @throws IOException problem closing the files
+     */
+    public void close() throws IOException
+    {
+        synchronized (this)
+        {
+            this.closeSegment();
+        }
+
+        if (compressionThread != null)
+        {
+            compressionThread.shutdown();
+
+            try
+            {
+                compressionThread.awaitTermination(1, TimeUnit.MINUTES);
+            }
+            catch (InterruptedException interrupted)
+            {
+                Thread.currentThread().interrupt();
+            }
+        }
+    }
+
+
+    /**
+     * Start a new segment if the event would take the current segment over its maximum size or the current segment
+     * is too old.  Empty segments are never rolled.  This is called while holding the log's lock.
+     *
+     * @param eventLength number of bytes in the new event
+     * @return true if a new segment was started
+     * @throws IOException unable to open the new segment
+     */
+    private boolean rollIfNeeded(long eventLength) throws IOException
+    {
+        if ((segmentSize > 0) &&
+            ((segmentSize + eventLength > maxSegmentSize) || (System.currentTimeMillis() - segmentStartTime > maxSegmentAge)))
+        {
+            long fullSegmentNumber = segmentNumber;
+
+            this.closeSegment();
+
+            this.openNewSegment();
+
+            if (compressSegments)
+            {
+                compressionThread.execute(() -> this.compressSegment(fullSegmentNumber));
+            }
+
+            return true;
+        }
+
+        return false;
+    }
+
+
+    /**
+     * Create the files for the next segment.  This is called while holding the log's lock.
+     *
+     * @throws IOException unable to create the files
+     */
+    private void openNewSegment() throws IOException
+    {
+        segmentNumber ++;
+
+        segmentChannel   = FileChannel.open(this.getSegmentFile(segmentNumber).toPath(),
+                                            StandardOpenOption.CREATE_NEW,
+                                            StandardOpenOption.WRITE);
+        indexChannel     = FileChannel.open(this.getIndexFile(segmentNumber).toPath(),
+                                            StandardOpenOption.CREATE_NEW,
+                                            StandardOpenOption.WRITE);
+        segmentStartTime = System.currentTimeMillis();
+        segmentSize      = 0L;
+        indexSize        = 0L;
+    }
+
+
+    /**
+     * Sync and close the files for the current segment.  Callers waiting for events in this segment to be synced
+     * are released by the sync performed here.  This is called while holding the log's lock.
+     *
+     * @throws IOException unable to sync or close the files
+     */
+    private void closeSegment() throws IOException
+    {
+        if (segmentChannel != null)
+        {
+            segmentChannel.force(false);
+            indexChannel.force(false);
+            segmentChannel.close();
+            indexChannel.close();
+
+            segmentChannel = null;
+            indexChannel   = null;
+        }
+    }
+
+
+    /**
+     * Wait until the log has been synced at least as far as the requested position.  The caller that performs the
+     * sync covers every event appended before the sync starts, so the other waiting callers usually return without
+     * a sync of their own.
+     *
+     * @param position number of bytes appended to the log that must be on disk
+     * @throws IOException unable to sync the files
+     */
+    private void syncTo(long position) throws IOException
+    {
+        synchronized (syncLock)
+        {
+            if (syncedBytes >= position)
+            {
+                return;
+            }
+
+            long        coveredBytes;
+            FileChannel segmentToSync;
+            FileChannel indexToSync;
+
+            synchronized (this)
+            {
+                coveredBytes  = appendedBytes;
+                segmentToSync = segmentChannel;
+                indexToSync   = indexChannel;
+            }
+
+            try
+            {
+                if (segmentToSync != null)
+                {
+                    segmentToSync.force(false);
+                    indexToSync.force(false);
+                }
+            }
+            catch (ClosedChannelException segmentClosed)
+            {
+                /*
+                 * The segment was full and has been closed.  It was synced before it was closed.
+                 */
+            }
+
+            syncedBytes = coveredBytes;
+        }
+    }
+
+
+    /**
+     * Finish the work of a compression that was interrupted when the log was last closed.  A compressed file is only
+     * renamed into place once it is on disk, so if both copies of a segment exist, the uncompressed copy can be removed.
+     * A segment with no compressed copy is queued for compression.  This is called from the constructor.
+     *
+     * @param segment number of an existing segment
+     * @throws IOException unable to remove the files left by the interrupted compression
+     */
+    private void recoverCompression(long segment) throws IOException
+    {
+        File segmentFile = this.getSegmentFile(segment);
+
+        Files.deleteIfExists(this.getTemporaryFile(segment).toPath());
+
+        if (segmentFile.exists())
+        {
+            if (this.getCompressedFile(segment).exists())
+            {
+                Files.delete(segmentFile.toPath());
+            }
+            else
+            {
+                compressionThread.execute(() -> this.compressSegment(segment));
+            }
+        }
+    }
+
+
+    /**
+     * Replace a full segment with a gzip compressed copy.  The index still refers to positions in the uncompressed data.
+     * The compressed copy and the directory entry for it are on disk before the uncompressed segment is removed, so a
+     * crash never loses the segment.  If the compression fails, the uncompressed segment is kept and remains readable;
+     * it is compressed again when the log is next opened.  This runs on the compression thread.
+     *
+     * @param segment number of the segment to compress
+     */
+    private void compressSegment(long segment)
+    {
+        File segmentFile    = this.getSegmentFile(segment);
+        File compressedFile = this.getCompressedFile(segment);
+        File temporaryFile  = this.getTemporaryFile(segment);
+
+        try
+        {
+            try (InputStream      inputStream      = new FileInputStream(segmentFile);
+                 FileOutputStream fileOutputStream = new FileOutputStream(temporaryFile);
+                 GZIPOutputStream outputStream     = new GZIPOutputStream(fileOutputStream))
+            {
+                inputStream.transferTo(outputStream);
+                outputStream.finish();
+                fileOutputStream.getChannel().force(true);
+            }
+
+            Files.move(temporaryFile.toPath(), compressedFile.toPath(), StandardCopyOption.ATOMIC_MOVE);
+            this.syncDirectory();
+
+            Files.delete(segmentFile.toPath());
+            this.syncDirectory();
+        }
+        catch (IOException error)
+        {
+            try
+            {
+                Files.deleteIfExists(temporaryFile.toPath());
+            }
+            catch (IOException ignored)
+            {
+                // the temporary file is removed when the log is next opened
+            }
+        }
+    }
+
+
+    /**
+     * Sync the log directory so that the renaming and removal of files is on disk.  Some platforms do not allow a
+     * directory to be opened, and on those the file operations are already durable when they return.
+     */
+    private void syncDirectory()
+    {
+        try (FileChannel directoryChannel = FileChannel.open(logDirectory.toPath(), StandardOpenOption.READ))
+        {
+            directoryChannel.force(true);
+        }
+        catch (IOException notSupported)
+        {
+            // directory sync is not supported on this platform
+        }
+    }
+
+
+    /**
+     * Read the entries from a segment's index.
+     *
+     * @param segment segment number
+     * @param limit number of bytes of the index that are complete
+     * @return list of index entries
+     * @throws IOException unable to read the index
+     */
+    private List<String> readIndex(long segment,
+                                   long limit) throws IOException
+    {
+        File indexFile = this.getIndexFile(segment);
+
+        if (! indexFile.exists())
+        {
+            return new ArrayList<>();
+        }
+
+        byte[] indexBytes = Files.readAllBytes(indexFile.toPath());
+        int    length     = (int)Math.min(indexBytes.length, limit);
+
+        /*
+         * Ignore a partly written entry at the end of the index.
+         */
+        while ((length > 0) && (indexBytes[length - 1] != '\n'))
+        {
+            length --;
+        }
+
+        if (length == 0)
+        {
+            return new ArrayList<>();
+        }
+
+        return Arrays.asList(new String(indexBytes, 0, length - 1, StandardCharsets.UTF_8).split("\n"));
+    }
+
+
+    /**
+     * Read the requested events from a segment.  The entries are in the order they were appended so a compressed
+     * segment is read in a single pass.
+     *
+     * @param segment segment number
+     * @param entries position and length of each event
+     * @return list of events
+     * @throws IOException unable to read the segment
+     */
+    private List<String> readEvents(long         segment,
+                                    List<long[]> entries) throws IOException
+    {
+        File compressedFile = this.getCompressedFile(segment);
+
+        /*
+         * The compressed file is only visible once it is complete, and the uncompressed file is removed after that.
+         * The segment may be compressed in the background between the check and the opening of the uncompressed file,
+         * in which case the compressed file is read instead.  An uncompressed file that is already open can still be
+         * read after it is removed.
+         */
+        if (! compressedFile.exists())
+        {
+            try
+            {
+                return this.readUncompressedEvents(segment, entries);
+            }
+            catch (FileNotFoundException segmentCompressed)
+            {
+                if (! compressedFile.exists())
+                {
+                    throw segmentCompressed;
+                }
+            }
+        }
+
+        List<String> events = new ArrayList<>();
+
+        try (InputStream segmentReader = new GZIPInputStream(new BufferedInputStream(new FileInputStream(compressedFile))))
+        {
+            long position = 0L;
+
+            for (long[] entry : entries)
+            {
+                segmentReader.skipNBytes(entry[0] - position);
+
+                byte[] eventBytes = segmentReader.readNBytes((int)entry[1]);
+
+                events.add(new String(eventBytes, StandardCharsets.UTF_8));
+                position = entry[0] + entry[1];
+            }
+        }
+
+        return events;
+    }
+
+
+    /**
+     * Read the requested events from the uncompressed file of a segment.
+     *
+     * @param segment segment number
+     * @param entries position and length of each event
+     * @return list of events
+     * @throws FileNotFoundException the uncompressed file has been removed
+     * @throws IOException unable to read the segment
+     */
+    private List<String> readUncompressedEvents(long         segment,
+                                                List<long[]> entries) throws IOException
+    {
+        List<String> events = new ArrayList<>();
+
+        try (RandomAccessFile segmentReader = new RandomAccessFile(this.getSegmentFile(segment), "r"))
+        {
+            for (long[] entry : entries)
+            {
+                byte[] eventBytes = new byte[(int)entry[1]];
+
+                segmentReader.seek(entry[0]);
+                segmentReader.readFully(eventBytes);
+                events.add(new String(eventBytes, StandardCharsets.UTF_8));
+            }
+        }
+
+        return events;
+    }
+
+
+    /**
+     * Return the segments in the log directory in the order they were created.  The index files are included in the
+     * search because they are never renamed or removed, so a segment that is compressed while the directory is listed
+     * is not missed.
+     *
+     * @return set of segment numbers
+     */
+    private Set<Long> getSegmentNumbers()
+    {
+        Set<Long> segmentNumbers = new TreeSet<>();
+        File[]    files          = logDirectory.listFiles();
+
+        if (files != null)
+        {
+            for (File file : files)
+            {
+                String fileName = file.getName();
+
+                if (fileName.startsWith(SEGMENT_PREFIX))
+                {
+                    String segmentId = null;
+
+                    if (fileName.endsWith(COMPRESSED_SUFFIX))
+                    {
+                        segmentId = fileName.substring(SEGMENT_PREFIX.length(), fileName.length() - COMPRESSED_SUFFIX.length());
+                    }
+                    else if (fileName.endsWith(SEGMENT_SUFFIX))
+                    {
+                        segmentId = fileName.substring(SEGMENT_PREFIX.length(), fileName.length() - SEGMENT_SUFFIX.length());
+                    }
+                    else if (fileName.endsWith(INDEX_SUFFIX))
+                    {
+                        segmentId = fileName.substring(SEGMENT_PREFIX.length(), fileName.length() - INDEX_SUFFIX.length());
+                    }
+
+                    if (segmentId != null)
+                    {
+                        try
+                        {
+                            segmentNumbers.add(Long.parseLong(segmentId));
+                        }
+                        catch (NumberFormatException notSegment)
+                        {
+                            // ignore files that are not named as segments
+                        }
+                    }
+                }
+            }
+        }
+
+        return segmentNumbers;
+    }
+
+
+    /**
+     * Return the uncompressed file for a segment.
+     *
+     * @param segment segment number
+     * @return file
+     */
+    private File getSegmentFile(long segment)
+    {
+        return new File(logDirectory, SEGMENT_PREFIX + this.getSegmentId(segment) + SEGMENT_SUFFIX);
+    }
+
+
+    /**
+     * Return the compressed file for a segment.
+     *
+     * @param segment segment number
+     * @return file
+     */
+    private File getCompressedFile(long segment)
+    {
+        return new File(logDirectory, SEGMENT_PREFIX + this.getSegmentId(segment) + COMPRESSED_SUFFIX);
+    }
+
+
+    /**
+     * Return the file that a segment is compressed into before it is renamed to the compressed file.
+     *
+     * @param segment segment number
+     * @return file
+     */
+    private File getTemporaryFile(long segment)
+    {
+        return new File(logDirectory, SEGMENT_PREFIX + this.getSegmentId(segment) + COMPRESSED_SUFFIX + TEMPORARY_SUFFIX);
+    }
+
+
+    /**
+     * Return the index file for a segment.
+     *
+     * @param segment segment number
+     * @return file
+     */
+    private File getIndexFile(long segment)
+    {
+        return new File(logDirectory, SEGMENT_PREFIX + this.getSegmentId(segment) + INDEX_SUFFIX);
+    }
+
+
+    /**
+     * Return the segment number padded so that the files sort in the order they were created.
+     *
+     * @param segment segment number
+     * @return string
+     */
+    private String getSegmentId(long segment)
+    {
+        return String.format("%012d", segment);
+    }
+
+
+    /**
+     * Remove the characters that separate the fields and entries of the index.
+     *
+     * @param value field value
+     * @return value to store in the index
+     */
+    private String getIndexField(String value)
+    {
+        if (value == null)
+        {
+            return "";
+        }
+
+        return value.replace('\t', ' ').replace('\n', ' ').replace('\r', ' ');
+    }
+
+
+    /**
+     * Write the whole buffer to the channel.
+     *
+     * @param channel file channel
+     * @param buffer data to write
+     * @throws IOException unable to write
+     */
+    private void writeFully(FileChannel channel,
+                            ByteBuffer  buffer) throws IOException
+    {
+        while (buffer.hasRemaining())
+        {
+            channel.write(buffer);
+        }
+    }
+
+
+    /**
+     * Standard toString method.
+     *
+     * @return print out of variables in a JSON-style
+     */
+    @Override
+    public String toString()
+    {
+        return "OpenLineageSegmentedLog{" +
+                       "logDirectory=" + logDirectory +
+                       ", maxSegmentSize=" + maxSegmentSize +
+                       ", maxSegmentAge=" + maxSegmentAge +
+                       ", syncWrites=" + syncWrites +
+                       ", compressSegments=" + compressSegments +
+                       '}';
+    }
+}
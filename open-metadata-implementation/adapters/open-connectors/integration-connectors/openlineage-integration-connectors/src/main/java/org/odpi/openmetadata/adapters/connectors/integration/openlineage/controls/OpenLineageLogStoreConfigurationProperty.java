@@ -0,0 +1,213 @@
+/* SPDX-License-Identifier: Apache-2.0 */
+/* Copyright Contributors to the ODPi Egeria project. */
+
+package org.odpi.openmetadata.adapters.connectors.integration.openlineage.controls;
+
+import org.odpi.openmetadata.frameworks.connectors.controls.ConfigurationPropertyType;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * OpenLineageLogStoreConfigurationProperty defines the configuration properties used with the file-based open lineage log store.
+ */
+public enum OpenLineageLogStoreConfigurationProperty
+{
+    /**
+     * Store the events in an append-only log of segment files rather than one file per event.
+     */
+    SEGMENTED_LOG ("segmentedLog",
+                   "Store the events in an append-only log of segment files rather than one file per event.",
+                   "boolean",
+                   "true",
+                   false),
+
+    /**
+     * Size in megabytes that a segment file may reach before a new segment is started.
+     */
+    MAX_SEGMENT_SIZE ("maxSegmentSize",
+                      "Size in megabytes that a segment file may reach before a new segment is started.",
+                      "integer",
+                      "64",
+                      false),
+
+    /**
+     * Number of minutes that events are added to a segment file before a new segment is started.
+     */
+    MAX_SEGMENT_AGE ("maxSegmentAge",
+                     "Number of minutes that events are added to a segment file before a new segment is started.",
+                     "integer",
+                     "60",
+                     false),
+
+    /**
+     * Wait for each event to be written to disk before returning.  Concurrent events share the same disk sync.
+     */
+    SYNC_WRITES ("syncWrites",
+                 "Wait for each event to be written to disk before returning.  Concurrent events share the same disk sync.",
+                 "boolean",
+                 "true",
+                 false),
+
+    /**
+     * Compress each segment file with gzip once it is full.
+     */
+    COMPRESS_SEGMENTS ("compressSegments",
+                       "Compress each segment file with gzip once it is full.",
+                       "boolean",
+                       "false",
+                       false),
+
+    ;
+
+    public final String           name;
+    public final String           description;
+    public final String           dataType;
+    public final String           example;
+    public final boolean          isPlaceholder;
+
+
+    /**
+     * Create a specific Enum constant.
+     *
+     * @param name name of the request parameter
+     * @param description description of the request parameter
+     * @param dataType type of value of the request parameter
+     * @param example example of the request parameter
+     * @param isPlaceholder is this also used as a placeholder property?
+     */
+    OpenLineageLogStoreConfigurationProperty(String  name,
+                                            String  description,
+                                            String  dataType,
+                                            String  example,
+                                            boolean isPlaceholder)
+    {
+        this.name          = name;
+        this.description   = description;
+        this.dataType      = dataType;
+        this.example       = example;
+        this.isPlaceholder = isPlaceholder;
+    }
+
+
+    /**
+     * Return the name of the request parameter.
+     *
+     * @return string name
+     */
+    public String getName()
+    {
+        return name;
+    }
+
+
+    /**
+     * Return the description of the configuration property.
+     *
+     * @return text
+     */
+    public String getDescription()
+    {
+        return description;
+    }
+
+
+    /**
+     * Return the data type for the configuration property.
+     *
+     * @return data type name
+     */
+    public String getDataType()
+    {
+        return dataType;
+    }
+
+
+    /**
+     * Return an example of the configuration property to help users understand how to set it up.
+     *
+     * @return example
+     */
+    public String getExample()
+    {
+        return example;
+    }
+
+
+    /**
+     * Return whether this value is also used as a placeholder property.
+     *
+     * @return boolean
+     */
+    public boolean isPlaceholder()
+    {
+        return isPlaceholder;
+    }
+
+
+
+    /**
+     * Get recognizedConfigurationProperties for the connector.
+     *
+     * @return list of property names
+     */
+    public static List<String> getRecognizedConfigurationProperties()
+    {
+        List<String> recognizedConfigurationProperties = new ArrayList<>();
+
+        for (OpenLineageLogStoreConfigurationProperty configurationProperty : OpenLineageLogStoreConfigurationProperty.values())
+        {
+            recognizedConfigurationProperties.add(configurationProperty.getName());
+        }
+        return recognizedConfigurationProperties;
+    }
+
+
+    /**
+     * Retrieve all the defined configuration properties
+     *
+     * @return list of configuration property types
+     */
+    public static List<ConfigurationPropertyType> getConfigurationPropertyTypes()
+    {
+        List<ConfigurationPropertyType> configurationPropertyTypes = new ArrayList<>();
+
+        for (OpenLineageLogStoreConfigurationProperty configurationProperty : OpenLineageLogStoreConfigurationProperty.values())
+        {
+            configurationPropertyTypes.add(configurationProperty.getConfigurationPropertyType());
+        }
+
+        return configurationPropertyTypes;
+    }
+
+
+    /**
+     * Return a summary of this enum to use in a connector provider.
+     *
+     * @return request parameter type
+     */
+    public ConfigurationPropertyType getConfigurationPropertyType()
+    {
+        ConfigurationPropertyType configurationPropertyType = new ConfigurationPropertyType();
+
+        configurationPropertyType.setName(name);
+        configurationPropertyType.setDescription(description);
+        configurationPropertyType.setDataType(dataType);
+        configurationPropertyType.setExample(example);
+        configurationPropertyType.setRequired(isPlaceholder);
+
+        return configurationPropertyType;
+    }
+
+
+    /**
+     * Output of this enum class and main value.
+     *
+     * @return string showing enum value
+     */
+    @Override
+    public String toString()
+    {
+        return "ConfigurationProperty{ name=" + name + "}";
+    }
+}
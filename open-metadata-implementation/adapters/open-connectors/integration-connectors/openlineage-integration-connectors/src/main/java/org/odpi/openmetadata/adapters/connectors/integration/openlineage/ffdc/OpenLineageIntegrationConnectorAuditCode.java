@@ -73,6 +73,15 @@ public enum OpenLineageIntegrationConnectorAuditCode implements AuditLogMessageS
                               "The connector will pass any events received to the other integration connectors that have registered listeners.",
                               "No action is required unless there are errors that follow indicating that there are problems access events from the topic."),
 
+    /**
+     * OPEN-LINEAGE-INTEGRATION-CONNECTOR-0006 - The {0} integration connector is storing open lineage events in segment {1} of the log in directory {2}
+     */
+    NEW_LOG_SEGMENT("OPEN-LINEAGE-INTEGRATION-CONNECTOR-0006",
+                    AuditLogRecordSeverityLevel.INFO,
+                    "The {0} integration connector is storing open lineage events in segment {1} of the log in directory {2}",
+                    "The connector appends each open lineage event to this segment file and records its namespace, job, run and event time in the segment's index file.  A new segment is started when this one reaches its maximum size or age.",
+                    "No action is required.  Segment files that are no longer needed can be archived along with their index files."),
+
     /**
      * OPEN-LINEAGE-INTEGRATION-CONNECTOR-001 - The {0} integration connector received an unexpected {1} exception in method {2} when working with open lineage events; the error message was: {3}
      */
@@ -0,0 +1,414 @@
+/* SPDX-License-Identifier: Apache-2.0 */
+/* Copyright Contributors to the ODPi Egeria project. */
+package org.odpi.openmetadata.adapters.connectors.integration.openlineage;
+
+import org.apache.commons.io.FileUtils;
+import org.testng.annotations.AfterMethod;
+import org.testng.annotations.BeforeMethod;
+import org.testng.annotations.Test;
+
+import java.io.File;
+import java.io.FileOutputStream;
+import java.nio.file.Files;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.zip.GZIPOutputStream;
+
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertFalse;
+import static org.testng.Assert.assertTrue;
+
+
+/**
+ * Verify that events appended to the segmented log, including by concurrent callers, can be retrieved after the
+ * segments have been rolled and compressed, and after the log has been reopened.
+ */
+public class OpenLineageSegmentedLogTest
+{
+    private static final long maxSegmentAge = 60 * 60 * 1000L;
+    private static final long baseTime      = 1_700_000_000_000L;
+
+    private File logDirectory = null;
+
+
+    /**
+     * Create an empty directory for the log.
+     *
+     * @throws Exception unable to create the directory
+     */
+    @BeforeMethod
+    public void setUp() throws Exception
+    {
+        logDirectory = Files.createTempDirectory("openlineage-segmented-log").toFile();
+    }
+
+
+    /**
+     * Remove the log directory.
+     *
+     * @throws Exception unable to remove the directory
+     */
+    @AfterMethod
+    public void tearDown() throws Exception
+    {
+        FileUtils.deleteDirectory(logDirectory);
+    }
+
+
+    /**
+     * Every event appended by concurrent callers is on disk when the callers return, and can be selected by run,
+     * by job, by time window and by page.
+     *
+     * @throws Exception test failure
+     */
+    @Test
+    public void testConcurrentAppendAndQuery() throws Exception
+    {
+        final int callers         = 8;
+        final int eventsPerCaller = 50;
+
+        OpenLineageSegmentedLog segmentedLog = new OpenLineageSegmentedLog(logDirectory, 1024 * 1024, maxSegmentAge, true, false);
+        ExecutorService         executor     = Executors.newFixedThreadPool(callers);
+        List<Future<?>>         appends      = new ArrayList<>();
+
+        for (int caller = 0; caller < callers; caller ++)
+        {
+            final String jobName = "job-" + caller;
+
+            appends.add(executor.submit(() ->
+                                        {
+                                            for (int event = 0; event < eventsPerCaller; event ++)
+                                            {
+                                                this.appendEvent(segmentedLog, jobName, event);
+                                            }
+
+                                            return null;
+                                        }));
+        }
+
+        for (Future<?> append : appends)
+        {
+            append.get();
+        }
+
+        executor.shutdown();
+
+        assertEquals(segmentedLog.getEvents(null, null, null, 0L, Long.MAX_VALUE, 0, 0).size(), callers * eventsPerCaller);
+
+        List<String> runEvents = segmentedLog.getEvents("namespace", "job-3", "job-3-run-2", 0L, Long.MAX_VALUE, 0, 0);
+
+        assertEquals(runEvents.size(), eventsPerCaller / 5);
+
+        for (String event : runEvents)
+        {
+            assertTrue(event.contains("\"runId\":\"job-3-run-2\""), event);
+        }
+
+        List<String> windowEvents = segmentedLog.getEvents("namespace", "job-5", null, baseTime + 10, baseTime + 19, 0, 0);
+
+        assertEquals(windowEvents, this.getExpectedEvents("job-5", 10, 19));
+        assertEquals(segmentedLog.getEvents("namespace", "job-5", null, 0L, Long.MAX_VALUE, 20, 5),
+                     this.getExpectedEvents("job-5", 20, 24));
+
+        segmentedLog.close();
+    }
+
+
+    /**
+     * Events stay in the order they were appended when the log rolls over many segments, and each full segment is
+     * replaced by a compressed copy without leaving temporary files.
+     *
+     * @throws Exception test failure
+     */
+    @Test
+    public void testRollAndCompression() throws Exception
+    {
+        final int eventCount = 500;
+
+        OpenLineageSegmentedLog segmentedLog = new OpenLineageSegmentedLog(logDirectory, 2048, maxSegmentAge, false, true);
+        long                    firstSegment = segmentedLog.getCurrentSegmentNumber();
+        int                     rolls        = 0;
+
+        for (int event = 0; event < eventCount; event ++)
+        {
+            if (this.appendEvent(segmentedLog, "job-1", event))
+            {
+                rolls ++;
+            }
+        }
+
+        long lastSegment = segmentedLog.getCurrentSegmentNumber();
+
+        assertTrue(rolls > 10, "Segments rolled: " + rolls);
+        assertEquals(lastSegment - firstSegment, rolls);
+
+        /*
+         * Queries may run while the full segments are being compressed.
+         */
+        assertEquals(segmentedLog.getEvents(null, null, null, 0L, Long.MAX_VALUE, 0, 0),
+                     this.getExpectedEvents("job-1", 0, eventCount - 1));
+
+        segmentedLog.close();
+
+        Set<String> fileNames = this.getFileNames();
+
+        for (long segment = firstSegment; segment < lastSegment; segment ++)
+        {
+            assertTrue(fileNames.contains(this.getSegmentFileName(segment, ".log.gz")), fileNames.toString());
+            assertFalse(fileNames.contains(this.getSegmentFileName(segment, ".log")), fileNames.toString());
+            assertTrue(fileNames.contains(this.getSegmentFileName(segment, ".index")), fileNames.toString());
+        }
+
+        assertTrue(fileNames.contains(this.getSegmentFileName(lastSegment, ".log")), fileNames.toString());
+
+        for (String fileName : fileNames)
+        {
+            assertFalse(fileName.endsWith(".tmp"), fileName);
+        }
+    }
+
+
+    /**
+     * A reopened log starts a new segment after the existing ones, and queries return the events from before and
+     * after it was reopened.
+     *
+     * @throws Exception test failure
+     */
+    @Test
+    public void testReopen() throws Exception
+    {
+        OpenLineageSegmentedLog segmentedLog = new OpenLineageSegmentedLog(logDirectory, 2048, maxSegmentAge, true, true);
+
+        for (int event = 0; event < 100; event ++)
+        {
+            this.appendEvent(segmentedLog, "job-1", event);
+        }
+
+        long lastSegment = segmentedLog.getCurrentSegmentNumber();
+
+        segmentedLog.close();
+
+        segmentedLog = new OpenLineageSegmentedLog(logDirectory, 2048, maxSegmentAge, true, true);
+
+        assertEquals(segmentedLog.getCurrentSegmentNumber(), lastSegment + 1);
+
+        for (int event = 100; event < 150; event ++)
+        {
+            this.appendEvent(segmentedLog, "job-1", event);
+        }
+
+        assertEquals(segmentedLog.getEvents("namespace", "job-1", null, 0L, Long.MAX_VALUE, 0, 0),
+                     this.getExpectedEvents("job-1", 0, 149));
+        assertEquals(segmentedLog.getEvents("namespace", "job-1", "job-1-run-0", baseTime + 95, baseTime + 104, 0, 0),
+                     this.getExpectedEvents("job-1", 95, 104, "job-1-run-0"));
+
+        segmentedLog.close();
+    }
+
+
+    /**
+     * Reopening a log finishes the compressions that were interrupted when it was last closed.  A segment with a
+     * complete compressed copy loses its uncompressed copy, an uncompressed segment is compressed, and partly
+     * written compressed files are removed.
+     *
+     * @throws Exception test failure
+     */
+    @Test
+    public void testInterruptedCompressionRecovered() throws Exception
+    {
+        OpenLineageSegmentedLog segmentedLog = new OpenLineageSegmentedLog(logDirectory, 1024 * 1024, maxSegmentAge, true, false);
+
+        for (int event = 0; event < 10; event ++)
+        {
+            this.appendEvent(segmentedLog, "job-1", event);
+        }
+
+        long firstSegment = segmentedLog.getCurrentSegmentNumber();
+
+        segmentedLog.close();
+
+        segmentedLog = new OpenLineageSegmentedLog(logDirectory, 1024 * 1024, maxSegmentAge, true, false);
+
+        for (int event = 10; event < 20; event ++)
+        {
+            this.appendEvent(segmentedLog, "job-1", event);
+        }
+
+        long secondSegment = segmentedLog.getCurrentSegmentNumber();
+
+        segmentedLog.close();
+
+        /*
+         * The first segment was compressed but not removed, and the second segment was being compressed.
+         */
+        File firstSegmentFile = new File(logDirectory, this.getSegmentFileName(firstSegment, ".log"));
+
+        try (GZIPOutputStream outputStream = new GZIPOutputStream(new FileOutputStream(new File(logDirectory, this.getSegmentFileName(firstSegment, ".log.gz")))))
+        {
+            outputStream.write(Files.readAllBytes(firstSegmentFile.toPath()));
+        }
+
+        Files.write(new File(logDirectory, this.getSegmentFileName(secondSegment, ".log.gz.tmp")).toPath(), new byte[]{ 31 });
+
+        segmentedLog = new OpenLineageSegmentedLog(logDirectory, 1024 * 1024, maxSegmentAge, true, true);
+
+        assertEquals(segmentedLog.getEvents(null, null, null, 0L, Long.MAX_VALUE, 0, 0),
+                     this.getExpectedEvents("job-1", 0, 19));
+
+        segmentedLog.close();
+
+        Set<String> fileNames = this.getFileNames();
+
+        assertEquals(fileNames, Set.of(this.getSegmentFileName(firstSegment, ".log.gz"),
+                                       this.getSegmentFileName(firstSegment, ".index"),
+                                       this.getSegmentFileName(secondSegment, ".log.gz"),
+                                       this.getSegmentFileName(secondSegment, ".index"),
+                                       this.getSegmentFileName(secondSegment + 1, ".log"),
+                                       this.getSegmentFileName(secondSegment + 1, ".index")));
+
+        segmentedLog = new OpenLineageSegmentedLog(logDirectory, 1024 * 1024, maxSegmentAge, true, true);
+
+        assertEquals(segmentedLog.getEvents(null, null, null, 0L, Long.MAX_VALUE, 0, 0),
+                     this.getExpectedEvents("job-1", 0, 19));
+
+        segmentedLog.close();
+    }
+
+
+    /**
+     * Append an event for a job.  The event time is the base time plus the event number, and the job's events are
+     * spread over five runs.
+     *
+     * @param segmentedLog log to add to
+     * @param jobName name of the job
+     * @param eventNumber number of the event within the job
+     * @return true if a new segment was started for this event
+     * @throws Exception unable to append the event
+     */
+    private boolean appendEvent(OpenLineageSegmentedLog segmentedLog,
+                                String                  jobName,
+                                int                     eventNumber) throws Exception
+    {
+        return segmentedLog.appendEvent(baseTime + eventNumber,
+                                        "namespace",
+                                        jobName,
+                                        this.getRunId(jobName, eventNumber),
+                                        "COMPLETE",
+                                        this.getEvent(jobName, eventNumber));
+    }
+
+
+    /**
+     * Return the identifier of the run that an event belongs to.
+     *
+     * @param jobName name of the job
+     * @param eventNumber number of the event within the job
+     * @return run identifier
+     */
+    private String getRunId(String jobName,
+                            int    eventNumber)
+    {
+        return jobName + "-run-" + (eventNumber % 5);
+    }
+
+
+    /**
+     * Return the JSON for an event.
+     *
+     * @param jobName name of the job
+     * @param eventNumber number of the event within the job
+     * @return JSON event
+     */
+    private String getEvent(String jobName,
+                            int    eventNumber)
+    {
+        return "{\"eventType\":\"COMPLETE\",\"eventTime\":\"" + (baseTime + eventNumber) + "\"," +
+                       "\"job\":{\"namespace\":\"namespace\",\"name\":\"" + jobName + "\"}," +
+                       "\"runId\":\"" + this.getRunId(jobName, eventNumber) + "\",\"eventNumber\":" + eventNumber + "}";
+    }
+
+
+    /**
+     * Return the events of a job between two event numbers.
+     *
+     * @param jobName name of the job
+     * @param firstEvent number of the first event
+     * @param lastEvent number of the last event
+     * @return list of JSON events
+     */
+    private List<String> getExpectedEvents(String jobName,
+                                           int    firstEvent,
+                                           int    lastEvent)
+    {
+        return this.getExpectedEvents(jobName, firstEvent, lastEvent, null);
+    }
+
+
+    /**
+     * Return the events of a job between two event numbers, optionally restricted to one run.
+     *
+     * @param jobName name of the job
+     * @param firstEvent number of the first event
+     * @param lastEvent number of the last event
+     * @param runId identifier of the run (null for any)
+     * @return list of JSON events
+     */
+    private List<String> getExpectedEvents(String jobName,
+                                           int    firstEvent,
+                                           int    lastEvent,
+                                           String runId)
+    {
+        List<String> events = new ArrayList<>();
+
+        for (int event = firstEvent; event <= lastEvent; event ++)
+        {
+            if ((runId == null) || (runId.equals(this.getRunId(jobName, event))))
+            {
+                events.add(this.getEvent(jobName, event));
+            }
+        }
+
+        return events;
+    }
+
+
+    /**
+     * Return the name of one of the files of a segment.
+     *
+     * @param segment segment number
+     * @param suffix file type
+     * @return file name
+     */
+    private String getSegmentFileName(long   segment,
+                                      String suffix)
+    {
+        return "openlineage-" + String.format("%012d", segment) + suffix;
+    }
+
+
+    /**
+     * Return the names of the files in the log directory.
+     *
+     * @return set of file names
+     */
+    private Set<String> getFileNames()
+    {
+        Set<String> fileNames = new HashSet<>();
+        File[]      files     = logDirectory.listFiles();
+
+        if (files != null)
+        {
+            for (File file : files)
+            {
+                fileNames.add(file.getName());
+            }
+        }
+
+        return fileNames;
+    }
+}
@@ -16,11 +16,15 @@ import org.odpi.openmetadata.adapters.connectors.resource.jdbc.properties.JDBCDa
 import org.odpi.openmetadata.frameworks.auditlog.AuditLog;
 import org.odpi.openmetadata.frameworks.connectors.Connector;
 import org.odpi.openmetadata.frameworks.connectors.ffdc.ConnectorCheckedException;
+import org.odpi.openmetadata.frameworks.connectors.ffdc.InvalidParameterException;
+import org.odpi.openmetadata.frameworks.connectors.ffdc.PropertyServerException;
+import org.odpi.openmetadata.frameworks.connectors.ffdc.UserNotAuthorizedException;
 import org.odpi.openmetadata.frameworks.governanceaction.properties.*;
 import org.odpi.openmetadata.frameworks.governanceaction.search.*;
 import org.odpi.openmetadata.frameworks.integration.connectors.CatalogTargetProcessorBase;
 import org.odpi.openmetadata.frameworks.integration.context.OpenMetadataAccess;
 import org.odpi.openmetadata.frameworks.openmetadata.enums.ElementOriginCategory;
+import org.odpi.openmetadata.frameworks.openmetadata.enums.SequencingOrder;
 import org.odpi.openmetadata.frameworks.openmetadata.metadataelements.*;
 import org.odpi.openmetadata.frameworks.openmetadata.properties.assets.DataAssetProperties;
 import org.odpi.openmetadata.frameworks.openmetadata.properties.glossaries.GlossaryProperties;
@@ -30,6 +34,7 @@ import org.odpi.openmetadata.frameworks.openmetadata.types.OpenMetadataType;
 import org.odpi.openmetadata.integrationservices.catalog.connector.DataAssetExchangeService;
 import org.odpi.openmetadata.integrationservices.catalog.connector.GlossaryExchangeService;
 
+import javax.sql.DataSource;
 import java.sql.Connection;
 import java.sql.Types;
 import java.util.*;
@@ -73,6 +78,17 @@ public class HarvestOpenMetadataCatalogTargetProcessor extends CatalogTargetProc
     private static final String externalTypeAttributesDatabaseTable = "ds_external_type_attributes";
     private static final String externalTypesDatabaseTable          = "ds_external_types";
 
+    /*
+     * Name of the catalog target's configuration property that records the latest update time of the elements
+     * harvested by the last successful harvest.  Remove it to force a full harvest.
+     */
+    private static final String highWaterMarkPropertyName           = "harvestHighWaterMark";
+
+    /*
+     * Name of the catalog target's configuration property that records when the last successful full harvest started.
+     */
+    private static final String lastFullHarvestPropertyName         = "harvestLastFullHarvest";
+
 
 
     /*
@@ -208,8 +224,9 @@ public class HarvestOpenMetadataCatalogTargetProcessor extends CatalogTargetProc
     private static final String columnNameActorType                  = "actor_type";
 
 
-    private JDBCResourceConnector    databaseClient     = null;
-    private Connection               databaseConnection = null;
+    private JDBCResourceConnector     databaseClient     = null;
+    private Connection                databaseConnection = null;
+    private HarvestOpenMetadataWriter databaseWriter     = null;
 
     private final PropertyHelper       propertyHelper                    = new PropertyHelper();
 
@@ -237,6 +254,11 @@ public class HarvestOpenMetadataCatalogTargetProcessor extends CatalogTargetProc
     private final GlossaryExchangeService    glossaryExchangeService;
     private final OpenMetadataAccess         openMetadataAccess;
 
+    private final boolean                    incrementalHarvest;
+    private final long                       fullHarvestInterval;
+    private final int                        writerThreads;
+    private final int                        batchSize;
+
 
 
     /**
@@ -249,6 +271,10 @@ public class HarvestOpenMetadataCatalogTargetProcessor extends CatalogTargetProc
      * @param dataAssetExchangeService access to data assets
      * @param glossaryExchangeService access to glossaries
      * @param openMetadataAccess access to open metadata
+     * @param incrementalHarvest only harvest the data assets and glossaries that have changed since the last harvest
+     * @param fullHarvestInterval number of hours between full harvests when incrementalHarvest is set (0 for none)
+     * @param writerThreads number of threads writing rows to the database
+     * @param batchSize number of rows in each batched insert
      * @throws ConnectorCheckedException error
      */
     public HarvestOpenMetadataCatalogTargetProcessor(CatalogTarget            template,
@@ -257,11 +283,19 @@ public class HarvestOpenMetadataCatalogTargetProcessor extends CatalogTargetProc
                                                      AuditLog                 auditLog,
                                                      DataAssetExchangeService dataAssetExchangeService,
                                                      GlossaryExchangeService  glossaryExchangeService,
-                                                     OpenMetadataAccess       openMetadataAccess) throws ConnectorCheckedException
+                                                     OpenMetadataAccess       openMetadataAccess,
+                                                     boolean                  incrementalHarvest,
+                                                     int                      fullHarvestInterval,
+                                                     int                      writerThreads,
+                                                     int                      batchSize) throws ConnectorCheckedException
     {
         super(template, connectorToTarget, connectorName, auditLog);
         
         this.openMetadataAccess = openMetadataAccess;
+        this.incrementalHarvest = incrementalHarvest;
+        this.fullHarvestInterval = fullHarvestInterval * 60L * 60L * 1000L;
+        this.writerThreads = writerThreads;
+        this.batchSize = batchSize;
         this.dataAssetExchangeService = dataAssetExchangeService;
         this.dataAssetExchangeService.setForLineage(true);
         this.dataAssetExchangeService.setForDuplicateProcessing(true);
@@ -549,56 +583,47 @@ public class HarvestOpenMetadataCatalogTargetProcessor extends CatalogTargetProc
 
         try
         {
-            this.databaseConnection = databaseClient.getDataSource().getConnection();
+            DataSource dataSource = databaseClient.getDataSource();
+
+            this.databaseConnection = dataSource.getConnection();
+            this.databaseWriter = new HarvestOpenMetadataWriter(databaseClient,
+                                                                dataSource,
+                                                                connectorName,
+                                                                writerThreads,
+                                                                batchSize);
 
             /*
-             * Step through the catalogued metadata elements for each interesting type.  Start with data assets.
+             * Data assets and glossaries make up the bulk of the harvest.  In incremental mode, only those that have
+             * changed since the last successful harvest are processed, apart from a periodic full harvest that picks
+             * up the relationships that have been removed.
              */
-            int startFrom = 0;
+            long highWaterMark       = this.getLongConfigurationProperty(highWaterMarkPropertyName);
+            long lastFullHarvest     = this.getLongConfigurationProperty(lastFullHarvestPropertyName);
+            long nextHighWaterMark   = highWaterMark;
+            long nextLastFullHarvest = lastFullHarvest;
 
-            List<DataAssetElement> dataAssetElements = dataAssetExchangeService.findDataAssets(".*",
-                                                                                               startFrom,
-                                                                                               openMetadataAccess.getMaxPagingSize(),
-                                                                                               null);
-
-            while (dataAssetElements != null)
+            if ((incrementalHarvest) && (! this.isFullHarvestDue(highWaterMark, lastFullHarvest)))
             {
-                for (DataAssetElement dataAssetElement : dataAssetElements)
-                {
-                    processDataAsset(dataAssetElement);
-                }
-
-                startFrom = startFrom + openMetadataAccess.getMaxPagingSize();
-
-                dataAssetElements = dataAssetExchangeService.findDataAssets(".*",
-                                                                            startFrom,
-                                                                            openMetadataAccess.getMaxPagingSize(),
-                                                                            null);
+                nextHighWaterMark = this.harvestChangedDataAssetsAndGlossaries(highWaterMark);
             }
-
-            startFrom = 0;
-            List<GlossaryElement> glossaryElements = glossaryExchangeService.findGlossaries(".*",
-                                                                                            startFrom,
-                                                                                            openMetadataAccess.getMaxPagingSize(),
-                                                                                            null);
-
-            while (glossaryElements != null)
+            else
             {
-                for (GlossaryElement glossaryElement : glossaryElements)
+                if (incrementalHarvest)
                 {
-                    processGlossary(glossaryElement);
+                    /*
+                     * Taken before the full harvest starts so changes made during the harvest are picked up next time.
+                     */
+                    nextHighWaterMark   = this.getLatestUpdateTime(highWaterMark);
+                    nextLastFullHarvest = System.currentTimeMillis();
                 }
 
-                startFrom = startFrom + openMetadataAccess.getMaxPagingSize();
-
-                glossaryElements = glossaryExchangeService.findGlossaries(".*",
-                                                                          startFrom,
-                                                                          openMetadataAccess.getMaxPagingSize(),
-                                                                          null);
+                this.harvestAllDataAssetsAndGlossaries();
             }
 
-
-            startFrom = 0;
+            /*
+             * The remaining types are small enough to be harvested in full each time.
+             */
+            int startFrom = 0;
             List<OpenMetadataElement> teamElements = openMetadataAccess.findMetadataElements(OpenMetadataType.TEAM_TYPE_NAME,
                                                                                              null,
                                                                                              null,
@@ -767,8 +792,20 @@ public class HarvestOpenMetadataCatalogTargetProcessor extends CatalogTargetProc
                                                                                                      openMetadataAccess.getMaxPagingSize());
             }
 
+            /*
+             * Wait for the rows to be committed before recording the progress of the harvest.
+             */
+            databaseWriter.flush();
+            databaseWriter.close();
+            databaseWriter = null;
+
             databaseConnection.close();
             databaseConnection = null;
+
+            if (incrementalHarvest)
+            {
+                this.saveHarvestProgress(nextHighWaterMark, nextLastFullHarvest);
+            }
         }
         catch (Exception error)
         {
@@ -800,6 +837,12 @@ public class HarvestOpenMetadataCatalogTargetProcessor extends CatalogTargetProc
                 databaseConnection = null;
             }
 
+            if (databaseWriter != null)
+            {
+                databaseWriter.close();
+                databaseWriter = null;
+            }
+
             throw new ConnectorCheckedException(HarvestOpenMetadataErrorCode.UNEXPECTED_EXCEPTION.getMessageDefinition(connectorName,
                                                                                                                        error.getClass().getName(),
                                                                                                                        methodName,
@@ -811,6 +854,538 @@ public class HarvestOpenMetadataCatalogTargetProcessor extends CatalogTargetProc
         }
     }
 
+    /**
+     * Step through all the catalogued data assets and glossaries.
+     *
+     * @throws InvalidParameterException invalid parameter
+     * @throws UserNotAuthorizedException connector not authorized
+     * @throws PropertyServerException problem with the metadata server
+     */
+    private void harvestAllDataAssetsAndGlossaries() throws InvalidParameterException,
+                                                            UserNotAuthorizedException,
+                                                            PropertyServerException
+    {
+        /*
+         * Step through the catalogued metadata elements for each interesting type.  Start with data assets.
+         */
+        int startFrom = 0;
+
+        List<DataAssetElement> dataAssetElements = dataAssetExchangeService.findDataAssets(".*",
+                                                                                           startFrom,
+                                                                                           openMetadataAccess.getMaxPagingSize(),
+                                                                                           null);
+
+        while (dataAssetElements != null)
+        {
+            for (DataAssetElement dataAssetElement : dataAssetElements)
+            {
+                processDataAsset(dataAssetElement);
+            }
+
+            startFrom = startFrom + openMetadataAccess.getMaxPagingSize();
+
+            dataAssetElements = dataAssetExchangeService.findDataAssets(".*",
+                                                                        startFrom,
+                                                                        openMetadataAccess.getMaxPagingSize(),
+                                                                        null);
+        }
+
+        startFrom = 0;
+        List<GlossaryElement> glossaryElements = glossaryExchangeService.findGlossaries(".*",
+                                                                                        startFrom,
+                                                                                        openMetadataAccess.getMaxPagingSize(),
+                                                                                        null);
+
+        while (glossaryElements != null)
+        {
+            for (GlossaryElement glossaryElement : glossaryElements)
+            {
+                processGlossary(glossaryElement);
+            }
+
+            startFrom = startFrom + openMetadataAccess.getMaxPagingSize();
+
+            glossaryElements = glossaryExchangeService.findGlossaries(".*",
+                                                                      startFrom,
+                                                                      openMetadataAccess.getMaxPagingSize(),
+                                                                      null);
+        }
+    }
+
+
+    /**
+     * Process the data assets and glossaries that have changed since the last successful harvest.  The most recently
+     * updated and most recently created elements are retrieved until one is reached that is older than the high-water
+     * mark.  Each changed element is mapped to its anchor so that a change to a schema attribute or glossary term, for
+     * example, causes its data asset or glossary to be harvested again.  The relationships that have been created or
+     * updated are handled in the same way through the elements at each end.  Removed relationships leave nothing to
+     * find, and so they are picked up by the periodic full harvest.
+     *
+     * @param highWaterMark latest update time of the elements harvested by the last successful harvest
+     * @return latest update time of the elements harvested by this harvest
+     * @throws InvalidParameterException invalid parameter
+     * @throws UserNotAuthorizedException connector not authorized
+     * @throws PropertyServerException problem with the metadata server
+     */
+    private long harvestChangedDataAssetsAndGlossaries(long highWaterMark) throws InvalidParameterException,
+                                                                                  UserNotAuthorizedException,
+                                                                                  PropertyServerException
+    {
+        Map<String, OpenMetadataElement> changedAnchors      = new LinkedHashMap<>();
+        Set<String>                      checkedElementGUIDs = new HashSet<>();
+
+        long latestUpdateTime = this.findChangedAnchors(SequencingOrder.LAST_UPDATE_RECENT, highWaterMark, changedAnchors);
+        long latestCreateTime = this.findChangedAnchors(SequencingOrder.CREATION_DATE_RECENT, highWaterMark, changedAnchors);
+
+        latestUpdateTime = Math.max(latestUpdateTime,
+                                    this.findChangedRelationshipAnchors(SequencingOrder.LAST_UPDATE_RECENT,
+                                                                        highWaterMark,
+                                                                        changedAnchors,
+                                                                        checkedElementGUIDs));
+        latestCreateTime = Math.max(latestCreateTime,
+                                    this.findChangedRelationshipAnchors(SequencingOrder.CREATION_DATE_RECENT,
+                                                                        highWaterMark,
+                                                                        changedAnchors,
+                                                                        checkedElementGUIDs));
+
+        for (String anchorGUID : changedAnchors.keySet())
+        {
+            OpenMetadataElement anchorElement = changedAnchors.get(anchorGUID);
+
+            if (anchorElement == null)
+            {
+                anchorElement = this.getElementIfPresent(anchorGUID);
+            }
+
+            if ((anchorElement != null) && (anchorElement.getType() != null))
+            {
+                if (this.isTypeOf(anchorElement.getType(), OpenMetadataType.DATA_ASSET.typeName))
+                {
+                    processDataAsset(anchorGUID);
+                }
+                else if (this.isTypeOf(anchorElement.getType(), OpenMetadataType.GLOSSARY_TYPE_NAME))
+                {
+                    processGlossary(anchorGUID);
+                }
+            }
+        }
+
+        return Math.max(latestUpdateTime, latestCreateTime);
+    }
+
+
+    /**
+     * Page through the referenceable elements in the requested order until one is reached that has not changed
+     * since the high-water mark.  The anchor of each changed element is added to the supplied map.
+     *
+     * @param sequencingOrder LAST_UPDATE_RECENT or CREATION_DATE_RECENT
+     * @param highWaterMark latest update time of the elements harvested by the last successful harvest
+     * @param changedAnchors map of anchor GUIDs to anchor elements (null if the anchor has not been retrieved)
+     * @return latest time seen
+     * @throws InvalidParameterException invalid parameter
+     * @throws UserNotAuthorizedException connector not authorized
+     * @throws PropertyServerException problem with the metadata server
+     */
+    private long findChangedAnchors(SequencingOrder                  sequencingOrder,
+                                    long                             highWaterMark,
+                                    Map<String, OpenMetadataElement> changedAnchors) throws InvalidParameterException,
+                                                                                             UserNotAuthorizedException,
+                                                                                             PropertyServerException
+    {
+        long    latestTime  = highWaterMark;
+        boolean moreChanges = true;
+        int     startFrom   = 0;
+
+        while (moreChanges)
+        {
+            List<OpenMetadataElement> changedElements = openMetadataAccess.findMetadataElements(OpenMetadataType.REFERENCEABLE.typeName,
+                                                                                                null,
+                                                                                                null,
+                                                                                                null,
+                                                                                                null,
+                                                                                                null,
+                                                                                                null,
+                                                                                                sequencingOrder,
+                                                                                                startFrom,
+                                                                                                openMetadataAccess.getMaxPagingSize());
+
+            if (changedElements == null)
+            {
+                break;
+            }
+
+            for (OpenMetadataElement changedElement : changedElements)
+            {
+                Date changeTime = this.getChangeTime(changedElement, sequencingOrder);
+
+                /*
+                 * Elements that have never been updated are sorted after the updated ones.  They are picked up
+                 * by the search on creation time.
+                 */
+                if ((changeTime == null) || (changeTime.getTime() < highWaterMark))
+                {
+                    moreChanges = false;
+                    break;
+                }
+
+                latestTime = Math.max(latestTime, changeTime.getTime());
+
+                this.addChangedAnchor(changedElement, changedAnchors);
+            }
+
+            startFrom = startFrom + openMetadataAccess.getMaxPagingSize();
+        }
+
+        return latestTime;
+    }
+
+
+    /**
+     * Page through the relationships in the requested order until one is reached that has not changed since the
+     * high-water mark.  The anchors of the elements at each end of a changed relationship are added to the supplied map.
+     * The end elements of each page are collected first so that an element at the end of many changed relationships
+     * is only retrieved once.
+     *
+     * @param sequencingOrder LAST_UPDATE_RECENT or CREATION_DATE_RECENT
+     * @param highWaterMark latest update time of the elements harvested by the last successful harvest
+     * @param changedAnchors map of anchor GUIDs to anchor elements (null if the anchor has not been retrieved)
+     * @param checkedElementGUIDs unique identifiers of the elements whose anchor has already been added
+     * @return latest time seen
+     * @throws InvalidParameterException invalid parameter
+     * @throws UserNotAuthorizedException connector not authorized
+     * @throws PropertyServerException problem with the metadata server
+     */
+    private long findChangedRelationshipAnchors(SequencingOrder                  sequencingOrder,
+                                                long                             highWaterMark,
+                                                Map<String, OpenMetadataElement> changedAnchors,
+                                                Set<String>                      checkedElementGUIDs) throws InvalidParameterException,
+                                                                                                              UserNotAuthorizedException,
+                                                                                                              PropertyServerException
+    {
+        long    latestTime  = highWaterMark;
+        boolean moreChanges = true;
+        int     startFrom   = 0;
+
+        while (moreChanges)
+        {
+            List<OpenMetadataRelationship> changedRelationships = openMetadataAccess.findRelationshipsBetweenMetadataElements(null,
+                                                                                                                              null,
+                                                                                                                              null,
+                                                                                                                              null,
+                                                                                                                              null,
+                                                                                                                              sequencingOrder,
+                                                                                                                              startFrom,
+                                                                                                                              openMetadataAccess.getMaxPagingSize());
+
+            if (changedRelationships == null)
+            {
+                break;
+            }
+
+            Set<String> endElementGUIDs = new LinkedHashSet<>();
+
+            for (OpenMetadataRelationship changedRelationship : changedRelationships)
+            {
+                Date changeTime = this.getChangeTime(changedRelationship, sequencingOrder);
+
+                if ((changeTime == null) || (changeTime.getTime() < highWaterMark))
+                {
+                    moreChanges = false;
+                    break;
+                }
+
+                latestTime = Math.max(latestTime, changeTime.getTime());
+
+                for (String elementGUID : List.of(changedRelationship.getElementGUIDAtEnd1(), changedRelationship.getElementGUIDAtEnd2()))
+                {
+                    if ((elementGUID != null) && (! checkedElementGUIDs.contains(elementGUID)) && (! changedAnchors.containsKey(elementGUID)))
+                    {
+                        endElementGUIDs.add(elementGUID);
+                    }
+                }
+            }
+
+            for (String elementGUID : endElementGUIDs)
+            {
+                OpenMetadataElement endElement = this.getElementIfPresent(elementGUID);
+
+                if (endElement != null)
+                {
+                    this.addChangedAnchor(endElement, changedAnchors);
+                }
+
+                checkedElementGUIDs.add(elementGUID);
+            }
+
+            startFrom = startFrom + openMetadataAccess.getMaxPagingSize();
+        }
+
+        return latestTime;
+    }
+
+
+    /**
+     * Retrieve an element that may have been deleted since it was changed.  Only the element not being found is
+     * ignored.  Other errors are passed on so the harvest fails and its high-water mark is not saved.
+     *
+     * @param elementGUID unique identifier of the element
+     * @return element or null if it no longer exists
+     * @throws UserNotAuthorizedException connector not authorized
+     * @throws PropertyServerException problem with the metadata server
+     */
+    private OpenMetadataElement getElementIfPresent(String elementGUID) throws UserNotAuthorizedException,
+                                                                               PropertyServerException
+    {
+        try
+        {
+            return openMetadataAccess.getMetadataElementByGUID(elementGUID);
+        }
+        catch (InvalidParameterException notFound)
+        {
+            return null;
+        }
+    }
+
+
+    /**
+     * Return the time of the change that the requested order sorts on.
+     *
+     * @param header header of an element or relationship
+     * @param sequencingOrder LAST_UPDATE_RECENT or CREATION_DATE_RECENT
+     * @return time or null if not known
+     */
+    private Date getChangeTime(ElementControlHeader header,
+                               SequencingOrder      sequencingOrder)
+    {
+        if ((header != null) && (header.getVersions() != null))
+        {
+            if (sequencingOrder == SequencingOrder.LAST_UPDATE_RECENT)
+            {
+                return header.getVersions().getUpdateTime();
+            }
+            else
+            {
+                return header.getVersions().getCreateTime();
+            }
+        }
+
+        return null;
+    }
+
+
+    /**
+     * Add the anchor of a changed element to the map of changed anchors.
+     *
+     * @param changedElement element that has changed
+     * @param changedAnchors map of anchor GUIDs to anchor elements (null if the anchor has not been retrieved)
+     */
+    private void addChangedAnchor(OpenMetadataElement              changedElement,
+                                  Map<String, OpenMetadataElement> changedAnchors)
+    {
+        String anchorGUID = this.getAnchorGUID(changedElement);
+
+        if (anchorGUID.equals(changedElement.getElementGUID()))
+        {
+            changedAnchors.put(anchorGUID, changedElement);
+        }
+        else if (! changedAnchors.containsKey(anchorGUID))
+        {
+            changedAnchors.put(anchorGUID, null);
+        }
+    }
+
+
+    /**
+     * Return the unique identifier of the element's anchor, or the element's own unique identifier if it is not anchored.
+     *
+     * @param element element retrieved from open metadata
+     * @return unique identifier
+     */
+    private String getAnchorGUID(OpenMetadataElement element)
+    {
+        final String methodName = "getAnchorGUID";
+
+        if (element.getClassifications() != null)
+        {
+            for (AttachedClassification classification : element.getClassifications())
+            {
+                if ((classification != null) && (OpenMetadataType.ANCHORS_CLASSIFICATION.typeName.equals(classification.getClassificationName())))
+                {
+                    String anchorGUID = propertyHelper.getStringProperty(connectorName,
+                                                                         OpenMetadataProperty.ANCHOR_GUID.name,
+                                                                         classification.getClassificationProperties(),
+                                                                         methodName);
+
+                    if (anchorGUID != null)
+                    {
+                        return anchorGUID;
+                    }
+                }
+            }
+        }
+
+        return element.getElementGUID();
+    }
+
+
+    /**
+     * Return whether the element type is, or inherits from, the requested type.
+     *
+     * @param elementType type of an element
+     * @param typeName name of the type to test for
+     * @return boolean
+     */
+    private boolean isTypeOf(ElementType elementType,
+                             String      typeName)
+    {
+        return (typeName.equals(elementType.getTypeName())) ||
+                ((elementType.getSuperTypeNames() != null) && (elementType.getSuperTypeNames().contains(typeName)));
+    }
+
+
+    /**
+     * Return the latest update time of the catalogued elements.  This uses the clock of the metadata server rather
+     * than the connector's clock.
+     *
+     * @param defaultValue value to return if there are no updated elements
+     * @return milliseconds since the epoch
+     * @throws InvalidParameterException invalid parameter
+     * @throws UserNotAuthorizedException connector not authorized
+     * @throws PropertyServerException problem with the metadata server
+     */
+    private long getLatestUpdateTime(long defaultValue) throws InvalidParameterException,
+                                                               UserNotAuthorizedException,
+                                                               PropertyServerException
+    {
+        long latestUpdateTime = defaultValue;
+
+        for (SequencingOrder sequencingOrder : List.of(SequencingOrder.LAST_UPDATE_RECENT, SequencingOrder.CREATION_DATE_RECENT))
+        {
+            List<OpenMetadataElement> latestElements = openMetadataAccess.findMetadataElements(OpenMetadataType.REFERENCEABLE.typeName,
+                                                                                               null,
+                                                                                               null,
+                                                                                               null,
+                                                                                               null,
+                                                                                               null,
+                                                                                               null,
+                                                                                               sequencingOrder,
+                                                                                               0,
+                                                                                               1);
+
+            if ((latestElements != null) && (! latestElements.isEmpty()) && (latestElements.get(0).getVersions() != null))
+            {
+                Date latestTime;
+
+                if (sequencingOrder == SequencingOrder.LAST_UPDATE_RECENT)
+                {
+                    latestTime = latestElements.get(0).getVersions().getUpdateTime();
+                }
+                else
+                {
+                    latestTime = latestElements.get(0).getVersions().getCreateTime();
+                }
+
+                if (latestTime != null)
+                {
+                    latestUpdateTime = Math.max(latestUpdateTime, latestTime.getTime());
+                }
+            }
+        }
+
+        return latestUpdateTime;
+    }
+
+
+    /**
+     * Return whether a full harvest is needed: either no harvest has been recorded, or the full harvest interval has
+     * passed since the last full harvest.
+     *
+     * @param highWaterMark latest update time of the elements harvested by the last successful harvest
+     * @param lastFullHarvest time that the last successful full harvest started
+     * @return boolean
+     */
+    private boolean isFullHarvestDue(long highWaterMark,
+                                     long lastFullHarvest)
+    {
+        if (highWaterMark == 0L)
+        {
+            return true;
+        }
+
+        return (fullHarvestInterval > 0L) && (System.currentTimeMillis() - lastFullHarvest >= fullHarvestInterval);
+    }
+
+
+    /**
+     * Return a time recorded in the catalog target's configuration properties by the last successful harvest.
+     *
+     * @param propertyName name of the configuration property
+     * @return milliseconds since the epoch or 0 if no harvest has been recorded
+     */
+    private long getLongConfigurationProperty(String propertyName)
+    {
+        if ((super.getConfigurationProperties() != null) && (super.getConfigurationProperties().get(propertyName) != null))
+        {
+            try
+            {
+                return Long.parseLong(super.getConfigurationProperties().get(propertyName).toString());
+            }
+            catch (NumberFormatException error)
+            {
+                // Ignore the value and perform a full harvest.
+            }
+        }
+
+        return 0L;
+    }
+
+
+    /**
+     * Record the high-water mark and the time of the last full harvest in the configuration properties of the
+     * catalog target so that they survive a restart of the connector.
+     *
+     * @param highWaterMark latest update time of the elements harvested
+     * @param lastFullHarvest time that the last successful full harvest started
+     * @throws InvalidParameterException invalid parameter
+     * @throws UserNotAuthorizedException connector not authorized
+     * @throws PropertyServerException problem with the metadata server
+     */
+    private void saveHarvestProgress(long highWaterMark,
+                                     long lastFullHarvest) throws InvalidParameterException,
+                                                                  UserNotAuthorizedException,
+                                                                  PropertyServerException
+    {
+        if ((highWaterMark == 0L) || (super.getRelationshipGUID() == null))
+        {
+            return;
+        }
+
+        if ((highWaterMark == this.getLongConfigurationProperty(highWaterMarkPropertyName)) &&
+            (lastFullHarvest == this.getLongConfigurationProperty(lastFullHarvestPropertyName)))
+        {
+            return;
+        }
+
+        Map<String, Object> configurationProperties = new HashMap<>();
+
+        if (super.getConfigurationProperties() != null)
+        {
+            configurationProperties.putAll(super.getConfigurationProperties());
+        }
+
+        configurationProperties.put(highWaterMarkPropertyName, Long.toString(highWaterMark));
+        configurationProperties.put(lastFullHarvestPropertyName, Long.toString(lastFullHarvest));
+
+        openMetadataAccess.updateRelatedElementsInStore(super.getRelationshipGUID(),
+                                                        false,
+                                                        propertyHelper.addMapProperty(null,
+                                                                                      OpenMetadataType.CONFIGURATION_PROPERTIES_PROPERTY_NAME,
+                                                                                      configurationProperties));
+
+        super.setConfigurationProperties(configurationProperties);
+    }
+
+
     /**
      * Navigate to the user identity for this supplied role.
      *
@@ -884,10 +1459,21 @@ public class HarvestOpenMetadataCatalogTargetProcessor extends CatalogTargetProc
      * @param elementHeader incoming element from event
      */
     private void processDataAsset(ElementHeader elementHeader)
+    {
+        processDataAsset(elementHeader.getGUID());
+    }
+
+
+    /**
+     * Process the identified asset if it is still available.
+     *
+     * @param dataAssetGUID unique identifier of the asset
+     */
+    private void processDataAsset(String dataAssetGUID)
     {
         try
         {
-            processDataAsset(dataAssetExchangeService.getDataAssetByGUID(elementHeader.getGUID(), null));
+            processDataAsset(dataAssetExchangeService.getDataAssetByGUID(dataAssetGUID, null));
         }
         catch (Exception error)
         {
@@ -2087,12 +2673,23 @@ public class HarvestOpenMetadataCatalogTargetProcessor extends CatalogTargetProc
      * @param glossaryHeader glossary header
      */
     private void processGlossary(ElementHeader glossaryHeader)
+    {
+        processGlossary(glossaryHeader.getGUID());
+    }
+
+
+    /**
+     * Process the identified glossary if it is still available.
+     *
+     * @param glossaryGUID unique identifier of the glossary
+     */
+    private void processGlossary(String glossaryGUID)
     {
         final String methodName = "processGlossary";
 
         try
         {
-            GlossaryElement glossary = glossaryExchangeService.getGlossaryByGUID(glossaryHeader.getGUID(), null);
+            GlossaryElement glossary = glossaryExchangeService.getGlossaryByGUID(glossaryGUID, null);
 
             if (glossary != null)
             {
@@ -2315,7 +2912,7 @@ public class HarvestOpenMetadataCatalogTargetProcessor extends CatalogTargetProc
 
         try
         {
-            Map<String, JDBCDataValue> latestStoredRecord = databaseClient.getLatestRow(databaseConnection,
+            Map<String, JDBCDataValue> latestStoredRecord = databaseWriter.getLatestRow(databaseConnection,
                                                                                         assetDatabaseTable,
                                                                                         columnNameAssetGUID,
                                                                                         dataAssetElement.getElementHeader().getGUID(),
@@ -2330,7 +2927,7 @@ public class HarvestOpenMetadataCatalogTargetProcessor extends CatalogTargetProc
 
             if (this.newInformation(latestStoredRecord, openMetadataRecord, columnNameSyncTime))
             {
-                databaseClient.insertRowIntoTable(databaseConnection, assetDatabaseTable, openMetadataRecord);
+                databaseWriter.insertRow(assetDatabaseTable, columnNameAssetGUID, openMetadataRecord);
             }
         }
         catch (Exception error)
@@ -2629,7 +3226,7 @@ public class HarvestOpenMetadataCatalogTargetProcessor extends CatalogTargetProc
         {
             Map<String, JDBCDataValue> openMetadataRecord = this.getCorrelationPropertiesDataValues(elementHeader, metadataCorrelationHeader);
 
-            databaseClient.insertRowIntoTable(databaseConnection, correlationPropertiesDatabaseTable, openMetadataRecord);
+            databaseWriter.insertRow(correlationPropertiesDatabaseTable, openMetadataRecord);
         }
         catch (Exception error)
         {
@@ -2715,7 +3312,7 @@ public class HarvestOpenMetadataCatalogTargetProcessor extends CatalogTargetProc
                                                                                                      elementOrigin.getOriginCategory(),
                                                                                                      deployedImplementationType);
 
-                databaseClient.insertRowIntoTable(databaseConnection, metadataCollectionDatabaseTable, openMetadataRecord);
+                databaseWriter.insertRow(metadataCollectionDatabaseTable, openMetadataRecord);
             }
             catch (Exception error)
             {
@@ -2780,7 +3377,7 @@ public class HarvestOpenMetadataCatalogTargetProcessor extends CatalogTargetProc
             {
                 Map<String, JDBCDataValue> openMetadataRecord = this.getAssetTypesDataValues(elementType);
 
-                databaseClient.insertRowIntoTable(databaseConnection, assetTypesDatabaseTable, openMetadataRecord);
+                databaseWriter.insertRow(assetTypesDatabaseTable, openMetadataRecord);
             }
             catch (Exception error)
             {
@@ -2837,7 +3434,7 @@ public class HarvestOpenMetadataCatalogTargetProcessor extends CatalogTargetProc
                                                                                                                             methodName),
                                                                                            location.getType().getTypeName());
 
-                databaseClient.insertRowIntoTable(databaseConnection, locationDatabaseTable, openMetadataRecord);
+                databaseWriter.insertRow(locationDatabaseTable, openMetadataRecord);
             }
             catch (Exception error)
             {
@@ -2897,7 +3494,7 @@ public class HarvestOpenMetadataCatalogTargetProcessor extends CatalogTargetProc
                                                                                                                             license.getElementProperties(),
                                                                                                                             methodName));
 
-                databaseClient.insertRowIntoTable(databaseConnection, licenseDatabaseTable, openMetadataRecord);
+                databaseWriter.insertRow(licenseDatabaseTable, openMetadataRecord);
             }
             catch (Exception error)
             {
@@ -2957,7 +3554,7 @@ public class HarvestOpenMetadataCatalogTargetProcessor extends CatalogTargetProc
         {
             try
             {
-                Map<String, JDBCDataValue> latestStoredRecord = databaseClient.getLatestRow(databaseConnection,
+                Map<String, JDBCDataValue> latestStoredRecord = databaseWriter.getLatestRow(databaseConnection,
                                                                                             collaborationActivityDatabaseTable,
                                                                                             columnNameElementGUID,
                                                                                             elementGUID,
@@ -2973,7 +3570,7 @@ public class HarvestOpenMetadataCatalogTargetProcessor extends CatalogTargetProc
 
                 if (this.newInformation(latestStoredRecord, openMetadataRecord, columnNameSyncTime))
                 {
-                    databaseClient.insertRowIntoTable(databaseConnection, collaborationActivityDatabaseTable, openMetadataRecord);
+                    databaseWriter.insertRow(collaborationActivityDatabaseTable, columnNameElementGUID, openMetadataRecord);
                 }
             }
             catch (Exception error)
@@ -3131,7 +3728,7 @@ public class HarvestOpenMetadataCatalogTargetProcessor extends CatalogTargetProc
                                                                                                null,
                                                                                                null);
 
-                databaseClient.insertRowIntoTable(databaseConnection, externalUserDatabaseTable, openMetadataRecord);
+                databaseWriter.insertRow(externalUserDatabaseTable, openMetadataRecord);
             }
             catch (Exception error)
             {
@@ -3202,7 +3799,7 @@ public class HarvestOpenMetadataCatalogTargetProcessor extends CatalogTargetProc
                  */
                 syncCertificationType(certification.getElement());
 
-                Map<String, JDBCDataValue> latestStoredRecord = databaseClient.getLatestRow(databaseConnection,
+                Map<String, JDBCDataValue> latestStoredRecord = databaseWriter.getLatestRow(databaseConnection,
                                                                                             certificationsDatabaseTable,
                                                                                             columnNameCertificationGUID,
                                                                                             elementGUID,
@@ -3223,7 +3820,7 @@ public class HarvestOpenMetadataCatalogTargetProcessor extends CatalogTargetProc
 
                 if (this.newInformation(latestStoredRecord, openMetadataRecord, columnNameSyncTime))
                 {
-                    databaseClient.insertRowIntoTable(databaseConnection, certificationsDatabaseTable, openMetadataRecord);
+                    databaseWriter.insertRow(certificationsDatabaseTable, columnNameCertificationGUID, openMetadataRecord);
                 }
             }
             catch (Exception error)
@@ -3298,7 +3895,7 @@ public class HarvestOpenMetadataCatalogTargetProcessor extends CatalogTargetProc
                                                                                                                                      certificationType.getElementProperties(),
                                                                                                                                      methodName));
 
-                databaseClient.insertRowIntoTable(databaseConnection, certificationTypeDatabaseTable, openMetadataRecord);
+                databaseWriter.insertRow(certificationTypeDatabaseTable, openMetadataRecord);
             }
             catch (Exception error)
             {
@@ -3350,7 +3947,7 @@ public class HarvestOpenMetadataCatalogTargetProcessor extends CatalogTargetProc
         {
             try
             {
-                Map<String, JDBCDataValue> latestStoredRecord = databaseClient.getLatestRow(databaseConnection,
+                Map<String, JDBCDataValue> latestStoredRecord = databaseWriter.getLatestRow(databaseConnection,
                                                                                             contributionsDatabaseTable,
                                                                                             columnNameUserGUID,
                                                                                             userGUID,
@@ -3365,7 +3962,7 @@ public class HarvestOpenMetadataCatalogTargetProcessor extends CatalogTargetProc
 
                 if (this.newInformation(latestStoredRecord, openMetadataRecord, columnNameSnapshotTimestamp))
                 {
-                    databaseClient.insertRowIntoTable(databaseConnection, contributionsDatabaseTable, openMetadataRecord);
+                    databaseWriter.insertRow(contributionsDatabaseTable, columnNameUserGUID, openMetadataRecord);
                 }
             }
             catch (Exception error)
@@ -3423,7 +4020,7 @@ public class HarvestOpenMetadataCatalogTargetProcessor extends CatalogTargetProc
         {
             try
             {
-                Map<String, JDBCDataValue> latestStoredRecord = databaseClient.getLatestRow(databaseConnection,
+                Map<String, JDBCDataValue> latestStoredRecord = databaseWriter.getLatestRow(databaseConnection,
                                                                                             dataFieldsDatabaseTable,
                                                                                             columnNameDataFieldGUID,
                                                                                             schemaAttributeElement.getElementHeader().getGUID(),
@@ -3438,7 +4035,7 @@ public class HarvestOpenMetadataCatalogTargetProcessor extends CatalogTargetProc
 
                 if (this.newInformation(latestStoredRecord, openMetadataRecord, columnNameSyncTime))
                 {
-                    databaseClient.insertRowIntoTable(databaseConnection, dataFieldsDatabaseTable, openMetadataRecord);
+                    databaseWriter.insertRow(dataFieldsDatabaseTable, columnNameDataFieldGUID, openMetadataRecord);
                 }
             }
             catch (Exception error)
@@ -3515,7 +4112,7 @@ public class HarvestOpenMetadataCatalogTargetProcessor extends CatalogTargetProc
         {
             try
             {
-                Map<String, JDBCDataValue> latestStoredRecord = databaseClient.getLatestRow(databaseConnection,
+                Map<String, JDBCDataValue> latestStoredRecord = databaseWriter.getLatestRow(databaseConnection,
                                                                                             departmentDatabaseTable,
                                                                                             columnNameDepGUID,
                                                                                             department.getElementGUID(),
@@ -3526,7 +4123,7 @@ public class HarvestOpenMetadataCatalogTargetProcessor extends CatalogTargetProc
 
                 if (this.newInformation(latestStoredRecord, openMetadataRecord, columnNameSyncTime))
                 {
-                    databaseClient.insertRowIntoTable(databaseConnection, departmentDatabaseTable, openMetadataRecord);
+                    databaseWriter.insertRow(departmentDatabaseTable, columnNameDepGUID, openMetadataRecord);
                 }
             }
             catch (Exception error)
@@ -3599,7 +4196,7 @@ public class HarvestOpenMetadataCatalogTargetProcessor extends CatalogTargetProc
                 licenseGUID = license.getElementGUID();
             }
 
-            Map<String, JDBCDataValue> latestStoredRecord = databaseClient.getLatestRow(databaseConnection,
+            Map<String, JDBCDataValue> latestStoredRecord = databaseWriter.getLatestRow(databaseConnection,
                                                                                         glossaryDatabaseTable,
                                                                                         columnNameGlossaryGUID,
                                                                                         glossaryElement.getElementHeader().getGUID(),
@@ -3614,7 +4211,7 @@ public class HarvestOpenMetadataCatalogTargetProcessor extends CatalogTargetProc
 
             if (this.newInformation(latestStoredRecord, openMetadataRecord, columnNameSyncTime))
             {
-                databaseClient.insertRowIntoTable(databaseConnection, glossaryDatabaseTable, openMetadataRecord);
+                databaseWriter.insertRow(glossaryDatabaseTable, columnNameGlossaryGUID, openMetadataRecord);
             }
         }
         catch (Exception error)
@@ -3737,7 +4334,7 @@ public class HarvestOpenMetadataCatalogTargetProcessor extends CatalogTargetProc
 
         try
         {
-            Map<String, JDBCDataValue> latestStoredRecord = databaseClient.getLatestRow(databaseConnection,
+            Map<String, JDBCDataValue> latestStoredRecord = databaseWriter.getLatestRow(databaseConnection,
                                                                                         termActivityDatabaseTable,
                                                                                         columnNameTermGUID,
                                                                                         glossaryTermElement.getElementHeader().getGUID(),
@@ -3752,7 +4349,7 @@ public class HarvestOpenMetadataCatalogTargetProcessor extends CatalogTargetProc
 
             if (this.newInformation(latestStoredRecord, openMetadataRecord, columnNameSyncTime))
             {
-                databaseClient.insertRowIntoTable(databaseConnection, termActivityDatabaseTable, openMetadataRecord);
+                databaseWriter.insertRow(termActivityDatabaseTable, columnNameTermGUID, openMetadataRecord);
             }
         }
         catch (Exception error)
@@ -3868,7 +4465,7 @@ public class HarvestOpenMetadataCatalogTargetProcessor extends CatalogTargetProc
         {
             try
             {
-                Map<String, JDBCDataValue> latestStoredRecord = databaseClient.getLatestRow(databaseConnection,
+                Map<String, JDBCDataValue> latestStoredRecord = databaseWriter.getLatestRow(databaseConnection,
                                                                                             relatedAssetDatabaseTable,
                                                                                             columnNameRelationshipGUID,
                                                                                             relatedAsset.getRelationshipGUID(),
@@ -3879,7 +4476,7 @@ public class HarvestOpenMetadataCatalogTargetProcessor extends CatalogTargetProc
 
                 if (this.newInformation(latestStoredRecord, openMetadataRecord, columnNameSyncTime))
                 {
-                    databaseClient.insertRowIntoTable(databaseConnection, relatedAssetDatabaseTable, openMetadataRecord);
+                    databaseWriter.insertRow(relatedAssetDatabaseTable, columnNameRelationshipGUID, openMetadataRecord);
                 }
             }
             catch (Exception error)
@@ -3930,7 +4527,7 @@ public class HarvestOpenMetadataCatalogTargetProcessor extends CatalogTargetProc
         {
             try
             {
-                Map<String, JDBCDataValue> latestStoredRecord = databaseClient.getLatestRow(databaseConnection,
+                Map<String, JDBCDataValue> latestStoredRecord = databaseWriter.getLatestRow(databaseConnection,
                                                                                             roleDatabaseTable,
                                                                                             columnNameRoleGUID,
                                                                                             role.getElementGUID(),
@@ -3941,7 +4538,7 @@ public class HarvestOpenMetadataCatalogTargetProcessor extends CatalogTargetProc
 
                 if (this.newInformation(latestStoredRecord, openMetadataRecord, columnNameSyncTime))
                 {
-                    databaseClient.insertRowIntoTable(databaseConnection, roleDatabaseTable, openMetadataRecord);
+                    databaseWriter.insertRow(roleDatabaseTable, columnNameRoleGUID, openMetadataRecord);
                 }
             }
             catch (Exception error)
@@ -4003,7 +4600,7 @@ public class HarvestOpenMetadataCatalogTargetProcessor extends CatalogTargetProc
         {
             try
             {
-                Map<String, JDBCDataValue> latestStoredRecord = databaseClient.getLatestRow(databaseConnection,
+                Map<String, JDBCDataValue> latestStoredRecord = databaseWriter.getLatestRow(databaseConnection,
                                                                                             roleToUserDatabaseTable,
                                                                                             columnNameRelationshipGUID,
                                                                                             personRoleAppointment.getRelationshipGUID(),
@@ -4014,7 +4611,7 @@ public class HarvestOpenMetadataCatalogTargetProcessor extends CatalogTargetProc
 
                 if (this.newInformation(latestStoredRecord, openMetadataRecord, columnNameSyncTime))
                 {
-                    databaseClient.insertRowIntoTable(databaseConnection, roleToUserDatabaseTable, openMetadataRecord);
+                    databaseWriter.insertRow(roleToUserDatabaseTable, columnNameRelationshipGUID, openMetadataRecord);
                 }
             }
             catch (Exception error)
@@ -4080,7 +4677,7 @@ public class HarvestOpenMetadataCatalogTargetProcessor extends CatalogTargetProc
         {
             try
             {
-                Map<String, JDBCDataValue> latestStoredRecord = databaseClient.getLatestRow(databaseConnection,
+                Map<String, JDBCDataValue> latestStoredRecord = databaseWriter.getLatestRow(databaseConnection,
                                                                                             toDoDatabaseTable,
                                                                                             columnNameToDoGUID,
                                                                                             toDoElement.getElementGUID(),
@@ -4093,7 +4690,7 @@ public class HarvestOpenMetadataCatalogTargetProcessor extends CatalogTargetProc
 
                 if (this.newInformation(latestStoredRecord, openMetadataRecord, columnNameSyncTime))
                 {
-                    databaseClient.insertRowIntoTable(databaseConnection, toDoDatabaseTable, openMetadataRecord);
+                    databaseWriter.insertRow(toDoDatabaseTable, columnNameToDoGUID, openMetadataRecord);
                 }
             }
             catch (Exception error)
@@ -4220,7 +4817,7 @@ public class HarvestOpenMetadataCatalogTargetProcessor extends CatalogTargetProc
         {
             try
             {
-                Map<String, JDBCDataValue> latestStoredRecord = databaseClient.getLatestRow(databaseConnection,
+                Map<String, JDBCDataValue> latestStoredRecord = databaseWriter.getLatestRow(databaseConnection,
                                                                                             userIdentityDatabaseTable,
                                                                                             columnNameUserIdGUID,
                                                                                             userIdentifyElement.getElementGUID(),
@@ -4235,7 +4832,7 @@ public class HarvestOpenMetadataCatalogTargetProcessor extends CatalogTargetProc
 
                 if (this.newInformation(latestStoredRecord, openMetadataRecord, columnNameSyncTime))
                 {
-                    databaseClient.insertRowIntoTable(databaseConnection, userIdentityDatabaseTable, openMetadataRecord);
+                    databaseWriter.insertRow(userIdentityDatabaseTable, columnNameUserIdGUID, openMetadataRecord);
                 }
             }
             catch (Exception error)
@@ -4336,7 +4933,7 @@ public class HarvestOpenMetadataCatalogTargetProcessor extends CatalogTargetProc
         {
             Map<String, JDBCDataValue> openMetadataRecord = this.getReferenceLevelDataValues(identifier, classificationName, displayName, text);
 
-            databaseClient.insertRowIntoTable(databaseConnection, referenceLevelsDatabaseTable, openMetadataRecord);
+            databaseWriter.insertRow(referenceLevelsDatabaseTable, openMetadataRecord);
         }
         catch (Exception error)
         {
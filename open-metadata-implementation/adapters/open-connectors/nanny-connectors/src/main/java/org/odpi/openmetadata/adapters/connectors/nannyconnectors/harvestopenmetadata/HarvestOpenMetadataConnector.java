@@ -3,6 +3,7 @@
 package org.odpi.openmetadata.adapters.connectors.nannyconnectors.harvestopenmetadata;
 
 
+import org.odpi.openmetadata.adapters.connectors.nannyconnectors.harvestopenmetadata.controls.HarvestOpenMetadataConfigurationProperty;
 import org.odpi.openmetadata.adapters.connectors.nannyconnectors.harvestopenmetadata.ffdc.HarvestOpenMetadataErrorCode;
 import org.odpi.openmetadata.frameworks.connectors.Connector;
 import org.odpi.openmetadata.frameworks.connectors.ffdc.ConnectorCheckedException;
@@ -62,6 +63,31 @@ public class HarvestOpenMetadataConnector extends CatalogIntegratorConnector imp
     {
         final String methodName = "getNewRequestedCatalogTargetSkeleton";
 
+        boolean incrementalHarvest = super.getBooleanConfigurationProperty(HarvestOpenMetadataConfigurationProperty.INCREMENTAL_HARVEST.getName(),
+                                                                           connectionProperties.getConfigurationProperties());
+        int     writerThreads      = super.getIntConfigurationProperty(HarvestOpenMetadataConfigurationProperty.WRITER_THREADS.getName(),
+                                                                       connectionProperties.getConfigurationProperties());
+        int     batchSize          = super.getIntConfigurationProperty(HarvestOpenMetadataConfigurationProperty.BATCH_SIZE.getName(),
+                                                                       connectionProperties.getConfigurationProperties());
+        int     fullHarvestInterval = 24;
+
+        if ((connectionProperties.getConfigurationProperties() != null) &&
+            (connectionProperties.getConfigurationProperties().get(HarvestOpenMetadataConfigurationProperty.FULL_HARVEST_INTERVAL.getName()) != null))
+        {
+            fullHarvestInterval = super.getIntConfigurationProperty(HarvestOpenMetadataConfigurationProperty.FULL_HARVEST_INTERVAL.getName(),
+                                                                    connectionProperties.getConfigurationProperties());
+        }
+
+        if (writerThreads <= 0)
+        {
+            writerThreads = 4;
+        }
+
+        if (batchSize <= 0)
+        {
+            batchSize = 500;
+        }
+
         try
         {
             return new HarvestOpenMetadataCatalogTargetProcessor(retrievedCatalogTarget,
@@ -70,7 +96,11 @@ public class HarvestOpenMetadataConnector extends CatalogIntegratorConnector imp
                                                                  auditLog,
                                                                  super.getContext().getDataAssetExchangeService(),
                                                                  super.getContext().getGlossaryExchangeService(),
-                                                                 super.getContext().getIntegrationGovernanceContext().getOpenMetadataAccess());
+                                                                 super.getContext().getIntegrationGovernanceContext().getOpenMetadataAccess(),
+                                                                 incrementalHarvest,
+                                                                 fullHarvestInterval,
+                                                                 writerThreads,
+                                                                 batchSize);
         }
         catch (Exception error)
         {
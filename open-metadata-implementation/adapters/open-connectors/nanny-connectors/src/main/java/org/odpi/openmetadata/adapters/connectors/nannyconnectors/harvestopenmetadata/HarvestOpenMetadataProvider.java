@@ -3,6 +3,7 @@
 
 package org.odpi.openmetadata.adapters.connectors.nannyconnectors.harvestopenmetadata;
 
+import org.odpi.openmetadata.adapters.connectors.nannyconnectors.harvestopenmetadata.controls.HarvestOpenMetadataConfigurationProperty;
 import org.odpi.openmetadata.frameworks.auditlog.AuditLogReportingComponent;
 import org.odpi.openmetadata.frameworks.auditlog.ComponentDevelopmentStatus;
 import org.odpi.openmetadata.frameworks.connectors.properties.beans.ConnectorType;
@@ -52,6 +53,8 @@ public class HarvestOpenMetadataProvider extends IntegrationConnectorProvider
          */
         super.setConnectorClassName(connectorClassName);
 
+        super.supportedConfigurationProperties = HarvestOpenMetadataConfigurationProperty.getConfigurationPropertyTypes();
+
         /*
          * Set up the connector type that should be included in a connection used to configure this connector.
          */
@@ -62,6 +65,7 @@ public class HarvestOpenMetadataProvider extends IntegrationConnectorProvider
         connectorType.setDisplayName(connectorDisplayName);
         connectorType.setDescription(connectorDescription);
         connectorType.setConnectorProviderClassName(this.getClass().getName());
+        connectorType.setRecognizedConfigurationProperties(HarvestOpenMetadataConfigurationProperty.getRecognizedConfigurationProperties());
 
         super.connectorTypeBean = connectorType;
 
@@ -0,0 +1,371 @@
+/* SPDX-License-Identifier: Apache-2.0 */
+/* Copyright Contributors to the ODPi Egeria project. */
+package org.odpi.openmetadata.adapters.connectors.nannyconnectors.harvestopenmetadata;
+
+import org.odpi.openmetadata.adapters.connectors.resource.jdbc.JDBCResourceConnector;
+import org.odpi.openmetadata.adapters.connectors.resource.jdbc.properties.JDBCDataValue;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.Semaphore;
+
+
+/**
+ * HarvestOpenMetadataWriter buffers the rows harvested from the open metadata ecosystem and writes them to the
+ * database in batches.  Each destination table is assigned to a writer lane.  A lane is a single thread with its own
+ * database connection, so the batches for a table are written in order while different tables are written in
+ * parallel.  Rows that have been queued but not yet committed are remembered so the latest stored version of a
+ * record reflects what this harvest has already written.
+ */
+class HarvestOpenMetadataWriter
+{
+    private final JDBCResourceConnector databaseClient;
+    private final int                   batchSize;
+
+    private final List<ExecutorService> writerLanes       = new ArrayList<>();
+    private final List<Connection>      writerConnections = new ArrayList<>();
+    private final Semaphore             batchesInFlight;
+
+    private final Map<String, List<Map<String, JDBCDataValue>>> bufferedRows   = new HashMap<>();
+    private final Map<String, List<String>>                     bufferedKeys   = new HashMap<>();
+    private final Map<String, Map<String, JDBCDataValue>>       pendingRecords = new ConcurrentHashMap<>();
+    private final List<Future<?>>                               writeResults   = new ArrayList<>();
+
+
+    /**
+     * Constructor opens a database connection for each writer lane.
+     *
+     * @param databaseClient client for the database
+     * @param dataSource source of database connections
+     * @param connectorName name of the calling connector (used to name the writer threads)
+     * @param writerThreads number of writer lanes
+     * @param batchSize number of rows in each batched insert
+     * @throws SQLException unable to connect to the database
+     */
+    HarvestOpenMetadataWriter(JDBCResourceConnector databaseClient,
+                              DataSource            dataSource,
+                              String                connectorName,
+                              int                   writerThreads,
+                              int                   batchSize) throws SQLException
+    {
+        this.databaseClient  = databaseClient;
+        this.batchSize       = batchSize;
+        this.batchesInFlight = new Semaphore(writerThreads * 2);
+
+        try
+        {
+            for (int lane = 0; lane < writerThreads; lane++)
+            {
+                Connection writerConnection = dataSource.getConnection();
+
+                writerConnection.setAutoCommit(false);
+                writerConnections.add(writerConnection);
+
+                final String threadName = connectorName + "-writer-" + lane;
+
+                writerLanes.add(Executors.newSingleThreadExecutor(runnable ->
+                                                                  {
+                                                                      Thread thread = new Thread(runnable, threadName);
+                                                                      thread.setDaemon(true);
+                                                                      return thread;
+                                                                  }));
+            }
+        }
+        catch (SQLException error)
+        {
+            this.close();
+            throw error;
+        }
+    }
+
+
+    /**
+     * Retrieve the row with the requested identifier and with the latest timestamp.  A record queued by this writer
+     * that has not yet been committed takes precedence over the rows in the database.
+     *
+     * @param readConnection connection to query the database
+     * @param tableName name of the table to query
+     * @param identifierColumnName name of the column with the identifier in it
+     * @param identifierColumnValue value of the identifier to match on
+     * @param timestampColumnName name of the column with the timestamp
+     * @param columnNameTypeMap map of resulting column names and values to include in the results
+     * @return Map of column names to data values that represent the requested row
+     * @throws SQLException there was a problem calling the database
+     */
+    Map<String, JDBCDataValue> getLatestRow(Connection           readConnection,
+                                            String               tableName,
+                                            String               identifierColumnName,
+                                            String               identifierColumnValue,
+                                            String               timestampColumnName,
+                                            Map<String, Integer> columnNameTypeMap) throws SQLException
+    {
+        Map<String, JDBCDataValue> pendingRecord = pendingRecords.get(this.getRecordKey(tableName, identifierColumnValue));
+
+        if (pendingRecord != null)
+        {
+            return pendingRecord;
+        }
+
+        return databaseClient.getLatestRow(readConnection,
+                                           tableName,
+                                           identifierColumnName,
+                                           identifierColumnValue,
+                                           timestampColumnName,
+                                           columnNameTypeMap);
+    }
+
+
+    /**
+     * Queue a row for a table that is not queried for its latest row.
+     *
+     * @param tableName name of the table where the row is to be added
+     * @param columnNameValueMap column names, values and types
+     * @throws SQLException a previous batch failed
+     */
+    void insertRow(String                     tableName,
+                   Map<String, JDBCDataValue> columnNameValueMap) throws SQLException
+    {
+        this.insertRow(tableName, null, columnNameValueMap);
+    }
+
+
+    /**
+     * Queue a row for a table.  The batch for the table is handed to its writer lane once it is full.
+     *
+     * @param tableName name of the table where the row is to be added
+     * @param identifierColumnName name of the column with the record's identifier in it (or null if the table is not
+     *                             queried for its latest row)
+     * @param columnNameValueMap column names, values and types
+     * @throws SQLException a previous batch failed
+     */
+    void insertRow(String                     tableName,
+                   String                     identifierColumnName,
+                   Map<String, JDBCDataValue> columnNameValueMap) throws SQLException
+    {
+        String recordKey = null;
+
+        if (identifierColumnName != null)
+        {
+            JDBCDataValue identifier = columnNameValueMap.get(identifierColumnName);
+
+            if ((identifier != null) && (identifier.getDataValue() != null))
+            {
+                recordKey = this.getRecordKey(tableName, identifier.getDataValue().toString());
+                pendingRecords.put(recordKey, columnNameValueMap);
+            }
+        }
+
+        bufferedRows.computeIfAbsent(tableName, key -> new ArrayList<>()).add(columnNameValueMap);
+        bufferedKeys.computeIfAbsent(tableName, key -> new ArrayList<>()).add(recordKey);
+
+        if (bufferedRows.get(tableName).size() >= batchSize)
+        {
+            this.submitBatch(tableName);
+        }
+    }
+
+
+    /**
+     * Write all the queued rows to the database and wait for the writer lanes to commit them.
+     *
+     * @throws SQLException one of the batches failed
+     */
+    void flush() throws SQLException
+    {
+        for (String tableName : new ArrayList<>(bufferedRows.keySet()))
+        {
+            this.submitBatch(tableName);
+        }
+
+        this.checkWriteResults(true);
+    }
+
+
+    /**
+     * Shut down the writer lanes and close their database connections.  Any rows that have not been flushed are
+     * discarded.
+     */
+    void close()
+    {
+        for (ExecutorService writerLane : writerLanes)
+        {
+            writerLane.shutdownNow();
+        }
+
+        for (Connection writerConnection : writerConnections)
+        {
+            try
+            {
+                writerConnection.close();
+            }
+            catch (SQLException error)
+            {
+                // Ignore error - the connection is no longer needed.
+            }
+        }
+
+        writerLanes.clear();
+        writerConnections.clear();
+        bufferedRows.clear();
+        bufferedKeys.clear();
+        pendingRecords.clear();
+    }
+
+
+    /**
+     * Hand the buffered rows for a table to the table's writer lane.  This waits if too many batches are already
+     * waiting to be written.
+     *
+     * @param tableName name of the table
+     * @throws SQLException a previous batch failed
+     */
+    private void submitBatch(String tableName) throws SQLException
+    {
+        List<Map<String, JDBCDataValue>> rows       = bufferedRows.remove(tableName);
+        List<String>                     recordKeys = bufferedKeys.remove(tableName);
+
+        if ((rows == null) || (rows.isEmpty()))
+        {
+            return;
+        }
+
+        this.checkWriteResults(false);
+
+        try
+        {
+            batchesInFlight.acquire();
+        }
+        catch (InterruptedException error)
+        {
+            Thread.currentThread().interrupt();
+            throw new SQLException("Interrupted while waiting to write rows to " + tableName, error);
+        }
+
+        int lane = Math.floorMod(tableName.hashCode(), writerLanes.size());
+
+        Connection writerConnection = writerConnections.get(lane);
+
+        try
+        {
+            writeResults.add(writerLanes.get(lane).submit(() -> this.writeBatch(writerConnection, tableName, rows, recordKeys)));
+        }
+        catch (RuntimeException error)
+        {
+            batchesInFlight.release();
+            throw error;
+        }
+    }
+
+
+    /**
+     * Insert and commit a batch of rows on a writer lane's connection.
+     *
+     * @param writerConnection connection owned by the writer lane
+     * @param tableName name of the table
+     * @param rows rows to insert
+     * @param recordKeys keys of the pending records that the rows represent
+     * @return null
+     * @throws SQLException problem writing to the database
+     */
+    private Void writeBatch(Connection                       writerConnection,
+                            String                           tableName,
+                            List<Map<String, JDBCDataValue>> rows,
+                            List<String>                     recordKeys) throws SQLException
+    {
+        try
+        {
+            databaseClient.insertRowsIntoTable(writerConnection, tableName, rows);
+            writerConnection.commit();
+
+            for (int index = 0; index < rows.size(); index++)
+            {
+                if (recordKeys.get(index) != null)
+                {
+                    /*
+                     * Only remove the pending record if it has not been replaced by a later version.
+                     */
+                    pendingRecords.remove(recordKeys.get(index), rows.get(index));
+                }
+            }
+
+            return null;
+        }
+        catch (SQLException error)
+        {
+            writerConnection.rollback();
+            throw error;
+        }
+        finally
+        {
+            batchesInFlight.release();
+        }
+    }
+
+
+    /**
+     * Check the results of the batches that have been submitted and throw the first failure.
+     *
+     * @param waitForCompletion wait for outstanding batches to complete
+     * @throws SQLException a batch failed
+     */
+    private void checkWriteResults(boolean waitForCompletion) throws SQLException
+    {
+        List<Future<?>> outstandingResults = new ArrayList<>();
+
+        try
+        {
+            for (Future<?> writeResult : writeResults)
+            {
+                if (waitForCompletion || writeResult.isDone())
+                {
+                    writeResult.get();
+                }
+                else
+                {
+                    outstandingResults.add(writeResult);
+                }
+            }
+        }
+        catch (InterruptedException error)
+        {
+            Thread.currentThread().interrupt();
+            throw new SQLException("Interrupted while waiting for rows to be written", error);
+        }
+        catch (ExecutionException error)
+        {
+            if (error.getCause() instanceof SQLException sqlException)
+            {
+                throw sqlException;
+            }
+
+            throw new SQLException(error.getCause());
+        }
+
+        writeResults.clear();
+        writeResults.addAll(outstandingResults);
+    }
+
+
+    /**
+     * Return the key used to remember a pending record.
+     *
+     * @param tableName name of the table
+     * @param identifierColumnValue identifier of the record
+     * @return key
+     */
+    private String getRecordKey(String tableName,
+                                String identifierColumnValue)
+    {
+        return tableName + ":" + identifierColumnValue;
+    }
+}
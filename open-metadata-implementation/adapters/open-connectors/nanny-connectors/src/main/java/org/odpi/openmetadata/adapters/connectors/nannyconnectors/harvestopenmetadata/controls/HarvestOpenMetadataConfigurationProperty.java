@@ -0,0 +1,205 @@
+/* SPDX-License-Identifier: Apache-2.0 */
+/* Copyright Contributors to the ODPi Egeria project. */
+
+package org.odpi.openmetadata.adapters.connectors.nannyconnectors.harvestopenmetadata.controls;
+
+import org.odpi.openmetadata.frameworks.connectors.controls.ConfigurationPropertyType;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * HarvestOpenMetadataConfigurationProperty defines the configuration properties used with the harvest open metadata connector.
+ */
+public enum HarvestOpenMetadataConfigurationProperty
+{
+    /**
+     * Only harvest the data assets and glossaries that have changed since the last successful harvest.
+     */
+    INCREMENTAL_HARVEST ("incrementalHarvest",
+                         "Only harvest the data assets and glossaries that have changed since the last successful harvest.  Changes that only remove relationships are picked up by the next full harvest.",
+                         "boolean",
+                         "true",
+                         false),
+
+    /**
+     * Number of hours between full harvests when incrementalHarvest is set.  A full harvest picks up the relationships
+     * that have been removed, which can not be detected incrementally.
+     */
+    FULL_HARVEST_INTERVAL ("fullHarvestInterval",
+                           "Number of hours between full harvests when incrementalHarvest is set.  A full harvest picks up the relationships that have been removed, which can not be detected incrementally.  Zero means only harvest in full when there is no record of a previous harvest.",
+                           "integer",
+                           "24",
+                           false),
+
+    /**
+     * Number of threads writing rows to the database.  Each thread has its own database connection.
+     */
+    WRITER_THREADS ("writerThreads",
+                    "Number of threads writing rows to the database.  Each thread has its own database connection.",
+                    "integer",
+                    "4",
+                    false),
+
+    /**
+     * Number of rows sent to the database in each batched insert.
+     */
+    BATCH_SIZE ("batchSize",
+                "Number of rows sent to the database in each batched insert.",
+                "integer",
+                "500",
+                false),
+
+    ;
+
+    public final String           name;
+    public final String           description;
+    public final String           dataType;
+    public final String           example;
+    public final boolean          isPlaceholder;
+
+
+    /**
+     * Create a specific Enum constant.
+     *
+     * @param name name of the request parameter
+     * @param description description of the request parameter
+     * @param dataType type of value of the request parameter
+     * @param example example of the request parameter
+     * @param isPlaceholder is this also used as a placeholder property?
+     */
+    HarvestOpenMetadataConfigurationProperty(String  name,
+                                             String  description,
+                                             String  dataType,
+                                             String  example,
+                                             boolean isPlaceholder)
+    {
+        this.name          = name;
+        this.description   = description;
+        this.dataType      = dataType;
+        this.example       = example;
+        this.isPlaceholder = isPlaceholder;
+    }
+
+
+    /**
+     * Return the name of the request parameter.
+     *
+     * @return string name
+     */
+    public String getName()
+    {
+        return name;
+    }
+
+
+    /**
+     * Return the description of the configuration property.
+     *
+     * @return text
+     */
+    public String getDescription()
+    {
+        return description;
+    }
+
+
+    /**
+     * Return the data type for the configuration property.
+     *
+     * @return data type name
+     */
+    public String getDataType()
+    {
+        return dataType;
+    }
+
+
+    /**
+     * Return an example of the configuration property to help users understand how to set it up.
+     *
+     * @return example
+     */
+    public String getExample()
+    {
+        return example;
+    }
+
+
+    /**
+     * Return whether this value is also used as a placeholder property.
+     *
+     * @return boolean
+     */
+    public boolean isPlaceholder()
+    {
+        return isPlaceholder;
+    }
+
+
+
+    /**
+     * Get recognizedConfigurationProperties for the connector.
+     *
+     * @return list of property names
+     */
+    public static List<String> getRecognizedConfigurationProperties()
+    {
+        List<String> recognizedConfigurationProperties = new ArrayList<>();
+
+        for (HarvestOpenMetadataConfigurationProperty configurationProperty : HarvestOpenMetadataConfigurationProperty.values())
+        {
+            recognizedConfigurationProperties.add(configurationProperty.getName());
+        }
+        return recognizedConfigurationProperties;
+    }
+
+
+    /**
+     * Retrieve all the defined configuration properties
+     *
+     * @return list of configuration property types
+     */
+    public static List<ConfigurationPropertyType> getConfigurationPropertyTypes()
+    {
+        List<ConfigurationPropertyType> configurationPropertyTypes = new ArrayList<>();
+
+        for (HarvestOpenMetadataConfigurationProperty configurationProperty : HarvestOpenMetadataConfigurationProperty.values())
+        {
+            configurationPropertyTypes.add(configurationProperty.getConfigurationPropertyType());
+        }
+
+        return configurationPropertyTypes;
+    }
+
+
+    /**
+     * Return a summary of this enum to use in a connector provider.
+     *
+     * @return request parameter type
+     */
+    public ConfigurationPropertyType getConfigurationPropertyType()
+    {
+        ConfigurationPropertyType configurationPropertyType = new ConfigurationPropertyType();
+
+        configurationPropertyType.setName(name);
+        configurationPropertyType.setDescription(description);
+        configurationPropertyType.setDataType(dataType);
+        configurationPropertyType.setExample(example);
+        configurationPropertyType.setRequired(isPlaceholder);
+
+        return configurationPropertyType;
+    }
+
+
+    /**
+     * Output of this enum class and main value.
+     *
+     * @return string showing enum value
+     */
+    @Override
+    public String toString()
+    {
+        return "ConfigurationProperty{ name=" + name + "}";
+    }
+}
@@ -0,0 +1,562 @@
+/* SPDX-License-Identifier: Apache-2.0 */
+/* Copyright Contributors to the ODPi Egeria project. */
+package org.odpi.openmetadata.adapters.connectors.nannyconnectors.harvestopenmetadata;
+
+import org.odpi.openmetadata.adapters.connectors.resource.jdbc.JDBCResourceConnector;
+import org.odpi.openmetadata.frameworks.auditlog.AuditLog;
+import org.odpi.openmetadata.frameworks.auditlog.AuditLogDestination;
+import org.odpi.openmetadata.frameworks.auditlog.AuditLogRecord;
+import org.odpi.openmetadata.frameworks.auditlog.ComponentDevelopmentStatus;
+import org.odpi.openmetadata.frameworks.connectors.ffdc.ConnectorCheckedException;
+import org.odpi.openmetadata.frameworks.connectors.properties.ConnectionProperties;
+import org.odpi.openmetadata.frameworks.connectors.properties.beans.Endpoint;
+import org.odpi.openmetadata.frameworks.governanceaction.properties.AttachedClassification;
+import org.odpi.openmetadata.frameworks.governanceaction.properties.CatalogTarget;
+import org.odpi.openmetadata.frameworks.governanceaction.properties.OpenMetadataElement;
+import org.odpi.openmetadata.frameworks.governanceaction.properties.OpenMetadataRelationship;
+import org.odpi.openmetadata.frameworks.governanceaction.search.PropertyHelper;
+import org.odpi.openmetadata.frameworks.openmetadata.enums.SequencingOrder;
+import org.odpi.openmetadata.frameworks.openmetadata.metadataelements.ElementType;
+import org.odpi.openmetadata.frameworks.openmetadata.metadataelements.ElementVersions;
+import org.odpi.openmetadata.frameworks.openmetadata.types.OpenMetadataProperty;
+import org.odpi.openmetadata.frameworks.openmetadata.types.OpenMetadataType;
+import org.odpi.openmetadata.integrationservices.catalog.connector.StubDataAssetExchangeService;
+import org.odpi.openmetadata.integrationservices.catalog.connector.StubGlossaryExchangeService;
+import org.testng.annotations.AfterMethod;
+import org.testng.annotations.BeforeMethod;
+import org.testng.annotations.Test;
+
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.Date;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertTrue;
+import static org.testng.Assert.fail;
+
+
+/**
+ * Verify that HarvestOpenMetadataCatalogTargetProcessor chooses between a full and an incremental harvest of the
+ * data assets and glossaries, only saves its progress once the harvested rows are committed to the in-memory H2
+ * database, and retrieves the elements at the ends of the changed relationships once each.
+ */
+public class HarvestOpenMetadataCatalogTargetProcessorTest
+{
+    private static final String connectorName           = "test";
+    private static final String highWaterMarkProperty   = "harvestHighWaterMark";
+    private static final String lastFullHarvestProperty = "harvestLastFullHarvest";
+    private static final long   highWaterMark           = 1700000000000L;
+    private static final int    fullHarvestInterval     = 24;
+
+    private final PropertyHelper propertyHelper = new PropertyHelper();
+
+    private String                       databaseURL        = null;
+    private JDBCResourceConnector        databaseClient     = null;
+    private Connection                   readConnection     = null;
+    private AuditLog                     auditLog           = null;
+    private StubOpenMetadataAccess       openMetadataAccess = null;
+    private StubDataAssetExchangeService dataAssetExchange  = null;
+    private StubGlossaryExchangeService  glossaryExchange   = null;
+
+
+    /**
+     * Create a new in-memory database and the stubs for the open metadata ecosystem.
+     *
+     * @throws Exception unable to create the database
+     */
+    @BeforeMethod
+    public void setUp() throws Exception
+    {
+        databaseURL = "jdbc:h2:mem:" + UUID.randomUUID() + ";MODE=PostgreSQL;DB_CLOSE_DELAY=-1";
+
+        org.odpi.openmetadata.frameworks.connectors.properties.beans.Connection connection = new org.odpi.openmetadata.frameworks.connectors.properties.beans.Connection();
+        Endpoint                                                                endpoint   = new Endpoint();
+
+        endpoint.setAddress(databaseURL);
+        connection.setEndpoint(endpoint);
+
+        databaseClient = new JDBCResourceConnector();
+        databaseClient.initialize(UUID.randomUUID().toString(), new ConnectionProperties(connection));
+        databaseClient.start();
+
+        readConnection = DriverManager.getConnection(databaseURL);
+
+        auditLog = new AuditLog(new TestAuditLogDestination(),
+                                1,
+                                ComponentDevelopmentStatus.IN_DEVELOPMENT,
+                                "testComponent",
+                                "test",
+                                null);
+
+        openMetadataAccess = new StubOpenMetadataAccess();
+        dataAssetExchange  = new StubDataAssetExchangeService(connectorName, auditLog);
+        glossaryExchange   = new StubGlossaryExchangeService(connectorName, auditLog);
+    }
+
+
+    /**
+     * Close the database connections.
+     *
+     * @throws Exception unable to close the connections
+     */
+    @AfterMethod
+    public void tearDown() throws Exception
+    {
+        if (readConnection != null)
+        {
+            readConnection.close();
+            readConnection = null;
+        }
+
+        if (databaseClient != null)
+        {
+            databaseClient.disconnect();
+            databaseClient = null;
+        }
+    }
+
+
+    /**
+     * With no harvest recorded, all the data assets and glossaries are harvested and the latest change time is
+     * saved as the high-water mark once the rows are committed.
+     *
+     * @throws Exception test failure
+     */
+    @Test
+    public void testFirstHarvestIsFull() throws Exception
+    {
+        this.createRoleTable(false);
+
+        openMetadataAccess.addChangedElement(this.getElement("asset-1", this.getDataAssetType(), null, highWaterMark - 10000, highWaterMark + 5000));
+        openMetadataAccess.addRole(this.getElement("role-1", this.getRoleType(), null, highWaterMark, highWaterMark));
+
+        long harvestStart = System.currentTimeMillis();
+
+        HarvestOpenMetadataCatalogTargetProcessor processor = this.getProcessor(null);
+
+        processor.refresh();
+
+        assertEquals(dataAssetExchange.getSearchStrings(), List.of(".*"));
+        assertEquals(glossaryExchange.getSearchStrings(), List.of(".*"));
+        assertEquals(openMetadataAccess.getChangeSearches(), List.of(SequencingOrder.LAST_UPDATE_RECENT, SequencingOrder.CREATION_DATE_RECENT));
+        assertTrue(dataAssetExchange.getRetrievedAssetGUIDs().isEmpty());
+
+        assertEquals(this.countRows("om_role"), 1);
+        assertEquals(openMetadataAccess.getSavedProperties().size(), 1);
+        assertEquals(this.getSavedTime(processor, highWaterMarkProperty), highWaterMark + 5000);
+        assertTrue(this.getSavedTime(processor, lastFullHarvestProperty) >= harvestStart);
+    }
+
+
+    /**
+     * Within the full harvest interval, only the anchors of the elements changed since the high-water mark are
+     * harvested.  The time of the last full harvest is left unchanged.
+     *
+     * @throws Exception test failure
+     */
+    @Test
+    public void testIncrementalHarvest() throws Exception
+    {
+        this.createRoleTable(false);
+
+        long lastFullHarvest = System.currentTimeMillis();
+
+        openMetadataAccess.addChangedElement(this.getElement("asset-1", this.getDataAssetType(), null, highWaterMark - 10000, highWaterMark + 2000));
+        openMetadataAccess.addChangedElement(this.getElement("column-1", this.getType("SchemaAttribute"), "asset-2", highWaterMark - 10000, highWaterMark + 1000));
+        openMetadataAccess.addChangedElement(this.getElement("asset-3", this.getDataAssetType(), null, highWaterMark - 10000, highWaterMark - 1000));
+        openMetadataAccess.addElement(this.getElement("asset-2", this.getDataAssetType(), null, highWaterMark - 10000, highWaterMark - 10000));
+
+        HarvestOpenMetadataCatalogTargetProcessor processor = this.getProcessor(this.getHarvestProgress(highWaterMark, lastFullHarvest));
+
+        processor.refresh();
+
+        assertTrue(dataAssetExchange.getSearchStrings().isEmpty());
+        assertTrue(glossaryExchange.getSearchStrings().isEmpty());
+        assertEquals(dataAssetExchange.getRetrievedAssetGUIDs(), List.of("asset-1", "asset-2"));
+        assertEquals(openMetadataAccess.getElementRetrievals(), Map.of("asset-2", 1));
+
+        assertEquals(openMetadataAccess.getSavedProperties().size(), 1);
+        assertEquals(this.getSavedTime(processor, highWaterMarkProperty), highWaterMark + 2000);
+        assertEquals(this.getSavedTime(processor, lastFullHarvestProperty), lastFullHarvest);
+    }
+
+
+    /**
+     * Once the full harvest interval has passed, all the data assets and glossaries are harvested again and the
+     * time of the last full harvest is moved on.
+     *
+     * @throws Exception test failure
+     */
+    @Test
+    public void testFullHarvestAfterInterval() throws Exception
+    {
+        this.createRoleTable(false);
+
+        long harvestStart    = System.currentTimeMillis();
+        long lastFullHarvest = harvestStart - ((fullHarvestInterval + 1) * 60L * 60L * 1000L);
+
+        openMetadataAccess.addChangedElement(this.getElement("asset-1", this.getDataAssetType(), null, highWaterMark - 10000, highWaterMark + 2000));
+
+        HarvestOpenMetadataCatalogTargetProcessor processor = this.getProcessor(this.getHarvestProgress(highWaterMark, lastFullHarvest));
+
+        processor.refresh();
+
+        assertEquals(dataAssetExchange.getSearchStrings(), List.of(".*"));
+        assertEquals(glossaryExchange.getSearchStrings(), List.of(".*"));
+        assertTrue(dataAssetExchange.getRetrievedAssetGUIDs().isEmpty());
+
+        assertEquals(this.getSavedTime(processor, highWaterMarkProperty), highWaterMark + 2000);
+        assertTrue(this.getSavedTime(processor, lastFullHarvestProperty) >= harvestStart);
+    }
+
+
+    /**
+     * If the harvested rows can not be committed, the refresh fails and the high-water mark is not saved, so the
+     * changes are harvested again next time.
+     *
+     * @throws Exception test failure
+     */
+    @Test
+    public void testProgressNotSavedWhenWriteFails() throws Exception
+    {
+        this.createRoleTable(true);
+
+        long lastFullHarvest = System.currentTimeMillis();
+
+        openMetadataAccess.addChangedElement(this.getElement("asset-1", this.getDataAssetType(), null, highWaterMark - 10000, highWaterMark + 2000));
+        openMetadataAccess.addRole(this.getElement("role-1", this.getRoleType(), null, highWaterMark, highWaterMark));
+
+        HarvestOpenMetadataCatalogTargetProcessor processor = this.getProcessor(this.getHarvestProgress(highWaterMark, lastFullHarvest));
+
+        try
+        {
+            processor.refresh();
+            fail("The failed write was not reported");
+        }
+        catch (ConnectorCheckedException expected)
+        {
+            // The role row does not fill the extra NOT NULL column.
+        }
+
+        assertEquals(this.countRows("om_role"), 0);
+        assertTrue(openMetadataAccess.getSavedProperties().isEmpty());
+        assertEquals(this.getSavedTime(processor, highWaterMarkProperty), highWaterMark);
+    }
+
+
+    /**
+     * The elements at the ends of the changed relationships are retrieved once each, however many changed
+     * relationships they are attached to.  An end that has been deleted is skipped.
+     *
+     * @throws Exception test failure
+     */
+    @Test
+    public void testRelationshipEndsRetrievedOnce() throws Exception
+    {
+        this.createRoleTable(false);
+
+        long lastFullHarvest = System.currentTimeMillis();
+
+        openMetadataAccess.addElement(this.getElement("term-1", this.getType(OpenMetadataType.GLOSSARY_TERM.typeName), "glossary-1", highWaterMark - 10000, highWaterMark - 10000));
+        openMetadataAccess.addElement(this.getElement("glossary-1", this.getType(OpenMetadataType.GLOSSARY_TYPE_NAME), null, highWaterMark - 10000, highWaterMark - 10000));
+
+        openMetadataAccess.addChangedRelationship(this.getRelationship("relationship-1", "term-1", "glossary-1", highWaterMark + 3000));
+        openMetadataAccess.addChangedRelationship(this.getRelationship("relationship-2", "term-1", "glossary-1", highWaterMark + 2500));
+        openMetadataAccess.addChangedRelationship(this.getRelationship("relationship-3", "term-1", "deleted-1", highWaterMark + 2000));
+
+        HarvestOpenMetadataCatalogTargetProcessor processor = this.getProcessor(this.getHarvestProgress(highWaterMark, lastFullHarvest));
+
+        processor.refresh();
+
+        assertEquals(openMetadataAccess.getElementRetrievals(), Map.of("term-1", 1, "glossary-1", 1, "deleted-1", 1));
+        assertEquals(glossaryExchange.getRetrievedGlossaryGUIDs(), List.of("glossary-1"));
+        assertTrue(dataAssetExchange.getRetrievedAssetGUIDs().isEmpty());
+        assertEquals(this.getSavedTime(processor, highWaterMarkProperty), highWaterMark + 3000);
+    }
+
+
+    /**
+     * A failure to retrieve the element at the end of a changed relationship, other than it not being found, fails
+     * the refresh without saving the high-water mark.
+     *
+     * @throws Exception test failure
+     */
+    @Test
+    public void testEndRetrievalFailureStopsHarvest() throws Exception
+    {
+        this.createRoleTable(false);
+
+        long lastFullHarvest = System.currentTimeMillis();
+
+        openMetadataAccess.addElement(this.getElement("glossary-1", this.getType(OpenMetadataType.GLOSSARY_TYPE_NAME), null, highWaterMark - 10000, highWaterMark - 10000));
+        openMetadataAccess.addFailingElement("term-1");
+        openMetadataAccess.addChangedRelationship(this.getRelationship("relationship-1", "term-1", "glossary-1", highWaterMark + 3000));
+
+        HarvestOpenMetadataCatalogTargetProcessor processor = this.getProcessor(this.getHarvestProgress(highWaterMark, lastFullHarvest));
+
+        try
+        {
+            processor.refresh();
+            fail("The failed retrieval was not reported");
+        }
+        catch (ConnectorCheckedException expected)
+        {
+            // The PropertyServerException from retrieving term-1 is passed on.
+        }
+
+        assertTrue(openMetadataAccess.getSavedProperties().isEmpty());
+        assertEquals(this.getSavedTime(processor, highWaterMarkProperty), highWaterMark);
+    }
+
+
+    /**
+     * Return a processor for an incremental harvest.
+     *
+     * @param configurationProperties configuration properties of the catalog target
+     * @return processor
+     * @throws ConnectorCheckedException unable to create the processor
+     */
+    private HarvestOpenMetadataCatalogTargetProcessor getProcessor(Map<String, Object> configurationProperties) throws ConnectorCheckedException
+    {
+        CatalogTarget catalogTarget = new CatalogTarget();
+
+        catalogTarget.setRelationshipGUID("catalog-target-1");
+        catalogTarget.setConfigurationProperties(configurationProperties);
+
+        return new HarvestOpenMetadataCatalogTargetProcessor(catalogTarget,
+                                                             databaseClient,
+                                                             connectorName,
+                                                             auditLog,
+                                                             dataAssetExchange,
+                                                             glossaryExchange,
+                                                             openMetadataAccess,
+                                                             true,
+                                                             fullHarvestInterval,
+                                                             2,
+                                                             10);
+    }
+
+
+    /**
+     * Return the configuration properties recorded by a previous harvest.
+     *
+     * @param highWaterMark latest update time of the elements harvested
+     * @param lastFullHarvest time that the last full harvest started
+     * @return configuration properties
+     */
+    private Map<String, Object> getHarvestProgress(long highWaterMark,
+                                                   long lastFullHarvest)
+    {
+        Map<String, Object> configurationProperties = new HashMap<>();
+
+        configurationProperties.put(highWaterMarkProperty, Long.toString(highWaterMark));
+        configurationProperties.put(lastFullHarvestProperty, Long.toString(lastFullHarvest));
+
+        return configurationProperties;
+    }
+
+
+    /**
+     * Return a time recorded in the processor's configuration properties.
+     *
+     * @param processor processor
+     * @param propertyName name of the configuration property
+     * @return milliseconds since the epoch
+     */
+    private long getSavedTime(HarvestOpenMetadataCatalogTargetProcessor processor,
+                              String                                    propertyName)
+    {
+        return Long.parseLong(processor.getConfigurationProperties().get(propertyName).toString());
+    }
+
+
+    /**
+     * Return a type that inherits from DataAsset.
+     *
+     * @return type
+     */
+    private ElementType getDataAssetType()
+    {
+        ElementType elementType = this.getType("CSVFile");
+
+        elementType.setSuperTypeNames(List.of("DataFile", "DataStore", OpenMetadataType.DATA_ASSET.typeName, "Asset", OpenMetadataType.REFERENCEABLE.typeName));
+
+        return elementType;
+    }
+
+
+    /**
+     * Return the type of a person role.
+     *
+     * @return type
+     */
+    private ElementType getRoleType()
+    {
+        ElementType elementType = this.getType(OpenMetadataType.PERSON_ROLE_TYPE_NAME);
+
+        elementType.setSuperTypeNames(List.of("ActorRole", OpenMetadataType.REFERENCEABLE.typeName));
+
+        return elementType;
+    }
+
+
+    /**
+     * Return a type with no supertypes.
+     *
+     * @param typeName name of the type
+     * @return type
+     */
+    private ElementType getType(String typeName)
+    {
+        ElementType elementType = new ElementType();
+
+        elementType.setTypeName(typeName);
+
+        return elementType;
+    }
+
+
+    /**
+     * Return an element.
+     *
+     * @param elementGUID unique identifier of the element
+     * @param elementType type of the element
+     * @param anchorGUID unique identifier of the element's anchor (or null if it is not anchored)
+     * @param createTime time the element was created
+     * @param updateTime time the element was last updated
+     * @return element
+     */
+    private OpenMetadataElement getElement(String      elementGUID,
+                                           ElementType elementType,
+                                           String      anchorGUID,
+                                           long        createTime,
+                                           long        updateTime)
+    {
+        OpenMetadataElement element = new OpenMetadataElement();
+
+        element.setElementGUID(elementGUID);
+        element.setType(elementType);
+        element.setVersions(this.getVersions(createTime, updateTime));
+
+        if (anchorGUID != null)
+        {
+            AttachedClassification anchors = new AttachedClassification();
+
+            anchors.setClassificationName(OpenMetadataType.ANCHORS_CLASSIFICATION.typeName);
+            anchors.setClassificationProperties(propertyHelper.addStringProperty(null, OpenMetadataProperty.ANCHOR_GUID.name, anchorGUID));
+
+            element.setClassifications(List.of(anchors));
+        }
+
+        return element;
+    }
+
+
+    /**
+     * Return a relationship that was created and last updated at the same time.
+     *
+     * @param relationshipGUID unique identifier of the relationship
+     * @param end1GUID unique identifier of the element at end 1
+     * @param end2GUID unique identifier of the element at end 2
+     * @param changeTime time the relationship was created and updated
+     * @return relationship
+     */
+    private OpenMetadataRelationship getRelationship(String relationshipGUID,
+                                                     String end1GUID,
+                                                     String end2GUID,
+                                                     long   changeTime)
+    {
+        OpenMetadataRelationship relationship = new OpenMetadataRelationship();
+
+        relationship.setRelationshipGUID(relationshipGUID);
+        relationship.setElementGUIDAtEnd1(end1GUID);
+        relationship.setElementGUIDAtEnd2(end2GUID);
+        relationship.setVersions(this.getVersions(changeTime, changeTime));
+
+        return relationship;
+    }
+
+
+    /**
+     * Return the version information of an element or relationship.
+     *
+     * @param createTime creation time
+     * @param updateTime last update time
+     * @return versions
+     */
+    private ElementVersions getVersions(long createTime,
+                                        long updateTime)
+    {
+        ElementVersions versions = new ElementVersions();
+
+        versions.setCreateTime(new Date(createTime));
+        versions.setUpdateTime(new Date(updateTime));
+
+        return versions;
+    }
+
+
+    /**
+     * Create the om_role table.
+     *
+     * @param extraRequiredColumn add a NOT NULL column that the harvester does not fill
+     * @throws SQLException problem with the database
+     */
+    private void createRoleTable(boolean extraRequiredColumn) throws SQLException
+    {
+        try (Statement statement = readConnection.createStatement())
+        {
+            statement.execute("CREATE TABLE om_role (" +
+                                      "role_guid VARCHAR(80) NOT NULL, " +
+                                      "role_name VARCHAR(80), " +
+                                      "role_type VARCHAR(80), " +
+                                      "headcount INTEGER, " +
+                                      (extraRequiredColumn ? "role_owner VARCHAR(80) NOT NULL, " : "") +
+                                      "sync_time TIMESTAMP NOT NULL, " +
+                                      "PRIMARY KEY (role_guid, sync_time))");
+        }
+    }
+
+
+    /**
+     * Return the number of committed rows in a table.
+     *
+     * @param tableName name of the table
+     * @return count
+     * @throws SQLException problem with the database
+     */
+    private int countRows(String tableName) throws SQLException
+    {
+        try (Statement statement = readConnection.createStatement();
+             ResultSet resultSet = statement.executeQuery("SELECT COUNT(*) FROM " + tableName))
+        {
+            resultSet.next();
+
+            return resultSet.getInt(1);
+        }
+    }
+
+
+    /**
+     * Audit log destination that discards the log records.
+     */
+    private static class TestAuditLogDestination extends AuditLogDestination
+    {
+        /**
+         * Discard the log record.
+         *
+         * @param logRecord log record
+         */
+        @Override
+        public void addLogRecord(AuditLogRecord logRecord)
+        {
+        }
+    }
+}
@@ -0,0 +1,467 @@
+/* SPDX-License-Identifier: Apache-2.0 */
+/* Copyright Contributors to the ODPi Egeria project. */
+package org.odpi.openmetadata.adapters.connectors.nannyconnectors.harvestopenmetadata;
+
+import org.odpi.openmetadata.adapters.connectors.resource.jdbc.JDBCResourceConnector;
+import org.odpi.openmetadata.adapters.connectors.resource.jdbc.properties.JDBCDataValue;
+import org.odpi.openmetadata.frameworks.connectors.properties.ConnectionProperties;
+import org.odpi.openmetadata.frameworks.connectors.properties.beans.Endpoint;
+import org.testng.annotations.AfterMethod;
+import org.testng.annotations.BeforeMethod;
+import org.testng.annotations.Test;
+
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.sql.Timestamp;
+import java.sql.Types;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertNotNull;
+import static org.testng.Assert.assertNotSame;
+import static org.testng.Assert.assertNull;
+import static org.testng.Assert.assertSame;
+import static org.testng.Assert.fail;
+
+
+/**
+ * Verify that HarvestOpenMetadataWriter writes the harvested rows to an in-memory H2 database in batches, with each
+ * table on its own writer lane, and that the rows it has queued but not yet committed are returned as the latest
+ * version of their record.
+ */
+public class HarvestOpenMetadataWriterTest
+{
+    private static final String connectorName = "test";
+    private static final String guidColumn    = "element_guid";
+    private static final String nameColumn    = "element_name";
+    private static final String timeColumn    = "sync_time";
+
+    private static final Map<String, Integer> columnTypes = Map.of(guidColumn, Types.VARCHAR,
+                                                                   nameColumn, Types.VARCHAR,
+                                                                   timeColumn, Types.TIMESTAMP);
+
+    private String                          databaseURL    = null;
+    private RecordingJDBCResourceConnector  databaseClient = null;
+    private Connection                      readConnection = null;
+    private HarvestOpenMetadataWriter       databaseWriter = null;
+
+
+    /**
+     * Create a new in-memory database and a JDBC resource connector that connects to it.
+     *
+     * @throws Exception unable to create the database
+     */
+    @BeforeMethod
+    public void setUp() throws Exception
+    {
+        databaseURL = "jdbc:h2:mem:" + UUID.randomUUID() + ";MODE=PostgreSQL;DB_CLOSE_DELAY=-1";
+
+        org.odpi.openmetadata.frameworks.connectors.properties.beans.Connection connection = new org.odpi.openmetadata.frameworks.connectors.properties.beans.Connection();
+        Endpoint                                                                endpoint   = new Endpoint();
+
+        endpoint.setAddress(databaseURL);
+        connection.setEndpoint(endpoint);
+
+        databaseClient = new RecordingJDBCResourceConnector();
+        databaseClient.initialize(UUID.randomUUID().toString(), new ConnectionProperties(connection));
+        databaseClient.start();
+
+        readConnection = DriverManager.getConnection(databaseURL);
+    }
+
+
+    /**
+     * Close the writer and the database connections.
+     *
+     * @throws Exception unable to close the connections
+     */
+    @AfterMethod
+    public void tearDown() throws Exception
+    {
+        if (databaseWriter != null)
+        {
+            databaseWriter.close();
+            databaseWriter = null;
+        }
+
+        if (readConnection != null)
+        {
+            readConnection.close();
+            readConnection = null;
+        }
+
+        if (databaseClient != null)
+        {
+            databaseClient.disconnect();
+            databaseClient = null;
+        }
+    }
+
+
+    /**
+     * All the batches for a table are written by the same writer lane, chosen from the table name, and every row is
+     * committed by flush().
+     *
+     * @throws Exception test failure
+     */
+    @Test
+    public void testLaneAssignment() throws Exception
+    {
+        final int writerThreads = 3;
+
+        List<String> tableNames = List.of("om_asset", "om_glossary", "om_role", "om_todo", "om_department", "om_license");
+
+        for (String tableName : tableNames)
+        {
+            this.createTable(tableName, false);
+        }
+
+        databaseWriter = this.getWriter(writerThreads, 2);
+
+        for (String tableName : tableNames)
+        {
+            for (int index = 0; index < 5; index++)
+            {
+                databaseWriter.insertRow(tableName, this.getRow("guid-" + index, tableName + "-" + index, index));
+            }
+        }
+
+        databaseWriter.flush();
+
+        for (String tableName : tableNames)
+        {
+            assertEquals(this.countRows(tableName), 5);
+            assertEquals(databaseClient.getWriterThreads(tableName),
+                         Set.of(connectorName + "-writer-" + Math.floorMod(tableName.hashCode(), writerThreads)),
+                         "Writer lanes for " + tableName);
+        }
+
+        assertEquals(databaseClient.getBatchCount(), tableNames.size() * 3);
+    }
+
+
+    /**
+     * A record that has been queued but not written is returned in place of the rows in the database.  Once it
+     * is committed, it is read from the database.
+     *
+     * @throws Exception test failure
+     */
+    @Test
+    public void testPendingRecordLookup() throws Exception
+    {
+        this.createTable("om_role", false);
+
+        databaseWriter = this.getWriter(2, 10);
+
+        Map<String, JDBCDataValue> queuedRow = this.getRow("role-1", "first", 0);
+
+        assertNull(this.getLatestRow("om_role", "role-1"));
+
+        databaseWriter.insertRow("om_role", guidColumn, queuedRow);
+
+        assertSame(this.getLatestRow("om_role", "role-1"), queuedRow);
+        assertEquals(this.countRows("om_role"), 0);
+
+        databaseWriter.flush();
+
+        Map<String, JDBCDataValue> storedRow = this.getLatestRow("om_role", "role-1");
+
+        assertNotNull(storedRow);
+        assertNotSame(storedRow, queuedRow);
+        assertEquals(storedRow.get(nameColumn).getDataValue(), "first");
+        assertEquals(this.countRows("om_role"), 1);
+    }
+
+
+    /**
+     * When a record is replaced while its first version is being written, committing the first version must not
+     * remove the second version from the pending records.
+     *
+     * @throws Exception test failure
+     */
+    @Test
+    public void testReplacedPendingRecordKept() throws Exception
+    {
+        this.createTable("om_role", false);
+
+        databaseWriter = this.getWriter(1, 1);
+        databaseClient.holdBatches();
+
+        Map<String, JDBCDataValue> firstVersion  = this.getRow("role-1", "first", 0);
+        Map<String, JDBCDataValue> secondVersion = this.getRow("role-1", "second", 1000);
+
+        databaseWriter.insertRow("om_role", guidColumn, firstVersion);
+        databaseWriter.insertRow("om_role", guidColumn, secondVersion);
+
+        databaseClient.waitForBatchesStarted(1);
+        assertSame(this.getLatestRow("om_role", "role-1"), secondVersion);
+
+        /*
+         * Let the first batch commit.  The lane only starts the second batch once the first has finished.
+         */
+        databaseClient.releaseBatches(1);
+        databaseClient.waitForBatchesStarted(2);
+
+        assertEquals(this.countRows("om_role"), 1);
+        assertSame(this.getLatestRow("om_role", "role-1"), secondVersion);
+
+        databaseClient.releaseBatches(1);
+        databaseWriter.flush();
+
+        assertEquals(this.countRows("om_role"), 2);
+        assertEquals(this.getLatestRow("om_role", "role-1").get(nameColumn).getDataValue(), "second");
+    }
+
+
+    /**
+     * A batch that fails part way through is rolled back, and the failure is returned by flush().
+     *
+     * @throws Exception test failure
+     */
+    @Test
+    public void testBatchFailureRollsBack() throws Exception
+    {
+        this.createTable("om_asset", true);
+
+        databaseWriter = this.getWriter(2, 10);
+
+        Map<String, JDBCDataValue> missingName = this.getRow("asset-3", null, 2);
+
+        missingName.remove(nameColumn);
+
+        databaseWriter.insertRow("om_asset", this.getRow("asset-1", "first", 0));
+        databaseWriter.insertRow("om_asset", this.getRow("asset-2", "second", 1));
+        databaseWriter.insertRow("om_asset", missingName);
+
+        try
+        {
+            databaseWriter.flush();
+            fail("The failed batch was not reported");
+        }
+        catch (SQLException expected)
+        {
+            // The row without a name breaks the NOT NULL constraint.
+        }
+
+        assertEquals(this.countRows("om_asset"), 0);
+    }
+
+
+    /**
+     * Create a test table.
+     *
+     * @param tableName name of the table
+     * @param nameRequired is the name column NOT NULL?
+     * @throws SQLException problem with the database
+     */
+    private void createTable(String  tableName,
+                             boolean nameRequired) throws SQLException
+    {
+        try (Statement statement = readConnection.createStatement())
+        {
+            statement.execute("CREATE TABLE " + tableName + " (" +
+                                      guidColumn + " VARCHAR(80) NOT NULL, " +
+                                      nameColumn + " VARCHAR(80)" + (nameRequired ? " NOT NULL" : "") + ", " +
+                                      timeColumn + " TIMESTAMP NOT NULL, " +
+                                      "PRIMARY KEY (" + guidColumn + ", " + timeColumn + "))");
+        }
+    }
+
+
+    /**
+     * Return a new writer.
+     *
+     * @param writerThreads number of writer lanes
+     * @param batchSize rows in each batch
+     * @return writer
+     * @throws SQLException unable to connect
+     */
+    private HarvestOpenMetadataWriter getWriter(int writerThreads,
+                                                int batchSize) throws SQLException
+    {
+        return new HarvestOpenMetadataWriter(databaseClient, databaseClient.getDataSource(), connectorName, writerThreads, batchSize);
+    }
+
+
+    /**
+     * Return a row for a test table.
+     *
+     * @param guid identifier of the record
+     * @param name name column
+     * @param offset milliseconds added to a fixed sync time
+     * @return column names, values and types
+     */
+    private Map<String, JDBCDataValue> getRow(String guid,
+                                              String name,
+                                              long   offset)
+    {
+        Map<String, JDBCDataValue> row = new HashMap<>();
+
+        row.put(guidColumn, new JDBCDataValue(guid, Types.VARCHAR));
+        row.put(nameColumn, new JDBCDataValue(name, Types.VARCHAR));
+        row.put(timeColumn, new JDBCDataValue(new Timestamp(1700000000000L + offset), Types.TIMESTAMP));
+
+        return row;
+    }
+
+
+    /**
+     * Return the latest version of a record through the writer.
+     *
+     * @param tableName name of the table
+     * @param guid identifier of the record
+     * @return column values or null
+     * @throws SQLException problem with the database
+     */
+    private Map<String, JDBCDataValue> getLatestRow(String tableName,
+                                                    String guid) throws SQLException
+    {
+        return databaseWriter.getLatestRow(readConnection, tableName, guidColumn, guid, timeColumn, columnTypes);
+    }
+
+
+    /**
+     * Return the number of committed rows in a table.
+     *
+     * @param tableName name of the table
+     * @return count
+     * @throws SQLException problem with the database
+     */
+    private int countRows(String tableName) throws SQLException
+    {
+        try (Statement statement = readConnection.createStatement();
+             ResultSet resultSet = statement.executeQuery("SELECT COUNT(*) FROM " + tableName))
+        {
+            resultSet.next();
+
+            return resultSet.getInt(1);
+        }
+    }
+
+
+    /**
+     * JDBC resource connector that records which thread writes each table's batches, and can hold batches
+     * until the test releases them.
+     */
+    private static class RecordingJDBCResourceConnector extends JDBCResourceConnector
+    {
+        private final Map<String, Set<String>> writerThreads = new ConcurrentHashMap<>();
+        private final AtomicInteger            batchCount    = new AtomicInteger(0);
+        private volatile Semaphore             batchGate     = null;
+
+
+        /**
+         * Record the batch and hold it if requested, before inserting the rows.
+         *
+         * @param jdbcConnection connection to send the request
+         * @param tableName name of the table where the rows are to be added
+         * @param rows list of rows, each a map of column names, values and types
+         * @throws SQLException problem executing the command
+         */
+        @Override
+        public void insertRowsIntoTable(Connection                       jdbcConnection,
+                                        String                           tableName,
+                                        List<Map<String, JDBCDataValue>> rows) throws SQLException
+        {
+            writerThreads.computeIfAbsent(tableName, key -> ConcurrentHashMap.newKeySet()).add(Thread.currentThread().getName());
+
+            synchronized (batchCount)
+            {
+                batchCount.incrementAndGet();
+                batchCount.notifyAll();
+            }
+
+            Semaphore gate = batchGate;
+
+            if (gate != null)
+            {
+                try
+                {
+                    gate.acquire();
+                }
+                catch (InterruptedException error)
+                {
+                    Thread.currentThread().interrupt();
+                    throw new SQLException(error);
+                }
+            }
+
+            super.insertRowsIntoTable(jdbcConnection, tableName, rows);
+        }
+
+
+        /**
+         * Return the names of the threads that wrote the table's batches.
+         *
+         * @param tableName name of the table
+         * @return thread names
+         */
+        Set<String> getWriterThreads(String tableName)
+        {
+            return writerThreads.get(tableName);
+        }
+
+
+        /**
+         * Return the number of batches started.
+         *
+         * @return count
+         */
+        int getBatchCount()
+        {
+            return batchCount.get();
+        }
+
+
+        /**
+         * Hold each batch until it is released.
+         */
+        void holdBatches()
+        {
+            batchGate = new Semaphore(0);
+        }
+
+
+        /**
+         * Release held batches.
+         *
+         * @param count number of batches to release
+         */
+        void releaseBatches(int count)
+        {
+            batchGate.release(count);
+        }
+
+
+        /**
+         * Wait until the requested number of batches have started.
+         *
+         * @param count number of batches
+         * @throws InterruptedException interrupted while waiting
+         */
+        void waitForBatchesStarted(int count) throws InterruptedException
+        {
+            long deadline = System.currentTimeMillis() + 10000;
+
+            synchronized (batchCount)
+            {
+                while ((batchCount.get() < count) && (System.currentTimeMillis() < deadline))
+                {
+                    batchCount.wait(100);
+                }
+            }
+
+            assertEquals(batchCount.get(), count, "Batches started");
+        }
+    }
+}
@@ -0,0 +1,313 @@
+/* SPDX-License-Identifier: Apache-2.0 */
+/* Copyright Contributors to the ODPi Egeria project. */
+package org.odpi.openmetadata.adapters.connectors.nannyconnectors.harvestopenmetadata;
+
+import org.odpi.openmetadata.adapters.connectors.nannyconnectors.harvestopenmetadata.ffdc.HarvestOpenMetadataErrorCode;
+import org.odpi.openmetadata.frameworks.connectors.ffdc.InvalidParameterException;
+import org.odpi.openmetadata.frameworks.connectors.ffdc.PropertyServerException;
+import org.odpi.openmetadata.frameworks.governanceaction.properties.OpenMetadataElement;
+import org.odpi.openmetadata.frameworks.governanceaction.properties.OpenMetadataRelationship;
+import org.odpi.openmetadata.frameworks.governanceaction.search.ElementProperties;
+import org.odpi.openmetadata.frameworks.governanceaction.search.SearchClassifications;
+import org.odpi.openmetadata.frameworks.governanceaction.search.SearchProperties;
+import org.odpi.openmetadata.frameworks.integration.context.OpenMetadataAccess;
+import org.odpi.openmetadata.frameworks.openmetadata.enums.ElementStatus;
+import org.odpi.openmetadata.frameworks.openmetadata.enums.SequencingOrder;
+import org.odpi.openmetadata.frameworks.openmetadata.types.OpenMetadataType;
+
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+
+/**
+ * StubOpenMetadataAccess stands in for the open metadata store when testing the harvest of open metadata.  It has
+ * no client.  It returns the elements and relationships set up by the test on the first page of each search, and
+ * records the requests made by the harvester.
+ */
+public class StubOpenMetadataAccess extends OpenMetadataAccess
+{
+    private static final int maxPagingSize = 10;
+
+    private final List<OpenMetadataElement>        changedElements      = new ArrayList<>();
+    private final List<OpenMetadataRelationship>   changedRelationships = new ArrayList<>();
+    private final List<OpenMetadataElement>        roles                = new ArrayList<>();
+    private final Map<String, OpenMetadataElement> elements             = new HashMap<>();
+    private final Set<String>                      failingElementGUIDs  = new HashSet<>();
+
+    private final List<SequencingOrder>            changeSearches       = new ArrayList<>();
+    private final Map<String, Integer>             elementRetrievals    = new HashMap<>();
+    private final List<ElementProperties>          savedProperties      = new ArrayList<>();
+
+
+    /**
+     * Constructor.
+     */
+    public StubOpenMetadataAccess()
+    {
+        super(null, "testUser", null, null, null, null);
+    }
+
+
+    /**
+     * Return the maximum paging size.
+     *
+     * @return page size
+     */
+    @Override
+    public int getMaxPagingSize()
+    {
+        return maxPagingSize;
+    }
+
+
+    /**
+     * Return the elements set up by the test.  The changed elements are returned for Referenceable and the roles
+     * for PersonRole.  Only the first page has results.
+     *
+     * @param metadataElementTypeName type of interest (null means any element type)
+     * @param metadataElementSubtypeName optional list of the subtypes of the metadataElementTypeName to
+     *                           include in the search results. Null means all subtypes.
+     * @param searchProperties Optional list of entity property conditions to match.
+     * @param limitResultsByStatus By default, entities in all statuses (other than DELETE) are returned.
+     * @param asOfTime Requests a historical query of the entity.  Null means return the present values.
+     * @param matchClassifications Optional list of classifications to match.
+     * @param sequencingProperty String name of the property that is to be used to sequence the results.
+     * @param sequencingOrder Enum defining how the results should be ordered.
+     * @param startFrom paging start point
+     * @param pageSize maximum results that can be returned
+     * @return list of matching elements or null
+     */
+    @Override
+    public List<OpenMetadataElement> findMetadataElements(String                metadataElementTypeName,
+                                                          List<String>          metadataElementSubtypeName,
+                                                          SearchProperties      searchProperties,
+                                                          List<ElementStatus>   limitResultsByStatus,
+                                                          Date                  asOfTime,
+                                                          SearchClassifications matchClassifications,
+                                                          String                sequencingProperty,
+                                                          SequencingOrder       sequencingOrder,
+                                                          int                   startFrom,
+                                                          int                   pageSize)
+    {
+        if (startFrom > 0)
+        {
+            return null;
+        }
+
+        if (OpenMetadataType.REFERENCEABLE.typeName.equals(metadataElementTypeName))
+        {
+            changeSearches.add(sequencingOrder);
+
+            return this.getPage(changedElements, pageSize);
+        }
+        else if (OpenMetadataType.PERSON_ROLE_TYPE_NAME.equals(metadataElementTypeName))
+        {
+            return this.getPage(roles, pageSize);
+        }
+
+        return null;
+    }
+
+
+    /**
+     * Return the changed relationships set up by the test when no relationship type is requested.  Only the first
+     * page has results.
+     *
+     * @param relationshipTypeName relationship's type.  Null means all types
+     * @param searchProperties Optional list of relationship property conditions to match.
+     * @param limitResultsByStatus By default, relationships in all statuses (other than DELETE) are returned.
+     * @param asOfTime Requests a historical query of the relationships.  Null means return the present values.
+     * @param sequencingProperty String name of the property that is to be used to sequence the results.
+     * @param sequencingOrder Enum defining how the results should be ordered.
+     * @param startFrom paging start point
+     * @param pageSize maximum results that can be returned
+     * @return list of matching relationships or null
+     */
+    @Override
+    public List<OpenMetadataRelationship> findRelationshipsBetweenMetadataElements(String              relationshipTypeName,
+                                                                                   SearchProperties    searchProperties,
+                                                                                   List<ElementStatus> limitResultsByStatus,
+                                                                                   Date                asOfTime,
+                                                                                   String              sequencingProperty,
+                                                                                   SequencingOrder     sequencingOrder,
+                                                                                   int                 startFrom,
+                                                                                   int                 pageSize)
+    {
+        if ((startFrom > 0) || (relationshipTypeName != null))
+        {
+            return null;
+        }
+
+        return this.getPage(changedRelationships, pageSize);
+    }
+
+
+    /**
+     * Return an element set up by the test and count the retrieval.
+     *
+     * @param elementGUID unique identifier for the metadata element
+     * @return metadata element properties
+     * @throws InvalidParameterException the element is not known
+     * @throws PropertyServerException the test has set up the element to fail
+     */
+    @Override
+    public OpenMetadataElement getMetadataElementByGUID(String elementGUID) throws InvalidParameterException,
+                                                                                   PropertyServerException
+    {
+        final String methodName = "getMetadataElementByGUID";
+
+        elementRetrievals.merge(elementGUID, 1, Integer::sum);
+
+        if (failingElementGUIDs.contains(elementGUID))
+        {
+            throw new PropertyServerException(HarvestOpenMetadataErrorCode.UNEXPECTED_EXCEPTION.getMessageDefinition("test",
+                                                                                                                      PropertyServerException.class.getName(),
+                                                                                                                      methodName,
+                                                                                                                      elementGUID),
+                                              this.getClass().getName(),
+                                              methodName);
+        }
+
+        OpenMetadataElement element = elements.get(elementGUID);
+
+        if (element == null)
+        {
+            throw new InvalidParameterException(HarvestOpenMetadataErrorCode.UNEXPECTED_EXCEPTION.getMessageDefinition("test",
+                                                                                                                       InvalidParameterException.class.getName(),
+                                                                                                                       methodName,
+                                                                                                                       elementGUID),
+                                                this.getClass().getName(),
+                                                methodName,
+                                                "elementGUID");
+        }
+
+        return element;
+    }
+
+
+    /**
+     * Record the properties saved for the catalog target relationship.
+     *
+     * @param relationshipGUID unique identifier of the relationship to update
+     * @param replaceProperties flag to indicate whether to completely replace the existing properties
+     * @param properties new properties for the relationship
+     */
+    @Override
+    public void updateRelatedElementsInStore(String            relationshipGUID,
+                                             boolean           replaceProperties,
+                                             ElementProperties properties)
+    {
+        savedProperties.add(properties);
+    }
+
+
+    /**
+     * Add an element that is returned by the searches for changed elements, and can be retrieved by its unique
+     * identifier.
+     *
+     * @param element element
+     */
+    public void addChangedElement(OpenMetadataElement element)
+    {
+        changedElements.add(element);
+        elements.put(element.getElementGUID(), element);
+    }
+
+
+    /**
+     * Add an element that can be retrieved by its unique identifier.
+     *
+     * @param element element
+     */
+    public void addElement(OpenMetadataElement element)
+    {
+        elements.put(element.getElementGUID(), element);
+    }
+
+
+    /**
+     * Add a relationship that is returned by the searches for changed relationships.
+     *
+     * @param relationship relationship
+     */
+    public void addChangedRelationship(OpenMetadataRelationship relationship)
+    {
+        changedRelationships.add(relationship);
+    }
+
+
+    /**
+     * Add a role that is returned by the search for person roles.
+     *
+     * @param role element
+     */
+    public void addRole(OpenMetadataElement role)
+    {
+        roles.add(role);
+    }
+
+
+    /**
+     * Make the retrieval of an element fail with a PropertyServerException.
+     *
+     * @param elementGUID unique identifier of the element
+     */
+    public void addFailingElement(String elementGUID)
+    {
+        failingElementGUIDs.add(elementGUID);
+    }
+
+
+    /**
+     * Return the orders requested by the searches for changed elements.  The search for the latest change time
+     * before a full harvest is included.
+     *
+     * @return list of sequencing orders
+     */
+    public List<SequencingOrder> getChangeSearches()
+    {
+        return changeSearches;
+    }
+
+
+    /**
+     * Return the number of times that each element has been retrieved by its unique identifier.
+     *
+     * @return map of unique identifiers to counts
+     */
+    public Map<String, Integer> getElementRetrievals()
+    {
+        return elementRetrievals;
+    }
+
+
+    /**
+     * Return the properties saved for the catalog target relationship.
+     *
+     * @return list of properties, one for each update
+     */
+    public List<ElementProperties> getSavedProperties()
+    {
+        return savedProperties;
+    }
+
+
+    /**
+     * Return the first page of a list.
+     *
+     * @param results full list
+     * @param pageSize maximum results that can be returned
+     * @param <T> type of result
+     * @return page
+     */
+    private <T> List<T> getPage(List<T> results,
+                                int     pageSize)
+    {
+        return new ArrayList<>(results.subList(0, Math.min(pageSize, results.size())));
+    }
+}
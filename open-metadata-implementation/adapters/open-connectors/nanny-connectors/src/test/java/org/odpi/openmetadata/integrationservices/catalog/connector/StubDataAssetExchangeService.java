@@ -0,0 +1,95 @@
+/* SPDX-License-Identifier: Apache-2.0 */
+/* Copyright Contributors to the ODPi Egeria project. */
+package org.odpi.openmetadata.integrationservices.catalog.connector;
+
+import org.odpi.openmetadata.accessservices.assetmanager.metadataelements.DataAssetElement;
+import org.odpi.openmetadata.frameworks.auditlog.AuditLog;
+
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.List;
+
+
+/**
+ * StubDataAssetExchangeService stands in for the data asset exchange service when testing the harvest of open
+ * metadata.  It has no client.  Instead, it records the searches and retrievals that the harvester makes and
+ * returns no data assets.
+ */
+public class StubDataAssetExchangeService extends DataAssetExchangeService
+{
+    private final List<String> searchStrings       = new ArrayList<>();
+    private final List<String> retrievedAssetGUIDs = new ArrayList<>();
+
+
+    /**
+     * Constructor.
+     *
+     * @param connectorName name of the connector using this context
+     * @param auditLog logging destination
+     */
+    public StubDataAssetExchangeService(String   connectorName,
+                                        AuditLog auditLog)
+    {
+        super(null, null, "testUser", null, null, connectorName, auditLog);
+    }
+
+
+    /**
+     * Record the search.
+     *
+     * @param searchString string to find in the properties
+     * @param startFrom paging start point
+     * @param pageSize maximum results that can be returned
+     * @param effectiveTime the time that the retrieved elements must be effective for
+     * @return null - no data assets
+     */
+    @Override
+    public List<DataAssetElement> findDataAssets(String searchString,
+                                                 int    startFrom,
+                                                 int    pageSize,
+                                                 Date   effectiveTime)
+    {
+        searchStrings.add(searchString);
+
+        return null;
+    }
+
+
+    /**
+     * Record the retrieval.
+     *
+     * @param dataAssetGUID unique identifier of the requested metadata element
+     * @param effectiveTime the time that the retrieved elements must be effective for
+     * @return null - the data asset is not found
+     */
+    @Override
+    public DataAssetElement getDataAssetByGUID(String dataAssetGUID,
+                                               Date   effectiveTime)
+    {
+        retrievedAssetGUIDs.add(dataAssetGUID);
+
+        return null;
+    }
+
+
+    /**
+     * Return the search strings passed to findDataAssets.
+     *
+     * @return list of search strings
+     */
+    public List<String> getSearchStrings()
+    {
+        return searchStrings;
+    }
+
+
+    /**
+     * Return the unique identifiers passed to getDataAssetByGUID.
+     *
+     * @return list of unique identifiers
+     */
+    public List<String> getRetrievedAssetGUIDs()
+    {
+        return retrievedAssetGUIDs;
+    }
+}
@@ -0,0 +1,95 @@
+/* SPDX-License-Identifier: Apache-2.0 */
+/* Copyright Contributors to the ODPi Egeria project. */
+package org.odpi.openmetadata.integrationservices.catalog.connector;
+
+import org.odpi.openmetadata.accessservices.assetmanager.metadataelements.GlossaryElement;
+import org.odpi.openmetadata.frameworks.auditlog.AuditLog;
+
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.List;
+
+
+/**
+ * StubGlossaryExchangeService stands in for the glossary exchange service when testing the harvest of open
+ * metadata.  It has no client.  Instead, it records the searches and retrievals that the harvester makes and
+ * returns no glossaries.
+ */
+public class StubGlossaryExchangeService extends GlossaryExchangeService
+{
+    private final List<String> searchStrings          = new ArrayList<>();
+    private final List<String> retrievedGlossaryGUIDs = new ArrayList<>();
+
+
+    /**
+     * Constructor.
+     *
+     * @param connectorName name of the connector using this context
+     * @param auditLog logging destination
+     */
+    public StubGlossaryExchangeService(String   connectorName,
+                                       AuditLog auditLog)
+    {
+        super(null, null, "testUser", null, null, connectorName, auditLog);
+    }
+
+
+    /**
+     * Record the search.
+     *
+     * @param searchString string to find in the properties
+     * @param startFrom paging start point
+     * @param pageSize maximum results that can be returned
+     * @param effectiveTime the time that the retrieved elements must be effective for
+     * @return null - no glossaries
+     */
+    @Override
+    public List<GlossaryElement> findGlossaries(String searchString,
+                                                int    startFrom,
+                                                int    pageSize,
+                                                Date   effectiveTime)
+    {
+        searchStrings.add(searchString);
+
+        return null;
+    }
+
+
+    /**
+     * Record the retrieval.
+     *
+     * @param glossaryGUID unique identifier of the requested metadata element
+     * @param effectiveTime the time that the retrieved elements must be effective for
+     * @return null - the glossary is not found
+     */
+    @Override
+    public GlossaryElement getGlossaryByGUID(String glossaryGUID,
+                                             Date   effectiveTime)
+    {
+        retrievedGlossaryGUIDs.add(glossaryGUID);
+
+        return null;
+    }
+
+
+    /**
+     * Return the search strings passed to findGlossaries.
+     *
+     * @return list of search strings
+     */
+    public List<String> getSearchStrings()
+    {
+        return searchStrings;
+    }
+
+
+    /**
+     * Return the unique identifiers passed to getGlossaryByGUID.
+     *
+     * @return list of unique identifiers
+     */
+    public List<String> getRetrievedGlossaryGUIDs()
+    {
+        return retrievedGlossaryGUIDs;
+    }
+}
@@ -17,6 +17,8 @@ public enum ReportRequestParameter
 {
     REPORT_DIRECTORY ("reportDirectory", "The name of a directory (folder) to add the reports to.", "string", "directoryA/B/C"),
 
+    PAGE_SIZE ("pageSize", "The number of elements to retrieve with each request to the metadata store.  The default is the maximum page size supported by the metadata store.  Larger values are reduced to this maximum.", "integer", "500"),
+
     ;
 
 
@@ -15,6 +15,7 @@ import org.odpi.openmetadata.frameworks.openmetadata.types.OpenMetadataType;
 import org.odpi.openmetadata.frameworks.governanceaction.properties.ActionTargetElement;
 import org.odpi.openmetadata.frameworks.governanceaction.properties.OpenMetadataElement;
 import org.odpi.openmetadata.frameworks.governanceaction.properties.RelatedMetadataElement;
+import org.odpi.openmetadata.frameworks.governanceaction.properties.RelatedMetadataElementList;
 import org.odpi.openmetadata.frameworks.governanceaction.search.*;
 import org.odpi.openmetadata.reports.EgeriaReport;
 
@@ -29,6 +30,8 @@ public class SurveyReportService extends GeneralGovernanceActionService
 {
     private final Date reportDate = new Date();
 
+    private static final int defaultPageSize = 100;
+
     private final PropertyHelper propertyHelper = new PropertyHelper();
 
     /**
@@ -61,6 +64,16 @@ public class SurveyReportService extends GeneralGovernanceActionService
                 reportDirectory = governanceContext.getRequestParameters().get(ReportRequestParameter.REPORT_DIRECTORY.getName());
             }
 
+            int requestedPageSize = 0;
+
+            if ((governanceContext.getRequestParameters() != null) &&
+                    (governanceContext.getRequestParameters().get(ReportRequestParameter.PAGE_SIZE.getName()) != null))
+            {
+                requestedPageSize = Integer.parseInt(governanceContext.getRequestParameters().get(ReportRequestParameter.PAGE_SIZE.getName()));
+            }
+
+            int pageSize = this.getPageSize(governanceContext.getOpenMetadataStore(), requestedPageSize);
+
             for (ActionTargetElement actionTargetRelationship : governanceContext.getActionTargetElements())
             {
                 if ((actionTargetRelationship != null) && (actionTargetRelationship.getTargetElement() != null))
@@ -69,6 +82,7 @@ public class SurveyReportService extends GeneralGovernanceActionService
                                                 OpenMetadataType.SURVEY_REPORT.typeName))
                     {
                         this.createReport(reportDirectory,
+                                          pageSize,
                                           actionTargetRelationship.getTargetElement());
                     }
                 }
@@ -81,6 +95,128 @@ public class SurveyReportService extends GeneralGovernanceActionService
     }
 
 
+    /**
+     * Return the number of elements to retrieve with each request to the metadata store.  This is the requested
+     * page size, capped at the maximum page size of the metadata store.  If no page size is requested, the
+     * maximum page size of the metadata store is used, or 100 if the metadata store does not set a maximum.
+     *
+     * @param openMetadataStoreClient access to open metadata
+     * @param requestedPageSize page size from the request parameters (0 or less if not requested)
+     * @return page size
+     */
+    private int getPageSize(OpenMetadataStore openMetadataStoreClient,
+                            int               requestedPageSize)
+    {
+        int maxPagingSize = openMetadataStoreClient.getMaxPagingSize();
+
+        if (requestedPageSize > 0)
+        {
+            if ((maxPagingSize > 0) && (requestedPageSize > maxPagingSize))
+            {
+                return maxPagingSize;
+            }
+
+            return requestedPageSize;
+        }
+
+        if (maxPagingSize > 0)
+        {
+            return maxPagingSize;
+        }
+
+        return defaultPageSize;
+    }
+
+
+    /**
+     * Determine whether a page returned from the metadata store is the last one.  A page that is not full is only
+     * the last page when the page size is known to be within the maximum page size of the metadata store.
+     * Otherwise the metadata store may have returned fewer elements than requested, so paging continues until
+     * an empty page is returned.
+     *
+     * @param page page of elements returned from the metadata store
+     * @param pageSize number of elements requested
+     * @param maxPagingSize maximum page size of the metadata store (0 or less if it does not set a maximum)
+     * @return boolean flag
+     */
+    private boolean isLastPage(List<?> page,
+                               int     pageSize,
+                               int     maxPagingSize)
+    {
+        if ((page == null) || (page.isEmpty()))
+        {
+            return true;
+        }
+
+        return (maxPagingSize > 0) && (page.size() < pageSize);
+    }
+
+
+    /**
+     * Retrieve the elements associated with each of the supplied annotations.  The associated elements for all
+     * the annotations are retrieved together, page by page.  Only the annotations that may have more associated
+     * elements are included in the request for the next page, so the number of requests depends on the largest
+     * number of associated elements of an annotation, rather than on the number of annotations.
+     *
+     * @param openMetadataStoreClient access to open metadata
+     * @param annotationGUIDs unique identifiers of the annotations
+     * @param pageSize number of elements to retrieve with each request to the metadata store
+     * @return map of annotation's unique identifier to its associated elements (annotations with no associated elements are omitted)
+     * @throws InvalidParameterException problem accessing open metadata
+     * @throws PropertyServerException repository problem accessing open metadata
+     * @throws UserNotAuthorizedException security problem accessing open metadata
+     */
+    private Map<String, List<RelatedMetadataElement>> getAssociatedElements(OpenMetadataStore openMetadataStoreClient,
+                                                                            List<String>      annotationGUIDs,
+                                                                            int               pageSize) throws InvalidParameterException,
+                                                                                                               PropertyServerException,
+                                                                                                               UserNotAuthorizedException
+    {
+        Map<String, List<RelatedMetadataElement>> associatedElementsMap = new HashMap<>();
+
+        int          maxPagingSize  = openMetadataStoreClient.getMaxPagingSize();
+        int          startFrom      = 0;
+        List<String> remainingGUIDs = annotationGUIDs;
+
+        while (! remainingGUIDs.isEmpty())
+        {
+            List<RelatedMetadataElementList> elementLists = openMetadataStoreClient.getRelatedMetadataElementLists(remainingGUIDs,
+                                                                                                                   2,
+                                                                                                                   OpenMetadataType.ASSOCIATED_ANNOTATION_RELATIONSHIP.typeName,
+                                                                                                                   startFrom,
+                                                                                                                   pageSize);
+
+            remainingGUIDs = new ArrayList<>();
+
+            if (elementLists != null)
+            {
+                for (RelatedMetadataElementList elementList : elementLists)
+                {
+                    if (elementList != null)
+                    {
+                        List<RelatedMetadataElement> page = elementList.getElementList();
+
+                        if (page != null)
+                        {
+                            associatedElementsMap.computeIfAbsent(elementList.getStartingElementGUID(),
+                                                                  annotationGUID -> new ArrayList<>()).addAll(page);
+                        }
+
+                        if (! this.isLastPage(page, pageSize, maxPagingSize))
+                        {
+                            remainingGUIDs.add(elementList.getStartingElementGUID());
+                        }
+                    }
+                }
+            }
+
+            startFrom = startFrom + pageSize;
+        }
+
+        return associatedElementsMap;
+    }
+
+
     /**
      * Return the title to use on an annotation section of the report.
      *
@@ -131,9 +267,12 @@ public class SurveyReportService extends GeneralGovernanceActionService
 
 
     /**
-     * Print out the contents of a single survey report.
+     * Print out the contents of a single survey report.  The annotations are retrieved once, a page at a time.
+     * The table of contents is written to the report as each page arrives, while the contents of the annotations
+     * are spooled to a segment that is added to the end of the report once all the annotations have been retrieved.
      *
      * @param reportIndentLevel how much to indent the contents
+     * @param pageSize number of elements to retrieve with each request to the metadata store
      * @param openMetadataStoreClient access to open metadata
      * @param surveyReportElement description of the survey report
      * @param outputReport destination to write to
@@ -143,6 +282,7 @@ public class SurveyReportService extends GeneralGovernanceActionService
      * @throws UserNotAuthorizedException security problem accessing open metadata
      */
     private void printReport(int                     reportIndentLevel,
+                             int                     pageSize,
                              OpenMetadataStore       openMetadataStoreClient,
                              OpenMetadataElement     surveyReportElement,
                              EgeriaReport            outputReport) throws IOException,
@@ -172,24 +312,28 @@ public class SurveyReportService extends GeneralGovernanceActionService
 
         outputReport.printReportLine(reportIndentLevel, "\n**Annotations**");
 
-        /*
-         * Create a table of contents for the annotations
-         */
-
+        EgeriaReport annotationSegment = outputReport.createSegment();
 
-        int startFrom   = 0;
-        int maxPageSize = 100;
+        try
+        {
+            int     maxPagingSize    = openMetadataStoreClient.getMaxPagingSize();
+            int     startFrom        = 0;
+            boolean annotationsFound = false;
 
-        List<RelatedMetadataElement> annotationElements = openMetadataStoreClient.getRelatedMetadataElements(surveyReportElement.getElementGUID(),
-                                                                                                             1,
-                                                                                                             OpenMetadataType.REPORTED_ANNOTATION_RELATIONSHIP.typeName,
-                                                                                                             startFrom,
-                                                                                                             maxPageSize);
+            List<RelatedMetadataElement> annotationElements = openMetadataStoreClient.getRelatedMetadataElements(surveyReportElement.getElementGUID(),
+                                                                                                                 1,
+                                                                                                                 OpenMetadataType.REPORTED_ANNOTATION_RELATIONSHIP.typeName,
+                                                                                                                 startFrom,
+                                                                                                                 pageSize);
 
-        if (annotationElements != null)
-        {
             while (annotationElements != null)
             {
+                List<OpenMetadataElement> pageOfAnnotations = new ArrayList<>();
+                List<String>              annotationGUIDs   = new ArrayList<>();
+
+                /*
+                 * Add the annotations to the table of contents
+                 */
                 for (RelatedMetadataElement reportedAnnotationLink : annotationElements)
                 {
                     if ((reportedAnnotationLink != null) && (reportedAnnotationLink.getElement() != null))
@@ -197,56 +341,54 @@ public class SurveyReportService extends GeneralGovernanceActionService
                         OpenMetadataElement reportedAnnotationElement = reportedAnnotationLink.getElement();
 
                         outputReport.printReportLine(reportIndentLevel, "* [" + this.getAnnotationTitle(reportedAnnotationElement) + "](" + this.getAnnotationURL(reportedAnnotationElement) +  ")");
+
+                        pageOfAnnotations.add(reportedAnnotationElement);
+                        annotationGUIDs.add(reportedAnnotationElement.getElementGUID());
+                        annotationsFound = true;
                     }
                 }
 
-                startFrom = startFrom + maxPageSize;
-
-                annotationElements = openMetadataStoreClient.getRelatedMetadataElements(surveyReportElement.getElementGUID(),
-                                                                                        1,
-                                                                                        OpenMetadataType.REPORTED_ANNOTATION_RELATIONSHIP.typeName,
-                                                                                        startFrom,
-                                                                                        maxPageSize);
-            }
-        }
-        else
-        {
-            outputReport.printReportLine(annotationIndentLevel, "\nNone.");
-        }
-
+                /*
+                 * Retrieve the associated elements for the whole page of annotations and spool out their contents
+                 */
+                Map<String, List<RelatedMetadataElement>> associatedElementsMap = this.getAssociatedElements(openMetadataStoreClient,
+                                                                                                             annotationGUIDs,
+                                                                                                             pageSize);
 
-        /*
-         * Print out the contents of each annotation
-         */
-        startFrom = 0;
-
-        annotationElements = openMetadataStoreClient.getRelatedMetadataElements(surveyReportElement.getElementGUID(),
-                                                                                1,
-                                                                                OpenMetadataType.REPORTED_ANNOTATION_RELATIONSHIP.typeName,
-                                                                                startFrom,
-                                                                                maxPageSize);
-
-        while (annotationElements != null)
-        {
-            for (RelatedMetadataElement reportedAnnotationElement : annotationElements)
-            {
-                if ((reportedAnnotationElement != null) && (reportedAnnotationElement.getElement() != null))
+                for (OpenMetadataElement annotationElement : pageOfAnnotations)
                 {
                     this.printAnnotation(annotationIndentLevel,
-                                         openMetadataStoreClient,
-                                         reportedAnnotationElement,
-                                         outputReport);
+                                         annotationElement,
+                                         associatedElementsMap.get(annotationElement.getElementGUID()),
+                                         annotationSegment);
+                }
+
+                if (this.isLastPage(annotationElements, pageSize, maxPagingSize))
+                {
+                    annotationElements = null;
+                }
+                else
+                {
+                    startFrom = startFrom + pageSize;
 
+                    annotationElements = openMetadataStoreClient.getRelatedMetadataElements(surveyReportElement.getElementGUID(),
+                                                                                            1,
+                                                                                            OpenMetadataType.REPORTED_ANNOTATION_RELATIONSHIP.typeName,
+                                                                                            startFrom,
+                                                                                            pageSize);
                 }
             }
 
-            startFrom = startFrom + maxPageSize;
+            if (! annotationsFound)
+            {
+                outputReport.printReportLine(annotationIndentLevel, "\nNone.");
+            }
 
-            annotationElements = openMetadataStoreClient.getRelatedMetadataElements(surveyReportElement.getElementGUID(),
-                                                                                    1,
-                                                                                    OpenMetadataType.REPORTED_ANNOTATION_RELATIONSHIP.typeName,
-                                                                                    startFrom,
-                                                                                    maxPageSize);
+            outputReport.appendSegment(annotationSegment);
+        }
+        finally
+        {
+            annotationSegment.discardSegment();
         }
     }
 
@@ -346,31 +488,20 @@ public class SurveyReportService extends GeneralGovernanceActionService
      * Print out the contents of a single annotation.
      *
      * @param annotationIndentLevel how much to indent the contents
-     * @param openMetadataStoreClient access to open metadata
-     * @param reportedAnnotationElement description of the survey report
+     * @param annotationElement description of the annotation
+     * @param associatedElements elements that the annotation is associated with (may be null)
      * @param outputReport destination to write to
      * @throws IOException problem writing report
-     * @throws InvalidParameterException problem accessing open metadata
-     * @throws PropertyServerException repository problem accessing open metadata
-     * @throws UserNotAuthorizedException security problem accessing open metadata
      */
-    private void printAnnotation(int                     annotationIndentLevel,
-                                 OpenMetadataStore       openMetadataStoreClient,
-                                 RelatedMetadataElement  reportedAnnotationElement,
-                                 EgeriaReport            outputReport) throws IOException,
-                                                                              InvalidParameterException,
-                                                                              PropertyServerException,
-                                                                              UserNotAuthorizedException
+    private void printAnnotation(int                          annotationIndentLevel,
+                                 OpenMetadataElement          annotationElement,
+                                 List<RelatedMetadataElement> associatedElements,
+                                 EgeriaReport                 outputReport) throws IOException
     {
         int annotationPropertyIndentLevel = annotationIndentLevel + 1;
 
-        int startFrom   = 0;
-        int maxPageSize = 100;
-
         List<String> tableHeadings = new ArrayList<>(Arrays.asList("Property Name", "Property Value"));
 
-        OpenMetadataElement annotationElement = reportedAnnotationElement.getElement();
-
         outputReport.printReportSubheading(annotationIndentLevel, this.getAnnotationTitle(annotationElement));
         outputReport.printReportLine(annotationIndentLevel, "Creation Time", annotationElement.getVersions().getCreateTime().toString());
 
@@ -435,13 +566,7 @@ public class SurveyReportService extends GeneralGovernanceActionService
             }
         }
 
-        List<RelatedMetadataElement> associatedElements = openMetadataStoreClient.getRelatedMetadataElements(reportedAnnotationElement.getElement().getElementGUID(),
-                                                                                                             2,
-                                                                                                             OpenMetadataType.ASSOCIATED_ANNOTATION_RELATIONSHIP.typeName,
-                                                                                                             startFrom,
-                                                                                                             maxPageSize);
-
-        while (associatedElements != null)
+        if (associatedElements != null)
         {
             int associatedElementIndentLevel = annotationIndentLevel + 1;
 
@@ -462,14 +587,6 @@ public class SurveyReportService extends GeneralGovernanceActionService
                     }
                 }
             }
-
-            startFrom = startFrom + maxPageSize;
-
-            associatedElements = openMetadataStoreClient.getRelatedMetadataElements(reportedAnnotationElement.getElement().getElementGUID(),
-                                                                                    2,
-                                                                                    OpenMetadataType.ASSOCIATED_ANNOTATION_RELATIONSHIP.typeName,
-                                                                                    startFrom,
-                                                                                    maxPageSize);
         }
     }
 
@@ -477,9 +594,12 @@ public class SurveyReportService extends GeneralGovernanceActionService
     /**
      * This runs the report.
      *
+     * @param surveyReportDirectory directory to write the report to
+     * @param pageSize number of elements to retrieve with each request to the metadata store
      * @param surveyReport report to print out
      */
     private void createReport(String              surveyReportDirectory,
+                              int                 pageSize,
                               OpenMetadataElement surveyReport)
     {
         int indentLevel = 0;
@@ -500,6 +620,7 @@ public class SurveyReportService extends GeneralGovernanceActionService
                 int reportIndentLevel = indentLevel + 1;
 
                 this.printReport(reportIndentLevel,
+                                 pageSize,
                                  openMetadataStoreClient,
                                  surveyReport,
                                  outputReport);
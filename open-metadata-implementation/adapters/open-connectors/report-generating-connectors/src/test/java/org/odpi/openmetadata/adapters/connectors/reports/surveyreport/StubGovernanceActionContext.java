@@ -0,0 +1,62 @@
+/* SPDX-License-Identifier: Apache-2.0 */
+/* Copyright Contributors to the ODPi Egeria project. */
+package org.odpi.openmetadata.adapters.connectors.reports.surveyreport;
+
+import org.odpi.openmetadata.frameworks.governanceaction.GovernanceActionContext;
+import org.odpi.openmetadata.frameworks.governanceaction.OpenMetadataStore;
+import org.odpi.openmetadata.frameworks.governanceaction.properties.ActionTargetElement;
+
+import java.util.List;
+import java.util.Map;
+
+
+/**
+ * StubGovernanceActionContext passes the request parameters and action targets of a test to the survey report
+ * service, along with a stub open metadata store.  It has no clients.
+ */
+public class StubGovernanceActionContext extends GovernanceActionContext
+{
+    private final OpenMetadataStore openMetadataStore;
+
+
+    /**
+     * Constructor.
+     *
+     * @param requestParameters name-value properties to control the governance action service
+     * @param actionTargetElements metadata elements that need to be worked on by the governance action service
+     * @param openMetadataStore stub open metadata store
+     */
+    public StubGovernanceActionContext(Map<String, String>       requestParameters,
+                                       List<ActionTargetElement> actionTargetElements,
+                                       OpenMetadataStore         openMetadataStore)
+    {
+        super("testUser",
+              null,
+              "test",
+              requestParameters,
+              "testUser",
+              null,
+              actionTargetElements,
+              null,
+              null,
+              null,
+              null,
+              null,
+              null,
+              null);
+
+        this.openMetadataStore = openMetadataStore;
+    }
+
+
+    /**
+     * Return the stub open metadata store.
+     *
+     * @return open metadata store
+     */
+    @Override
+    public OpenMetadataStore getOpenMetadataStore()
+    {
+        return openMetadataStore;
+    }
+}
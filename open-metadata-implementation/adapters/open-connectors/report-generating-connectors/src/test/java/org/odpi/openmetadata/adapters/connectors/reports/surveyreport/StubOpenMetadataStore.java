@@ -0,0 +1,211 @@
+/* SPDX-License-Identifier: Apache-2.0 */
+/* Copyright Contributors to the ODPi Egeria project. */
+package org.odpi.openmetadata.adapters.connectors.reports.surveyreport;
+
+import org.odpi.openmetadata.frameworks.governanceaction.OpenMetadataStore;
+import org.odpi.openmetadata.frameworks.governanceaction.properties.RelatedMetadataElement;
+import org.odpi.openmetadata.frameworks.governanceaction.properties.RelatedMetadataElementList;
+import org.odpi.openmetadata.frameworks.openmetadata.types.OpenMetadataType;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+
+/**
+ * StubOpenMetadataStore stands in for the open metadata store when testing the survey report.  It has no client.
+ * It returns the annotations and associated elements set up by the test a page at a time, and counts the
+ * requests made by the report.
+ */
+public class StubOpenMetadataStore extends OpenMetadataStore
+{
+    private final int                                       maxPagingSize;
+    private final List<RelatedMetadataElement>              reportedAnnotations = new ArrayList<>();
+    private final Map<String, List<RelatedMetadataElement>> associatedElements  = new HashMap<>();
+
+    private int                                             annotationRequests       = 0;
+    private int                                             singleAssociatedRequests = 0;
+    private final List<List<String>>                        batchAssociatedRequests  = new ArrayList<>();
+
+
+    /**
+     * Constructor.
+     *
+     * @param maxPagingSize maximum page size of the metadata store (0 for no maximum)
+     */
+    public StubOpenMetadataStore(int maxPagingSize)
+    {
+        super(null, "testUser", null);
+
+        this.maxPagingSize = maxPagingSize;
+    }
+
+
+    /**
+     * Return the maximum paging size.
+     *
+     * @return page size
+     */
+    @Override
+    public int getMaxPagingSize()
+    {
+        return maxPagingSize;
+    }
+
+
+    /**
+     * Return a page of the annotations set up by the test, and count the request.  Requests for associated
+     * elements are counted but return nothing.
+     *
+     * @param elementGUID unique identifier for the starting metadata element
+     * @param startingAtEnd indicates which end to retrieve from (0 is "either end"; 1 is end1; 2 is end 2)
+     * @param relationshipTypeName type name of relationships to follow (or null for all)
+     * @param startFrom paging start point
+     * @param pageSize maximum results that can be returned
+     * @return list of related elements or null
+     */
+    @Override
+    public List<RelatedMetadataElement> getRelatedMetadataElements(String elementGUID,
+                                                                   int    startingAtEnd,
+                                                                   String relationshipTypeName,
+                                                                   int    startFrom,
+                                                                   int    pageSize)
+    {
+        if (OpenMetadataType.REPORTED_ANNOTATION_RELATIONSHIP.typeName.equals(relationshipTypeName))
+        {
+            annotationRequests++;
+
+            return this.getPage(reportedAnnotations, startFrom, pageSize);
+        }
+
+        singleAssociatedRequests++;
+
+        return null;
+    }
+
+
+    /**
+     * Return a page of the associated elements set up by the test for each of the requested annotations, and
+     * record the request.
+     *
+     * @param elementGUIDs unique identifiers for the starting metadata elements
+     * @param startingAtEnd indicates which end to retrieve from (0 is "either end"; 1 is end1; 2 is end 2)
+     * @param relationshipTypeName type name of relationships to follow
+     * @param startFrom paging start point
+     * @param pageSize maximum results that can be returned for each starting element
+     * @return list of related elements for each starting element
+     */
+    @Override
+    public List<RelatedMetadataElementList> getRelatedMetadataElementLists(List<String> elementGUIDs,
+                                                                           int          startingAtEnd,
+                                                                           String       relationshipTypeName,
+                                                                           int          startFrom,
+                                                                           int          pageSize)
+    {
+        batchAssociatedRequests.add(new ArrayList<>(elementGUIDs));
+
+        List<RelatedMetadataElementList> results = new ArrayList<>();
+
+        for (String elementGUID : elementGUIDs)
+        {
+            RelatedMetadataElementList elementList = new RelatedMetadataElementList();
+
+            elementList.setStartingElementGUID(elementGUID);
+
+            if (associatedElements.get(elementGUID) != null)
+            {
+                elementList.setElementList(this.getPage(associatedElements.get(elementGUID), startFrom, pageSize));
+            }
+
+            results.add(elementList);
+        }
+
+        return results;
+    }
+
+
+    /**
+     * Add an annotation to the survey report.
+     *
+     * @param reportedAnnotation link to the annotation
+     */
+    public void addReportedAnnotation(RelatedMetadataElement reportedAnnotation)
+    {
+        reportedAnnotations.add(reportedAnnotation);
+    }
+
+
+    /**
+     * Add an element that is associated with an annotation.
+     *
+     * @param annotationGUID unique identifier of the annotation
+     * @param associatedElement link to the associated element
+     */
+    public void addAssociatedElement(String                 annotationGUID,
+                                     RelatedMetadataElement associatedElement)
+    {
+        associatedElements.computeIfAbsent(annotationGUID, guid -> new ArrayList<>()).add(associatedElement);
+    }
+
+
+    /**
+     * Return the number of requests for a page of annotations.
+     *
+     * @return count
+     */
+    public int getAnnotationRequests()
+    {
+        return annotationRequests;
+    }
+
+
+    /**
+     * Return the number of requests for the associated elements of a single annotation.
+     *
+     * @return count
+     */
+    public int getSingleAssociatedRequests()
+    {
+        return singleAssociatedRequests;
+    }
+
+
+    /**
+     * Return the annotations requested by each request for the associated elements of a list of annotations.
+     *
+     * @return list of requested unique identifiers for each request
+     */
+    public List<List<String>> getBatchAssociatedRequests()
+    {
+        return batchAssociatedRequests;
+    }
+
+
+    /**
+     * Return a page of a list.  The page is limited to the maximum page size if there is one.
+     *
+     * @param results full list
+     * @param startFrom paging start point
+     * @param pageSize maximum results that can be returned
+     * @return page or null if there are no more results
+     */
+    private List<RelatedMetadataElement> getPage(List<RelatedMetadataElement> results,
+                                                 int                          startFrom,
+                                                 int                          pageSize)
+    {
+        int returnedPageSize = pageSize;
+
+        if ((maxPagingSize > 0) && (returnedPageSize > maxPagingSize))
+        {
+            returnedPageSize = maxPagingSize;
+        }
+
+        if (startFrom >= results.size())
+        {
+            return null;
+        }
+
+        return new ArrayList<>(results.subList(startFrom, Math.min(startFrom + returnedPageSize, results.size())));
+    }
+}
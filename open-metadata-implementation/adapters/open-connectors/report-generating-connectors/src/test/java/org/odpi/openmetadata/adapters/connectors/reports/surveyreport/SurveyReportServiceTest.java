@@ -0,0 +1,312 @@
+/* SPDX-License-Identifier: Apache-2.0 */
+/* Copyright Contributors to the ODPi Egeria project. */
+package org.odpi.openmetadata.adapters.connectors.reports.surveyreport;
+
+import org.odpi.openmetadata.adapters.connectors.reports.ReportRequestParameter;
+import org.odpi.openmetadata.frameworks.governanceaction.properties.ActionTargetElement;
+import org.odpi.openmetadata.frameworks.governanceaction.properties.OpenMetadataElement;
+import org.odpi.openmetadata.frameworks.governanceaction.properties.RelatedMetadataElement;
+import org.odpi.openmetadata.frameworks.openmetadata.metadataelements.ElementType;
+import org.odpi.openmetadata.frameworks.openmetadata.metadataelements.ElementVersions;
+import org.odpi.openmetadata.frameworks.openmetadata.types.OpenMetadataType;
+import org.testng.annotations.AfterMethod;
+import org.testng.annotations.BeforeMethod;
+import org.testng.annotations.Test;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.util.Date;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertNotNull;
+import static org.testng.Assert.assertTrue;
+
+
+/**
+ * Verify that SurveyReportService retrieves the elements associated with a page of annotations with a fixed
+ * number of requests to the metadata store, however many annotations are on the page.
+ */
+public class SurveyReportServiceTest
+{
+    private static final String surveyReportGUID = "surveyReportGUID";
+
+    private File reportDirectory = null;
+
+
+    /**
+     * Create the directory for the report.
+     *
+     * @throws IOException unable to create the directory
+     */
+    @BeforeMethod
+    public void setUp() throws IOException
+    {
+        reportDirectory = Files.createTempDirectory("survey-report-test").toFile();
+    }
+
+
+    /**
+     * Remove the directory for the report.
+     */
+    @AfterMethod
+    public void tearDown()
+    {
+        File[] reportFiles = reportDirectory.listFiles();
+
+        if (reportFiles != null)
+        {
+            for (File reportFile : reportFiles)
+            {
+                reportFile.delete();
+            }
+        }
+
+        reportDirectory.delete();
+    }
+
+
+    /**
+     * A metadata store with a maximum page size returns a part-filled page at the end of the annotations.
+     * Each page of annotations costs one request for the associated elements, plus one more for the annotations
+     * with a full page of associated elements.
+     *
+     * @throws Exception problem running the report
+     */
+    @Test
+    public void testRequestsPerAnnotationPage() throws Exception
+    {
+        StubOpenMetadataStore openMetadataStore = new StubOpenMetadataStore(10);
+
+        this.addAnnotations(openMetadataStore, 25, 3);
+
+        for (int i = 0; i < 12; i++)
+        {
+            openMetadataStore.addAssociatedElement(this.getAnnotationGUID(4),
+                                                   this.getRelatedElement("extraGUID" + i, "DataField"));
+        }
+
+        String report = this.runReport(openMetadataStore, 10);
+
+        assertEquals(openMetadataStore.getAnnotationRequests(), 3);
+        assertEquals(openMetadataStore.getSingleAssociatedRequests(), 0);
+
+        List<List<String>> batchRequests = openMetadataStore.getBatchAssociatedRequests();
+
+        assertEquals(batchRequests.size(), 4);
+        assertEquals(batchRequests.get(0).size(), 10);
+        assertEquals(batchRequests.get(1), List.of(this.getAnnotationGUID(4)));
+        assertEquals(batchRequests.get(2).size(), 10);
+        assertEquals(batchRequests.get(3).size(), 5);
+
+        assertEquals(this.countOccurrences(report, "Associated "), (25 * 3) + 12);
+    }
+
+
+    /**
+     * A metadata store with no maximum page size may return part-filled pages before the end, so every page
+     * ends with an empty page.  The extra requests for the associated elements are made once for the whole
+     * page of annotations, rather than once for each annotation.
+     *
+     * @throws Exception problem running the report
+     */
+    @Test
+    public void testRequestsPerAnnotationPageWithNoMaximum() throws Exception
+    {
+        StubOpenMetadataStore openMetadataStore = new StubOpenMetadataStore(0);
+
+        this.addAnnotations(openMetadataStore, 15, 2);
+
+        String report = this.runReport(openMetadataStore, 10);
+
+        assertEquals(openMetadataStore.getAnnotationRequests(), 3);
+        assertEquals(openMetadataStore.getSingleAssociatedRequests(), 0);
+
+        List<List<String>> batchRequests = openMetadataStore.getBatchAssociatedRequests();
+
+        assertEquals(batchRequests.size(), 4);
+        assertEquals(batchRequests.get(0).size(), 10);
+        assertEquals(batchRequests.get(1).size(), 10);
+        assertEquals(batchRequests.get(2).size(), 5);
+        assertEquals(batchRequests.get(3).size(), 5);
+
+        assertEquals(this.countOccurrences(report, "Associated "), 15 * 2);
+    }
+
+
+    /**
+     * The table of contents lists every annotation before the contents of the first annotation, and each
+     * annotation's associated elements follow its own heading.
+     *
+     * @throws Exception problem running the report
+     */
+    @Test
+    public void testReportLayout() throws Exception
+    {
+        StubOpenMetadataStore openMetadataStore = new StubOpenMetadataStore(10);
+
+        this.addAnnotations(openMetadataStore, 12, 1);
+
+        String report = this.runReport(openMetadataStore, 10);
+
+        int lastContentsEntry = report.indexOf("* [" + OpenMetadataType.ANNOTATION.typeName + ": GUID " + this.getAnnotationGUID(11) + "]");
+        int firstHeading      = report.indexOf(OpenMetadataType.ANNOTATION.typeName + ": GUID " + this.getAnnotationGUID(0) + "\n");
+
+        assertTrue(lastContentsEntry > 0);
+        assertTrue(firstHeading > lastContentsEntry);
+
+        for (int i = 0; i < 12; i++)
+        {
+            int heading    = report.indexOf(OpenMetadataType.ANNOTATION.typeName + ": GUID " + this.getAnnotationGUID(i) + "\n");
+            int associated = report.indexOf("Element: " + this.getAnnotationGUID(i) + "-field0");
+
+            assertTrue(heading > 0);
+            assertTrue(associated > heading);
+        }
+    }
+
+
+    /**
+     * Add annotations to the survey report, each with the same number of associated elements.
+     *
+     * @param openMetadataStore stub metadata store
+     * @param annotationCount number of annotations
+     * @param associatedElementCount number of associated elements for each annotation
+     */
+    private void addAnnotations(StubOpenMetadataStore openMetadataStore,
+                                int                   annotationCount,
+                                int                   associatedElementCount)
+    {
+        for (int i = 0; i < annotationCount; i++)
+        {
+            String annotationGUID = this.getAnnotationGUID(i);
+
+            openMetadataStore.addReportedAnnotation(this.getRelatedElement(annotationGUID, OpenMetadataType.ANNOTATION.typeName));
+
+            for (int j = 0; j < associatedElementCount; j++)
+            {
+                openMetadataStore.addAssociatedElement(annotationGUID,
+                                                       this.getRelatedElement(annotationGUID + "-field" + j, "DataField"));
+            }
+        }
+    }
+
+
+    /**
+     * Run the survey report service against the stub metadata store.
+     *
+     * @param openMetadataStore stub metadata store
+     * @param pageSize page size request parameter
+     * @return contents of the report
+     * @throws Exception problem running the report
+     */
+    private String runReport(StubOpenMetadataStore openMetadataStore,
+                             int                   pageSize) throws Exception
+    {
+        Map<String, String> requestParameters = new HashMap<>();
+
+        requestParameters.put(ReportRequestParameter.REPORT_DIRECTORY.getName(), reportDirectory.getAbsolutePath());
+        requestParameters.put(ReportRequestParameter.PAGE_SIZE.getName(), Integer.toString(pageSize));
+
+        ActionTargetElement actionTarget = new ActionTargetElement();
+
+        actionTarget.setTargetElement(this.getElement(surveyReportGUID, OpenMetadataType.SURVEY_REPORT.typeName));
+
+        SurveyReportService surveyReportService = new SurveyReportService();
+
+        surveyReportService.setGovernanceContext(new StubGovernanceActionContext(requestParameters,
+                                                                                 List.of(actionTarget),
+                                                                                 openMetadataStore));
+        surveyReportService.start();
+
+        File[] reportFiles = reportDirectory.listFiles();
+
+        assertNotNull(reportFiles);
+        assertEquals(reportFiles.length, 1);
+
+        return Files.readString(reportFiles[0].toPath());
+    }
+
+
+    /**
+     * Return the unique identifier of an annotation.
+     *
+     * @param annotationNumber position of the annotation in the report
+     * @return unique identifier
+     */
+    private String getAnnotationGUID(int annotationNumber)
+    {
+        return "annotationGUID" + annotationNumber;
+    }
+
+
+    /**
+     * Return the link to a related element.
+     *
+     * @param elementGUID unique identifier of the element
+     * @param typeName type of the element
+     * @return related element
+     */
+    private RelatedMetadataElement getRelatedElement(String elementGUID,
+                                                     String typeName)
+    {
+        RelatedMetadataElement relatedElement = new RelatedMetadataElement();
+
+        relatedElement.setRelationshipGUID(elementGUID + "-relationship");
+        relatedElement.setElement(this.getElement(elementGUID, typeName));
+
+        return relatedElement;
+    }
+
+
+    /**
+     * Return an element with no properties.
+     *
+     * @param elementGUID unique identifier of the element
+     * @param typeName type of the element
+     * @return element
+     */
+    private OpenMetadataElement getElement(String elementGUID,
+                                           String typeName)
+    {
+        ElementType     elementType = new ElementType();
+        ElementVersions versions    = new ElementVersions();
+
+        elementType.setTypeName(typeName);
+        versions.setCreateTime(new Date());
+
+        OpenMetadataElement element = new OpenMetadataElement();
+
+        element.setElementGUID(elementGUID);
+        element.setType(elementType);
+        element.setVersions(versions);
+
+        return element;
+    }
+
+
+    /**
+     * Count the occurrences of a string in the report.
+     *
+     * @param report contents of the report
+     * @param text string to count
+     * @return count
+     */
+    private int countOccurrences(String report,
+                                 String text)
+    {
+        int count = 0;
+        int index = report.indexOf(text);
+
+        while (index >= 0)
+        {
+            count++;
+            index = report.indexOf(text, index + text.length());
+        }
+
+        return count;
+    }
+}
@@ -4,7 +4,6 @@ package org.odpi.openmetadata.adapters.repositoryservices.archiveconnector.direc
 
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.fasterxml.jackson.databind.ObjectReader;
-import org.apache.commons.io.FileUtils;
 import org.odpi.openmetadata.adapters.repositoryservices.archiveconnector.directory.ffdc.DirectoryBasedOpenMetadataArchiveStoreConnectorAuditCode;
 import org.odpi.openmetadata.frameworks.auditlog.AuditLog;
 import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.RepositoryElementHeader;
@@ -12,22 +11,41 @@ import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 import java.io.File;
+import java.util.ArrayList;
 import java.util.Iterator;
 import java.util.List;
-
+import java.util.NoSuchElementException;
+
+/**
+ * DirectoryBasedOpenMetadataArchiveStoreIterator steps through the files in the archive's directories.  The files
+ * are read ahead in chunks.  The files in a chunk are read in parallel and returned in the order of the file list.
+ *
+ * @param <T> type of element stored in the files
+ */
 public class DirectoryBasedOpenMetadataArchiveStoreIterator<T extends RepositoryElementHeader> implements Iterator<T>
 {
     private static final Logger log = LoggerFactory.getLogger(DirectoryBasedOpenMetadataArchiveStoreIterator.class);
 
+    private static final int readAheadSize = 256;
+
     private DirectoryBasedOpenMetadataArchiveStore archiveStore;
     private List<File>                             files;
     private int                                    length = 0;
     private int                                    pointer = 0;
     private AuditLog                               auditLog;
+    private List<T>                                readAheadElements = new ArrayList<>();
+    private int                                    readAheadPointer  = 0;
 
     private static final ObjectReader OBJECT_READER = new ObjectMapper().reader();
 
 
+    /**
+     * Constructor
+     *
+     * @param archiveStore archive store
+     * @param files files to return
+     * @param auditLog logging destination
+     */
     public DirectoryBasedOpenMetadataArchiveStoreIterator(DirectoryBasedOpenMetadataArchiveStore archiveStore,
                                                           List<File>                             files,
                                                           AuditLog                               auditLog)
@@ -43,25 +61,67 @@ public class DirectoryBasedOpenMetadataArchiveStoreIterator<T extends Repository
     }
 
 
+    /**
+     * Return whether there are more files to read.
+     *
+     * @return boolean
+     */
     @Override
     public boolean hasNext()
     {
-        return (pointer < length);
+        return (readAheadPointer < readAheadElements.size()) || (pointer < length);
     }
 
+
+    /**
+     * Return the contents of the next file.
+     *
+     * @return element or null if the file could not be read
+     */
     @Override
-    @SuppressWarnings(value = "unchecked")
     public T next()
     {
-        final String methodName = "next";
+        if (! this.hasNext())
+        {
+            throw new NoSuchElementException();
+        }
+
+        if (readAheadPointer >= readAheadElements.size())
+        {
+            this.readAhead();
+        }
+
+        return readAheadElements.get(readAheadPointer++);
+    }
+
+
+    /**
+     * Read the next chunk of files in parallel.  The resulting list is in the same order as the files.
+     */
+    private void readAhead()
+    {
+        int chunkEnd = Math.min(pointer + readAheadSize, length);
+
+        readAheadElements = files.subList(pointer, chunkEnd).parallelStream().map(this::readFile).toList();
+        readAheadPointer  = 0;
+        pointer           = chunkEnd;
+    }
 
-        File elementFile = files.get(pointer);
+
+    /**
+     * Read a single element file.
+     *
+     * @param elementFile file to read
+     * @return element or null if the file could not be read
+     */
+    @SuppressWarnings(value = "unchecked")
+    private T readFile(File elementFile)
+    {
+        final String methodName = "next";
 
         try
         {
-            String archiveStoreFileContents = FileUtils.readFileToString(elementFile, "UTF-8");
-
-            return (T) OBJECT_READER.readValue(archiveStoreFileContents, RepositoryElementHeader.class);
+            return (T) OBJECT_READER.readValue(elementFile, RepositoryElementHeader.class);
         }
         catch (Exception error)
         {
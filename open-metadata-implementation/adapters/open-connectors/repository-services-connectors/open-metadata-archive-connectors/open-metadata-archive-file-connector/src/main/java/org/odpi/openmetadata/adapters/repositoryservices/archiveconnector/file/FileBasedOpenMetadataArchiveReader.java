@@ -0,0 +1,513 @@
+/* SPDX-License-Identifier: Apache-2.0 */
+/* Copyright Contributors to the ODPi Egeria project. */
+package org.odpi.openmetadata.adapters.repositoryservices.archiveconnector.file;
+
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.odpi.openmetadata.adapters.repositoryservices.archiveconnector.file.ffdc.FileBasedOpenMetadataArchiveStoreConnectorAuditCode;
+import org.odpi.openmetadata.frameworks.auditlog.AuditLog;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.archivestore.OpenMetadataArchiveReader;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.archivestore.properties.OpenMetadataArchiveProperties;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.archivestore.properties.OpenMetadataArchiveTypeStore;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.instances.ClassificationEntityExtension;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.instances.EntityDetail;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.instances.Relationship;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.Set;
+
+/**
+ * FileBasedOpenMetadataArchiveReader steps through an open metadata archive file using the Jackson token stream.
+ * The archive properties and type store are small and are read as whole objects.  The entities, relationships
+ * and classifications are read one element at a time as the caller steps through the iterators.
+ * <br><br>
+ * Archives written by Egeria have their sections in the order that they are requested.  If a section is
+ * requested that appears later in the file, the sections in front of it are read into memory so that they
+ * can be returned when they are requested.
+ */
+class FileBasedOpenMetadataArchiveReader implements OpenMetadataArchiveReader
+{
+    private static final String archivePropertiesSection    = "archiveProperties";
+    private static final String archiveTypeStoreSection     = "archiveTypeStore";
+    private static final String archiveInstanceStoreSection = "archiveInstanceStore";
+    private static final String entitiesSection             = "entities";
+    private static final String relationshipsSection        = "relationships";
+    private static final String classificationsSection      = "classifications";
+
+    private static final Logger log = LoggerFactory.getLogger(FileBasedOpenMetadataArchiveReader.class);
+
+    private final String                  archiveFileName;
+    private final JsonParser              parser;
+    private final ObjectMapper            objectMapper;
+    private final AuditLog                auditLog;
+
+    private final Set<String>             sectionsFound     = new HashSet<>();
+    private final Map<String, List<?>>    bufferedSections  = new HashMap<>();
+    private OpenMetadataArchiveProperties archiveProperties = null;
+    private OpenMetadataArchiveTypeStore  archiveTypeStore  = null;
+    private ArchiveSectionIterator<?>     activeIterator    = null;
+    private boolean                       inInstanceStore   = false;
+    private boolean                       endOfArchive      = false;
+
+
+    /**
+     * Constructor checks that the archive is a JSON object.
+     *
+     * @param archiveFileName name of the archive file for messages
+     * @param parser parser opened on the archive file
+     * @param objectMapper mapper used to create the archive elements
+     * @param auditLog logging destination
+     * @throws IOException the archive does not start with a JSON object
+     */
+    FileBasedOpenMetadataArchiveReader(String       archiveFileName,
+                                       JsonParser   parser,
+                                       ObjectMapper objectMapper,
+                                       AuditLog     auditLog) throws IOException
+    {
+        this.archiveFileName = archiveFileName;
+        this.parser          = parser;
+        this.objectMapper    = objectMapper;
+        this.auditLog        = auditLog;
+
+        if (parser.nextToken() != JsonToken.START_OBJECT)
+        {
+            parser.close();
+
+            throw new IOException("The open metadata archive in " + archiveFileName + " is not a JSON object");
+        }
+    }
+
+
+    /**
+     * Return the header properties of the archive.
+     *
+     * @return properties or null if the archive has no properties
+     */
+    @Override
+    public OpenMetadataArchiveProperties getArchiveProperties()
+    {
+        if (! sectionsFound.contains(archivePropertiesSection))
+        {
+            this.advanceTo(archivePropertiesSection);
+        }
+
+        return archiveProperties;
+    }
+
+
+    /**
+     * Return the type store of the archive.
+     *
+     * @return type store or null if the archive has no types
+     */
+    @Override
+    public OpenMetadataArchiveTypeStore getArchiveTypeStore()
+    {
+        if (! sectionsFound.contains(archiveTypeStoreSection))
+        {
+            this.advanceTo(archiveTypeStoreSection);
+        }
+
+        return archiveTypeStore;
+    }
+
+
+    /**
+     * Return an iterator over the entities in the instance store.
+     *
+     * @return iterator (empty if the archive has no entities)
+     */
+    @Override
+    public Iterator<EntityDetail> getEntities()
+    {
+        return this.getInstanceSection(entitiesSection, EntityDetail.class);
+    }
+
+
+    /**
+     * Return an iterator over the relationships in the instance store.
+     *
+     * @return iterator (empty if the archive has no relationships)
+     */
+    @Override
+    public Iterator<Relationship> getRelationships()
+    {
+        return this.getInstanceSection(relationshipsSection, Relationship.class);
+    }
+
+
+    /**
+     * Return an iterator over the classifications in the instance store.
+     *
+     * @return iterator (empty if the archive has no classifications)
+     */
+    @Override
+    public Iterator<ClassificationEntityExtension> getClassifications()
+    {
+        return this.getInstanceSection(classificationsSection, ClassificationEntityExtension.class);
+    }
+
+
+    /**
+     * Close the file.
+     */
+    @Override
+    public void close()
+    {
+        try
+        {
+            parser.close();
+        }
+        catch (IOException error)
+        {
+            log.debug("Unable to close open metadata archive {}", archiveFileName, error);
+        }
+    }
+
+
+    /**
+     * Return an iterator for one of the instance sections.  If the section was passed over while looking for a
+     * different section, the buffered copy is returned.  Otherwise, the parser is moved to the start of the section.
+     *
+     * @param sectionName name of the section
+     * @param elementClass class of the elements in the section
+     * @return iterator
+     * @param <T> type of element
+     */
+    @SuppressWarnings(value = "unchecked")
+    private <T> Iterator<T> getInstanceSection(String   sectionName,
+                                               Class<T> elementClass)
+    {
+        List<?> bufferedSection = bufferedSections.remove(sectionName);
+
+        if (bufferedSection != null)
+        {
+            return (Iterator<T>) bufferedSection.iterator();
+        }
+
+        if ((! sectionsFound.contains(sectionName)) && (this.advanceTo(sectionName)))
+        {
+            ArchiveSectionIterator<T> sectionIterator = new ArchiveSectionIterator<>(sectionName, elementClass);
+
+            activeIterator = sectionIterator;
+
+            return sectionIterator;
+        }
+
+        return Collections.emptyIterator();
+    }
+
+
+    /**
+     * Move through the archive until the requested section is found.  The archive properties and type store
+     * are saved as they are passed.  Instance sections that are passed are buffered.  Any other fields are skipped.
+     *
+     * @param requestedSection name of the section to find
+     * @return true if the requested section was found.  For an instance section, the parser is positioned at
+     * the start of its array.
+     */
+    private boolean advanceTo(String requestedSection)
+    {
+        if (activeIterator != null)
+        {
+            activeIterator.skipRemaining();
+            activeIterator = null;
+        }
+
+        try
+        {
+            while (! endOfArchive)
+            {
+                JsonToken token = parser.nextToken();
+
+                if (token == null)
+                {
+                    endOfArchive = true;
+                }
+                else if (token == JsonToken.END_OBJECT)
+                {
+                    if (inInstanceStore)
+                    {
+                        inInstanceStore = false;
+                    }
+                    else
+                    {
+                        endOfArchive = true;
+                    }
+                }
+                else if (token == JsonToken.FIELD_NAME)
+                {
+                    String    fieldName  = parser.currentName();
+                    JsonToken valueToken = parser.nextToken();
+
+                    if (inInstanceStore)
+                    {
+                        Class<?> elementClass = this.getElementClass(fieldName);
+
+                        if ((elementClass != null) && (valueToken == JsonToken.START_ARRAY))
+                        {
+                            sectionsFound.add(fieldName);
+
+                            if (fieldName.equals(requestedSection))
+                            {
+                                return true;
+                            }
+
+                            bufferedSections.put(fieldName, this.readSection(elementClass));
+                        }
+                        else
+                        {
+                            parser.skipChildren();
+                        }
+                    }
+                    else if (archivePropertiesSection.equals(fieldName))
+                    {
+                        archiveProperties = objectMapper.readValue(parser, OpenMetadataArchiveProperties.class);
+                        sectionsFound.add(fieldName);
+
+                        if (fieldName.equals(requestedSection))
+                        {
+                            return true;
+                        }
+                    }
+                    else if (archiveTypeStoreSection.equals(fieldName))
+                    {
+                        archiveTypeStore = objectMapper.readValue(parser, OpenMetadataArchiveTypeStore.class);
+                        sectionsFound.add(fieldName);
+
+                        if (fieldName.equals(requestedSection))
+                        {
+                            return true;
+                        }
+                    }
+                    else if ((archiveInstanceStoreSection.equals(fieldName)) && (valueToken == JsonToken.START_OBJECT))
+                    {
+                        inInstanceStore = true;
+                    }
+                    else
+                    {
+                        parser.skipChildren();
+                    }
+                }
+            }
+        }
+        catch (IOException error)
+        {
+            this.handleReadError(requestedSection, error);
+        }
+
+        return false;
+    }
+
+
+    /**
+     * Return the class of the elements in an instance section.
+     *
+     * @param sectionName name of the section
+     * @return class or null if this is not an instance section
+     */
+    private Class<?> getElementClass(String sectionName)
+    {
+        return switch (sectionName)
+        {
+            case entitiesSection -> EntityDetail.class;
+            case relationshipsSection -> Relationship.class;
+            case classificationsSection -> ClassificationEntityExtension.class;
+            default -> null;
+        };
+    }
+
+
+    /**
+     * Read the rest of the current section into memory.  The parser is positioned at the start of the array.
+     *
+     * @param elementClass class of the elements in the section
+     * @return list of elements
+     * @throws IOException problem reading the archive
+     */
+    private List<Object> readSection(Class<?> elementClass) throws IOException
+    {
+        List<Object> elements = new ArrayList<>();
+        JsonToken    token    = parser.nextToken();
+
+        while ((token != null) && (token != JsonToken.END_ARRAY))
+        {
+            elements.add(objectMapper.readValue(parser, elementClass));
+            token = parser.nextToken();
+        }
+
+        return elements;
+    }
+
+
+    /**
+     * Log an error reading the archive.  Nothing more is read from the archive after an error since the
+     * position of the parser is unknown.
+     *
+     * @param sectionName section being read
+     * @param error exception from the parser
+     */
+    private void handleReadError(String      sectionName,
+                                 IOException error)
+    {
+        final String actionDescription = "Read open metadata archive";
+
+        endOfArchive = true;
+
+        log.error("Unable to read section {} of open metadata archive {}", sectionName, archiveFileName, error);
+
+        if (auditLog != null)
+        {
+            auditLog.logException(actionDescription,
+                                  FileBasedOpenMetadataArchiveStoreConnectorAuditCode.BAD_ARCHIVE_CONTENT.getMessageDefinition(sectionName,
+                                                                                                                               archiveFileName,
+                                                                                                                               error.getClass().getName(),
+                                                                                                                               error.getMessage()),
+                                  error);
+        }
+    }
+
+
+    /**
+     * ArchiveSectionIterator reads the elements of an instance section one at a time from the parser.
+     *
+     * @param <T> type of element
+     */
+    private class ArchiveSectionIterator<T> implements Iterator<T>
+    {
+        private final String   sectionName;
+        private final Class<T> elementClass;
+        private T              nextElement     = null;
+        private boolean        nextElementRead = false;
+        private boolean        endOfSection    = false;
+
+
+        /**
+         * Constructor is called when the parser is positioned at the start of the section's array.
+         *
+         * @param sectionName name of the section
+         * @param elementClass class of the elements in the section
+         */
+        ArchiveSectionIterator(String   sectionName,
+                               Class<T> elementClass)
+        {
+            this.sectionName  = sectionName;
+            this.elementClass = elementClass;
+        }
+
+
+        /**
+         * Return whether there is another element in the section.
+         *
+         * @return boolean
+         */
+        @Override
+        public boolean hasNext()
+        {
+            if ((! nextElementRead) && (! endOfSection))
+            {
+                this.readNextElement();
+            }
+
+            return nextElementRead;
+        }
+
+
+        /**
+         * Return the next element in the section.
+         *
+         * @return element (may be null if the archive contains a null element)
+         */
+        @Override
+        public T next()
+        {
+            if (! this.hasNext())
+            {
+                throw new NoSuchElementException(sectionName);
+            }
+
+            T element = nextElement;
+
+            nextElement     = null;
+            nextElementRead = false;
+
+            return element;
+        }
+
+
+        /**
+         * Read the next element from the parser.
+         */
+        private void readNextElement()
+        {
+            if (endOfArchive)
+            {
+                endOfSection = true;
+                return;
+            }
+
+            try
+            {
+                JsonToken token = parser.nextToken();
+
+                if ((token == null) || (token == JsonToken.END_ARRAY))
+                {
+                    endOfSection = true;
+                }
+                else
+                {
+                    nextElement     = objectMapper.readValue(parser, elementClass);
+                    nextElementRead = true;
+                }
+            }
+            catch (IOException error)
+            {
+                endOfSection = true;
+                handleReadError(sectionName, error);
+            }
+        }
+
+
+        /**
+         * Move the parser to the end of the section without creating the remaining elements.
+         */
+        void skipRemaining()
+        {
+            nextElement     = null;
+            nextElementRead = false;
+
+            try
+            {
+                while ((! endOfSection) && (! endOfArchive))
+                {
+                    JsonToken token = parser.nextToken();
+
+                    if ((token == null) || (token == JsonToken.END_ARRAY))
+                    {
+                        endOfSection = true;
+                    }
+                    else
+                    {
+                        parser.skipChildren();
+                    }
+                }
+            }
+            catch (IOException error)
+            {
+                endOfSection = true;
+                handleReadError(sectionName, error);
+            }
+        }
+    }
+}
@@ -11,6 +11,7 @@ import org.odpi.openmetadata.frameworks.connectors.ffdc.ConnectorCheckedExceptio
 import org.odpi.openmetadata.frameworks.connectors.properties.ConnectionProperties;
 import org.odpi.openmetadata.frameworks.connectors.properties.EndpointProperties;
 import org.apache.commons.io.FileUtils;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.archivestore.OpenMetadataArchiveReader;
 import org.odpi.openmetadata.repositoryservices.connectors.stores.archivestore.OpenMetadataArchiveStoreConnector;
 import org.odpi.openmetadata.repositoryservices.connectors.stores.archivestore.properties.OpenMetadataArchive;
 import org.odpi.openmetadata.repositoryservices.ffdc.exception.RepositoryErrorException;
@@ -88,50 +89,95 @@ public class FileBasedOpenMetadataArchiveStoreConnector extends OpenMetadataArch
     {
         final String methodName = "getArchiveContents";
 
-        File                archiveStoreFile     = new File(archiveStoreName);
-        OpenMetadataArchive newOpenMetadataArchive;
+        File archiveStoreFile = new File(archiveStoreName);
 
         try
         {
             log.debug("Retrieving open metadata archive from file");
 
-            if (auditLog != null)
-            {
-                final String actionDescription = "Opening open metadata archive";
+            this.logOpeningFile();
 
-                auditLog.logMessage(actionDescription,
-                                    FileBasedOpenMetadataArchiveStoreConnectorAuditCode.OPENING_FILE.getMessageDefinition(archiveStoreName));
-            }
+            return OBJECT_READER.readValue(archiveStoreFile, OpenMetadataArchive.class);
+        }
+        catch (IOException ioException)
+        {
+            throw this.getBadFileException(ioException, methodName);
+        }
+    }
+
+
+    /**
+     * Return a reader that steps through the archive file rather than loading it all into memory.
+     *
+     * @return reader for the archive
+     * @throws RepositoryErrorException there is a problem opening the archive
+     */
+    @Override
+    public OpenMetadataArchiveReader getArchiveReader() throws RepositoryErrorException
+    {
+        final String methodName = "getArchiveReader";
+
+        File archiveStoreFile = new File(archiveStoreName);
+
+        try
+        {
+            log.debug("Streaming open metadata archive from file");
 
-            String configStoreFileContents = FileUtils.readFileToString(archiveStoreFile, "UTF-8");
+            this.logOpeningFile();
 
-            newOpenMetadataArchive = OBJECT_READER.readValue(configStoreFileContents, OpenMetadataArchive.class);
+            return new FileBasedOpenMetadataArchiveReader(archiveStoreName,
+                                                          OBJECT_MAPPER.createParser(archiveStoreFile),
+                                                          OBJECT_MAPPER,
+                                                          auditLog);
         }
         catch (IOException ioException)
         {
-            /*
-             * The archive file is not found, create an empty one ...
-             */
-            if (auditLog != null)
-            {
-                auditLog.logException(methodName,
-                                      FileBasedOpenMetadataArchiveStoreConnectorAuditCode.BAD_FILE.getMessageDefinition(archiveStoreName,
-                                                                                                                        ioException.getClass().getName(),
-                                                                                                                        ioException.getMessage()),
-                                      ioException);
-            }
+            throw this.getBadFileException(ioException, methodName);
+        }
+    }
+
+
+    /**
+     * Log that the archive file is being opened.
+     */
+    private void logOpeningFile()
+    {
+        if (auditLog != null)
+        {
+            final String actionDescription = "Opening open metadata archive";
 
+            auditLog.logMessage(actionDescription,
+                                FileBasedOpenMetadataArchiveStoreConnectorAuditCode.OPENING_FILE.getMessageDefinition(archiveStoreName));
+        }
+    }
 
-            log.error("Error opening archive", ioException);
 
-            throw new RepositoryErrorException(FileBasedOpenMetadataArchiveStoreConnectorErrorCode.BAD_FILE.getMessageDefinition(archiveStoreName,
-                                                                                                                                 ioException.getClass().getName(),
-                                                                                                                                 ioException.getMessage()),
-                                               this.getClass().getName(),
-                                               methodName);
+    /**
+     * Log that the archive file could not be read and return the exception to throw to the caller.
+     *
+     * @param ioException exception from reading the file
+     * @param methodName calling method
+     * @return exception to throw
+     */
+    private RepositoryErrorException getBadFileException(IOException ioException,
+                                                         String      methodName)
+    {
+        if (auditLog != null)
+        {
+            auditLog.logException(methodName,
+                                  FileBasedOpenMetadataArchiveStoreConnectorAuditCode.BAD_FILE.getMessageDefinition(archiveStoreName,
+                                                                                                                    ioException.getClass().getName(),
+                                                                                                                    ioException.getMessage()),
+                                  ioException);
         }
 
-        return newOpenMetadataArchive;
+        log.error("Error opening archive", ioException);
+
+        return new RepositoryErrorException(FileBasedOpenMetadataArchiveStoreConnectorErrorCode.BAD_FILE.getMessageDefinition(archiveStoreName,
+                                                                                                                              ioException.getClass().getName(),
+                                                                                                                              ioException.getMessage()),
+                                            this.getClass().getName(),
+                                            methodName);
     }
 
 
@@ -42,6 +42,17 @@ public enum FileBasedOpenMetadataArchiveStoreConnectorAuditCode implements Audit
               "Use the information from the exception to determine the cause of the error.  For example, is the filename correct?  " +
                       "Does this runtime have permission to access the file?  Once the cause of the error is corrected, restart the caller."),
 
+    /**
+     * FILE-OPEN-METADATA-ARCHIVE-STORE-CONNECTOR-0003 - Unable to read the {0} section of open metadata archive file {1}.  Message from {2} exception was {3}
+     */
+    BAD_ARCHIVE_CONTENT("FILE-OPEN-METADATA-ARCHIVE-STORE-CONNECTOR-0003",
+                        AuditLogRecordSeverityLevel.ERROR,
+                        "Unable to read the {0} section of open metadata archive file {1}.  Message from {2} exception was {3}",
+                        "The server stops reading the archive at this point.  The elements that were read from the archive before the error " +
+                                "have been passed to the server.",
+                        "Use the information from the exception to determine the cause of the error.  Typically the archive file is truncated " +
+                                "or is not valid JSON.  Once the archive file is corrected, reload the archive."),
+
     ;
 
     private final String                      logMessageId;
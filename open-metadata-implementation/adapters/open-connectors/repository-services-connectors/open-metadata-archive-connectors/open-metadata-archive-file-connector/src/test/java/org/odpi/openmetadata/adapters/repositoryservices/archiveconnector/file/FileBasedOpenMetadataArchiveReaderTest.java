@@ -0,0 +1,288 @@
+/* SPDX-License-Identifier: Apache-2.0 */
+/* Copyright Contributors to the ODPi Egeria project. */
+package org.odpi.openmetadata.adapters.repositoryservices.archiveconnector.file;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.archivestore.properties.OpenMetadataArchiveProperties;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.archivestore.properties.OpenMetadataArchiveTypeStore;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.instances.Classification;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.instances.ClassificationEntityExtension;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.instances.EntityDetail;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.instances.EntityProxy;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.instances.Relationship;
+import org.testng.annotations.Test;
+
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.function.Function;
+
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertFalse;
+import static org.testng.Assert.assertNotNull;
+import static org.testng.Assert.assertNull;
+
+
+/**
+ * Verify that the streaming archive reader returns every section of an archive whatever order the sections
+ * are requested in and whatever order they appear in the file.
+ */
+public class FileBasedOpenMetadataArchiveReaderTest
+{
+    private final ObjectMapper objectMapper = new ObjectMapper();
+
+
+    /**
+     * Sections that are in the usual order are returned as they are read.
+     *
+     * @throws Exception test failure
+     */
+    @Test
+    public void testSectionsInUsualOrder() throws Exception
+    {
+        String archive = "{" + this.getProperties() + "," + this.getTypeStore() + "," +
+                               "\"archiveInstanceStore\":{" + this.getEntities() + "," + this.getRelationships() + "," + this.getClassifications() + "}}";
+
+        try (FileBasedOpenMetadataArchiveReader reader = this.getReader(archive))
+        {
+            assertEquals(reader.getArchiveProperties().getArchiveGUID(), "archive-guid");
+            assertNotNull(reader.getArchiveTypeStore());
+            assertEquals(this.getGUIDs(reader.getEntities(), EntityDetail::getGUID), List.of("entity-1", "entity-2", "entity-3"));
+            assertEquals(this.getGUIDs(reader.getRelationships(), Relationship::getGUID), List.of("relationship-1", "relationship-2"));
+            assertEquals(this.getGUIDs(reader.getClassifications(), this::getClassificationName), List.of("Classification1"));
+        }
+    }
+
+
+    /**
+     * Sections that appear after a requested section are buffered and returned when they are requested.
+     *
+     * @throws Exception test failure
+     */
+    @Test
+    public void testSectionsOutOfOrder() throws Exception
+    {
+        String archive = "{\"unknownSection\":{\"nested\":[1,2,3]}," +
+                         "\"archiveInstanceStore\":{" + this.getClassifications() + "," + this.getRelationships() + "," + this.getEntities() + "}," +
+                         this.getTypeStore() + "," + this.getProperties() + "}";
+
+        try (FileBasedOpenMetadataArchiveReader reader = this.getReader(archive))
+        {
+            assertEquals(reader.getArchiveProperties().getArchiveGUID(), "archive-guid");
+            assertNotNull(reader.getArchiveTypeStore());
+            assertEquals(this.getGUIDs(reader.getEntities(), EntityDetail::getGUID), List.of("entity-1", "entity-2", "entity-3"));
+            assertEquals(this.getGUIDs(reader.getRelationships(), Relationship::getGUID), List.of("relationship-1", "relationship-2"));
+            assertEquals(this.getGUIDs(reader.getClassifications(), this::getClassificationName), List.of("Classification1"));
+        }
+    }
+
+
+    /**
+     * The instance sections are requested before the properties and type store that follow them, and the
+     * relationships are requested before the entities that precede them.
+     *
+     * @throws Exception test failure
+     */
+    @Test
+    public void testSectionsRequestedOutOfOrder() throws Exception
+    {
+        String archive = "{\"archiveInstanceStore\":{" + this.getEntities() + "," + this.getRelationships() + "}," +
+                         this.getProperties() + "," + this.getTypeStore() + "}";
+
+        try (FileBasedOpenMetadataArchiveReader reader = this.getReader(archive))
+        {
+            assertEquals(this.getGUIDs(reader.getRelationships(), Relationship::getGUID), List.of("relationship-1", "relationship-2"));
+            assertEquals(this.getGUIDs(reader.getEntities(), EntityDetail::getGUID), List.of("entity-1", "entity-2", "entity-3"));
+            assertFalse(reader.getClassifications().hasNext());
+            assertNotNull(reader.getArchiveTypeStore());
+            assertEquals(reader.getArchiveProperties().getArchiveGUID(), "archive-guid");
+        }
+    }
+
+
+    /**
+     * Moving to another section part way through a section skips the rest of it.
+     *
+     * @throws Exception test failure
+     */
+    @Test
+    public void testPartlyReadSection() throws Exception
+    {
+        String archive = "{" + this.getProperties() + ",\"archiveInstanceStore\":{" + this.getEntities() + "," + this.getRelationships() + "}}";
+
+        try (FileBasedOpenMetadataArchiveReader reader = this.getReader(archive))
+        {
+            Iterator<EntityDetail> entities = reader.getEntities();
+
+            assertEquals(entities.next().getGUID(), "entity-1");
+            assertEquals(this.getGUIDs(reader.getRelationships(), Relationship::getGUID), List.of("relationship-1", "relationship-2"));
+            assertFalse(reader.getEntities().hasNext());
+            assertNull(reader.getArchiveTypeStore());
+        }
+    }
+
+
+    /**
+     * A truncated archive returns the elements before the damage and then ends.
+     *
+     * @throws Exception test failure
+     */
+    @Test
+    public void testTruncatedArchive() throws Exception
+    {
+        String archive = "{" + this.getProperties() + ",\"archiveInstanceStore\":{\"entities\":[" + this.getEntity("entity-1") + "," + "{\"class\":\"EntityDe";
+
+        try (FileBasedOpenMetadataArchiveReader reader = this.getReader(archive))
+        {
+            Iterator<EntityDetail> entities = reader.getEntities();
+
+            assertEquals(entities.next().getGUID(), "entity-1");
+            assertFalse(entities.hasNext());
+            assertFalse(reader.getRelationships().hasNext());
+        }
+    }
+
+
+    /**
+     * Create a reader over an archive.
+     *
+     * @param archive JSON archive
+     * @return reader
+     * @throws Exception the archive is not a JSON object
+     */
+    private FileBasedOpenMetadataArchiveReader getReader(String archive) throws Exception
+    {
+        return new FileBasedOpenMetadataArchiveReader("testArchive", objectMapper.createParser(archive), objectMapper, null);
+    }
+
+
+    /**
+     * Step through an iterator collecting an identifier from each element.
+     *
+     * @param iterator iterator to step through
+     * @param getIdentifier function returning the identifier of an element
+     * @return list of identifiers
+     * @param <T> type of element
+     */
+    private <T> List<String> getGUIDs(Iterator<T>         iterator,
+                                      Function<T, String> getIdentifier)
+    {
+        List<String> identifiers = new ArrayList<>();
+
+        while (iterator.hasNext())
+        {
+            identifiers.add(getIdentifier.apply(iterator.next()));
+        }
+
+        return identifiers;
+    }
+
+
+    /**
+     * Return the name of the classification in a classification extension.
+     *
+     * @param extension classification extension
+     * @return name
+     */
+    private String getClassificationName(ClassificationEntityExtension extension)
+    {
+        return extension.getClassification().getName();
+    }
+
+
+    /**
+     * Return the archive properties section.
+     *
+     * @return JSON field
+     * @throws Exception serialization error
+     */
+    private String getProperties() throws Exception
+    {
+        OpenMetadataArchiveProperties properties = new OpenMetadataArchiveProperties();
+
+        properties.setArchiveGUID("archive-guid");
+        properties.setArchiveName("Test Archive");
+
+        return "\"archiveProperties\":" + objectMapper.writeValueAsString(properties);
+    }
+
+
+    /**
+     * Return an empty type store section.
+     *
+     * @return JSON field
+     * @throws Exception serialization error
+     */
+    private String getTypeStore() throws Exception
+    {
+        return "\"archiveTypeStore\":" + objectMapper.writeValueAsString(new OpenMetadataArchiveTypeStore());
+    }
+
+
+    /**
+     * Return the entities section.
+     *
+     * @return JSON field
+     * @throws Exception serialization error
+     */
+    private String getEntities() throws Exception
+    {
+        return "\"entities\":[" + this.getEntity("entity-1") + "," + this.getEntity("entity-2") + "," + this.getEntity("entity-3") + "]";
+    }
+
+
+    /**
+     * Return one entity.
+     *
+     * @param guid unique identifier of the entity
+     * @return JSON object
+     * @throws Exception serialization error
+     */
+    private String getEntity(String guid) throws Exception
+    {
+        EntityDetail entity = new EntityDetail();
+
+        entity.setGUID(guid);
+
+        return objectMapper.writeValueAsString(entity);
+    }
+
+
+    /**
+     * Return the relationships section.
+     *
+     * @return JSON field
+     * @throws Exception serialization error
+     */
+    private String getRelationships() throws Exception
+    {
+        Relationship relationship1 = new Relationship();
+        Relationship relationship2 = new Relationship();
+
+        relationship1.setGUID("relationship-1");
+        relationship2.setGUID("relationship-2");
+
+        return "\"relationships\":[" + objectMapper.writeValueAsString(relationship1) + "," + objectMapper.writeValueAsString(relationship2) + "]";
+    }
+
+
+    /**
+     * Return the classifications section.
+     *
+     * @return JSON field
+     * @throws Exception serialization error
+     */
+    private String getClassifications() throws Exception
+    {
+        EntityProxy                   entityProxy    = new EntityProxy();
+        Classification                classification = new Classification();
+        ClassificationEntityExtension extension      = new ClassificationEntityExtension();
+
+        entityProxy.setGUID("entity-1");
+        classification.setName("Classification1");
+        extension.setEntityToClassify(entityProxy);
+        extension.setClassification(classification);
+
+        return "\"classifications\":[" + objectMapper.writeValueAsString(extension) + "]";
+    }
+}
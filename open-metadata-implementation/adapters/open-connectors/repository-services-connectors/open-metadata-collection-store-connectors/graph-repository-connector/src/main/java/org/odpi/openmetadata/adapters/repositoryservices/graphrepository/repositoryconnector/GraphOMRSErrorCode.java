@@ -146,6 +146,11 @@ public enum GraphOMRSErrorCode implements ExceptionMessageSet
             "The search properties contains a values that do not match the type of property {0} - reported by the {1} method of class {2} to open metadata repository {3}",
             "The system is unable to perform the request because the provided values do not match the type of the property.",
             "Correct the caller's code and retry the request."),
+    INSTANCES_NOT_SAVED(
+            400, "OMRS-GRAPH-REPOSITORY-400-030",
+            "The attempt to save a batch of reference copies failed at the instance with GUID {0} in {1} method of class {2} to open metadata repository {3}",
+            "The system was unable to save the batch of reference copies.  None of the instances in the batch have been saved.",
+            "Review the instance that failed and the exception that caused the failure.  Correct the instance, or save the instances individually, and retry the request."),
 
     ;
 
@@ -5,6 +5,7 @@ package org.odpi.openmetadata.adapters.repositoryservices.graphrepository.reposi
 
 import org.odpi.openmetadata.frameworks.auditlog.AuditLog;
 import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.OMRSDynamicTypeMetadataCollectionBase;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.OMRSReferenceCopyBatchStore;
 import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.MatchCriteria;
 import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.SequencingOrder;
 import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.instances.Classification;
@@ -65,7 +66,7 @@ import java.util.Set;
  * The GraphOMRSMetadataCollection provides a local open metadata repository that uses a graph store as its
  * persistence layer.
  */
-public class GraphOMRSMetadataCollection extends OMRSDynamicTypeMetadataCollectionBase
+public class GraphOMRSMetadataCollection extends OMRSDynamicTypeMetadataCollectionBase implements OMRSReferenceCopyBatchStore
 {
 
     private static final Logger log = LoggerFactory.getLogger(GraphOMRSMetadataCollection.class);
@@ -4301,6 +4302,176 @@ public class GraphOMRSMetadataCollection extends OMRSDynamicTypeMetadataCollecti
     }
 
 
+    /**
+     * Save the entities and relationships supplied in the instance graph as reference copies.  Any instances
+     * from the home metadata collection are ignored.  The instances are validated and then saved in a single
+     * graph transaction, so either all the instances are saved or none of them are.
+     *
+     * @param userId unique identifier for requesting user.
+     * @param instances instances to save.
+     * @throws InvalidParameterException one of the instances is invalid or conflicts with a stored instance.
+     * @throws RepositoryErrorException there is a problem communicating with the metadata repository where
+     *                                    the metadata collection is stored.
+     * @throws UserNotAuthorizedException the userId is not permitted to perform this operation.
+     */
+    @Override
+    public void saveInstanceReferenceCopies(String        userId,
+                                            InstanceGraph instances)
+            throws
+            InvalidParameterException,
+            RepositoryErrorException,
+            UserNotAuthorizedException
+    {
+        final String methodName                  = "saveInstanceReferenceCopies";
+        final String entityParameterName         = "entity";
+        final String relationshipParameterName   = "relationship";
+
+        super.basicRequestValidation(userId, methodName);
+
+        if (instances == null)
+        {
+            return;
+        }
+
+        List<EntityDetail> entities      = new ArrayList<>();
+        List<Relationship> relationships = new ArrayList<>();
+
+        if (instances.getEntities() != null)
+        {
+            for (EntityDetail entity : instances.getEntities())
+            {
+                if ((entity != null) && (! metadataCollectionId.equals(entity.getMetadataCollectionId())))
+                {
+                    super.referenceInstanceParameterValidation(userId, entity, entityParameterName, methodName);
+                    entities.add(entity);
+                }
+            }
+        }
+
+        if (instances.getRelationships() != null)
+        {
+            for (Relationship relationship : instances.getRelationships())
+            {
+                if ((relationship != null) && (! metadataCollectionId.equals(relationship.getMetadataCollectionId())))
+                {
+                    super.referenceInstanceParameterValidation(userId, relationship, relationshipParameterName, methodName);
+                    relationships.add(relationship);
+                }
+            }
+        }
+
+        graphStore.saveReferenceCopiesToStore(entities, relationships);
+    }
+
+
+    /*
+     * OMRSReferenceCopyBatchStore
+     */
+
+    /**
+     * Return the stored versions of the requested entities, located with a single graph traversal.  Entities
+     * that are not stored, or are only stored as proxies, are omitted from the result.
+     *
+     * @param userId unique identifier for requesting user.
+     * @param entityGUIDs unique identifiers of the entities to look up.
+     * @return map of entity unique identifier to stored entity
+     * @throws InvalidParameterException the list of guids is null.
+     * @throws RepositoryErrorException there is a problem communicating with the metadata repository where
+     *                                  the metadata collection is stored.
+     */
+    @Override
+    public Map<String, EntityDetail> getKnownEntities(String       userId,
+                                                      List<String> entityGUIDs)
+            throws
+            InvalidParameterException,
+            RepositoryErrorException
+    {
+        final String methodName         = "getKnownEntities";
+        final String guidsParameterName = "entityGUIDs";
+
+        super.basicRequestValidation(userId, methodName);
+        this.validateBatchParameter(entityGUIDs, guidsParameterName, methodName);
+
+        return graphStore.getEntityDetailsFromStore(entityGUIDs);
+    }
+
+
+    /**
+     * Return the stored versions of the requested relationships, located with a single graph traversal.
+     * Relationships that are not stored are omitted from the result.
+     *
+     * @param userId unique identifier for requesting user.
+     * @param relationshipGUIDs unique identifiers of the relationships to look up.
+     * @return map of relationship unique identifier to stored relationship
+     * @throws InvalidParameterException the list of guids is null.
+     * @throws RepositoryErrorException there is a problem communicating with the metadata repository where
+     *                                  the metadata collection is stored.
+     */
+    @Override
+    public Map<String, Relationship> getKnownRelationships(String       userId,
+                                                           List<String> relationshipGUIDs)
+            throws
+            InvalidParameterException,
+            RepositoryErrorException
+    {
+        final String methodName         = "getKnownRelationships";
+        final String guidsParameterName = "relationshipGUIDs";
+
+        super.basicRequestValidation(userId, methodName);
+        this.validateBatchParameter(relationshipGUIDs, guidsParameterName, methodName);
+
+        return graphStore.getRelationshipsFromStore(relationshipGUIDs);
+    }
+
+
+    /**
+     * Save a batch of validated reference copies in a single graph transaction.
+     *
+     * @param userId unique identifier for requesting user.
+     * @param instances entities and relationships to save.
+     * @throws InvalidParameterException the instance graph is null or one of the instances conflicts with a stored instance.
+     * @throws RepositoryErrorException there is a problem communicating with the metadata repository where
+     *                                    the metadata collection is stored.
+     */
+    @Override
+    public void saveReferenceCopyBatch(String        userId,
+                                       InstanceGraph instances)
+            throws
+            InvalidParameterException,
+            RepositoryErrorException
+    {
+        final String methodName             = "saveReferenceCopyBatch";
+        final String instancesParameterName = "instances";
+
+        super.basicRequestValidation(userId, methodName);
+        this.validateBatchParameter(instances, instancesParameterName, methodName);
+
+        graphStore.saveReferenceCopiesToStore(instances.getEntities(), instances.getRelationships());
+    }
+
+
+    /**
+     * Validate that a parameter passed to one of the batch methods is not null.
+     *
+     * @param parameterValue value passed
+     * @param parameterName name of the parameter
+     * @param methodName calling method
+     * @throws InvalidParameterException the parameter is null
+     */
+    private void validateBatchParameter(Object parameterValue,
+                                        String parameterName,
+                                        String methodName) throws InvalidParameterException
+    {
+        if (parameterValue == null)
+        {
+            throw new InvalidParameterException(OMRSErrorCode.NULL_PARAMETER.getMessageDefinition(methodName),
+                                                this.getClass().getName(),
+                                                methodName,
+                                                parameterName);
+        }
+    }
+
+
     @Override
     public void purgeRelationshipReferenceCopy(String   userId,
                                                String   relationshipGUID,
@@ -1152,6 +1152,318 @@ class GraphOMRSMetadataStore {
     }
 
 
+    /*
+     *  Return the entities with the supplied GUIDs, looking them all up in a single traversal.  Entities that are
+     *  not stored, or are only stored as proxies, are omitted from the result.
+     */
+    synchronized Map<String, EntityDetail> getEntityDetailsFromStore(List<String> guids)
+
+    throws RepositoryErrorException
+
+    {
+        final String methodName = "getEntityDetailsFromStore";
+
+        Map<String, EntityDetail> entities = new HashMap<>();
+
+        if (guids.isEmpty())
+        {
+            return entities;
+        }
+
+        GraphTraversalSource g = instanceGraph.traversal();
+
+        List<Vertex> vertices = g.V().hasLabel("Entity").has(PROPERTY_KEY_ENTITY_GUID, within(guids)).toList();
+
+        try
+        {
+            for (Vertex vertex : vertices)
+            {
+                if (! entityMapper.isProxy(vertex))
+                {
+                    EntityDetail entity = new EntityDetail();
+                    entityMapper.mapVertexToEntityDetail(vertex, entity);
+                    entities.put(entity.getGUID(), entity);
+                }
+            }
+        }
+        catch (Exception e)
+        {
+            log.error("{} Caught exception from entity mapper {}", methodName, e.getMessage());
+            g.tx().rollback();
+
+            throw new RepositoryErrorException(
+                    GraphOMRSErrorCode.ENTITY_NOT_FOUND.getMessageDefinition(
+                            guids.toString(), methodName,
+                            this.getClass().getName(),
+                            repositoryName),
+                    this.getClass().getName(),
+                    methodName, e);
+        }
+
+        g.tx().commit();
+
+        return entities;
+    }
+
+
+    /*
+     *  Return the relationships with the supplied GUIDs, looking them all up in a single traversal.  Relationships
+     *  that are not stored are omitted from the result.
+     */
+    synchronized Map<String, Relationship> getRelationshipsFromStore(List<String> guids)
+
+    throws RepositoryErrorException
+
+    {
+        final String methodName = "getRelationshipsFromStore";
+
+        Map<String, Relationship> relationships = new HashMap<>();
+
+        if (guids.isEmpty())
+        {
+            return relationships;
+        }
+
+        GraphTraversalSource g = instanceGraph.traversal();
+
+        List<Edge> edges = g.E().hasLabel("Relationship").has(PROPERTY_KEY_RELATIONSHIP_GUID, within(guids)).toList();
+
+        try
+        {
+            for (Edge edge : edges)
+            {
+                Relationship relationship = new Relationship();
+                relationshipMapper.mapEdgeToRelationship(edge, relationship);
+
+                EntityProxy entityOneProxy = new EntityProxy();
+                entityMapper.mapVertexToEntityProxy(edge.outVertex(), entityOneProxy);
+                relationship.setEntityOneProxy(entityOneProxy);
+
+                EntityProxy entityTwoProxy = new EntityProxy();
+                entityMapper.mapVertexToEntityProxy(edge.inVertex(), entityTwoProxy);
+                relationship.setEntityTwoProxy(entityTwoProxy);
+
+                relationships.put(relationship.getGUID(), relationship);
+            }
+        }
+        catch (Exception e)
+        {
+            log.error("{} Caught exception from relationship mapper {}", methodName, e.getMessage());
+            g.tx().rollback();
+
+            throw new RepositoryErrorException(
+                    GraphOMRSErrorCode.RELATIONSHIP_NOT_FOUND.getMessageDefinition(
+                            guids.toString(), methodName,
+                            this.getClass().getName(),
+                            repositoryName),
+                    this.getClass().getName(),
+                    methodName, e);
+        }
+
+        g.tx().commit();
+
+        return relationships;
+    }
+
+
+    /*
+     *  Save a batch of reference copies in a single graph transaction.  The rules are the same as for
+     *  saveEntityReferenceCopyToStore(EntityDetail) and saveRelationshipReferenceCopyToStore(Relationship):
+     *  - an existing entity vertex or relationship edge is reused if it has the same metadataCollectionId as
+     *    the instance being saved, otherwise the whole batch is rejected
+     *  - a proxy is created for any relationship end that is not stored and is not in the batch
+     *
+     *  The existing vertices and edges are located with one traversal each rather than one per instance,
+     *  and the entities are saved before the relationships so that the relationships can link to entities
+     *  in the same batch.  If any instance cannot be saved, the transaction is rolled back so none of the
+     *  batch is saved.
+     */
+    synchronized void saveReferenceCopiesToStore(List<EntityDetail> entities,
+                                                 List<Relationship> relationships)
+
+    throws InvalidParameterException,
+           RepositoryErrorException
+
+    {
+        final String methodName = "saveReferenceCopiesToStore";
+
+        GraphTraversalSource g = instanceGraph.traversal();
+
+        /*
+         * Locate the vertices for all the entities in the batch and all the relationship ends.
+         */
+        Set<String> entityGUIDs = new HashSet<>();
+
+        if (entities != null)
+        {
+            for (EntityDetail entity : entities)
+            {
+                entityGUIDs.add(entity.getGUID());
+            }
+        }
+
+        if (relationships != null)
+        {
+            for (Relationship relationship : relationships)
+            {
+                entityGUIDs.add(relationship.getEntityOneProxy().getGUID());
+                entityGUIDs.add(relationship.getEntityTwoProxy().getGUID());
+            }
+        }
+
+        Map<String, Vertex> entityVertices = new HashMap<>();
+
+        if (! entityGUIDs.isEmpty())
+        {
+            for (Vertex vertex : g.V().hasLabel("Entity").has(PROPERTY_KEY_ENTITY_GUID, within(entityGUIDs)).toList())
+            {
+                entityVertices.put(entityMapper.getEntityGUID(vertex), vertex);
+            }
+        }
+
+        String instanceGUID = null;
+
+        try
+        {
+            if (entities != null)
+            {
+                for (EntityDetail entity : entities)
+                {
+                    instanceGUID = entity.getGUID();
+
+                    Vertex vertex = entityVertices.get(instanceGUID);
+
+                    if (vertex == null)
+                    {
+                        log.debug("{} create vertex for entity {}", methodName, instanceGUID);
+                        vertex = g.addV("Entity").next();
+                        entityVertices.put(instanceGUID, vertex);
+                    }
+                    else if (! entityMapper.getEntityMetadataCollectionId(vertex).equals(entity.getMetadataCollectionId()))
+                    {
+                        log.error("{} found an existing vertex for entity {} from a different source, with metadataCollectionId {}",
+                                  methodName, instanceGUID, entityMapper.getEntityMetadataCollectionId(vertex));
+                        g.tx().rollback();
+
+                        throw new InvalidParameterException(
+                                GraphOMRSErrorCode.ENTITY_ALREADY_EXISTS.getMessageDefinition(
+                                        instanceGUID, methodName,
+                                        this.getClass().getName(),
+                                        repositoryName),
+                                this.getClass().getName(),
+                                methodName,
+                                "entity");
+                    }
+
+                    entityMapper.mapEntityDetailToVertex(entity, vertex);
+                    updateEntityClassifications(entity, vertex, g);
+                }
+            }
+
+            if (relationships != null)
+            {
+                Map<String, Edge> relationshipEdges = new HashMap<>();
+                List<String>      relationshipGUIDs = new ArrayList<>();
+
+                for (Relationship relationship : relationships)
+                {
+                    relationshipGUIDs.add(relationship.getGUID());
+                }
+
+                if (! relationshipGUIDs.isEmpty())
+                {
+                    for (Edge edge : g.E().hasLabel("Relationship").has(PROPERTY_KEY_RELATIONSHIP_GUID, within(relationshipGUIDs)).toList())
+                    {
+                        relationshipEdges.put(relationshipMapper.getRelationshipGUID(edge), edge);
+                    }
+                }
+
+                for (Relationship relationship : relationships)
+                {
+                    instanceGUID = relationship.getGUID();
+
+                    Vertex vertexOne = this.getEntityProxyVertex(relationship.getEntityOneProxy(), entityVertices, g);
+                    Vertex vertexTwo = this.getEntityProxyVertex(relationship.getEntityTwoProxy(), entityVertices, g);
+
+                    Edge edge = relationshipEdges.get(instanceGUID);
+
+                    if (edge == null)
+                    {
+                        edge = vertexOne.addEdge("Relationship", vertexTwo);
+                        relationshipEdges.put(instanceGUID, edge);
+                    }
+                    else if (! relationshipMapper.getRelationshipMetadataCollectionId(edge).equals(relationship.getMetadataCollectionId()))
+                    {
+                        log.error("{} found an existing edge for relationship {} from a different source, with metadataCollectionId {}",
+                                  methodName, instanceGUID, relationshipMapper.getRelationshipMetadataCollectionId(edge));
+                        g.tx().rollback();
+
+                        throw new InvalidParameterException(
+                                GraphOMRSErrorCode.RELATIONSHIP_ALREADY_EXISTS.getMessageDefinition(
+                                        instanceGUID,
+                                        methodName,
+                                        this.getClass().getName(),
+                                        repositoryName),
+                                this.getClass().getName(),
+                                methodName,
+                                "relationship");
+                    }
+
+                    relationshipMapper.mapRelationshipToEdge(relationship, edge);
+                }
+            }
+        }
+        catch (InvalidParameterException e)
+        {
+            throw e;
+        }
+        catch (Exception e)
+        {
+            log.error("{} Caught exception from mapper for instance {}: {}", methodName, instanceGUID, e.getMessage());
+            g.tx().rollback();
+
+            throw new RepositoryErrorException(
+                    GraphOMRSErrorCode.INSTANCES_NOT_SAVED.getMessageDefinition(
+                            instanceGUID, methodName,
+                            this.getClass().getName(),
+                            repositoryName),
+                    this.getClass().getName(),
+                    methodName, e);
+        }
+
+        log.debug("{} Commit tx containing {} entities and {} relationships", methodName,
+                  entities == null ? 0 : entities.size(), relationships == null ? 0 : relationships.size());
+        g.tx().commit();
+    }
+
+
+    /*
+     *  Return the vertex for a relationship end within a batch, creating a proxy vertex if the entity is
+     *  not already stored.  As with saveRelationshipReferenceCopyToStore(), an existing vertex is reused
+     *  whether it is an entity, a reference copy or a proxy.
+     */
+    private Vertex getEntityProxyVertex(EntityProxy          entityProxy,
+                                        Map<String, Vertex>  entityVertices,
+                                        GraphTraversalSource g)
+
+    throws RepositoryErrorException
+
+    {
+        Vertex vertex = entityVertices.get(entityProxy.getGUID());
+
+        if (vertex == null)
+        {
+            vertex = g.addV("Entity").next();
+            entityMapper.mapEntityProxyToVertex(entityProxy, vertex);
+            updateEntityClassifications(entityProxy, vertex, g);
+
+            entityVertices.put(entityProxy.getGUID(), vertex);
+        }
+
+        return vertex;
+    }
+
+
     synchronized Relationship getRelationshipFromStore(String guid)
 
     throws RepositoryErrorException
@@ -499,4 +499,9 @@ class GraphOMRSRelationshipMapper {
         return (String) getEdgeProperty(edge, PROPERTY_KEY_RELATIONSHIP_METADATACOLLECTION_ID);
     }
 
+
+    String getRelationshipGUID(Edge edge) {
+        return (String) getEdgeProperty(edge, PROPERTY_KEY_RELATIONSHIP_GUID);
+    }
+
 }
@@ -0,0 +1,439 @@
+/* SPDX-License-Identifier: Apache-2.0 */
+/* Copyright Contributors to the ODPi Egeria project. */
+package org.odpi.openmetadata.adapters.repositoryservices.graphrepository.repositoryconnector;
+
+import org.odpi.openmetadata.frameworks.auditlog.ComponentDevelopmentStatus;
+import org.odpi.openmetadata.frameworks.connectors.properties.ConnectionProperties;
+import org.odpi.openmetadata.frameworks.connectors.properties.beans.Connection;
+import org.odpi.openmetadata.repositoryservices.auditlog.OMRSAuditLog;
+import org.odpi.openmetadata.repositoryservices.auditlog.OMRSAuditLogDestination;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.OMRSMetadataCollection;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.OMRSReferenceCopyBatchStore;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.instances.EntityDetail;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.instances.EntityProxy;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.instances.InstanceAuditHeader;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.instances.InstanceGraph;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.instances.InstanceProvenanceType;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.instances.InstanceStatus;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.instances.InstanceType;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.instances.Relationship;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.typedefs.EntityDef;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.typedefs.RelationshipDef;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.typedefs.TypeDef;
+import org.odpi.openmetadata.repositoryservices.ffdc.exception.EntityNotKnownException;
+import org.odpi.openmetadata.repositoryservices.ffdc.exception.InvalidParameterException;
+import org.odpi.openmetadata.repositoryservices.ffdc.exception.RepositoryErrorException;
+import org.odpi.openmetadata.repositoryservices.localrepository.repositorycontentmanager.OMRSRepositoryContentHelper;
+import org.odpi.openmetadata.repositoryservices.localrepository.repositorycontentmanager.OMRSRepositoryContentManager;
+import org.odpi.openmetadata.repositoryservices.localrepository.repositorycontentmanager.OMRSRepositoryContentValidator;
+import org.testng.annotations.AfterMethod;
+import org.testng.annotations.BeforeMethod;
+import org.testng.annotations.Test;
+
+import java.io.File;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Comparator;
+import java.util.Date;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.stream.Stream;
+
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertFalse;
+import static org.testng.Assert.assertNotNull;
+import static org.testng.Assert.assertNull;
+import static org.testng.Assert.assertTrue;
+import static org.testng.Assert.fail;
+
+
+/**
+ * Verify that the graph repository saves a batch of reference copies in a single JanusGraph transaction, so
+ * that a failure at any instance in the batch leaves none of the batch saved.  The graph uses JanusGraph's
+ * in-memory storage backend.
+ */
+public class TestGraphReferenceCopies
+{
+    private static final String userId                     = "testUser";
+    private static final String localMetadataCollectionId  = "local-collection";
+    private static final String remoteMetadataCollectionId = "remote-collection";
+    private static final String otherMetadataCollectionId  = "other-collection";
+
+    private EntityDef              entityDef;
+    private RelationshipDef        relationshipDef;
+    private Path                   indexDirectory;
+    private OMRSMetadataCollection metadataCollection;
+
+
+    /**
+     * Start a graph repository that knows about one entity type and one relationship type.  The graph is held
+     * in memory and its search index is written to a temporary directory.
+     *
+     * @throws Exception unable to start the connector
+     */
+    @BeforeMethod
+    public void setUp() throws Exception
+    {
+        OMRSAuditLog auditLog = new OMRSAuditLog(new OMRSAuditLogDestination("testServer", "testType", "testOrganization", null),
+                                                 1,
+                                                 ComponentDevelopmentStatus.IN_DEVELOPMENT,
+                                                 "testComponent",
+                                                 "test",
+                                                 null);
+
+        OMRSRepositoryContentManager contentManager = new OMRSRepositoryContentManager(userId, auditLog);
+
+        entityDef = new EntityDef();
+        this.setUpTypeDef(entityDef, "TestEntity");
+        contentManager.addTypeDef("test", entityDef);
+
+        relationshipDef = new RelationshipDef();
+        this.setUpTypeDef(relationshipDef, "TestRelationship");
+        contentManager.addTypeDef("test", relationshipDef);
+
+        indexDirectory = Files.createTempDirectory("graph-reference-copies");
+
+        Map<String, Object> storageProperties = new HashMap<>();
+
+        storageProperties.put("storage.backend", "inmemory");
+        storageProperties.put("index.search.backend", "lucene");
+        storageProperties.put("index.search.directory", indexDirectory.toString());
+
+        Connection connection = new Connection();
+
+        connection.setQualifiedName("TestGraphRepositoryConnection");
+        connection.setConfigurationProperties(storageProperties);
+
+        GraphOMRSRepositoryConnector connector = new GraphOMRSRepositoryConnector();
+
+        connector.initialize("testConnector", new ConnectionProperties(connection));
+        connector.setServerName("testServer");
+        connector.setAuditLog(auditLog);
+        connector.setRepositoryHelper(new OMRSRepositoryContentHelper(contentManager));
+        connector.setRepositoryValidator(new OMRSRepositoryContentValidator(contentManager));
+        connector.setMetadataCollectionId(localMetadataCollectionId);
+        connector.start();
+
+        metadataCollection = connector.getMetadataCollection();
+    }
+
+
+    /**
+     * Remove the search index.
+     *
+     * @throws Exception unable to remove the directory
+     */
+    @AfterMethod
+    public void tearDown() throws Exception
+    {
+        try (Stream<Path> paths = Files.walk(indexDirectory))
+        {
+            paths.sorted(Comparator.reverseOrder()).map(Path::toFile).forEach(File::delete);
+        }
+    }
+
+
+    /**
+     * The remote entities and relationships in the batch are saved, along with a proxy for the relationship
+     * end that is not in the batch.  The instance from the local metadata collection is ignored.
+     *
+     * @throws Exception test failure
+     */
+    @Test
+    public void testBatchIsSaved() throws Exception
+    {
+        EntityDetail entity1       = this.getEntity(remoteMetadataCollectionId);
+        EntityDetail entity2       = this.getEntity(remoteMetadataCollectionId);
+        EntityDetail proxyEntity   = this.getEntity(remoteMetadataCollectionId);
+        EntityDetail localEntity   = this.getEntity(localMetadataCollectionId);
+        Relationship relationship1 = this.getRelationship(entity1, entity2, remoteMetadataCollectionId);
+        Relationship relationship2 = this.getRelationship(entity2, proxyEntity, remoteMetadataCollectionId);
+
+        metadataCollection.saveInstanceReferenceCopies(userId, this.getGraph(List.of(entity1, entity2, localEntity),
+                                                                             List.of(relationship1, relationship2)));
+
+        assertNotNull(metadataCollection.isEntityKnown(userId, entity1.getGUID()));
+        assertNotNull(metadataCollection.isEntityKnown(userId, entity2.getGUID()));
+        assertNull(metadataCollection.isEntityKnown(userId, localEntity.getGUID()));
+        assertNull(metadataCollection.isEntityKnown(userId, proxyEntity.getGUID()));
+        assertTrue(this.isEntityStored(proxyEntity.getGUID()));
+        assertNotNull(metadataCollection.isRelationshipKnown(userId, relationship1.getGUID()));
+        assertNotNull(metadataCollection.isRelationshipKnown(userId, relationship2.getGUID()));
+    }
+
+
+    /**
+     * The batch lookups return the stored versions of the entities and relationships, and omit the instances
+     * that are not stored or are only stored as proxies.
+     *
+     * @throws Exception test failure
+     */
+    @Test
+    public void testKnownInstances() throws Exception
+    {
+        EntityDetail entity       = this.getEntity(remoteMetadataCollectionId);
+        EntityDetail proxyEntity  = this.getEntity(remoteMetadataCollectionId);
+        EntityDetail newEntity    = this.getEntity(remoteMetadataCollectionId);
+        Relationship relationship = this.getRelationship(entity, proxyEntity, remoteMetadataCollectionId);
+
+        OMRSReferenceCopyBatchStore batchStore = (OMRSReferenceCopyBatchStore) metadataCollection;
+
+        batchStore.saveReferenceCopyBatch(userId, this.getGraph(List.of(entity), List.of(relationship)));
+
+        Map<String, EntityDetail> knownEntities = batchStore.getKnownEntities(userId, List.of(entity.getGUID(),
+                                                                                              proxyEntity.getGUID(),
+                                                                                              newEntity.getGUID()));
+        Map<String, Relationship> knownRelationships = batchStore.getKnownRelationships(userId, List.of(relationship.getGUID(),
+                                                                                                        UUID.randomUUID().toString()));
+
+        assertEquals(knownEntities.size(), 1);
+        assertTrue(knownEntities.containsKey(entity.getGUID()));
+        assertEquals(knownEntities.get(entity.getGUID()).getVersion(), 1L);
+        assertEquals(knownRelationships.size(), 1);
+        assertTrue(knownRelationships.containsKey(relationship.getGUID()));
+    }
+
+
+    /**
+     * An entity that is already stored from another metadata collection is rejected, and the entities written
+     * earlier in the same batch are rolled back with it.
+     *
+     * @throws Exception test failure
+     */
+    @Test
+    public void testConflictingEntityRollsBackBatch() throws Exception
+    {
+        EntityDetail storedEntity = this.getEntity(otherMetadataCollectionId);
+
+        metadataCollection.saveInstanceReferenceCopies(userId, this.getGraph(List.of(storedEntity), null));
+
+        EntityDetail newEntity         = this.getEntity(remoteMetadataCollectionId);
+        EntityDetail conflictingEntity = new EntityDetail(storedEntity);
+
+        conflictingEntity.setMetadataCollectionId(remoteMetadataCollectionId);
+
+        try
+        {
+            metadataCollection.saveInstanceReferenceCopies(userId, this.getGraph(List.of(newEntity, conflictingEntity), null));
+            fail("Conflicting entity not rejected");
+        }
+        catch (InvalidParameterException error)
+        {
+            assertNull(metadataCollection.isEntityKnown(userId, newEntity.getGUID()));
+            assertEquals(metadataCollection.isEntityKnown(userId, storedEntity.getGUID()).getMetadataCollectionId(),
+                         otherMetadataCollectionId);
+        }
+    }
+
+
+    /**
+     * A relationship that is already stored from another metadata collection is rejected, and the entities
+     * and proxies written earlier in the same batch are rolled back with it.
+     *
+     * @throws Exception test failure
+     */
+    @Test
+    public void testConflictingRelationshipRollsBackBatch() throws Exception
+    {
+        EntityDetail storedEntity1      = this.getEntity(otherMetadataCollectionId);
+        EntityDetail storedEntity2      = this.getEntity(otherMetadataCollectionId);
+        Relationship storedRelationship = this.getRelationship(storedEntity1, storedEntity2, otherMetadataCollectionId);
+
+        metadataCollection.saveInstanceReferenceCopies(userId, this.getGraph(List.of(storedEntity1, storedEntity2),
+                                                                             List.of(storedRelationship)));
+
+        EntityDetail entity1      = this.getEntity(remoteMetadataCollectionId);
+        EntityDetail entity2      = this.getEntity(remoteMetadataCollectionId);
+        EntityDetail proxyEntity  = this.getEntity(remoteMetadataCollectionId);
+        Relationship relationship = this.getRelationship(entity1, proxyEntity, remoteMetadataCollectionId);
+        Relationship conflicting  = new Relationship(storedRelationship);
+
+        conflicting.setMetadataCollectionId(remoteMetadataCollectionId);
+
+        try
+        {
+            metadataCollection.saveInstanceReferenceCopies(userId, this.getGraph(List.of(entity1, entity2),
+                                                                                 List.of(relationship, conflicting)));
+            fail("Conflicting relationship not rejected");
+        }
+        catch (InvalidParameterException error)
+        {
+            assertNull(metadataCollection.isEntityKnown(userId, entity1.getGUID()));
+            assertNull(metadataCollection.isEntityKnown(userId, entity2.getGUID()));
+            assertFalse(this.isEntityStored(proxyEntity.getGUID()));
+            assertNull(metadataCollection.isRelationshipKnown(userId, relationship.getGUID()));
+            assertEquals(metadataCollection.isRelationshipKnown(userId, storedRelationship.getGUID()).getMetadataCollectionId(),
+                         otherMetadataCollectionId);
+        }
+    }
+
+
+    /**
+     * An instance that the graph mapper cannot store fails the batch with a repository error, and the
+     * instances written earlier in the same batch are rolled back.  The batch store interface does not
+     * validate the instances, so the failure comes from the graph itself.
+     *
+     * @throws Exception test failure
+     */
+    @Test
+    public void testUnmappableInstanceRollsBackBatch() throws Exception
+    {
+        EntityDetail entity1       = this.getEntity(remoteMetadataCollectionId);
+        EntityDetail entity2       = this.getEntity(remoteMetadataCollectionId);
+        EntityDetail invalidEntity = this.getEntity(remoteMetadataCollectionId);
+
+        invalidEntity.setMetadataCollectionId(null);
+
+        OMRSReferenceCopyBatchStore batchStore = (OMRSReferenceCopyBatchStore) metadataCollection;
+
+        try
+        {
+            batchStore.saveReferenceCopyBatch(userId, this.getGraph(List.of(entity1, entity2, invalidEntity), null));
+            fail("Invalid entity not rejected");
+        }
+        catch (RepositoryErrorException error)
+        {
+            assertTrue(batchStore.getKnownEntities(userId, List.of(entity1.getGUID(),
+                                                                   entity2.getGUID(),
+                                                                   invalidEntity.getGUID())).isEmpty());
+        }
+    }
+
+
+    /**
+     * Return whether an entity is stored, either as a reference copy or as a proxy.
+     *
+     * @param entityGUID unique identifier of the entity
+     * @return boolean
+     * @throws Exception unable to query the repository
+     */
+    private boolean isEntityStored(String entityGUID) throws Exception
+    {
+        try
+        {
+            return metadataCollection.getEntitySummary(userId, entityGUID) != null;
+        }
+        catch (EntityNotKnownException error)
+        {
+            return false;
+        }
+    }
+
+
+    /**
+     * Fill in the common properties of a type definition.
+     *
+     * @param typeDef type definition to fill in
+     * @param typeName name of the type
+     */
+    private void setUpTypeDef(TypeDef typeDef,
+                              String  typeName)
+    {
+        typeDef.setName(typeName);
+        typeDef.setVersion(1);
+        typeDef.setVersionName("1.0");
+        typeDef.setGUID(UUID.randomUUID().toString());
+        typeDef.setValidInstanceStatusList(List.of(InstanceStatus.ACTIVE, InstanceStatus.DELETED));
+    }
+
+
+    /**
+     * Return the instance type for a type definition.
+     *
+     * @param typeDef type definition
+     * @return instance type
+     */
+    private InstanceType getInstanceType(TypeDef typeDef)
+    {
+        InstanceType instanceType = new InstanceType();
+
+        instanceType.setTypeDefCategory(typeDef.getCategory());
+        instanceType.setTypeDefGUID(typeDef.getGUID());
+        instanceType.setTypeDefName(typeDef.getName());
+        instanceType.setTypeDefVersion(typeDef.getVersion());
+
+        return instanceType;
+    }
+
+
+    /**
+     * Fill in the header of an instance.
+     *
+     * @param instance instance to fill in
+     * @param metadataCollectionId home metadata collection
+     */
+    private void setUpHeader(InstanceAuditHeader instance,
+                             String              metadataCollectionId)
+    {
+        instance.setHeaderVersion(InstanceAuditHeader.CURRENT_AUDIT_HEADER_VERSION);
+        instance.setInstanceProvenanceType(InstanceProvenanceType.LOCAL_COHORT);
+        instance.setMetadataCollectionId(metadataCollectionId);
+        instance.setStatus(InstanceStatus.ACTIVE);
+        instance.setCreatedBy(userId);
+        instance.setCreateTime(new Date(1700000000000L));
+        instance.setVersion(1L);
+    }
+
+
+    /**
+     * Create an entity.
+     *
+     * @param metadataCollectionId home metadata collection
+     * @return entity
+     */
+    private EntityDetail getEntity(String metadataCollectionId)
+    {
+        EntityDetail entity = new EntityDetail();
+
+        this.setUpHeader(entity, metadataCollectionId);
+        entity.setGUID(UUID.randomUUID().toString());
+        entity.setType(this.getInstanceType(entityDef));
+
+        return entity;
+    }
+
+
+    /**
+     * Create a relationship between two entities.
+     *
+     * @param entity1 entity at end 1
+     * @param entity2 entity at end 2
+     * @param metadataCollectionId home metadata collection
+     * @return relationship
+     */
+    private Relationship getRelationship(EntityDetail entity1,
+                                         EntityDetail entity2,
+                                         String       metadataCollectionId)
+    {
+        Relationship relationship = new Relationship();
+
+        this.setUpHeader(relationship, metadataCollectionId);
+        relationship.setGUID(UUID.randomUUID().toString());
+        relationship.setType(this.getInstanceType(relationshipDef));
+        relationship.setEntityOneProxy(new EntityProxy(entity1));
+        relationship.setEntityTwoProxy(new EntityProxy(entity2));
+
+        return relationship;
+    }
+
+
+    /**
+     * Pack entities and relationships into an instance graph.
+     *
+     * @param entities entities
+     * @param relationships relationships
+     * @return instance graph
+     */
+    private InstanceGraph getGraph(List<EntityDetail> entities,
+                                   List<Relationship> relationships)
+    {
+        InstanceGraph instanceGraph = new InstanceGraph();
+
+        instanceGraph.setEntities(entities);
+        instanceGraph.setRelationships(relationships);
+
+        return instanceGraph;
+    }
+}
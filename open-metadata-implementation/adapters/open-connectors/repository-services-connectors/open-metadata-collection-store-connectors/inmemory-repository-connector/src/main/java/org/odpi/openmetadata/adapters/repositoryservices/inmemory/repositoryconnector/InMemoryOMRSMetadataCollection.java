@@ -3,6 +3,7 @@
 package org.odpi.openmetadata.adapters.repositoryservices.inmemory.repositoryconnector;
 
 import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.OMRSDynamicTypeMetadataCollectionBase;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.OMRSReferenceCopyBatchStore;
 import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.HistorySequencingOrder;
 import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.MatchCriteria;
 import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.SequencingOrder;
@@ -21,7 +22,7 @@ import java.util.*;
  * The InMemoryOMRSMetadataCollection represents a metadata repository that supports an in-memory repository.
  * Requests to this metadata collection work with the hashmaps used to manage metadata types and instances.
  */
-public class InMemoryOMRSMetadataCollection extends OMRSDynamicTypeMetadataCollectionBase
+public class InMemoryOMRSMetadataCollection extends OMRSDynamicTypeMetadataCollectionBase implements OMRSReferenceCopyBatchStore
 {
     private final InMemoryOMRSMetadataStore  repositoryStore;
 
@@ -4417,4 +4418,197 @@ public class InMemoryOMRSMetadataCollection extends OMRSDynamicTypeMetadataColle
          */
         repositoryStore.purgeRelationshipFromStore(relationshipGUID);
     }
+
+
+    /**
+     * Save the entities and relationships supplied in the instance graph as reference copies.  Any instances
+     * from the home metadata collection are ignored.  All the instances are validated before any of them
+     * are saved, and the whole graph is then added to the store under a single lock.
+     *
+     * @param userId unique identifier for requesting user.
+     * @param instances instances to save.
+     * @throws InvalidParameterException one of the instances is invalid.
+     * @throws RepositoryErrorException there is a problem communicating with the metadata repository where
+     *                                    the metadata collection is stored.
+     * @throws UserNotAuthorizedException the userId is not permitted to perform this operation.
+     */
+    @Override
+    public void saveInstanceReferenceCopies(String        userId,
+                                            InstanceGraph instances) throws InvalidParameterException,
+                                                                            RepositoryErrorException,
+                                                                            UserNotAuthorizedException
+    {
+        final String methodName = "saveInstanceReferenceCopies";
+        final String entityParameterName = "entity";
+        final String relationshipParameterName = "relationship";
+
+        /*
+         * Validate parameters
+         */
+        super.basicRequestValidation(userId, methodName);
+
+        if (instances == null)
+        {
+            return;
+        }
+
+        List<EntityDetail> entities      = new ArrayList<>();
+        List<Relationship> relationships = new ArrayList<>();
+
+        if (instances.getEntities() != null)
+        {
+            for (EntityDetail entity : instances.getEntities())
+            {
+                if ((entity != null) && (! metadataCollectionId.equals(entity.getMetadataCollectionId())))
+                {
+                    super.referenceInstanceParameterValidation(userId, entity, entityParameterName, methodName);
+                    entities.add(entity);
+                }
+            }
+        }
+
+        if (instances.getRelationships() != null)
+        {
+            for (Relationship relationship : instances.getRelationships())
+            {
+                if ((relationship != null) && (! metadataCollectionId.equals(relationship.getMetadataCollectionId())))
+                {
+                    super.referenceInstanceParameterValidation(userId, relationship, relationshipParameterName, methodName);
+                    relationships.add(relationship);
+                }
+            }
+        }
+
+        /*
+         * Save instances
+         */
+        repositoryStore.addReferenceCopiesToStore(entities, relationships);
+    }
+
+
+    /* ======================================================================
+     * OMRSReferenceCopyBatchStore
+     */
+
+
+    /**
+     * Validate that a parameter passed to one of the batch methods is not null.
+     *
+     * @param parameterValue value passed
+     * @param parameterName name of the parameter
+     * @param methodName calling method
+     * @throws InvalidParameterException the parameter is null
+     */
+    private void validateBatchParameter(Object parameterValue,
+                                        String parameterName,
+                                        String methodName) throws InvalidParameterException
+    {
+        if (parameterValue == null)
+        {
+            throw new InvalidParameterException(OMRSErrorCode.NULL_PARAMETER.getMessageDefinition(methodName),
+                                                this.getClass().getName(),
+                                                methodName,
+                                                parameterName);
+        }
+    }
+
+
+    /**
+     * Return the stored versions of the requested entities.  Entities that are not stored in the metadata
+     * collection are omitted from the result.  Entities in DELETED state are returned.
+     *
+     * @param userId unique identifier for requesting user.
+     * @param entityGUIDs unique identifiers of the entities to look up.
+     * @return map of entity unique identifier to stored entity
+     * @throws InvalidParameterException the list of guids is null.
+     * @throws RepositoryErrorException there is a problem communicating with the metadata repository where
+     *                                  the metadata collection is stored.
+     * @throws UserNotAuthorizedException the userId is not permitted to perform this operation.
+     */
+    @Override
+    public Map<String, EntityDetail> getKnownEntities(String       userId,
+                                                      List<String> entityGUIDs) throws InvalidParameterException,
+                                                                                       RepositoryErrorException,
+                                                                                       UserNotAuthorizedException
+    {
+        final String methodName = "getKnownEntities";
+        final String guidsParameterName = "entityGUIDs";
+
+        /*
+         * Validate parameters
+         */
+        super.basicRequestValidation(userId, methodName);
+        this.validateBatchParameter(entityGUIDs, guidsParameterName, methodName);
+
+        /*
+         * Perform operation
+         */
+        return repositoryStore.getEntities(entityGUIDs);
+    }
+
+
+    /**
+     * Return the stored versions of the requested relationships.  Relationships that are not stored in the
+     * metadata collection are omitted from the result.  Relationships in DELETED state are returned.
+     *
+     * @param userId unique identifier for requesting user.
+     * @param relationshipGUIDs unique identifiers of the relationships to look up.
+     * @return map of relationship unique identifier to stored relationship
+     * @throws InvalidParameterException the list of guids is null.
+     * @throws RepositoryErrorException there is a problem communicating with the metadata repository where
+     *                                  the metadata collection is stored.
+     * @throws UserNotAuthorizedException the userId is not permitted to perform this operation.
+     */
+    @Override
+    public Map<String, Relationship> getKnownRelationships(String       userId,
+                                                           List<String> relationshipGUIDs) throws InvalidParameterException,
+                                                                                                  RepositoryErrorException,
+                                                                                                  UserNotAuthorizedException
+    {
+        final String methodName = "getKnownRelationships";
+        final String guidsParameterName = "relationshipGUIDs";
+
+        /*
+         * Validate parameters
+         */
+        super.basicRequestValidation(userId, methodName);
+        this.validateBatchParameter(relationshipGUIDs, guidsParameterName, methodName);
+
+        /*
+         * Perform operation
+         */
+        return repositoryStore.getRelationships(relationshipGUIDs);
+    }
+
+
+    /**
+     * Save a batch of validated reference copies.  The whole batch is added to the store under a single lock.
+     *
+     * @param userId unique identifier for requesting user.
+     * @param instances entities and relationships to save.
+     * @throws InvalidParameterException the instance graph is null.
+     * @throws RepositoryErrorException there is a problem communicating with the metadata repository where
+     *                                    the metadata collection is stored.
+     * @throws UserNotAuthorizedException the userId is not permitted to perform this operation.
+     */
+    @Override
+    public void saveReferenceCopyBatch(String        userId,
+                                       InstanceGraph instances) throws InvalidParameterException,
+                                                                       RepositoryErrorException,
+                                                                       UserNotAuthorizedException
+    {
+        final String methodName = "saveReferenceCopyBatch";
+        final String instancesParameterName = "instances";
+
+        /*
+         * Validate parameters
+         */
+        super.basicRequestValidation(userId, methodName);
+        this.validateBatchParameter(instances, instancesParameterName, methodName);
+
+        /*
+         * Save instances
+         */
+        repositoryStore.addReferenceCopiesToStore(instances.getEntities(), instances.getRelationships());
+    }
 }
@@ -358,6 +358,85 @@ class InMemoryOMRSMetadataStore
     }
 
 
+    /**
+     * Return the entities identified by the guids.  Unknown guids are omitted from the result.
+     *
+     * @param guids - unique identifiers for the entities
+     * @return map of guid to entity object
+     */
+    synchronized Map<String, EntityDetail> getEntities(List<String> guids)
+    {
+        Map<String, EntityDetail> entities = new HashMap<>();
+
+        for (String guid : guids)
+        {
+            StoredEntity storedEntity = entityStore.get(guid);
+
+            if ((storedEntity != null) && (storedEntity.getEntity() != null))
+            {
+                entities.put(guid, storedEntity.getEntity());
+            }
+        }
+
+        return entities;
+    }
+
+
+    /**
+     * Return the relationships identified by the guids.  Unknown guids are omitted from the result.
+     *
+     * @param guids - unique identifiers for the relationships
+     * @return map of guid to relationship object
+     */
+    synchronized Map<String, Relationship> getRelationships(List<String> guids)
+    {
+        Map<String, Relationship> relationships = new HashMap<>();
+
+        for (String guid : guids)
+        {
+            StoredRelationship storedRelationship = relationshipStore.get(guid);
+
+            if ((storedRelationship != null) && (storedRelationship.getRelationship() != null))
+            {
+                relationships.put(guid, storedRelationship.getRelationship());
+            }
+        }
+
+        return relationships;
+    }
+
+
+    /**
+     * Save a batch of reference copies to the store while holding the store's lock once.  The entities are
+     * saved first so that the relationships can link to entities in the same batch.
+     *
+     * @param entities - entity objects to add
+     * @param relationships - relationship objects to add
+     * @throws RepositoryErrorException unable to create proxy
+     */
+    synchronized void addReferenceCopiesToStore(List<EntityDetail> entities,
+                                                List<Relationship> relationships) throws RepositoryErrorException
+    {
+        if (entities != null)
+        {
+            for (EntityDetail entityDetail : entities)
+            {
+                this.addEntityToStore(entityDetail);
+            }
+        }
+
+        if (relationships != null)
+        {
+            for (Relationship relationship : relationships)
+            {
+                this.addEntityProxyToStore(relationship.getEntityOneProxy());
+                this.addEntityProxyToStore(relationship.getEntityTwoProxy());
+                this.addRelationshipToStore(relationship);
+            }
+        }
+    }
+
+
     /**
      * Maintain a history of entities as they are stored into the entity store to ensure old version can be restored.
      * The history is maintained with the latest changes first in the list.
@@ -0,0 +1,278 @@
+/* SPDX-License-Identifier: Apache-2.0 */
+/* Copyright Contributors to the ODPi Egeria project. */
+package org.odpi.openmetadata.adapters.repositoryservices.inmemory.repositoryconnector;
+
+import org.odpi.openmetadata.frameworks.auditlog.ComponentDevelopmentStatus;
+import org.odpi.openmetadata.repositoryservices.auditlog.OMRSAuditLog;
+import org.odpi.openmetadata.repositoryservices.auditlog.OMRSAuditLogDestination;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.OMRSMetadataCollection;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.instances.EntityDetail;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.instances.EntityProxy;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.instances.InstanceAuditHeader;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.instances.InstanceGraph;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.instances.InstanceProvenanceType;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.instances.InstanceStatus;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.instances.InstanceType;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.instances.Relationship;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.typedefs.EntityDef;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.typedefs.RelationshipDef;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.typedefs.TypeDef;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.typedefs.TypeDefCategory;
+import org.odpi.openmetadata.repositoryservices.ffdc.exception.OMRSCheckedExceptionBase;
+import org.odpi.openmetadata.repositoryservices.localrepository.repositorycontentmanager.OMRSRepositoryContentHelper;
+import org.odpi.openmetadata.repositoryservices.localrepository.repositorycontentmanager.OMRSRepositoryContentManager;
+import org.odpi.openmetadata.repositoryservices.localrepository.repositorycontentmanager.OMRSRepositoryContentValidator;
+import org.testng.annotations.BeforeMethod;
+import org.testng.annotations.Test;
+
+import java.util.Date;
+import java.util.List;
+import java.util.UUID;
+
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertNotNull;
+import static org.testng.Assert.assertNull;
+import static org.testng.Assert.fail;
+
+
+/**
+ * Verify that the in-memory repository saves a batch of reference copies in one call, ignores the instances
+ * from its own metadata collection and saves nothing if any instance in the batch is invalid.
+ */
+public class TestInMemoryReferenceCopies
+{
+    private static final String userId                     = "testUser";
+    private static final String localMetadataCollectionId  = "local-collection";
+    private static final String remoteMetadataCollectionId = "remote-collection";
+
+    private EntityDef              entityDef;
+    private RelationshipDef        relationshipDef;
+    private OMRSMetadataCollection metadataCollection;
+
+
+    /**
+     * Start an in-memory repository that knows about one entity type and one relationship type.
+     *
+     * @throws Exception unable to start the connector
+     */
+    @BeforeMethod
+    public void setUp() throws Exception
+    {
+        OMRSAuditLog auditLog = new OMRSAuditLog(new OMRSAuditLogDestination("testServer", "testType", "testOrganization", null),
+                                                 1,
+                                                 ComponentDevelopmentStatus.IN_DEVELOPMENT,
+                                                 "testComponent",
+                                                 "test",
+                                                 null);
+
+        OMRSRepositoryContentManager contentManager = new OMRSRepositoryContentManager(userId, auditLog);
+
+        entityDef = new EntityDef();
+        this.setUpTypeDef(entityDef, "TestEntity");
+        contentManager.addTypeDef("test", entityDef);
+
+        relationshipDef = new RelationshipDef();
+        this.setUpTypeDef(relationshipDef, "TestRelationship");
+        contentManager.addTypeDef("test", relationshipDef);
+
+        InMemoryOMRSRepositoryConnector connector = new InMemoryOMRSRepositoryConnector();
+
+        connector.setServerName("testServer");
+        connector.setAuditLog(auditLog);
+        connector.setRepositoryHelper(new OMRSRepositoryContentHelper(contentManager));
+        connector.setRepositoryValidator(new OMRSRepositoryContentValidator(contentManager));
+        connector.setMetadataCollectionId(localMetadataCollectionId);
+        connector.start();
+
+        metadataCollection = connector.getMetadataCollection();
+    }
+
+
+    /**
+     * The remote entities and relationships in the batch are saved, along with proxies for the relationship
+     * ends.  The instance from the local metadata collection is ignored.
+     *
+     * @throws Exception test failure
+     */
+    @Test
+    public void testBatchIsSaved() throws Exception
+    {
+        EntityDetail entity1      = this.getEntity(remoteMetadataCollectionId);
+        EntityDetail entity2      = this.getEntity(remoteMetadataCollectionId);
+        EntityDetail localEntity  = this.getEntity(localMetadataCollectionId);
+        Relationship relationship = this.getRelationship(entity1, entity2);
+
+        metadataCollection.saveInstanceReferenceCopies(userId, this.getGraph(List.of(entity1, entity2, localEntity), List.of(relationship)));
+
+        assertNotNull(metadataCollection.isEntityKnown(userId, entity1.getGUID()));
+        assertNotNull(metadataCollection.isEntityKnown(userId, entity2.getGUID()));
+        assertNull(metadataCollection.isEntityKnown(userId, localEntity.getGUID()));
+        assertNotNull(metadataCollection.isRelationshipKnown(userId, relationship.getGUID()));
+    }
+
+
+    /**
+     * A newer version of a stored entity replaces it.
+     *
+     * @throws Exception test failure
+     */
+    @Test
+    public void testNewerVersionReplacesStoredEntity() throws Exception
+    {
+        EntityDetail entity = this.getEntity(remoteMetadataCollectionId);
+
+        metadataCollection.saveInstanceReferenceCopies(userId, this.getGraph(List.of(entity), null));
+
+        EntityDetail newerVersion = new EntityDetail(entity);
+
+        newerVersion.setVersion(2L);
+        newerVersion.setUpdateTime(new Date());
+
+        metadataCollection.saveInstanceReferenceCopies(userId, this.getGraph(List.of(newerVersion), null));
+
+        assertEquals(metadataCollection.isEntityKnown(userId, entity.getGUID()).getVersion(), 2L);
+    }
+
+
+    /**
+     * All the instances are validated before any of them are saved, so an invalid instance at the end of the
+     * batch means that none of the batch is saved.
+     *
+     * @throws Exception test failure
+     */
+    @Test
+    public void testInvalidInstanceSavesNothing() throws Exception
+    {
+        EntityDetail validEntity   = this.getEntity(remoteMetadataCollectionId);
+        EntityDetail invalidEntity = this.getEntity(remoteMetadataCollectionId);
+        InstanceType unknownType   = invalidEntity.getType();
+
+        unknownType.setTypeDefGUID(UUID.randomUUID().toString());
+        unknownType.setTypeDefName("UnknownEntity");
+        invalidEntity.setType(unknownType);
+
+        try
+        {
+            metadataCollection.saveInstanceReferenceCopies(userId, this.getGraph(List.of(validEntity, invalidEntity), null));
+            fail("Invalid instance not rejected");
+        }
+        catch (OMRSCheckedExceptionBase error)
+        {
+            assertNull(metadataCollection.isEntityKnown(userId, validEntity.getGUID()));
+        }
+    }
+
+
+    /**
+     * Fill in the common properties of a type definition.
+     *
+     * @param typeDef type definition to fill in
+     * @param typeName name of the type
+     */
+    private void setUpTypeDef(TypeDef typeDef,
+                              String  typeName)
+    {
+        typeDef.setName(typeName);
+        typeDef.setVersion(1);
+        typeDef.setVersionName("1.0");
+        typeDef.setGUID(UUID.randomUUID().toString());
+        typeDef.setValidInstanceStatusList(List.of(InstanceStatus.ACTIVE, InstanceStatus.DELETED));
+    }
+
+
+    /**
+     * Return the instance type for a type definition.
+     *
+     * @param typeDef type definition
+     * @return instance type
+     */
+    private InstanceType getInstanceType(TypeDef typeDef)
+    {
+        InstanceType instanceType = new InstanceType();
+
+        instanceType.setTypeDefCategory(typeDef.getCategory());
+        instanceType.setTypeDefGUID(typeDef.getGUID());
+        instanceType.setTypeDefName(typeDef.getName());
+        instanceType.setTypeDefVersion(typeDef.getVersion());
+
+        return instanceType;
+    }
+
+
+    /**
+     * Fill in the header of an instance.
+     *
+     * @param instance instance to fill in
+     * @param metadataCollectionId home metadata collection
+     */
+    private void setUpHeader(InstanceAuditHeader instance,
+                             String              metadataCollectionId)
+    {
+        instance.setHeaderVersion(InstanceAuditHeader.CURRENT_AUDIT_HEADER_VERSION);
+        instance.setInstanceProvenanceType(InstanceProvenanceType.LOCAL_COHORT);
+        instance.setMetadataCollectionId(metadataCollectionId);
+        instance.setStatus(InstanceStatus.ACTIVE);
+        instance.setCreatedBy(userId);
+        instance.setCreateTime(new Date(1700000000000L));
+        instance.setVersion(1L);
+    }
+
+
+    /**
+     * Create an entity.
+     *
+     * @param metadataCollectionId home metadata collection
+     * @return entity
+     */
+    private EntityDetail getEntity(String metadataCollectionId)
+    {
+        EntityDetail entity = new EntityDetail();
+
+        this.setUpHeader(entity, metadataCollectionId);
+        entity.setGUID(UUID.randomUUID().toString());
+        entity.setType(this.getInstanceType(entityDef));
+
+        return entity;
+    }
+
+
+    /**
+     * Create a relationship between two entities.
+     *
+     * @param entity1 entity at end 1
+     * @param entity2 entity at end 2
+     * @return relationship
+     */
+    private Relationship getRelationship(EntityDetail entity1,
+                                         EntityDetail entity2)
+    {
+        Relationship relationship = new Relationship();
+
+        this.setUpHeader(relationship, remoteMetadataCollectionId);
+        relationship.setGUID(UUID.randomUUID().toString());
+        relationship.setType(this.getInstanceType(relationshipDef));
+        relationship.setEntityOneProxy(new EntityProxy(entity1));
+        relationship.setEntityTwoProxy(new EntityProxy(entity2));
+
+        return relationship;
+    }
+
+
+    /**
+     * Pack entities and relationships into an instance graph.
+     *
+     * @param entities entities
+     * @param relationships relationships
+     * @return instance graph
+     */
+    private InstanceGraph getGraph(List<EntityDetail> entities,
+                                   List<Relationship> relationships)
+    {
+        InstanceGraph instanceGraph = new InstanceGraph();
+
+        instanceGraph.setEntities(entities);
+        instanceGraph.setRelationships(relationships);
+
+        return instanceGraph;
+    }
+}
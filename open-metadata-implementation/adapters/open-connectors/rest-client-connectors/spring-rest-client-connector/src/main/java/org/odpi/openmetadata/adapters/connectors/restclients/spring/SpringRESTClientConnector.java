@@ -17,12 +17,20 @@ import org.springframework.core.ParameterizedTypeReference;
 import org.springframework.http.HttpEntity;
 import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpMethod;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
+import org.springframework.http.client.ClientHttpRequest;
+import org.springframework.http.client.ClientHttpResponse;
 import org.springframework.http.converter.HttpMessageConverter;
 import org.springframework.http.converter.StringHttpMessageConverter;
+import org.springframework.http.converter.smile.MappingJackson2SmileHttpMessageConverter;
 import org.springframework.web.client.RestTemplate;
 import org.springframework.web.util.DefaultUriBuilderFactory;
 
+import java.io.FilterInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.URI;
 import java.nio.charset.StandardCharsets;
 import java.security.KeyManagementException;
 import java.security.NoSuchAlgorithmException;
@@ -43,6 +51,15 @@ public class SpringRESTClientConnector extends RESTClientConnector
     private String       serverName               = null;
     private String       serverPlatformURLRoot    = null;
     private HttpHeaders  basicAuthorizationHeader = null;
+    private boolean      binaryEncoding           = false;
+
+    /*
+     * Smile is preferred but JSON is still acceptable so that servers without the smile message converter
+     * continue to respond normally.
+     */
+    private static final MediaType NDJSON_MEDIA_TYPE = MediaType.parseMediaType("application/x-ndjson");
+
+    private static final List<MediaType> binaryAcceptTypes = MediaType.parseMediaTypes("application/x-jackson-smile, application/json;q=0.9");
 
     private final MessageFormatter messageFormatter = new MessageFormatter();
 
@@ -79,6 +96,10 @@ public class SpringRESTClientConnector extends RESTClientConnector
         List<HttpMessageConverter<?>> converters = restTemplate.getMessageConverters();
         converters.removeIf(httpMessageConverter -> httpMessageConverter instanceof StringHttpMessageConverter);
         converters.add(0, new StringHttpMessageConverter(StandardCharsets.UTF_8));
+
+        /* Able to decode smile responses - only requested if binary encoding is enabled for the connection */
+        converters.removeIf(httpMessageConverter -> httpMessageConverter instanceof MappingJackson2SmileHttpMessageConverter);
+        converters.add(new MappingJackson2SmileHttpMessageConverter());
     }
 
     /**
@@ -121,6 +142,43 @@ public class SpringRESTClientConnector extends RESTClientConnector
             log.debug("Using no authentication to call server {} on platform {} .", this.serverName, this.serverPlatformURLRoot );
 
         }
+
+        this.binaryEncoding = this.isBinaryEncodingRequested(connectionProperties.getConfigurationProperties());
+    }
+
+
+    /**
+     * Determine whether the connection has requested smile encoding for the responses.  The configuration
+     * property takes precedence over the platform-wide system property.
+     *
+     * @param configurationProperties configuration properties from the connection
+     * @return boolean flag
+     */
+    private boolean isBinaryEncodingRequested(Map<String, Object> configurationProperties)
+    {
+        Object encoding = null;
+
+        if (configurationProperties != null)
+        {
+            encoding = configurationProperties.get(SpringRESTClientConnectorProvider.BINARY_ENCODING_PROPERTY);
+        }
+
+        if (encoding == null)
+        {
+            encoding = System.getProperty(SpringRESTClientConnectorProvider.BINARY_ENCODING_SYSTEM_PROPERTY);
+        }
+
+        if (encoding != null)
+        {
+            if (SpringRESTClientConnectorProvider.SMILE_ENCODING.equalsIgnoreCase(encoding.toString()))
+            {
+                log.debug("Requesting smile encoded responses from server {} on platform {}.", this.serverName, this.serverPlatformURLRoot);
+
+                return true;
+            }
+        }
+
+        return false;
     }
 
 
@@ -221,6 +279,105 @@ public class SpringRESTClientConnector extends RESTClientConnector
     }
 
 
+    /**
+     * Issue a GET REST call that only returns the response object if it has changed since it was last retrieved.
+     * The validators map holds the entity tag (ETag) and Last-Modified values returned with the previous response.
+     * They are sent as If-None-Match and If-Modified-Since headers.  If the server replies that the resource is not
+     * modified, null is returned.  Otherwise, the validators map is replaced with the values from the new response.
+     *
+     * @param <T> type of the return object
+     * @param methodName  name of the method being called.
+     * @param returnClass class of the response object.
+     * @param urlTemplate template of the URL for the REST API call with place-holders for the parameters.
+     * @param validators ETag and Last-Modified values from the previous response (updated by this call)
+     *
+     * @return response object or null if unchanged
+     * @throws RESTServerException something went wrong with the REST call stack.
+     */
+    public  <T> T callConditionalGetRESTCallNoParams(String              methodName,
+                                                     Class<T>            returnClass,
+                                                     String              urlTemplate,
+                                                     Map<String, String> validators) throws RESTServerException
+    {
+        try
+        {
+            log.debug("Calling {} with URL template {}, validators {} and no parameters.",  methodName, urlTemplate, validators);
+
+            HttpHeaders headers = getHttpHeaders();
+
+            if (validators.get(HttpHeaders.ETAG) != null)
+            {
+                headers.setIfNoneMatch(validators.get(HttpHeaders.ETAG));
+            }
+
+            if (validators.get(HttpHeaders.LAST_MODIFIED) != null)
+            {
+                headers.set(HttpHeaders.IF_MODIFIED_SINCE, validators.get(HttpHeaders.LAST_MODIFIED));
+            }
+
+            HttpEntity<?> request = new HttpEntity<>(headers);
+
+            ResponseEntity<T> responseEntity = restTemplate.exchange(urlTemplate, HttpMethod.GET, request, returnClass);
+
+            if (responseEntity.getStatusCode().value() == 304)
+            {
+                log.debug("Returning from {} with resource not modified.", methodName);
+
+                return null;
+            }
+
+            validators.clear();
+
+            if (responseEntity.getHeaders().getETag() != null)
+            {
+                validators.put(HttpHeaders.ETAG, responseEntity.getHeaders().getETag());
+            }
+
+            if (responseEntity.getHeaders().getFirst(HttpHeaders.LAST_MODIFIED) != null)
+            {
+                validators.put(HttpHeaders.LAST_MODIFIED, responseEntity.getHeaders().getFirst(HttpHeaders.LAST_MODIFIED));
+            }
+
+            T responseObject = responseEntity.getBody();
+
+            if (responseObject != null)
+            {
+                log.debug("Returning from {} with response object {}", methodName, responseObject);
+            }
+            else
+            {
+                log.debug("Returning from {} with no response object.", methodName);
+            }
+
+            return responseObject;
+        }
+        catch (Exception error)
+        {
+            log.debug("Exception {} with message {} occurred during REST call for {}.",
+                      error.getClass().getName(),
+                      error.getMessage(),
+                      methodName);
+
+            RESTClientConnectorErrorCode errorCode = RESTClientConnectorErrorCode.CLIENT_SIDE_REST_API_ERROR;
+            ExceptionMessageDefinition   messageDefinition = errorCode.getMessageDefinition(error.getClass().getName(),
+                                                                                            methodName,
+                                                                                            urlTemplate,
+                                                                                            serverName,
+                                                                                            serverPlatformURLRoot,
+                                                                                            error.getMessage());
+            String errorMessage = messageFormatter.getFormattedMessage(messageDefinition);
+
+            throw new RESTServerException(messageDefinition.getHttpErrorCode(),
+                                          this.getClass().getName(),
+                                          methodName,
+                                          errorMessage,
+                                          messageDefinition.getSystemAction(),
+                                          messageDefinition.getUserAction(),
+                                          error);
+        }
+    }
+
+
     /**
      * Issue a GET REST call that returns a response object.
      *
@@ -1232,6 +1389,105 @@ public class SpringRESTClientConnector extends RESTClientConnector
     }
 
 
+    /**
+     * Issue a POST REST call that returns a stream of newline-delimited JSON.  The response is not read by
+     * this method.  Instead, the caller reads the returned input stream at its own pace and must close it
+     * when it has finished so that the underlying connection is released.
+     *
+     * @param methodName  name of the method being called.
+     * @param urlTemplate  template of the URL for the REST API call with place-holders for the parameters.
+     * @param requestBody request body for the request.
+     * @param params  a list of parameters that are slotted into the url template.
+     *
+     * @return input stream for the response body
+     * @throws RESTServerException something went wrong with the REST call stack.
+     */
+    @SuppressWarnings(value = "unchecked")
+    public InputStream callPostStreamingRESTCall(String    methodName,
+                                                 String    urlTemplate,
+                                                 Object    requestBody,
+                                                 Object... params) throws RESTServerException
+    {
+        try
+        {
+            if (log.isDebugEnabled())
+            {
+                //avoid calling Arrays.toString if not debug level
+                log.debug("Calling {} with URL template {} and parameters {} for a streamed response.",
+                          methodName,
+                          urlTemplate,
+                          Arrays.toString(params));
+            }
+
+            URI               uri     = restTemplate.getUriTemplateHandler().expand(urlTemplate, params);
+            ClientHttpRequest request = restTemplate.getRequestFactory().createRequest(uri, HttpMethod.POST);
+
+            request.getHeaders().addAll(getHttpHeaders());
+            request.getHeaders().setAccept(List.of(NDJSON_MEDIA_TYPE));
+            request.getHeaders().setContentType(MediaType.APPLICATION_JSON);
+
+            if (requestBody != null)
+            {
+                for (HttpMessageConverter<?> converter : restTemplate.getMessageConverters())
+                {
+                    if (converter.canWrite(requestBody.getClass(), MediaType.APPLICATION_JSON))
+                    {
+                        ((HttpMessageConverter<Object>) converter).write(requestBody, MediaType.APPLICATION_JSON, request);
+                        break;
+                    }
+                }
+            }
+
+            ClientHttpResponse response = request.execute();
+
+            if (response.getStatusCode().isError())
+            {
+                String statusCode = response.getStatusCode().toString();
+
+                response.close();
+
+                throw new IllegalStateException("HTTP status " + statusCode);
+            }
+
+            log.debug("Returning from {} with streamed response.", methodName);
+
+            return new FilterInputStream(response.getBody())
+            {
+                @Override
+                public void close() throws IOException
+                {
+                    super.close();
+                    response.close();
+                }
+            };
+        }
+        catch (Exception error)
+        {
+            log.debug("Exception {} with message {} occurred during REST call for {}.",
+                      error.getClass().getName(),
+                      error.getMessage(),
+                      methodName);
+
+            RESTClientConnectorErrorCode errorCode = RESTClientConnectorErrorCode.CLIENT_SIDE_REST_API_ERROR;
+            ExceptionMessageDefinition   messageDefinition = errorCode.getMessageDefinition(error.getClass().getName(),
+                                                                                            methodName,
+                                                                                            urlTemplate,
+                                                                                            serverName,
+                                                                                            serverPlatformURLRoot,
+                                                                                            error.getMessage());
+            String errorMessage = messageFormatter.getFormattedMessage(messageDefinition);
+
+            throw new RESTServerException(messageDefinition.getHttpErrorCode(),
+                                          this.getClass().getName(),
+                                          methodName,
+                                          errorMessage,
+                                          messageDefinition.getSystemAction(),
+                                          messageDefinition.getUserAction(),
+                                          error);
+        }
+    }
+
+
     /**
      * Creates the http headers for the requests. It checks if there are headers saved in the thread local or
      * any basic authorisation headers and adds them to the list.
@@ -1257,6 +1513,11 @@ public class SpringRESTClientConnector extends RESTClientConnector
             headers.addAll(basicAuthorizationHeader);
         }
 
+        if ((binaryEncoding) && (headers.getAccept().isEmpty()))
+        {
+            headers.setAccept(binaryAcceptTypes);
+        }
+
         return headers;
     }
 }
@@ -6,6 +6,9 @@ import org.odpi.openmetadata.adapters.connectors.restclients.RESTClientConnector
 import org.odpi.openmetadata.frameworks.connectors.ConnectorProviderBase;
 import org.odpi.openmetadata.frameworks.connectors.properties.beans.ConnectorType;
 
+import java.util.ArrayList;
+import java.util.List;
+
 
 /**
  * SpringRESTClientConnectorProvider provides the connector provider for the SpringRESTClientConnector.
@@ -16,6 +19,23 @@ public class SpringRESTClientConnectorProvider extends RESTClientConnectorProvid
     static final String  connectorTypeName = "Spring REST Client Connector";
     static final String  connectorTypeDescription = "Connector that calls the REST API of a remote server using Spring.";
 
+    /**
+     * Configuration property that requests a binary encoding for the responses from the remote server.
+     * The only binary encoding supported is "smile".  JSON is used if this property is not set.
+     */
+    public static final String BINARY_ENCODING_PROPERTY = "binaryEncoding";
+
+    /**
+     * System property that sets the binary encoding for all connections that do not set the
+     * binaryEncoding configuration property.
+     */
+    public static final String BINARY_ENCODING_SYSTEM_PROPERTY = "rest.client.binary.encoding";
+
+    /**
+     * Value for the binary encoding properties that requests smile.
+     */
+    public static final String SMILE_ENCODING = "smile";
+
     /**
      * Constructor used to initialize the ConnectorProviderBase with the Java class name of the specific
      * REST Client Connector implementation.
@@ -34,6 +54,10 @@ public class SpringRESTClientConnectorProvider extends RESTClientConnectorProvid
         connectorType.setDescription(connectorTypeDescription);
         connectorType.setConnectorProviderClassName(this.getClass().getName());
 
+        List<String> recognizedConfigurationProperties = new ArrayList<>();
+        recognizedConfigurationProperties.add(BINARY_ENCODING_PROPERTY);
+        connectorType.setRecognizedConfigurationProperties(recognizedConfigurationProperties);
+
         super.connectorTypeBean = connectorType;
     }
 }
@@ -34,6 +34,7 @@ import org.odpi.openmetadata.frameworks.governanceaction.search.PropertyValue;
 import org.springframework.core.ParameterizedTypeReference;
 
 import java.util.ArrayList;
+import java.util.Collection;
 import java.util.HashMap;
 import java.util.HashSet;
 import java.util.LinkedHashMap;
@@ -1549,6 +1550,86 @@ public class ApacheAtlasRESTConnector extends ConnectorBase implements AuditLogg
     }
 
 
+    /**
+     * Retrieve a list of entities in a single request.  Only the entities that are ACTIVE are returned.
+     * The referred entities are not needed by the callers of this method so only minimal information
+     * about them is requested.
+     *
+     * @param guids unique identifiers of the entities
+     * @param ignoreRelationships if true, the relationship attributes are not returned - this reduces the size of the
+     *                            response when only the entities' own properties, labels and classifications are needed
+     * @return list of retrieved entities (may be empty)
+     * @throws PropertyServerException problem connecting to Apache Atlas
+     */
+    public List<AtlasEntity> getEntitiesByGUIDs(List<String> guids,
+                                                boolean      ignoreRelationships) throws PropertyServerException
+    {
+        final String methodName = "getEntitiesByGUIDs(" + guids + ")";
+
+        List<AtlasEntity> results = new ArrayList<>();
+
+        if ((guids == null) || (guids.isEmpty()))
+        {
+            return results;
+        }
+
+        StringBuilder url = new StringBuilder(targetRootURL + "/api/atlas/v2/entity/bulk?minExtInfo=true&ignoreRelationships=" + ignoreRelationships);
+
+        for (String guid : guids)
+        {
+            url.append("&guid=").append(guid);
+        }
+
+        AtlasEntitiesWithExtInfo entities = this.callGetRESTCallNoParams(methodName, AtlasEntitiesWithExtInfo.class, url.toString());
+
+        if ((entities != null) && (entities.getEntities() != null))
+        {
+            for (AtlasEntity entity : entities.getEntities())
+            {
+                if ((entity != null) && (entity.getStatus() == AtlasInstanceStatus.ACTIVE))
+                {
+                    results.add(entity);
+                }
+            }
+        }
+
+        return results;
+    }
+
+
+    /**
+     * Retrieve a set of relationships.  Apache Atlas does not offer a bulk retrieval request for relationships
+     * so each distinct relationship is retrieved once, however many times its GUID is supplied.
+     * Only the relationships that are ACTIVE are returned.
+     *
+     * @param guids unique identifiers of the relationships
+     * @return map of relationship GUID to relationship (may be empty)
+     * @throws PropertyServerException problem connecting to Apache Atlas
+     */
+    public Map<String, AtlasRelationship> getRelationshipsByGUIDs(Collection<String> guids) throws PropertyServerException
+    {
+        Map<String, AtlasRelationship> results = new HashMap<>();
+
+        if (guids != null)
+        {
+            for (String guid : new HashSet<>(guids))
+            {
+                if (guid != null)
+                {
+                    AtlasRelationship relationship = this.getRelationshipByGUID(guid);
+
+                    if (relationship != null)
+                    {
+                        results.put(guid, relationship);
+                    }
+                }
+            }
+        }
+
+        return results;
+    }
+
+
     /**
      * Retrieve the entity at the other end of the named relationship.
      *
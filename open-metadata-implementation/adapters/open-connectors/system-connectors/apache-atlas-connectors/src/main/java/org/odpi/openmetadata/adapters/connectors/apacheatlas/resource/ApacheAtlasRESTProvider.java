@@ -47,7 +47,7 @@ public class ApacheAtlasRESTProvider extends ConnectorProviderBase
     /*
      * Class of the connector.
      */
-    private static final String connectorClassName       = "org.odpi.openmetadata.adapters.connectors.resource.apacheatlas.ApacheAtlasRESTConnector";
+    private static final String connectorClassName       = "org.odpi.openmetadata.adapters.connectors.apacheatlas.resource.ApacheAtlasRESTConnector";
 
 
     /**
@@ -0,0 +1,41 @@
+/* SPDX-License-Identifier: Apache-2.0 */
+/* Copyright Contributors to the ODPi Egeria project. */
+package org.odpi.openmetadata.adapters.connectors.apacheatlas.resource.properties;
+
+import java.util.List;
+
+/**
+ * AtlasEntitiesWithExtInfo describes a list of entities with additional entity elements.  It is returned
+ * by the bulk entity retrieval request.
+ */
+public class AtlasEntitiesWithExtInfo extends AtlasEntityExtInfo
+{
+    private List<AtlasEntity> entities = null;
+
+
+    public AtlasEntitiesWithExtInfo()
+    {
+    }
+
+
+    public List<AtlasEntity> getEntities()
+    {
+        return entities;
+    }
+
+
+    public void setEntities(List<AtlasEntity> entities)
+    {
+        this.entities = entities;
+    }
+
+
+    @Override
+    public String toString()
+    {
+        return "AtlasEntitiesWithExtInfo{" +
+                       "entities=" + entities +
+                       ", referredEntities=" + getReferredEntities() +
+                       '}';
+    }
+}
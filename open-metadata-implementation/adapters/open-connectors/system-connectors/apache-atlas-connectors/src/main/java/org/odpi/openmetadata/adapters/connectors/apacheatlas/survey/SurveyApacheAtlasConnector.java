@@ -12,10 +12,11 @@ import org.odpi.openmetadata.adapters.connectors.apacheatlas.resource.properties
 import org.odpi.openmetadata.adapters.connectors.apacheatlas.resource.properties.AtlasEntity;
 import org.odpi.openmetadata.adapters.connectors.apacheatlas.resource.properties.AtlasEntityDef;
 import org.odpi.openmetadata.adapters.connectors.apacheatlas.resource.properties.AtlasEntityHeader;
-import org.odpi.openmetadata.adapters.connectors.apacheatlas.resource.properties.AtlasEntityWithExtInfo;
+import org.odpi.openmetadata.adapters.connectors.apacheatlas.resource.properties.AtlasInstanceStatus;
 import org.odpi.openmetadata.adapters.connectors.apacheatlas.resource.properties.AtlasMetrics;
 import org.odpi.openmetadata.adapters.connectors.apacheatlas.resource.properties.AtlasMetricsGeneral;
 import org.odpi.openmetadata.adapters.connectors.apacheatlas.resource.properties.AtlasMetricsTag;
+import org.odpi.openmetadata.adapters.connectors.apacheatlas.resource.properties.AtlasObjectId;
 import org.odpi.openmetadata.adapters.connectors.apacheatlas.resource.properties.AtlasRelationship;
 import org.odpi.openmetadata.adapters.connectors.apacheatlas.resource.properties.AtlasRelationshipDef;
 import org.odpi.openmetadata.adapters.connectors.apacheatlas.resource.properties.AtlasRelationshipEndDef;
@@ -46,11 +47,18 @@ import org.odpi.openmetadata.frameworks.surveyaction.SurveyAssetStore;
 import org.odpi.openmetadata.frameworks.surveyaction.controls.AnalysisStep;
 import org.odpi.openmetadata.frameworks.surveyaction.properties.*;
 
+import java.util.ArrayDeque;
 import java.util.ArrayList;
+import java.util.Deque;
 import java.util.HashMap;
+import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
 
 /**
  * This connector builds a profile of the types and instances in an Apache Atlas server.
@@ -70,6 +78,23 @@ public class SurveyApacheAtlasConnector extends SurveyActionServiceConnector
      */
     private String finalAnalysisStep = AnalysisStep.PROFILE_DATA.getName();
 
+    /**
+     * When false, the entities are profiled without retrieving their relationships.  It can be changed through
+     * configuration properties or request parameters.
+     */
+    private boolean profileRelationships = true;
+
+    /**
+     * This is the maximum number of requests issued to Apache Atlas at the same time while profiling the entities.
+     * It can be changed through configuration properties or request parameters.
+     */
+    private int maxConcurrentRequests = 4;
+
+    /**
+     * The number of entities retrieved in each bulk request.  This keeps the request URL to a reasonable length.
+     */
+    private static final int bulkRetrievalSize = 50;
+
 
     /**
      * Indicates that the survey service is completely configured and can begin processing.
@@ -86,34 +111,35 @@ public class SurveyApacheAtlasConnector extends SurveyActionServiceConnector
 
         final String methodName = "start";
 
-        if (connectionProperties.getConfigurationProperties() != null)
+        /*
+         * The request parameters take precedent over the values in the configuration properties.
+         */
+        String finalAnalysisProperty = this.getSurveyParameter(AtlasRequestParameter.FINAL_ANALYSIS_STEP.getName());
+
+        if ((AnalysisStep.MEASURE_RESOURCE.getName().equals(finalAnalysisProperty)) ||
+            (AnalysisStep.SCHEMA_EXTRACTION.getName().equals(finalAnalysisProperty)))
         {
-            Object finalAnalysisStepPropertyObject = connectionProperties.getConfigurationProperties().get(AtlasRequestParameter.FINAL_ANALYSIS_STEP.getName());
+            finalAnalysisStep = finalAnalysisProperty;
+        }
 
-            if (finalAnalysisStepPropertyObject != null)
-            {
-                String finalAnalysisProperty = finalAnalysisStepPropertyObject.toString();
+        String profileRelationshipsProperty = this.getSurveyParameter(AtlasRequestParameter.PROFILE_RELATIONSHIPS.getName());
 
-                if ((finalAnalysisProperty.equals(AnalysisStep.MEASURE_RESOURCE.getName())) ||
-                    (finalAnalysisProperty.equals(AnalysisStep.SCHEMA_EXTRACTION.getName())))
-                {
-                    finalAnalysisStep = finalAnalysisProperty;
-                }
-            }
+        if (profileRelationshipsProperty != null)
+        {
+            profileRelationships = Boolean.parseBoolean(profileRelationshipsProperty);
         }
 
-        /*
-         * The finalAnalysisStep property in analysisProperties takes precedent over the value in the
-         * configuration properties.
-         */
-        if (surveyContext.getRequestParameters() != null)
-        {
-            String finalAnalysisProperty = surveyContext.getRequestParameters().get(AtlasRequestParameter.FINAL_ANALYSIS_STEP.getName());
+        String maxConcurrentRequestsProperty = this.getSurveyParameter(AtlasRequestParameter.MAX_CONCURRENT_REQUESTS.getName());
 
-            if ((finalAnalysisProperty.equals(AnalysisStep.MEASURE_RESOURCE.getName())) ||
-                (finalAnalysisProperty.equals(AnalysisStep.SCHEMA_EXTRACTION.getName())))
+        if (maxConcurrentRequestsProperty != null)
+        {
+            try
+            {
+                maxConcurrentRequests = Math.max(1, Integer.parseInt(maxConcurrentRequestsProperty));
+            }
+            catch (NumberFormatException error)
             {
-                finalAnalysisStep = finalAnalysisProperty;
+                // keep the default
             }
         }
 
@@ -313,38 +339,84 @@ public class SurveyApacheAtlasConnector extends SurveyActionServiceConnector
 
                     final int maxPageSize = 100;
 
+                    Map<String, AtlasRelationshipDef> relationshipDefs = new HashMap<>();
+
+                    for (AtlasRelationshipDef relationshipDef : atlasTypesDef.getRelationshipDefs())
+                    {
+                        if (relationshipDef != null)
+                        {
+                            relationshipDefs.put(relationshipDef.getName(), relationshipDef);
+                        }
+                    }
+
                     /*
-                     * Gather data in the maps
+                     * The entities are retrieved in bulk requests that run in parallel.  The results are added to the
+                     * maps on this thread, in the order that the requests were issued.  The number of requests waiting
+                     * to be added is limited so that the memory used does not depend on the size of the repository.
                      */
-                    for (AtlasEntityDef entityType : atlasTypesDef.getEntityDefs())
+                    ExecutorService                         profileExecutor = Executors.newFixedThreadPool(maxConcurrentRequests);
+                    Deque<Future<List<AtlasEntityProfile>>> pendingRequests = new ArrayDeque<>();
+
+                    try
                     {
                         /*
-                         * Only process entity types that are top level (ie no subtypes) - this stops us counting an entity that has
-                         * multiple subtypes.
+                         * Gather data in the maps
                          */
-                        if ((entityType.getSuperTypes() == null) || (entityType.getSuperTypes().isEmpty()))
+                        for (AtlasEntityDef entityType : atlasTypesDef.getEntityDefs())
                         {
-                            int                     startFrom = 0;
-                            List<AtlasEntityHeader> entities  = atlasConnector.getEntitiesForType(entityType.getName(), startFrom, maxPageSize);
-
-                            while ((entities != null) && (! entities.isEmpty()))
+                            /*
+                             * Only process entity types that are top level (ie no subtypes) - this stops us counting an entity that has
+                             * multiple subtypes.
+                             */
+                            if ((entityType.getSuperTypes() == null) || (entityType.getSuperTypes().isEmpty()))
                             {
-                                for (AtlasEntityHeader entityHeader : entities)
+                                int                     startFrom = 0;
+                                List<AtlasEntityHeader> entities  = atlasConnector.getEntitiesForType(entityType.getName(), startFrom, maxPageSize);
+
+                                while ((entities != null) && (! entities.isEmpty()))
                                 {
-                                    AtlasEntityWithExtInfo atlasEntityWithExtInfo = atlasConnector.getEntityByGUID(entityHeader.getGuid());
-
-                                    this.addEntityProfile(atlasEntityWithExtInfo.getEntity(),
-                                                          this.getAtlasRelationships(atlasEntityWithExtInfo.getEntity(), atlasConnector),
-                                                          entityTypeMetricsMap,
-                                                          classificationTypeMetricsMap,
-                                                          businessMetadataMetricsMap,
-                                                          relationshipTypeMetricsMap);
+                                    List<String> entityGUIDs = new ArrayList<>();
+
+                                    for (AtlasEntityHeader entityHeader : entities)
+                                    {
+                                        entityGUIDs.add(entityHeader.getGuid());
+                                    }
+
+                                    for (int batchStart = 0; batchStart < entityGUIDs.size(); batchStart = batchStart + bulkRetrievalSize)
+                                    {
+                                        List<String> batchGUIDs = new ArrayList<>(entityGUIDs.subList(batchStart, Math.min(batchStart + bulkRetrievalSize,
+                                                                                                                            entityGUIDs.size())));
+
+                                        pendingRequests.add(profileExecutor.submit(() -> this.getEntityProfiles(batchGUIDs, relationshipDefs, atlasConnector)));
+
+                                        while (pendingRequests.size() > maxConcurrentRequests * 2)
+                                        {
+                                            this.addEntityProfiles(pendingRequests.removeFirst(),
+                                                                   entityTypeMetricsMap,
+                                                                   classificationTypeMetricsMap,
+                                                                   businessMetadataMetricsMap,
+                                                                   relationshipTypeMetricsMap);
+                                        }
+                                    }
+
+                                    startFrom = startFrom + maxPageSize;
+                                    entities  = atlasConnector.getEntitiesForType(entityType.getName(), startFrom, maxPageSize);
                                 }
-
-                                startFrom = startFrom + maxPageSize;
-                                entities  = atlasConnector.getEntitiesForType(entityType.getName(), startFrom, maxPageSize);
                             }
                         }
+
+                        while (! pendingRequests.isEmpty())
+                        {
+                            this.addEntityProfiles(pendingRequests.removeFirst(),
+                                                   entityTypeMetricsMap,
+                                                   classificationTypeMetricsMap,
+                                                   businessMetadataMetricsMap,
+                                                   relationshipTypeMetricsMap);
+                        }
+                    }
+                    finally
+                    {
+                        profileExecutor.shutdownNow();
                     }
 
                     /*
@@ -522,45 +594,251 @@ public class SurveyApacheAtlasConnector extends SurveyActionServiceConnector
 
 
     /**
-     * Retrieve all the relationships for an Apache Atlas entity.
+     * Return the value of a survey parameter.  The request parameters take precedent over the configuration properties.
      *
-     * @param atlasEntity starting entity
+     * @param parameterName name of the parameter
+     * @return value or null if not set
+     * @throws ConnectorCheckedException the survey context is not available
+     */
+    private String getSurveyParameter(String parameterName) throws ConnectorCheckedException
+    {
+        if ((surveyContext.getRequestParameters() != null) && (surveyContext.getRequestParameters().get(parameterName) != null))
+        {
+            return surveyContext.getRequestParameters().get(parameterName);
+        }
+
+        if ((connectionProperties.getConfigurationProperties() != null) &&
+            (connectionProperties.getConfigurationProperties().get(parameterName) != null))
+        {
+            return connectionProperties.getConfigurationProperties().get(parameterName).toString();
+        }
+
+        return null;
+    }
+
+
+    /**
+     * Retrieve a batch of entities, along with their relationships, ready to add to the profile.
+     * This method runs on the profiling threads.
+     *
+     * @param entityGUIDs unique identifiers of the entities
+     * @param relationshipDefs relationship type definitions mapped from their names
      * @param atlasConnector client to Apache Atlas
-     * @return list of relationships or null
+     * @return list of entities and their relationships
      * @throws PropertyServerException problem communicating with Apache Atlas
      */
-    private List<AtlasRelationship> getAtlasRelationships(AtlasEntity              atlasEntity,
-                                                          ApacheAtlasRESTConnector atlasConnector) throws PropertyServerException
+    private List<AtlasEntityProfile> getEntityProfiles(List<String>                      entityGUIDs,
+                                                       Map<String, AtlasRelationshipDef> relationshipDefs,
+                                                       ApacheAtlasRESTConnector          atlasConnector) throws PropertyServerException
     {
-        if ((atlasEntity.getRelationshipAttributes() != null) || (! atlasEntity.getRelationshipAttributes().isEmpty()))
+        List<AtlasEntityProfile> entityProfiles  = new ArrayList<>();
+        Set<String>              unresolvedGUIDs = new HashSet<>();
+
+        for (AtlasEntity atlasEntity : atlasConnector.getEntitiesByGUIDs(entityGUIDs, ! profileRelationships))
         {
-            List<AtlasRelationship> relationships = new ArrayList<>();
+            AtlasEntityProfile entityProfile = new AtlasEntityProfile(atlasEntity);
 
-            for (String relationshipAttribute : atlasEntity.getRelationshipAttributes().keySet())
+            if (profileRelationships)
+            {
+                this.addAtlasRelationships(entityProfile, relationshipDefs, unresolvedGUIDs);
+            }
+
+            entityProfiles.add(entityProfile);
+        }
+
+        /*
+         * Relationships where the entity's end could not be worked out from the relationship type are retrieved.
+         * Each one is retrieved once, even if both ends are in this batch.
+         */
+        if (! unresolvedGUIDs.isEmpty())
+        {
+            Map<String, AtlasRelationship> retrievedRelationships = atlasConnector.getRelationshipsByGUIDs(unresolvedGUIDs);
+
+            for (AtlasEntityProfile entityProfile : entityProfiles)
             {
-                if (atlasEntity.getRelationshipAttributes().get(relationshipAttribute) instanceof Map<?,?> relationshipProperties)
+                for (String relationshipGUID : entityProfile.unresolvedRelationshipGUIDs)
                 {
-                    Object relationshipGUID = relationshipProperties.get("relationshipGuid");
+                    AtlasRelationship relationship = retrievedRelationships.get(relationshipGUID);
 
-                    if (relationshipGUID != null)
+                    if (relationship != null)
                     {
-                        AtlasRelationship relationship = atlasConnector.getRelationshipByGUID(relationshipGUID.toString());
+                        entityProfile.relationships.add(relationship);
+                    }
+                }
+            }
+        }
+
+        return entityProfiles;
+    }
+
+
+    /**
+     * Work out the relationships for an Apache Atlas entity from its relationship attributes.  Each relationship attribute
+     * identifies the relationship, its type and the entity at the other end.  The entity's end of the relationship is the end
+     * whose definition names the relationship attribute.  If this is not clear, for example because both ends of the relationship
+     * use the same attribute name, the relationship's GUID is saved so that it can be retrieved.
+     *
+     * @param entityProfile starting entity
+     * @param relationshipDefs relationship type definitions mapped from their names
+     * @param unresolvedGUIDs set of relationship GUIDs that need to be retrieved
+     */
+    private void addAtlasRelationships(AtlasEntityProfile                entityProfile,
+                                       Map<String, AtlasRelationshipDef> relationshipDefs,
+                                       Set<String>                       unresolvedGUIDs)
+    {
+        AtlasEntity atlasEntity = entityProfile.atlasEntity;
 
-                        if (relationship != null)
+        if (atlasEntity.getRelationshipAttributes() != null)
+        {
+            for (String relationshipAttribute : atlasEntity.getRelationshipAttributes().keySet())
+            {
+                Object relatedObjects = atlasEntity.getRelationshipAttributes().get(relationshipAttribute);
+
+                if (relatedObjects instanceof Map<?,?> relatedObject)
+                {
+                    this.addAtlasRelationship(entityProfile, relationshipAttribute, relatedObject, relationshipDefs, unresolvedGUIDs);
+                }
+                else if (relatedObjects instanceof List<?> relatedObjectList)
+                {
+                    for (Object relatedObjectListEntry : relatedObjectList)
+                    {
+                        if (relatedObjectListEntry instanceof Map<?,?> relatedObject)
                         {
-                            relationships.add(relationship);
+                            this.addAtlasRelationship(entityProfile, relationshipAttribute, relatedObject, relationshipDefs, unresolvedGUIDs);
                         }
                     }
                 }
             }
+        }
+    }
+
+
+    /**
+     * Add a single relationship described by a relationship attribute to the entity's profile.
+     *
+     * @param entityProfile starting entity
+     * @param relationshipAttribute name of the relationship attribute
+     * @param relatedObject description of the relationship and the entity at the other end
+     * @param relationshipDefs relationship type definitions mapped from their names
+     * @param unresolvedGUIDs set of relationship GUIDs that need to be retrieved
+     */
+    private void addAtlasRelationship(AtlasEntityProfile                entityProfile,
+                                      String                            relationshipAttribute,
+                                      Map<?,?>                          relatedObject,
+                                      Map<String, AtlasRelationshipDef> relationshipDefs,
+                                      Set<String>                       unresolvedGUIDs)
+    {
+        Object relationshipGUID   = relatedObject.get("relationshipGuid");
+        Object relationshipType   = relatedObject.get("relationshipType");
+        Object relationshipStatus = relatedObject.get("relationshipStatus");
+        Object relatedEntityGUID  = relatedObject.get("guid");
+        Object relatedEntityType  = relatedObject.get("typeName");
+
+        if ((relationshipGUID == null) ||
+            ((relationshipStatus != null) && (! AtlasInstanceStatus.ACTIVE.name().equals(relationshipStatus.toString()))))
+        {
+            return;
+        }
+
+        AtlasRelationshipDef relationshipDef = null;
 
-            if (! relationships.isEmpty())
+        if (relationshipType != null)
+        {
+            relationshipDef = relationshipDefs.get(relationshipType.toString());
+        }
+
+        if ((relationshipDef == null) || (relatedEntityGUID == null) || (relatedEntityType == null) ||
+            (relationshipDef.getEndDef1() == null) || (relationshipDef.getEndDef2() == null))
+        {
+            entityProfile.unresolvedRelationshipGUIDs.add(relationshipGUID.toString());
+            unresolvedGUIDs.add(relationshipGUID.toString());
+            return;
+        }
+
+        boolean isEnd1 = relationshipAttribute.equals(relationshipDef.getEndDef1().getName());
+        boolean isEnd2 = relationshipAttribute.equals(relationshipDef.getEndDef2().getName());
+
+        if (isEnd1 == isEnd2)
+        {
+            entityProfile.unresolvedRelationshipGUIDs.add(relationshipGUID.toString());
+            unresolvedGUIDs.add(relationshipGUID.toString());
+            return;
+        }
+
+        AtlasObjectId thisEnd = new AtlasObjectId();
+
+        thisEnd.setGuid(entityProfile.atlasEntity.getGuid());
+        thisEnd.setTypeName(entityProfile.atlasEntity.getTypeName());
+
+        AtlasObjectId otherEnd = new AtlasObjectId();
+
+        otherEnd.setGuid(relatedEntityGUID.toString());
+        otherEnd.setTypeName(relatedEntityType.toString());
+
+        AtlasRelationship relationship = new AtlasRelationship();
+
+        relationship.setGuid(relationshipGUID.toString());
+        relationship.setTypeName(relationshipType.toString());
+        relationship.setStatus(AtlasInstanceStatus.ACTIVE);
+
+        if (isEnd1)
+        {
+            relationship.setEnd1(thisEnd);
+            relationship.setEnd2(otherEnd);
+        }
+        else
+        {
+            relationship.setEnd1(otherEnd);
+            relationship.setEnd2(thisEnd);
+        }
+
+        entityProfile.relationships.add(relationship);
+    }
+
+
+    /**
+     * Wait for a bulk request to complete and add its entities to the profile maps.
+     *
+     * @param pendingRequest request issued to the profiling threads
+     * @param entityTypeMetricsMap map of counts for entity types
+     * @param classificationTypeMetricsMap map of counts for classification types
+     * @param businessMetadataTypeMetricsMap map of counts for business metadata types
+     * @param relationshipTypeMetricsMap map of counts for relationship types
+     * @throws PropertyServerException problem communicating with Apache Atlas
+     * @throws InterruptedException the survey was interrupted
+     */
+    private void addEntityProfiles(Future<List<AtlasEntityProfile>>     pendingRequest,
+                                   Map<String, EntityTypeMetrics>       entityTypeMetricsMap,
+                                   Map<String, TagTypeMetrics>          classificationTypeMetricsMap,
+                                   Map<String, TagTypeMetrics>          businessMetadataTypeMetricsMap,
+                                   Map<String, RelationshipTypeMetrics> relationshipTypeMetricsMap) throws PropertyServerException,
+                                                                                                             InterruptedException
+    {
+        List<AtlasEntityProfile> entityProfiles;
+
+        try
+        {
+            entityProfiles = pendingRequest.get();
+        }
+        catch (ExecutionException error)
+        {
+            if (error.getCause() instanceof PropertyServerException propertyServerException)
             {
-                return relationships;
+                throw propertyServerException;
             }
+
+            throw new IllegalStateException(error.getCause());
         }
 
-        return null;
+        for (AtlasEntityProfile entityProfile : entityProfiles)
+        {
+            this.addEntityProfile(entityProfile.atlasEntity,
+                                  entityProfile.relationships,
+                                  entityTypeMetricsMap,
+                                  classificationTypeMetricsMap,
+                                  businessMetadataTypeMetricsMap,
+                                  relationshipTypeMetricsMap);
+        }
     }
 
 
@@ -1213,6 +1491,28 @@ public class SurveyApacheAtlasConnector extends SurveyActionServiceConnector
     }
 
 
+    /**
+     * AtlasEntityProfile holds an entity retrieved by the profiling threads along with its relationships.
+     */
+    private static class AtlasEntityProfile
+    {
+        private final AtlasEntity             atlasEntity;
+        private final List<AtlasRelationship> relationships               = new ArrayList<>();
+        private final List<String>            unresolvedRelationshipGUIDs = new ArrayList<>();
+
+
+        /**
+         * Constructor
+         *
+         * @param atlasEntity retrieved entity
+         */
+        private AtlasEntityProfile(AtlasEntity atlasEntity)
+        {
+            this.atlasEntity = atlasEntity;
+        }
+    }
+
+
     /**
      * EntityTypeMetrics maintains counts about entity instances of a certain type.
      */
@@ -17,6 +17,10 @@ public enum AtlasRequestParameter
 {
     FINAL_ANALYSIS_STEP ("finalAnalysisStep", "Property name to control how much profiling the survey action service does.", "string", "Schema Extraction"),
 
+    PROFILE_RELATIONSHIPS ("profileRelationships", "Set to false to profile the entities' labels, classifications and business metadata without retrieving their relationships.", "boolean", "false"),
+
+    MAX_CONCURRENT_REQUESTS ("maxConcurrentRequests", "Maximum number of requests that the survey action service issues to Apache Atlas at the same time when profiling the entities.", "integer", "4"),
+
     ;
 
     public final String           name;
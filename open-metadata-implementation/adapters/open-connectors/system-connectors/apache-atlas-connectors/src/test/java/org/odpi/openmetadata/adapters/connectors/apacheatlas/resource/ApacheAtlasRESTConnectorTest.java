@@ -0,0 +1,260 @@
+/* SPDX-License-Identifier: Apache-2.0 */
+/* Copyright Contributors to the ODPi Egeria project. */
+package org.odpi.openmetadata.adapters.connectors.apacheatlas.resource;
+
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+import org.odpi.openmetadata.adapters.connectors.apacheatlas.resource.properties.AtlasEntity;
+import org.odpi.openmetadata.adapters.connectors.apacheatlas.resource.properties.AtlasRelationship;
+import org.odpi.openmetadata.frameworks.connectors.ConnectorBroker;
+import org.odpi.openmetadata.frameworks.connectors.properties.beans.Connection;
+import org.odpi.openmetadata.frameworks.connectors.properties.beans.Endpoint;
+import org.testng.annotations.AfterMethod;
+import org.testng.annotations.BeforeMethod;
+import org.testng.annotations.Test;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertTrue;
+
+
+/**
+ * Verify the bulk retrieval requests of the Apache Atlas REST connector against a stub HTTP server that replays
+ * Apache Atlas responses.
+ */
+public class ApacheAtlasRESTConnectorTest
+{
+    private static final String entityBulkPath       = "/api/atlas/v2/entity/bulk";
+    private static final String relationshipGUIDPath = "/api/atlas/v2/relationship/guid/";
+
+    private HttpServer               atlasServer    = null;
+    private ApacheAtlasRESTConnector atlasConnector = null;
+    private final List<String>       requestedURIs  = Collections.synchronizedList(new ArrayList<>());
+
+
+    /**
+     * Start the stub Apache Atlas server and a connector that calls it.
+     *
+     * @throws Exception unable to start the server or the connector
+     */
+    @BeforeMethod
+    public void setUp() throws Exception
+    {
+        atlasServer = HttpServer.create(new InetSocketAddress("localhost", 0), 0);
+
+        atlasServer.createContext("/api/atlas/v2/types/typedefs", exchange -> this.reply(exchange, "{}"));
+        atlasServer.createContext(entityBulkPath, this::replyWithEntities);
+        atlasServer.createContext(relationshipGUIDPath, this::replyWithRelationship);
+        atlasServer.start();
+
+        Endpoint   endpoint   = new Endpoint();
+        Connection connection = new Connection();
+
+        endpoint.setAddress("http://localhost:" + atlasServer.getAddress().getPort());
+        connection.setEndpoint(endpoint);
+        connection.setUserId("testUser");
+        connection.setClearPassword("testPassword");
+        connection.setConnectorType(new ApacheAtlasRESTProvider().getConnectorType());
+
+        atlasConnector = (ApacheAtlasRESTConnector)new ConnectorBroker().getConnector(connection);
+        atlasConnector.start();
+
+        requestedURIs.clear();
+    }
+
+
+    /**
+     * Stop the connector and the stub server.
+     *
+     * @throws Exception unable to stop the connector
+     */
+    @AfterMethod
+    public void tearDown() throws Exception
+    {
+        if (atlasConnector != null)
+        {
+            atlasConnector.disconnect();
+        }
+
+        if (atlasServer != null)
+        {
+            atlasServer.stop(0);
+        }
+    }
+
+
+    /**
+     * All the requested entities are retrieved in a single request, and only the active ones are returned.
+     *
+     * @throws Exception test failure
+     */
+    @Test
+    public void testEntitiesRetrievedInOneRequest() throws Exception
+    {
+        List<AtlasEntity> entities = atlasConnector.getEntitiesByGUIDs(List.of("entity-1", "deleted-2", "entity-3"), false);
+
+        assertEquals(requestedURIs.size(), 1);
+        assertEquals(requestedURIs.get(0),
+                     entityBulkPath + "?minExtInfo=true&ignoreRelationships=false&guid=entity-1&guid=deleted-2&guid=entity-3");
+
+        List<String> guids = new ArrayList<>();
+
+        for (AtlasEntity entity : entities)
+        {
+            guids.add(entity.getGuid());
+        }
+
+        assertEquals(guids, List.of("entity-1", "entity-3"));
+        assertEquals(entities.get(0).getTypeName(), "hive_table");
+        assertEquals(entities.get(0).getAttributes().get("qualifiedName"), "default.entity-1@cluster");
+    }
+
+
+    /**
+     * The ignoreRelationships option is passed to Apache Atlas, and an empty list makes no request.
+     *
+     * @throws Exception test failure
+     */
+    @Test
+    public void testRequestOptions() throws Exception
+    {
+        assertTrue(atlasConnector.getEntitiesByGUIDs(new ArrayList<>(), true).isEmpty());
+        assertTrue(requestedURIs.isEmpty());
+
+        assertEquals(atlasConnector.getEntitiesByGUIDs(List.of("entity-1"), true).size(), 1);
+        assertEquals(requestedURIs, List.of(entityBulkPath + "?minExtInfo=true&ignoreRelationships=true&guid=entity-1"));
+    }
+
+
+    /**
+     * Each distinct relationship is retrieved once, however many times it is requested, and deleted
+     * relationships are not returned.
+     *
+     * @throws Exception test failure
+     */
+    @Test
+    public void testRelationshipsRetrievedOnce() throws Exception
+    {
+        Map<String, AtlasRelationship> relationships = atlasConnector.getRelationshipsByGUIDs(List.of("relationship-1",
+                                                                                                      "relationship-1",
+                                                                                                      "deleted-2",
+                                                                                                      "relationship-3",
+                                                                                                      "relationship-3"));
+
+        assertEquals(relationships.keySet(), Set.of("relationship-1", "relationship-3"));
+        assertEquals(relationships.get("relationship-1").getEnd1().getGuid(), "entity-1");
+        assertEquals(requestedURIs.size(), 3);
+        assertTrue(requestedURIs.contains(relationshipGUIDPath + "relationship-1"));
+        assertTrue(requestedURIs.contains(relationshipGUIDPath + "deleted-2"));
+        assertTrue(requestedURIs.contains(relationshipGUIDPath + "relationship-3"));
+    }
+
+
+    /**
+     * Replay the response of Apache Atlas to a bulk entity request.  Entities whose GUIDs start with "deleted"
+     * are returned with a DELETED status.
+     *
+     * @param exchange HTTP request and response
+     * @throws IOException unable to send the response
+     */
+    private void replyWithEntities(HttpExchange exchange) throws IOException
+    {
+        requestedURIs.add(exchange.getRequestURI().toString());
+
+        StringBuilder response = new StringBuilder("{\"referredEntities\":{},\"entities\":[");
+        String        query    = exchange.getRequestURI().getQuery();
+        boolean       first    = true;
+
+        for (String parameter : query.split("&"))
+        {
+            if (parameter.startsWith("guid="))
+            {
+                String guid = parameter.substring("guid=".length());
+
+                if (! first)
+                {
+                    response.append(",");
+                }
+
+                response.append("{\"typeName\":\"hive_table\",\"guid\":\"").append(guid)
+                        .append("\",\"status\":\"").append(this.getStatus(guid))
+                        .append("\",\"version\":0,\"attributes\":{\"qualifiedName\":\"default.").append(guid)
+                        .append("@cluster\",\"name\":\"").append(guid)
+                        .append("\"},\"relationshipAttributes\":{},\"labels\":[]}");
+                first = false;
+            }
+        }
+
+        response.append("]}");
+
+        this.reply(exchange, response.toString());
+    }
+
+
+    /**
+     * Replay the response of Apache Atlas to a request for a relationship.  Relationships whose GUIDs start
+     * with "deleted" are returned with a DELETED status.
+     *
+     * @param exchange HTTP request and response
+     * @throws IOException unable to send the response
+     */
+    private void replyWithRelationship(HttpExchange exchange) throws IOException
+    {
+        requestedURIs.add(exchange.getRequestURI().toString());
+
+        String guid = exchange.getRequestURI().getPath().substring(relationshipGUIDPath.length());
+
+        this.reply(exchange, "{\"typeName\":\"hive_table_columns\",\"guid\":\"" + guid + "\",\"status\":\"" + this.getStatus(guid) + "\"," +
+                             "\"end1\":{\"guid\":\"entity-1\",\"typeName\":\"hive_table\"}," +
+                             "\"end2\":{\"guid\":\"column-1\",\"typeName\":\"hive_column\"}," +
+                             "\"label\":\"__hive_table.columns\",\"propagateTags\":\"NONE\",\"version\":0}");
+    }
+
+
+    /**
+     * Return the instance status that the stub server uses for a GUID.
+     *
+     * @param guid unique identifier of the instance
+     * @return status
+     */
+    private String getStatus(String guid)
+    {
+        if (guid.startsWith("deleted"))
+        {
+            return "DELETED";
+        }
+
+        return "ACTIVE";
+    }
+
+
+    /**
+     * Send a JSON response.
+     *
+     * @param exchange HTTP request and response
+     * @param json response body
+     * @throws IOException unable to send the response
+     */
+    private void reply(HttpExchange exchange,
+                       String       json) throws IOException
+    {
+        byte[] body = json.getBytes(StandardCharsets.UTF_8);
+
+        exchange.getResponseHeaders().add("Content-Type", "application/json");
+        exchange.sendResponseHeaders(200, body.length);
+
+        try (OutputStream outputStream = exchange.getResponseBody())
+        {
+            outputStream.write(body);
+        }
+    }
+}
@@ -5,6 +5,12 @@ package org.odpi.openmetadata.adapters.connectors.apachekafka.integration;
 
 
 import org.apache.kafka.clients.admin.Admin;
+import org.apache.kafka.clients.admin.Config;
+import org.apache.kafka.clients.admin.ConfigEntry;
+import org.apache.kafka.clients.admin.TopicDescription;
+import org.apache.kafka.common.KafkaFuture;
+import org.apache.kafka.common.config.ConfigResource;
+import org.apache.kafka.common.errors.UnknownTopicOrPartitionException;
 import org.odpi.openmetadata.accessservices.datamanager.properties.TemplateProperties;
 import org.odpi.openmetadata.frameworks.openmetadata.metadataelements.TopicElement;
 import org.odpi.openmetadata.frameworks.openmetadata.properties.assets.topics.TopicProperties;
@@ -31,6 +37,8 @@ import org.odpi.openmetadata.frameworks.integration.properties.RequestedCatalogT
 import org.odpi.openmetadata.integrationservices.topic.connector.TopicIntegratorConnector;
 
 import java.util.*;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
 
 
 
@@ -39,8 +47,21 @@ import java.util.*;
  */
 public class KafkaTopicIntegrationConnector extends TopicIntegratorConnector implements CatalogTargetIntegrator
 {
+    private static final int    defaultTopicBatchSize         = 500;
+    private static final String partitionCountPropertyName    = "partitionCount";
+    private static final String replicationFactorPropertyName = "replicationFactor";
+
     private final PropertyHelper propertyHelper = new PropertyHelper();
 
+    /**
+     * One admin client for each event broker (keyed by its URL).  The clients are kept between refreshes
+     * and closed when the connector disconnects.
+     */
+    private final Map<String, Admin> adminClients = new HashMap<>();
+
+    private int     topicBatchSize = defaultTopicBatchSize;
+    private boolean describeTopics = false;
+
 
     /**
      * A map for template qualified name to templateGUID to remove the need to keep retrieving the template
@@ -49,13 +70,35 @@ public class KafkaTopicIntegrationConnector extends TopicIntegratorConnector imp
     private final Map<String, String> templateIdentifiers = new HashMap<>();
 
 
+    /**
+     * Indicates that the connector is completely configured and can begin processing.
+     *
+     * @throws ConnectorCheckedException there is a problem within the connector.
+     */
+    @Override
+    public void start() throws ConnectorCheckedException
+    {
+        super.start();
+
+        int configuredBatchSize = super.getIntConfigurationProperty(KafkaTopicIntegrationProvider.TOPIC_BATCH_SIZE_CONFIGURATION_PROPERTY,
+                                                                    connectionProperties.getConfigurationProperties());
+
+        if (configuredBatchSize > 0)
+        {
+            topicBatchSize = configuredBatchSize;
+        }
+
+        describeTopics = super.getBooleanConfigurationProperty(KafkaTopicIntegrationProvider.DESCRIBE_TOPICS_CONFIGURATION_PROPERTY,
+                                                               connectionProperties.getConfigurationProperties());
+    }
+
+
     /**
      * Requests that the connector does a comparison of the metadata in the third party technology and open metadata repositories.
      * Refresh is called when the integration connector first starts and then at intervals defined in the connector's configuration
      * as well as any external REST API calls to explicitly refresh the connector.
-     * This method performs two sweeps. It first retrieves the topics from the event broker (Kafka) and validates that are in the
-     * catalog - adding or updating them if necessary. The second sweep is to ensure that all the topics catalogued
-     * actually exist in the event broker.
+     * Each event broker configured in the connector's connection or supplied as a catalog target is compared with
+     * the topics catalogued for it - see refreshEventBroker.
      *
      * @throws ConnectorCheckedException there is a problem with the connector.  It is not able to refresh the metadata.
      */
@@ -362,9 +405,11 @@ public class KafkaTopicIntegrationConnector extends TopicIntegratorConnector imp
      * Requests that the connector does a comparison of the metadata in the third party technology and open metadata repositories.
      * Refresh is called when the integration connector first starts and then at intervals defined in the connector's configuration
      * as well as any external REST API calls to explicitly refresh the connector.
-     * This method performs two sweeps. It first retrieves the topics from the event broker (Kafka) and validates that are in the
-     * catalog - adding or updating them if necessary. The second sweep is to ensure that all the topics catalogued
-     * actually exist in the event broker.
+     * This method retrieves the names of the topics from the event broker (Kafka) and all the topics catalogued for the event broker.
+     * The two sets are compared in memory.  Topics that are only in the event broker are added to the catalog and topics
+     * that are only in the catalog are removed.  The changes are applied in batches.  If the describeTopics configuration
+     * property is set, the details of the topics are also retrieved (one request per batch) and the catalogued topics
+     * whose details have changed are updated.
      *
      * @param targetRootURL URL to the Kafka Broker
      * @param templateGUID optional template to use when creating new topics
@@ -388,11 +433,8 @@ public class KafkaTopicIntegrationConnector extends TopicIntegratorConnector imp
             /*
              * Retrieve the list of active topics from Kafka.
              */
-            Properties properties = new Properties();
-            properties.put("bootstrap.servers", targetRootURL);
-            Admin            admin            = Admin.create(properties);
-            Set<String>      activeTopicNames = admin.listTopics().names().get();
-            admin.close();
+            Admin       admin            = this.getAdminClient(targetRootURL);
+            Set<String> activeTopicNames = this.callAdminClient(targetRootURL, () -> admin.listTopics().names().get());
 
             if (activeTopicNames != null)
             {
@@ -402,64 +444,206 @@ public class KafkaTopicIntegrationConnector extends TopicIntegratorConnector imp
                                                                                                              Integer.toString(activeTopicNames.size())));
 
                 /*
-                 * Retrieve the topics that are catalogued for this event broker.
-                 * Remove the topics from the catalog that are no longer present in the event broker.
-                 * Remove the names of the topics that are cataloged from the active topic names.
-                 * At the end of this loop, the active topic names will just contain the names of the
-                 * topics that are not catalogued.
+                 * Retrieve all the topics that are catalogued for this event broker before making any changes
+                 * so that the paging is not disturbed by the removal of topics.
                  */
-                int startFrom = 0;
-                List<TopicElement> cataloguedTopics = getContext().getMyTopics(startFrom, getContext().getMaxPageSize());
+                Map<String, TopicElement> cataloguedTopics = this.getCataloguedTopics();
+
+                List<TopicElement> removedTopics = new ArrayList<>();
+                List<String>       newTopicNames = new ArrayList<>();
+                List<String>       oldTopicNames = new ArrayList<>();
 
-                while (cataloguedTopics != null)
+                for (String topicName : cataloguedTopics.keySet())
                 {
-                    startFrom = startFrom + getContext().getMaxPageSize();
+                    if (activeTopicNames.contains(topicName))
+                    {
+                        oldTopicNames.add(topicName);
+                    }
+                    else
+                    {
+                        removedTopics.add(cataloguedTopics.get(topicName));
+                    }
+                }
 
-                    for (TopicElement topicElement : cataloguedTopics)
+                for (String topicName : activeTopicNames)
+                {
+                    if (! cataloguedTopics.containsKey(topicName))
                     {
-                        String topicName = topicElement.getProperties().getQualifiedName();
-                        String topicGUID = topicElement.getElementHeader().getGUID();
+                        newTopicNames.add(topicName);
+                    }
+                }
 
-                        if (! activeTopicNames.contains(topicName))
-                        {
-                            /*
-                             * The topic no longer exists so delete it from the catalog.
-                             */
-                            getContext().removeTopic(topicGUID, topicName);
+                Collections.sort(newTopicNames);
 
-                            auditLog.logMessage(methodName,
-                                                KafkaIntegrationConnectorAuditCode.TOPIC_DELETED.getMessageDefinition(connectorName,
-                                                                                                                      topicName,
-                                                                                                                      topicGUID));
-                        }
-                        else
-                        {
-                            activeTopicNames.remove(topicName);
-                        }
-                    }
+                int removedCount = this.removeTopics(removedTopics);
+                int addedCount   = this.addTopics(targetRootURL, admin, newTopicNames, templateGUID, templateQualifiedName);
+                int updatedCount = 0;
 
-                    cataloguedTopics = getContext().getMyTopics(startFrom, getContext().getMaxPageSize());
+                if (describeTopics)
+                {
+                    updatedCount = this.updateTopics(targetRootURL, admin, oldTopicNames, cataloguedTopics);
                 }
 
+                auditLog.logMessage(methodName,
+                                    KafkaIntegrationConnectorAuditCode.TOPICS_RECONCILED.getMessageDefinition(connectorName,
+                                                                                                              Integer.toString(activeTopicNames.size()),
+                                                                                                              targetRootURL,
+                                                                                                              Integer.toString(cataloguedTopics.size()),
+                                                                                                              Integer.toString(addedCount),
+                                                                                                              Integer.toString(removedCount),
+                                                                                                              Integer.toString(updatedCount)));
+            }
+        }
+        catch (Exception error)
+        {
+            auditLog.logException(methodName,
+                                  KafkaIntegrationConnectorAuditCode.UNABLE_TO_RETRIEVE_TOPICS.getMessageDefinition(connectorName,
+                                                                                                                    targetRootURL,
+                                                                                                                    error.getClass().getName(),
+                                                                                                                    error.getMessage()),
+                                  error);
+        }
+    }
 
-                String topicGUID;
 
-                /*
-                 * Add the remaining active topics to the catalog.
-                 */
-                for (String topicName : activeTopicNames)
+    /**
+     * Retrieve all the topics catalogued for the event broker.
+     *
+     * @return map of topic name to topic element
+     * @throws Exception problem with the metadata access
+     */
+    private Map<String, TopicElement> getCataloguedTopics() throws Exception
+    {
+        Map<String, TopicElement> cataloguedTopics = new HashMap<>();
+
+        int                startFrom = 0;
+        int                pageSize  = getContext().getMaxPageSize();
+        List<TopicElement> topicPage = getContext().getMyTopics(startFrom, pageSize);
+
+        while (topicPage != null)
+        {
+            for (TopicElement topicElement : topicPage)
+            {
+                if ((topicElement != null) && (topicElement.getProperties() != null))
+                {
+                    cataloguedTopics.put(topicElement.getProperties().getQualifiedName(), topicElement);
+                }
+            }
+
+            if ((pageSize == 0) || (topicPage.size() < pageSize))
+            {
+                break;
+            }
+
+            startFrom = startFrom + pageSize;
+            topicPage = getContext().getMyTopics(startFrom, pageSize);
+        }
+
+        return cataloguedTopics;
+    }
+
+
+    /**
+     * Remove the catalogued topics that are no longer defined in the event broker.  A failure to remove one topic
+     * is logged and does not stop the others being removed.
+     *
+     * @param removedTopics topics to remove
+     * @return number of topics removed
+     * @throws ConnectorCheckedException the connector is stopping
+     */
+    private int removeTopics(List<TopicElement> removedTopics) throws ConnectorCheckedException
+    {
+        final String methodName = "removeTopics";
+
+        int removedCount = 0;
+
+        for (List<TopicElement> batch : this.getBatches(removedTopics))
+        {
+            for (TopicElement topicElement : batch)
+            {
+                String topicName = topicElement.getProperties().getQualifiedName();
+                String topicGUID = topicElement.getElementHeader().getGUID();
+
+                try
+                {
+                    getContext().removeTopic(topicGUID, topicName);
+                    removedCount ++;
+
+                    auditLog.logMessage(methodName,
+                                        KafkaIntegrationConnectorAuditCode.TOPIC_DELETED.getMessageDefinition(connectorName,
+                                                                                                              topicName,
+                                                                                                              topicGUID));
+                }
+                catch (Exception error)
+                {
+                    this.logTopicException(methodName, topicName, error);
+                }
+            }
+        }
+
+        return removedCount;
+    }
+
+
+    /**
+     * Catalog the topics that are defined in the event broker but not in the catalog.  A failure to catalog one
+     * topic is logged and does not stop the others being catalogued.
+     *
+     * @param targetRootURL URL to the Kafka Broker
+     * @param admin Kafka admin client
+     * @param newTopicNames names of the topics to add
+     * @param templateGUID optional template to use when creating new topics
+     * @param templateQualifiedName qualifiedName for template - only set if templateGUID is set
+     * @return number of topics added
+     * @throws Exception problem retrieving the details of the topics from the event broker
+     */
+    private int addTopics(String       targetRootURL,
+                          Admin        admin,
+                          List<String> newTopicNames,
+                          String       templateGUID,
+                          String       templateQualifiedName) throws Exception
+    {
+        final String methodName = "addTopics";
+
+        int addedCount = 0;
+
+        for (List<String> batch : this.getBatches(newTopicNames))
+        {
+            Map<String, Map<String, String>> topicDetails = new HashMap<>();
+
+            if (describeTopics)
+            {
+                topicDetails = this.describeTopics(targetRootURL, admin, batch);
+            }
+
+            for (String topicName : batch)
+            {
+                if ((describeTopics) && (! topicDetails.containsKey(topicName)))
+                {
+                    /*
+                     * The topic has been deleted since the topics were listed.
+                     */
+                    continue;
+                }
+
+                try
                 {
+                    String topicGUID;
+
                     if (templateGUID == null)
                     {
                         TopicProperties topicProperties = new TopicProperties();
 
                         topicProperties.setQualifiedName(topicName);
                         topicProperties.setTypeName(OpenMetadataType.KAFKA_TOPIC.typeName);
+                        topicProperties.setAdditionalProperties(topicDetails.get(topicName));
 
                         topicGUID = getContext().createTopic(topicProperties);
 
                         if (topicGUID != null)
                         {
+                            addedCount ++;
+
                             auditLog.logMessage(methodName,
                                                 KafkaIntegrationConnectorAuditCode.TOPIC_CREATED.getMessageDefinition(connectorName,
                                                                                                                       topicName,
@@ -476,6 +660,17 @@ public class KafkaTopicIntegrationConnector extends TopicIntegratorConnector imp
 
                         if (topicGUID != null)
                         {
+                            addedCount ++;
+
+                            if (topicDetails.get(topicName) != null)
+                            {
+                                TopicProperties topicProperties = new TopicProperties();
+
+                                topicProperties.setAdditionalProperties(topicDetails.get(topicName));
+
+                                getContext().updateTopic(topicGUID, true, topicProperties);
+                            }
+
                             auditLog.logMessage(methodName,
                                                 KafkaIntegrationConnectorAuditCode.TOPIC_CREATED_FROM_TEMPLATE.getMessageDefinition(connectorName,
                                                                                                                                     topicName,
@@ -485,20 +680,299 @@ public class KafkaTopicIntegrationConnector extends TopicIntegratorConnector imp
                         }
                     }
                 }
+                catch (Exception error)
+                {
+                    this.logTopicException(methodName, topicName, error);
+                }
+            }
+        }
+
+        return addedCount;
+    }
+
+
+    /**
+     * Update the catalogued topics whose details in the event broker have changed since they were catalogued.
+     *
+     * @param targetRootURL URL to the Kafka Broker
+     * @param admin Kafka admin client
+     * @param topicNames names of the topics that are both in the event broker and the catalog
+     * @param cataloguedTopics map of topic name to catalogued topic
+     * @return number of topics updated
+     * @throws Exception problem retrieving the details of the topics from the event broker
+     */
+    private int updateTopics(String                    targetRootURL,
+                             Admin                     admin,
+                             List<String>              topicNames,
+                             Map<String, TopicElement> cataloguedTopics) throws Exception
+    {
+        final String methodName = "updateTopics";
+
+        int updatedCount = 0;
+
+        for (List<String> batch : this.getBatches(topicNames))
+        {
+            Map<String, Map<String, String>> topicDetails = this.describeTopics(targetRootURL, admin, batch);
+
+            for (String topicName : batch)
+            {
+                TopicElement        topicElement = cataloguedTopics.get(topicName);
+                Map<String, String> details      = topicDetails.get(topicName);
+
+                if ((details != null) && (! details.equals(topicElement.getProperties().getAdditionalProperties())))
+                {
+                    String topicGUID = topicElement.getElementHeader().getGUID();
+
+                    try
+                    {
+                        TopicProperties topicProperties = new TopicProperties();
+
+                        topicProperties.setAdditionalProperties(details);
+
+                        getContext().updateTopic(topicGUID, true, topicProperties);
+                        updatedCount ++;
+
+                        auditLog.logMessage(methodName,
+                                            KafkaIntegrationConnectorAuditCode.TOPIC_UPDATED.getMessageDefinition(connectorName,
+                                                                                                                  topicName,
+                                                                                                                  topicGUID));
+                    }
+                    catch (Exception error)
+                    {
+                        this.logTopicException(methodName, topicName, error);
+                    }
+                }
+            }
+        }
+
+        return updatedCount;
+    }
+
+
+    /**
+     * Retrieve the partition count, replication factor and non-default configuration of a batch of topics
+     * using one describeTopics and one describeConfigs request.  The results are retrieved topic by topic
+     * so that a topic deleted since the topics were listed is left out of the results rather than failing
+     * the whole batch.
+     *
+     * @param targetRootURL URL to the Kafka Broker
+     * @param admin Kafka admin client
+     * @param topicNames names of the topics to describe
+     * @return map of topic name to topic details
+     * @throws Exception problem calling the event broker
+     */
+    private Map<String, Map<String, String>> describeTopics(String       targetRootURL,
+                                                            Admin        admin,
+                                                            List<String> topicNames) throws Exception
+    {
+        List<ConfigResource> configResources = new ArrayList<>();
+
+        for (String topicName : topicNames)
+        {
+            configResources.add(new ConfigResource(ConfigResource.Type.TOPIC, topicName));
+        }
+
+        Map<String, KafkaFuture<TopicDescription>> topicDescriptions = this.callAdminClient(targetRootURL, () -> admin.describeTopics(topicNames).topicNameValues());
+        Map<ConfigResource, KafkaFuture<Config>>   topicConfigs      = this.callAdminClient(targetRootURL, () -> admin.describeConfigs(configResources).values());
+
+        Map<String, Map<String, String>> topicDetails = new HashMap<>();
+
+        for (ConfigResource configResource : configResources)
+        {
+            Map<String, String> details          = new HashMap<>();
+            TopicDescription    topicDescription = this.getTopicResult(targetRootURL, topicDescriptions.get(configResource.name()));
+            Config              topicConfig      = this.getTopicResult(targetRootURL, topicConfigs.get(configResource));
+
+            if ((topicDescription == null) || (topicConfig == null))
+            {
+                /*
+                 * The topic has been deleted since the topics were listed.
+                 */
+                continue;
+            }
+
+            if ((topicDescription.partitions() != null) && (! topicDescription.partitions().isEmpty()))
+            {
+                details.put(partitionCountPropertyName, Integer.toString(topicDescription.partitions().size()));
+                details.put(replicationFactorPropertyName, Integer.toString(topicDescription.partitions().get(0).replicas().size()));
+            }
+
+            for (ConfigEntry configEntry : topicConfig.entries())
+            {
+                if ((configEntry.source() != ConfigEntry.ConfigSource.DEFAULT_CONFIG) &&
+                    (! configEntry.isSensitive()) &&
+                    (configEntry.value() != null))
+                {
+                    details.put(configEntry.name(), configEntry.value());
+                }
+            }
+
+            topicDetails.put(configResource.name(), details);
+        }
+
+        return topicDetails;
+    }
+
+
+    /**
+     * Wait for the result of a request about a single topic.  If the topic is not known to the event broker,
+     * null is returned.  Any other failure closes the admin client so that a new one is created on the next refresh.
+     *
+     * @param targetRootURL URL to the Kafka Broker
+     * @param topicResult future result for the topic
+     * @return result or null if the topic no longer exists
+     * @param <T> type of result
+     * @throws Exception problem calling the event broker
+     */
+    private <T> T getTopicResult(String         targetRootURL,
+                                 KafkaFuture<T> topicResult) throws Exception
+    {
+        if (topicResult == null)
+        {
+            return null;
+        }
+
+        try
+        {
+            return topicResult.get();
+        }
+        catch (ExecutionException error)
+        {
+            if (error.getCause() instanceof UnknownTopicOrPartitionException)
+            {
+                return null;
             }
+
+            this.closeAdminClient(targetRootURL);
+
+            throw error;
+        }
+    }
+
+
+    /**
+     * Split a list into batches of the configured size.
+     *
+     * @param elements list to split
+     * @return list of batches
+     * @param <T> type of the elements
+     */
+    private <T> List<List<T>> getBatches(List<T> elements)
+    {
+        List<List<T>> batches = new ArrayList<>();
+
+        for (int startFrom = 0; startFrom < elements.size(); startFrom = startFrom + topicBatchSize)
+        {
+            batches.add(elements.subList(startFrom, Math.min(startFrom + topicBatchSize, elements.size())));
+        }
+
+        return batches;
+    }
+
+
+    /**
+     * Log an exception that occurred when maintaining a single topic.
+     *
+     * @param methodName calling method
+     * @param topicName name of the topic
+     * @param error exception
+     * @throws ConnectorCheckedException the connector is stopping
+     */
+    private void logTopicException(String    methodName,
+                                   String    topicName,
+                                   Exception error) throws ConnectorCheckedException
+    {
+        if (error instanceof ConnectorCheckedException connectorCheckedException)
+        {
+            throw connectorCheckedException;
+        }
+
+        auditLog.logException(methodName,
+                              KafkaIntegrationConnectorAuditCode.UNEXPECTED_EXC_TOPIC_UPDATE.getMessageDefinition(error.getClass().getName(),
+                                                                                                                  connectorName,
+                                                                                                                  topicName,
+                                                                                                                  error.getMessage()),
+                              error);
+    }
+
+
+    /**
+     * Return the admin client for the event broker.  The client is created on first use and then reused for each
+     * refresh until the connector disconnects or the client fails.
+     *
+     * @param targetRootURL URL to the Kafka Broker
+     * @return admin client
+     */
+    private synchronized Admin getAdminClient(String targetRootURL)
+    {
+        Admin admin = adminClients.get(targetRootURL);
+
+        if (admin == null)
+        {
+            admin = this.createAdminClient(targetRootURL);
+            adminClients.put(targetRootURL, admin);
+        }
+
+        return admin;
+    }
+
+
+    /**
+     * Create a new admin client for the event broker.
+     *
+     * @param targetRootURL URL to the Kafka Broker
+     * @return admin client
+     */
+    Admin createAdminClient(String targetRootURL)
+    {
+        Properties properties = new Properties();
+        properties.put("bootstrap.servers", targetRootURL);
+
+        return Admin.create(properties);
+    }
+
+
+    /**
+     * Issue a request to the event broker through the admin client.  If the request fails, the admin client is
+     * closed so that a new one is created on the next refresh.
+     *
+     * @param targetRootURL URL to the Kafka Broker
+     * @param request request to the admin client
+     * @return result of the request
+     * @param <T> type of result
+     * @throws Exception problem calling the event broker
+     */
+    private <T> T callAdminClient(String      targetRootURL,
+                                  Callable<T> request) throws Exception
+    {
+        try
+        {
+            return request.call();
         }
         catch (Exception error)
         {
-            auditLog.logException(methodName,
-                                  KafkaIntegrationConnectorAuditCode.UNABLE_TO_RETRIEVE_TOPICS.getMessageDefinition(connectorName,
-                                                                                                                    targetRootURL,
-                                                                                                                    error.getClass().getName(),
-                                                                                                                    error.getMessage()),
-                                  error);
+            this.closeAdminClient(targetRootURL);
+
+            throw error;
         }
     }
 
 
+    /**
+     * Close the admin client for the event broker.
+     *
+     * @param targetRootURL URL to the Kafka Broker
+     */
+    private synchronized void closeAdminClient(String targetRootURL)
+    {
+        Admin admin = adminClients.remove(targetRootURL);
+
+        if (admin != null)
+        {
+            admin.close();
+        }
+    }
+
 
     /**
      * Shutdown kafka monitoring
@@ -517,6 +991,16 @@ public class KafkaTopicIntegrationConnector extends TopicIntegratorConnector imp
                                 KafkaIntegrationConnectorAuditCode.CONNECTOR_STOPPING.getMessageDefinition(connectorName));
         }
 
+        synchronized (this)
+        {
+            for (Admin admin : adminClients.values())
+            {
+                admin.close();
+            }
+
+            adminClients.clear();
+        }
+
         super.disconnect();
     }
 }
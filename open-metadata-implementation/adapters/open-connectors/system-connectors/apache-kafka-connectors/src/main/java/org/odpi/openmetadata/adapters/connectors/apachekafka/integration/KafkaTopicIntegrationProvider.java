@@ -48,6 +48,17 @@ public class KafkaTopicIntegrationProvider extends IntegrationConnectorProvider
 
     static final String TEMPLATE_QUALIFIED_NAME_CONFIGURATION_PROPERTY = "templateQualifiedName";
 
+    /**
+     * Maximum number of topics added, removed or described in each batch.  The default is 500.
+     */
+    static final String TOPIC_BATCH_SIZE_CONFIGURATION_PROPERTY = "topicBatchSize";
+
+    /**
+     * When set, the partition count, replication factor and non-default configuration of each topic are
+     * retrieved from the event broker and stored in the additional properties of the Topic.
+     */
+    static final String DESCRIBE_TOPICS_CONFIGURATION_PROPERTY = "describeTopics";
+
 
     /**
      * The name of the catalog target that contains the server to monitor.
@@ -79,6 +90,8 @@ public class KafkaTopicIntegrationProvider extends IntegrationConnectorProvider
         connectorType.setConnectorProviderClassName(this.getClass().getName());
         List<String> recognizedConfigurationProperties = new ArrayList<>();
         recognizedConfigurationProperties.add(TEMPLATE_QUALIFIED_NAME_CONFIGURATION_PROPERTY);
+        recognizedConfigurationProperties.add(TOPIC_BATCH_SIZE_CONFIGURATION_PROPERTY);
+        recognizedConfigurationProperties.add(DESCRIBE_TOPICS_CONFIGURATION_PROPERTY);
         connectorType.setRecognizedConfigurationProperties(recognizedConfigurationProperties);
         connectorType.setSupportedAssetTypeName(supportedAssetTypeName);
         connectorType.setSupportedDeployedImplementationType(DeployedImplementationType.TOPIC_INTEGRATION_CONNECTOR.getDeployedImplementationType());
@@ -159,6 +159,15 @@ public enum KafkaIntegrationConnectorAuditCode implements AuditLogMessageSet
                          "The connector is unable to catalog one or more topics.",
                          "Use the details from the error message to determine the cause of the error and retry the request once it is resolved."),
 
+    /**
+     * APACHE-KAFKA-INTEGRATION-CONNECTOR-0022 - The {0} integration connector has compared the {1} topics in event broker {2} with {3} catalogued topics: {4} topics added, {5} topics removed and {6} topics updated
+     */
+    TOPICS_RECONCILED("APACHE-KAFKA-INTEGRATION-CONNECTOR-0022",
+                      AuditLogRecordSeverityLevel.INFO,
+                      "The {0} integration connector has compared the {1} topics in event broker {2} with {3} catalogued topics: {4} topics added, {5} topics removed and {6} topics updated",
+                      "The connector has brought the catalogued topics in line with the topics defined in the event broker.",
+                      "No action is required unless there are errors that precede this message indicating that some topics could not be maintained."),
+
     ;
 
     private final String                     logMessageId;
@@ -0,0 +1,478 @@
+/* SPDX-License-Identifier: Apache-2.0 */
+/* Copyright Contributors to the ODPi Egeria project. */
+package org.odpi.openmetadata.adapters.connectors.apachekafka.integration;
+
+import org.apache.kafka.clients.admin.Admin;
+import org.apache.kafka.clients.admin.ListTopicsOptions;
+import org.apache.kafka.clients.admin.ListTopicsResult;
+import org.apache.kafka.clients.admin.MockAdminClient;
+import org.apache.kafka.common.Node;
+import org.apache.kafka.common.TopicPartitionInfo;
+import org.odpi.openmetadata.accessservices.datamanager.properties.TemplateProperties;
+import org.odpi.openmetadata.adapters.connectors.apachekafka.integration.ffdc.KafkaIntegrationConnectorAuditCode;
+import org.odpi.openmetadata.frameworks.auditlog.AuditLog;
+import org.odpi.openmetadata.frameworks.auditlog.AuditLogDestination;
+import org.odpi.openmetadata.frameworks.auditlog.AuditLogRecord;
+import org.odpi.openmetadata.frameworks.auditlog.ComponentDevelopmentStatus;
+import org.odpi.openmetadata.frameworks.connectors.properties.ConnectionProperties;
+import org.odpi.openmetadata.frameworks.connectors.properties.beans.Connection;
+import org.odpi.openmetadata.frameworks.openmetadata.metadataelements.ElementHeader;
+import org.odpi.openmetadata.frameworks.openmetadata.metadataelements.TopicElement;
+import org.odpi.openmetadata.frameworks.openmetadata.properties.assets.topics.TopicProperties;
+import org.odpi.openmetadata.integrationservices.topic.connector.TopicIntegratorContext;
+import org.testng.annotations.AfterMethod;
+import org.testng.annotations.Test;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertFalse;
+import static org.testng.Assert.assertTrue;
+
+
+/**
+ * Verify that the Kafka topic integration connector reconciles the catalogued topics with the topics in the
+ * event broker as a diff.  The event broker is simulated with the MockAdminClient from the kafka-clients test jar.
+ */
+public class KafkaTopicIntegrationConnectorTest
+{
+    private static final String targetRootURL = "localhost:9092";
+    private static final Node   broker        = new Node(0, "localhost", 9092);
+
+    private KafkaTopicIntegrationConnector connector    = null;
+    private TestTopicContext               topicContext = null;
+    private final List<String>             messageIds   = new ArrayList<>();
+
+
+    /**
+     * Stop the connector and its admin client.
+     *
+     * @throws Exception unable to stop the connector
+     */
+    @AfterMethod
+    public void tearDown() throws Exception
+    {
+        if (connector != null)
+        {
+            connector.disconnect();
+        }
+    }
+
+
+    /**
+     * Topics only in the event broker are catalogued, topics only in the catalog are removed and topics in both are
+     * left alone.  A second refresh with no changes in the event broker makes no changes to the catalog.
+     *
+     * @throws Exception test failure
+     */
+    @Test
+    public void testTopicsAddedAndRemoved() throws Exception
+    {
+        MockAdminClient admin = new MockAdminClient(List.of(broker), broker);
+
+        this.addTopic(admin, "orders", 1);
+        this.addTopic(admin, "payments", 1);
+        this.addTopic(admin, "shipments", 1);
+        this.addTopic(admin, "returns", 1);
+
+        this.startConnector(admin, false);
+        topicContext.addCataloguedTopic("payments", null);
+        topicContext.addCataloguedTopic("invoices", null);
+
+        connector.refreshEventBroker(targetRootURL, null, null);
+
+        assertEquals(topicContext.getCataloguedTopicNames(), List.of("orders", "payments", "returns", "shipments"));
+        assertEquals(topicContext.createdTopics, List.of("orders", "returns", "shipments"));
+        assertEquals(topicContext.removedTopics, List.of("invoices"));
+        assertTrue(topicContext.updatedTopics.isEmpty());
+
+        admin.deleteTopics(List.of("returns"));
+        topicContext.createdTopics.clear();
+        topicContext.removedTopics.clear();
+
+        connector.refreshEventBroker(targetRootURL, null, null);
+
+        assertEquals(topicContext.getCataloguedTopicNames(), List.of("orders", "payments", "shipments"));
+        assertTrue(topicContext.createdTopics.isEmpty());
+        assertEquals(topicContext.removedTopics, List.of("returns"));
+
+        topicContext.removedTopics.clear();
+
+        connector.refreshEventBroker(targetRootURL, null, null);
+
+        assertTrue(topicContext.createdTopics.isEmpty());
+        assertTrue(topicContext.removedTopics.isEmpty());
+        assertTrue(topicContext.updatedTopics.isEmpty());
+        assertFalse(messageIds.contains(KafkaIntegrationConnectorAuditCode.UNABLE_TO_RETRIEVE_TOPICS.getMessageDefinition().getMessageId()));
+    }
+
+
+    /**
+     * With describeTopics set, new topics are catalogued with their details and catalogued topics whose details
+     * have changed are updated.
+     *
+     * @throws Exception test failure
+     */
+    @Test
+    public void testTopicDetailsCatalogued() throws Exception
+    {
+        MockAdminClient admin = new MockAdminClient(List.of(broker), broker);
+
+        this.addTopic(admin, "orders", 3);
+        this.addTopic(admin, "payments", 2);
+        this.addTopic(admin, "shipments", 1);
+
+        this.startConnector(admin, true);
+        topicContext.addCataloguedTopic("payments", Map.of("partitionCount", "1", "replicationFactor", "1", "retention.ms", "1000"));
+        topicContext.addCataloguedTopic("shipments", Map.of("partitionCount", "1", "replicationFactor", "1", "retention.ms", "1000"));
+
+        connector.refreshEventBroker(targetRootURL, null, null);
+
+        assertEquals(topicContext.createdTopics, List.of("orders"));
+        assertEquals(topicContext.updatedTopics, List.of("payments"));
+        assertEquals(topicContext.getAdditionalProperties("orders"), Map.of("partitionCount", "3", "replicationFactor", "1", "retention.ms", "1000"));
+        assertEquals(topicContext.getAdditionalProperties("payments"), Map.of("partitionCount", "2", "replicationFactor", "1", "retention.ms", "1000"));
+    }
+
+
+    /**
+     * A topic deleted between listing the topics and describing them is skipped and the rest of the batch
+     * is catalogued.
+     *
+     * @throws Exception test failure
+     */
+    @Test
+    public void testTopicDeletedWhileDescribing() throws Exception
+    {
+        MockAdminClient admin = new MockAdminClient(List.of(broker), broker)
+        {
+            /**
+             * Delete a topic as soon as it has been listed.
+             *
+             * @param options options for the request
+             * @return listed topics
+             */
+            @Override
+            public synchronized ListTopicsResult listTopics(ListTopicsOptions options)
+            {
+                ListTopicsResult listTopicsResult = super.listTopics(options);
+
+                this.deleteTopics(List.of("deleted"));
+
+                return listTopicsResult;
+            }
+        };
+
+        this.addTopic(admin, "deleted", 1);
+        this.addTopic(admin, "orders", 1);
+        this.addTopic(admin, "payments", 1);
+
+        this.startConnector(admin, true);
+
+        connector.refreshEventBroker(targetRootURL, null, null);
+
+        assertEquals(topicContext.createdTopics, List.of("orders", "payments"));
+        assertFalse(messageIds.contains(KafkaIntegrationConnectorAuditCode.UNABLE_TO_RETRIEVE_TOPICS.getMessageDefinition().getMessageId()));
+    }
+
+
+    /**
+     * Add a topic to the simulated event broker.
+     *
+     * @param admin simulated admin client
+     * @param topicName name of the topic
+     * @param partitionCount number of partitions
+     */
+    private void addTopic(MockAdminClient admin,
+                          String          topicName,
+                          int             partitionCount)
+    {
+        List<TopicPartitionInfo> partitions = new ArrayList<>();
+
+        for (int partition = 0; partition < partitionCount; partition++)
+        {
+            partitions.add(new TopicPartitionInfo(partition, broker, List.of(broker), List.of(broker)));
+        }
+
+        admin.addTopic(false, topicName, partitions, Map.of("retention.ms", "1000"));
+    }
+
+
+    /**
+     * Start a connector that uses the simulated admin client.  Topics are processed in batches of two so that
+     * the batching is exercised.
+     *
+     * @param admin simulated admin client
+     * @param describeTopics should the details of the topics be catalogued
+     * @throws Exception unable to start the connector
+     */
+    private void startConnector(Admin   admin,
+                                boolean describeTopics) throws Exception
+    {
+        Connection          connection              = new Connection();
+        Map<String, Object> configurationProperties = new HashMap<>();
+
+        configurationProperties.put(KafkaTopicIntegrationProvider.TOPIC_BATCH_SIZE_CONFIGURATION_PROPERTY, 2);
+
+        if (describeTopics)
+        {
+            configurationProperties.put(KafkaTopicIntegrationProvider.DESCRIBE_TOPICS_CONFIGURATION_PROPERTY, "true");
+        }
+
+        connection.setConfigurationProperties(configurationProperties);
+
+        AuditLog auditLog = new AuditLog(new TestAuditLogDestination(),
+                                         1,
+                                         ComponentDevelopmentStatus.IN_DEVELOPMENT,
+                                         "testComponent",
+                                         "test",
+                                         null);
+
+        topicContext = new TestTopicContext(auditLog);
+
+        connector = new KafkaTopicIntegrationConnector()
+        {
+            /**
+             * Return the simulated admin client.
+             *
+             * @param targetRootURL URL to the Kafka Broker
+             * @return admin client
+             */
+            @Override
+            Admin createAdminClient(String targetRootURL)
+            {
+                return admin;
+            }
+        };
+
+        connector.initialize("testConnector", new ConnectionProperties(connection));
+        connector.setAuditLog(auditLog);
+        connector.setContext(topicContext);
+        connector.start();
+    }
+
+
+    /**
+     * Audit log destination that records the identifiers of the logged messages.
+     */
+    private class TestAuditLogDestination extends AuditLogDestination
+    {
+        /**
+         * Record the message identifier.
+         *
+         * @param logRecord log record
+         */
+        @Override
+        public void addLogRecord(AuditLogRecord logRecord)
+        {
+            messageIds.add(logRecord.getMessageId());
+        }
+    }
+
+
+    /**
+     * Topic integrator context that keeps the catalogued topics in memory and records the changes made to them.
+     */
+    private static class TestTopicContext extends TopicIntegratorContext
+    {
+        private final Map<String, TopicElement> cataloguedTopics = new TreeMap<>();
+        private final List<String>              createdTopics    = new ArrayList<>();
+        private final List<String>              updatedTopics    = new ArrayList<>();
+        private final List<String>              removedTopics    = new ArrayList<>();
+
+
+        /**
+         * Constructor.
+         *
+         * @param auditLog audit log
+         */
+        TestTopicContext(AuditLog auditLog)
+        {
+            super("testConnector",
+                  "Test Kafka Connector",
+                  "testUser",
+                  "testServer",
+                  null,
+                  null,
+                  null,
+                  null,
+                  null,
+                  null,
+                  null,
+                  null,
+                  false,
+                  null,
+                  "integrationConnectorGUID",
+                  "eventBrokerGUID",
+                  "eventBroker",
+                  auditLog,
+                  2);
+        }
+
+
+        /**
+         * Catalog a topic before the test starts.
+         *
+         * @param topicName name of the topic
+         * @param additionalProperties details of the topic
+         */
+        void addCataloguedTopic(String              topicName,
+                                Map<String, String> additionalProperties)
+        {
+            TopicProperties topicProperties = new TopicProperties();
+
+            topicProperties.setQualifiedName(topicName);
+            topicProperties.setAdditionalProperties(additionalProperties);
+
+            this.catalogTopic(topicName + "-guid", topicProperties);
+        }
+
+
+        /**
+         * Return the names of the catalogued topics in alphabetical order.
+         *
+         * @return list of names
+         */
+        List<String> getCataloguedTopicNames()
+        {
+            return new ArrayList<>(cataloguedTopics.keySet());
+        }
+
+
+        /**
+         * Return the details catalogued for a topic.
+         *
+         * @param topicName name of the topic
+         * @return details
+         */
+        Map<String, String> getAdditionalProperties(String topicName)
+        {
+            return cataloguedTopics.get(topicName).getProperties().getAdditionalProperties();
+        }
+
+
+        /**
+         * Catalog a topic.
+         *
+         * @param topicProperties properties of the topic
+         * @return unique identifier of the topic
+         */
+        @Override
+        public String createTopic(TopicProperties topicProperties)
+        {
+            createdTopics.add(topicProperties.getQualifiedName());
+
+            return this.catalogTopic(topicProperties.getQualifiedName() + "-guid", topicProperties);
+        }
+
+
+        /**
+         * Catalog a topic from a template.
+         *
+         * @param templateGUID unique identifier of the template
+         * @param templateProperties properties of the topic
+         * @return unique identifier of the topic
+         */
+        @Override
+        public String createTopicFromTemplate(String             templateGUID,
+                                              TemplateProperties templateProperties)
+        {
+            TopicProperties topicProperties = new TopicProperties();
+
+            topicProperties.setQualifiedName(templateProperties.getQualifiedName());
+
+            return this.createTopic(topicProperties);
+        }
+
+
+        /**
+         * Update the details of a catalogued topic.
+         *
+         * @param topicGUID unique identifier of the topic
+         * @param isMergeUpdate should the properties be merged with the existing properties
+         * @param topicProperties new properties
+         */
+        @Override
+        public void updateTopic(String          topicGUID,
+                                boolean         isMergeUpdate,
+                                TopicProperties topicProperties)
+        {
+            for (TopicElement topicElement : cataloguedTopics.values())
+            {
+                if (topicElement.getElementHeader().getGUID().equals(topicGUID))
+                {
+                    if (! createdTopics.contains(topicElement.getProperties().getQualifiedName()))
+                    {
+                        updatedTopics.add(topicElement.getProperties().getQualifiedName());
+                    }
+
+                    topicElement.getProperties().setAdditionalProperties(topicProperties.getAdditionalProperties());
+                }
+            }
+        }
+
+
+        /**
+         * Remove a catalogued topic.
+         *
+         * @param topicGUID unique identifier of the topic
+         * @param qualifiedName name of the topic
+         */
+        @Override
+        public void removeTopic(String topicGUID,
+                                String qualifiedName)
+        {
+            removedTopics.add(qualifiedName);
+            cataloguedTopics.remove(qualifiedName);
+        }
+
+
+        /**
+         * Return a page of the catalogued topics.
+         *
+         * @param startFrom starting element
+         * @param pageSize maximum elements to return
+         * @return list of topics or null
+         */
+        @Override
+        public List<TopicElement> getMyTopics(int startFrom,
+                                              int pageSize)
+        {
+            List<TopicElement> topics = new ArrayList<>(cataloguedTopics.values());
+
+            if (startFrom >= topics.size())
+            {
+                return null;
+            }
+
+            return new ArrayList<>(topics.subList(startFrom, Math.min(startFrom + pageSize, topics.size())));
+        }
+
+
+        /**
+         * Add a topic to the catalog.
+         *
+         * @param topicGUID unique identifier of the topic
+         * @param topicProperties properties of the topic
+         * @return unique identifier of the topic
+         */
+        private String catalogTopic(String          topicGUID,
+                                    TopicProperties topicProperties)
+        {
+            ElementHeader elementHeader = new ElementHeader();
+            TopicElement  topicElement  = new TopicElement();
+
+            elementHeader.setGUID(topicGUID);
+            topicElement.setElementHeader(elementHeader);
+            topicElement.setProperties(topicProperties);
+
+            cataloguedTopics.put(topicProperties.getQualifiedName(), topicElement);
+
+            return topicGUID;
+        }
+    }
+}
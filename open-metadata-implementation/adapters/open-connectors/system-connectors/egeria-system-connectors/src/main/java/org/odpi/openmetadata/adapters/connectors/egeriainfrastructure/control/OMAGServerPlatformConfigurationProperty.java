@@ -22,6 +22,24 @@ public enum OMAGServerPlatformConfigurationProperty
                  "cocoMDS1",
                  false),
 
+    /**
+     * Maximum number of requests that are issued to the platform at the same time when extracting a report.
+     */
+    MAX_CONCURRENT_REQUESTS ("maxConcurrentRequests",
+                             "Maximum number of requests that are issued to the platform at the same time when extracting a report.",
+                             "integer",
+                             "4",
+                             false),
+
+    /**
+     * Number of seconds to wait for each request to the platform before it is reported as timed out.
+     */
+    REQUEST_TIMEOUT ("requestTimeout",
+                     "Number of seconds to wait for each request to the platform before it is reported as timed out.",
+                     "integer",
+                     "60",
+                     false),
+
     ;
 
     public final String           name;
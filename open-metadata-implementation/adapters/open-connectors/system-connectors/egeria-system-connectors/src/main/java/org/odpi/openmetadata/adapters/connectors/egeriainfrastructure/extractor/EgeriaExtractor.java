@@ -22,6 +22,7 @@ import org.odpi.openmetadata.frameworks.connectors.properties.beans.ConnectorTyp
 import org.odpi.openmetadata.frameworks.connectors.properties.beans.EmbeddedConnection;
 import org.odpi.openmetadata.frameworks.connectors.properties.beans.VirtualConnection;
 import org.odpi.openmetadata.governanceservers.enginehostservices.client.EngineHostClient;
+import org.odpi.openmetadata.governanceservers.enginehostservices.properties.GovernanceEngineSummary;
 import org.odpi.openmetadata.governanceservers.integrationdaemonservices.client.IntegrationDaemon;
 import org.odpi.openmetadata.governanceservers.integrationdaemonservices.properties.IntegrationDaemonStatus;
 import org.odpi.openmetadata.governanceservers.integrationdaemonservices.properties.IntegrationGroupSummary;
@@ -43,17 +44,44 @@ import org.odpi.openmetadata.serveroperations.properties.ServerServicesStatus;
 import org.odpi.openmetadata.serveroperations.properties.ServerStatus;
 
 import java.util.*;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
 
 /**
  * EgeriaExtractor extracts information from the Egeria runtimes.  It covers both the OMAG Server Platform and the
  * OMAG Servers.
+ * <br><br>
+ * The requests that make up a report are independent of one another, so they are issued in parallel by a bounded
+ * pool of threads.  The servers on a platform are also reported in parallel by a second pool, so the threads
+ * reporting on a server never wait for threads in their own pool.  Each request has a time limit.  A request that
+ * fails or takes too long is recorded in the extractionErrors property of the report and the rest of the report is
+ * returned.
  */
 public class EgeriaExtractor
 {
+    private static final int  defaultMaxConcurrentRequests = 4;
+    private static final long defaultRequestTimeout        = 60000L;
+
     private final String platformURLRoot;
     private final String platformName;
     private final String serverOfInterest;
     private final String clientUserId;
+    private final long   requestTimeout;
+
+    private final ThreadPoolExecutor serverExecutor;
+    private final ThreadPoolExecutor requestExecutor;
+
+    /*
+     * Details derived from each server's configuration document - reused while the configuration is unchanged.
+     */
+    private final Map<String, ServerConfigurationDetails> serverConfigurationCache = new ConcurrentHashMap<>();
 
     private final PlatformServicesClient                platformServicesClient;
     private final OMAGServerPlatformConfigurationClient platformConfigurationClient;
@@ -82,11 +110,42 @@ public class EgeriaExtractor
                            String clientUserId) throws InvalidParameterException,
                                                        OMAGInvalidParameterException,
                                                        org.odpi.openmetadata.repositoryservices.ffdc.exception.InvalidParameterException
+    {
+        this(platformURLRoot, platformName, serverOfInterest, clientUserId, defaultMaxConcurrentRequests, defaultRequestTimeout);
+    }
+
+
+    /**
+     * Constructor
+     *
+     * @param platformURLRoot platform URL root
+     * @param platformName name of the platform
+     * @param serverOfInterest optional server name
+     * @param clientUserId userId to use for calls to the
+     * @param maxConcurrentRequests maximum number of requests issued to the platform at the same time
+     * @param requestTimeout number of milliseconds to wait for each request
+     * @throws InvalidParameterException invalid parameter
+     * @throws OMAGInvalidParameterException invalid parameter
+     */
+    public EgeriaExtractor(String platformURLRoot,
+                           String platformName,
+                           String serverOfInterest,
+                           String clientUserId,
+                           int    maxConcurrentRequests,
+                           long   requestTimeout) throws InvalidParameterException,
+                                                         OMAGInvalidParameterException,
+                                                         org.odpi.openmetadata.repositoryservices.ffdc.exception.InvalidParameterException
     {
         this.platformURLRoot  = platformURLRoot;
         this.platformName     = platformName;
         this.serverOfInterest = serverOfInterest;
         this.clientUserId     = clientUserId;
+        this.requestTimeout   = (requestTimeout > 0) ? requestTimeout : defaultRequestTimeout;
+
+        int threadCount = (maxConcurrentRequests > 0) ? maxConcurrentRequests : defaultMaxConcurrentRequests;
+
+        serverExecutor  = this.getExecutor("EgeriaExtractor:servers:" + platformURLRoot, threadCount);
+        requestExecutor = this.getExecutor("EgeriaExtractor:requests:" + platformURLRoot, threadCount);
 
         platformServicesClient        = new PlatformServicesClient(platformName, platformURLRoot);
         platformConfigurationClient   = new OMAGServerPlatformConfigurationClient(clientUserId, platformURLRoot);
@@ -120,52 +179,139 @@ public class EgeriaExtractor
      */
     public OMAGServerPlatformProperties getPlatformReport() throws Exception
     {
-        OMAGServerPlatformProperties platformReport = new OMAGServerPlatformProperties();
+        OMAGServerPlatformProperties platformReport   = new OMAGServerPlatformProperties();
+        Map<String, String>          extractionErrors = new TreeMap<>();
+
+        Future<String>                      platformOriginRequest     = this.submitRequest(() -> platformServicesClient.getPlatformOrigin(clientUserId));
+        Future<Date>                        platformStartTimeRequest  = this.submitRequest(() -> platformServicesClient.getPlatformStartTime(clientUserId));
+        Future<Connection>                  securityConnectionRequest = this.submitRequest(() -> platformServicesClient.getPlatformSecurityConnection(clientUserId));
+        Future<Connection>                  storeConnectionRequest    = this.submitRequest(platformConfigurationClient::getConfigurationStoreConnection);
+        Future<List<RegisteredOMAGService>> servicesRequest           = this.submitRequest(() -> platformServicesClient.getAllServices(clientUserId));
+        Future<List<String>>                knownServersRequest       = null;
+        Future<Set<OMAGServerConfig>>       configurationsRequest     = null;
+
+        if (serverOfInterest == null)
+        {
+            knownServersRequest   = this.submitRequest(() -> platformServicesClient.getKnownServers(clientUserId));
+            configurationsRequest = this.submitRequest(configurationManagementClient::getAllServerConfigurations);
+        }
 
         platformReport.setPlatformName(platformName);
         platformReport.setPlatformURLRoot(platformURLRoot);
-        platformReport.setPlatformOrigin(platformServicesClient.getPlatformOrigin(clientUserId));
-        platformReport.setPlatformStartTime(platformServicesClient.getPlatformStartTime(clientUserId));
+        platformReport.setPlatformOrigin(this.getResult("getPlatformOrigin", platformOriginRequest, extractionErrors));
+        platformReport.setPlatformStartTime(this.getResult("getPlatformStartTime", platformStartTimeRequest, extractionErrors));
         platformReport.setPlatformSecurityConnection(this.getConnectorProperties("Platform Security Connector",
-                                                                                 platformServicesClient.getPlatformSecurityConnection(clientUserId)));
+                                                                                 this.getResult("getPlatformSecurityConnection", securityConnectionRequest, extractionErrors)));
         platformReport.setConfigurationStoreConnection(this.getConnectorProperties("Configuration Store Connector",
-                                                                                   platformConfigurationClient.getConfigurationStoreConnection()));
-        platformReport.setRegisteredOMAGServices(platformServicesClient.getAllServices(clientUserId));
+                                                                                   this.getResult("getConfigurationStoreConnection", storeConnectionRequest, extractionErrors)));
+        platformReport.setRegisteredOMAGServices(this.getResult("getAllServices", servicesRequest, extractionErrors));
 
         /*
-         * Collect server details.
+         * Collect server details.  The configuration documents are retrieved in a single request - any that are missing are
+         * retrieved individually by the server's report.
          */
-        Map<String, OMAGServerProperties> serverDetailsMap = new HashMap<>();
+        List<String>                  serverNames          = null;
+        Map<String, OMAGServerConfig> savedConfigurations  = new HashMap<>();
 
         if (serverOfInterest != null)
         {
-            serverDetailsMap.put(serverOfInterest, extractServerReport(serverOfInterest));
+            serverNames = Collections.singletonList(serverOfInterest);
         }
         else
         {
-            List<String> knownServers = platformServicesClient.getKnownServers(clientUserId);
+            serverNames = this.getResult("getKnownServers", knownServersRequest, extractionErrors);
+
+            Set<OMAGServerConfig> configurations = this.getResult("getAllServerConfigurations", configurationsRequest, extractionErrors);
 
-            if (knownServers != null)
+            if (configurations != null)
             {
-                for (String serverName : knownServers)
+                for (OMAGServerConfig configuration : configurations)
                 {
-                    if (serverName != null)
+                    if ((configuration != null) && (configuration.getLocalServerName() != null))
                     {
-                        serverDetailsMap.put(serverName, extractServerReport(serverName));
+                        savedConfigurations.put(configuration.getLocalServerName(), configuration);
                     }
                 }
             }
+        }
+
+        Map<String, Future<OMAGServerProperties>> serverReportRequests = new LinkedHashMap<>();
+
+        if (serverNames != null)
+        {
+            for (String serverName : serverNames)
+            {
+                if ((serverName != null) && (! serverReportRequests.containsKey(serverName)))
+                {
+                    OMAGServerConfig savedConfiguration = savedConfigurations.get(serverName);
+
+                    serverReportRequests.put(serverName, serverExecutor.submit(() -> extractServerReport(serverName, savedConfiguration)));
+                }
+            }
+        }
+
+        List<OMAGServerProperties> serverReports = new ArrayList<>();
 
+        for (String serverName : serverReportRequests.keySet())
+        {
+            OMAGServerProperties serverReport;
+
+            try
+            {
+                serverReport = serverReportRequests.get(serverName).get();
+            }
+            catch (ExecutionException error)
+            {
+                serverReport = this.getFailedServerReport(serverName, error.getCause());
+            }
+            catch (InterruptedException error)
+            {
+                Thread.currentThread().interrupt();
+                serverReport = this.getFailedServerReport(serverName, error);
+            }
+
+            if (serverReport != null)
+            {
+                serverReports.add(serverReport);
+            }
         }
 
-        if (! serverDetailsMap.isEmpty())
+        if (! serverReports.isEmpty())
         {
-            platformReport.setOMAGServers(new ArrayList<>(serverDetailsMap.values()));
+            platformReport.setOMAGServers(serverReports);
         }
+
+        if (! extractionErrors.isEmpty())
+        {
+            platformReport.setExtractionErrors(extractionErrors);
+        }
+
         return platformReport;
     }
 
 
+    /**
+     * Return a report for a server that could not be extracted.
+     *
+     * @param serverName name of the server
+     * @param error reason for the failure
+     * @return server report
+     */
+    private OMAGServerProperties getFailedServerReport(String    serverName,
+                                                       Throwable error)
+    {
+        OMAGServerProperties serverReport     = new OMAGServerProperties();
+        Map<String, String>  extractionErrors = new TreeMap<>();
+
+        extractionErrors.put("extractServerReport", this.getErrorMessage(error));
+
+        serverReport.setServerName(serverName);
+        serverReport.setExtractionErrors(extractionErrors);
+
+        return serverReport;
+    }
+
+
     /**
      * Return the connector type for the requested connector provider after validating that the
      * connector provider is available on the OMAGServerPlatform's class path.  This method is for tools that are configuring
@@ -759,7 +905,7 @@ public class EgeriaExtractor
     {
         if (serverOfInterest != null)
         {
-            return extractServerReport(serverOfInterest);
+            return extractServerReport(serverOfInterest, null);
         }
 
         return null;
@@ -770,27 +916,61 @@ public class EgeriaExtractor
      * Internal function for extracting details about a server.
      *
      * @param serverName ane of the server
+     * @param savedConfiguration configuration document for the server if it has already been retrieved
      * @return server report
      * @throws Exception a variety of exceptions from the different clients
      */
-    private OMAGServerProperties extractServerReport(String serverName) throws Exception
+    private OMAGServerProperties extractServerReport(String           serverName,
+                                                     OMAGServerConfig savedConfiguration) throws Exception
     {
-        OMAGServerConfig savedConfiguration = configurationManagementClient.getOMAGServerConfig(serverName);
+        if (savedConfiguration == null)
+        {
+            savedConfiguration = this.waitForRequest(this.submitRequest(() -> configurationManagementClient.getOMAGServerConfig(serverName)));
+        }
 
         if (savedConfiguration != null)
         {
-            OMAGServerProperties serverProperties;
-            ServerTypeClassifier serverTypeClassifier = new ServerTypeClassifier(serverName, savedConfiguration);
+            Map<String, String>        extractionErrors         = new TreeMap<>();
+            ServerConfigurationDetails configurationDetails     = this.getServerConfigurationDetails(serverName, savedConfiguration);
+            ServerTypeClassification   serverTypeClassification = configurationDetails.getServerTypeClassification();
 
-            ServerTypeClassification serverTypeClassification = serverTypeClassifier.getServerType();
+            Future<IntegrationDaemonStatus>       integrationDaemonStatusRequest   = null;
+            Future<List<GovernanceEngineSummary>> governanceEngineSummariesRequest = null;
+            OMAGServerProperties                  serverProperties;
 
             if (serverTypeClassification == ServerTypeClassification.INTEGRATION_DAEMON)
             {
-                IntegrationDaemon integrationDaemonClient = new IntegrationDaemon(serverName, platformURLRoot);
+                integrationDaemonStatusRequest = this.submitRequest(() -> new IntegrationDaemon(serverName, platformURLRoot).getIntegrationDaemonStatus(clientUserId));
+                serverProperties               = new OMAGIntegrationDaemonProperties();
+            }
+            else if (serverTypeClassification == ServerTypeClassification.ENGINE_HOST)
+            {
+                governanceEngineSummariesRequest = this.submitRequest(() -> new EngineHostClient(platformURLRoot, serverName).getGovernanceEngineSummaries(clientUserId));
+                serverProperties                 = new OMAGEngineHostProperties();
+            }
+            else if (serverTypeClassification == ServerTypeClassification.METADATA_ACCESS_STORE)
+            {
+                OMAGMetadataStoreProperties metadataStoreProperties = new OMAGMetadataStoreProperties();
 
-                OMAGIntegrationDaemonProperties integrationDaemon = new OMAGIntegrationDaemonProperties();
+                metadataStoreProperties.setRepositoryConnector(configurationDetails.getLocalRepositoryConnector());
 
-                IntegrationDaemonStatus integrationDaemonStatus = integrationDaemonClient.getIntegrationDaemonStatus(clientUserId);
+                serverProperties = metadataStoreProperties;
+            }
+            else
+            {
+                serverProperties = new OMAGServerProperties();
+            }
+
+            this.fillInStandardServerProperties(serverName,
+                                                serverTypeClassification,
+                                                savedConfiguration,
+                                                configurationDetails,
+                                                serverProperties,
+                                                extractionErrors);
+
+            if (serverProperties instanceof OMAGIntegrationDaemonProperties integrationDaemon)
+            {
+                IntegrationDaemonStatus integrationDaemonStatus = this.getResult("getIntegrationDaemonStatus", integrationDaemonStatusRequest, extractionErrors);
 
                 if (integrationDaemonStatus != null)
                 {
@@ -818,42 +998,17 @@ public class EgeriaExtractor
 
                     integrationDaemon.setIntegrationConnectorReports(integrationDaemonStatus.getIntegrationConnectorReports());
                 }
-
-                serverProperties = integrationDaemon;
             }
-            else if (serverTypeClassification == ServerTypeClassification.ENGINE_HOST)
+            else if (serverProperties instanceof OMAGEngineHostProperties engineHost)
             {
-                EngineHostClient engineHostClient = new EngineHostClient(platformURLRoot, serverName);
-
-                OMAGEngineHostProperties engineHost = new OMAGEngineHostProperties();
-
-                engineHost.setGovernanceEngineSummaries(engineHostClient.getGovernanceEngineSummaries(clientUserId));
-
-                serverProperties = engineHost;
+                engineHost.setGovernanceEngineSummaries(this.getResult("getGovernanceEngineSummaries", governanceEngineSummariesRequest, extractionErrors));
             }
-            else if (serverTypeClassification == ServerTypeClassification.METADATA_ACCESS_STORE)
-            {
-                OMAGMetadataStoreProperties metadataStoreProperties = new OMAGMetadataStoreProperties();
 
-                if ((savedConfiguration.getRepositoryServicesConfig() != null) &&
-                    (savedConfiguration.getRepositoryServicesConfig().getLocalRepositoryConfig() != null))
-                {
-                    metadataStoreProperties.setRepositoryConnector(this.getConnectorProperties("Local Repository",
-                                                                                               savedConfiguration.getRepositoryServicesConfig().getLocalRepositoryConfig().getLocalRepositoryLocalConnection()));
-                }
-
-                serverProperties = metadataStoreProperties;
-            }
-            else
+            if (! extractionErrors.isEmpty())
             {
-                serverProperties = new OMAGServerProperties();
+                serverProperties.setExtractionErrors(extractionErrors);
             }
 
-            this.fillInStandardServerProperties(serverName,
-                                                serverTypeClassification,
-                                                savedConfiguration,
-                                                serverProperties);
-
             return serverProperties;
         }
 
@@ -862,19 +1017,26 @@ public class EgeriaExtractor
 
 
     /**
-     * Internal function to fill out the common details of a server.
+     * Internal function to fill out the common details of a server.  The requests for the server's status and cohorts
+     * are issued together.
      *
      * @param serverName name of the server
      * @param serverTypeClassification the server's classification
      * @param configuration the server's configuration
+     * @param configurationDetails details derived from the server's configuration
      * @param currentDetails the current values extracted for the server
-     * @throws Exception a variety of exceptions from the different clients
+     * @param extractionErrors map of requests that failed
      */
-    private void fillInStandardServerProperties(String                   serverName,
-                                                ServerTypeClassification serverTypeClassification,
-                                                OMAGServerConfig         configuration,
-                                                OMAGServerProperties     currentDetails) throws Exception
+    private void fillInStandardServerProperties(String                     serverName,
+                                                ServerTypeClassification   serverTypeClassification,
+                                                OMAGServerConfig           configuration,
+                                                ServerConfigurationDetails configurationDetails,
+                                                OMAGServerProperties       currentDetails,
+                                                Map<String, String>        extractionErrors)
     {
+        Future<ServerStatus>         platformServerStatusRequest = this.submitRequest(() -> platformServicesClient.getServerStatus(clientUserId, serverName));
+        Future<ServerServicesStatus> activeServerStatusRequest   = this.submitRequest(() -> this.getRunningServerStatus(serverName));
+
         currentDetails.setServerName(serverName);
         currentDetails.setServerType(serverTypeClassification.getServerTypeName());
 
@@ -887,11 +1049,14 @@ public class EgeriaExtractor
 
             if (configuration.getRepositoryServicesConfig() != null)
             {
-                currentDetails.setCohorts(this.getCohortConfigDetails(serverName, configuration.getRepositoryServicesConfig().getCohortConfigList()));
+                currentDetails.setCohorts(this.getCohortConfigDetails(serverName,
+                                                                      configuration.getRepositoryServicesConfig().getCohortConfigList(),
+                                                                      configurationDetails,
+                                                                      extractionErrors));
             }
         }
 
-        ServerStatus platformServerStatus = platformServicesClient.getServerStatus(clientUserId, serverName);
+        ServerStatus platformServerStatus = this.getResult("getServerStatus", platformServerStatusRequest, extractionErrors);
 
         if (platformServerStatus != null)
         {
@@ -900,120 +1065,378 @@ public class EgeriaExtractor
             currentDetails.setServerHistory(platformServerStatus.getServerHistory());
         }
 
-        try
+        ServerServicesStatus activeServerStatus = this.getResult("getActiveServerStatus", activeServerStatusRequest, extractionErrors);
+
+        if (activeServerStatus != null)
         {
-            ServerServicesStatus activeServerStatus = platformServicesClient.getActiveServerStatus(clientUserId, serverName);
+            currentDetails.setServerActiveStatus(activeServerStatus.getServerActiveStatus());
+            currentDetails.setServerType(activeServerStatus.getServerType());
+            currentDetails.setServices(activeServerStatus.getServices());
+        }
+    }
 
-            if (activeServerStatus != null)
-            {
-                currentDetails.setServerActiveStatus(activeServerStatus.getServerActiveStatus());
-                currentDetails.setServerType(activeServerStatus.getServerType());
-                currentDetails.setServices(activeServerStatus.getServices());
-            }
+
+    /**
+     * Return the status of the services running in a server.
+     *
+     * @param serverName name of the server
+     * @return status or null if the server is not running
+     */
+    private ServerServicesStatus getRunningServerStatus(String serverName)
+    {
+        try
+        {
+            return platformServicesClient.getActiveServerStatus(clientUserId, serverName);
         }
         catch (Exception serverNotRunningException)
         {
             // nothing to do - simply that the server is not running
+            return null;
         }
     }
 
 
     /**
-     * Return the cohort details for the named cohort.
+     * Return the cohort details for the named cohort.  The cohort descriptions and the registrations for each cohort
+     * are requested together.
      *
+     * @param serverName name of the server
      * @param cohortConfigs details of the cohort from the configuration
+     * @param configurationDetails details derived from the server's configuration
+     * @param extractionErrors map of requests that failed
      *
      * @return corresponding details
      */
-    private List<OMAGCohortProperties> getCohortConfigDetails(String             serverName,
-                                                              List<CohortConfig> cohortConfigs) throws org.odpi.openmetadata.repositoryservices.ffdc.exception.InvalidParameterException,
-                                                                                                       org.odpi.openmetadata.repositoryservices.ffdc.exception.UserNotAuthorizedException
+    private List<OMAGCohortProperties> getCohortConfigDetails(String                     serverName,
+                                                              List<CohortConfig>         cohortConfigs,
+                                                              ServerConfigurationDetails configurationDetails,
+                                                              Map<String, String>        extractionErrors)
     {
+        final String methodName = "getCohortConfigDetails";
+
         if (cohortConfigs != null)
         {
+            MetadataHighwayServicesClient metadataHighwayServicesClient;
+
             try
             {
-                MetadataHighwayServicesClient metadataHighwayServicesClient = new MetadataHighwayServicesClient(serverName, platformURLRoot);
+                metadataHighwayServicesClient = new MetadataHighwayServicesClient(serverName, platformURLRoot);
+            }
+            catch (Exception error)
+            {
+                extractionErrors.put(methodName, this.getErrorMessage(error));
+                return null;
+            }
 
-                List<CohortDescription> cohortDescriptions = metadataHighwayServicesClient.getCohortDescriptions(clientUserId);
+            Future<List<CohortDescription>>               cohortDescriptionsRequest  = this.submitRequest(() -> metadataHighwayServicesClient.getCohortDescriptions(clientUserId));
+            Map<String, Future<MemberRegistration>>       localRegistrationRequests  = new HashMap<>();
+            Map<String, Future<List<MemberRegistration>>> remoteRegistrationRequests = new HashMap<>();
 
-                Map<String, CohortConnectionStatus> cohortConnectionStatusMap = new HashMap<>();
+            for (CohortConfig cohortConfig : cohortConfigs)
+            {
+                if ((cohortConfig != null) && (! localRegistrationRequests.containsKey(cohortConfig.getCohortName())))
+                {
+                    String cohortName = cohortConfig.getCohortName();
+
+                    localRegistrationRequests.put(cohortName, this.submitRequest(() -> metadataHighwayServicesClient.getLocalRegistration(clientUserId, cohortName)));
+                    remoteRegistrationRequests.put(cohortName, this.submitRequest(() -> metadataHighwayServicesClient.getRemoteRegistrations(clientUserId, cohortName)));
+                }
+            }
+
+            List<CohortDescription> cohortDescriptions = null;
+
+            try
+            {
+                cohortDescriptions = this.waitForRequest(cohortDescriptionsRequest);
+            }
+            catch (RepositoryErrorException serverNotRunningException)
+            {
+                // nothing to do - simply that the server is not running
+                localRegistrationRequests.values().forEach(request -> request.cancel(true));
+                remoteRegistrationRequests.values().forEach(request -> request.cancel(true));
 
-                if (cohortDescriptions != null)
+                return null;
+            }
+            catch (Exception error)
+            {
+                extractionErrors.put("getCohortDescriptions", this.getErrorMessage(error));
+            }
+
+            Map<String, CohortConnectionStatus> cohortConnectionStatusMap = new HashMap<>();
+
+            if (cohortDescriptions != null)
+            {
+                for (CohortDescription cohortDescription : cohortDescriptions)
                 {
-                    for (CohortDescription cohortDescription : cohortDescriptions)
+                    if (cohortDescription != null)
                     {
-                        if (cohortDescription != null)
-                        {
-                            cohortConnectionStatusMap.put(cohortDescription.getCohortName(),
-                                                          cohortDescription.getConnectionStatus());
-                        }
+                        cohortConnectionStatusMap.put(cohortDescription.getCohortName(),
+                                                      cohortDescription.getConnectionStatus());
                     }
                 }
+            }
 
-                List<OMAGCohortProperties> cohortPropertiesList = new ArrayList<>();
+            List<OMAGCohortProperties> cohortPropertiesList = new ArrayList<>();
 
-                for (CohortConfig cohortConfig : cohortConfigs)
+            for (CohortConfig cohortConfig : cohortConfigs)
+            {
+                if (cohortConfig != null)
                 {
-                    if (cohortConfig != null)
-                    {
-                        OMAGCohortProperties cohortDetails = new OMAGCohortProperties();
+                    String               cohortName    = cohortConfig.getCohortName();
+                    OMAGCohortProperties cohortDetails = new OMAGCohortProperties();
+
+                    cohortDetails.setCohortName(cohortName);
+                    cohortDetails.setConnectors(configurationDetails.getCohortConnectors(cohortName));
+                    cohortDetails.setConnectionStatus(cohortConnectionStatusMap.get(cohortName));
+                    cohortDetails.setLocalRegistration(this.getResult("getLocalRegistration(" + cohortName + ")",
+                                                                      localRegistrationRequests.get(cohortName),
+                                                                      extractionErrors));
+                    cohortDetails.setRemoteRegistrations(this.getResult("getRemoteRegistrations(" + cohortName + ")",
+                                                                        remoteRegistrationRequests.get(cohortName),
+                                                                        extractionErrors));
+
+                    cohortPropertiesList.add(cohortDetails);
+                }
+            }
 
-                        cohortDetails.setCohortName(cohortConfig.getCohortName());
+            return cohortPropertiesList;
+        }
 
-                        List<OMAGConnectorProperties> cohortConnectors = new ArrayList<>();
+        return null;
+    }
 
-                        if (cohortConfig.getCohortRegistryConnection() != null)
-                        {
-                            cohortConnectors.add(getConnectorProperties(cohortDetails.getCohortName() + " Cohort Registry Connector",
-                                                                        cohortConfig.getCohortRegistryConnection()));
-                        }
 
-                        if (cohortConfig.getCohortOMRSTopicConnection() != null)
-                        {
-                            cohortConnectors.add(getConnectorProperties(cohortDetails.getCohortName() + " Cohort Topic",
-                                                                        cohortConfig.getCohortOMRSTopicConnection()));
-                        }
+    /**
+     * Return the details derived from a server's configuration document.  They are reused while the document is unchanged.
+     *
+     * @param serverName name of the server
+     * @param configuration the server's configuration document
+     * @return configuration details
+     * @throws OMAGInvalidParameterException the server's configuration is not valid
+     * @throws OMAGConfigurationErrorException the server's type can not be determined from its configuration
+     */
+    private ServerConfigurationDetails getServerConfigurationDetails(String           serverName,
+                                                                     OMAGServerConfig configuration) throws OMAGInvalidParameterException,
+                                                                                                            OMAGConfigurationErrorException
+    {
+        ServerConfigurationDetails configurationDetails = serverConfigurationCache.get(serverName);
 
-                        if (cohortConfig.getCohortOMRSRegistrationTopicConnection() != null)
-                        {
-                            cohortConnectors.add(getConnectorProperties(cohortDetails.getCohortName() + " Cohort Registration Topic",
-                                                                        cohortConfig.getCohortOMRSRegistrationTopicConnection()));
-                        }
+        if ((configurationDetails == null) || (! configurationDetails.isFor(configuration)))
+        {
+            ServerTypeClassifier    serverTypeClassifier     = new ServerTypeClassifier(serverName, configuration);
+            OMAGConnectorProperties localRepositoryConnector = null;
 
-                        if (cohortConfig.getCohortOMRSTypesTopicConnection() != null)
-                        {
-                            cohortConnectors.add(getConnectorProperties(cohortDetails.getCohortName() + " Cohort Types Topic",
-                                                                        cohortConfig.getCohortOMRSTypesTopicConnection()));
-                        }
+            Map<String, List<OMAGConnectorProperties>> cohortConnectors = new HashMap<>();
+
+            if (configuration.getRepositoryServicesConfig() != null)
+            {
+                if (configuration.getRepositoryServicesConfig().getLocalRepositoryConfig() != null)
+                {
+                    localRepositoryConnector = this.getConnectorProperties("Local Repository",
+                                                                           configuration.getRepositoryServicesConfig().getLocalRepositoryConfig().getLocalRepositoryLocalConnection());
+                }
 
-                        if (cohortConfig.getCohortOMRSInstancesTopicConnection() != null)
+                if (configuration.getRepositoryServicesConfig().getCohortConfigList() != null)
+                {
+                    for (CohortConfig cohortConfig : configuration.getRepositoryServicesConfig().getCohortConfigList())
+                    {
+                        if (cohortConfig != null)
                         {
-                            cohortConnectors.add(getConnectorProperties(cohortDetails.getCohortName() + " Cohort Instances Topic",
-                                                                        cohortConfig.getCohortOMRSInstancesTopicConnection()));
+                            cohortConnectors.put(cohortConfig.getCohortName(), this.getCohortConnectors(cohortConfig));
                         }
-
-                        cohortDetails.setConnectors(cohortConnectors);
-                        cohortDetails.setConnectionStatus(cohortConnectionStatusMap.get(cohortConfig.getCohortName()));
-                        cohortDetails.setLocalRegistration(metadataHighwayServicesClient.getLocalRegistration(clientUserId, cohortConfig.getCohortName()));
-                        cohortDetails.setRemoteRegistrations(metadataHighwayServicesClient.getRemoteRegistrations(clientUserId, cohortConfig.getCohortName()));
-
-                        cohortPropertiesList.add(cohortDetails);
                     }
                 }
+            }
+
+            configurationDetails = new ServerConfigurationDetails(configuration,
+                                                                  serverTypeClassifier.getServerType(),
+                                                                  localRepositoryConnector,
+                                                                  cohortConnectors);
+
+            serverConfigurationCache.put(serverName, configurationDetails);
+        }
+
+        return configurationDetails;
+    }
+
+
+    /**
+     * Return the properties of the connectors configured for a cohort.
+     *
+     * @param cohortConfig configuration of the cohort
+     * @return list of connector properties
+     */
+    private List<OMAGConnectorProperties> getCohortConnectors(CohortConfig cohortConfig)
+    {
+        List<OMAGConnectorProperties> cohortConnectors = new ArrayList<>();
+
+        if (cohortConfig.getCohortRegistryConnection() != null)
+        {
+            cohortConnectors.add(getConnectorProperties(cohortConfig.getCohortName() + " Cohort Registry Connector",
+                                                        cohortConfig.getCohortRegistryConnection()));
+        }
+
+        if (cohortConfig.getCohortOMRSTopicConnection() != null)
+        {
+            cohortConnectors.add(getConnectorProperties(cohortConfig.getCohortName() + " Cohort Topic",
+                                                        cohortConfig.getCohortOMRSTopicConnection()));
+        }
+
+        if (cohortConfig.getCohortOMRSRegistrationTopicConnection() != null)
+        {
+            cohortConnectors.add(getConnectorProperties(cohortConfig.getCohortName() + " Cohort Registration Topic",
+                                                        cohortConfig.getCohortOMRSRegistrationTopicConnection()));
+        }
+
+        if (cohortConfig.getCohortOMRSTypesTopicConnection() != null)
+        {
+            cohortConnectors.add(getConnectorProperties(cohortConfig.getCohortName() + " Cohort Types Topic",
+                                                        cohortConfig.getCohortOMRSTypesTopicConnection()));
+        }
 
-                return cohortPropertiesList;
+        if (cohortConfig.getCohortOMRSInstancesTopicConnection() != null)
+        {
+            cohortConnectors.add(getConnectorProperties(cohortConfig.getCohortName() + " Cohort Instances Topic",
+                                                        cohortConfig.getCohortOMRSInstancesTopicConnection()));
+        }
+
+        return cohortConnectors;
+    }
+
+
+    /**
+     * Issue a request to the platform on one of the request threads.
+     *
+     * @param request request to issue
+     * @return future for the result
+     * @param <T> type of result
+     */
+    private <T> Future<T> submitRequest(Callable<T> request)
+    {
+        return requestExecutor.submit(request);
+    }
+
+
+    /**
+     * Wait for the result of a request.  The request is cancelled if it takes longer than the request timeout.
+     *
+     * @param request future for the request
+     * @return result
+     * @param <T> type of result
+     * @throws Exception the exception from the request, or a timeout
+     */
+    private <T> T waitForRequest(Future<T> request) throws Exception
+    {
+        try
+        {
+            return request.get(requestTimeout, TimeUnit.MILLISECONDS);
+        }
+        catch (ExecutionException error)
+        {
+            if (error.getCause() instanceof Exception cause)
+            {
+                throw cause;
             }
-            catch (org.odpi.openmetadata.repositoryservices.ffdc.exception.RepositoryErrorException serverNotRunningException)
+
+            throw error;
+        }
+        catch (TimeoutException | InterruptedException error)
+        {
+            request.cancel(true);
+
+            if (error instanceof InterruptedException)
             {
-                // nothing to do - simply that the server is not running
+                Thread.currentThread().interrupt();
             }
+
+            throw error;
+        }
+    }
+
+
+    /**
+     * Wait for the result of a request.  If the request fails or takes too long, the error is recorded and null is returned.
+     *
+     * @param requestName name of the request for the report
+     * @param request future for the request
+     * @param extractionErrors map of requests that failed
+     * @return result or null
+     * @param <T> type of result
+     */
+    private <T> T getResult(String              requestName,
+                            Future<T>           request,
+                            Map<String, String> extractionErrors)
+    {
+        try
+        {
+            return this.waitForRequest(request);
+        }
+        catch (Exception error)
+        {
+            extractionErrors.put(requestName, this.getErrorMessage(error));
         }
 
         return null;
     }
 
 
+    /**
+     * Return a description of an error for the report.
+     *
+     * @param error exception
+     * @return message
+     */
+    private String getErrorMessage(Throwable error)
+    {
+        if (error instanceof TimeoutException)
+        {
+            return "No response within " + requestTimeout + " milliseconds";
+        }
+
+        return error.getClass().getName() + ": " + error.getMessage();
+    }
+
+
+    /**
+     * Create a pool of daemon threads.  The threads end when they are idle, so an extractor that is not closed
+     * does not hold on to them.
+     *
+     * @param threadName name of the threads
+     * @param threadCount maximum number of threads
+     * @return executor
+     */
+    private ThreadPoolExecutor getExecutor(String threadName,
+                                           int    threadCount)
+    {
+        ThreadPoolExecutor executor = new ThreadPoolExecutor(threadCount,
+                                                             threadCount,
+                                                             60L,
+                                                             TimeUnit.SECONDS,
+                                                             new LinkedBlockingQueue<>(),
+                                                             runnable ->
+                                                             {
+                                                                 Thread thread = new Thread(runnable, threadName);
+
+                                                                 thread.setDaemon(true);
+                                                                 return thread;
+                                                             });
+
+        executor.allowCoreThreadTimeOut(true);
+
+        return executor;
+    }
+
+
+    /**
+     * Stop the threads used to issue requests.
+     */
+    public void close()
+    {
+        serverExecutor.shutdownNow();
+        requestExecutor.shutdownNow();
+    }
+
+
     /**
      * Extract interesting details about a connector from its connector object.
      *
@@ -1358,4 +1781,84 @@ public class EgeriaExtractor
         assert metadataHighwayServicesClient != null;
         return metadataHighwayServicesClient.unregisterFromCohort(clientUserId, cohortName);
     }
+
+
+    /**
+     * ServerConfigurationDetails holds the details derived from a server's configuration document.
+     */
+    private static class ServerConfigurationDetails
+    {
+        private final OMAGServerConfig                           configuration;
+        private final int                                        configurationHash;
+        private final ServerTypeClassification                   serverTypeClassification;
+        private final OMAGConnectorProperties                    localRepositoryConnector;
+        private final Map<String, List<OMAGConnectorProperties>> cohortConnectors;
+
+
+        /**
+         * Constructor
+         *
+         * @param configuration configuration document
+         * @param serverTypeClassification type of server
+         * @param localRepositoryConnector connector for the local repository (if any)
+         * @param cohortConnectors connectors for each cohort
+         */
+        ServerConfigurationDetails(OMAGServerConfig                           configuration,
+                                   ServerTypeClassification                   serverTypeClassification,
+                                   OMAGConnectorProperties                    localRepositoryConnector,
+                                   Map<String, List<OMAGConnectorProperties>> cohortConnectors)
+        {
+            this.configuration            = configuration;
+            this.configurationHash        = configuration.hashCode();
+            this.serverTypeClassification = serverTypeClassification;
+            this.localRepositoryConnector = localRepositoryConnector;
+            this.cohortConnectors         = cohortConnectors;
+        }
+
+
+        /**
+         * Return whether these details were derived from the supplied configuration document.
+         *
+         * @param configuration configuration document
+         * @return boolean
+         */
+        boolean isFor(OMAGServerConfig configuration)
+        {
+            return (configurationHash == configuration.hashCode()) && (this.configuration.equals(configuration));
+        }
+
+
+        /**
+         * Return the type of server.
+         *
+         * @return server type classification
+         */
+        ServerTypeClassification getServerTypeClassification()
+        {
+            return serverTypeClassification;
+        }
+
+
+        /**
+         * Return the connector for the local repository.
+         *
+         * @return connector properties or null
+         */
+        OMAGConnectorProperties getLocalRepositoryConnector()
+        {
+            return localRepositoryConnector;
+        }
+
+
+        /**
+         * Return the connectors configured for a cohort.
+         *
+         * @param cohortName name of the cohort
+         * @return list of connector properties
+         */
+        List<OMAGConnectorProperties> getCohortConnectors(String cohortName)
+        {
+            return cohortConnectors.get(cohortName);
+        }
+    }
 }
@@ -3,6 +3,7 @@
 
 package org.odpi.openmetadata.adapters.connectors.egeriainfrastructure.platform;
 
+import org.odpi.openmetadata.adapters.connectors.egeriainfrastructure.control.OMAGServerPlatformConfigurationProperty;
 import org.odpi.openmetadata.adapters.connectors.egeriainfrastructure.extractor.EgeriaExtractor;
 import org.odpi.openmetadata.adapters.connectors.egeriainfrastructure.ffdc.OMAGConnectorAuditCode;
 import org.odpi.openmetadata.adapters.connectors.egeriainfrastructure.ffdc.OMAGConnectorErrorCode;
@@ -132,6 +133,21 @@ public class OMAGServerPlatformConnector extends ConnectorBase implements AuditL
                                                 methodName);
         }
 
+        int maxConcurrentRequests = super.getIntConfigurationProperty(OMAGServerPlatformConfigurationProperty.MAX_CONCURRENT_REQUESTS.getName(),
+                                                                      connectionProperties.getConfigurationProperties());
+        int requestTimeout        = super.getIntConfigurationProperty(OMAGServerPlatformConfigurationProperty.REQUEST_TIMEOUT.getName(),
+                                                                      connectionProperties.getConfigurationProperties());
+
+        if (maxConcurrentRequests <= 0)
+        {
+            maxConcurrentRequests = 4;
+        }
+
+        if (requestTimeout <= 0)
+        {
+            requestTimeout = 60;
+        }
+
         /*
          * Set up the extractor client.
          */
@@ -142,14 +158,18 @@ public class OMAGServerPlatformConnector extends ConnectorBase implements AuditL
                 extractor = new EgeriaExtractor(targetRootURL,
                                                 platformName,
                                                 null,
-                                                connectionProperties.getUserId());
+                                                connectionProperties.getUserId(),
+                                                maxConcurrentRequests,
+                                                requestTimeout * 1000L);
             }
             else
             {
                 extractor = new EgeriaExtractor(targetRootURL,
                                                 platformName,
                                                 null,
-                                                clientUserId);
+                                                clientUserId,
+                                                maxConcurrentRequests,
+                                                requestTimeout * 1000L);
             }
         }
         catch (Exception error)
@@ -171,6 +191,23 @@ public class OMAGServerPlatformConnector extends ConnectorBase implements AuditL
         }
     }
 
+
+    /**
+     * Free up any resources held since the connector is no longer needed.
+     *
+     * @throws ConnectorCheckedException there is a problem within the connector.
+     */
+    @Override
+    public void disconnect() throws ConnectorCheckedException
+    {
+        if (extractor != null)
+        {
+            extractor.close();
+        }
+
+        super.disconnect();
+    }
+
     /*
      *===========================================================================
      * Specialized methods
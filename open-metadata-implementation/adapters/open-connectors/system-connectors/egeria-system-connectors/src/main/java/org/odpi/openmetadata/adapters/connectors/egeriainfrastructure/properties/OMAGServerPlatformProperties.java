@@ -29,6 +29,7 @@ public class OMAGServerPlatformProperties
     private OMAGConnectorProperties     platformSecurityConnection   = null;
     private List<RegisteredOMAGService> registeredOMAGServices       = null;
     private List<OMAGServerProperties>  omagServers                  = null;
+    private Map<String, String>         extractionErrors             = null;
 
     public OMAGServerPlatformProperties()
     {
@@ -115,6 +116,22 @@ public class OMAGServerPlatformProperties
         this.omagServers = omagServers;
     }
 
+    /**
+     * Return the requests that failed or timed out while the report was extracted, mapped to the reason.  The
+     * corresponding properties are missing from the report.
+     *
+     * @return map of request name to error message
+     */
+    public Map<String, String> getExtractionErrors()
+    {
+        return extractionErrors;
+    }
+
+    public void setExtractionErrors(Map<String, String> extractionErrors)
+    {
+        this.extractionErrors = extractionErrors;
+    }
+
 
     /**
      * Standard toString method.
@@ -133,6 +150,7 @@ public class OMAGServerPlatformProperties
                 ", platformSecurityConnection=" + platformSecurityConnection +
                 ", registeredOMAGServices=" + registeredOMAGServices +
                 ", omagServers=" + omagServers +
+                ", extractionErrors=" + extractionErrors +
                 '}';
     }
 
@@ -149,7 +167,7 @@ public class OMAGServerPlatformProperties
         if (this == objectToCompare) return true;
         if (objectToCompare == null || getClass() != objectToCompare.getClass()) return false;
         OMAGServerPlatformProperties that = (OMAGServerPlatformProperties) objectToCompare;
-        return Objects.equals(platformName, that.platformName) && Objects.equals(platformURLRoot, that.platformURLRoot) && Objects.equals(platformOrigin, that.platformOrigin) && Objects.equals(platformStartTime, that.platformStartTime) && Objects.equals(configurationStoreConnection, that.configurationStoreConnection) && Objects.equals(platformSecurityConnection, that.platformSecurityConnection) && Objects.equals(registeredOMAGServices, that.registeredOMAGServices) && Objects.equals(omagServers, that.omagServers);
+        return Objects.equals(platformName, that.platformName) && Objects.equals(platformURLRoot, that.platformURLRoot) && Objects.equals(platformOrigin, that.platformOrigin) && Objects.equals(platformStartTime, that.platformStartTime) && Objects.equals(configurationStoreConnection, that.configurationStoreConnection) && Objects.equals(platformSecurityConnection, that.platformSecurityConnection) && Objects.equals(registeredOMAGServices, that.registeredOMAGServices) && Objects.equals(omagServers, that.omagServers) && Objects.equals(extractionErrors, that.extractionErrors);
     }
 
 
@@ -161,6 +179,6 @@ public class OMAGServerPlatformProperties
     @Override
     public int hashCode()
     {
-        return Objects.hash(platformName, platformURLRoot, platformOrigin, platformStartTime, configurationStoreConnection, platformSecurityConnection, registeredOMAGServices, omagServers);
+        return Objects.hash(platformName, platformURLRoot, platformOrigin, platformStartTime, configurationStoreConnection, platformSecurityConnection, registeredOMAGServices, omagServers, extractionErrors);
     }
 }
@@ -47,6 +47,7 @@ public class OMAGServerProperties
     private List<OMAGServerInstanceHistory> serverHistory = null;
     private List<OMAGServerServiceStatus>   services      = null;
     private List<OMAGCohortProperties>      cohorts       = null;
+    private Map<String, String>             extractionErrors = null;
 
 
     /**
@@ -208,6 +209,22 @@ public class OMAGServerProperties
         this.cohorts = cohorts;
     }
 
+    /**
+     * Return the requests that failed or timed out while the report was extracted, mapped to the reason.  The
+     * corresponding properties are missing from the report.
+     *
+     * @return map of request name to error message
+     */
+    public Map<String, String> getExtractionErrors()
+    {
+        return extractionErrors;
+    }
+
+    public void setExtractionErrors(Map<String, String> extractionErrors)
+    {
+        this.extractionErrors = extractionErrors;
+    }
+
 
     /**
      * Standard toString method.
@@ -232,6 +249,7 @@ public class OMAGServerProperties
                 ", serverHistory=" + serverHistory +
                 ", services=" + services +
                 ", cohorts=" + cohorts +
+                ", extractionErrors=" + extractionErrors +
                 '}';
     }
 
@@ -248,7 +266,7 @@ public class OMAGServerProperties
         if (this == objectToCompare) return true;
         if (objectToCompare == null || getClass() != objectToCompare.getClass()) return false;
         OMAGServerProperties that = (OMAGServerProperties) objectToCompare;
-        return maxPageSize == that.maxPageSize && Objects.equals(serverName, that.serverName) && Objects.equals(serverType, that.serverType) && Objects.equals(description, that.description) && Objects.equals(userId, that.userId) && Objects.equals(serverId, that.serverId) && Objects.equals(organizationName, that.organizationName) && Objects.equals(securityConnection, that.securityConnection) && serverActiveStatus == that.serverActiveStatus && Objects.equals(lastStartTime, that.lastStartTime) && Objects.equals(lastShutdownTime, that.lastShutdownTime) && Objects.equals(serverHistory, that.serverHistory) && Objects.equals(services, that.services) && Objects.equals(cohorts, that.cohorts);
+        return maxPageSize == that.maxPageSize && Objects.equals(serverName, that.serverName) && Objects.equals(serverType, that.serverType) && Objects.equals(description, that.description) && Objects.equals(userId, that.userId) && Objects.equals(serverId, that.serverId) && Objects.equals(organizationName, that.organizationName) && Objects.equals(securityConnection, that.securityConnection) && serverActiveStatus == that.serverActiveStatus && Objects.equals(lastStartTime, that.lastStartTime) && Objects.equals(lastShutdownTime, that.lastShutdownTime) && Objects.equals(serverHistory, that.serverHistory) && Objects.equals(services, that.services) && Objects.equals(cohorts, that.cohorts) && Objects.equals(extractionErrors, that.extractionErrors);
     }
 
 
@@ -260,6 +278,6 @@ public class OMAGServerProperties
     @Override
     public int hashCode()
     {
-        return Objects.hash(serverName, serverType, description, userId, serverId, organizationName, maxPageSize, securityConnection, serverActiveStatus, lastStartTime, lastShutdownTime, serverHistory, services, cohorts);
+        return Objects.hash(serverName, serverType, description, userId, serverId, organizationName, maxPageSize, securityConnection, serverActiveStatus, lastStartTime, lastShutdownTime, serverHistory, services, cohorts, extractionErrors);
     }
 }
@@ -0,0 +1,537 @@
+/* SPDX-License-Identifier: Apache-2.0 */
+/* Copyright Contributors to the ODPi Egeria project. */
+package org.odpi.openmetadata.adapters.connectors.egeriainfrastructure.extractor;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+import org.odpi.openmetadata.adapters.connectors.egeriainfrastructure.properties.OMAGServerPlatformProperties;
+import org.odpi.openmetadata.adapters.connectors.egeriainfrastructure.properties.OMAGServerProperties;
+import org.odpi.openmetadata.adminservices.configuration.properties.OMAGServerConfig;
+import org.odpi.openmetadata.adminservices.configuration.properties.RepositoryServicesConfig;
+import org.odpi.openmetadata.adminservices.configuration.registration.ServerTypeClassification;
+import org.odpi.openmetadata.adminservices.rest.ConnectionResponse;
+import org.odpi.openmetadata.adminservices.rest.OMAGServerConfigResponse;
+import org.odpi.openmetadata.adminservices.rest.OMAGServerConfigsResponse;
+import org.odpi.openmetadata.adminservices.rest.OMAGServerStatusResponse;
+import org.odpi.openmetadata.commonservices.ffdc.rest.OCFConnectionResponse;
+import org.odpi.openmetadata.commonservices.ffdc.rest.RegisteredOMAGServicesResponse;
+import org.odpi.openmetadata.platformservices.rest.ServerListResponse;
+import org.odpi.openmetadata.serveroperations.rest.ServerStatusResponse;
+import org.testng.annotations.AfterMethod;
+import org.testng.annotations.BeforeMethod;
+import org.testng.annotations.Test;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Date;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertNotNull;
+import static org.testng.Assert.assertNull;
+import static org.testng.Assert.assertTrue;
+
+
+/**
+ * Verify the concurrent extraction of platform and server reports against a stub OMAG Server Platform.  The stub
+ * replays the responses of the platform services and admin services, and can be told to fail or delay requests.
+ */
+public class EgeriaExtractorTest
+{
+    private static final String clientUserId    = "testUser";
+    private static final String platformName    = "testPlatform";
+    private static final String platformOrigin  = "Egeria OMAG Server Platform (test)";
+    private static final long   platformStart   = 1_700_000_000_000L;
+    private static final String platformPrefix  = "/open-metadata/platform-services/users/" + clientUserId + "/server-platform";
+    private static final String adminPrefix     = "/open-metadata/admin-services/users/" + clientUserId;
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+
+    private HttpServer      platformServer   = null;
+    private ExecutorService platformThreads  = null;
+    private EgeriaExtractor egeriaExtractor  = null;
+
+    /*
+     * Behaviour of the stub platform.
+     */
+    private final List<String>                  requestedPaths = Collections.synchronizedList(new ArrayList<>());
+    private final Set<String>                   knownServers   = Collections.synchronizedSet(new LinkedHashSet<>());
+    private final Map<String, OMAGServerConfig> configurations = new ConcurrentHashMap<>();
+    private final Set<String>                   failingPaths   = ConcurrentHashMap.newKeySet();
+    private final Set<String>                   slowPaths      = ConcurrentHashMap.newKeySet();
+    private final AtomicInteger                 inFlight       = new AtomicInteger(0);
+    private final AtomicInteger                 maxInFlight    = new AtomicInteger(0);
+    private       CountDownLatch                allThreadsBusy = new CountDownLatch(0);
+
+
+    /**
+     * Start the stub platform with two view servers.
+     *
+     * @throws Exception unable to start the server
+     */
+    @BeforeMethod
+    public void setUp() throws Exception
+    {
+        requestedPaths.clear();
+        knownServers.clear();
+        configurations.clear();
+        failingPaths.clear();
+        slowPaths.clear();
+        inFlight.set(0);
+        maxInFlight.set(0);
+        allThreadsBusy = new CountDownLatch(0);
+
+        platformThreads = Executors.newCachedThreadPool();
+        platformServer  = HttpServer.create(new InetSocketAddress("localhost", 0), 0);
+
+        platformServer.createContext("/", this::replyToRequest);
+        platformServer.setExecutor(platformThreads);
+        platformServer.start();
+
+        this.addServer("server1");
+        this.addServer("server2");
+    }
+
+
+    /**
+     * Stop the extractor and the stub platform.
+     */
+    @AfterMethod
+    public void tearDown()
+    {
+        if (egeriaExtractor != null)
+        {
+            egeriaExtractor.close();
+            egeriaExtractor = null;
+        }
+
+        if (platformServer != null)
+        {
+            platformServer.stop(0);
+        }
+
+        if (platformThreads != null)
+        {
+            platformThreads.shutdownNow();
+        }
+    }
+
+
+    /**
+     * The platform report covers every known server in the order the platform lists them.  The configuration
+     * documents are retrieved in a single request rather than one request per server.
+     *
+     * @throws Exception test failure
+     */
+    @Test
+    public void testPlatformReport() throws Exception
+    {
+        egeriaExtractor = this.getExtractor(4, 60000L);
+
+        OMAGServerPlatformProperties platformReport = egeriaExtractor.getPlatformReport();
+
+        assertEquals(platformReport.getPlatformName(), platformName);
+        assertEquals(platformReport.getPlatformOrigin(), platformOrigin);
+        assertEquals(platformReport.getPlatformStartTime().getTime(), platformStart);
+        assertNull(platformReport.getExtractionErrors());
+
+        assertEquals(this.getServerNames(platformReport), List.of("server1", "server2"));
+
+        for (OMAGServerProperties serverReport : platformReport.getOMAGServers())
+        {
+            assertEquals(serverReport.getServerType(), ServerTypeClassification.VIEW_SERVER.getServerTypeName());
+            assertEquals(serverReport.getLastStartTime().getTime(), platformStart);
+            assertNull(serverReport.getExtractionErrors(), serverReport.getServerName());
+        }
+
+        assertEquals(this.countRequests(adminPrefix + "/configurations"), 1);
+        assertEquals(this.countRequests(adminPrefix + "/servers/server1/configuration"), 0);
+        assertEquals(this.countRequests(adminPrefix + "/servers/server2/configuration"), 0);
+    }
+
+
+    /**
+     * The requests that make up a report are issued at the same time, but no more of them than the request limit.
+     *
+     * @throws Exception test failure
+     */
+    @Test
+    public void testRequestsIssuedConcurrently() throws Exception
+    {
+        final int maxConcurrentRequests = 3;
+
+        allThreadsBusy  = new CountDownLatch(maxConcurrentRequests);
+        egeriaExtractor = this.getExtractor(maxConcurrentRequests, 60000L);
+
+        OMAGServerPlatformProperties platformReport = egeriaExtractor.getPlatformReport();
+
+        assertEquals(this.getServerNames(platformReport), List.of("server1", "server2"));
+        assertEquals(maxInFlight.get(), maxConcurrentRequests);
+    }
+
+
+    /**
+     * A failed request is recorded in the report of the platform or server it belongs to, and the rest of the
+     * report is still returned.
+     *
+     * @throws Exception test failure
+     */
+    @Test
+    public void testFailedRequestsRecorded() throws Exception
+    {
+        failingPaths.add(platformPrefix + "/origin");
+        failingPaths.add(platformPrefix + "/servers/server2/status");
+
+        egeriaExtractor = this.getExtractor(4, 60000L);
+
+        OMAGServerPlatformProperties platformReport = egeriaExtractor.getPlatformReport();
+
+        assertNull(platformReport.getPlatformOrigin());
+        assertEquals(platformReport.getPlatformStartTime().getTime(), platformStart);
+        assertEquals(platformReport.getExtractionErrors().keySet(), Set.of("getPlatformOrigin"));
+        assertEquals(this.getServerNames(platformReport), List.of("server1", "server2"));
+
+        OMAGServerProperties server1Report = platformReport.getOMAGServers().get(0);
+        OMAGServerProperties server2Report = platformReport.getOMAGServers().get(1);
+
+        assertNull(server1Report.getExtractionErrors());
+        assertNotNull(server1Report.getLastStartTime());
+
+        assertEquals(server2Report.getExtractionErrors().keySet(), Set.of("getServerStatus"));
+        assertEquals(server2Report.getServerType(), ServerTypeClassification.VIEW_SERVER.getServerTypeName());
+        assertNull(server2Report.getLastStartTime());
+    }
+
+
+    /**
+     * A known server whose configuration can not be retrieved appears in the platform report with just its name
+     * and the error.  A server with no configuration is retrieved individually.
+     *
+     * @throws Exception test failure
+     */
+    @Test
+    public void testFailedServerReport() throws Exception
+    {
+        knownServers.add("server3");
+        knownServers.add("server4");
+        configurations.put("server4", this.getViewServerConfig("server4"));
+        failingPaths.add(adminPrefix + "/servers/server3/configuration");
+
+        egeriaExtractor = this.getExtractor(4, 60000L);
+
+        /*
+         * Only the configurations of the first two servers are returned by the bulk request.
+         */
+        OMAGServerPlatformProperties platformReport = egeriaExtractor.getPlatformReport();
+
+        assertEquals(this.getServerNames(platformReport), List.of("server1", "server2", "server3", "server4"));
+
+        OMAGServerProperties server3Report = platformReport.getOMAGServers().get(2);
+        OMAGServerProperties server4Report = platformReport.getOMAGServers().get(3);
+
+        assertEquals(server3Report.getExtractionErrors().keySet(), Set.of("extractServerReport"));
+        assertNull(server3Report.getServerType());
+
+        assertNull(server4Report.getExtractionErrors());
+        assertEquals(server4Report.getServerType(), ServerTypeClassification.VIEW_SERVER.getServerTypeName());
+        assertEquals(this.countRequests(adminPrefix + "/servers/server4/configuration"), 1);
+    }
+
+
+    /**
+     * A request that takes longer than the request timeout is reported as timed out without holding up the rest
+     * of the report.
+     *
+     * @throws Exception test failure
+     */
+    @Test
+    public void testSlowRequestTimesOut() throws Exception
+    {
+        slowPaths.add(platformPrefix + "/start-time");
+
+        egeriaExtractor = this.getExtractor(4, 200L);
+
+        long                         startTime      = System.currentTimeMillis();
+        OMAGServerPlatformProperties platformReport = egeriaExtractor.getPlatformReport();
+
+        assertTrue(System.currentTimeMillis() - startTime < 5000L);
+        assertNull(platformReport.getPlatformStartTime());
+        assertEquals(platformReport.getPlatformOrigin(), platformOrigin);
+        assertEquals(platformReport.getExtractionErrors(), Map.of("getPlatformStartTime", "No response within 200 milliseconds"));
+        assertEquals(this.getServerNames(platformReport), List.of("server1", "server2"));
+    }
+
+
+    /**
+     * Return an extractor for the whole stub platform.
+     *
+     * @param maxConcurrentRequests maximum number of requests issued at the same time
+     * @param requestTimeout number of milliseconds to wait for each request
+     * @return extractor
+     * @throws Exception unable to create the clients
+     */
+    private EgeriaExtractor getExtractor(int  maxConcurrentRequests,
+                                         long requestTimeout) throws Exception
+    {
+        return new EgeriaExtractor("http://localhost:" + platformServer.getAddress().getPort(),
+                                   platformName,
+                                   null,
+                                   clientUserId,
+                                   maxConcurrentRequests,
+                                   requestTimeout);
+    }
+
+
+    /**
+     * Add a view server to the stub platform.  Its configuration is returned by the request for all configurations.
+     *
+     * @param serverName name of the server
+     */
+    private void addServer(String serverName)
+    {
+        knownServers.add(serverName);
+        configurations.put(serverName, this.getViewServerConfig(serverName));
+    }
+
+
+    /**
+     * Return the configuration document of a view server.
+     *
+     * @param serverName name of the server
+     * @return configuration document
+     */
+    private OMAGServerConfig getViewServerConfig(String serverName)
+    {
+        OMAGServerConfig configuration = new OMAGServerConfig();
+
+        configuration.setLocalServerName(serverName);
+        configuration.setLocalServerId(serverName + "-id");
+        configuration.setRepositoryServicesConfig(new RepositoryServicesConfig());
+        configuration.setViewServicesConfig(new ArrayList<>());
+
+        return configuration;
+    }
+
+
+    /**
+     * Return the names of the servers in a platform report.
+     *
+     * @param platformReport platform report
+     * @return list of server names
+     */
+    private List<String> getServerNames(OMAGServerPlatformProperties platformReport)
+    {
+        List<String> serverNames = new ArrayList<>();
+
+        if (platformReport.getOMAGServers() != null)
+        {
+            for (OMAGServerProperties serverReport : platformReport.getOMAGServers())
+            {
+                serverNames.add(serverReport.getServerName());
+            }
+        }
+
+        return serverNames;
+    }
+
+
+    /**
+     * Return the number of requests made for a path.
+     *
+     * @param path request path
+     * @return count
+     */
+    private int countRequests(String path)
+    {
+        synchronized (requestedPaths)
+        {
+            return Collections.frequency(requestedPaths, path);
+        }
+    }
+
+
+    /**
+     * Replay the platform's response to a request.  The number of requests in progress is tracked so the test can
+     * check the request limit.
+     *
+     * @param exchange HTTP request and response
+     * @throws IOException unable to send the response
+     */
+    private void replyToRequest(HttpExchange exchange) throws IOException
+    {
+        String path = exchange.getRequestURI().getPath();
+
+        requestedPaths.add(path);
+        maxInFlight.accumulateAndGet(inFlight.incrementAndGet(), Math::max);
+
+        try
+        {
+            allThreadsBusy.countDown();
+            allThreadsBusy.await(10, TimeUnit.SECONDS);
+
+            if (slowPaths.contains(path))
+            {
+                Thread.sleep(2000L);
+            }
+
+            if (failingPaths.contains(path))
+            {
+                this.reply(exchange, 500, "text/plain", "Test failure");
+            }
+            else if (path.equals(platformPrefix + "/origin"))
+            {
+                this.reply(exchange, 200, "text/plain", platformOrigin);
+            }
+            else
+            {
+                Object response = this.getResponse(path);
+
+                if (response == null)
+                {
+                    this.reply(exchange, 404, "text/plain", "Unknown request " + path);
+                }
+                else
+                {
+                    this.reply(exchange, 200, "application/json", objectMapper.writeValueAsString(response));
+                }
+            }
+        }
+        catch (InterruptedException interrupted)
+        {
+            Thread.currentThread().interrupt();
+            this.reply(exchange, 500, "text/plain", "Interrupted");
+        }
+        finally
+        {
+            inFlight.decrementAndGet();
+        }
+    }
+
+
+    /**
+     * Return the response body for a request to the platform services or admin services.
+     *
+     * @param path request path
+     * @return response bean or null if the request is not supported by the stub
+     */
+    private Object getResponse(String path)
+    {
+        if (path.equals(platformPrefix + "/start-time"))
+        {
+            return platformStart;
+        }
+        else if (path.equals(platformPrefix + "/security/connection"))
+        {
+            return new OCFConnectionResponse();
+        }
+        else if (path.equals(platformPrefix + "/registered-services"))
+        {
+            return new RegisteredOMAGServicesResponse();
+        }
+        else if (path.equals(platformPrefix + "/servers"))
+        {
+            ServerListResponse response = new ServerListResponse();
+
+            synchronized (knownServers)
+            {
+                response.setServerList(new ArrayList<>(knownServers));
+            }
+
+            return response;
+        }
+        else if (path.equals(adminPrefix + "/stores/connection"))
+        {
+            return new ConnectionResponse();
+        }
+        else if (path.equals(adminPrefix + "/configurations"))
+        {
+            OMAGServerConfigsResponse response = new OMAGServerConfigsResponse();
+
+            response.setOMAGServerConfigs(Set.of(configurations.get("server1"), configurations.get("server2")));
+
+            return response;
+        }
+        else if (path.startsWith(adminPrefix + "/servers/") && path.endsWith("/configuration"))
+        {
+            OMAGServerConfigResponse response = new OMAGServerConfigResponse();
+
+            response.setOMAGServerConfig(configurations.get(this.getServerName(adminPrefix, path)));
+
+            return response;
+        }
+        else if (path.startsWith(platformPrefix + "/servers/") && path.endsWith("/instance/status"))
+        {
+            /*
+             * The servers are not running.
+             */
+            return new OMAGServerStatusResponse();
+        }
+        else if (path.startsWith(platformPrefix + "/servers/") && path.endsWith("/status"))
+        {
+            ServerStatusResponse response = new ServerStatusResponse();
+
+            response.setServerName(this.getServerName(platformPrefix, path));
+            response.setServerStartTime(new Date(platformStart));
+
+            return response;
+        }
+
+        return null;
+    }
+
+
+    /**
+     * Return the server name from a request path of the form prefix/servers/serverName/...
+     *
+     * @param prefix start of the path
+     * @param path request path
+     * @return server name
+     */
+    private String getServerName(String prefix,
+                                 String path)
+    {
+        String serverPath = path.substring((prefix + "/servers/").length());
+
+        return serverPath.substring(0, serverPath.indexOf('/'));
+    }
+
+
+    /**
+     * Send a response.
+     *
+     * @param exchange HTTP request and response
+     * @param status HTTP status code
+     * @param contentType type of the body
+     * @param body response body
+     * @throws IOException unable to send the response
+     */
+    private void reply(HttpExchange exchange,
+                       int          status,
+                       String       contentType,
+                       String       body) throws IOException
+    {
+        byte[] bodyBytes = body.getBytes(StandardCharsets.UTF_8);
+
+        exchange.getResponseHeaders().add("Content-Type", contentType);
+        exchange.sendResponseHeaders(status, bodyBytes.length);
+
+        try (OutputStream outputStream = exchange.getResponseBody())
+        {
+            outputStream.write(bodyBytes);
+        }
+    }
+}
@@ -49,6 +49,11 @@ import static com.fasterxml.jackson.annotation.JsonAutoDetect.Visibility.PUBLIC_
  *         selectedTypesToProcess - list of TypeDefs used if the eventsToProcess rule (above) says
  *         "SELECTED_TYPES" - otherwise it is set to null.
  *     </li>
+ *     <li>
+ *         eventCoalescingWindow is the number of milliseconds that incoming instance events are held so that
+ *         only the latest version of an instance is processed and repeated events are discarded.  The default
+ *         of zero means every event is processed as it arrives.
+ *     </li>
  * </ul>
  */
 @JsonAutoDetect(getterVisibility=PUBLIC_ONLY, setterVisibility=PUBLIC_ONLY, fieldVisibility=NONE)
@@ -65,6 +70,7 @@ public class CohortConfig extends AdminServicesConfigHeader
     private OpenMetadataEventProtocolVersion cohortOMRSTopicProtocolVersion        = null;
     private OpenMetadataExchangeRule         eventsToProcessRule                   = null;
     private List<TypeDefSummary>             selectedTypesToProcess                = null;
+    private long                             eventCoalescingWindow                 = 0L;
 
 
 
@@ -96,6 +102,7 @@ public class CohortConfig extends AdminServicesConfigHeader
             cohortOMRSTopicProtocolVersion = template.getCohortOMRSTopicProtocolVersion();
             eventsToProcessRule = template.getEventsToProcessRule();
             selectedTypesToProcess = template.getSelectedTypesToProcess();
+            eventCoalescingWindow = template.getEventCoalescingWindow();
         }
     }
 
@@ -323,6 +330,30 @@ public class CohortConfig extends AdminServicesConfigHeader
     }
 
 
+    /**
+     * Return the number of milliseconds that incoming instance events are held so that only the latest
+     * version of an instance is processed.  Zero means events are processed as they arrive.
+     *
+     * @return milliseconds
+     */
+    public long getEventCoalescingWindow()
+    {
+        return eventCoalescingWindow;
+    }
+
+
+    /**
+     * Set up the number of milliseconds that incoming instance events are held so that only the latest
+     * version of an instance is processed.  Zero means events are processed as they arrive.
+     *
+     * @param eventCoalescingWindow milliseconds
+     */
+    public void setEventCoalescingWindow(long eventCoalescingWindow)
+    {
+        this.eventCoalescingWindow = eventCoalescingWindow;
+    }
+
+
     /**
      * Standard toString method.
      *
@@ -341,6 +372,7 @@ public class CohortConfig extends AdminServicesConfigHeader
                        ", cohortOMRSTopicProtocolVersion=" + cohortOMRSTopicProtocolVersion +
                        ", eventsToProcessRule=" + eventsToProcessRule +
                        ", selectedTypesToProcess=" + selectedTypesToProcess +
+                       ", eventCoalescingWindow=" + eventCoalescingWindow +
                        '}';
     }
 
@@ -371,7 +403,8 @@ public class CohortConfig extends AdminServicesConfigHeader
                        Objects.equals(cohortOMRSInstancesTopicConnection, that.cohortOMRSInstancesTopicConnection) &&
                        cohortOMRSTopicProtocolVersion == that.cohortOMRSTopicProtocolVersion &&
                        eventsToProcessRule == that.eventsToProcessRule &&
-                       Objects.equals(selectedTypesToProcess, that.selectedTypesToProcess);
+                       Objects.equals(selectedTypesToProcess, that.selectedTypesToProcess) &&
+                       eventCoalescingWindow == that.eventCoalescingWindow;
     }
 
 
@@ -385,6 +418,6 @@ public class CohortConfig extends AdminServicesConfigHeader
     {
         return Objects.hash(cohortName, cohortRegistryConnection, cohortOMRSTopicConnection, cohortOMRSRegistrationTopicConnection,
                             cohortOMRSTypesTopicConnection, cohortOMRSInstancesTopicConnection, cohortOMRSTopicProtocolVersion, eventsToProcessRule,
-                            selectedTypesToProcess);
+                            selectedTypesToProcess, eventCoalescingWindow);
     }
 }
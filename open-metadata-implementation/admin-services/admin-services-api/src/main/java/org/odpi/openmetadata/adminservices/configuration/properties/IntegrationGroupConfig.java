@@ -24,6 +24,7 @@ import static com.fasterxml.jackson.annotation.JsonAutoDetect.Visibility.PUBLIC_
 public class IntegrationGroupConfig extends OMAGServerClientConfig
 {
     private String integrationGroupQualifiedName = null;
+    private int    maxConcurrentRefreshes        = 0;
 
 
     /**
@@ -47,6 +48,7 @@ public class IntegrationGroupConfig extends OMAGServerClientConfig
         if (template != null)
         {
             integrationGroupQualifiedName = template.getIntegrationGroupQualifiedName();
+            maxConcurrentRefreshes        = template.getMaxConcurrentRefreshes();
         }
     }
 
@@ -75,6 +77,30 @@ public class IntegrationGroupConfig extends OMAGServerClientConfig
     }
 
 
+    /**
+     * Return the maximum number of integration connectors from this group that may be running refresh() at the same time.
+     * Zero (the default) means that only the integration daemon's overall limit applies.
+     *
+     * @return int
+     */
+    public int getMaxConcurrentRefreshes()
+    {
+        return maxConcurrentRefreshes;
+    }
+
+
+    /**
+     * Set up the maximum number of integration connectors from this group that may be running refresh() at the same time.
+     * Zero (the default) means that only the integration daemon's overall limit applies.
+     *
+     * @param maxConcurrentRefreshes int
+     */
+    public void setMaxConcurrentRefreshes(int maxConcurrentRefreshes)
+    {
+        this.maxConcurrentRefreshes = maxConcurrentRefreshes;
+    }
+
+
     /**
      * Standard toString method.
      *
@@ -85,6 +111,7 @@ public class IntegrationGroupConfig extends OMAGServerClientConfig
     {
         return "IntegrationGroupConfig{" +
                 ", integrationGroupQualifiedName='" + integrationGroupQualifiedName + '\'' +
+                ", maxConcurrentRefreshes=" + maxConcurrentRefreshes +
                 ", OMAGServerPlatformRootURL='" + getOMAGServerPlatformRootURL() + '\'' +
                 ", OMAGServerName='" + getOMAGServerName() + '\'' +
                 '}';
@@ -112,7 +139,8 @@ public class IntegrationGroupConfig extends OMAGServerClientConfig
             return false;
         }
         IntegrationGroupConfig that = (IntegrationGroupConfig) objectToCompare;
-        return Objects.equals(integrationGroupQualifiedName, that.integrationGroupQualifiedName);
+        return maxConcurrentRefreshes == that.maxConcurrentRefreshes &&
+                       Objects.equals(integrationGroupQualifiedName, that.integrationGroupQualifiedName);
     }
 
 
@@ -124,6 +152,6 @@ public class IntegrationGroupConfig extends OMAGServerClientConfig
     @Override
     public int hashCode()
     {
-        return Objects.hash(super.hashCode(), getIntegrationGroupQualifiedName());
+        return Objects.hash(super.hashCode(), getIntegrationGroupQualifiedName(), getMaxConcurrentRefreshes());
     }
 }
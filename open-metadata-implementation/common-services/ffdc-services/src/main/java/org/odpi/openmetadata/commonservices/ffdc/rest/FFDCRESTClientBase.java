@@ -14,6 +14,8 @@ import org.odpi.openmetadata.frameworks.connectors.ffdc.InvalidParameterExceptio
 import org.odpi.openmetadata.frameworks.connectors.ffdc.PropertyServerException;
 import org.springframework.core.ParameterizedTypeReference;
 
+import java.io.InputStream;
+
 
 /**
  * RESTClient is responsible for issuing calls to the OMAS REST APIs.
@@ -330,6 +332,37 @@ public class FFDCRESTClientBase
         return null;
     }
 
+    /**
+     * Issue a POST REST call that returns a stream of newline-delimited JSON.  The caller must close the
+     * returned stream.  It's working only with {@link SpringRESTClientConnector}
+     *
+     * @param methodName  name of the method being called.
+     * @param urlTemplate  template of the URL for the REST API call with place-holders for the parameters.
+     * @param requestBody request body for the request.
+     * @param params  a list of parameters that are slotted into the url template.
+     *
+     * @return input stream for the response body
+     * @throws PropertyServerException something went wrong with the REST call stack.
+     */
+    protected InputStream callPostStreamingRESTCall(String    methodName,
+                                                    String    urlTemplate,
+                                                    Object    requestBody,
+                                                    Object... params) throws PropertyServerException
+    {
+        try
+        {
+            SpringRESTClientConnector clientConnector = (SpringRESTClientConnector) this.clientConnector;
+            return clientConnector.callPostStreamingRESTCall(methodName, urlTemplate, requestBody, params);
+        }
+        catch (Exception error)
+        {
+            logRESTCallException(methodName, error);
+        }
+
+        return null;
+    }
+
+
     /**
      * Issue a PUT REST call that returns a response object.  This is typically an update.
      *
@@ -0,0 +1,216 @@
+/* SPDX-License-Identifier: Apache-2.0 */
+/* Copyright Contributors to the ODPi Egeria project. */
+package org.odpi.openmetadata.commonservices.generichandlers;
+
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.instances.EntityDetail;
+
+import java.util.Arrays;
+import java.util.Date;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * AnchorCache remembers the anchor entities retrieved, and the anchor security checks passed, while a request
+ * works through a list of elements.  Many of the elements returned by a request such as getAttachedElements share
+ * the same anchor.  With the cache, each anchor is retrieved and validated once per request rather than once
+ * per element.
+ * <br><br>
+ * The request scope is held on the calling thread.  It is opened by the handler methods that fan out over a list
+ * of elements and closed when they return.  Outside a request scope, the cache is not used.  Nothing is shared
+ * between requests, so a change to an anchor is always seen by the next request.
+ */
+public class AnchorCache
+{
+    private static final ThreadLocal<RequestScope> requestScope = new ThreadLocal<>();
+
+    private final String serverName;
+
+
+    /**
+     * Constructor
+     *
+     * @param serverName name of this server
+     */
+    public AnchorCache(String serverName)
+    {
+        this.serverName = serverName;
+    }
+
+
+    /**
+     * Open a request scope on the calling thread if one is not already open.
+     *
+     * @return true if this call opened the scope (and so must close it)
+     */
+    public boolean startRequestScope()
+    {
+        if (requestScope.get() == null)
+        {
+            requestScope.set(new RequestScope());
+            return true;
+        }
+
+        return false;
+    }
+
+
+    /**
+     * Close the request scope on the calling thread if it was opened by the matching call to startRequestScope().
+     *
+     * @param scopeStarted result from startRequestScope()
+     */
+    public void endRequestScope(boolean scopeStarted)
+    {
+        if (scopeStarted)
+        {
+            requestScope.remove();
+        }
+    }
+
+
+    /**
+     * Return the anchor entity if it has already been retrieved.
+     *
+     * @param userId calling user
+     * @param anchorGUID unique identifier of the anchor
+     * @param forLineage the request is to support lineage retrieval
+     * @param forDuplicateProcessing the request is for duplicate processing
+     * @param effectiveTime the time that the retrieved elements must be effective for
+     * @return anchor entity or null if it needs to be retrieved
+     */
+    public EntityDetail getAnchorEntity(String  userId,
+                                        String  anchorGUID,
+                                        boolean forLineage,
+                                        boolean forDuplicateProcessing,
+                                        Date    effectiveTime)
+    {
+        RequestScope scope = requestScope.get();
+
+        if (scope == null)
+        {
+            return null;
+        }
+
+        return scope.anchorEntities.get(this.getEntityKey(userId, anchorGUID, forLineage, forDuplicateProcessing, effectiveTime));
+    }
+
+
+    /**
+     * Remember an anchor entity that has been retrieved from the repositories.
+     *
+     * @param userId calling user
+     * @param anchorGUID unique identifier of the anchor
+     * @param forLineage the request is to support lineage retrieval
+     * @param forDuplicateProcessing the request is for duplicate processing
+     * @param effectiveTime the time that the retrieved elements must be effective for
+     * @param anchorEntity retrieved entity
+     */
+    public void setAnchorEntity(String       userId,
+                                String       anchorGUID,
+                                boolean      forLineage,
+                                boolean      forDuplicateProcessing,
+                                Date         effectiveTime,
+                                EntityDetail anchorEntity)
+    {
+        RequestScope scope = requestScope.get();
+
+        if ((scope != null) && (anchorEntity != null))
+        {
+            scope.anchorEntities.put(this.getEntityKey(userId, anchorGUID, forLineage, forDuplicateProcessing, effectiveTime), anchorEntity);
+        }
+    }
+
+
+    /**
+     * Return whether the anchor has already passed the security check described by the supplied values in this request.
+     *
+     * @param userId calling user
+     * @param anchorGUID unique identifier of the anchor
+     * @param checkProperties values that the security check depends on
+     * @return boolean flag
+     */
+    public boolean isAnchorValidated(String    userId,
+                                     String    anchorGUID,
+                                     Object... checkProperties)
+    {
+        RequestScope scope = requestScope.get();
+
+        return (scope != null) && (scope.validatedAnchors.contains(this.getCheckKey(userId, anchorGUID, checkProperties)));
+    }
+
+
+    /**
+     * Remember that the anchor has passed the security check described by the supplied values in this request.
+     *
+     * @param userId calling user
+     * @param anchorGUID unique identifier of the anchor
+     * @param checkProperties values that the security check depends on
+     */
+    public void setAnchorValidated(String    userId,
+                                   String    anchorGUID,
+                                   Object... checkProperties)
+    {
+        RequestScope scope = requestScope.get();
+
+        if (scope != null)
+        {
+            scope.validatedAnchors.add(this.getCheckKey(userId, anchorGUID, checkProperties));
+        }
+    }
+
+
+    /**
+     * Return the key for an anchor entity.
+     *
+     * @param userId calling user
+     * @param anchorGUID unique identifier of the anchor
+     * @param forLineage the request is to support lineage retrieval
+     * @param forDuplicateProcessing the request is for duplicate processing
+     * @param effectiveTime the time that the retrieved elements must be effective for
+     * @return key
+     */
+    private List<Object> getEntityKey(String  userId,
+                                      String  anchorGUID,
+                                      boolean forLineage,
+                                      boolean forDuplicateProcessing,
+                                      Date    effectiveTime)
+    {
+        return Arrays.asList(serverName, userId, anchorGUID, forLineage, forDuplicateProcessing, effectiveTime);
+    }
+
+
+    /**
+     * Return the key for a security check on an anchor.
+     *
+     * @param userId calling user
+     * @param anchorGUID unique identifier of the anchor
+     * @param checkProperties values that the security check depends on
+     * @return key
+     */
+    private List<Object> getCheckKey(String    userId,
+                                     String    anchorGUID,
+                                     Object... checkProperties)
+    {
+        Object[] keyValues = new Object[checkProperties.length + 3];
+
+        keyValues[0] = serverName;
+        keyValues[1] = userId;
+        keyValues[2] = anchorGUID;
+        System.arraycopy(checkProperties, 0, keyValues, 3, checkProperties.length);
+
+        return Arrays.asList(keyValues);
+    }
+
+
+    /**
+     * The values remembered for the request running on a thread.
+     */
+    private static class RequestScope
+    {
+        private final Map<List<Object>, EntityDetail> anchorEntities   = new HashMap<>();
+        private final Set<List<Object>>               validatedAnchors = new HashSet<>();
+    }
+}
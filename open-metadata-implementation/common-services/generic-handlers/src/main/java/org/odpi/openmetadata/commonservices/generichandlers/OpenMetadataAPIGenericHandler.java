@@ -42,6 +42,8 @@ public class OpenMetadataAPIGenericHandler<B> extends OpenMetadataAPIRootHandler
 {
     private static final Logger log = LoggerFactory.getLogger(OpenMetadataAPIGenericHandler.class);
 
+    private final AnchorCache anchorCache;
+
     /**
      * Construct the handler information needed to interact with the repository services
      *
@@ -74,6 +76,8 @@ public class OpenMetadataAPIGenericHandler<B> extends OpenMetadataAPIRootHandler
                                          AuditLog                           auditLog)
     {
         super(converter, beanClass, serviceName, serverName, invalidParameterHandler, repositoryHandler, repositoryHelper, localServerUserId, securityVerifier, supportedZones, defaultZones, publishZones, auditLog);
+
+        this.anchorCache = new AnchorCache(serverName);
     }
 
 
@@ -3351,14 +3355,33 @@ public class OpenMetadataAPIGenericHandler<B> extends OpenMetadataAPIRootHandler
 
             if (! anchorIdentifiers.anchorGUID.equals(connectToEntity.getGUID()))
             {
-                anchorEntity = repositoryHandler.getEntityByGUID(userId,
-                                                                 anchorIdentifiers.anchorGUID,
-                                                                 anchorGUIDParameterName,
-                                                                 OpenMetadataType.REFERENCEABLE.typeName,
-                                                                 forLineage,
-                                                                 forDuplicateProcessing,
-                                                                 effectiveTime,
-                                                                 methodName);
+                /*
+                 * When working through a list of elements, the anchor may have been retrieved already.
+                 */
+                anchorEntity = anchorCache.getAnchorEntity(userId,
+                                                           anchorIdentifiers.anchorGUID,
+                                                           forLineage,
+                                                           forDuplicateProcessing,
+                                                           effectiveTime);
+
+                if (anchorEntity == null)
+                {
+                    anchorEntity = repositoryHandler.getEntityByGUID(userId,
+                                                                     anchorIdentifiers.anchorGUID,
+                                                                     anchorGUIDParameterName,
+                                                                     OpenMetadataType.REFERENCEABLE.typeName,
+                                                                     forLineage,
+                                                                     forDuplicateProcessing,
+                                                                     effectiveTime,
+                                                                     methodName);
+
+                    anchorCache.setAnchorEntity(userId,
+                                                anchorIdentifiers.anchorGUID,
+                                                forLineage,
+                                                forDuplicateProcessing,
+                                                effectiveTime,
+                                                anchorEntity);
+                }
             }
             else
             {
@@ -3386,16 +3409,27 @@ public class OpenMetadataAPIGenericHandler<B> extends OpenMetadataAPIRootHandler
                  */
                 if (OpenMetadataType.ASSET.typeName.equals(anchorEntityType.getTypeDefName()))
                 {
-                    securityVerifier.validateUserForAssetAttachment(userId,
-                                                                    connectToGUID,
-                                                                    connectToGUIDParameterName,
-                                                                    anchorEntity,
-                                                                    isFeedbackEntity,
-                                                                    isUpdate,
-                                                                    suppliedSupportedZones,
-                                                                    repositoryHelper,
-                                                                    serviceName,
-                                                                    methodName);
+                    /*
+                     * Read requests only need to check the anchor once while working through a list of elements.
+                     */
+                    if ((isUpdate) || (! anchorCache.isAnchorValidated(userId, anchorEntity.getGUID(), isFeedbackEntity, suppliedSupportedZones)))
+                    {
+                        securityVerifier.validateUserForAssetAttachment(userId,
+                                                                        connectToGUID,
+                                                                        connectToGUIDParameterName,
+                                                                        anchorEntity,
+                                                                        isFeedbackEntity,
+                                                                        isUpdate,
+                                                                        suppliedSupportedZones,
+                                                                        repositoryHelper,
+                                                                        serviceName,
+                                                                        methodName);
+
+                        if (! isUpdate)
+                        {
+                            anchorCache.setAnchorValidated(userId, anchorEntity.getGUID(), isFeedbackEntity, suppliedSupportedZones);
+                        }
+                    }
                 }
                 else if (OpenMetadataType.GLOSSARY_TYPE_NAME.equals(anchorEntityType.getTypeDefName()))
                 {
@@ -3415,13 +3449,15 @@ public class OpenMetadataAPIGenericHandler<B> extends OpenMetadataAPIRootHandler
                                                                              serviceName,
                                                                              methodName);
                     }
-                    else
+                    else if (! anchorCache.isAnchorValidated(userId, anchorEntity.getGUID(), OpenMetadataType.GLOSSARY_TYPE_NAME))
                     {
                         securityVerifier.validateUserForGlossaryRead(userId,
                                                                      anchorEntity,
                                                                      repositoryHelper,
                                                                      serviceName,
                                                                      methodName);
+
+                        anchorCache.setAnchorValidated(userId, anchorEntity.getGUID(), OpenMetadataType.GLOSSARY_TYPE_NAME);
                     }
                 }
 
@@ -4937,42 +4973,51 @@ public class OpenMetadataAPIGenericHandler<B> extends OpenMetadataAPIRootHandler
         {
             List<EntityDetail> visibleEntities = new ArrayList<>();
 
-            for (Relationship  relationship : visibleRelationships)
+            boolean anchorScopeStarted = anchorCache.startRequestScope();
+
+            try
             {
-                if (relationship != null)
+                for (Relationship  relationship : visibleRelationships)
                 {
-                    EntityProxy entityProxy = repositoryHandler.getOtherEnd(startingElement.getGUID(), startingElementTypeName, relationship, attachmentEntityEnd, methodName);
-
-                    if ((entityProxy != null) && (entityProxy.getType() != null)  &&
-                                (repositoryHelper.isTypeOf(serviceName, entityProxy.getType().getTypeDefName(), resultingElementTypeName)))
+                    if (relationship != null)
                     {
-                        try
-                        {
-                            final String guidParameterName = "entityProxy.getGUID()";
+                        EntityProxy entityProxy = repositoryHandler.getOtherEnd(startingElement.getGUID(), startingElementTypeName, relationship, attachmentEntityEnd, methodName);
 
-                            visibleEntities.add(this.getEntityFromRepository(userId,
-                                                                             entityProxy.getGUID(),
-                                                                             guidParameterName,
-                                                                             resultingElementTypeName,
-                                                                             requiredClassificationName,
-                                                                             omittedClassificationName,
-                                                                             forLineage,
-                                                                             forDuplicateProcessing,
-                                                                             supportedZones,
-                                                                             effectiveTime,
-                                                                             methodName));
-                        }
-                        catch (InvalidParameterException | UserNotAuthorizedException | PropertyServerException inaccessibleEntity)
+                        if ((entityProxy != null) && (entityProxy.getType() != null)  &&
+                                    (repositoryHelper.isTypeOf(serviceName, entityProxy.getType().getTypeDefName(), resultingElementTypeName)))
                         {
-                            // skip entities that are not visible to this user
-                            if (log.isDebugEnabled())
+                            try
                             {
-                                log.debug("Skipping inaccessible entity: " + inaccessibleEntity);
+                                final String guidParameterName = "entityProxy.getGUID()";
+
+                                visibleEntities.add(this.getEntityFromRepository(userId,
+                                                                                 entityProxy.getGUID(),
+                                                                                 guidParameterName,
+                                                                                 resultingElementTypeName,
+                                                                                 requiredClassificationName,
+                                                                                 omittedClassificationName,
+                                                                                 forLineage,
+                                                                                 forDuplicateProcessing,
+                                                                                 supportedZones,
+                                                                                 effectiveTime,
+                                                                                 methodName));
+                            }
+                            catch (InvalidParameterException | UserNotAuthorizedException | PropertyServerException inaccessibleEntity)
+                            {
+                                // skip entities that are not visible to this user
+                                if (log.isDebugEnabled())
+                                {
+                                    log.debug("Skipping inaccessible entity: " + inaccessibleEntity);
+                                }
                             }
                         }
                     }
                 }
             }
+            finally
+            {
+                anchorCache.endRequestScope(anchorScopeStarted);
+            }
 
             if (! visibleEntities.isEmpty())
             {
@@ -7902,44 +7947,53 @@ public class OpenMetadataAPIGenericHandler<B> extends OpenMetadataAPIRootHandler
 
         List<String>  results = new ArrayList<>();
 
-        for (Relationship  relationship : relationships)
+        boolean anchorScopeStarted = anchorCache.startRequestScope();
+
+        try
         {
-            if (relationship != null)
+            for (Relationship  relationship : relationships)
             {
-                EntityProxy entityProxy = repositoryHandler.getOtherEnd(startingEntity.getGUID(),
-                                                                        startingTypeName,
-                                                                        relationship,
-                                                                        0,
-                                                                        methodName);
-                if (entityProxy != null)
+                if (relationship != null)
                 {
-                    try
+                    EntityProxy entityProxy = repositoryHandler.getOtherEnd(startingEntity.getGUID(),
+                                                                            startingTypeName,
+                                                                            relationship,
+                                                                            0,
+                                                                            methodName);
+                    if (entityProxy != null)
                     {
-                        this.validateAnchorEntity(userId,
-                                                   entityProxy.getGUID(),
-                                                   guidParameterName,
-                                                   attachmentEntityTypeName,
-                                                   false,
-                                                   false,
-                                                   forLineage,
-                                                   forDuplicateProcessing,
-                                                   serviceSupportedZones,
-                                                   effectiveTime,
-                                                   methodName);
+                        try
+                        {
+                            this.validateAnchorEntity(userId,
+                                                       entityProxy.getGUID(),
+                                                       guidParameterName,
+                                                       attachmentEntityTypeName,
+                                                       false,
+                                                       false,
+                                                       forLineage,
+                                                       forDuplicateProcessing,
+                                                       serviceSupportedZones,
+                                                       effectiveTime,
+                                                       methodName);
 
-                        results.add(entityProxy.getGUID());
-                    }
-                    catch (InvalidParameterException | UserNotAuthorizedException | PropertyServerException nonAccessibleEntity)
-                    {
-                        // skip entities that are not visible to this user
-                        if (log.isDebugEnabled())
+                            results.add(entityProxy.getGUID());
+                        }
+                        catch (InvalidParameterException | UserNotAuthorizedException | PropertyServerException nonAccessibleEntity)
                         {
-                            log.debug("Skipping entity: " + nonAccessibleEntity);
+                            // skip entities that are not visible to this user
+                            if (log.isDebugEnabled())
+                            {
+                                log.debug("Skipping entity: " + nonAccessibleEntity);
+                            }
                         }
                     }
                 }
             }
         }
+        finally
+        {
+            anchorCache.endRequestScope(anchorScopeStarted);
+        }
 
         if (results.isEmpty())
         {
@@ -8323,49 +8377,58 @@ public class OpenMetadataAPIGenericHandler<B> extends OpenMetadataAPIRootHandler
 
         List<B>  results = new ArrayList<>();
 
-        for (Relationship  relationship : relationships)
+        boolean anchorScopeStarted = anchorCache.startRequestScope();
+
+        try
         {
-            if (relationship != null)
+            for (Relationship  relationship : relationships)
             {
-                try
+                if (relationship != null)
                 {
-                    Integer relationshipOrdinal = repositoryHelper.getEnumPropertyOrdinal(serviceName,
-                                                                                          enumPropertyName,
-                                                                                          relationship.getProperties(),
-                                                                                          methodName);
-
-                    if (limitResultsByEnumValues.contains(relationshipOrdinal))
+                    try
                     {
-                        B bean = this.getAttachedElement(userId,
-                                                         startingGUID,
-                                                         startingGUIDParameterName,
-                                                         startingTypeName,
-                                                         relationship,
-                                                         attachmentEntityTypeName,
-                                                         requiredClassificationName,
-                                                         omittedClassificationName,
-                                                         attachmentEntityEnd,
-                                                         forLineage,
-                                                         forDuplicateProcessing,
-                                                         supportedZones,
-                                                         effectiveTime,
-                                                         methodName);
-                        if (bean != null)
+                        Integer relationshipOrdinal = repositoryHelper.getEnumPropertyOrdinal(serviceName,
+                                                                                              enumPropertyName,
+                                                                                              relationship.getProperties(),
+                                                                                              methodName);
+
+                        if (limitResultsByEnumValues.contains(relationshipOrdinal))
                         {
-                            results.add(bean);
+                            B bean = this.getAttachedElement(userId,
+                                                             startingGUID,
+                                                             startingGUIDParameterName,
+                                                             startingTypeName,
+                                                             relationship,
+                                                             attachmentEntityTypeName,
+                                                             requiredClassificationName,
+                                                             omittedClassificationName,
+                                                             attachmentEntityEnd,
+                                                             forLineage,
+                                                             forDuplicateProcessing,
+                                                             supportedZones,
+                                                             effectiveTime,
+                                                             methodName);
+                            if (bean != null)
+                            {
+                                results.add(bean);
+                            }
                         }
                     }
-                }
-                catch (InvalidParameterException | UserNotAuthorizedException | PropertyServerException inaccessibleEntity)
-                {
-                    // skip entities that are not visible to this user
-                    if (log.isDebugEnabled())
+                    catch (InvalidParameterException | UserNotAuthorizedException | PropertyServerException inaccessibleEntity)
                     {
-                        log.debug("Skipping inaccessible entity: " + inaccessibleEntity);
+                        // skip entities that are not visible to this user
+                        if (log.isDebugEnabled())
+                        {
+                            log.debug("Skipping inaccessible entity: " + inaccessibleEntity);
+                        }
                     }
                 }
             }
         }
+        finally
+        {
+            anchorCache.endRequestScope(anchorScopeStarted);
+        }
 
         if (results.isEmpty())
         {
@@ -8541,41 +8604,50 @@ public class OpenMetadataAPIGenericHandler<B> extends OpenMetadataAPIRootHandler
 
         List<B>  results = new ArrayList<>();
 
-        for (Relationship  relationship : relationships)
+        boolean anchorScopeStarted = anchorCache.startRequestScope();
+
+        try
         {
-            if (relationship != null)
+            for (Relationship  relationship : relationships)
             {
-                try
+                if (relationship != null)
                 {
-                    B bean = this.getAttachedElement(userId,
-                                                     startingGUID,
-                                                     startingGUIDParameterName,
-                                                     startingTypeName,
-                                                     relationship,
-                                                     attachmentEntityTypeName,
-                                                     requiredClassificationName,
-                                                     omittedClassificationName,
-                                                     selectionEnd,
-                                                     forLineage,
-                                                     forDuplicateProcessing,
-                                                     serviceSupportedZones,
-                                                     effectiveTime,
-                                                     methodName);
-                    if (bean != null)
+                    try
                     {
-                        results.add(bean);
+                        B bean = this.getAttachedElement(userId,
+                                                         startingGUID,
+                                                         startingGUIDParameterName,
+                                                         startingTypeName,
+                                                         relationship,
+                                                         attachmentEntityTypeName,
+                                                         requiredClassificationName,
+                                                         omittedClassificationName,
+                                                         selectionEnd,
+                                                         forLineage,
+                                                         forDuplicateProcessing,
+                                                         serviceSupportedZones,
+                                                         effectiveTime,
+                                                         methodName);
+                        if (bean != null)
+                        {
+                            results.add(bean);
+                        }
                     }
-                }
-                catch (InvalidParameterException | UserNotAuthorizedException | PropertyServerException inaccessibleEntity)
-                {
-                    // skip entities that are not visible to this user
-                    if (log.isDebugEnabled())
+                    catch (InvalidParameterException | UserNotAuthorizedException | PropertyServerException inaccessibleEntity)
                     {
-                        log.debug("Skipping inaccessible entity: " + inaccessibleEntity);
+                        // skip entities that are not visible to this user
+                        if (log.isDebugEnabled())
+                        {
+                            log.debug("Skipping inaccessible entity: " + inaccessibleEntity);
+                        }
                     }
                 }
             }
         }
+        finally
+        {
+            anchorCache.endRequestScope(anchorScopeStarted);
+        }
 
         if (results.isEmpty())
         {
@@ -0,0 +1,220 @@
+/* SPDX-License-Identifier: Apache-2.0 */
+/* Copyright Contributors to the ODPi Egeria project. */
+package org.odpi.openmetadata.commonservices.generichandlers;
+
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.instances.EntityDetail;
+import org.testng.annotations.AfterMethod;
+import org.testng.annotations.Test;
+
+import java.util.Date;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.testng.Assert.assertFalse;
+import static org.testng.Assert.assertNull;
+import static org.testng.Assert.assertSame;
+import static org.testng.Assert.assertTrue;
+
+
+/**
+ * Verify that AnchorCache only remembers anchors inside a request scope, that nested scopes share the outer scope,
+ * and that the values are kept apart by the calling user and the request options.
+ */
+public class AnchorCacheTest
+{
+    private static final String userId     = "testUser";
+    private static final String anchorGUID = "anchorGUID";
+
+    private final AnchorCache anchorCache = new AnchorCache("testServer");
+
+
+    /**
+     * Make sure that a failed test does not leave a scope open on the test thread.
+     */
+    @AfterMethod
+    public void tearDown()
+    {
+        anchorCache.endRequestScope(true);
+    }
+
+
+    /**
+     * Outside a request scope nothing is remembered.
+     */
+    @Test
+    public void testNoScope()
+    {
+        anchorCache.setAnchorEntity(userId, anchorGUID, false, false, null, this.getEntity());
+        anchorCache.setAnchorValidated(userId, anchorGUID, false);
+
+        assertNull(anchorCache.getAnchorEntity(userId, anchorGUID, false, false, null));
+        assertFalse(anchorCache.isAnchorValidated(userId, anchorGUID, false));
+    }
+
+
+    /**
+     * A nested call reuses the scope that is already open.  Closing the nested scope leaves the outer scope
+     * in place; closing the outer scope clears it.
+     */
+    @Test
+    public void testScopeNesting()
+    {
+        EntityDetail anchorEntity = this.getEntity();
+
+        boolean outerScopeStarted = anchorCache.startRequestScope();
+
+        assertTrue(outerScopeStarted);
+
+        anchorCache.setAnchorEntity(userId, anchorGUID, false, false, null, anchorEntity);
+
+        boolean innerScopeStarted = anchorCache.startRequestScope();
+
+        assertFalse(innerScopeStarted);
+        assertSame(anchorCache.getAnchorEntity(userId, anchorGUID, false, false, null), anchorEntity);
+
+        anchorCache.setAnchorValidated(userId, anchorGUID, false);
+        anchorCache.endRequestScope(innerScopeStarted);
+
+        assertSame(anchorCache.getAnchorEntity(userId, anchorGUID, false, false, null), anchorEntity);
+        assertTrue(anchorCache.isAnchorValidated(userId, anchorGUID, false));
+
+        anchorCache.endRequestScope(outerScopeStarted);
+
+        assertNull(anchorCache.getAnchorEntity(userId, anchorGUID, false, false, null));
+        assertFalse(anchorCache.isAnchorValidated(userId, anchorGUID, false));
+    }
+
+
+    /**
+     * Once a scope is ended, the next scope starts empty.
+     */
+    @Test
+    public void testEndRequestScopeClearsValues()
+    {
+        boolean scopeStarted = anchorCache.startRequestScope();
+
+        anchorCache.setAnchorEntity(userId, anchorGUID, false, false, null, this.getEntity());
+        anchorCache.setAnchorValidated(userId, anchorGUID, false);
+        anchorCache.endRequestScope(scopeStarted);
+
+        scopeStarted = anchorCache.startRequestScope();
+
+        assertTrue(scopeStarted);
+        assertNull(anchorCache.getAnchorEntity(userId, anchorGUID, false, false, null));
+        assertFalse(anchorCache.isAnchorValidated(userId, anchorGUID, false));
+
+        anchorCache.endRequestScope(scopeStarted);
+    }
+
+
+    /**
+     * The scope belongs to the thread that opened it.
+     *
+     * @throws InterruptedException test interrupted
+     */
+    @Test
+    public void testScopeIsPerThread() throws InterruptedException
+    {
+        boolean scopeStarted = anchorCache.startRequestScope();
+
+        anchorCache.setAnchorEntity(userId, anchorGUID, false, false, null, this.getEntity());
+
+        AtomicReference<EntityDetail> otherThreadEntity = new AtomicReference<>();
+        Thread                        otherThread       = new Thread(() -> otherThreadEntity.set(anchorCache.getAnchorEntity(userId, anchorGUID, false, false, null)));
+
+        otherThread.start();
+        otherThread.join();
+
+        assertNull(otherThreadEntity.get());
+
+        anchorCache.endRequestScope(scopeStarted);
+    }
+
+
+    /**
+     * An anchor entity retrieved for one user, or with different request options, is not returned for another.
+     */
+    @Test
+    public void testEntityKeySeparation()
+    {
+        EntityDetail anchorEntity  = this.getEntity();
+        Date         effectiveTime = new Date();
+
+        boolean scopeStarted = anchorCache.startRequestScope();
+
+        anchorCache.setAnchorEntity(userId, anchorGUID, false, false, effectiveTime, anchorEntity);
+
+        assertSame(anchorCache.getAnchorEntity(userId, anchorGUID, false, false, new Date(effectiveTime.getTime())), anchorEntity);
+
+        assertNull(anchorCache.getAnchorEntity("otherUser", anchorGUID, false, false, effectiveTime));
+        assertNull(anchorCache.getAnchorEntity(userId, "otherGUID", false, false, effectiveTime));
+        assertNull(anchorCache.getAnchorEntity(userId, anchorGUID, false, false, new Date(effectiveTime.getTime() + 1)));
+        assertNull(anchorCache.getAnchorEntity(userId, anchorGUID, false, false, null));
+        assertNull(anchorCache.getAnchorEntity(userId, anchorGUID, true, false, effectiveTime));
+        assertNull(anchorCache.getAnchorEntity(userId, anchorGUID, false, true, effectiveTime));
+
+        anchorCache.endRequestScope(scopeStarted);
+    }
+
+
+    /**
+     * A security check passed for one user, or with different check values, is not reused for another.
+     */
+    @Test
+    public void testCheckKeySeparation()
+    {
+        List<String> zones = List.of("zone1");
+
+        boolean scopeStarted = anchorCache.startRequestScope();
+
+        anchorCache.setAnchorValidated(userId, anchorGUID, false, zones);
+
+        assertTrue(anchorCache.isAnchorValidated(userId, anchorGUID, false, List.of("zone1")));
+
+        assertFalse(anchorCache.isAnchorValidated("otherUser", anchorGUID, false, zones));
+        assertFalse(anchorCache.isAnchorValidated(userId, anchorGUID, true, zones));
+        assertFalse(anchorCache.isAnchorValidated(userId, anchorGUID, false, List.of("zone2")));
+        assertFalse(anchorCache.isAnchorValidated(userId, anchorGUID, false, null));
+
+        anchorCache.endRequestScope(scopeStarted);
+    }
+
+
+    /**
+     * Values remembered for one server are not returned for another server on the same thread.
+     */
+    @Test
+    public void testServerSeparation()
+    {
+        AnchorCache otherServerCache = new AnchorCache("otherServer");
+
+        boolean scopeStarted = anchorCache.startRequestScope();
+
+        assertFalse(otherServerCache.startRequestScope());
+
+        anchorCache.setAnchorEntity(userId, anchorGUID, false, false, null, this.getEntity());
+
+        assertNull(otherServerCache.getAnchorEntity(userId, anchorGUID, false, false, null));
+
+        anchorCache.endRequestScope(scopeStarted);
+
+        assertTrue(otherServerCache.startRequestScope());
+
+        otherServerCache.endRequestScope(true);
+    }
+
+
+    /**
+     * Return an entity for the anchor.
+     *
+     * @return entity
+     */
+    private EntityDetail getEntity()
+    {
+        EntityDetail entity = new EntityDetail();
+
+        entity.setGUID(anchorGUID);
+
+        return entity;
+    }
+}
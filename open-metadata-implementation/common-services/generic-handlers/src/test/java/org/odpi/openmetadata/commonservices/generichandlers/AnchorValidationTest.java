@@ -0,0 +1,328 @@
+/* SPDX-License-Identifier: Apache-2.0 */
+/* Copyright Contributors to the ODPi Egeria project. */
+package org.odpi.openmetadata.commonservices.generichandlers;
+
+import org.odpi.openmetadata.commonservices.ffdc.InvalidParameterHandler;
+import org.odpi.openmetadata.frameworks.auditlog.ComponentDevelopmentStatus;
+import org.odpi.openmetadata.frameworks.openmetadata.types.OpenMetadataProperty;
+import org.odpi.openmetadata.frameworks.openmetadata.types.OpenMetadataType;
+import org.odpi.openmetadata.repositoryservices.auditlog.OMRSAuditLog;
+import org.odpi.openmetadata.repositoryservices.auditlog.OMRSAuditLogDestination;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.instances.Classification;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.instances.EntityDetail;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.instances.InstanceStatus;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.instances.InstanceType;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.typedefs.EntityDef;
+import org.odpi.openmetadata.repositoryservices.localrepository.repositorycontentmanager.OMRSRepositoryContentHelper;
+import org.odpi.openmetadata.repositoryservices.localrepository.repositorycontentmanager.OMRSRepositoryContentManager;
+import org.testng.annotations.AfterMethod;
+import org.testng.annotations.BeforeMethod;
+import org.testng.annotations.Test;
+
+import java.util.List;
+import java.util.UUID;
+
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertSame;
+
+
+/**
+ * Verify that OpenMetadataAPIGenericHandler.validateAnchorEntity retrieves and checks each anchor once per
+ * request scope for read requests, while the checks for update requests are made every time.
+ */
+public class AnchorValidationTest
+{
+    private static final String userId             = "testUser";
+    private static final String serverName         = "testServer";
+    private static final String attachmentTypeName = "TestAttachment";
+    private static final String methodName         = "test";
+
+    private OMRSRepositoryContentHelper           repositoryHelper  = null;
+    private StubRepositoryHandler                 repositoryHandler = null;
+    private StubSecurityVerifier                  securityVerifier  = null;
+    private OpenMetadataAPIGenericHandler<Object> handler           = null;
+
+    private final AnchorCache testScope = new AnchorCache(serverName);
+
+
+    /**
+     * Create a handler with a repository helper that knows the type of the attachments.
+     */
+    @BeforeMethod
+    public void setUp()
+    {
+        OMRSAuditLog auditLog = new OMRSAuditLog(new OMRSAuditLogDestination(serverName, "testType", "testOrganization", null),
+                                                 1,
+                                                 ComponentDevelopmentStatus.IN_DEVELOPMENT,
+                                                 "testComponent",
+                                                 "test",
+                                                 null);
+
+        OMRSRepositoryContentManager contentManager = new OMRSRepositoryContentManager(userId, auditLog);
+        EntityDef                    attachmentDef  = new EntityDef();
+
+        attachmentDef.setName(attachmentTypeName);
+        attachmentDef.setVersion(1);
+        attachmentDef.setVersionName("1.0");
+        attachmentDef.setGUID(UUID.randomUUID().toString());
+        attachmentDef.setValidInstanceStatusList(List.of(InstanceStatus.ACTIVE, InstanceStatus.DELETED));
+        contentManager.addTypeDef("test", attachmentDef);
+
+        repositoryHelper  = new OMRSRepositoryContentHelper(contentManager);
+        repositoryHandler = new StubRepositoryHandler(auditLog, repositoryHelper);
+        securityVerifier  = new StubSecurityVerifier();
+
+        handler = new OpenMetadataAPIGenericHandler<>(null,
+                                                      Object.class,
+                                                      "testService",
+                                                      serverName,
+                                                      new InvalidParameterHandler(),
+                                                      repositoryHandler,
+                                                      repositoryHelper,
+                                                      "localServerUserId",
+                                                      securityVerifier,
+                                                      null,
+                                                      null,
+                                                      null,
+                                                      auditLog);
+    }
+
+
+    /**
+     * Make sure that a failed test does not leave a scope open on the test thread.
+     */
+    @AfterMethod
+    public void tearDown()
+    {
+        testScope.endRequestScope(true);
+    }
+
+
+    /**
+     * Within a request scope, the anchor of a list of attachments is retrieved and checked once for read.  Once
+     * the scope ends, the next request retrieves and checks it again.
+     *
+     * @throws Exception test failure
+     */
+    @Test
+    public void testReadChecksMadeOncePerScope() throws Exception
+    {
+        EntityDetail asset = this.getAnchor(OpenMetadataType.ASSET.typeName);
+
+        boolean scopeStarted = testScope.startRequestScope();
+
+        for (int i = 0; i < 5; i++)
+        {
+            assertSame(this.validateAttachment(asset, false), asset);
+        }
+
+        testScope.endRequestScope(scopeStarted);
+
+        assertEquals(repositoryHandler.getEntityRetrievals(asset.getGUID()), 1);
+        assertEquals(securityVerifier.getAssetAttachmentReadChecks(), 1);
+
+        scopeStarted = testScope.startRequestScope();
+
+        this.validateAttachment(asset, false);
+
+        testScope.endRequestScope(scopeStarted);
+
+        assertEquals(repositoryHandler.getEntityRetrievals(asset.getGUID()), 2);
+        assertEquals(securityVerifier.getAssetAttachmentReadChecks(), 2);
+    }
+
+
+    /**
+     * Outside a request scope, every attachment retrieves and checks its anchor.
+     *
+     * @throws Exception test failure
+     */
+    @Test
+    public void testNoScope() throws Exception
+    {
+        EntityDetail asset = this.getAnchor(OpenMetadataType.ASSET.typeName);
+
+        for (int i = 0; i < 3; i++)
+        {
+            this.validateAttachment(asset, false);
+        }
+
+        assertEquals(repositoryHandler.getEntityRetrievals(asset.getGUID()), 3);
+        assertEquals(securityVerifier.getAssetAttachmentReadChecks(), 3);
+    }
+
+
+    /**
+     * The anchor entity is reused for update requests, but the asset attachment check is made for every update,
+     * and an update does not count as a passed read check.
+     *
+     * @throws Exception test failure
+     */
+    @Test
+    public void testAssetUpdateChecksAlwaysMade() throws Exception
+    {
+        EntityDetail asset = this.getAnchor(OpenMetadataType.ASSET.typeName);
+
+        boolean scopeStarted = testScope.startRequestScope();
+
+        this.validateAttachment(asset, true);
+        this.validateAttachment(asset, true);
+        this.validateAttachment(asset, false);
+        this.validateAttachment(asset, false);
+        this.validateAttachment(asset, true);
+
+        testScope.endRequestScope(scopeStarted);
+
+        assertEquals(repositoryHandler.getEntityRetrievals(asset.getGUID()), 1);
+        assertEquals(securityVerifier.getAssetAttachmentUpdateChecks(), 3);
+        assertEquals(securityVerifier.getAssetAttachmentReadChecks(), 1);
+    }
+
+
+    /**
+     * For glossary anchors, the read check is made once per scope and the member update check every time.
+     *
+     * @throws Exception test failure
+     */
+    @Test
+    public void testGlossaryUpdateChecksAlwaysMade() throws Exception
+    {
+        EntityDetail glossary = this.getAnchor(OpenMetadataType.GLOSSARY_TYPE_NAME);
+
+        boolean scopeStarted = testScope.startRequestScope();
+
+        this.validateAttachment(glossary, false);
+        this.validateAttachment(glossary, false);
+        this.validateAttachment(glossary, true);
+        this.validateAttachment(glossary, true);
+
+        testScope.endRequestScope(scopeStarted);
+
+        assertEquals(repositoryHandler.getEntityRetrievals(glossary.getGUID()), 1);
+        assertEquals(securityVerifier.getGlossaryReadChecks(), 1);
+        assertEquals(securityVerifier.getGlossaryMemberUpdateChecks(), 2);
+    }
+
+
+    /**
+     * A read check passed for one user is made again for another user in the same scope.
+     *
+     * @throws Exception test failure
+     */
+    @Test
+    public void testReadChecksMadeForEachUser() throws Exception
+    {
+        EntityDetail asset = this.getAnchor(OpenMetadataType.ASSET.typeName);
+
+        boolean scopeStarted = testScope.startRequestScope();
+
+        this.validateAttachment(asset, false);
+
+        EntityDetail attachment = this.getAttachment(asset);
+
+        handler.validateAnchorEntity("otherUser",
+                                     attachment.getGUID(),
+                                     attachmentTypeName,
+                                     attachment,
+                                     "attachmentGUID",
+                                     false,
+                                     false,
+                                     false,
+                                     false,
+                                     null,
+                                     null,
+                                     methodName);
+
+        testScope.endRequestScope(scopeStarted);
+
+        assertEquals(repositoryHandler.getEntityRetrievals(asset.getGUID()), 2);
+        assertEquals(securityVerifier.getAssetAttachmentReadChecks(), 2);
+    }
+
+
+    /**
+     * Validate a new attachment to the anchor.
+     *
+     * @param anchor anchor entity
+     * @param isUpdate is an update requested
+     * @return anchor entity returned by the handler
+     * @throws Exception validation failed
+     */
+    private EntityDetail validateAttachment(EntityDetail anchor,
+                                            boolean      isUpdate) throws Exception
+    {
+        EntityDetail attachment = this.getAttachment(anchor);
+
+        return handler.validateAnchorEntity(userId,
+                                            attachment.getGUID(),
+                                            attachmentTypeName,
+                                            attachment,
+                                            "attachmentGUID",
+                                            false,
+                                            isUpdate,
+                                            false,
+                                            false,
+                                            null,
+                                            null,
+                                            methodName);
+    }
+
+
+    /**
+     * Return an anchor entity and make it available from the repository handler.
+     *
+     * @param typeName type of the anchor
+     * @return entity
+     */
+    private EntityDetail getAnchor(String typeName)
+    {
+        EntityDetail anchor = this.getEntity(typeName);
+
+        repositoryHandler.addEntity(anchor);
+
+        return anchor;
+    }
+
+
+    /**
+     * Return an attachment entity with an Anchors classification that names the anchor.
+     *
+     * @param anchor anchor entity
+     * @return entity
+     */
+    private EntityDetail getAttachment(EntityDetail anchor)
+    {
+        EntityDetail   attachment = this.getEntity(attachmentTypeName);
+        Classification anchors    = new Classification();
+
+        anchors.setName(OpenMetadataType.ANCHORS_CLASSIFICATION.typeName);
+        anchors.setProperties(repositoryHelper.addStringPropertyToInstance(methodName,
+                                                                           null,
+                                                                           OpenMetadataProperty.ANCHOR_GUID.name,
+                                                                           anchor.getGUID(),
+                                                                           methodName));
+        attachment.setClassifications(List.of(anchors));
+
+        return attachment;
+    }
+
+
+    /**
+     * Return an entity with a new unique identifier.
+     *
+     * @param typeName type of the entity
+     * @return entity
+     */
+    private EntityDetail getEntity(String typeName)
+    {
+        EntityDetail entity = new EntityDetail();
+        InstanceType type   = new InstanceType();
+
+        type.setTypeDefName(typeName);
+        entity.setGUID(UUID.randomUUID().toString());
+        entity.setType(type);
+        entity.setStatus(InstanceStatus.ACTIVE);
+
+        return entity;
+    }
+}
@@ -0,0 +1,89 @@
+/* SPDX-License-Identifier: Apache-2.0 */
+/* Copyright Contributors to the ODPi Egeria project. */
+package org.odpi.openmetadata.commonservices.generichandlers;
+
+import org.odpi.openmetadata.commonservices.repositoryhandler.RepositoryHandler;
+import org.odpi.openmetadata.frameworks.auditlog.AuditLog;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.instances.EntityDetail;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.repositoryconnector.OMRSRepositoryHelper;
+
+import java.util.Date;
+import java.util.HashMap;
+import java.util.Map;
+
+
+/**
+ * StubRepositoryHandler stands in for the repository handler when testing the anchor validation of the generic
+ * handler.  It has no metadata collection.  It returns the entities set up by the test and counts how often each
+ * one is retrieved.
+ */
+public class StubRepositoryHandler extends RepositoryHandler
+{
+    private final Map<String, EntityDetail> entities         = new HashMap<>();
+    private final Map<String, Integer>      entityRetrievals  = new HashMap<>();
+
+
+    /**
+     * Constructor.
+     *
+     * @param auditLog logging destination
+     * @param repositoryHelper helper for building instances
+     */
+    public StubRepositoryHandler(AuditLog             auditLog,
+                                 OMRSRepositoryHelper repositoryHelper)
+    {
+        super(auditLog, repositoryHelper, null, null, 100);
+    }
+
+
+    /**
+     * Return an entity set up by the test and count the retrieval.
+     *
+     * @param userId calling user
+     * @param guid unique identifier of the entity
+     * @param guidParameterName name of the parameter that passed the guid
+     * @param entityTypeName type of the entity
+     * @param forLineage the request is to support lineage retrieval
+     * @param forDuplicateProcessing the request is for duplicate processing
+     * @param effectiveTime the time that the retrieved elements must be effective for
+     * @param methodName calling method
+     * @return entity or null
+     */
+    @Override
+    public EntityDetail getEntityByGUID(String  userId,
+                                        String  guid,
+                                        String  guidParameterName,
+                                        String  entityTypeName,
+                                        boolean forLineage,
+                                        boolean forDuplicateProcessing,
+                                        Date    effectiveTime,
+                                        String  methodName)
+    {
+        entityRetrievals.merge(guid, 1, Integer::sum);
+
+        return entities.get(guid);
+    }
+
+
+    /**
+     * Add an entity that can be retrieved by its unique identifier.
+     *
+     * @param entity entity
+     */
+    public void addEntity(EntityDetail entity)
+    {
+        entities.put(entity.getGUID(), entity);
+    }
+
+
+    /**
+     * Return the number of times that an entity has been retrieved.
+     *
+     * @param guid unique identifier of the entity
+     * @return count
+     */
+    public int getEntityRetrievals(String guid)
+    {
+        return entityRetrievals.getOrDefault(guid, 0);
+    }
+}
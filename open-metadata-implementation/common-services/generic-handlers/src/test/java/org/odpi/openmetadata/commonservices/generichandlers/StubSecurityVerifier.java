@@ -0,0 +1,143 @@
+/* SPDX-License-Identifier: Apache-2.0 */
+/* Copyright Contributors to the ODPi Egeria project. */
+package org.odpi.openmetadata.commonservices.generichandlers;
+
+import org.odpi.openmetadata.metadatasecurity.server.OpenMetadataServerSecurityVerifier;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.instances.EntityDetail;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.repositoryconnector.OMRSRepositoryHelper;
+
+import java.util.List;
+
+
+/**
+ * StubSecurityVerifier allows every request, and counts the security checks made on the anchors of the elements
+ * when testing the anchor validation of the generic handler.
+ */
+public class StubSecurityVerifier extends OpenMetadataServerSecurityVerifier
+{
+    private int assetAttachmentReadChecks   = 0;
+    private int assetAttachmentUpdateChecks = 0;
+    private int glossaryReadChecks          = 0;
+    private int glossaryMemberUpdateChecks  = 0;
+
+
+    /**
+     * Count a check that the user may read or update the attachments of an asset.
+     *
+     * @param userId calling user
+     * @param assetGUID unique identifier of the element
+     * @param assetGUIDParameterName name of the parameter that passed the guid
+     * @param assetEntity anchor asset
+     * @param isFeedback is this request related to a feedback element
+     * @param isUpdate is an update requested
+     * @param suppliedSupportedZones supported zones from calling service
+     * @param repositoryHelper helper for OMRS objects
+     * @param serviceName calling service
+     * @param methodName calling method
+     */
+    @Override
+    public void validateUserForAssetAttachment(String               userId,
+                                               String               assetGUID,
+                                               String               assetGUIDParameterName,
+                                               EntityDetail         assetEntity,
+                                               boolean              isFeedback,
+                                               boolean              isUpdate,
+                                               List<String>         suppliedSupportedZones,
+                                               OMRSRepositoryHelper repositoryHelper,
+                                               String               serviceName,
+                                               String               methodName)
+    {
+        if (isUpdate)
+        {
+            assetAttachmentUpdateChecks++;
+        }
+        else
+        {
+            assetAttachmentReadChecks++;
+        }
+    }
+
+
+    /**
+     * Count a check that the user may read a glossary.
+     *
+     * @param userId calling user
+     * @param entity anchor glossary
+     * @param repositoryHelper helper for OMRS objects
+     * @param serviceName calling service
+     * @param methodName calling method
+     */
+    @Override
+    public void validateUserForGlossaryRead(String               userId,
+                                            EntityDetail         entity,
+                                            OMRSRepositoryHelper repositoryHelper,
+                                            String               serviceName,
+                                            String               methodName)
+    {
+        glossaryReadChecks++;
+    }
+
+
+    /**
+     * Count a check that the user may update the members of a glossary.
+     *
+     * @param userId calling user
+     * @param entity anchor glossary
+     * @param repositoryHelper helper for OMRS objects
+     * @param serviceName calling service
+     * @param methodName calling method
+     */
+    @Override
+    public void validateUserForGlossaryMemberUpdate(String               userId,
+                                                    EntityDetail         entity,
+                                                    OMRSRepositoryHelper repositoryHelper,
+                                                    String               serviceName,
+                                                    String               methodName)
+    {
+        glossaryMemberUpdateChecks++;
+    }
+
+
+    /**
+     * Return the number of read checks on asset attachments.
+     *
+     * @return count
+     */
+    public int getAssetAttachmentReadChecks()
+    {
+        return assetAttachmentReadChecks;
+    }
+
+
+    /**
+     * Return the number of update checks on asset attachments.
+     *
+     * @return count
+     */
+    public int getAssetAttachmentUpdateChecks()
+    {
+        return assetAttachmentUpdateChecks;
+    }
+
+
+    /**
+     * Return the number of glossary read checks.
+     *
+     * @return count
+     */
+    public int getGlossaryReadChecks()
+    {
+        return glossaryReadChecks;
+    }
+
+
+    /**
+     * Return the number of glossary member update checks.
+     *
+     * @return count
+     */
+    public int getGlossaryMemberUpdateChecks()
+    {
+        return glossaryMemberUpdateChecks;
+    }
+}
@@ -693,6 +693,45 @@ public class OpenMetadataServerSecurityConnector extends ConnectorBase implement
     }
 
 
+    /**
+     * Return whether the server may remember that a request was allowed by this connector, and allow the same
+     * request again without calling the connector.  The server caches the decision using the user, the
+     * operation and all the values about the element that are passed to the connector: its unique identifier,
+     * type, status, properties and classifications.  Only override this method to return true for operations
+     * where the decision depends on nothing else, for example not on the time of day.
+     * The default is that no decisions are cached.
+     *
+     * @param operationName name of the validate method, for example validateUserForAssetRead
+     * @return boolean flag
+     */
+    public boolean isCacheableDecision(String operationName)
+    {
+        return false;
+    }
+
+
+    /**
+     * Return the maximum number of allowed requests that the server remembers for this connector.
+     *
+     * @return count
+     */
+    public int getDecisionCacheMaxEntries()
+    {
+        return 10000;
+    }
+
+
+    /**
+     * Return the number of milliseconds that the server remembers an allowed request for.
+     *
+     * @return time in milliseconds
+     */
+    public long getDecisionCacheTimeToLive()
+    {
+        return 60000;
+    }
+
+
     /**
      * Indicates that the connector is completely configured and can begin processing.
      *
@@ -118,6 +118,19 @@ public class OpenMetadataServerSecurityVerifier implements OpenMetadataRepositor
 
     private static final String assetActionDescription = "userAssetMonitoring";
 
+    /*
+     * Changes to instances of these types may change the decisions made by the security connector so they clear
+     * the decision cache.
+     */
+    private static final Set<String> securityDefinitionTypeNames = Set.of("GovernanceZone",
+                                                                          "ZoneHierarchy",
+                                                                          "ZoneGovernance",
+                                                                          "SecurityGroup",
+                                                                          "SecurityAccessControl",
+                                                                          "AssociatedGroup",
+                                                                          "UserIdentity",
+                                                                          "ProfileIdentity");
+
     private OpenMetadataRepositorySecurity repositorySecurityConnector = null;
     private OpenMetadataEventsSecurity     eventsSecurityConnector     = null;
     private OpenMetadataServerSecurity     serverSecurityConnector     = null;
@@ -126,6 +139,9 @@ public class OpenMetadataServerSecurityVerifier implements OpenMetadataRepositor
     private OpenMetadataAssetSecurity      assetSecurityConnector      = null;
     private OpenMetadataGlossarySecurity   glossarySecurityConnector   = null;
 
+    private OpenMetadataServerSecurityConnector securityConnector = null;
+    private SecurityDecisionCache               decisionCache     = null;
+
     private final InvalidParameterHandler  invalidParameterHandler     = new InvalidParameterHandler();
 
     private AuditLog                       auditLog                     = null;
@@ -167,6 +183,18 @@ public class OpenMetadataServerSecurityVerifier implements OpenMetadataRepositor
                                                         auditLog,
                                                         connection);
 
+            securityConnector = connector;
+
+            if (connector != null)
+            {
+                decisionCache = new SecurityDecisionCache(connector.getDecisionCacheMaxEntries(),
+                                                          connector.getDecisionCacheTimeToLive());
+            }
+            else
+            {
+                decisionCache = null;
+            }
+
             if (connector instanceof OpenMetadataRepositorySecurity)
             {
                 repositorySecurityConnector = (OpenMetadataRepositorySecurity)connector;
@@ -255,6 +283,180 @@ public class OpenMetadataServerSecurityVerifier implements OpenMetadataRepositor
 
 
 
+    /**
+     * Replace the cache used to remember the requests that the security connector has allowed.  The cache is
+     * only used for the operations that the connector declares as cacheable.
+     *
+     * @param decisionCache new cache or null to switch caching off
+     */
+    public synchronized void setDecisionCache(SecurityDecisionCache decisionCache)
+    {
+        this.decisionCache = decisionCache;
+    }
+
+
+    /**
+     * Forget all the requests that the security connector has allowed.  This is needed when the metadata
+     * that the connector uses to make its decisions has changed.
+     */
+    public void clearDecisionCache()
+    {
+        SecurityDecisionCache cache = decisionCache;
+
+        if (cache != null)
+        {
+            cache.clear();
+        }
+    }
+
+
+    /**
+     * Return the key used to cache the security connector's decision on a request, or null if the
+     * connector does not allow this type of decision to be cached.
+     *
+     * @param userId calling user
+     * @param operationName name of the security check
+     * @param decisionProperties values that the decision depends on
+     * @return key or null
+     */
+    private List<Object> getDecisionKey(String    userId,
+                                        String    operationName,
+                                        Object... decisionProperties)
+    {
+        SecurityDecisionCache cache = decisionCache;
+
+        if ((cache != null) && (securityConnector != null) && (securityConnector.isCacheableDecision(operationName)))
+        {
+            return cache.getDecisionKey(userId, operationName, decisionProperties);
+        }
+
+        return null;
+    }
+
+
+    /**
+     * Return the key used to cache the security connector's decision on a request about an entity.  The key
+     * includes every value that is passed to the security connector in the bean built from the entity: its
+     * unique identifier, type, status and properties, and the properties of each of its classifications
+     * (such as Confidentiality, Confidence, Criticality, Impact, Retention, AssetOrigin, AssetZoneMembership,
+     * SecurityTags and Ownership).  A change to any of them means the connector is called again.
+     *
+     * @param userId calling user
+     * @param operationName name of the security check
+     * @param entity entity that the user wishes to work with
+     * @return key or null if the decision can not be cached
+     */
+    private List<Object> getEntityDecisionKey(String       userId,
+                                              String       operationName,
+                                              EntityDetail entity)
+    {
+        if ((entity == null) || (entity.getType() == null))
+        {
+            return null;
+        }
+
+        InstanceProperties              entityProperties         = null;
+        Map<String, InstanceProperties> classificationProperties = new TreeMap<>();
+
+        if (entity.getProperties() != null)
+        {
+            entityProperties = new InstanceProperties(entity.getProperties());
+        }
+
+        if (entity.getClassifications() != null)
+        {
+            for (Classification classification : entity.getClassifications())
+            {
+                if ((classification != null) && (classification.getName() != null))
+                {
+                    if (classification.getProperties() == null)
+                    {
+                        classificationProperties.put(classification.getName(), null);
+                    }
+                    else
+                    {
+                        classificationProperties.put(classification.getName(), new InstanceProperties(classification.getProperties()));
+                    }
+                }
+            }
+        }
+
+        return this.getDecisionKey(userId,
+                                   operationName,
+                                   entity.getGUID(),
+                                   entity.getType().getTypeDefGUID(),
+                                   entity.getType().getTypeDefName(),
+                                   entity.getStatus(),
+                                   entityProperties,
+                                   classificationProperties);
+    }
+
+
+    /**
+     * Return whether the request has been allowed recently by the security connector.
+     *
+     * @param decisionKey key for the request or null if it can not be cached
+     * @return boolean flag
+     */
+    private boolean isAllowedByCache(List<Object> decisionKey)
+    {
+        SecurityDecisionCache cache = decisionCache;
+
+        return (decisionKey != null) && (cache != null) && (cache.isAllowed(decisionKey));
+    }
+
+
+    /**
+     * Remember that the security connector has allowed the request.
+     *
+     * @param decisionKey key for the request or null if it can not be cached
+     */
+    private void cacheAllowedDecision(List<Object> decisionKey)
+    {
+        SecurityDecisionCache cache = decisionCache;
+
+        if ((decisionKey != null) && (cache != null))
+        {
+            cache.setAllowed(decisionKey);
+        }
+    }
+
+
+    /**
+     * Clear the decision cache if an instance event is about the metadata that security decisions are based on.
+     * Events that carry a batch of instances always clear the cache.
+     *
+     * @param event instance event
+     */
+    private void invalidateDecisionCache(OMRSInstanceEvent event)
+    {
+        if ((decisionCache == null) || (event == null))
+        {
+            return;
+        }
+
+        String typeName = event.getTypeDefName();
+
+        if (event.getEntity() != null)
+        {
+            typeName = event.getEntity().getType() == null ? typeName : event.getEntity().getType().getTypeDefName();
+        }
+        else if (event.getRelationship() != null)
+        {
+            typeName = event.getRelationship().getType() == null ? typeName : event.getRelationship().getType().getTypeDefName();
+        }
+        else if (event.getEntityProxy() != null)
+        {
+            typeName = event.getEntityProxy().getType() == null ? typeName : event.getEntityProxy().getType().getTypeDefName();
+        }
+
+        if ((event.getInstanceBatch() != null) || ((typeName != null) && (securityDefinitionTypeNames.contains(typeName))))
+        {
+            this.clearDecisionCache();
+        }
+    }
+
+
     /**
      * Return the list of supported zones for this asset.  This originates from the configuration of the access server.
      * but may be changed by the security verifier.
@@ -1117,7 +1319,15 @@ public class OpenMetadataServerSecurityVerifier implements OpenMetadataRepositor
     {
         if (serverSecurityConnector != null)
         {
-            serverSecurityConnector.validateUserForServer(userId);
+            final String operationName = "validateUserForServer";
+
+            List<Object> decisionKey = this.getDecisionKey(userId, operationName);
+
+            if (! this.isAllowedByCache(decisionKey))
+            {
+                serverSecurityConnector.validateUserForServer(userId);
+                this.cacheAllowedDecision(decisionKey);
+            }
         }
     }
 
@@ -1187,7 +1397,15 @@ public class OpenMetadataServerSecurityVerifier implements OpenMetadataRepositor
     {
         if (serviceSecurityConnector != null)
         {
-            serviceSecurityConnector.validateUserForService(userId, serviceName);
+            final String operationName = "validateUserForService";
+
+            List<Object> decisionKey = this.getDecisionKey(userId, operationName, serviceName);
+
+            if (! this.isAllowedByCache(decisionKey))
+            {
+                serviceSecurityConnector.validateUserForService(userId, serviceName);
+                this.cacheAllowedDecision(decisionKey);
+            }
         }
     }
 
@@ -1208,7 +1426,15 @@ public class OpenMetadataServerSecurityVerifier implements OpenMetadataRepositor
     {
         if (serviceSecurityConnector != null)
         {
-            serviceSecurityConnector.validateUserForServiceOperation(userId, serviceName, serviceOperationName);
+            final String operationName = "validateUserForServiceOperation";
+
+            List<Object> decisionKey = this.getDecisionKey(userId, operationName, serviceName, serviceOperationName);
+
+            if (! this.isAllowedByCache(decisionKey))
+            {
+                serviceSecurityConnector.validateUserForServiceOperation(userId, serviceName, serviceOperationName);
+                this.cacheAllowedDecision(decisionKey);
+            }
         }
     }
 
@@ -1335,12 +1561,20 @@ public class OpenMetadataServerSecurityVerifier implements OpenMetadataRepositor
 
         if (assetSecurityConnector != null)
         {
-            /*
-             * Create the bean for the security module then call the appropriate security method.
-             */
-            Asset assetBean = this.getAssetBeanFromEntity(assetEntity, repositoryHelper, serviceName, methodName);
+            final String operationName = "validateUserForAssetRead";
+
+            List<Object> decisionKey = this.getEntityDecisionKey(userId, operationName, assetEntity);
 
-            assetSecurityConnector.validateUserForAssetRead(userId, assetBean);
+            if (! this.isAllowedByCache(decisionKey))
+            {
+                /*
+                 * Create the bean for the security module then call the appropriate security method.
+                 */
+                Asset assetBean = this.getAssetBeanFromEntity(assetEntity, repositoryHelper, serviceName, methodName);
+
+                assetSecurityConnector.validateUserForAssetRead(userId, assetBean);
+                this.cacheAllowedDecision(decisionKey);
+            }
         }
 
         if (auditLog != null)
@@ -1414,13 +1648,13 @@ public class OpenMetadataServerSecurityVerifier implements OpenMetadataRepositor
 
         if (assetSecurityConnector != null)
         {
-            Asset asset = this.getAssetBeanFromEntity(assetEntity, repositoryHelper, serviceName, methodName);
-
             /*
              * Now validate the security.
              */
             if (isUpdate)
             {
+                Asset asset = this.getAssetBeanFromEntity(assetEntity, repositoryHelper, serviceName, methodName);
+
                 if (isFeedback)
                 {
                     assetSecurityConnector.validateUserForAssetFeedback(userId, asset);
@@ -1432,7 +1666,17 @@ public class OpenMetadataServerSecurityVerifier implements OpenMetadataRepositor
             }
             else
             {
-                assetSecurityConnector.validateUserForAssetRead(userId, asset);
+                final String operationName = "validateUserForAssetRead";
+
+                List<Object> decisionKey = this.getEntityDecisionKey(userId, operationName, assetEntity);
+
+                if (! this.isAllowedByCache(decisionKey))
+                {
+                    Asset asset = this.getAssetBeanFromEntity(assetEntity, repositoryHelper, serviceName, methodName);
+
+                    assetSecurityConnector.validateUserForAssetRead(userId, asset);
+                    this.cacheAllowedDecision(decisionKey);
+                }
             }
         }
 
@@ -2038,12 +2282,20 @@ public class OpenMetadataServerSecurityVerifier implements OpenMetadataRepositor
     {
         if (glossarySecurityConnector != null)
         {
-            /*
-             * Create the bean for the security module then call the appropriate security method.
-             */
-            Glossary glossary = this.getGlossaryBeanFromEntity(entity, repositoryHelper, serviceName, methodName);
+            final String operationName = "validateUserForGlossaryRead";
+
+            List<Object> decisionKey = this.getEntityDecisionKey(userId, operationName, entity);
 
-            glossarySecurityConnector.validateUserForGlossaryRead(userId, glossary);
+            if (! this.isAllowedByCache(decisionKey))
+            {
+                /*
+                 * Create the bean for the security module then call the appropriate security method.
+                 */
+                Glossary glossary = this.getGlossaryBeanFromEntity(entity, repositoryHelper, serviceName, methodName);
+
+                glossarySecurityConnector.validateUserForGlossaryRead(userId, glossary);
+                this.cacheAllowedDecision(decisionKey);
+            }
         }
     }
 
@@ -2950,6 +3202,8 @@ public class OpenMetadataServerSecurityVerifier implements OpenMetadataRepositor
     public OMRSInstanceEvent validateInboundEvent(String            cohortName,
                                                   OMRSInstanceEvent event)
     {
+        this.invalidateDecisionCache(event);
+
         if (eventsSecurityConnector != null)
         {
             return eventsSecurityConnector.validateInboundEvent(cohortName, event);
@@ -2969,6 +3223,8 @@ public class OpenMetadataServerSecurityVerifier implements OpenMetadataRepositor
     public OMRSInstanceEvent validateOutboundEvent(String            cohortName,
                                                    OMRSInstanceEvent event)
     {
+        this.invalidateDecisionCache(event);
+
         if (eventsSecurityConnector != null)
         {
             return eventsSecurityConnector.validateOutboundEvent(cohortName, event);
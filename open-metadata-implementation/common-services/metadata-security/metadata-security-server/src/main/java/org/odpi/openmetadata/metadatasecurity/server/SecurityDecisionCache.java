@@ -0,0 +1,136 @@
+/* SPDX-License-Identifier: Apache-2.0 */
+/* Copyright Contributors to the ODPi Egeria project. */
+package org.odpi.openmetadata.metadatasecurity.server;
+
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * SecurityDecisionCache remembers the access requests that the open metadata server security connector has allowed
+ * so that the same request can be allowed again without calling the connector.  Each entry is keyed on all the
+ * values passed to the connector, such as the user, the operation and, for a resource, its identity, type,
+ * status, properties and classifications.  Only allowed requests are cached.  A rejected request is always passed
+ * to the connector so that it is audited in the same way as before.
+ * <br><br>
+ * The cache holds a limited number of entries, discarding the least recently used entry when it is full,
+ * and each entry expires after a fixed time.  This class can be extended to plug in a different caching
+ * mechanism.  It is registered with the OpenMetadataServerSecurityVerifier.
+ */
+public class SecurityDecisionCache
+{
+    private final int                     maxEntries;
+    private final long                    timeToLive;
+    private final Map<List<Object>, Long> allowedDecisions;
+
+
+    /**
+     * Constructor sets up the limits of the cache.
+     *
+     * @param maxEntries maximum number of decisions to remember
+     * @param timeToLive number of milliseconds that a decision is remembered for
+     */
+    public SecurityDecisionCache(int  maxEntries,
+                                 long timeToLive)
+    {
+        this.maxEntries       = maxEntries;
+        this.timeToLive       = timeToLive;
+        this.allowedDecisions = new LinkedHashMap<>(16, 0.75f, true)
+        {
+            /**
+             * Remove the least recently used decision once the cache is full.
+             *
+             * @param eldest least recently used entry
+             * @return flag to say whether the entry should be removed
+             */
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<List<Object>, Long> eldest)
+            {
+                return size() > SecurityDecisionCache.this.maxEntries;
+            }
+        };
+    }
+
+
+    /**
+     * Build the key for a decision.  The values may be null.
+     *
+     * @param userId calling user
+     * @param operationName name of the security check
+     * @param decisionProperties values that the decision depends on
+     * @return key for the decision
+     */
+    public List<Object> getDecisionKey(String    userId,
+                                       String    operationName,
+                                       Object... decisionProperties)
+    {
+        Object[] keyValues = new Object[decisionProperties.length + 2];
+
+        keyValues[0] = userId;
+        keyValues[1] = operationName;
+        System.arraycopy(decisionProperties, 0, keyValues, 2, decisionProperties.length);
+
+        return Arrays.asList(keyValues);
+    }
+
+
+    /**
+     * Return whether the request described by the key has been allowed recently.
+     *
+     * @param decisionKey key built from the request
+     * @return boolean flag
+     */
+    public synchronized boolean isAllowed(List<Object> decisionKey)
+    {
+        Long expiryTime = allowedDecisions.get(decisionKey);
+
+        if (expiryTime == null)
+        {
+            return false;
+        }
+
+        if (expiryTime < System.currentTimeMillis())
+        {
+            allowedDecisions.remove(decisionKey);
+            return false;
+        }
+
+        return true;
+    }
+
+
+    /**
+     * Remember that the request described by the key has been allowed.
+     *
+     * @param decisionKey key built from the request
+     */
+    public synchronized void setAllowed(List<Object> decisionKey)
+    {
+        if ((maxEntries > 0) && (timeToLive > 0))
+        {
+            allowedDecisions.put(decisionKey, System.currentTimeMillis() + timeToLive);
+        }
+    }
+
+
+    /**
+     * Forget all the decisions.  This is called when the security connector changes or when the
+     * metadata that the decisions may depend on is changed.
+     */
+    public synchronized void clear()
+    {
+        allowedDecisions.clear();
+    }
+
+
+    /**
+     * Return the number of decisions in the cache.
+     *
+     * @return count
+     */
+    public synchronized int size()
+    {
+        return allowedDecisions.size();
+    }
+}
@@ -0,0 +1,295 @@
+/* SPDX-License-Identifier: Apache-2.0 */
+/* Copyright Contributors to the ODPi Egeria project. */
+package org.odpi.openmetadata.metadatasecurity.server;
+
+import org.odpi.openmetadata.frameworks.connectors.properties.beans.Connection;
+import org.odpi.openmetadata.frameworks.connectors.properties.beans.ConnectorType;
+import org.odpi.openmetadata.metadatasecurity.OpenMetadataGlossarySecurity;
+import org.odpi.openmetadata.metadatasecurity.connectors.OpenMetadataServerSecurityConnector;
+import org.odpi.openmetadata.metadatasecurity.connectors.OpenMetadataServerSecurityProvider;
+import org.odpi.openmetadata.metadatasecurity.properties.Glossary;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.instances.Classification;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.instances.EntityDetail;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.instances.InstanceProperties;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.instances.InstanceStatus;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.instances.InstanceType;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.instances.PrimitivePropertyValue;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.typedefs.PrimitiveDefCategory;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.repositoryconnector.OMRSRepositoryHelper;
+import org.odpi.openmetadata.repositoryservices.localrepository.repositorycontentmanager.OMRSRepositoryContentHelper;
+import org.testng.annotations.BeforeMethod;
+import org.testng.annotations.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.testng.Assert.assertEquals;
+
+
+/**
+ * Verify that a cached security decision is only reused when every value passed to the security connector
+ * is unchanged.
+ */
+public class SecurityDecisionCacheTest
+{
+    private static final String userId      = "testUser";
+    private static final String serviceName = "testService";
+    private static final String methodName  = "testMethod";
+
+    private final OMRSRepositoryHelper repositoryHelper = new OMRSRepositoryContentHelper(null);
+
+    private OpenMetadataServerSecurityVerifier securityVerifier = null;
+
+
+    /**
+     * Register a fresh security connector for each test so the call count starts at zero.
+     *
+     * @throws Exception unable to create the connector
+     */
+    @BeforeMethod
+    public void setUp() throws Exception
+    {
+        ConnectorType connectorType = new ConnectorType();
+        Connection    connection    = new Connection();
+
+        connectorType.setConnectorProviderClassName(CountingSecurityProvider.class.getName());
+        connection.setConnectorType(connectorType);
+
+        CountingSecurityConnector.readCount = 0;
+
+        securityVerifier = new OpenMetadataServerSecurityVerifier();
+        securityVerifier.registerSecurityValidator("serverUserId", "testServer", null, connection);
+    }
+
+
+    /**
+     * A second read of an unchanged glossary is allowed from the cache.
+     *
+     * @throws Exception test failure
+     */
+    @Test
+    public void testUnchangedEntityUsesCache() throws Exception
+    {
+        EntityDetail glossary = this.getGlossary(2);
+
+        securityVerifier.validateUserForGlossaryRead(userId, glossary, repositoryHelper, serviceName, methodName);
+        securityVerifier.validateUserForGlossaryRead(userId, this.getGlossary(2), repositoryHelper, serviceName, methodName);
+
+        assertEquals(CountingSecurityConnector.readCount, 1);
+    }
+
+
+    /**
+     * A change to the confidentiality level of the glossary means the connector is called again.
+     *
+     * @throws Exception test failure
+     */
+    @Test
+    public void testConfidentialityChangeMissesCache() throws Exception
+    {
+        securityVerifier.validateUserForGlossaryRead(userId, this.getGlossary(2), repositoryHelper, serviceName, methodName);
+        securityVerifier.validateUserForGlossaryRead(userId, this.getGlossary(4), repositoryHelper, serviceName, methodName);
+
+        assertEquals(CountingSecurityConnector.readCount, 2);
+    }
+
+
+    /**
+     * A change to the properties of the glossary means the connector is called again.
+     *
+     * @throws Exception test failure
+     */
+    @Test
+    public void testPropertyChangeMissesCache() throws Exception
+    {
+        EntityDetail glossary = this.getGlossary(2);
+
+        securityVerifier.validateUserForGlossaryRead(userId, glossary, repositoryHelper, serviceName, methodName);
+
+        glossary.setProperties(this.getStringProperty(new InstanceProperties(glossary.getProperties()), "displayName", "Renamed Glossary"));
+
+        securityVerifier.validateUserForGlossaryRead(userId, glossary, repositoryHelper, serviceName, methodName);
+
+        assertEquals(CountingSecurityConnector.readCount, 2);
+    }
+
+
+    /**
+     * Return a glossary entity with a Confidentiality classification.
+     *
+     * @param confidentialityLevel level of confidentiality
+     * @return entity
+     */
+    private EntityDetail getGlossary(int confidentialityLevel)
+    {
+        EntityDetail           entity                    = new EntityDetail();
+        InstanceType           instanceType              = new InstanceType();
+        Classification         confidentiality           = new Classification();
+        InstanceProperties     confidentialityProperties = new InstanceProperties();
+        PrimitivePropertyValue levelValue                = new PrimitivePropertyValue();
+
+        instanceType.setTypeDefGUID("glossary-type-guid");
+        instanceType.setTypeDefName("Glossary");
+
+        entity.setGUID("glossary-guid");
+        entity.setType(instanceType);
+        entity.setStatus(InstanceStatus.ACTIVE);
+        entity.setProperties(this.getStringProperty(new InstanceProperties(), "qualifiedName", "Glossary::Test"));
+
+        levelValue.setPrimitiveDefCategory(PrimitiveDefCategory.OM_PRIMITIVE_TYPE_INT);
+        levelValue.setPrimitiveValue(confidentialityLevel);
+        confidentialityProperties.setProperty("confidentialityLevel", levelValue);
+
+        confidentiality.setName("Confidentiality");
+        confidentiality.setProperties(confidentialityProperties);
+        entity.setClassifications(new ArrayList<>(List.of(confidentiality)));
+
+        return entity;
+    }
+
+
+    /**
+     * Add a string property to a set of properties.
+     *
+     * @param properties properties to update
+     * @param propertyName name of the property
+     * @param propertyValue value of the property
+     * @return updated properties
+     */
+    private InstanceProperties getStringProperty(InstanceProperties properties,
+                                                 String             propertyName,
+                                                 String             propertyValue)
+    {
+        PrimitivePropertyValue primitivePropertyValue = new PrimitivePropertyValue();
+
+        primitivePropertyValue.setPrimitiveDefCategory(PrimitiveDefCategory.OM_PRIMITIVE_TYPE_STRING);
+        primitivePropertyValue.setPrimitiveValue(propertyValue);
+        properties.setProperty(propertyName, primitivePropertyValue);
+
+        return properties;
+    }
+
+
+    /**
+     * CountingSecurityProvider creates the counting security connector.
+     */
+    public static class CountingSecurityProvider extends OpenMetadataServerSecurityProvider
+    {
+        /**
+         * Constructor sets up the connector class name.
+         */
+        public CountingSecurityProvider()
+        {
+            super.setConnectorClassName(CountingSecurityConnector.class.getName());
+        }
+    }
+
+
+    /**
+     * CountingSecurityConnector allows every glossary request, counts the glossary reads and allows
+     * them to be cached.
+     */
+    public static class CountingSecurityConnector extends OpenMetadataServerSecurityConnector implements OpenMetadataGlossarySecurity
+    {
+        static volatile int readCount = 0;
+
+
+        /**
+         * Glossary reads may be cached.
+         *
+         * @param operationName name of the validate method
+         * @return boolean flag
+         */
+        @Override
+        public boolean isCacheableDecision(String operationName)
+        {
+            return "validateUserForGlossaryRead".equals(operationName);
+        }
+
+
+        /**
+         * Allow the create.
+         *
+         * @param userId identifier of user
+         * @param glossary new glossary details
+         */
+        @Override
+        public void validateUserForGlossaryCreate(String userId, Glossary glossary)
+        {
+        }
+
+
+        /**
+         * Count and allow the read.
+         *
+         * @param userId identifier of user
+         * @param glossary glossary details
+         */
+        @Override
+        public void validateUserForGlossaryRead(String userId, Glossary glossary)
+        {
+            readCount++;
+        }
+
+
+        /**
+         * Allow the update.
+         *
+         * @param userId identifier of user
+         * @param originalGlossary original glossary details
+         * @param newGlossary new glossary details
+         */
+        @Override
+        public void validateUserForGlossaryDetailUpdate(String userId, Glossary originalGlossary, Glossary newGlossary)
+        {
+        }
+
+
+        /**
+         * Allow the update.
+         *
+         * @param userId identifier of user
+         * @param glossary glossary details
+         */
+        @Override
+        public void validateUserForGlossaryMemberUpdate(String userId, Glossary glossary)
+        {
+        }
+
+
+        /**
+         * Allow the update.
+         *
+         * @param userId identifier of user
+         * @param glossary glossary details
+         */
+        @Override
+        public void validateUserForGlossaryMemberStatusUpdate(String userId, Glossary glossary)
+        {
+        }
+
+
+        /**
+         * Allow the feedback.
+         *
+         * @param userId identifier of user
+         * @param glossary glossary details
+         */
+        @Override
+        public void validateUserForGlossaryFeedback(String userId, Glossary glossary)
+        {
+        }
+
+
+        /**
+         * Allow the delete.
+         *
+         * @param userId identifier of user
+         * @param glossary glossary details
+         */
+        @Override
+        public void validateUserForGlossaryDelete(String userId, Glossary glossary)
+        {
+        }
+    }
+}
@@ -44,6 +44,30 @@ public enum OpenMetadataStoreErrorCode implements ExceptionMessageSet
                          "This relationship type is a singleton, which means that only once relationship of this type can be attached to an element.  The system is unable to retrieve the singleton relationship because there are more than one relationship defined.",
                          "Using a different method, retrieve all of the relationships of this type for this element and either delete/archive the relationships no longer needed, or adjust their effectivity date(s) so that only one relationship is effective at any one time."),
 
+    /**
+     * OPEN-METADATA-STORE-500-001 - The stream of exported metadata elements for method {0} failed with exception {1} and message {2}
+     */
+    EXPORT_STREAM_FAILED(500, "OPEN-METADATA-STORE-500-001",
+                         "The stream of exported metadata elements for method {0} failed with exception {1} and message {2}",
+                         "The system is unable to return any more elements from the export stream and has closed it.",
+                         "Use the message in the exception to diagnose the problem.  Once it is resolved, repeat the export."),
+
+    /**
+     * OPEN-METADATA-STORE-500-002 - The stream of exported metadata elements for method {0} ended after {1} elements without its end-of-stream marker
+     */
+    EXPORT_STREAM_TRUNCATED(500, "OPEN-METADATA-STORE-500-002",
+                            "The stream of exported metadata elements for method {0} ended after {1} elements without its end-of-stream marker",
+                            "The connection to the server was closed before the export completed.  The elements received so far are not the complete result.",
+                            "Check the server's audit log and the network between the client and the server for the reason the connection was closed.  If the export was stopped by a timeout, increase the spring.mvc.async.request-timeout property of the server.  Then repeat the export."),
+
+    /**
+     * OPEN-METADATA-STORE-500-003 - The stream of exported metadata elements for method {0} delivered {1} elements but the server reported that it sent {2}
+     */
+    EXPORT_STREAM_INCOMPLETE(500, "OPEN-METADATA-STORE-500-003",
+                             "The stream of exported metadata elements for method {0} delivered {1} elements but the server reported that it sent {2}",
+                             "The elements received are not the complete result of the export.",
+                             "Repeat the export.  If the problem persists, check the network between the client and the server."),
+
     ;
 
     private final int    httpErrorCode;
@@ -0,0 +1,119 @@
+/* SPDX-License-Identifier: Apache-2.0 */
+/* Copyright Contributors to the ODPi Egeria project. */
+
+package org.odpi.openmetadata.frameworkservices.gaf.rest;
+
+import com.fasterxml.jackson.annotation.JsonAutoDetect;
+import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
+import com.fasterxml.jackson.annotation.JsonInclude;
+
+import java.util.List;
+import java.util.Objects;
+
+import static com.fasterxml.jackson.annotation.JsonAutoDetect.Visibility.NONE;
+import static com.fasterxml.jackson.annotation.JsonAutoDetect.Visibility.PUBLIC_ONLY;
+
+/**
+ * ElementGUIDsRequestBody provides a structure for passing a list of unique identifiers of metadata elements.
+ */
+@JsonAutoDetect(getterVisibility=PUBLIC_ONLY, setterVisibility=PUBLIC_ONLY, fieldVisibility=NONE)
+@JsonInclude(JsonInclude.Include.NON_NULL)
+@JsonIgnoreProperties(ignoreUnknown=true)
+public class ElementGUIDsRequestBody
+{
+    private List<String> elementGUIDs = null;
+
+
+
+    /**
+     * Default constructor
+     */
+    public ElementGUIDsRequestBody()
+    {
+        super();
+    }
+
+
+    /**
+     * Copy/clone constructor
+     *
+     * @param template object to copy
+     */
+    public ElementGUIDsRequestBody(ElementGUIDsRequestBody template)
+    {
+        if (template != null)
+        {
+            elementGUIDs = template.getElementGUIDs();
+        }
+    }
+
+
+    /**
+     * Return the unique identifiers of the metadata elements.
+     *
+     * @return list of guids
+     */
+    public List<String> getElementGUIDs()
+    {
+        return elementGUIDs;
+    }
+
+
+    /**
+     * Set up the unique identifiers of the metadata elements.
+     *
+     * @param elementGUIDs list of guids
+     */
+    public void setElementGUIDs(List<String> elementGUIDs)
+    {
+        this.elementGUIDs = elementGUIDs;
+    }
+
+
+    /**
+     * JSON-style toString.
+     *
+     * @return list of properties and their values.
+     */
+    @Override
+    public String toString()
+    {
+        return "ElementGUIDsRequestBody{" +
+                       "elementGUIDs=" + elementGUIDs +
+                       '}';
+    }
+
+
+    /**
+     * Equals method that returns true if containing properties are the same.
+     *
+     * @param objectToCompare object to compare
+     * @return boolean result of comparison
+     */
+    @Override
+    public boolean equals(Object objectToCompare)
+    {
+        if (this == objectToCompare)
+        {
+            return true;
+        }
+        if (objectToCompare == null || getClass() != objectToCompare.getClass())
+        {
+            return false;
+        }
+        ElementGUIDsRequestBody that = (ElementGUIDsRequestBody) objectToCompare;
+        return Objects.equals(elementGUIDs, that.elementGUIDs);
+    }
+
+
+    /**
+     * Return hash code for this object
+     *
+     * @return int hash code
+     */
+    @Override
+    public int hashCode()
+    {
+        return Objects.hash(elementGUIDs);
+    }
+}
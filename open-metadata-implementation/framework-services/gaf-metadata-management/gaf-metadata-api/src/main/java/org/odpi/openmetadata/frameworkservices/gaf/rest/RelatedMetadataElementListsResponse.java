@@ -0,0 +1,148 @@
+/* SPDX-License-Identifier: Apache-2.0 */
+/* Copyright Contributors to the ODPi Egeria project. */
+
+package org.odpi.openmetadata.frameworkservices.gaf.rest;
+
+import com.fasterxml.jackson.annotation.JsonAutoDetect;
+import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
+import com.fasterxml.jackson.annotation.JsonInclude;
+import org.odpi.openmetadata.frameworks.governanceaction.properties.RelatedMetadataElementList;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Objects;
+
+import static com.fasterxml.jackson.annotation.JsonAutoDetect.Visibility.NONE;
+import static com.fasterxml.jackson.annotation.JsonAutoDetect.Visibility.PUBLIC_ONLY;
+
+/**
+ * RelatedMetadataElementListsResponse is a response object for passing back the related elements for a list of
+ * starting elements or an exception if the request failed.
+ */
+@JsonAutoDetect(getterVisibility=PUBLIC_ONLY, setterVisibility=PUBLIC_ONLY, fieldVisibility=NONE)
+@JsonInclude(JsonInclude.Include.NON_NULL)
+@JsonIgnoreProperties(ignoreUnknown=true)
+public class RelatedMetadataElementListsResponse extends OMAGGAFAPIResponse
+{
+     private List<RelatedMetadataElementList> elementLists = null;
+
+
+    /**
+     * Default constructor
+     */
+    public RelatedMetadataElementListsResponse()
+    {
+    }
+
+
+    /**
+     * Copy/clone constructor
+     *
+     * @param template object to copy
+     */
+    public RelatedMetadataElementListsResponse(RelatedMetadataElementListsResponse template)
+    {
+        super(template);
+
+        if (template != null)
+        {
+            elementLists = template.getElementLists();
+        }
+    }
+
+
+    /**
+     * Return the related elements for each starting element.
+     *
+     * @return result object
+     */
+    public List<RelatedMetadataElementList> getElementLists()
+    {
+        if (elementLists == null)
+        {
+            return null;
+        }
+        else if (elementLists.isEmpty())
+        {
+            return null;
+        }
+        else
+        {
+            return new ArrayList<>(elementLists);
+        }
+    }
+
+
+    /**
+     * Set up the related elements for each starting element.
+     *
+     * @param elementLists result object
+     */
+    public void setElementLists(List<RelatedMetadataElementList> elementLists)
+    {
+        this.elementLists = elementLists;
+    }
+
+
+    /**
+     * JSON-style toString
+     *
+     * @return return string containing the property names and values
+     */
+    @Override
+    public String toString()
+    {
+        return "RelatedMetadataElementListsResponse{" +
+                       "elementLists=" + elementLists +
+                       ", exceptionClassName='" + getExceptionClassName() + '\'' +
+                       ", exceptionCausedBy='" + getExceptionCausedBy() + '\'' +
+                       ", actionDescription='" + getActionDescription() + '\'' +
+                       ", relatedHTTPCode=" + getRelatedHTTPCode() +
+                       ", exceptionErrorMessage='" + getExceptionErrorMessage() + '\'' +
+                       ", exceptionErrorMessageId='" + getExceptionErrorMessageId() + '\'' +
+                       ", exceptionErrorMessageParameters=" + Arrays.toString(getExceptionErrorMessageParameters()) +
+                       ", exceptionSystemAction='" + getExceptionSystemAction() + '\'' +
+                       ", exceptionUserAction='" + getExceptionUserAction() + '\'' +
+                       ", exceptionProperties=" + getExceptionProperties() +
+                       '}';
+    }
+
+
+    /**
+     * Return comparison result based on the content of the properties.
+     *
+     * @param objectToCompare test object
+     * @return result of comparison
+     */
+    @Override
+    public boolean equals(Object objectToCompare)
+    {
+        if (this == objectToCompare)
+        {
+            return true;
+        }
+        if (objectToCompare == null || getClass() != objectToCompare.getClass())
+        {
+            return false;
+        }
+        if (!super.equals(objectToCompare))
+        {
+            return false;
+        }
+        RelatedMetadataElementListsResponse that = (RelatedMetadataElementListsResponse) objectToCompare;
+        return Objects.equals(elementLists, that.elementLists);
+    }
+
+
+    /**
+     * Return hash code for this object
+     *
+     * @return int hash code
+     */
+    @Override
+    public int hashCode()
+    {
+        return Objects.hash(super.hashCode(), elementLists);
+    }
+}
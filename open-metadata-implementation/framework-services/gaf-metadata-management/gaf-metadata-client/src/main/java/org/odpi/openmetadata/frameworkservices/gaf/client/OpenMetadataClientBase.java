@@ -19,6 +19,7 @@ import org.odpi.openmetadata.frameworks.openmetadata.types.OpenMetadataType;
 import org.odpi.openmetadata.frameworks.governanceaction.properties.*;
 import org.odpi.openmetadata.frameworks.governanceaction.search.*;
 import org.odpi.openmetadata.frameworkservices.gaf.client.rest.GAFRESTClient;
+import org.odpi.openmetadata.frameworkservices.gaf.client.rest.OpenMetadataElementStream;
 import org.odpi.openmetadata.frameworkservices.gaf.ffdc.OpenMetadataStoreErrorCode;
 import org.odpi.openmetadata.frameworkservices.gaf.rest.*;
 import org.odpi.openmetadata.frameworkservices.gaf.rest.ArchiveRequestBody;
@@ -941,6 +942,71 @@ public abstract class OpenMetadataClientBase extends OpenMetadataClient
     }
 
 
+    /**
+     * Retrieve the metadata elements connected to each of the supplied elements via a specific relationship type.
+     * This retrieves the related elements for many starting elements in a single call.  The paging parameters
+     * apply to each starting element in turn.
+     *
+     * @param userId                 caller's userId
+     * @param elementGUIDs           unique identifiers for the starting metadata elements
+     * @param startingAtEnd          indicates which end to retrieve from (0 is "either end"; 1 is end1; 2 is end 2)
+     * @param relationshipTypeName   type name of relationships to follow
+     * @param forLineage             the retrieved element is for lineage processing so include archived elements
+     * @param forDuplicateProcessing the retrieved elements are for duplicate processing so do not combine results from known duplicates.
+     * @param effectiveTime          only return an element if it is effective at this time. Null means anytime. Use "new Date()" for now.
+     * @param startFrom              paging start point
+     * @param pageSize               maximum results that can be returned for each starting element
+     *
+     * @return list of related elements for each starting element, in the order that the starting elements were supplied
+     *
+     * @throws InvalidParameterException  a unique identifier is null or not known; the relationship type is invalid
+     * @throws UserNotAuthorizedException the userId is not permitted to perform this operation
+     * @throws PropertyServerException    there is a problem accessing the metadata store
+     */
+    @Override
+    public List<RelatedMetadataElementList> getRelatedMetadataElementLists(String       userId,
+                                                                           List<String> elementGUIDs,
+                                                                           int          startingAtEnd,
+                                                                           String       relationshipTypeName,
+                                                                           boolean      forLineage,
+                                                                           boolean      forDuplicateProcessing,
+                                                                           Date         effectiveTime,
+                                                                           int          startFrom,
+                                                                           int          pageSize) throws InvalidParameterException,
+                                                                                                         UserNotAuthorizedException,
+                                                                                                         PropertyServerException
+    {
+        final String methodName            = "getRelatedMetadataElementLists";
+        final String guidsParameterName    = "elementGUIDs";
+        final String typeNameParameterName = "relationshipTypeName";
+        final String urlTemplate = serverPlatformURLRoot + "/servers/{0}/open-metadata/framework-services/{1}/open-metadata-store/users/{2}/related-elements/type/{3}?startingAtEnd={4}&forLineage={5}&forDuplicateProcessing={6}&effectiveTime={7}&startFrom={8}&pageSize={9}";
+
+        invalidParameterHandler.validateUserId(userId, methodName);
+        invalidParameterHandler.validateObject(elementGUIDs, guidsParameterName, methodName);
+        invalidParameterHandler.validateName(relationshipTypeName, typeNameParameterName, methodName);
+
+        ElementGUIDsRequestBody requestBody = new ElementGUIDsRequestBody();
+
+        requestBody.setElementGUIDs(elementGUIDs);
+
+        RelatedMetadataElementListsResponse restResult = restClient.callRelatedMetadataElementListsPostRESTCall(methodName,
+                                                                                                                urlTemplate,
+                                                                                                                requestBody,
+                                                                                                                serverName,
+                                                                                                                serviceURLMarker,
+                                                                                                                userId,
+                                                                                                                relationshipTypeName,
+                                                                                                                startingAtEnd,
+                                                                                                                forLineage,
+                                                                                                                forDuplicateProcessing,
+                                                                                                                this.getEffectiveTimeAsLong(effectiveTime),
+                                                                                                                startFrom,
+                                                                                                                pageSize);
+
+        return restResult.getElementLists();
+    }
+
+
     /**
      * Retrieve the metadata element connected to the supplied element for a relationship type that only allows one
      * relationship to be attached.
@@ -2003,6 +2069,92 @@ public abstract class OpenMetadataClientBase extends OpenMetadataClient
     }
 
 
+    /**
+     * Return all the metadata elements that match the supplied criteria as a single stream of newline-delimited
+     * JSON rather than as a series of pages.  The elements are read from the stream as the caller steps through the
+     * iterator so memory use is bounded whatever the number of results.  If the caller does not read to the end,
+     * it must close the returned stream.
+     *
+     * @param userId                     caller's userId
+     * @param metadataElementTypeName    type of interest (null means any element type)
+     * @param metadataElementSubtypeNames optional list of the subtypes of the metadataElementTypeName to
+     *                           include in the search results. Null means all subtypes.
+     * @param searchProperties           Optional list of entity property conditions to match.
+     * @param limitResultsByStatus       By default, entities in all statuses (other than DELETE) are returned.  However, it is possible
+     *                                   to specify a list of statuses (e.g. ACTIVE) to restrict the results to.  Null means all status values.
+     * @param asOfTime                   Requests a historical query of the entity.  Null means return the present values.
+     * @param matchClassifications       Optional list of classifications to match.
+     * @param sequencingProperty         String name of the property that is to be used to sequence the results.
+     *                                   Null means do not sequence on a property name (see SequencingOrder).
+     * @param sequencingOrder            Enum defining how the results should be ordered.  The server pages through the results
+     *                                   by offset, so orders that change while the export runs (last update date) are
+     *                                   replaced by creation date, oldest first.  This is also the default.
+     * @param forLineage                 the retrieved element is for lineage processing so include archived elements
+     * @param forDuplicateProcessing     the retrieved element is for duplicate processing so do not combine results from known duplicates.
+     * @param effectiveTime              only return the element if it is effective at this time. Null means anytime. Use "new Date()" for now.
+     * @param pageSize                   number of elements the server retrieves from the repositories at a time (0 for the server's default)
+     *
+     * @return iterator over the elements matching the supplied criteria
+     *
+     * @throws InvalidParameterException  one of the search parameters are is invalid
+     * @throws UserNotAuthorizedException the userId is not permitted to perform this operation
+     * @throws PropertyServerException    there is a problem accessing the metadata store
+     */
+    public OpenMetadataElementStream exportMetadataElements(String                userId,
+                                                            String                metadataElementTypeName,
+                                                            List<String>          metadataElementSubtypeNames,
+                                                            SearchProperties      searchProperties,
+                                                            List<ElementStatus>   limitResultsByStatus,
+                                                            Date                  asOfTime,
+                                                            SearchClassifications matchClassifications,
+                                                            String                sequencingProperty,
+                                                            SequencingOrder       sequencingOrder,
+                                                            boolean               forLineage,
+                                                            boolean               forDuplicateProcessing,
+                                                            Date                  effectiveTime,
+                                                            int                   pageSize) throws InvalidParameterException,
+                                                                                                   UserNotAuthorizedException,
+                                                                                                   PropertyServerException
+    {
+        final String methodName = "exportMetadataElements";
+        final String urlTemplate = serverPlatformURLRoot + "/servers/{0}/open-metadata/framework-services/{1}/open-metadata-store/users/{2}/metadata-elements/by-search-specification/export?forLineage={3}&forDuplicateProcessing={4}&effectiveTime={5}&pageSize={6}";
+
+        invalidParameterHandler.validateUserId(userId, methodName);
+        invalidParameterHandler.validatePaging(0, pageSize, methodName);
+
+        FindRequestBody requestBody = new FindRequestBody();
+
+        requestBody.setMetadataElementTypeName(metadataElementTypeName);
+        requestBody.setMetadataElementSubtypeNames(metadataElementSubtypeNames);
+        requestBody.setSearchProperties(searchProperties);
+        requestBody.setLimitResultsByStatus(limitResultsByStatus);
+        requestBody.setMatchClassifications(matchClassifications);
+        requestBody.setSequencingProperty(sequencingProperty);
+
+        if (sequencingOrder == null)
+        {
+            requestBody.setSequencingOrder(SequencingOrder.CREATION_DATE_OLDEST);
+        }
+        else
+        {
+            requestBody.setSequencingOrder(sequencingOrder);
+        }
+
+        requestBody.setAsOfTime(asOfTime);
+
+        return restClient.callOpenMetadataElementStreamPostRESTCall(methodName,
+                                                                    urlTemplate,
+                                                                    requestBody,
+                                                                    serverName,
+                                                                    serviceURLMarker,
+                                                                    userId,
+                                                                    forLineage,
+                                                                    forDuplicateProcessing,
+                                                                    this.getEffectiveTimeAsLong(effectiveTime),
+                                                                    pageSize);
+    }
+
+
     /**
      * Return a list of relationships that match the requested conditions.  The results can be received as a series of pages.
      *
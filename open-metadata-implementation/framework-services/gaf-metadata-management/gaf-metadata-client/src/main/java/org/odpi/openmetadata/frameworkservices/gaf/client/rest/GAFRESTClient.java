@@ -11,6 +11,8 @@ import org.odpi.openmetadata.frameworks.connectors.ffdc.InvalidParameterExceptio
 import org.odpi.openmetadata.frameworks.connectors.ffdc.PropertyServerException;
 import org.odpi.openmetadata.frameworks.connectors.ffdc.UserNotAuthorizedException;
 
+import java.io.InputStream;
+
 
 /**
  * GAFRESTClient is responsible for issuing calls to the OMAS REST APIs.
@@ -322,6 +324,32 @@ public class GAFRESTClient extends OCFRESTClient
     }
 
 
+    /**
+     * Issue a POST REST call that returns a stream of OpenMetadataElementResponse objects as newline-delimited JSON.
+     *
+     * @param methodName  name of the method being called.
+     * @param urlTemplate template of the URL for the REST API call, with place-holders for the parameters.
+     * @param requestBody object that passes additional parameters
+     * @param params      a list of parameters that are slotted into the url template.
+     *
+     * @return iterator over the elements in the stream - it must be closed if it is not read to the end
+     * @throws InvalidParameterException one of the parameters is invalid.
+     * @throws UserNotAuthorizedException the user is not authorized to make this request.
+     * @throws PropertyServerException the repository is not available or not working properly.
+     */
+    public OpenMetadataElementStream callOpenMetadataElementStreamPostRESTCall(String    methodName,
+                                                                               String    urlTemplate,
+                                                                               Object    requestBody,
+                                                                               Object... params) throws InvalidParameterException,
+                                                                                                        UserNotAuthorizedException,
+                                                                                                        PropertyServerException
+    {
+        InputStream inputStream = this.callPostStreamingRESTCall(methodName, urlTemplate, requestBody, params);
+
+        return new OpenMetadataElementStream(methodName, exceptionHandler, inputStream);
+    }
+
+
     /**
      * Issue a POST REST call that returns a OpenMetadataElementResponse object.
      *
@@ -529,6 +557,38 @@ public class GAFRESTClient extends OCFRESTClient
     }
 
 
+    /**
+     * Issue a POST REST call that returns a RelatedMetadataElementListsResponse object.
+     *
+     * @param methodName  name of the method being called.
+     * @param urlTemplate template of the URL for the REST API call, with place-holders for the parameters.
+     * @param requestBody request body for the request.
+     * @param params      a list of parameters that are slotted into the url template.
+     *
+     * @return response object
+     * @throws InvalidParameterException one of the parameters is invalid.
+     * @throws UserNotAuthorizedException the user is not authorized to make this request.
+     * @throws PropertyServerException the repository is not available or not working properly.
+     */
+    public RelatedMetadataElementListsResponse callRelatedMetadataElementListsPostRESTCall(String    methodName,
+                                                                                           String    urlTemplate,
+                                                                                           Object    requestBody,
+                                                                                           Object... params) throws InvalidParameterException,
+                                                                                                                    UserNotAuthorizedException,
+                                                                                                                    PropertyServerException
+    {
+        RelatedMetadataElementListsResponse restResult = this.callPostRESTCall(methodName,
+                                                                               RelatedMetadataElementListsResponse.class,
+                                                                               urlTemplate,
+                                                                               requestBody,
+                                                                               params);
+
+        exceptionHandler.detectAndThrowStandardExceptions(methodName, restResult);
+
+        return restResult;
+    }
+
+
     /**
      * Issue a GET REST call that returns a RelatedMetadataElementListResponse object.
      *
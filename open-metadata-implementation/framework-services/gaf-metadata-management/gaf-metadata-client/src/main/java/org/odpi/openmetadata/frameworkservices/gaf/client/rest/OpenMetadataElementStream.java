@@ -0,0 +1,237 @@
+/* SPDX-License-Identifier: Apache-2.0 */
+/* Copyright Contributors to the ODPi Egeria project. */
+package org.odpi.openmetadata.frameworkservices.gaf.client.rest;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.odpi.openmetadata.commonservices.ffdc.RESTExceptionHandler;
+import org.odpi.openmetadata.commonservices.ffdc.rest.CountResponse;
+import org.odpi.openmetadata.frameworks.connectors.ffdc.InvalidParameterException;
+import org.odpi.openmetadata.frameworks.connectors.ffdc.PropertyServerException;
+import org.odpi.openmetadata.frameworks.connectors.ffdc.UserNotAuthorizedException;
+import org.odpi.openmetadata.frameworks.governanceaction.ffdc.GAFRuntimeException;
+import org.odpi.openmetadata.frameworks.governanceaction.properties.OpenMetadataElement;
+import org.odpi.openmetadata.frameworkservices.gaf.ffdc.OpenMetadataStoreErrorCode;
+import org.odpi.openmetadata.frameworkservices.gaf.rest.OpenMetadataElementResponse;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+
+/**
+ * OpenMetadataElementStream reads the newline-delimited JSON returned by an export request one line at a time.
+ * Only the next element is held in memory, so the caller can step through results of any size.
+ * The underlying connection is closed when the last element has been read, or when the caller calls close().
+ * Errors reported by the server before the first element are thrown as checked exceptions when the stream is
+ * opened; errors that occur later are thrown from hasNext() as GAFRuntimeExceptions.
+ * <br><br>
+ * The server ends a complete export with a CountResponse carrying the number of elements it sent.  If the stream
+ * ends without it, or the count does not match the number of elements received, the export was cut off and an
+ * error is raised rather than treating the end of the stream as the end of the results.
+ */
+public class OpenMetadataElementStream implements Iterator<OpenMetadataElement>, AutoCloseable
+{
+    private static final ObjectMapper objectMapper      = new ObjectMapper();
+    private static final String       endOfStreamMarker = "CountResponse";
+
+    private final String               methodName;
+    private final RESTExceptionHandler exceptionHandler;
+    private final BufferedReader       reader;
+
+    private OpenMetadataElement nextElement  = null;
+    private GAFRuntimeException pendingError = null;
+    private boolean             endOfStream  = false;
+    private long                elementCount = 0;
+
+
+    /**
+     * Constructor opens the stream and reads the first element so that any errors in the request are
+     * returned to the caller straight away.
+     *
+     * @param methodName calling method
+     * @param exceptionHandler handler for exceptions returned from the server
+     * @param inputStream response body
+     * @throws InvalidParameterException one of the parameters is invalid.
+     * @throws UserNotAuthorizedException the user is not authorized to make this request.
+     * @throws PropertyServerException the repository is not available or not working properly.
+     */
+    OpenMetadataElementStream(String               methodName,
+                              RESTExceptionHandler exceptionHandler,
+                              InputStream          inputStream) throws InvalidParameterException,
+                                                                       UserNotAuthorizedException,
+                                                                       PropertyServerException
+    {
+        this.methodName       = methodName;
+        this.exceptionHandler = exceptionHandler;
+        this.reader           = new BufferedReader(new InputStreamReader(inputStream, StandardCharsets.UTF_8));
+
+        this.readNextElement();
+    }
+
+
+    /**
+     * Read the next line from the stream.
+     *
+     * @throws InvalidParameterException one of the parameters is invalid.
+     * @throws UserNotAuthorizedException the user is not authorized to make this request.
+     * @throws PropertyServerException the repository is not available or not working properly.
+     */
+    private void readNextElement() throws InvalidParameterException,
+                                          UserNotAuthorizedException,
+                                          PropertyServerException
+    {
+        nextElement = null;
+
+        try
+        {
+            String line = reader.readLine();
+
+            while ((line != null) && (line.isBlank()))
+            {
+                line = reader.readLine();
+            }
+
+            if (line == null)
+            {
+                this.close();
+
+                throw new PropertyServerException(OpenMetadataStoreErrorCode.EXPORT_STREAM_TRUNCATED.getMessageDefinition(methodName,
+                                                                                                                         Long.toString(elementCount)),
+                                                  this.getClass().getName(),
+                                                  methodName);
+            }
+
+            JsonNode responseNode = objectMapper.readTree(line);
+
+            if (endOfStreamMarker.equals(responseNode.path("class").asText()))
+            {
+                CountResponse endOfStream = objectMapper.treeToValue(responseNode, CountResponse.class);
+
+                exceptionHandler.detectAndThrowStandardExceptions(methodName, endOfStream);
+
+                this.close();
+
+                if (endOfStream.getCount() != elementCount)
+                {
+                    throw new PropertyServerException(OpenMetadataStoreErrorCode.EXPORT_STREAM_INCOMPLETE.getMessageDefinition(methodName,
+                                                                                                                              Long.toString(elementCount),
+                                                                                                                              Long.toString(endOfStream.getCount())),
+                                                      this.getClass().getName(),
+                                                      methodName);
+                }
+            }
+            else
+            {
+                OpenMetadataElementResponse response = objectMapper.treeToValue(responseNode, OpenMetadataElementResponse.class);
+
+                exceptionHandler.detectAndThrowStandardExceptions(methodName, response);
+
+                nextElement = response.getElement();
+                elementCount ++;
+            }
+        }
+        catch (IOException error)
+        {
+            this.close();
+
+            throw new PropertyServerException(OpenMetadataStoreErrorCode.EXPORT_STREAM_FAILED.getMessageDefinition(methodName,
+                                                                                                                  error.getClass().getName(),
+                                                                                                                  error.getMessage()),
+                                              this.getClass().getName(),
+                                              methodName,
+                                              error);
+        }
+        catch (InvalidParameterException | UserNotAuthorizedException | PropertyServerException error)
+        {
+            this.close();
+
+            throw error;
+        }
+    }
+
+
+    /**
+     * Return whether there is another element in the stream.
+     *
+     * @return boolean
+     * @throws GAFRuntimeException the stream failed part way through
+     */
+    @Override
+    public boolean hasNext()
+    {
+        if (pendingError != null)
+        {
+            GAFRuntimeException error = pendingError;
+
+            pendingError = null;
+            throw error;
+        }
+
+        return (nextElement != null);
+    }
+
+
+    /**
+     * Return the next element from the stream.
+     *
+     * @return metadata element
+     * @throws NoSuchElementException there are no more elements
+     */
+    @Override
+    public OpenMetadataElement next()
+    {
+        if (nextElement == null)
+        {
+            throw new NoSuchElementException();
+        }
+
+        OpenMetadataElement element = nextElement;
+
+        try
+        {
+            this.readNextElement();
+        }
+        catch (InvalidParameterException | UserNotAuthorizedException | PropertyServerException error)
+        {
+            /*
+             * The element already retrieved is still returned - the error is reported on the next call to hasNext().
+             */
+            pendingError = new GAFRuntimeException(OpenMetadataStoreErrorCode.EXPORT_STREAM_FAILED.getMessageDefinition(methodName,
+                                                                                                                       error.getClass().getName(),
+                                                                                                                       error.getMessage()),
+                                                   this.getClass().getName(),
+                                                   methodName,
+                                                   error);
+        }
+
+        return element;
+    }
+
+
+    /**
+     * Release the connection to the server.  This is called automatically at the end of the stream.
+     */
+    @Override
+    public void close()
+    {
+        if (! endOfStream)
+        {
+            endOfStream = true;
+
+            try
+            {
+                reader.close();
+            }
+            catch (IOException error)
+            {
+                /*
+                 * Nothing more can be done with the stream.
+                 */
+            }
+        }
+    }
+}
@@ -0,0 +1,146 @@
+/* SPDX-License-Identifier: Apache-2.0 */
+/* Copyright Contributors to the ODPi Egeria project. */
+package org.odpi.openmetadata.frameworkservices.gaf.client.rest;
+
+import org.odpi.openmetadata.commonservices.ffdc.RESTExceptionHandler;
+import org.odpi.openmetadata.frameworks.connectors.ffdc.PropertyServerException;
+import org.odpi.openmetadata.frameworks.governanceaction.ffdc.GAFRuntimeException;
+import org.testng.annotations.Test;
+
+import java.io.ByteArrayInputStream;
+import java.nio.charset.StandardCharsets;
+
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertFalse;
+import static org.testng.Assert.assertTrue;
+import static org.testng.Assert.fail;
+
+
+/**
+ * Verify that the export stream only completes normally when the server's end-of-stream marker is received.
+ */
+public class OpenMetadataElementStreamTest
+{
+    private static final String elementLine = "{\"class\":\"OpenMetadataElementResponse\",\"relatedHTTPCode\":200,\"element\":{\"elementGUID\":\"guid-%d\"}}\n";
+    private static final String countLine   = "{\"class\":\"CountResponse\",\"relatedHTTPCode\":200,\"count\":%d}\n";
+
+
+    /**
+     * A complete export returns every element and then ends.
+     *
+     * @throws Exception test failure
+     */
+    @Test
+    public void testCompleteStream() throws Exception
+    {
+        OpenMetadataElementStream stream = this.getStream(String.format(elementLine, 0) +
+                                                          String.format(elementLine, 1) +
+                                                          String.format(countLine, 2));
+
+        assertTrue(stream.hasNext());
+        assertEquals(stream.next().getElementGUID(), "guid-0");
+        assertTrue(stream.hasNext());
+        assertEquals(stream.next().getElementGUID(), "guid-1");
+        assertFalse(stream.hasNext());
+    }
+
+
+    /**
+     * An empty export is just the end-of-stream marker.
+     *
+     * @throws Exception test failure
+     */
+    @Test
+    public void testEmptyStream() throws Exception
+    {
+        assertFalse(this.getStream(String.format(countLine, 0)).hasNext());
+    }
+
+
+    /**
+     * An export that stops without the marker is reported as an error after the elements that were received.
+     *
+     * @throws Exception test failure
+     */
+    @Test
+    public void testTruncatedStream() throws Exception
+    {
+        OpenMetadataElementStream stream = this.getStream(String.format(elementLine, 0) +
+                                                          String.format(elementLine, 1));
+
+        assertEquals(stream.next().getElementGUID(), "guid-0");
+        assertEquals(stream.next().getElementGUID(), "guid-1");
+
+        try
+        {
+            stream.hasNext();
+            fail("Truncated stream not detected");
+        }
+        catch (GAFRuntimeException error)
+        {
+            assertTrue(error.getCause() instanceof PropertyServerException);
+        }
+    }
+
+
+    /**
+     * A stream that is cut off before the first element is reported when it is opened.
+     */
+    @Test
+    public void testStreamWithNoContent()
+    {
+        try
+        {
+            this.getStream("");
+            fail("Empty stream not detected");
+        }
+        catch (PropertyServerException error)
+        {
+            assertTrue(error.getReportedErrorMessageId().startsWith("OPEN-METADATA-STORE-500-002"));
+        }
+        catch (Exception error)
+        {
+            fail("Unexpected exception " + error);
+        }
+    }
+
+
+    /**
+     * A marker whose count does not match the elements received is reported as an error.
+     *
+     * @throws Exception test failure
+     */
+    @Test
+    public void testCountMismatch() throws Exception
+    {
+        OpenMetadataElementStream stream = this.getStream(String.format(elementLine, 0) +
+                                                          String.format(countLine, 2));
+
+        stream.next();
+
+        try
+        {
+            stream.hasNext();
+            fail("Count mismatch not detected");
+        }
+        catch (GAFRuntimeException error)
+        {
+            assertTrue(error.getCause() instanceof PropertyServerException);
+        }
+    }
+
+
+    /**
+     * Create a stream over some test content.
+     *
+     * @param content newline-delimited JSON
+     * @return stream
+     * @throws Exception the first line reports an error
+     */
+    private OpenMetadataElementStream getStream(String content) throws Exception
+    {
+        return new OpenMetadataElementStream("testExport",
+                                             new RESTExceptionHandler(),
+                                             new ByteArrayInputStream(content.getBytes(StandardCharsets.UTF_8)));
+    }
+}
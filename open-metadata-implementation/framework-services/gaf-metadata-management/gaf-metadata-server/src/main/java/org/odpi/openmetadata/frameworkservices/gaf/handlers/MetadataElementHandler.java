@@ -15,6 +15,7 @@ import org.odpi.openmetadata.frameworks.connectors.ffdc.PropertyServerException;
 import org.odpi.openmetadata.frameworks.connectors.ffdc.UserNotAuthorizedException;
 import org.odpi.openmetadata.frameworks.governanceaction.properties.OpenMetadataRelationship;
 import org.odpi.openmetadata.frameworks.governanceaction.properties.RelatedMetadataElement;
+import org.odpi.openmetadata.frameworks.governanceaction.properties.RelatedMetadataElementList;
 import org.odpi.openmetadata.frameworks.governanceaction.search.*;
 import org.odpi.openmetadata.frameworks.openmetadata.enums.ElementStatus;
 import org.odpi.openmetadata.frameworks.openmetadata.enums.SequencingOrder;
@@ -628,6 +629,72 @@ public class MetadataElementHandler<B> extends ReferenceableHandler<B>
     }
 
 
+    /**
+     * Retrieve the metadata elements connected to each of the supplied elements.  The paging parameters apply to
+     * each starting element in turn.
+     *
+     * @param userId caller's userId
+     * @param elementGUIDs unique identifiers for the starting metadata elements
+     * @param startingAtEnd indicates which end to retrieve from (0 is "either end"; 1 is end1; 2 is end 2)
+     * @param relationshipTypeName type name of relationships to follow (or null for all)
+     * @param forLineage the retrieved element is for lineage processing so include archived elements
+     * @param forDuplicateProcessing the retrieved element is for duplicate processing so do not combine results from known duplicates.
+     * @param serviceSupportedZones list of supported zones for this service
+     * @param effectiveTime only return the element if it is effective at this time. Null means anytime. Use "new Date()" for now.
+     * @param startFrom paging start point
+     * @param pageSize maximum results that can be returned for each starting element
+     * @param methodName calling method
+     *
+     * @return list of related elements for each starting element, in the order that the starting elements were supplied
+     *
+     * @throws InvalidParameterException a unique identifier is null or not known; the relationship type is invalid
+     * @throws UserNotAuthorizedException the governance action service is not able to access the elements
+     * @throws PropertyServerException there is a problem accessing the metadata store
+     */
+    public List<RelatedMetadataElementList> getRelatedMetadataElementLists(String       userId,
+                                                                            List<String> elementGUIDs,
+                                                                            int          startingAtEnd,
+                                                                            String       relationshipTypeName,
+                                                                            boolean      forLineage,
+                                                                            boolean      forDuplicateProcessing,
+                                                                            List<String> serviceSupportedZones,
+                                                                            Date         effectiveTime,
+                                                                            int          startFrom,
+                                                                            int          pageSize,
+                                                                            String       methodName) throws InvalidParameterException,
+                                                                                                            UserNotAuthorizedException,
+                                                                                                            PropertyServerException
+    {
+        final String guidsParameterName = "elementGUIDs";
+
+        invalidParameterHandler.validateUserId(userId, methodName);
+        invalidParameterHandler.validateObject(elementGUIDs, guidsParameterName, methodName);
+
+        List<RelatedMetadataElementList> results = new ArrayList<>();
+
+        for (String elementGUID : elementGUIDs)
+        {
+            RelatedMetadataElementList elementList = new RelatedMetadataElementList();
+
+            elementList.setStartingElementGUID(elementGUID);
+            elementList.setElementList(this.getRelatedMetadataElements(userId,
+                                                                       elementGUID,
+                                                                       startingAtEnd,
+                                                                       relationshipTypeName,
+                                                                       forLineage,
+                                                                       forDuplicateProcessing,
+                                                                       serviceSupportedZones,
+                                                                       effectiveTime,
+                                                                       startFrom,
+                                                                       pageSize,
+                                                                       methodName));
+            results.add(elementList);
+        }
+
+        return results;
+    }
+
+
     /**
      * Retrieve the relationships linking to the supplied elements.
      *
@@ -0,0 +1,186 @@
+/* SPDX-License-Identifier: Apache-2.0 */
+/* Copyright Contributors to the ODPi Egeria project. */
+package org.odpi.openmetadata.frameworkservices.gaf.server;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.odpi.openmetadata.commonservices.ffdc.RESTExceptionHandler;
+import org.odpi.openmetadata.commonservices.ffdc.rest.CountResponse;
+import org.odpi.openmetadata.commonservices.ffdc.rest.FFDCResponseBase;
+import org.odpi.openmetadata.frameworks.auditlog.AuditLog;
+import org.odpi.openmetadata.frameworks.connectors.ffdc.InvalidParameterException;
+import org.odpi.openmetadata.frameworks.connectors.ffdc.PropertyServerException;
+import org.odpi.openmetadata.frameworks.connectors.ffdc.UserNotAuthorizedException;
+import org.odpi.openmetadata.frameworks.governanceaction.properties.OpenMetadataElement;
+import org.odpi.openmetadata.frameworks.openmetadata.enums.SequencingOrder;
+import org.odpi.openmetadata.frameworkservices.gaf.rest.FindRequestBody;
+import org.odpi.openmetadata.frameworkservices.gaf.rest.OpenMetadataElementResponse;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.List;
+
+
+/**
+ * OpenMetadataElementExporter writes pages of metadata elements to an output stream as newline-delimited JSON.
+ * Each element is written as an OpenMetadataElementResponse.  A successful export ends with a CountResponse
+ * that carries the number of elements written, so that the caller can tell a complete export from one that was
+ * cut off.  If an error occurs, the final line is an OpenMetadataElementResponse carrying the exception and
+ * there is no CountResponse.
+ */
+class OpenMetadataElementExporter
+{
+    /**
+     * Retrieves one page of the elements to export.
+     */
+    interface PageRetriever
+    {
+        /**
+         * Return a page of elements.
+         *
+         * @param startFrom paging start point
+         * @param pageSize maximum results that can be returned
+         * @return list of elements or null if there are no more
+         * @throws InvalidParameterException one of the search parameters are is invalid
+         * @throws UserNotAuthorizedException the caller is not able to access the elements
+         * @throws PropertyServerException there is a problem accessing the metadata store
+         */
+        List<OpenMetadataElement> getPage(int startFrom,
+                                          int pageSize) throws InvalidParameterException,
+                                                               UserNotAuthorizedException,
+                                                               PropertyServerException;
+    }
+
+
+    private static final ObjectMapper objectMapper = new ObjectMapper();
+
+    private final RESTExceptionHandler restExceptionHandler = new RESTExceptionHandler();
+
+
+    /**
+     * Return a copy of an export request that is sequenced in a stable order.  An element's position in the results
+     * must not change while the export pages through them, otherwise elements are skipped or returned twice.
+     * Ordering by last update moves the elements that are updated during the export, so these orders (and no order)
+     * are replaced by creation date, oldest first, which adds new elements to the end of the results.
+     *
+     * @param requestBody properties defining the search criteria
+     * @return request body to use for the export
+     */
+    FindRequestBody getExportRequestBody(FindRequestBody requestBody)
+    {
+        FindRequestBody exportRequestBody = new FindRequestBody(requestBody);
+
+        if ((requestBody.getSequencingOrder() == null) ||
+            (requestBody.getSequencingOrder() == SequencingOrder.ANY) ||
+            (requestBody.getSequencingOrder() == SequencingOrder.LAST_UPDATE_RECENT) ||
+            (requestBody.getSequencingOrder() == SequencingOrder.LAST_UPDATE_OLDEST))
+        {
+            exportRequestBody.setSequencingOrder(SequencingOrder.CREATION_DATE_OLDEST);
+        }
+
+        return exportRequestBody;
+    }
+
+
+    /**
+     * Retrieve the elements one page at a time and write each of them to the output stream, followed by the
+     * end-of-stream marker.  The output is flushed after each page.  An exception from the page retriever is
+     * written to the output stream as the final line.
+     *
+     * @param pageRetriever source of the pages of elements
+     * @param pageSize number of elements to retrieve with each call to the page retriever
+     * @param methodName calling method
+     * @param auditLog log for unexpected exceptions (may be null)
+     * @param outputStream destination for the results
+     * @return number of elements written
+     * @throws IOException unable to write to the output stream
+     */
+    long export(PageRetriever pageRetriever,
+                int           pageSize,
+                String        methodName,
+                AuditLog      auditLog,
+                OutputStream  outputStream) throws IOException
+    {
+        long elementCount = 0;
+
+        try
+        {
+            List<OpenMetadataElement> elements;
+
+            do
+            {
+                elements = pageRetriever.getPage((int)elementCount, pageSize);
+
+                if (elements != null)
+                {
+                    for (OpenMetadataElement element : elements)
+                    {
+                        OpenMetadataElementResponse elementResponse = new OpenMetadataElementResponse();
+
+                        elementResponse.setElement(element);
+                        this.writeLine(elementResponse, outputStream);
+                    }
+
+                    elementCount = elementCount + elements.size();
+                    outputStream.flush();
+                }
+            } while ((elements != null) && (elements.size() == pageSize));
+
+            CountResponse endOfStream = new CountResponse();
+
+            endOfStream.setCount(elementCount);
+            this.writeLine(endOfStream, outputStream);
+        }
+        catch (IOException error)
+        {
+            /*
+             * The caller has gone away so there is no-one to report the error to.
+             */
+            throw error;
+        }
+        catch (Exception error)
+        {
+            this.writeError(error, methodName, auditLog, outputStream);
+        }
+
+        outputStream.flush();
+
+        return elementCount;
+    }
+
+
+    /**
+     * Write an exception to the output stream as an OpenMetadataElementResponse.
+     *
+     * @param error exception to report
+     * @param methodName calling method
+     * @param auditLog log for unexpected exceptions (may be null)
+     * @param outputStream destination for the results
+     * @throws IOException unable to write to the output stream
+     */
+    void writeError(Exception    error,
+                    String       methodName,
+                    AuditLog     auditLog,
+                    OutputStream outputStream) throws IOException
+    {
+        OpenMetadataElementResponse errorResponse = new OpenMetadataElementResponse();
+
+        restExceptionHandler.captureExceptions(errorResponse, error, methodName, auditLog);
+        this.writeLine(errorResponse, outputStream);
+        outputStream.flush();
+    }
+
+
+    /**
+     * Write a single response object to the output stream as one line of JSON.
+     *
+     * @param response response object
+     * @param outputStream destination
+     * @throws IOException unable to write to the stream
+     */
+    private void writeLine(FFDCResponseBase response,
+                           OutputStream     outputStream) throws IOException
+    {
+        outputStream.write(objectMapper.writeValueAsBytes(response));
+        outputStream.write('\n');
+    }
+}
@@ -34,6 +34,8 @@ import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollec
 import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.repositoryconnector.OMRSRepositoryHelper;
 import org.slf4j.LoggerFactory;
 
+import java.io.IOException;
+import java.io.OutputStream;
 import java.util.ArrayList;
 import java.util.Date;
 import java.util.List;
@@ -61,6 +63,11 @@ public class OpenMetadataStoreRESTServices
     private final String actualValueParameter    = "actualValue";
     private final String validValueGUIDParameter = "element.getGUID";
 
+    /*
+     * Number of elements retrieved from the repositories on each internal call while exporting.
+     */
+    private static final int defaultExportPageSize = 500;
+
 
     /**
      * Default constructor
@@ -944,6 +951,81 @@ public class OpenMetadataStoreRESTServices
     }
 
 
+    /**
+     * Retrieve the metadata elements connected to each of the supplied elements.  The paging parameters apply to
+     * each starting element in turn.
+     *
+     * @param serverName     name of server instance to route request to
+     * @param serviceURLMarker      the identifier of the access service (for example asset-owner for the Asset Owner OMAS)
+     * @param userId caller's userId
+     * @param relationshipTypeName type name of relationships to follow (or null for all)
+     * @param forLineage the retrieved element is for lineage processing so include archived elements
+     * @param forDuplicateProcessing the retrieved elements are for duplicate processing so do not combine results from known duplicates.
+     * @param effectiveTime only return an element if it is effective at this time. Null means anytime. Use "new Date()" for now.
+     * @param startingAtEnd indicates which end to retrieve from (0 is "either end"; 1 is end1; 2 is end 2)
+     * @param startFrom paging start point
+     * @param pageSize maximum results that can be returned for each starting element
+     * @param requestBody unique identifiers for the starting metadata elements
+     *
+     * @return list of related elements for each starting element
+     *  InvalidParameterException a unique identifier is null or not known; the relationship type is invalid
+     *  UserNotAuthorizedException the governance action service is not able to access the elements
+     *  PropertyServerException there is a problem accessing the metadata store
+     */
+    public RelatedMetadataElementListsResponse getRelatedMetadataElementLists(String                  serverName,
+                                                                               String                  serviceURLMarker,
+                                                                               String                  userId,
+                                                                               String                  relationshipTypeName,
+                                                                               boolean                 forLineage,
+                                                                               boolean                 forDuplicateProcessing,
+                                                                               long                    effectiveTime,
+                                                                               int                     startingAtEnd,
+                                                                               int                     startFrom,
+                                                                               int                     pageSize,
+                                                                               ElementGUIDsRequestBody requestBody)
+    {
+        final String methodName = "getRelatedMetadataElementLists";
+
+        RESTCallToken token = restCallLogger.logRESTCall(serverName, userId, methodName);
+
+        AuditLog                            auditLog = null;
+        RelatedMetadataElementListsResponse response = new RelatedMetadataElementListsResponse();
+
+        try
+        {
+            auditLog = instanceHandler.getAuditLog(userId, serverName, methodName);
+
+            if (requestBody != null)
+            {
+                MetadataElementHandler<OpenMetadataElement> handler = instanceHandler.getMetadataElementHandler(userId, serverName, methodName);
+
+                response.setElementLists(handler.getRelatedMetadataElementLists(userId,
+                                                                                 requestBody.getElementGUIDs(),
+                                                                                 startingAtEnd,
+                                                                                 relationshipTypeName,
+                                                                                 forLineage,
+                                                                                 forDuplicateProcessing,
+                                                                                 instanceHandler.getSupportedZones(userId, serverName, serviceURLMarker, methodName),
+                                                                                 this.getEffectiveTimeFromLong(effectiveTime),
+                                                                                 startFrom,
+                                                                                 pageSize,
+                                                                                 methodName));
+            }
+            else
+            {
+                restExceptionHandler.handleNoRequestBody(userId, methodName, serverName);
+            }
+        }
+        catch (Exception error)
+        {
+            restExceptionHandler.captureExceptions(response, error, methodName, auditLog);
+        }
+
+        restCallLogger.logRESTCallReturn(token, response.toString());
+        return response;
+    }
+
+
     /**
      * Retrieve the relationships linking to the supplied elements.
      *
@@ -1054,41 +1136,16 @@ public class OpenMetadataStoreRESTServices
             {
                 MetadataElementHandler<OpenMetadataElement> handler = instanceHandler.getMetadataElementHandler(userId, serverName, methodName);
 
-                if ((requestBody.getSearchProperties() != null) || (requestBody.getMatchClassifications() != null))
-                {
-                    response.setElementList(handler.findMetadataElements(userId,
-                                                                         requestBody.getMetadataElementTypeName(),
-                                                                         requestBody.getMetadataElementSubtypeNames(),
-                                                                         requestBody.getSearchProperties(),
-                                                                         requestBody.getLimitResultsByStatus(),
-                                                                         requestBody.getMatchClassifications(),
-                                                                         requestBody.getAsOfTime(),
-                                                                         requestBody.getSequencingProperty(),
-                                                                         requestBody.getSequencingOrder(),
-                                                                         forLineage,
-                                                                         forDuplicateProcessing,
-                                                                         instanceHandler.getSupportedZones(userId, serverName, serviceURLMarker, methodName),
-                                                                         this.getEffectiveTimeFromLong(effectiveTime),
-                                                                         startFrom,
-                                                                         pageSize,
-                                                                         methodName));
-                }
-                else
-                {
-                    response.setElementList(handler.getMetadataElementsByType(userId,
-                                                                              requestBody.getMetadataElementTypeName(),
-                                                                              forLineage,
-                                                                              forDuplicateProcessing,
-                                                                              requestBody.getLimitResultsByStatus(),
-                                                                              requestBody.getAsOfTime(),
-                                                                              requestBody.getSequencingProperty(),
-                                                                              requestBody.getSequencingOrder(),
-                                                                              instanceHandler.getSupportedZones(userId, serverName, serviceURLMarker, methodName),
-                                                                              this.getEffectiveTimeFromLong(effectiveTime),
-                                                                              startFrom,
-                                                                              pageSize,
-                                                                              methodName));
-                }
+                response.setElementList(this.getMetadataElementPage(handler,
+                                                                    userId,
+                                                                    forLineage,
+                                                                    forDuplicateProcessing,
+                                                                    instanceHandler.getSupportedZones(userId, serverName, serviceURLMarker, methodName),
+                                                                    this.getEffectiveTimeFromLong(effectiveTime),
+                                                                    startFrom,
+                                                                    pageSize,
+                                                                    requestBody,
+                                                                    methodName));
             }
             else
             {
@@ -1105,6 +1162,170 @@ public class OpenMetadataStoreRESTServices
     }
 
 
+    /**
+     * Stream all the metadata elements that match the supplied criteria to the output stream as newline-delimited JSON.
+     * Each line is an OpenMetadataElementResponse.  The elements are retrieved from the repositories one page at a time,
+     * so only a single page is held in memory whatever the size of the result.  A successful export ends with a
+     * CountResponse carrying the number of elements exported.  If an error occurs, the final line is an
+     * OpenMetadataElementResponse carrying the exception.
+     * <br><br>
+     * The pages are retrieved by offset, so the export is sequenced in an order that elements do not move in while the
+     * export runs.  If the request does not ask for a creation date, GUID or property order, the elements are returned
+     * oldest first.
+     *
+     * @param serverName     name of server instance to route request to
+     * @param serviceURLMarker      the identifier of the access service (for example asset-owner for the Asset Owner OMAS)
+     * @param userId caller's userId
+     * @param forLineage the retrieved element is for lineage processing so include archived elements
+     * @param forDuplicateProcessing the retrieved elements are for duplicate processing so do not combine results from known duplicates.
+     * @param effectiveTime only return an element if it is effective at this time. Null means anytime. Use "new Date()" for now.
+     * @param pageSize number of elements to retrieve from the repositories on each internal call (0 means use the default)
+     * @param requestBody properties defining the search criteria
+     * @param outputStream destination for the results
+     *
+     * @throws IOException unable to write to the output stream
+     */
+    public void exportMetadataElements(String          serverName,
+                                       String          serviceURLMarker,
+                                       String          userId,
+                                       boolean         forLineage,
+                                       boolean         forDuplicateProcessing,
+                                       long            effectiveTime,
+                                       int             pageSize,
+                                       FindRequestBody requestBody,
+                                       OutputStream    outputStream) throws IOException
+    {
+        final String methodName = "exportMetadataElements";
+
+        RESTCallToken token = restCallLogger.logRESTCall(serverName, userId, methodName);
+
+        OpenMetadataElementExporter exporter = new OpenMetadataElementExporter();
+
+        AuditLog auditLog     = null;
+        long     elementCount = 0;
+
+        try
+        {
+            auditLog = instanceHandler.getAuditLog(userId, serverName, methodName);
+
+            if (requestBody != null)
+            {
+                MetadataElementHandler<OpenMetadataElement> handler = instanceHandler.getMetadataElementHandler(userId, serverName, methodName);
+
+                List<String>    supportedZones    = instanceHandler.getSupportedZones(userId, serverName, serviceURLMarker, methodName);
+                FindRequestBody exportRequestBody = exporter.getExportRequestBody(requestBody);
+                int             exportPageSize    = defaultExportPageSize;
+
+                if (pageSize > 0)
+                {
+                    exportPageSize = pageSize;
+                }
+
+                elementCount = exporter.export((startFrom, size) -> this.getMetadataElementPage(handler,
+                                                                                                userId,
+                                                                                                forLineage,
+                                                                                                forDuplicateProcessing,
+                                                                                                supportedZones,
+                                                                                                this.getEffectiveTimeFromLong(effectiveTime),
+                                                                                                startFrom,
+                                                                                                size,
+                                                                                                exportRequestBody,
+                                                                                                methodName),
+                                               exportPageSize,
+                                               methodName,
+                                               auditLog,
+                                               outputStream);
+            }
+            else
+            {
+                restExceptionHandler.handleNoRequestBody(userId, methodName, serverName);
+            }
+        }
+        catch (IOException error)
+        {
+            /*
+             * The caller has gone away so there is no-one to report the error to.
+             */
+            throw error;
+        }
+        catch (Exception error)
+        {
+            exporter.writeError(error, methodName, auditLog, outputStream);
+        }
+
+        restCallLogger.logRESTCallReturn(token, "Exported " + elementCount + " elements");
+    }
+
+
+    /**
+     * Retrieve a page of metadata elements that match the criteria in the find request body.
+     *
+     * @param handler metadata element handler
+     * @param userId caller's userId
+     * @param forLineage the retrieved element is for lineage processing so include archived elements
+     * @param forDuplicateProcessing the retrieved elements are for duplicate processing so do not combine results from known duplicates.
+     * @param supportedZones zones supported by the calling service
+     * @param effectiveTime only return an element if it is effective at this time
+     * @param startFrom paging start point
+     * @param pageSize maximum results that can be returned
+     * @param requestBody properties defining the search criteria
+     * @param methodName calling method
+     * @return list of elements or null
+     * @throws InvalidParameterException one of the search parameters are is invalid
+     * @throws UserNotAuthorizedException the caller is not able to access the elements
+     * @throws PropertyServerException there is a problem accessing the metadata store
+     */
+    private List<OpenMetadataElement> getMetadataElementPage(MetadataElementHandler<OpenMetadataElement> handler,
+                                                             String                                      userId,
+                                                             boolean                                     forLineage,
+                                                             boolean                                     forDuplicateProcessing,
+                                                             List<String>                                supportedZones,
+                                                             Date                                        effectiveTime,
+                                                             int                                         startFrom,
+                                                             int                                         pageSize,
+                                                             FindRequestBody                             requestBody,
+                                                             String                                      methodName) throws InvalidParameterException,
+                                                                                                                            UserNotAuthorizedException,
+                                                                                                                            PropertyServerException
+    {
+        if ((requestBody.getSearchProperties() != null) || (requestBody.getMatchClassifications() != null))
+        {
+            return handler.findMetadataElements(userId,
+                                                requestBody.getMetadataElementTypeName(),
+                                                requestBody.getMetadataElementSubtypeNames(),
+                                                requestBody.getSearchProperties(),
+                                                requestBody.getLimitResultsByStatus(),
+                                                requestBody.getMatchClassifications(),
+                                                requestBody.getAsOfTime(),
+                                                requestBody.getSequencingProperty(),
+                                                requestBody.getSequencingOrder(),
+                                                forLineage,
+                                                forDuplicateProcessing,
+                                                supportedZones,
+                                                effectiveTime,
+                                                startFrom,
+                                                pageSize,
+                                                methodName);
+        }
+        else
+        {
+            return handler.getMetadataElementsByType(userId,
+                                                     requestBody.getMetadataElementTypeName(),
+                                                     forLineage,
+                                                     forDuplicateProcessing,
+                                                     requestBody.getLimitResultsByStatus(),
+                                                     requestBody.getAsOfTime(),
+                                                     requestBody.getSequencingProperty(),
+                                                     requestBody.getSequencingOrder(),
+                                                     supportedZones,
+                                                     effectiveTime,
+                                                     startFrom,
+                                                     pageSize,
+                                                     methodName);
+        }
+    }
+
+
     /**
      * Return a list of relationships that match the requested conditions.  The results can be received as a series of pages.
      *
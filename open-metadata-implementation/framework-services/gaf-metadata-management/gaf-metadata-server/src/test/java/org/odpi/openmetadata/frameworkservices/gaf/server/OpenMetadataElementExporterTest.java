@@ -0,0 +1,211 @@
+/* SPDX-License-Identifier: Apache-2.0 */
+/* Copyright Contributors to the ODPi Egeria project. */
+package org.odpi.openmetadata.frameworkservices.gaf.server;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.odpi.openmetadata.frameworks.connectors.ffdc.PropertyServerException;
+import org.odpi.openmetadata.frameworks.governanceaction.properties.OpenMetadataElement;
+import org.odpi.openmetadata.frameworks.openmetadata.enums.SequencingOrder;
+import org.odpi.openmetadata.frameworkservices.gaf.ffdc.OpenMetadataStoreErrorCode;
+import org.odpi.openmetadata.frameworkservices.gaf.rest.FindRequestBody;
+import org.testng.annotations.Test;
+
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertTrue;
+
+
+/**
+ * Verify the streaming loop of the export: every page is written, the stream ends with the element count and an
+ * error stops the stream with an error line in place of the count.
+ */
+public class OpenMetadataElementExporterTest
+{
+    private final ObjectMapper objectMapper = new ObjectMapper();
+
+
+    /**
+     * Each page is requested from the end of the previous one and the stream ends with the number of elements.
+     *
+     * @throws Exception test failure
+     */
+    @Test
+    public void testExportWritesAllPagesAndCount() throws Exception
+    {
+        List<OpenMetadataElement> elements    = this.getElements(5);
+        List<Integer>             startPoints = new ArrayList<>();
+        ByteArrayOutputStream     outputStream = new ByteArrayOutputStream();
+
+        long elementCount = new OpenMetadataElementExporter().export((startFrom, pageSize) ->
+                                                                     {
+                                                                         startPoints.add(startFrom);
+                                                                         return elements.subList(startFrom, Math.min(startFrom + pageSize, elements.size()));
+                                                                     },
+                                                                     2,
+                                                                     "testExport",
+                                                                     null,
+                                                                     outputStream);
+
+        List<JsonNode> lines = this.getLines(outputStream);
+
+        assertEquals(elementCount, 5);
+        assertEquals(startPoints, List.of(0, 2, 4));
+        assertEquals(lines.size(), 6);
+
+        for (int index = 0; index < 5; index++)
+        {
+            assertEquals(lines.get(index).path("class").asText(), "OpenMetadataElementResponse");
+            assertEquals(lines.get(index).path("element").path("elementGUID").asText(), "guid-" + index);
+        }
+
+        assertEquals(lines.get(5).path("class").asText(), "CountResponse");
+        assertEquals(lines.get(5).path("count").asLong(), 5L);
+    }
+
+
+    /**
+     * When the last page is full, one more page is requested and an empty result ends the export.
+     *
+     * @throws Exception test failure
+     */
+    @Test
+    public void testExportEndsOnEmptyPage() throws Exception
+    {
+        List<OpenMetadataElement> elements     = this.getElements(4);
+        List<Integer>             startPoints  = new ArrayList<>();
+        ByteArrayOutputStream     outputStream = new ByteArrayOutputStream();
+
+        new OpenMetadataElementExporter().export((startFrom, pageSize) ->
+                                                 {
+                                                     startPoints.add(startFrom);
+
+                                                     if (startFrom >= elements.size())
+                                                     {
+                                                         return null;
+                                                     }
+
+                                                     return elements.subList(startFrom, Math.min(startFrom + pageSize, elements.size()));
+                                                 },
+                                                 2,
+                                                 "testExport",
+                                                 null,
+                                                 outputStream);
+
+        List<JsonNode> lines = this.getLines(outputStream);
+
+        assertEquals(startPoints, List.of(0, 2, 4));
+        assertEquals(lines.size(), 5);
+        assertEquals(lines.get(4).path("class").asText(), "CountResponse");
+        assertEquals(lines.get(4).path("count").asLong(), 4L);
+    }
+
+
+    /**
+     * An exception part way through is written as the last line and there is no element count.
+     *
+     * @throws Exception test failure
+     */
+    @Test
+    public void testExportWritesErrorLine() throws Exception
+    {
+        List<OpenMetadataElement> elements     = this.getElements(2);
+        ByteArrayOutputStream     outputStream = new ByteArrayOutputStream();
+
+        long elementCount = new OpenMetadataElementExporter().export((startFrom, pageSize) ->
+                                                                     {
+                                                                         if (startFrom > 0)
+                                                                         {
+                                                                             throw new PropertyServerException(OpenMetadataStoreErrorCode.EXPORT_STREAM_FAILED.getMessageDefinition("testExport",
+                                                                                                                                                                                     "TestException",
+                                                                                                                                                                                     "Repository unavailable"),
+                                                                                                               this.getClass().getName(),
+                                                                                                               "testExport");
+                                                                         }
+
+                                                                         return elements;
+                                                                     },
+                                                                     2,
+                                                                     "testExport",
+                                                                     null,
+                                                                     outputStream);
+
+        List<JsonNode> lines = this.getLines(outputStream);
+
+        assertEquals(elementCount, 2);
+        assertEquals(lines.size(), 3);
+
+        JsonNode errorLine = lines.get(2);
+
+        assertEquals(errorLine.path("class").asText(), "OpenMetadataElementResponse");
+        assertEquals(errorLine.path("relatedHTTPCode").asInt(), 500);
+        assertEquals(errorLine.path("exceptionClassName").asText(), PropertyServerException.class.getName());
+        assertTrue(errorLine.path("element").isMissingNode());
+    }
+
+
+    /**
+     * Orders that move elements while the export runs are replaced, and stable orders are kept.
+     */
+    @Test
+    public void testExportUsesStableOrder()
+    {
+        OpenMetadataElementExporter exporter    = new OpenMetadataElementExporter();
+        FindRequestBody             requestBody = new FindRequestBody();
+
+        assertEquals(exporter.getExportRequestBody(requestBody).getSequencingOrder(), SequencingOrder.CREATION_DATE_OLDEST);
+
+        requestBody.setSequencingOrder(SequencingOrder.LAST_UPDATE_RECENT);
+        assertEquals(exporter.getExportRequestBody(requestBody).getSequencingOrder(), SequencingOrder.CREATION_DATE_OLDEST);
+        assertEquals(requestBody.getSequencingOrder(), SequencingOrder.LAST_UPDATE_RECENT);
+
+        requestBody.setSequencingOrder(SequencingOrder.GUID);
+        assertEquals(exporter.getExportRequestBody(requestBody).getSequencingOrder(), SequencingOrder.GUID);
+    }
+
+
+    /**
+     * Return a list of elements with predictable GUIDs.
+     *
+     * @param elementCount number of elements
+     * @return list of elements
+     */
+    private List<OpenMetadataElement> getElements(int elementCount)
+    {
+        List<OpenMetadataElement> elements = new ArrayList<>();
+
+        for (int index = 0; index < elementCount; index++)
+        {
+            OpenMetadataElement element = new OpenMetadataElement();
+
+            element.setElementGUID("guid-" + index);
+            elements.add(element);
+        }
+
+        return elements;
+    }
+
+
+    /**
+     * Parse each line of the output.
+     *
+     * @param outputStream output from the export
+     * @return one JSON node for each line
+     * @throws Exception a line is not valid JSON
+     */
+    private List<JsonNode> getLines(ByteArrayOutputStream outputStream) throws Exception
+    {
+        List<JsonNode> lines = new ArrayList<>();
+
+        for (String line : outputStream.toString(StandardCharsets.UTF_8).split("\n"))
+        {
+            lines.add(objectMapper.readTree(line));
+        }
+
+        return lines;
+    }
+}
@@ -16,6 +16,8 @@ import org.odpi.openmetadata.commonservices.ffdc.rest.NameRequestBody;
 import org.odpi.openmetadata.commonservices.ffdc.rest.SearchStringRequestBody;
 import org.odpi.openmetadata.commonservices.ffdc.rest.VoidResponse;
 import org.odpi.openmetadata.frameworkservices.gaf.server.OpenMetadataStoreRESTServices;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PostMapping;
@@ -23,6 +25,7 @@ import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
 /**
  * OpenMetadataStoreResource supports the REST APIs for running Open Metadata Store Service
@@ -598,6 +601,66 @@ public class OpenMetadataStoreResource
     }
 
 
+    /**
+     * Retrieve the metadata elements connected to each of the supplied elements via a specific relationship type.
+     * The paging parameters apply to each starting element in turn.
+     *
+     * @param serverName     name of server instance to route request to
+     * @param serviceURLMarker      the identifier of the access service (for example asset-owner for the Asset Owner OMAS)
+     * @param userId caller's userId
+     * @param relationshipTypeName type name of relationships to follow
+     * @param forLineage the retrieved element is for lineage processing so include archived elements
+     * @param forDuplicateProcessing the retrieved element is for duplicate processing so do not combine results from known duplicates.
+     * @param effectiveTime only return the element if it is effective at this time. Null means anytime. Use "new Date()" for now.
+     * @param startingAtEnd indicates which end to retrieve from (0 is "either end"; 1 is end1; 2 is end 2)
+     * @param startFrom paging start point
+     * @param pageSize maximum results that can be returned for each starting element
+     * @param requestBody unique identifiers for the starting metadata elements
+     *
+     * @return list of related elements for each starting element
+     *  InvalidParameterException a unique identifier is null or not known; the relationship type is invalid
+     *  UserNotAuthorizedException the governance action service is not able to access the elements
+     *  PropertyServerException there is a problem accessing the metadata store
+     */
+    @PostMapping(path = "/related-elements/type/{relationshipTypeName}")
+
+    @Operation(summary="getRelatedMetadataElementLists",
+            description="Retrieve the metadata elements connected to each of the supplied elements via a specific relationship type.",
+            externalDocs=@ExternalDocumentation(description="Further Information",
+                    url="https://egeria-project.org/services/gaf-metadata-management/"))
+
+    public RelatedMetadataElementListsResponse getRelatedMetadataElementLists(@PathVariable String                  serverName,
+                                                                               @PathVariable String                  serviceURLMarker,
+                                                                               @PathVariable String                  userId,
+                                                                               @PathVariable String                  relationshipTypeName,
+                                                                               @RequestParam(required = false, defaultValue = "false")
+                                                                                             boolean                 forLineage,
+                                                                               @RequestParam(required = false, defaultValue = "false")
+                                                                                             boolean                 forDuplicateProcessing,
+                                                                               @RequestParam (required = false, defaultValue = "0")
+                                                                                             long                    effectiveTime,
+                                                                               @RequestParam (required = false, defaultValue = "0")
+                                                                                             int                     startingAtEnd,
+                                                                               @RequestParam (required = false, defaultValue = "0")
+                                                                                             int                     startFrom,
+                                                                               @RequestParam (required = false, defaultValue = "0")
+                                                                                             int                     pageSize,
+                                                                               @RequestBody  ElementGUIDsRequestBody requestBody)
+    {
+        return restAPI.getRelatedMetadataElementLists(serverName,
+                                                       serviceURLMarker,
+                                                       userId,
+                                                       relationshipTypeName,
+                                                       forLineage,
+                                                       forDuplicateProcessing,
+                                                       effectiveTime,
+                                                       startingAtEnd,
+                                                       startFrom,
+                                                       pageSize,
+                                                       requestBody);
+    }
+
+
 
     /**
      * Retrieve the relationships linking the supplied elements.
@@ -743,6 +806,59 @@ public class OpenMetadataStoreResource
     }
 
 
+    /**
+     * Stream all the metadata elements that match the supplied criteria as newline-delimited JSON.
+     * Each line is an OpenMetadataElementResponse.  This avoids the caller issuing a separate request for each page
+     * of results.  A complete export ends with a CountResponse carrying the number of elements sent.
+     * The stream is written asynchronously, so a long export is limited by the server's
+     * spring.mvc.async.request-timeout property (set in the server chassis's application.properties).
+     *
+     * @param serverName     name of server instance to route request to
+     * @param serviceURLMarker      the identifier of the access service (for example asset-owner for the Asset Owner OMAS)
+     * @param userId caller's userId
+     * @param forLineage the retrieved element is for lineage processing so include archived elements
+     * @param forDuplicateProcessing the retrieved element is for duplicate processing so do not combine results from known duplicates.
+     * @param effectiveTime only return the element if it is effective at this time. Null means anytime. Use "new Date()" for now.
+     * @param pageSize number of elements retrieved from the repositories on each internal call
+     * @param requestBody properties defining the search criteria
+     *
+     * @return stream of elements matching the supplied criteria followed by the element count; if the export fails,
+     * the final line carries the exception instead:
+     *  InvalidParameterException one of the search parameters are is invalid
+     *  UserNotAuthorizedException the governance action service is not able to access the elements
+     *  PropertyServerException there is a problem accessing the metadata store
+     */
+    @PostMapping(path = "/metadata-elements/by-search-specification/export",
+                 produces = "application/x-ndjson")
+
+    public ResponseEntity<StreamingResponseBody> exportMetadataElements(@PathVariable String          serverName,
+                                                                        @PathVariable String          serviceURLMarker,
+                                                                        @PathVariable String          userId,
+                                                                        @RequestParam(required = false, defaultValue = "false")
+                                                                                      boolean         forLineage,
+                                                                        @RequestParam(required = false, defaultValue = "false")
+                                                                                      boolean         forDuplicateProcessing,
+                                                                        @RequestParam(required = false, defaultValue = "0")
+                                                                                      long            effectiveTime,
+                                                                        @RequestParam(required = false, defaultValue = "0")
+                                                                                      int             pageSize,
+                                                                        @RequestBody (required = false)
+                                                                                      FindRequestBody requestBody)
+    {
+        StreamingResponseBody responseBody = outputStream -> restAPI.exportMetadataElements(serverName,
+                                                                                            serviceURLMarker,
+                                                                                            userId,
+                                                                                            forLineage,
+                                                                                            forDuplicateProcessing,
+                                                                                            effectiveTime,
+                                                                                            pageSize,
+                                                                                            requestBody,
+                                                                                            outputStream);
+
+        return ResponseEntity.ok().contentType(MediaType.parseMediaType("application/x-ndjson")).body(responseBody);
+    }
+
+
     /**
      * Return a list of relationships that match the requested conditions.  The results can be received as a series of pages.
      *
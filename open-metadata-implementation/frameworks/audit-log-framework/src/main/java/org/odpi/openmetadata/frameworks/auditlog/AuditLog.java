@@ -11,6 +11,7 @@ import org.slf4j.LoggerFactory;
 import java.io.PrintWriter;
 import java.io.StringWriter;
 import java.util.*;
+import java.util.concurrent.CopyOnWriteArrayList;
 
 /**
  * AuditLog is the superclass of audit log implementations.  It is concrete
@@ -23,7 +24,7 @@ public class AuditLog extends MessageFormatter
     private final AuditLogDestination        destination;          /* Initialized in the constructor */
     private final AuditLogReportingComponent reportingComponent;   /* Initialized in the constructor */
 
-    protected List<AuditLog>            childAuditLogs         = new ArrayList<>();
+    protected List<AuditLog>            childAuditLogs         = new CopyOnWriteArrayList<>();
     protected AuditLogActivity          auditLogActivity       = new AuditLogActivity();
 
 
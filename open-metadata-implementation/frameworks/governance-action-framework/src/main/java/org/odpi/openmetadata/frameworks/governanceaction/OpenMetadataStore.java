@@ -89,6 +89,14 @@ public class OpenMetadataStore
     public int getMaxPagingSize() { return openMetadataClient.getMaxPagingSize(); }
 
 
+    /**
+     * Return the name of the server where the metadata is stored.
+     *
+     * @return server name
+     */
+    public String getServerName() { return openMetadataClient.getServerName(); }
+
+
     /**
      * Return the forLineage setting.
      *
@@ -560,6 +568,42 @@ public class OpenMetadataStore
     }
 
 
+    /**
+     * Retrieve the metadata elements connected to each of the supplied elements via a specific relationship type.
+     * This retrieves the related elements for many starting elements in a single call.  The paging parameters
+     * apply to each starting element in turn.
+     *
+     * @param elementGUIDs unique identifiers for the starting metadata elements
+     * @param startingAtEnd indicates which end to retrieve from (0 is "either end"; 1 is end1; 2 is end 2)
+     * @param relationshipTypeName type name of relationships to follow
+     * @param startFrom paging start point
+     * @param pageSize maximum results that can be returned for each starting element
+     *
+     * @return list of related elements for each starting element, in the order that the starting elements were supplied
+     * @throws InvalidParameterException a unique identifier is null or not known; the relationship type is invalid
+     * @throws UserNotAuthorizedException the governance action service is not able to access the elements
+     * @throws PropertyServerException there is a problem accessing the metadata store
+     */
+    public List<RelatedMetadataElementList> getRelatedMetadataElementLists(List<String> elementGUIDs,
+                                                                           int          startingAtEnd,
+                                                                           String       relationshipTypeName,
+                                                                           int          startFrom,
+                                                                           int          pageSize) throws InvalidParameterException,
+                                                                                                         UserNotAuthorizedException,
+                                                                                                         PropertyServerException
+    {
+        return openMetadataClient.getRelatedMetadataElementLists(userId,
+                                                                 elementGUIDs,
+                                                                 startingAtEnd,
+                                                                 relationshipTypeName,
+                                                                 forLineage,
+                                                                 forDuplicateProcessing,
+                                                                 getEffectiveTime(),
+                                                                 startFrom,
+                                                                 pageSize);
+    }
+
+
     /**
      * Retrieve the metadata element connected to the supplied element for a relationship type that only allows one
      * relationship to be attached.
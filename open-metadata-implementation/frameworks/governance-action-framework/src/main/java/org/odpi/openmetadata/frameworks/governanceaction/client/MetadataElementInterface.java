@@ -8,6 +8,7 @@ import org.odpi.openmetadata.frameworks.connectors.ffdc.UserNotAuthorizedExcepti
 import org.odpi.openmetadata.frameworks.openmetadata.enums.ElementStatus;
 import org.odpi.openmetadata.frameworks.governanceaction.properties.OpenMetadataElement;
 import org.odpi.openmetadata.frameworks.governanceaction.properties.RelatedMetadataElement;
+import org.odpi.openmetadata.frameworks.governanceaction.properties.RelatedMetadataElementList;
 import org.odpi.openmetadata.frameworks.governanceaction.properties.OpenMetadataRelationship;
 import org.odpi.openmetadata.frameworks.governanceaction.search.ElementProperties;
 import org.odpi.openmetadata.frameworks.governanceaction.search.SearchClassifications;
@@ -205,6 +206,39 @@ public interface MetadataElementInterface
                                                                                      PropertyServerException;
 
 
+    /**
+     * Retrieve the metadata elements connected to each of the supplied elements via a specific relationship type.
+     * This retrieves the related elements for many starting elements in a single call.  The paging parameters
+     * apply to each starting element in turn.
+     *
+     * @param userId caller's userId
+     * @param elementGUIDs unique identifiers for the starting metadata elements
+     * @param startingAtEnd indicates which end to retrieve from (0 is "either end"; 1 is end1; 2 is end 2)
+     * @param relationshipTypeName type name of relationships to follow
+     * @param forLineage the retrieved element is for lineage processing so include archived elements
+     * @param forDuplicateProcessing the retrieved elements are for duplicate processing so do not combine results from known duplicates.
+     * @param effectiveTime only return an element if it is effective at this time. Null means anytime. Use "new Date()" for now.
+     * @param startFrom paging start point
+     * @param pageSize maximum results that can be returned for each starting element
+     *
+     * @return list of related elements for each starting element, in the order that the starting elements were supplied
+     * @throws InvalidParameterException a unique identifier is null or not known; the relationship type is invalid
+     * @throws UserNotAuthorizedException the userId is not permitted to perform this operation
+     * @throws PropertyServerException there is a problem accessing the metadata store
+     */
+    List<RelatedMetadataElementList> getRelatedMetadataElementLists(String       userId,
+                                                                    List<String> elementGUIDs,
+                                                                    int          startingAtEnd,
+                                                                    String       relationshipTypeName,
+                                                                    boolean      forLineage,
+                                                                    boolean      forDuplicateProcessing,
+                                                                    Date         effectiveTime,
+                                                                    int          startFrom,
+                                                                    int          pageSize) throws InvalidParameterException,
+                                                                                                  UserNotAuthorizedException,
+                                                                                                  PropertyServerException;
+
+
     /**
      * Retrieve the metadata element connected to the supplied element for a relationship type that only allows one
      * relationship to be attached.
@@ -144,6 +144,43 @@ public class FileClassifier
     }
 
 
+    /**
+     * Return a copy of a file classification with its reference data (file type, deployed implementation type,
+     * encoding and asset type name) retrieved again.  This is used when the other properties of the file
+     * are known to be unchanged since it was classified.
+     *
+     * @param fileClassification previous classification of the file
+     * @return file classification
+     * @throws InvalidParameterException invalid parameter
+     * @throws PropertyServerException problem connecting to the open metadata repositories
+     * @throws UserNotAuthorizedException insufficient access
+     */
+    public FileClassification updateReferenceData(FileClassification fileClassification) throws InvalidParameterException,
+                                                                                                 PropertyServerException,
+                                                                                                 UserNotAuthorizedException
+    {
+        FileReferenceDataCache fileReferenceDataCache = getFileReferenceDataCache(fileClassification.getFileName(),
+                                                                                  fileClassification.getFileExtension());
+
+        return new FileClassification(fileClassification.getFileName(),
+                                      fileClassification.getPathName(),
+                                      fileClassification.getFileExtension(),
+                                      fileClassification.getCreationTime(),
+                                      fileClassification.getLastModifiedTime(),
+                                      fileClassification.getLastAccessedTime(),
+                                      fileClassification.isCanRead(),
+                                      fileClassification.isCanWrite(),
+                                      fileClassification.isCanExecute(),
+                                      fileClassification.isHidden(),
+                                      fileClassification.isSymLink(),
+                                      fileReferenceDataCache.fileType,
+                                      fileReferenceDataCache.deployedImplementationType,
+                                      fileReferenceDataCache.encoding,
+                                      fileReferenceDataCache.assetTypeName,
+                                      fileClassification.getFileSize());
+    }
+
+
     /**
      * Supports the caching of file reference data.
      */
@@ -0,0 +1,156 @@
+/* SPDX-License-Identifier: Apache-2.0 */
+/* Copyright Contributors to the ODPi Egeria project. */
+package org.odpi.openmetadata.frameworks.governanceaction.properties;
+
+import com.fasterxml.jackson.annotation.JsonAutoDetect;
+import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
+import com.fasterxml.jackson.annotation.JsonInclude;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+
+import static com.fasterxml.jackson.annotation.JsonAutoDetect.Visibility.NONE;
+import static com.fasterxml.jackson.annotation.JsonAutoDetect.Visibility.PUBLIC_ONLY;
+
+/**
+ * RelatedMetadataElementList holds the metadata elements connected to one of the starting elements supplied to a
+ * request that retrieves the related elements for a list of starting elements.
+ */
+@JsonAutoDetect(getterVisibility=PUBLIC_ONLY, setterVisibility=PUBLIC_ONLY, fieldVisibility=NONE)
+@JsonInclude(JsonInclude.Include.NON_NULL)
+@JsonIgnoreProperties(ignoreUnknown=true)
+public class RelatedMetadataElementList
+{
+    private String                       startingElementGUID = null;
+    private List<RelatedMetadataElement> elementList         = null;
+
+
+    /**
+     * Typical Constructor
+     */
+    public RelatedMetadataElementList()
+    {
+    }
+
+
+    /**
+     * Copy/clone Constructor the resulting object will return true if tested with this.equals(template) as
+     * long as the template object is not null;
+     *
+     * @param template object being copied
+     */
+    public RelatedMetadataElementList(RelatedMetadataElementList template)
+    {
+        if (template != null)
+        {
+            startingElementGUID = template.getStartingElementGUID();
+            elementList         = template.getElementList();
+        }
+    }
+
+
+    /**
+     * Return the unique identifier of the starting element.
+     *
+     * @return String unique id
+     */
+    public String getStartingElementGUID()
+    {
+        return startingElementGUID;
+    }
+
+
+    /**
+     * Set up the unique identifier of the starting element.
+     *
+     * @param startingElementGUID String unique id
+     */
+    public void setStartingElementGUID(String startingElementGUID)
+    {
+        this.startingElementGUID = startingElementGUID;
+    }
+
+
+    /**
+     * Return the elements connected to the starting element.
+     *
+     * @return list of related elements
+     */
+    public List<RelatedMetadataElement> getElementList()
+    {
+        if (elementList == null)
+        {
+            return null;
+        }
+        else if (elementList.isEmpty())
+        {
+            return null;
+        }
+        else
+        {
+            return new ArrayList<>(elementList);
+        }
+    }
+
+
+    /**
+     * Set up the elements connected to the starting element.
+     *
+     * @param elementList list of related elements
+     */
+    public void setElementList(List<RelatedMetadataElement> elementList)
+    {
+        this.elementList = elementList;
+    }
+
+
+    /**
+     * Standard toString method.
+     *
+     * @return print out of variables in a JSON-style
+     */
+    @Override
+    public String toString()
+    {
+        return "RelatedMetadataElementList{" +
+                       "startingElementGUID='" + startingElementGUID + '\'' +
+                       ", elementList=" + elementList +
+                       '}';
+    }
+
+
+    /**
+     * Compare the values of the supplied object with those stored in the current object.
+     *
+     * @param objectToCompare supplied object
+     * @return boolean result of comparison
+     */
+    @Override
+    public boolean equals(Object objectToCompare)
+    {
+        if (this == objectToCompare)
+        {
+            return true;
+        }
+        if (objectToCompare == null || getClass() != objectToCompare.getClass())
+        {
+            return false;
+        }
+        RelatedMetadataElementList that = (RelatedMetadataElementList) objectToCompare;
+        return Objects.equals(startingElementGUID, that.startingElementGUID) &&
+                       Objects.equals(elementList, that.elementList);
+    }
+
+
+    /**
+     * Create a hash code for this element type.
+     *
+     * @return int hash code
+     */
+    @Override
+    public int hashCode()
+    {
+        return Objects.hash(startingElementGUID, elementList);
+    }
+}
@@ -161,6 +161,47 @@ public enum OIFAuditCode implements AuditLogMessageSet
                        "The {0} integration connector has stopped its monitoring and is shutting down",
                        "The connector is disconnecting.",
                        "No action is required unless there are errors that follow indicating that there were problems shutting down."),
+
+    /**
+     * OIF-CONNECTOR-0015 - The {0} integration connector is using native file system notifications to monitor {1}
+     */
+    WATCH_SERVICE_MONITORING("OIF-CONNECTOR-0015",
+                             AuditLogRecordSeverityLevel.INFO,
+                             "The {0} integration connector is using native file system notifications to monitor {1}",
+                             "The file system reports changes to the monitored directories so they do not need to be scanned at regular intervals.",
+                             "No action is required.  If changes to the files are not being reported (for example because the files are on a network " +
+                                     "file system that does not deliver notifications) set the system property egeria.file.listener.mode to poll."),
+
+    /**
+     * OIF-CONNECTOR-0016 - The {0} integration connector is unable to use native file system notifications for {1} and is falling back to polling: {2}
+     */
+    WATCH_SERVICE_UNAVAILABLE("OIF-CONNECTOR-0016",
+                              AuditLogRecordSeverityLevel.INFO,
+                              "The {0} integration connector is unable to use native file system notifications for {1} and is falling back to polling: {2}",
+                              "The directory is monitored by scanning its contents at regular intervals.",
+                              "No action is required.  Polling uses more CPU and I/O than notifications for large directories."),
+
+    /**
+     * OIF-CONNECTOR-0017 - The file system notifications for directory {1} overflowed in the {0} integration connector; the directory is being rescanned
+     */
+    WATCH_SERVICE_OVERFLOW("OIF-CONNECTOR-0017",
+                           AuditLogRecordSeverityLevel.INFO,
+                           "The file system notifications for directory {1} overflowed in the {0} integration connector; the directory is being rescanned",
+                           "Changes were made faster than the file system could report them.  The directory is listed and compared " +
+                                   "with the last known contents so that the missing changes can be reported to the connector.",
+                           "No action is required."),
+
+    /**
+     * OIF-CONNECTOR-0018 - The {0} integration connector is unable to use native file system notifications for subdirectory {1} and is polling it instead: {2}
+     */
+    WATCH_SERVICE_SUBDIRECTORY_POLLING("OIF-CONNECTOR-0018",
+                                       AuditLogRecordSeverityLevel.ACTION,
+                                       "The {0} integration connector is unable to use native file system notifications for subdirectory {1} and is polling it instead: {2}",
+                                       "The rest of the directory tree continues to use notifications.  The subdirectory and its contents are monitored " +
+                                               "by scanning them at regular intervals.",
+                                       "Check the message for the cause.  On Linux, the usual cause is reaching the limit on the number of watched " +
+                                               "directories (fs.inotify.max_user_watches), which can be raised.  Subdirectories on network file " +
+                                               "systems are always polled."),
     ;
 
     private final String                      logMessageId;
@@ -0,0 +1,21 @@
+/* SPDX-License-Identifier: Apache-2.0 */
+/* Copyright Contributors to the ODPi Egeria project. */
+package org.odpi.openmetadata.frameworks.integration.filelistener;
+
+import java.util.List;
+
+/**
+ * FileChangeBatchListenerInterface may be implemented by a file or directory listener that would rather receive
+ * changes in batches than one call per file.  When the file system is monitored through native notifications,
+ * the changes that arrive close together are passed to onFileChanges() in a single call, in the order they were
+ * reported, instead of to the individual onFileCreate()/onFileChange()/... methods.
+ */
+public interface FileChangeBatchListenerInterface
+{
+    /**
+     * A batch of changes to the monitored files and directories.
+     *
+     * @param changes list of changes in the order they were detected
+     */
+    void onFileChanges(List<FileChangeEvent> changes);
+}
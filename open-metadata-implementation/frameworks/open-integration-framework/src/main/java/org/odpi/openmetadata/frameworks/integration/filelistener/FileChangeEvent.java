@@ -0,0 +1,101 @@
+/* SPDX-License-Identifier: Apache-2.0 */
+/* Copyright Contributors to the ODPi Egeria project. */
+package org.odpi.openmetadata.frameworks.integration.filelistener;
+
+import java.io.File;
+import java.util.Objects;
+
+/**
+ * FileChangeEvent describes a single change to a monitored file or directory.  A list of these events is passed to
+ * a FileChangeBatchListenerInterface.
+ */
+public class FileChangeEvent
+{
+    private final FileChangeType changeType;
+    private final File           file;
+
+
+    /**
+     * Constructor.
+     *
+     * @param changeType type of change
+     * @param file file or directory that changed
+     */
+    public FileChangeEvent(FileChangeType changeType,
+                           File           file)
+    {
+        this.changeType = changeType;
+        this.file       = file;
+    }
+
+
+    /**
+     * Return the type of change.
+     *
+     * @return enum
+     */
+    public FileChangeType getChangeType()
+    {
+        return changeType;
+    }
+
+
+    /**
+     * Return the file or directory that changed.
+     *
+     * @return file
+     */
+    public File getFile()
+    {
+        return file;
+    }
+
+
+    /**
+     * Standard toString method.
+     *
+     * @return print out of variables in a JSON-style
+     */
+    @Override
+    public String toString()
+    {
+        return "FileChangeEvent{" +
+                "changeType=" + changeType +
+                ", file=" + file +
+                '}';
+    }
+
+
+    /**
+     * Compare the values of the supplied object with those stored in the current object.
+     *
+     * @param objectToCompare supplied object
+     * @return boolean result of comparison
+     */
+    @Override
+    public boolean equals(Object objectToCompare)
+    {
+        if (this == objectToCompare)
+        {
+            return true;
+        }
+        if (objectToCompare == null || getClass() != objectToCompare.getClass())
+        {
+            return false;
+        }
+        FileChangeEvent that = (FileChangeEvent) objectToCompare;
+        return changeType == that.changeType && Objects.equals(file, that.file);
+    }
+
+
+    /**
+     * Create a hash code for this element type.
+     *
+     * @return int hash code
+     */
+    @Override
+    public int hashCode()
+    {
+        return Objects.hash(changeType, file);
+    }
+}
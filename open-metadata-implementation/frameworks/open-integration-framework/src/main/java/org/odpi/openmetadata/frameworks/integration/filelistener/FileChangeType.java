@@ -0,0 +1,39 @@
+/* SPDX-License-Identifier: Apache-2.0 */
+/* Copyright Contributors to the ODPi Egeria project. */
+package org.odpi.openmetadata.frameworks.integration.filelistener;
+
+/**
+ * FileChangeType describes the type of change reported in a FileChangeEvent.
+ */
+public enum FileChangeType
+{
+    /**
+     * A file has been created.
+     */
+    FILE_CREATE,
+
+    /**
+     * A file has been changed.
+     */
+    FILE_CHANGE,
+
+    /**
+     * A file has been deleted.
+     */
+    FILE_DELETE,
+
+    /**
+     * A directory has been created.
+     */
+    DIRECTORY_CREATE,
+
+    /**
+     * A directory has been changed.
+     */
+    DIRECTORY_CHANGE,
+
+    /**
+     * A directory has been deleted.
+     */
+    DIRECTORY_DELETE
+}
@@ -0,0 +1,923 @@
+/* SPDX-License-Identifier: Apache-2.0 */
+/* Copyright Contributors to the ODPi Egeria project. */
+package org.odpi.openmetadata.frameworks.integration.filelistener;
+
+import org.odpi.openmetadata.frameworks.auditlog.AuditLog;
+import org.odpi.openmetadata.frameworks.integration.ffdc.OIFAuditCode;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.File;
+import java.io.FileFilter;
+import java.io.IOException;
+import java.nio.file.ClosedWatchServiceException;
+import java.nio.file.FileSystems;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardWatchEventKinds;
+import java.nio.file.WatchEvent;
+import java.nio.file.WatchKey;
+import java.nio.file.WatchService;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+
+/**
+ * FileWatchServiceMonitor uses the file system's native change notifications (through java.nio.file.WatchService)
+ * to detect changes to monitored files and directories.  Unlike the polling monitor, it does not need to list the
+ * monitored directories to find out that nothing has changed.
+ * <br><br>
+ * Each registration keeps a snapshot of the entries it has seen in each watched directory.  The snapshot is used to
+ * work out whether a notification is a create, change or delete of a file or a directory, and to recover when the
+ * notification queue overflows: only the directory whose events were lost is listed and compared with its snapshot.
+ * Directories created under a directory tree registration are registered as they appear and their contents reported
+ * as creates so that files written before the registration completed are not missed.
+ * <br><br>
+ * Notifications that arrive close together are delivered as a batch: listeners that implement
+ * FileChangeBatchListenerInterface receive a single onFileChanges() call; other listeners receive the individual calls.
+ * A batch is closed after MAX_BATCH_TIME or MAX_BATCH_KEYS signalled directories so that a constant stream of changes
+ * does not hold back delivery.
+ * <br><br>
+ * Directories on network file systems (such as NFS and CIFS) are not watched because the notifications only report
+ * the changes made by this host.  Registering such a directory fails, so that the caller polls it instead.  If a
+ * subdirectory of a tree cannot be watched, it is handed to the PollingFallback and the rest of the tree continues
+ * to use notifications.
+ */
+class FileWatchServiceMonitor implements Runnable
+{
+    private static final Logger log = LoggerFactory.getLogger(FileWatchServiceMonitor.class);
+
+    private static final long BATCH_WINDOW   = 200;   // milliseconds
+    private static final long MAX_BATCH_TIME = 2000;  // milliseconds
+    private static final int  MAX_BATCH_KEYS = 1000;
+    private static final long DIRECTORY      = Long.MIN_VALUE;
+
+    /**
+     * File store types (as returned by FileStore.type()) of network file systems.  Changes made on other hosts are
+     * not notified for these, so they are polled.
+     */
+    private static final Set<String> networkFileSystemTypes = Set.of("nfs", "nfs4", "cifs", "smb", "smbfs", "smb2", "smb3",
+                                                                     "afs", "ncpfs", "9p", "ceph", "glusterfs", "lustre",
+                                                                     "gpfs", "davfs", "fuse.sshfs", "fuse.glusterfs",
+                                                                     "fuse.s3fs", "vboxsf");
+
+    /**
+     * Monitors the directories that can not be watched by polling them.
+     */
+    interface PollingFallback
+    {
+        /**
+         * Start polling a directory tree on behalf of a registration.
+         *
+         * @param listener listener to call
+         * @param directory root of the tree to poll
+         * @param fileFilter optional filter restricting the files and directories reported
+         * @param reportExisting should the files already in the directory be reported as created?
+         */
+        void startPolling(FileDirectoryListenerInterface listener,
+                          File                           directory,
+                          FileFilter                     fileFilter,
+                          boolean                        reportExisting);
+
+
+        /**
+         * Stop polling a directory tree.
+         *
+         * @param listener listener passed on startPolling
+         * @param directory directory passed on startPolling
+         */
+        void stopPolling(FileListenerInterface listener,
+                         File                  directory);
+    }
+
+    private final AuditLog        auditLog;
+    private final String          connectorName;
+    private final PollingFallback pollingFallback;
+    private final WatchService    watchService;
+
+    private final Map<Object, Boolean>    networkDevices     = new HashMap<>();
+
+    private final Map<WatchKey, Path>     watchedDirectories = new HashMap<>();
+    private final Map<Path, WatchKey>     watchKeys          = new HashMap<>();
+    private final List<WatchRegistration> registrations      = new ArrayList<>();
+
+    private volatile boolean running = true;
+
+
+    /**
+     * Constructor creates the watch service and starts the thread that processes its notifications.
+     *
+     * @param auditLog logging destination
+     * @param connectorName name of the connector
+     * @param pollingFallback monitor for subdirectories that can not be watched
+     * @throws IOException the file system does not support a watch service
+     */
+    FileWatchServiceMonitor(AuditLog        auditLog,
+                            String          connectorName,
+                            PollingFallback pollingFallback) throws IOException
+    {
+        this.auditLog        = auditLog;
+        this.connectorName   = connectorName;
+        this.pollingFallback = pollingFallback;
+        this.watchService    = FileSystems.getDefault().newWatchService();
+
+        Thread worker = new Thread(this, connectorName + "::FileWatchServiceMonitor");
+
+        worker.setDaemon(true);
+        worker.start();
+    }
+
+
+    /**
+     * Return whether the default file system delivers native change notifications.  Some JVMs supply a watch service
+     * that simply polls the directories, which is no better than the commons-io monitor.
+     *
+     * @return boolean
+     */
+    static boolean isNativeNotificationAvailable()
+    {
+        try (WatchService testWatchService = FileSystems.getDefault().newWatchService())
+        {
+            return ! testWatchService.getClass().getName().contains("Polling");
+        }
+        catch (IOException | UnsupportedOperationException error)
+        {
+            return false;
+        }
+    }
+
+
+    /**
+     * Return whether a file store type is a network file system.
+     *
+     * @param fileStoreType value returned by FileStore.type()
+     * @return boolean
+     */
+    static boolean isNetworkFileSystemType(String fileStoreType)
+    {
+        if (fileStoreType == null)
+        {
+            return false;
+        }
+
+        String type = fileStoreType.toLowerCase();
+
+        return networkFileSystemTypes.contains(type) || type.startsWith("nfs") || type.startsWith("smb");
+    }
+
+
+    /**
+     * Return whether a directory is on a network file system.  Looking up the file store can mean reading the mount
+     * table, so the answer is cached by device where the file system reports the device of each file.
+     *
+     * @param directory directory to test
+     * @return boolean
+     * @throws IOException unable to find the file store of the directory
+     */
+    private boolean isOnNetworkFileSystem(Path directory) throws IOException
+    {
+        Object device = null;
+
+        try
+        {
+            device = Files.getAttribute(directory, "unix:dev");
+        }
+        catch (UnsupportedOperationException | IllegalArgumentException notSupported)
+        {
+            log.debug("No device attribute for " + directory);
+        }
+
+        Boolean networkFileSystem = (device == null) ? null : networkDevices.get(device);
+
+        if (networkFileSystem == null)
+        {
+            networkFileSystem = isNetworkFileSystemType(Files.getFileStore(directory).type());
+
+            if (device != null)
+            {
+                networkDevices.put(device, networkFileSystem);
+            }
+        }
+
+        return networkFileSystem;
+    }
+
+
+    /**
+     * Start monitoring a single file.
+     *
+     * @param listener listener to call
+     * @param fileToMonitor file to monitor
+     * @throws IOException unable to watch the parent directory of the file
+     */
+    synchronized void registerFile(FileListenerInterface listener,
+                                   File                  fileToMonitor) throws IOException
+    {
+        File absoluteFile = fileToMonitor.getAbsoluteFile();
+        File parent       = absoluteFile.getParentFile();
+
+        if (parent == null)
+        {
+            throw new IOException("No parent directory to watch for " + absoluteFile);
+        }
+
+        WatchRegistration registration = new WatchRegistration(listener,
+                                                                absoluteFile.toPath(),
+                                                                parent.toPath().normalize(),
+                                                                absoluteFile.getName(),
+                                                                false,
+                                                                null);
+
+        addRegistration(registration);
+    }
+
+
+    /**
+     * Start monitoring a directory, or a directory tree.
+     *
+     * @param listener listener to call
+     * @param directoryToMonitor root directory
+     * @param fileFilter optional filter restricting the files and directories reported
+     * @param recursive should the subdirectories be monitored?
+     * @throws IOException unable to watch the directory
+     */
+    synchronized void registerDirectory(FileDirectoryListenerInterface listener,
+                                        File                           directoryToMonitor,
+                                        FileFilter                     fileFilter,
+                                        boolean                        recursive) throws IOException
+    {
+        Path root = directoryToMonitor.getAbsoluteFile().toPath().normalize();
+
+        WatchRegistration registration = new WatchRegistration(listener,
+                                                                root,
+                                                                root,
+                                                                null,
+                                                                recursive,
+                                                                fileFilter);
+
+        addRegistration(registration);
+    }
+
+
+    /**
+     * Stop calling the listener for changes to the file or directory.
+     *
+     * @param listener listener that was registered
+     * @param registeredFile file or directory that was registered
+     * @return boolean indicating whether a registration was removed
+     */
+    synchronized boolean unregister(FileListenerInterface listener,
+                                    File                  registeredFile)
+    {
+        Path                    registeredPath = registeredFile.getAbsoluteFile().toPath().normalize();
+        List<WatchRegistration> removed        = new ArrayList<>();
+
+        for (WatchRegistration registration : registrations)
+        {
+            if ((registration.listener == listener) && (registration.registeredPath.equals(registeredPath)))
+            {
+                removed.add(registration);
+            }
+        }
+
+        registrations.removeAll(removed);
+
+        for (WatchRegistration registration : removed)
+        {
+            for (Path directory : registration.snapshots.keySet())
+            {
+                releaseIfUnused(directory);
+            }
+
+            for (Path directory : registration.polledDirectories)
+            {
+                pollingFallback.stopPolling(registration.listener, directory.toFile());
+            }
+        }
+
+        return ! removed.isEmpty();
+    }
+
+
+    /**
+     * Stop the watch service.  The processing thread ends when the watch service is closed.
+     */
+    void shutdown()
+    {
+        running = false;
+
+        try
+        {
+            watchService.close();
+        }
+        catch (IOException error)
+        {
+            log.debug("Ignored exception closing watch service", error);
+        }
+    }
+
+
+    /**
+     * Processes the notifications from the watch service until it is closed.  After the first key is signalled,
+     * the thread waits briefly for further keys so that bursts of changes are delivered together.  The batch is
+     * closed when the keys stop arriving, when MAX_BATCH_TIME has passed since the first key or when MAX_BATCH_KEYS
+     * keys have been collected.
+     */
+    @Override
+    public void run()
+    {
+        while (running)
+        {
+            try
+            {
+                List<WatchKey> signalledKeys = new ArrayList<>();
+
+                signalledKeys.add(watchService.take());
+
+                long     batchEnd = System.currentTimeMillis() + MAX_BATCH_TIME;
+                WatchKey nextKey  = watchService.poll(BATCH_WINDOW, TimeUnit.MILLISECONDS);
+
+                while (nextKey != null)
+                {
+                    signalledKeys.add(nextKey);
+
+                    long remainingTime = batchEnd - System.currentTimeMillis();
+
+                    if ((remainingTime <= 0) || (signalledKeys.size() >= MAX_BATCH_KEYS))
+                    {
+                        nextKey = null;
+                    }
+                    else
+                    {
+                        nextKey = watchService.poll(Math.min(BATCH_WINDOW, remainingTime), TimeUnit.MILLISECONDS);
+                    }
+                }
+
+                deliver(processKeys(signalledKeys));
+            }
+            catch (ClosedWatchServiceException | InterruptedException stopped)
+            {
+                running = false;
+            }
+            catch (Exception error)
+            {
+                log.error("Unexpected exception processing file system notifications for " + connectorName, error);
+            }
+        }
+    }
+
+
+    /**
+     * Turn the events queued on the signalled keys into change events for each registration.  This runs under the
+     * monitor's lock so that registrations do not change part way through.
+     *
+     * @param signalledKeys keys with pending events
+     * @return the registrations with changes to deliver, along with their changes
+     */
+    private synchronized Map<WatchRegistration, List<FileChangeEvent>> processKeys(List<WatchKey> signalledKeys)
+    {
+        for (WatchKey key : signalledKeys)
+        {
+            Path directory = watchedDirectories.get(key);
+
+            for (WatchEvent<?> event : key.pollEvents())
+            {
+                if (directory == null)
+                {
+                    continue;
+                }
+
+                if (event.kind() == StandardWatchEventKinds.OVERFLOW)
+                {
+                    if (auditLog != null)
+                    {
+                        auditLog.logMessage("processKeys",
+                                            OIFAuditCode.WATCH_SERVICE_OVERFLOW.getMessageDefinition(connectorName, directory.toString()));
+                    }
+
+                    for (WatchRegistration registration : registrations)
+                    {
+                        if (registration.snapshots.containsKey(directory))
+                        {
+                            rescanDirectory(registration, directory);
+                        }
+                    }
+                }
+                else
+                {
+                    Path name = (Path) event.context();
+
+                    for (WatchRegistration registration : registrations)
+                    {
+                        if (registration.snapshots.containsKey(directory))
+                        {
+                            processEvent(registration, directory, name.toString(), event.kind());
+                        }
+                    }
+                }
+            }
+
+            if ((! key.reset()) && (directory != null))
+            {
+                /*
+                 * The directory is no longer accessible - its deletion is reported through its parent.
+                 */
+                watchedDirectories.remove(key);
+                watchKeys.remove(directory);
+            }
+        }
+
+        Map<WatchRegistration, List<FileChangeEvent>> batches = new HashMap<>();
+
+        for (WatchRegistration registration : registrations)
+        {
+            if (! registration.pending.isEmpty())
+            {
+                batches.put(registration, new ArrayList<>(registration.pending));
+
+                registration.pending.clear();
+                registration.reportedInBatch.clear();
+            }
+        }
+
+        return batches;
+    }
+
+
+    /**
+     * Work out what a single notification means for a registration.
+     *
+     * @param registration registration watching the directory
+     * @param directory directory where the change occurred
+     * @param name name of the entry that changed
+     * @param kind type of notification
+     */
+    private void processEvent(WatchRegistration  registration,
+                              Path               directory,
+                              String             name,
+                              WatchEvent.Kind<?> kind)
+    {
+        Map<String, Long> entries  = registration.snapshots.get(directory);
+        Path              path     = directory.resolve(name);
+        File              file     = path.toFile();
+        Long              previous = entries.get(name);
+
+        if ((kind == StandardWatchEventKinds.ENTRY_DELETE) || (! file.exists()))
+        {
+            if (previous != null)
+            {
+                entries.remove(name);
+                reportRemoval(registration, path, previous);
+            }
+        }
+        else if (accepts(registration, directory, file))
+        {
+            if (file.isDirectory())
+            {
+                if ((previous == null) || (previous != DIRECTORY))
+                {
+                    if (previous != null)
+                    {
+                        registration.addEvent(FileChangeType.FILE_DELETE, file);
+                    }
+
+                    entries.put(name, DIRECTORY);
+                    registration.addEvent(FileChangeType.DIRECTORY_CREATE, file);
+
+                    if (registration.recursive)
+                    {
+                        scanDirectory(registration, path, true);
+                    }
+                }
+            }
+            else
+            {
+                long lastModified = file.lastModified();
+
+                if (previous == null)
+                {
+                    entries.put(name, lastModified);
+                    registration.addEvent(FileChangeType.FILE_CREATE, file);
+                }
+                else if (previous == DIRECTORY)
+                {
+                    removeTree(registration, path);
+                    entries.put(name, lastModified);
+                    registration.addEvent(FileChangeType.FILE_CREATE, file);
+                }
+                else if ((previous != lastModified) || (kind == StandardWatchEventKinds.ENTRY_MODIFY))
+                {
+                    entries.put(name, lastModified);
+                    registration.addEvent(FileChangeType.FILE_CHANGE, file);
+                }
+            }
+        }
+    }
+
+
+    /**
+     * List a directory whose notifications were lost and compare it with the snapshot to report the differences.
+     *
+     * @param registration registration watching the directory
+     * @param directory directory to rescan
+     */
+    private void rescanDirectory(WatchRegistration registration,
+                                 Path              directory)
+    {
+        Map<String, Long> entries = registration.snapshots.get(directory);
+        Set<String>       seen    = new HashSet<>();
+        File[]            files   = directory.toFile().listFiles();
+
+        if (files != null)
+        {
+            for (File file : files)
+            {
+                if (accepts(registration, directory, file))
+                {
+                    seen.add(file.getName());
+                    processEvent(registration, directory, file.getName(), StandardWatchEventKinds.ENTRY_CREATE);
+                }
+            }
+        }
+
+        for (String name : new ArrayList<>(entries.keySet()))
+        {
+            if (! seen.contains(name))
+            {
+                Long previous = entries.remove(name);
+
+                reportRemoval(registration, directory.resolve(name), previous);
+            }
+        }
+    }
+
+
+    /**
+     * Build the snapshot of a directory (and its subdirectories for a tree registration) and start watching it.
+     * A subdirectory that can not be watched is polled instead.
+     *
+     * @param registration registration being set up
+     * @param directory directory to scan
+     * @param reportCreates should the entries found be reported as created?
+     */
+    private void scanDirectory(WatchRegistration registration,
+                               Path              directory,
+                               boolean           reportCreates)
+    {
+        final String methodName = "scanDirectory";
+
+        try
+        {
+            watch(directory);
+        }
+        catch (IOException error)
+        {
+            log.debug("Unable to watch " + directory, error);
+
+            if (auditLog != null)
+            {
+                auditLog.logMessage(methodName,
+                                    OIFAuditCode.WATCH_SERVICE_SUBDIRECTORY_POLLING.getMessageDefinition(connectorName,
+                                                                                                         directory.toString(),
+                                                                                                         error.getMessage()));
+            }
+
+            if ((registration.listener instanceof FileDirectoryListenerInterface directoryListener) &&
+                (registration.polledDirectories.add(directory)))
+            {
+                pollingFallback.startPolling(directoryListener, directory.toFile(), registration.fileFilter, reportCreates);
+            }
+
+            return;
+        }
+
+        Map<String, Long> entries = new HashMap<>();
+        File[]            files   = directory.toFile().listFiles();
+
+        registration.snapshots.put(directory, entries);
+
+        if (files != null)
+        {
+            for (File file : files)
+            {
+                if (accepts(registration, directory, file))
+                {
+                    if (file.isDirectory())
+                    {
+                        entries.put(file.getName(), DIRECTORY);
+
+                        if (reportCreates)
+                        {
+                            registration.addEvent(FileChangeType.DIRECTORY_CREATE, file);
+                        }
+
+                        if (registration.recursive)
+                        {
+                            scanDirectory(registration, file.toPath(), reportCreates);
+                        }
+                    }
+                    else
+                    {
+                        entries.put(file.getName(), file.lastModified());
+
+                        if (reportCreates)
+                        {
+                            registration.addEvent(FileChangeType.FILE_CREATE, file);
+                        }
+                    }
+                }
+            }
+        }
+    }
+
+
+    /**
+     * Report the removal of an entry.  For a directory, the entries below it are reported first.
+     *
+     * @param registration registration watching the entry
+     * @param path path of the removed entry
+     * @param previous snapshot value for the entry
+     */
+    private void reportRemoval(WatchRegistration registration,
+                               Path              path,
+                               Long              previous)
+    {
+        if ((previous != null) && (previous == DIRECTORY))
+        {
+            removeTree(registration, path);
+            registration.addEvent(FileChangeType.DIRECTORY_DELETE, path.toFile());
+        }
+        else
+        {
+            registration.addEvent(FileChangeType.FILE_DELETE, path.toFile());
+        }
+    }
+
+
+    /**
+     * Remove the snapshots for a directory tree, reporting the deletion of its contents.
+     *
+     * @param registration registration watching the directory
+     * @param directory root of the tree that has gone
+     */
+    private void removeTree(WatchRegistration registration,
+                            Path              directory)
+    {
+        if (registration.polledDirectories.remove(directory))
+        {
+            /*
+             * The polling monitor reports the deletion of the contents of a polled directory.
+             */
+            pollingFallback.stopPolling(registration.listener, directory.toFile());
+            return;
+        }
+
+        Map<String, Long> entries = registration.snapshots.remove(directory);
+
+        if (entries != null)
+        {
+            for (Map.Entry<String, Long> entry : entries.entrySet())
+            {
+                reportRemoval(registration, directory.resolve(entry.getKey()), entry.getValue());
+            }
+
+            releaseIfUnused(directory);
+        }
+    }
+
+
+    /**
+     * Return whether the file should be reported to the registration.
+     *
+     * @param registration registration
+     * @param directory directory containing the file
+     * @param file file or directory
+     * @return boolean
+     */
+    private boolean accepts(WatchRegistration registration,
+                            Path              directory,
+                            File              file)
+    {
+        if (registration.fileName != null)
+        {
+            return directory.equals(registration.root) && file.getName().equals(registration.fileName);
+        }
+
+        return (registration.fileFilter == null) || (registration.fileFilter.accept(file));
+    }
+
+
+    /**
+     * Set up the snapshot for a new registration and add it to the list.
+     *
+     * @param registration new registration
+     * @throws IOException unable to watch the root directory
+     */
+    private void addRegistration(WatchRegistration registration) throws IOException
+    {
+        /*
+         * Watching the root directory must succeed - it is the signal to fall back to polling.
+         */
+        watch(registration.root);
+
+        scanDirectory(registration, registration.root, false);
+        registrations.add(registration);
+    }
+
+
+    /**
+     * Start watching a directory if it is not already watched.
+     *
+     * @param directory directory to watch
+     * @throws IOException unable to register with the watch service, or the directory is on a network file system
+     */
+    private void watch(Path directory) throws IOException
+    {
+        if (! watchKeys.containsKey(directory))
+        {
+            if (isOnNetworkFileSystem(directory))
+            {
+                throw new IOException("Directory " + directory + " is on a network file system that does not report changes made by other hosts");
+            }
+
+            WatchKey key = directory.register(watchService,
+                                              StandardWatchEventKinds.ENTRY_CREATE,
+                                              StandardWatchEventKinds.ENTRY_DELETE,
+                                              StandardWatchEventKinds.ENTRY_MODIFY);
+
+            watchKeys.put(directory, key);
+            watchedDirectories.put(key, directory);
+        }
+    }
+
+
+    /**
+     * Stop watching a directory if no registration needs it.
+     *
+     * @param directory directory that may no longer be needed
+     */
+    private void releaseIfUnused(Path directory)
+    {
+        for (WatchRegistration registration : registrations)
+        {
+            if (registration.snapshots.containsKey(directory))
+            {
+                return;
+            }
+        }
+
+        WatchKey key = watchKeys.remove(directory);
+
+        if (key != null)
+        {
+            watchedDirectories.remove(key);
+            key.cancel();
+        }
+    }
+
+
+    /**
+     * Pass the changes to the listeners.  This is called outside the monitor's lock so that listeners may register
+     * or unregister other files.
+     *
+     * @param batches changes for each registration
+     */
+    private void deliver(Map<WatchRegistration, List<FileChangeEvent>> batches)
+    {
+        for (Map.Entry<WatchRegistration, List<FileChangeEvent>> batch : batches.entrySet())
+        {
+            FileListenerInterface listener = batch.getKey().listener;
+
+            try
+            {
+                if (listener instanceof FileChangeBatchListenerInterface batchListener)
+                {
+                    batchListener.onFileChanges(batch.getValue());
+                }
+                else
+                {
+                    for (FileChangeEvent event : batch.getValue())
+                    {
+                        deliverEvent(listener, event);
+                    }
+                }
+            }
+            catch (Exception error)
+            {
+                log.error("Listener for " + connectorName + " failed to process file system changes", error);
+            }
+        }
+    }
+
+
+    /**
+     * Pass a single change to a listener that does not handle batches.
+     *
+     * @param listener listener
+     * @param event change
+     */
+    private void deliverEvent(FileListenerInterface listener,
+                              FileChangeEvent       event)
+    {
+        log.debug("File change: " + event);
+
+        switch (event.getChangeType())
+        {
+            case FILE_CREATE -> listener.onFileCreate(event.getFile());
+            case FILE_CHANGE -> listener.onFileChange(event.getFile());
+            case FILE_DELETE -> listener.onFileDelete(event.getFile());
+            default ->
+            {
+                if (listener instanceof FileDirectoryListenerInterface directoryListener)
+                {
+                    switch (event.getChangeType())
+                    {
+                        case DIRECTORY_CREATE -> directoryListener.onDirectoryCreate(event.getFile());
+                        case DIRECTORY_CHANGE -> directoryListener.onDirectoryChange(event.getFile());
+                        case DIRECTORY_DELETE -> directoryListener.onDirectoryDelete(event.getFile());
+                    }
+                }
+            }
+        }
+    }
+
+
+    /**
+     * Details of a single registration.
+     */
+    private static class WatchRegistration
+    {
+        final FileListenerInterface          listener;
+        final Path                           registeredPath;
+        final Path                           root;
+        final String                         fileName;
+        final boolean                        recursive;
+        final FileFilter                     fileFilter;
+        final Map<Path, Map<String, Long>>   snapshots         = new HashMap<>();
+        final Set<Path>                      polledDirectories = new HashSet<>();
+        final List<FileChangeEvent>          pending           = new ArrayList<>();
+        final Set<File>                      reportedInBatch   = new HashSet<>();
+
+
+        /**
+         * Constructor.
+         *
+         * @param listener listener to call
+         * @param registeredPath file or directory passed on the registration
+         * @param root directory watched at the top of the registration
+         * @param fileName name of the single file to monitor (or null for a directory)
+         * @param recursive are subdirectories monitored?
+         * @param fileFilter optional filter
+         */
+        WatchRegistration(FileListenerInterface listener,
+                          Path                  registeredPath,
+                          Path                  root,
+                          String                fileName,
+                          boolean               recursive,
+                          FileFilter            fileFilter)
+        {
+            this.listener       = listener;
+            this.registeredPath = registeredPath.normalize();
+            this.root           = root;
+            this.fileName       = fileName;
+            this.recursive      = recursive;
+            this.fileFilter     = fileFilter;
+        }
+
+
+        /**
+         * Queue a change for delivery.  Repeated create/change notifications for the same file within a batch are
+         * reported once.
+         *
+         * @param changeType type of change
+         * @param file file that changed
+         */
+        void addEvent(FileChangeType changeType,
+                      File           file)
+        {
+            if (changeType == FileChangeType.FILE_CHANGE)
+            {
+                if (reportedInBatch.contains(file))
+                {
+                    return;
+                }
+            }
+
+            if ((changeType == FileChangeType.FILE_CREATE) || (changeType == FileChangeType.FILE_CHANGE))
+            {
+                reportedInBatch.add(file);
+            }
+            else
+            {
+                reportedInBatch.remove(file);
+            }
+
+            pending.add(new FileChangeEvent(changeType, file));
+        }
+    }
+}
@@ -19,22 +19,40 @@ import org.slf4j.LoggerFactory;
 
 import java.io.File;
 import java.io.FileFilter;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
 
 
 /**
- * FilesListenerManager uses the Apache Commons IO capabilities to support the ability for an Integration Connector to
- * monitor changes in the file system.  The implementation is a thin wrapper around the Apache Commons IO to allow the
- * implementation to be swapped for other types of file system monitors.
+ * FilesListenerManager supports the ability for an Integration Connector to monitor changes in the file system.
+ * Where the file system delivers native change notifications, they are used (through FileWatchServiceMonitor) so that
+ * large directories are not rescanned at every poll.  Otherwise, or if the system property egeria.file.listener.mode
+ * is set to poll, the Apache Commons IO FileAlterationMonitor is used to poll the monitored files and directories.
+ * Directories on network file systems, and subdirectories that the file system will not watch, are always polled.
  */
 public class FilesListenerManager
 {
     private static final Logger log = LoggerFactory.getLogger(FilesListenerManager.class);
     private static final int POLL_INTERVAL = 500; // milliseconds
 
+    /**
+     * System property that selects how the file system is monitored: watch (native notifications where available) or poll.
+     */
+    public static final String FILE_LISTENER_MODE_PROPERTY = "egeria.file.listener.mode";
+
+    /**
+     * Value of FILE_LISTENER_MODE_PROPERTY that forces polling.
+     */
+    public static final String POLL_MODE = "poll";
+
     private final AuditLog auditLog;
     private final String   connectorName;
 
-    private final FileAlterationMonitor  monitor  = new FileAlterationMonitor(POLL_INTERVAL);
+    private final FileAlterationMonitor   monitor  = new FileAlterationMonitor(POLL_INTERVAL);
+    private final FileWatchServiceMonitor watchMonitor;
+    private final List<PollingRegistration> pollingRegistrations = new ArrayList<>();
 
 
     /**
@@ -49,6 +67,7 @@ public class FilesListenerManager
 
         this.auditLog = auditLog;
         this.connectorName = connectorName;
+        this.watchMonitor = this.createWatchMonitor();
 
         try
         {
@@ -86,19 +105,29 @@ public class FilesListenerManager
         validateParameter(listener, listenerParameterName, methodName);
         validateParameter(fileToMonitor, fileParameterName, methodName);
 
-        FileAlterationObserver observer = new FileAlterationObserver(fileToMonitor.getAbsolutePath());
-        FileAlterationListener managedListener = new FileMonitoringListener(listener);
+        boolean watching = false;
 
-        /*
-         * The observer watches the specific file
-         */
-        observer.addListener(managedListener);
-
-        /*
-         * The monitor polls the observer at regular intervals.
-         */
-        monitor.addObserver(observer);
+        if (watchMonitor != null)
+        {
+            try
+            {
+                watchMonitor.registerFile(listener, fileToMonitor);
+                logWatchServiceMonitoring(methodName, fileToMonitor);
+                watching = true;
+            }
+            catch (IOException error)
+            {
+                logWatchServiceUnavailable(methodName, fileToMonitor, error);
+            }
+        }
 
+        if (! watching)
+        {
+            addPollingObserver(listener,
+                               fileToMonitor,
+                               new FileAlterationObserver(fileToMonitor.getAbsolutePath()),
+                               new FileMonitoringListener(listener));
+        }
 
         if (auditLog != null)
         {
@@ -120,13 +149,21 @@ public class FilesListenerManager
     public void unregisterFileListener(FileListenerInterface listener,
                                        File                  fileToMonitor) throws InvalidParameterException
     {
-        // todo add unregister logic
+        final String methodName = "unregisterFileListener";
+        final String listenerParameterName = "listener";
+        final String fileParameterName = "fileToMonitor";
+
+        validateParameter(listener, listenerParameterName, methodName);
+        validateParameter(fileToMonitor, fileParameterName, methodName);
+
+        this.removeListener(listener, fileToMonitor);
     }
 
 
     /**
      * Register a listener object that will be called each time a file is created, changed or deleted in a specific root directory.
-     * The file filter lets you request that only certain types of files are returned.
+     * The file filter lets you request that only certain types of files are returned.  Changes in the subdirectories that
+     * the file filter accepts are reported too, whether the directory is monitored through notifications or polling.
      *
      * @param listener           listener object
      * @param directoryToMonitor details of the file directory to monitor
@@ -145,18 +182,29 @@ public class FilesListenerManager
         validateParameter(listener, listenerParameterName, methodName);
         validateParameter(directoryToMonitor, directoryParameterName, methodName);
 
-        FileAlterationObserver observer = new FileAlterationObserver(directoryToMonitor.getAbsolutePath(), fileFilter);
-        FileAlterationListener managedListener = new FolderMonitoringListener(listener, false, fileFilter);
+        boolean watching = false;
 
-        /*
-         * The observer watches the specific file
-         */
-        observer.addListener(managedListener);
+        if (watchMonitor != null)
+        {
+            try
+            {
+                watchMonitor.registerDirectory(listener, directoryToMonitor, fileFilter, true);
+                logWatchServiceMonitoring(methodName, directoryToMonitor);
+                watching = true;
+            }
+            catch (IOException error)
+            {
+                logWatchServiceUnavailable(methodName, directoryToMonitor, error);
+            }
+        }
 
-        /*
-         * The monitor polls the observer at regular intervals.
-         */
-        monitor.addObserver(observer);
+        if (! watching)
+        {
+            addPollingObserver(listener,
+                               directoryToMonitor,
+                               new FileAlterationObserver(directoryToMonitor.getAbsolutePath(), fileFilter),
+                               new FolderMonitoringListener(listener, false, fileFilter));
+        }
 
         if (auditLog != null)
         {
@@ -178,7 +226,14 @@ public class FilesListenerManager
     public void unregisterDirectoryListener(FileDirectoryListenerInterface listener,
                                             File                           directoryToMonitor) throws InvalidParameterException
     {
-        // todo add unregister logic
+        final String methodName = "unregisterDirectoryListener";
+        final String listenerParameterName = "listener";
+        final String fileParameterName = "directoryToMonitor";
+
+        validateParameter(listener, listenerParameterName, methodName);
+        validateParameter(directoryToMonitor, fileParameterName, methodName);
+
+        this.removeListener(listener, directoryToMonitor);
     }
 
 
@@ -203,20 +258,29 @@ public class FilesListenerManager
         validateParameter(listener, listenerParameterName, methodName);
         validateParameter(directoryToMonitor, directoryParameterName, methodName);
 
-        FileAlterationObserver observer = new FileAlterationObserver(directoryToMonitor.getAbsolutePath(), fileFilter);
-        FileAlterationListener managedListener = new FolderMonitoringListener(listener, false, fileFilter);
-
-        /*
-         * The observer watches the specific file
-         */
-        observer.addListener(managedListener);
+        boolean watching = false;
 
-        /*
-         * The monitor polls the observer at regular intervals.
-         */
-        monitor.addObserver(observer);
+        if (watchMonitor != null)
+        {
+            try
+            {
+                watchMonitor.registerDirectory(listener, directoryToMonitor, fileFilter, true);
+                logWatchServiceMonitoring(methodName, directoryToMonitor);
+                watching = true;
+            }
+            catch (IOException error)
+            {
+                logWatchServiceUnavailable(methodName, directoryToMonitor, error);
+            }
+        }
 
-        // todo add monitoring of subdirectories?
+        if (! watching)
+        {
+            addPollingObserver(listener,
+                               directoryToMonitor,
+                               new FileAlterationObserver(directoryToMonitor.getAbsolutePath(), fileFilter),
+                               new FolderMonitoringListener(listener, false, fileFilter));
+        }
 
         if (auditLog != null)
         {
@@ -238,7 +302,14 @@ public class FilesListenerManager
     public void unregisterDirectoryTreeListener(FileDirectoryListenerInterface listener,
                                                 File                           directoryToMonitor) throws InvalidParameterException
     {
-        // todo add unregister logic
+        final String methodName = "unregisterDirectoryTreeListener";
+        final String listenerParameterName = "listener";
+        final String fileParameterName = "directoryToMonitor";
+
+        validateParameter(listener, listenerParameterName, methodName);
+        validateParameter(directoryToMonitor, fileParameterName, methodName);
+
+        this.removeListener(listener, directoryToMonitor);
     }
 
 
@@ -253,6 +324,11 @@ public class FilesListenerManager
 
         try
         {
+            if (watchMonitor != null)
+            {
+                watchMonitor.shutdown();
+            }
+
             monitor.stop(POLL_INTERVAL * 2);
 
             if (auditLog != null)
@@ -274,6 +350,243 @@ public class FilesListenerManager
     }
 
 
+    /**
+     * Return whether native file system notifications are in use.  Individual directories may still be polled.
+     *
+     * @return boolean
+     */
+    boolean isUsingNotifications()
+    {
+        return watchMonitor != null;
+    }
+
+
+    /**
+     * Create the monitor for native file system notifications unless polling has been requested or the file system
+     * does not support them.
+     *
+     * @return monitor or null to use polling
+     */
+    private FileWatchServiceMonitor createWatchMonitor()
+    {
+        if ((POLL_MODE.equalsIgnoreCase(System.getProperty(FILE_LISTENER_MODE_PROPERTY))) ||
+            (! FileWatchServiceMonitor.isNativeNotificationAvailable()))
+        {
+            return null;
+        }
+
+        try
+        {
+            return new FileWatchServiceMonitor(auditLog, connectorName, new WatchServicePollingFallback());
+        }
+        catch (IOException error)
+        {
+            log.debug("Unable to create watch service - using polling", error);
+
+            return null;
+        }
+    }
+
+
+    /**
+     * Add an observer to the polling monitor.
+     *
+     * @param listener listener object from the connector
+     * @param fileToMonitor file or directory to monitor
+     * @param observer observer for the file or directory
+     * @param managedListener wrapper for the listener
+     */
+    private void addPollingObserver(FileListenerInterface  listener,
+                                    File                   fileToMonitor,
+                                    FileAlterationObserver observer,
+                                    FileAlterationListener managedListener)
+    {
+        /*
+         * The observer watches the specific file or directory
+         */
+        observer.addListener(managedListener);
+
+        /*
+         * The monitor polls the observer at regular intervals.
+         */
+        monitor.addObserver(observer);
+
+        synchronized (pollingRegistrations)
+        {
+            pollingRegistrations.add(new PollingRegistration(listener, fileToMonitor.getAbsoluteFile(), observer));
+        }
+    }
+
+
+    /**
+     * Stop calling the listener for changes to the file or directory, whichever way it is being monitored.
+     *
+     * @param listener listener object from the connector
+     * @param fileToMonitor file or directory that was registered
+     */
+    private void removeListener(FileListenerInterface listener,
+                                File                  fileToMonitor)
+    {
+        if (watchMonitor != null)
+        {
+            watchMonitor.unregister(listener, fileToMonitor);
+        }
+
+        this.removePollingObservers(listener, fileToMonitor);
+    }
+
+
+    /**
+     * Remove the polling monitor's observers for a listener and file or directory.
+     *
+     * @param listener listener object from the connector
+     * @param fileToMonitor file or directory that was registered
+     */
+    private void removePollingObservers(FileListenerInterface listener,
+                                        File                  fileToMonitor)
+    {
+        File absoluteFile = fileToMonitor.getAbsoluteFile();
+
+        synchronized (pollingRegistrations)
+        {
+            Iterator<PollingRegistration> iterator = pollingRegistrations.iterator();
+
+            while (iterator.hasNext())
+            {
+                PollingRegistration registration = iterator.next();
+
+                if ((registration.listener == listener) && (registration.file.equals(absoluteFile)))
+                {
+                    monitor.removeObserver(registration.observer);
+                    iterator.remove();
+                }
+            }
+        }
+    }
+
+
+    /**
+     * Log that the file or directory is monitored through native notifications.
+     *
+     * @param methodName calling method
+     * @param fileToMonitor file or directory
+     */
+    private void logWatchServiceMonitoring(String methodName,
+                                           File   fileToMonitor)
+    {
+        if (auditLog != null)
+        {
+            auditLog.logMessage(methodName,
+                                OIFAuditCode.WATCH_SERVICE_MONITORING.getMessageDefinition(connectorName,
+                                                                                           fileToMonitor.getAbsolutePath()));
+        }
+    }
+
+
+    /**
+     * Log that the file or directory could not be registered with the watch service and will be polled.
+     *
+     * @param methodName calling method
+     * @param fileToMonitor file or directory
+     * @param error exception from the watch service
+     */
+    private void logWatchServiceUnavailable(String      methodName,
+                                            File        fileToMonitor,
+                                            IOException error)
+    {
+        if (auditLog != null)
+        {
+            auditLog.logMessage(methodName,
+                                OIFAuditCode.WATCH_SERVICE_UNAVAILABLE.getMessageDefinition(connectorName,
+                                                                                            fileToMonitor.getAbsolutePath(),
+                                                                                            error.getMessage()));
+        }
+    }
+
+
+    /**
+     * Polls the subdirectories that the watch service monitor is unable to watch.
+     */
+    private class WatchServicePollingFallback implements FileWatchServiceMonitor.PollingFallback
+    {
+        /**
+         * Start polling a directory tree on behalf of a registration.
+         *
+         * @param listener listener to call
+         * @param directory root of the tree to poll
+         * @param fileFilter optional filter restricting the files and directories reported
+         * @param reportExisting should the files already in the directory be reported as created?
+         */
+        @Override
+        public void startPolling(FileDirectoryListenerInterface listener,
+                                 File                           directory,
+                                 FileFilter                     fileFilter,
+                                 boolean                        reportExisting)
+        {
+            FileAlterationObserver observer = new FileAlterationObserver(directory.getAbsolutePath(), fileFilter);
+
+            if (! reportExisting)
+            {
+                try
+                {
+                    /*
+                     * Take the snapshot now so that only later changes are reported.
+                     */
+                    observer.initialize();
+                }
+                catch (Exception error)
+                {
+                    log.debug("Unable to initialize observer for " + directory, error);
+                }
+            }
+
+            addPollingObserver(listener, directory, observer, new FolderMonitoringListener(listener, false, fileFilter));
+        }
+
+
+        /**
+         * Stop polling a directory tree.
+         *
+         * @param listener listener passed on startPolling
+         * @param directory directory passed on startPolling
+         */
+        @Override
+        public void stopPolling(FileListenerInterface listener,
+                                File                  directory)
+        {
+            removePollingObservers(listener, directory);
+        }
+    }
+
+
+    /**
+     * Details of a listener registered with the polling monitor.
+     */
+    private static class PollingRegistration
+    {
+        private final FileListenerInterface  listener;
+        private final File                   file;
+        private final FileAlterationObserver observer;
+
+
+        /**
+         * Constructor.
+         *
+         * @param listener listener object from the connector
+         * @param file file or directory being monitored
+         * @param observer commons-io observer
+         */
+        PollingRegistration(FileListenerInterface  listener,
+                            File                   file,
+                            FileAlterationObserver observer)
+        {
+            this.listener = listener;
+            this.file     = file;
+            this.observer = observer;
+        }
+    }
+
+
     /**
      * Inner class for the directory listener logic
      */
@@ -0,0 +1,229 @@
+/* SPDX-License-Identifier: Apache-2.0 */
+/* Copyright Contributors to the ODPi Egeria project. */
+package org.odpi.openmetadata.frameworks.integration.filelistener;
+
+import org.testng.annotations.Test;
+
+import java.io.File;
+import java.nio.file.Files;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertFalse;
+import static org.testng.Assert.assertTrue;
+
+
+/**
+ * Verify that a directory listener sees the same changes whether the directory is monitored through native file
+ * system notifications or by polling.
+ */
+public class FilesListenerManagerTest
+{
+    private static final long WAIT_TIME = 10000; // milliseconds
+
+
+    /**
+     * Changes in a subdirectory are reported to a directory listener when notifications are used.
+     *
+     * @throws Exception test failure
+     */
+    @Test
+    public void testDirectoryListenerWithNotifications() throws Exception
+    {
+        FilesListenerManager manager = new FilesListenerManager(null, "testConnector");
+
+        try
+        {
+            assertTrue(manager.isUsingNotifications());
+            this.checkDirectoryListener(manager);
+        }
+        finally
+        {
+            manager.disconnect();
+        }
+    }
+
+
+    /**
+     * Changes in a subdirectory are reported to a directory listener when polling is used.
+     *
+     * @throws Exception test failure
+     */
+    @Test
+    public void testDirectoryListenerWithPolling() throws Exception
+    {
+        FilesListenerManager manager;
+
+        System.setProperty(FilesListenerManager.FILE_LISTENER_MODE_PROPERTY, FilesListenerManager.POLL_MODE);
+
+        try
+        {
+            manager = new FilesListenerManager(null, "testConnector");
+        }
+        finally
+        {
+            System.clearProperty(FilesListenerManager.FILE_LISTENER_MODE_PROPERTY);
+        }
+
+        try
+        {
+            assertFalse(manager.isUsingNotifications());
+            this.checkDirectoryListener(manager);
+        }
+        finally
+        {
+            manager.disconnect();
+        }
+    }
+
+
+    /**
+     * Network file systems are recognized so that they are polled.
+     */
+    @Test
+    public void testNetworkFileSystemTypes()
+    {
+        assertTrue(FileWatchServiceMonitor.isNetworkFileSystemType("nfs"));
+        assertTrue(FileWatchServiceMonitor.isNetworkFileSystemType("nfs4"));
+        assertTrue(FileWatchServiceMonitor.isNetworkFileSystemType("cifs"));
+        assertTrue(FileWatchServiceMonitor.isNetworkFileSystemType("smb3"));
+        assertTrue(FileWatchServiceMonitor.isNetworkFileSystemType("fuse.sshfs"));
+        assertFalse(FileWatchServiceMonitor.isNetworkFileSystemType("ext4"));
+        assertFalse(FileWatchServiceMonitor.isNetworkFileSystemType("xfs"));
+        assertFalse(FileWatchServiceMonitor.isNetworkFileSystemType("tmpfs"));
+        assertFalse(FileWatchServiceMonitor.isNetworkFileSystemType(null));
+    }
+
+
+    /**
+     * Register a directory listener and check that the creation, change and deletion of a file in a new
+     * subdirectory are reported.
+     *
+     * @param manager manager to test
+     * @throws Exception test failure
+     */
+    private void checkDirectoryListener(FilesListenerManager manager) throws Exception
+    {
+        File              root     = Files.createTempDirectory("files-listener").toFile();
+        RecordingListener listener = new RecordingListener();
+
+        try
+        {
+            manager.registerDirectoryListener(listener, root, null);
+
+            File subdirectory = new File(root, "subdirectory");
+            File file         = new File(subdirectory, "data.csv");
+
+            assertTrue(subdirectory.mkdir());
+            this.waitFor(listener, "DIRECTORY_CREATE " + subdirectory.getAbsolutePath());
+
+            Files.writeString(file.toPath(), "a,b,c\n");
+            this.waitFor(listener, "FILE_CREATE " + file.getAbsolutePath());
+
+            Files.writeString(file.toPath(), "a,b,c\n1,2,3\n");
+            assertTrue(file.setLastModified(file.lastModified() + 2000));
+            this.waitFor(listener, "FILE_CHANGE " + file.getAbsolutePath());
+
+            assertTrue(file.delete());
+            this.waitFor(listener, "FILE_DELETE " + file.getAbsolutePath());
+
+            manager.unregisterDirectoryListener(listener, root);
+        }
+        finally
+        {
+            File[] files = root.listFiles();
+
+            if (files != null)
+            {
+                for (File file : files)
+                {
+                    Files.deleteIfExists(file.toPath());
+                }
+            }
+
+            Files.deleteIfExists(root.toPath());
+        }
+    }
+
+
+    /**
+     * Wait for the listener to record a change.
+     *
+     * @param listener listener to test
+     * @param expectedEvent description of the change
+     * @throws InterruptedException interrupted while waiting
+     */
+    private void waitFor(RecordingListener listener,
+                         String            expectedEvent) throws InterruptedException
+    {
+        long endTime = System.currentTimeMillis() + WAIT_TIME;
+
+        while ((! listener.contains(expectedEvent)) && (System.currentTimeMillis() < endTime))
+        {
+            Thread.sleep(50);
+        }
+
+        assertTrue(listener.contains(expectedEvent), "Missing " + expectedEvent + " in " + listener.getEvents());
+    }
+
+
+    /**
+     * Records the changes it is called with.
+     */
+    private static class RecordingListener implements FileDirectoryListenerInterface
+    {
+        private final List<String> events = new ArrayList<>();
+
+        synchronized boolean contains(String event)
+        {
+            return events.contains(event);
+        }
+
+        synchronized List<String> getEvents()
+        {
+            return new ArrayList<>(events);
+        }
+
+        private synchronized void record(String changeType, File file)
+        {
+            events.add(changeType + " " + file.getAbsolutePath());
+        }
+
+        @Override
+        public void onFileCreate(File file)
+        {
+            record("FILE_CREATE", file);
+        }
+
+        @Override
+        public void onFileChange(File file)
+        {
+            record("FILE_CHANGE", file);
+        }
+
+        @Override
+        public void onFileDelete(File file)
+        {
+            record("FILE_DELETE", file);
+        }
+
+        @Override
+        public void onDirectoryCreate(File directory)
+        {
+            record("DIRECTORY_CREATE", directory);
+        }
+
+        @Override
+        public void onDirectoryChange(File directory)
+        {
+            record("DIRECTORY_CHANGE", directory);
+        }
+
+        @Override
+        public void onDirectoryDelete(File directory)
+        {
+            record("DIRECTORY_DELETE", directory);
+        }
+    }
+}
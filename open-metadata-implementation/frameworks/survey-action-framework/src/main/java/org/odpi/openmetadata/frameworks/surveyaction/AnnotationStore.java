@@ -176,6 +176,34 @@ public class AnnotationStore
     }
 
 
+    /**
+     * Return an annotation store that adds its annotations to the same survey report as this one, but keeps its own
+     * analysis step.  This is used by a survey action pipeline that runs its embedded survey action services
+     * concurrently.
+     *
+     * @return annotation store
+     */
+    public AnnotationStore getEmbeddedAnnotationStore()
+    {
+        AnnotationStore embeddedAnnotationStore = new AnnotationStore(userId,
+                                                                      openMetadataStore,
+                                                                      surveyReportGUID,
+                                                                      externalSourceGUID,
+                                                                      externalSourceName);
+
+        embeddedAnnotationStore.reportQualifiedName     = reportQualifiedName;
+        embeddedAnnotationStore.reportDisplayName       = reportDisplayName;
+        embeddedAnnotationStore.surveyDescription       = surveyDescription;
+        embeddedAnnotationStore.surveyPurpose           = surveyPurpose;
+        embeddedAnnotationStore.analysisStep            = analysisStep;
+        embeddedAnnotationStore.forLineage              = forLineage;
+        embeddedAnnotationStore.forDuplicateProcessing  = forDuplicateProcessing;
+        embeddedAnnotationStore.useCurrentEffectiveTime = useCurrentEffectiveTime;
+
+        return embeddedAnnotationStore;
+    }
+
+
     /**
      * Allow a subclass to override the survey report GUID.
      *
@@ -0,0 +1,474 @@
+/* SPDX-License-Identifier: Apache-2.0 */
+/* Copyright Contributors to the ODPi Egeria project. */
+package org.odpi.openmetadata.frameworks.surveyaction;
+
+import org.odpi.openmetadata.frameworks.auditlog.messagesets.AuditLogMessageDefinition;
+import org.odpi.openmetadata.frameworks.connectors.ffdc.ConnectorCheckedException;
+import org.odpi.openmetadata.frameworks.connectors.ffdc.InvalidParameterException;
+import org.odpi.openmetadata.frameworks.connectors.ffdc.PropertyServerException;
+import org.odpi.openmetadata.frameworks.connectors.ffdc.UserNotAuthorizedException;
+import org.odpi.openmetadata.frameworks.governanceaction.properties.CompletionStatus;
+import org.odpi.openmetadata.frameworks.governanceaction.properties.NewActionTarget;
+import org.odpi.openmetadata.frameworks.surveyaction.controls.SurveyPipelineConfigurationProperty;
+import org.odpi.openmetadata.frameworks.surveyaction.ffdc.SAFAuditCode;
+import org.odpi.openmetadata.frameworks.surveyaction.ffdc.SAFErrorCode;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletionService;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorCompletionService;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+/**
+ * ParallelSurveyPipeline is a survey action pipeline that runs its embedded survey action services concurrently.
+ * An embedded survey action service is started once the survey action services named in the dependsOn argument of
+ * its embedded connection have completed successfully.  The maxConcurrentSurveys configuration property limits the
+ * number of survey action services that run at the same time.
+ * Each embedded survey action service is given its own survey context that adds its annotations to the pipeline's
+ * survey report.  Their completion statuses are merged into the pipeline's survey context once they have all finished.
+ */
+public class ParallelSurveyPipeline extends SurveyActionPipelineConnector
+{
+    /**
+     * This implementation runs the supplied survey action services concurrently, respecting their dependencies.
+     *
+     * @throws ConnectorCheckedException there is a problem within the survey action service.
+     */
+    @Override
+    protected void runSurveyPipeline() throws ConnectorCheckedException
+    {
+        final String methodName = "runSurveyPipeline";
+
+        List<SurveyActionServiceConnector> surveyServices = new ArrayList<>();
+
+        for (SurveyActionServiceConnector embeddedSurveyService : super.embeddedSurveyActionServices)
+        {
+            if (embeddedSurveyService != null)
+            {
+                surveyServices.add(embeddedSurveyService);
+            }
+        }
+
+        List<String>       serviceNames = this.getServiceNames(surveyServices);
+        List<Set<Integer>> dependencies = this.getDependencies(surveyServices, serviceNames);
+
+        this.validateDependencies(serviceNames, dependencies);
+
+        int maxConcurrentSurveys = super.getIntConfigurationProperty(SurveyPipelineConfigurationProperty.MAX_CONCURRENT_SURVEYS.getName(),
+                                                                     connectionProperties.getConfigurationProperties());
+
+        if ((maxConcurrentSurveys <= 0) || (maxConcurrentSurveys > surveyServices.size()))
+        {
+            maxConcurrentSurveys = surveyServices.size();
+        }
+
+        SurveyContext[] embeddedSurveyContexts = new SurveyContext[surveyServices.size()];
+        Exception[]     failures               = new Exception[surveyServices.size()];
+        boolean[]       started                = new boolean[surveyServices.size()];
+        Set<Integer>    succeeded              = new HashSet<>();
+
+        final String threadName = surveyActionServiceName + "-survey";
+
+        ExecutorService executor = Executors.newFixedThreadPool(maxConcurrentSurveys, runnable ->
+        {
+            Thread thread = new Thread(runnable, threadName);
+            thread.setDaemon(true);
+            return thread;
+        });
+
+        CompletionService<Integer> completionService = new ExecutorCompletionService<>(executor);
+
+        try
+        {
+            int running = 0;
+
+            while (true)
+            {
+                /*
+                 * Start every survey action service whose dependencies have all completed successfully.
+                 */
+                for (int index = 0; index < surveyServices.size(); index++)
+                {
+                    if ((! started[index]) && (succeeded.containsAll(dependencies.get(index))))
+                    {
+                        final int serviceIndex = index;
+
+                        started[index] = true;
+                        embeddedSurveyContexts[index] = super.surveyContext.getEmbeddedSurveyContext(serviceNames.get(index));
+
+                        completionService.submit(() -> this.runSurveyService(serviceIndex,
+                                                                             surveyServices.get(serviceIndex),
+                                                                             serviceNames.get(serviceIndex),
+                                                                             embeddedSurveyContexts[serviceIndex],
+                                                                             failures));
+                        running++;
+                    }
+                }
+
+                if (running == 0)
+                {
+                    break;
+                }
+
+                int completedIndex = completionService.take().get();
+
+                running--;
+
+                if (failures[completedIndex] == null)
+                {
+                    succeeded.add(completedIndex);
+                }
+            }
+        }
+        catch (InterruptedException error)
+        {
+            Thread.currentThread().interrupt();
+            super.handleUnexpectedException(methodName, error);
+        }
+        catch (ExecutionException error)
+        {
+            super.handleUnexpectedException(methodName, error);
+        }
+        finally
+        {
+            executor.shutdownNow();
+        }
+
+        /*
+         * Any survey action service that has not started depends on one that failed.
+         */
+        for (int index = 0; index < surveyServices.size(); index++)
+        {
+            if ((! started[index]) && (auditLog != null))
+            {
+                for (int dependencyIndex : dependencies.get(index))
+                {
+                    if (! succeeded.contains(dependencyIndex))
+                    {
+                        auditLog.logMessage(methodName,
+                                            SAFAuditCode.EMBEDDED_SURVEY_SKIPPED.getMessageDefinition(serviceNames.get(index),
+                                                                                                      surveyActionServiceName,
+                                                                                                      serviceNames.get(dependencyIndex)));
+                        break;
+                    }
+                }
+            }
+        }
+
+        this.mergeCompletionStatus(embeddedSurveyContexts);
+
+        for (Exception failure : failures)
+        {
+            if (failure instanceof ConnectorCheckedException connectorCheckedException)
+            {
+                throw connectorCheckedException;
+            }
+            else if (failure != null)
+            {
+                super.handleUnexpectedException(methodName, failure);
+            }
+        }
+    }
+
+
+    /**
+     * Run one of the embedded survey action services.  This is called on one of the pipeline's threads.
+     *
+     * @param serviceIndex position of the survey action service in the list of embedded survey action services
+     * @param embeddedSurveyService survey action service to run
+     * @param serviceName name of the survey action service
+     * @param embeddedSurveyContext survey context for the survey action service
+     * @param failures array to record the exception from the survey action service
+     * @return position of the survey action service
+     */
+    private int runSurveyService(int                          serviceIndex,
+                                 SurveyActionServiceConnector embeddedSurveyService,
+                                 String                       serviceName,
+                                 SurveyContext                embeddedSurveyContext,
+                                 Exception[]                  failures)
+    {
+        final String methodName = "runSurveyService";
+
+        try
+        {
+            embeddedSurveyService.setSurveyContext(embeddedSurveyContext);
+            embeddedSurveyService.start();
+        }
+        catch (Exception error)
+        {
+            failures[serviceIndex] = error;
+
+            if (auditLog != null)
+            {
+                auditLog.logException(methodName,
+                                      SAFAuditCode.EMBEDDED_SURVEY_FAILED.getMessageDefinition(serviceName,
+                                                                                               surveyActionServiceName,
+                                                                                               error.getClass().getName(),
+                                                                                               error.getMessage()),
+                                      error);
+            }
+        }
+        finally
+        {
+            try
+            {
+                embeddedSurveyService.disconnect();
+            }
+            catch (Exception error)
+            {
+                if (failures[serviceIndex] == null)
+                {
+                    failures[serviceIndex] = error;
+                }
+            }
+        }
+
+        return serviceIndex;
+    }
+
+
+    /**
+     * Return the names of the embedded survey action services.  These are the names of their connections.
+     *
+     * @param surveyServices embedded survey action services
+     * @return list of names in the same order as the survey action services
+     */
+    private List<String> getServiceNames(List<SurveyActionServiceConnector> surveyServices)
+    {
+        List<String> serviceNames = new ArrayList<>();
+
+        for (SurveyActionServiceConnector surveyService : surveyServices)
+        {
+            String serviceName = null;
+
+            if (surveyService.getConnection() != null)
+            {
+                serviceName = surveyService.getConnection().getConnectionName();
+            }
+
+            if (serviceName == null)
+            {
+                serviceName = surveyService.getClass().getSimpleName();
+            }
+
+            serviceNames.add(serviceName);
+        }
+
+        return serviceNames;
+    }
+
+
+    /**
+     * Return the positions of the survey action services that each embedded survey action service depends on.
+     * These are named in the dependsOn argument of its embedded connection.
+     *
+     * @param surveyServices embedded survey action services
+     * @param serviceNames names of the embedded survey action services
+     * @return list of positions for each survey action service
+     * @throws ConnectorCheckedException a dependency names an unknown survey action service
+     */
+    private List<Set<Integer>> getDependencies(List<SurveyActionServiceConnector> surveyServices,
+                                               List<String>                       serviceNames) throws ConnectorCheckedException
+    {
+        final String methodName = "getDependencies";
+
+        Map<String, List<Integer>> serviceIndexes = new HashMap<>();
+
+        for (int index = 0; index < serviceNames.size(); index++)
+        {
+            serviceIndexes.computeIfAbsent(serviceNames.get(index), name -> new ArrayList<>()).add(index);
+        }
+
+        List<Set<Integer>> dependencies = new ArrayList<>();
+
+        for (int index = 0; index < surveyServices.size(); index++)
+        {
+            Set<Integer> serviceDependencies = new HashSet<>();
+
+            if (surveyServices.get(index).getConnection() != null)
+            {
+                List<String> dependsOn = super.getArrayConfigurationProperty(SurveyPipelineConfigurationProperty.DEPENDS_ON.getName(),
+                                                                             surveyServices.get(index).getConnection().getConfigurationProperties(),
+                                                                             null);
+
+                if (dependsOn != null)
+                {
+                    for (String dependencyName : dependsOn)
+                    {
+                        String trimmedName = dependencyName.trim();
+
+                        if (! trimmedName.isEmpty())
+                        {
+                            if (! serviceIndexes.containsKey(trimmedName))
+                            {
+                                throw new ConnectorCheckedException(SAFErrorCode.UNKNOWN_SURVEY_DEPENDENCY.getMessageDefinition(serviceNames.get(index),
+                                                                                                                                surveyActionServiceName,
+                                                                                                                                trimmedName),
+                                                                    this.getClass().getName(),
+                                                                    methodName);
+                            }
+
+                            serviceDependencies.addAll(serviceIndexes.get(trimmedName));
+                        }
+                    }
+                }
+            }
+
+            dependencies.add(serviceDependencies);
+        }
+
+        return dependencies;
+    }
+
+
+    /**
+     * Check that the dependencies between the embedded survey action services do not form a cycle, since the
+     * survey action services in a cycle would never start.
+     *
+     * @param serviceNames names of the embedded survey action services
+     * @param dependencies positions of the survey action services that each survey action service depends on
+     * @throws ConnectorCheckedException the dependencies form a cycle
+     */
+    private void validateDependencies(List<String>       serviceNames,
+                                      List<Set<Integer>> dependencies) throws ConnectorCheckedException
+    {
+        final String methodName = "validateDependencies";
+
+        Set<Integer> ordered  = new HashSet<>();
+        boolean      progress = true;
+
+        while (progress)
+        {
+            progress = false;
+
+            for (int index = 0; index < dependencies.size(); index++)
+            {
+                if ((! ordered.contains(index)) && (ordered.containsAll(dependencies.get(index))))
+                {
+                    ordered.add(index);
+                    progress = true;
+                }
+            }
+        }
+
+        if (ordered.size() < dependencies.size())
+        {
+            List<String> cycleNames = new ArrayList<>();
+
+            for (int index = 0; index < dependencies.size(); index++)
+            {
+                if (! ordered.contains(index))
+                {
+                    cycleNames.add(serviceNames.get(index));
+                }
+            }
+
+            throw new ConnectorCheckedException(SAFErrorCode.CIRCULAR_SURVEY_DEPENDENCY.getMessageDefinition(cycleNames.toString(),
+                                                                                                             surveyActionServiceName),
+                                                this.getClass().getName(),
+                                                methodName);
+        }
+    }
+
+
+    /**
+     * Merge the completion statuses recorded by the embedded survey action services into the pipeline's survey
+     * context.  The most severe status is used, along with the guards and message from the survey action services
+     * that reported it.  The request parameters and action targets from all the survey action services are passed on.
+     *
+     * @param embeddedSurveyContexts survey contexts of the embedded survey action services (null if not run)
+     * @throws ConnectorCheckedException unable to record the completion status
+     */
+    private void mergeCompletionStatus(SurveyContext[] embeddedSurveyContexts) throws ConnectorCheckedException
+    {
+        final String methodName = "mergeCompletionStatus";
+
+        CompletionStatus          completionStatus  = null;
+        AuditLogMessageDefinition completionMessage = null;
+        Set<String>               completionGuards  = new LinkedHashSet<>();
+        Map<String, String>       requestParameters = new HashMap<>();
+        List<NewActionTarget>     actionTargets     = new ArrayList<>();
+
+        for (SurveyContext embeddedSurveyContext : embeddedSurveyContexts)
+        {
+            if ((embeddedSurveyContext != null) && (embeddedSurveyContext.getCompletionStatus() != null))
+            {
+                if ((completionStatus == null) ||
+                        (this.getSeverity(embeddedSurveyContext.getCompletionStatus()) > this.getSeverity(completionStatus)))
+                {
+                    completionStatus  = embeddedSurveyContext.getCompletionStatus();
+                    completionMessage = embeddedSurveyContext.getCompletionMessage();
+                }
+            }
+        }
+
+        if (completionStatus == null)
+        {
+            return;
+        }
+
+        for (SurveyContext embeddedSurveyContext : embeddedSurveyContexts)
+        {
+            if (embeddedSurveyContext != null)
+            {
+                if ((embeddedSurveyContext.getCompletionStatus() == completionStatus) &&
+                        (embeddedSurveyContext.getCompletionGuards() != null))
+                {
+                    completionGuards.addAll(embeddedSurveyContext.getCompletionGuards());
+                }
+
+                if (embeddedSurveyContext.getCompletionRequestParameters() != null)
+                {
+                    requestParameters.putAll(embeddedSurveyContext.getCompletionRequestParameters());
+                }
+
+                if (embeddedSurveyContext.getCompletionActionTargets() != null)
+                {
+                    actionTargets.addAll(embeddedSurveyContext.getCompletionActionTargets());
+                }
+            }
+        }
+
+        try
+        {
+            super.surveyContext.recordCompletionStatus(completionStatus,
+                                                       completionGuards.isEmpty() ? null : new ArrayList<>(completionGuards),
+                                                       requestParameters.isEmpty() ? null : requestParameters,
+                                                       actionTargets.isEmpty() ? null : actionTargets,
+                                                       completionMessage);
+        }
+        catch (InvalidParameterException | UserNotAuthorizedException | PropertyServerException error)
+        {
+            super.handleUnexpectedException(methodName, error);
+        }
+    }
+
+
+    /**
+     * Return how severe a completion status is when merging the results of the embedded survey action services.
+     *
+     * @param completionStatus completion status
+     * @return higher values for more severe statuses
+     */
+    private int getSeverity(CompletionStatus completionStatus)
+    {
+        switch (completionStatus)
+        {
+            case FAILED:
+                return 3;
+            case INVALID:
+                return 2;
+            case OTHER:
+                return 1;
+            default:
+                return 0;
+        }
+    }
+}
@@ -0,0 +1,73 @@
+/* SPDX-License-Identifier: Apache-2.0 */
+/* Copyright Contributors to the ODPi Egeria project. */
+
+package org.odpi.openmetadata.frameworks.surveyaction;
+
+import org.odpi.openmetadata.frameworks.auditlog.AuditLogReportingComponent;
+import org.odpi.openmetadata.frameworks.auditlog.ComponentDevelopmentStatus;
+import org.odpi.openmetadata.frameworks.connectors.properties.beans.ConnectorType;
+import org.odpi.openmetadata.frameworks.surveyaction.controls.SurveyPipelineConfigurationProperty;
+
+/**
+ * ParallelSurveyPipelineProvider is the provider for the ParallelSurveyPipeline - a survey action pipeline connector
+ * that runs its embedded survey action services concurrently.
+ */
+public class ParallelSurveyPipelineProvider extends SurveyActionServiceProvider
+{
+    /*
+     * Unique identifier of the connector for the audit log.
+     */
+    private static final int    connectorComponentId   = 686;
+
+    /*
+     * Descriptive information about the connector for the connector type and audit log.
+     */
+    private static final String  connectorTypeGUID = "54008c11-d101-4a7a-a467-4a7c4d63ab53";
+    private static final String  connectorTypeQualifiedName = "Egeria:SurveyActionService:ParallelSurveyPipelineService";
+    private static final String  connectorTypeName = "Parallel Survey Pipeline Connector";
+    private static final String  connectorTypeDescription = "Connector supports the concurrent execution of survey action services, with dependencies between them.";
+    private static final String  connectorWikiPage  = "https://egeria-project.org/connectors/survey-action/parallel-survey-pipeline-service/";
+
+
+    /*
+     * Class of the connector.
+     */
+    private static final String connectorClass = "org.odpi.openmetadata.frameworks.surveyaction.ParallelSurveyPipeline";
+
+    /**
+     * Constructor used to initialize the ConnectorProviderBase with the Java class name of the specific
+     * survey action service implementation.
+     */
+    public ParallelSurveyPipelineProvider()
+    {
+        super.setConnectorClassName(connectorClass);
+
+        super.supportedConfigurationProperties = SurveyPipelineConfigurationProperty.getConfigurationPropertyTypes();
+
+        ConnectorType connectorType = new ConnectorType();
+        connectorType.setType(ConnectorType.getConnectorTypeType());
+        connectorType.setGUID(connectorTypeGUID);
+        connectorType.setQualifiedName(connectorTypeQualifiedName);
+        connectorType.setDisplayName(connectorTypeName);
+        connectorType.setDescription(connectorTypeDescription);
+        connectorType.setConnectorProviderClassName(this.getClass().getName());
+        connectorType.setSupportedAssetTypeName(supportedAssetTypeName);
+        connectorType.setSupportedDeployedImplementationType(supportedDeployedImplementationType);
+        connectorType.setRecognizedConfigurationProperties(SurveyPipelineConfigurationProperty.getRecognizedConfigurationProperties());
+
+        super.connectorTypeBean = connectorType;
+
+        /*
+         * Set up the component description used in the connector's audit log messages.
+         */
+        AuditLogReportingComponent componentDescription = new AuditLogReportingComponent();
+
+        componentDescription.setComponentId(connectorComponentId);
+        componentDescription.setComponentDevelopmentStatus(ComponentDevelopmentStatus.TECHNICAL_PREVIEW);
+        componentDescription.setComponentName(connectorTypeName);
+        componentDescription.setComponentDescription(connectorTypeDescription);
+        componentDescription.setComponentWikiURL(connectorWikiPage);
+
+        super.setConnectorComponentDescription(componentDescription);
+    }
+}
@@ -211,6 +211,30 @@ public class SurveyContext
     }
 
 
+    /**
+     * Return a survey context for an embedded survey action service that is run concurrently with other survey
+     * action services by a survey action pipeline.  The new context shares the asset, request and stores of this
+     * context, and its annotations are added to the same survey report.  It has its own analysis step, completion
+     * status and active flag, so the embedded survey action services do not overwrite each other's results.
+     *
+     * @param embeddedServiceName name of the embedded survey action service
+     * @return survey context
+     */
+    public SurveyContext getEmbeddedSurveyContext(String embeddedServiceName)
+    {
+        return new SurveyContext(userId,
+                                 assetGUID,
+                                 requestParameters,
+                                 actionTargetElements,
+                                 assetStore,
+                                 annotationStore.getEmbeddedAnnotationStore(),
+                                 openMetadataStore,
+                                 embeddedServiceName,
+                                 requesterUserId,
+                                 auditLog);
+    }
+
+
     /**
      * Free up any resources held since the connector is no longer needed.
      */
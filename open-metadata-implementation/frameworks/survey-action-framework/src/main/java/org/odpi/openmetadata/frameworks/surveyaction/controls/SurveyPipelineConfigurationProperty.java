@@ -0,0 +1,186 @@
+/* SPDX-License-Identifier: Apache-2.0 */
+/* Copyright Contributors to the ODPi Egeria project. */
+
+package org.odpi.openmetadata.frameworks.surveyaction.controls;
+
+import org.odpi.openmetadata.frameworks.connectors.controls.ConfigurationPropertyType;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * SurveyPipelineConfigurationProperty provides definitions for the configuration properties used with the survey
+ * action pipelines.
+ */
+public enum SurveyPipelineConfigurationProperty
+{
+    /**
+     * The maximum number of embedded survey action services that the pipeline runs at the same time.
+     */
+    MAX_CONCURRENT_SURVEYS ("maxConcurrentSurveys",
+                            "The maximum number of embedded survey action services that the pipeline runs at the same time.  The default is to run all the services that are ready at the same time.",
+                            "integer",
+                            "4",
+                            false),
+
+    /**
+     * Set as an argument of an embedded connection to list the names of the embedded connections for the survey action
+     * services that must complete successfully before this survey action service runs.
+     */
+    DEPENDS_ON ("dependsOn",
+                "Set as an argument of an embedded connection to list the names of the embedded connections for the survey action services that must complete successfully before this survey action service runs.",
+                "array<string>",
+                "ProfileSurveyConnection,SchemaSurveyConnection",
+                false),
+
+    ;
+
+    public final String  name;
+    public final String  description;
+    public final String  dataType;
+    public final String  example;
+    public final boolean isRequired;
+
+
+    /**
+     * Create a specific Enum constant.
+     *
+     * @param name name of the configuration property
+     * @param description description of the configuration property
+     * @param dataType type of value of the configuration property
+     * @param example example of the configuration property
+     * @param isRequired is this property required?
+     */
+    SurveyPipelineConfigurationProperty(String  name,
+                                        String  description,
+                                        String  dataType,
+                                        String  example,
+                                        boolean isRequired)
+    {
+        this.name          = name;
+        this.description   = description;
+        this.dataType      = dataType;
+        this.example       = example;
+        this.isRequired    = isRequired;
+    }
+
+
+    /**
+     * Return the name of the configuration property.
+     *
+     * @return string name
+     */
+    public String getName()
+    {
+        return name;
+    }
+
+
+    /**
+     * Return the description of the configuration property.
+     *
+     * @return text
+     */
+    public String getDescription()
+    {
+        return description;
+    }
+
+
+    /**
+     * Return the data type for the configuration property.
+     *
+     * @return data type name
+     */
+    public String getDataType()
+    {
+        return dataType;
+    }
+
+
+    /**
+     * Return an example of the configuration property to help users understand how to set it up.
+     *
+     * @return example
+     */
+    public String getExample()
+    {
+        return example;
+    }
+
+
+    /**
+     * Return whether this value is required.
+     *
+     * @return boolean
+     */
+    public boolean isRequired()
+    {
+        return isRequired;
+    }
+
+
+    /**
+     * Retrieve all the defined configuration properties
+     *
+     * @return list of configuration property types
+     */
+    public static List<ConfigurationPropertyType> getConfigurationPropertyTypes()
+    {
+        List<ConfigurationPropertyType> configurationPropertyTypes = new ArrayList<>();
+
+        for (SurveyPipelineConfigurationProperty configurationProperty : SurveyPipelineConfigurationProperty.values())
+        {
+            configurationPropertyTypes.add(configurationProperty.getConfigurationPropertyType());
+        }
+
+        return configurationPropertyTypes;
+    }
+
+
+    /**
+     * Retrieve all the defined configuration property names
+     *
+     * @return list of configuration property types
+     */
+    public static List<String> getRecognizedConfigurationProperties()
+    {
+        List<String> configurationPropertyNames = new ArrayList<>();
+
+        for (SurveyPipelineConfigurationProperty configurationProperty : SurveyPipelineConfigurationProperty.values())
+        {
+            configurationPropertyNames.add(configurationProperty.getName());
+        }
+
+        return configurationPropertyNames;
+    }
+
+
+    /**
+     * Return a summary of this enum to use in a connector provider.
+     *
+     * @return configuration property type
+     */
+    public ConfigurationPropertyType getConfigurationPropertyType()
+    {
+        ConfigurationPropertyType configurationPropertyType = new ConfigurationPropertyType();
+
+        configurationPropertyType.setName(name);
+        configurationPropertyType.setDescription(description);
+        configurationPropertyType.setDataType(dataType);
+        configurationPropertyType.setExample(example);
+
+        return configurationPropertyType;
+    }
+
+    /**
+     * Output of this enum class and main value.
+     *
+     * @return string showing enum value
+     */
+    @Override
+    public String toString()
+    {
+        return "ConfigurationProperty{ name=" + name + "}";
+    }
+}
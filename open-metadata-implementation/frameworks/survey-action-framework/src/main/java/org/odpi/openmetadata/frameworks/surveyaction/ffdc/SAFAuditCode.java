@@ -112,6 +112,24 @@ public enum SAFAuditCode implements AuditLogMessageSet
               "The survey is unable to continue since it is unable to assess whether the data stored in the associated resource matches the desired schema because there are no schema attributes attached to the root schema.",
               "Update the asset to include the desired schema attributes and re-run this survey.  If you want to discover the asset's schema then use a different survey service."),
 
+    /**
+     * SAF-CONNECTOR-0010 - Embedded survey action service {0} in survey action pipeline {1} failed with exception {2} and message {3}
+     */
+    EMBEDDED_SURVEY_FAILED("SAF-CONNECTOR-0010",
+                           AuditLogRecordSeverityLevel.ERROR,
+                           "Embedded survey action service {0} in survey action pipeline {1} failed with exception {2} and message {3}",
+                           "The survey action pipeline continues to run the embedded survey action services that do not depend on the failed service.  It reports the failure when they are complete.",
+                           "Use the exception message to diagnose the cause of the failure.  Once the cause is resolved, retry the survey request."),
+
+    /**
+     * SAF-CONNECTOR-0011 - Embedded survey action service {0} in survey action pipeline {1} did not run because survey action service {2} that it depends on did not complete successfully
+     */
+    EMBEDDED_SURVEY_SKIPPED("SAF-CONNECTOR-0011",
+                            AuditLogRecordSeverityLevel.ERROR,
+                            "Embedded survey action service {0} in survey action pipeline {1} did not run because survey action service {2} that it depends on did not complete successfully",
+                            "The survey action pipeline skips the survey action service and any survey action services that depend on it.",
+                            "Look for the error message from the survey action service that failed.  Once the cause is resolved, retry the survey request."),
+
 
     ;
 
@@ -98,6 +98,21 @@ public enum SAFErrorCode implements ExceptionMessageSet
                          "The survey is unable to continue since it is unable to assess whether the data stored in the associated resource matches the desired schema because there are no schema attributes attached to the root schema.",
                          "Update the asset to include the desired schema attributes and re-run this survey.  If you want to discover the asset's schema then use a different survey service."),
 
+    /**
+     * SURVEY-ACTION-SERVICE-400-009 - Embedded survey action service {0} in survey action pipeline {1} depends on {2}, which is not one of the pipeline's embedded survey action services
+     */
+    UNKNOWN_SURVEY_DEPENDENCY(400, "SURVEY-ACTION-SERVICE-400-009",
+                              "Embedded survey action service {0} in survey action pipeline {1} depends on {2}, which is not one of the pipeline's embedded survey action services",
+                              "The survey action pipeline is not able to determine the order in which to run its survey action services.",
+                              "Correct the dependsOn argument of the embedded connection so that it only names the other embedded connections of the pipeline.  Then retry the survey action request."),
+
+    /**
+     * SURVEY-ACTION-SERVICE-400-010 - The dependencies between embedded survey action services {0} in survey action pipeline {1} form a cycle
+     */
+    CIRCULAR_SURVEY_DEPENDENCY(400, "SURVEY-ACTION-SERVICE-400-010",
+                               "The dependencies between embedded survey action services {0} in survey action pipeline {1} form a cycle",
+                               "The survey action pipeline is not able to run these survey action services since each is waiting for another to complete.",
+                               "Correct the dependsOn arguments of the embedded connections to remove the cycle.  Then retry the survey action request."),
 
 
     /**
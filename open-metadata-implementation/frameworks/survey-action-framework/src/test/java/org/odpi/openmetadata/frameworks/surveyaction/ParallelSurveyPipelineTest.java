@@ -0,0 +1,420 @@
+/* SPDX-License-Identifier: Apache-2.0 */
+/* Copyright Contributors to the ODPi Egeria project. */
+package org.odpi.openmetadata.frameworks.surveyaction;
+
+import org.odpi.openmetadata.frameworks.auditlog.AuditLog;
+import org.odpi.openmetadata.frameworks.auditlog.AuditLogDestination;
+import org.odpi.openmetadata.frameworks.auditlog.AuditLogRecord;
+import org.odpi.openmetadata.frameworks.auditlog.ComponentDevelopmentStatus;
+import org.odpi.openmetadata.frameworks.connectors.Connector;
+import org.odpi.openmetadata.frameworks.connectors.ffdc.ConnectorCheckedException;
+import org.odpi.openmetadata.frameworks.connectors.properties.ConnectionProperties;
+import org.odpi.openmetadata.frameworks.connectors.properties.beans.Connection;
+import org.odpi.openmetadata.frameworks.governanceaction.properties.CompletionStatus;
+import org.odpi.openmetadata.frameworks.surveyaction.controls.SurveyPipelineConfigurationProperty;
+import org.odpi.openmetadata.frameworks.surveyaction.ffdc.SAFAuditCode;
+import org.odpi.openmetadata.frameworks.surveyaction.ffdc.SAFErrorCode;
+import org.testng.annotations.BeforeMethod;
+import org.testng.annotations.Test;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertFalse;
+import static org.testng.Assert.assertTrue;
+import static org.testng.Assert.fail;
+
+
+/**
+ * Verify that the parallel survey pipeline only starts an embedded survey action service once the services it
+ * depends on have completed successfully, rejects dependencies that it can not satisfy and respects its
+ * concurrency limit.  The embedded survey action services are stubs that record when they start and end.
+ */
+public class ParallelSurveyPipelineTest
+{
+    private static final String pipelineName = "TestPipeline";
+
+    private final List<String>  events       = Collections.synchronizedList(new ArrayList<>());
+    private final List<String>  messageIds   = Collections.synchronizedList(new ArrayList<>());
+    private final AtomicInteger running      = new AtomicInteger();
+    private final AtomicInteger maxRunning   = new AtomicInteger();
+
+    private SurveyContext       surveyContext = null;
+
+
+    /**
+     * Clear the results of the previous test.
+     */
+    @BeforeMethod
+    public void setUp()
+    {
+        events.clear();
+        messageIds.clear();
+        running.set(0);
+        maxRunning.set(0);
+
+        surveyContext = new TestSurveyContext(pipelineName);
+    }
+
+
+    /**
+     * Each survey action service starts after the services it depends on have ended, including a service that
+     * depends on two others.
+     *
+     * @throws Exception test failure
+     */
+    @Test
+    public void testDependenciesRunFirst() throws Exception
+    {
+        this.runPipeline(0,
+                         new TestSurveyService("D", "B,C", false),
+                         new TestSurveyService("B", "A", false),
+                         new TestSurveyService("C", "A", false),
+                         new TestSurveyService("A", null, false));
+
+        assertEquals(events.size(), 8);
+        assertTrue(events.indexOf("start:B") > events.indexOf("end:A"));
+        assertTrue(events.indexOf("start:C") > events.indexOf("end:A"));
+        assertTrue(events.indexOf("start:D") > events.indexOf("end:B"));
+        assertTrue(events.indexOf("start:D") > events.indexOf("end:C"));
+        assertEquals(surveyContext.getCompletionStatus(), CompletionStatus.ACTIONED);
+        assertTrue(messageIds.isEmpty());
+    }
+
+
+    /**
+     * Dependencies that form a cycle are rejected before any survey action service starts, even those that
+     * are not part of the cycle.
+     */
+    @Test
+    public void testCycleRejected()
+    {
+        try
+        {
+            this.runPipeline(0,
+                             new TestSurveyService("A", "C", false),
+                             new TestSurveyService("B", "A", false),
+                             new TestSurveyService("C", "B", false),
+                             new TestSurveyService("D", null, false));
+
+            fail("The cycle was not detected");
+        }
+        catch (ConnectorCheckedException error)
+        {
+            assertEquals(error.getReportedErrorMessageId(), SAFErrorCode.CIRCULAR_SURVEY_DEPENDENCY.getMessageDefinition().getMessageId());
+            assertTrue(error.getReportedErrorMessage().contains("[A, B, C]"));
+        }
+
+        assertTrue(events.isEmpty());
+    }
+
+
+    /**
+     * A survey action service that depends on itself is a cycle.
+     */
+    @Test
+    public void testSelfDependencyRejected()
+    {
+        try
+        {
+            this.runPipeline(0,
+                             new TestSurveyService("A", "A", false));
+
+            fail("The cycle was not detected");
+        }
+        catch (ConnectorCheckedException error)
+        {
+            assertEquals(error.getReportedErrorMessageId(), SAFErrorCode.CIRCULAR_SURVEY_DEPENDENCY.getMessageDefinition().getMessageId());
+        }
+
+        assertTrue(events.isEmpty());
+    }
+
+
+    /**
+     * A dependency on a survey action service that is not in the pipeline is rejected before any survey action
+     * service starts.
+     */
+    @Test
+    public void testUnknownDependencyRejected()
+    {
+        try
+        {
+            this.runPipeline(0,
+                             new TestSurveyService("A", null, false),
+                             new TestSurveyService("B", "A, Missing", false));
+
+            fail("The unknown dependency was not detected");
+        }
+        catch (ConnectorCheckedException error)
+        {
+            assertEquals(error.getReportedErrorMessageId(), SAFErrorCode.UNKNOWN_SURVEY_DEPENDENCY.getMessageDefinition().getMessageId());
+        }
+
+        assertTrue(events.isEmpty());
+    }
+
+
+    /**
+     * When a survey action service fails, the services that depend on it, directly or indirectly, are skipped
+     * while the other services still run.  The failure is reported once they have finished.
+     */
+    @Test
+    public void testFailedDependencySkipsDependents()
+    {
+        try
+        {
+            this.runPipeline(0,
+                             new TestSurveyService("A", null, true),
+                             new TestSurveyService("B", "A", false),
+                             new TestSurveyService("C", "B", false),
+                             new TestSurveyService("D", null, false));
+
+            fail("The failure was not reported");
+        }
+        catch (ConnectorCheckedException error)
+        {
+            assertTrue(error.getReportedErrorMessage().contains("Test failure in A"));
+        }
+
+        assertTrue(events.contains("end:A"));
+        assertTrue(events.contains("end:D"));
+        assertFalse(events.contains("start:B"));
+        assertFalse(events.contains("start:C"));
+        assertEquals(surveyContext.getCompletionStatus(), CompletionStatus.FAILED);
+        assertEquals(surveyContext.getCompletionGuards(), List.of("A-guard"));
+        assertEquals(Collections.frequency(messageIds, SAFAuditCode.EMBEDDED_SURVEY_FAILED.getMessageDefinition().getMessageId()), 1);
+        assertEquals(Collections.frequency(messageIds, SAFAuditCode.EMBEDDED_SURVEY_SKIPPED.getMessageDefinition().getMessageId()), 2);
+    }
+
+
+    /**
+     * No more than the configured number of survey action services run at the same time.
+     *
+     * @throws Exception test failure
+     */
+    @Test
+    public void testConcurrencyLimit() throws Exception
+    {
+        this.runPipeline(2,
+                         new TestSurveyService("A", null, false),
+                         new TestSurveyService("B", null, false),
+                         new TestSurveyService("C", null, false),
+                         new TestSurveyService("D", null, false),
+                         new TestSurveyService("E", null, false));
+
+        assertEquals(events.size(), 10);
+        assertEquals(maxRunning.get(), 2);
+    }
+
+
+    /**
+     * Without a concurrency limit, the survey action services that are ready all run at the same time.
+     *
+     * @throws Exception test failure
+     */
+    @Test
+    public void testNoConcurrencyLimit() throws Exception
+    {
+        this.runPipeline(0,
+                         new TestSurveyService("A", null, false),
+                         new TestSurveyService("B", null, false),
+                         new TestSurveyService("C", null, false));
+
+        assertEquals(events.size(), 6);
+        assertEquals(maxRunning.get(), 3);
+    }
+
+
+    /**
+     * Run a parallel survey pipeline with the supplied embedded survey action services.
+     *
+     * @param maxConcurrentSurveys value for the maxConcurrentSurveys configuration property (0 for not set)
+     * @param surveyServices embedded survey action services
+     * @throws ConnectorCheckedException the pipeline failed
+     */
+    private void runPipeline(int                  maxConcurrentSurveys,
+                             TestSurveyService... surveyServices) throws ConnectorCheckedException
+    {
+        Connection connection = new Connection();
+
+        connection.setQualifiedName(pipelineName);
+
+        if (maxConcurrentSurveys > 0)
+        {
+            Map<String, Object> configurationProperties = new HashMap<>();
+
+            configurationProperties.put(SurveyPipelineConfigurationProperty.MAX_CONCURRENT_SURVEYS.getName(), maxConcurrentSurveys);
+            connection.setConfigurationProperties(configurationProperties);
+        }
+
+        AuditLog auditLog = new AuditLog(new TestAuditLogDestination(),
+                                         1,
+                                         ComponentDevelopmentStatus.IN_DEVELOPMENT,
+                                         "testComponent",
+                                         "test",
+                                         null);
+
+        ParallelSurveyPipeline pipeline = new ParallelSurveyPipeline();
+
+        pipeline.initialize("testPipeline", new ConnectionProperties(connection));
+        pipeline.setAuditLog(auditLog);
+        pipeline.setSurveyActionServiceName(pipelineName);
+        pipeline.setSurveyContext(surveyContext);
+        pipeline.initializeEmbeddedConnectors(new ArrayList<Connector>(List.of(surveyServices)));
+
+        try
+        {
+            pipeline.start();
+        }
+        finally
+        {
+            pipeline.disconnect();
+        }
+    }
+
+
+    /**
+     * Audit log destination that records the identifiers of the logged messages.
+     */
+    private class TestAuditLogDestination extends AuditLogDestination
+    {
+        /**
+         * Record the message identifier.
+         *
+         * @param logRecord log record
+         */
+        @Override
+        public void addLogRecord(AuditLogRecord logRecord)
+        {
+            messageIds.add(logRecord.getMessageId());
+        }
+    }
+
+
+    /**
+     * Survey context without any stores.  The embedded survey contexts are also stubs.
+     */
+    private static class TestSurveyContext extends SurveyContext
+    {
+        /**
+         * Constructor.
+         *
+         * @param surveyActionServiceName name of the survey action service
+         */
+        TestSurveyContext(String surveyActionServiceName)
+        {
+            super("testUser",
+                  "testAssetGUID",
+                  null,
+                  null,
+                  null,
+                  null,
+                  null,
+                  surveyActionServiceName,
+                  null,
+                  null);
+        }
+
+
+        /**
+         * Return a survey context for an embedded survey action service.
+         *
+         * @param embeddedServiceName name of the embedded survey action service
+         * @return survey context
+         */
+        @Override
+        public SurveyContext getEmbeddedSurveyContext(String embeddedServiceName)
+        {
+            return new TestSurveyContext(embeddedServiceName);
+        }
+    }
+
+
+    /**
+     * Embedded survey action service that records when it starts and ends and how many services are running
+     * at the same time.
+     */
+    private class TestSurveyService extends SurveyActionServiceConnector
+    {
+        private final String  serviceName;
+        private final boolean fails;
+
+
+        /**
+         * Constructor.
+         *
+         * @param serviceName name of the embedded connection
+         * @param dependsOn value for the dependsOn argument of the embedded connection (null for none)
+         * @param fails should the survey action service throw an exception
+         */
+        TestSurveyService(String  serviceName,
+                          String  dependsOn,
+                          boolean fails)
+        {
+            this.serviceName = serviceName;
+            this.fails       = fails;
+
+            Connection connection = new Connection();
+
+            connection.setQualifiedName(serviceName);
+
+            if (dependsOn != null)
+            {
+                Map<String, Object> configurationProperties = new HashMap<>();
+
+                configurationProperties.put(SurveyPipelineConfigurationProperty.DEPENDS_ON.getName(), dependsOn);
+                connection.setConfigurationProperties(configurationProperties);
+            }
+
+            super.initialize(serviceName, new ConnectionProperties(connection));
+        }
+
+
+        /**
+         * Record the start, wait long enough for the other services to overlap and record the completion status.
+         *
+         * @throws ConnectorCheckedException the survey action service is set up to fail
+         */
+        @Override
+        public void start() throws ConnectorCheckedException
+        {
+            final String methodName = "start";
+
+            super.start();
+
+            events.add("start:" + serviceName);
+            maxRunning.accumulateAndGet(running.incrementAndGet(), Math::max);
+
+            try
+            {
+                Thread.sleep(200);
+
+                surveyContext.recordCompletionStatus(fails ? CompletionStatus.FAILED : CompletionStatus.ACTIONED,
+                                                     List.of(serviceName + "-guard"),
+                                                     null,
+                                                     null,
+                                                     null);
+            }
+            catch (Exception error)
+            {
+                super.handleUnexpectedException(methodName, error);
+            }
+            finally
+            {
+                running.decrementAndGet();
+                events.add("end:" + serviceName);
+            }
+
+            if (fails)
+            {
+                super.handleUnexpectedException(methodName, new IllegalStateException("Test failure in " + serviceName));
+            }
+        }
+    }
+}
@@ -615,6 +615,25 @@ public enum IntegrationDaemonServicesAuditCode implements AuditLogMessageSet
                                           "track down and resolve the cause of the error and then restart the connector.  " +
                                            "The integration connector refresh thread will then continue to call the connector."),
 
+    /**
+     * INTEGRATION-DAEMON-SERVICES-0066 - The integration connector scheduler for integration daemon {0} has started with a maximum of {1} concurrent refresh calls and a maximum scheduling jitter of {2} milliseconds
+     */
+    CONNECTOR_SCHEDULER_STARTING("INTEGRATION-DAEMON-SERVICES-0066",
+                                 AuditLogRecordSeverityLevel.STARTUP,
+                                 "The integration connector scheduler for integration daemon {0} has started with a maximum of {1} concurrent refresh calls and a maximum scheduling jitter of {2} milliseconds",
+                                 "The scheduler calls refresh() on each integration connector when it is due, using a shared pool of worker threads.  " +
+                                         "Integration connectors that use blocking calls are engaged on their own thread.",
+                                 "Ensure that the concurrency limits are appropriate for the number of integration connectors and the capacity of the metadata server."),
+
+    /**
+     * INTEGRATION-DAEMON-SERVICES-0067 - The integration connector scheduler for integration daemon {0} is shutting down
+     */
+    CONNECTOR_SCHEDULER_TERMINATING("INTEGRATION-DAEMON-SERVICES-0067",
+                                    AuditLogRecordSeverityLevel.SHUTDOWN,
+                                    "The integration connector scheduler for integration daemon {0} is shutting down",
+                                    "The scheduler will stop calling the integration connectors hosted in this daemon.",
+                                    "Ensure that the scheduler terminates without errors."),
+
     ;
 
 
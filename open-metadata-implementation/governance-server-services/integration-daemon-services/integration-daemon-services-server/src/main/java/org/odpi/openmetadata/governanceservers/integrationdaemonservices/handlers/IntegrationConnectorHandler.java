@@ -19,8 +19,8 @@ import org.odpi.openmetadata.frameworks.openmetadata.enums.PermittedSynchronizat
 import org.odpi.openmetadata.governanceservers.integrationdaemonservices.ffdc.IntegrationDaemonServicesAuditCode;
 import org.odpi.openmetadata.governanceservers.integrationdaemonservices.properties.IntegrationConnectorReport;
 import org.odpi.openmetadata.governanceservers.integrationdaemonservices.properties.IntegrationConnectorStatus;
-import org.odpi.openmetadata.governanceservers.integrationdaemonservices.threads.IntegrationConnectorDedicatedThread;
-import org.odpi.openmetadata.governanceservers.integrationdaemonservices.threads.IntegrationConnectorRefreshThread;
+import org.odpi.openmetadata.governanceservers.integrationdaemonservices.threads.IntegrationConnectorScheduler;
+import org.odpi.openmetadata.governanceservers.integrationdaemonservices.threads.ScheduledIntegrationConnector;
 
 import java.util.Date;
 import java.util.Map;
@@ -35,22 +35,24 @@ public class IntegrationConnectorHandler
     /*
      * These values are set in the constructor and do not change.
      */
-    private final String                    integrationServiceFullName;
-    private final String                    integrationDaemonName;
-    private final String                    integrationConnectorId;
-    private       String                    integrationConnectorGUID;
-    private       String                    integrationConnectorName;
-    private       String                    integrationConnectorUserId;
-    private       Date                      startDate;
-    private       Date                      stopDate;
-    private       String                    metadataSourceQualifiedName;
-    private       PermittedSynchronization  permittedSynchronization;
-    private final boolean                   generateIntegrationReport;
-    private       Connection                connection;
-    private       boolean                   needDedicatedThread;
-    private       long                      minMinutesBetweenRefresh;
-    private final IntegrationContextManager contextManager;
-    private final AuditLog                  auditLog;
+    private final String                        integrationServiceFullName;
+    private final String                        integrationDaemonName;
+    private final String                        integrationConnectorId;
+    private       String                        integrationConnectorGUID;
+    private       String                        integrationConnectorName;
+    private       String                        integrationConnectorUserId;
+    private       Date                          startDate;
+    private       Date                          stopDate;
+    private       String                        metadataSourceQualifiedName;
+    private       PermittedSynchronization      permittedSynchronization;
+    private final boolean                       generateIntegrationReport;
+    private       Connection                    connection;
+    private       boolean                       needDedicatedThread;
+    private       long                          minMinutesBetweenRefresh;
+    private final IntegrationContextManager     contextManager;
+    private final IntegrationConnectorScheduler scheduler;
+    private final String                        integrationGroupName;
+    private final AuditLog                      auditLog;
 
 
     /*
@@ -60,8 +62,7 @@ public class IntegrationConnectorHandler
     private          IntegrationContextRefreshProxy      integrationContextRefreshProxy      = null;
     private          Connector                           genericConnector                    = null;
     private          IntegrationConnector                integrationConnector                = null;
-    private          IntegrationConnectorDedicatedThread integrationConnectorDedicatedThread = null;
-    private          IntegrationConnectorRefreshThread   integrationConnectorRefreshThread   = null;
+    private          ScheduledIntegrationConnector       scheduledConnector                  = null;
     private volatile IntegrationConnectorStatus          integrationConnectorStatus          = null;
     private volatile Date                                lastStatusChange                    = null;
     private volatile String                              failingExceptionMessage             = null;
@@ -87,24 +88,28 @@ public class IntegrationConnectorHandler
      * @param integrationServiceFullName full name of the integration service - used for messages
      * @param integrationDaemonName name of the integration daemon - used for messages
      * @param contextManager the specialized context manager for this connector's integration service
+     * @param scheduler scheduler that calls the connector
+     * @param integrationGroupName name of the integration group that the connector belongs to (null for an integration service)
      * @param auditLog logging destination
      */
-    IntegrationConnectorHandler(String                     connectorId,
-                                String                     connectorGUID,
-                                String                     connectorName,
-                                String                     connectorUserId,
-                                Date                       startDate,
-                                Date                       stopDate,
-                                long                       minMinutesBetweenRefresh,
-                                String                     metadataSourceQualifiedName,
-                                Connection                 connection,
-                                boolean                    usesBlockingCalls,
-                                PermittedSynchronization   permittedSynchronization,
-                                boolean                    generateIntegrationReport,
-                                String                     integrationServiceFullName,
-                                String                     integrationDaemonName,
-                                IntegrationContextManager  contextManager,
-                                AuditLog                   auditLog)
+    IntegrationConnectorHandler(String                        connectorId,
+                                String                        connectorGUID,
+                                String                        connectorName,
+                                String                        connectorUserId,
+                                Date                          startDate,
+                                Date                          stopDate,
+                                long                          minMinutesBetweenRefresh,
+                                String                        metadataSourceQualifiedName,
+                                Connection                    connection,
+                                boolean                       usesBlockingCalls,
+                                PermittedSynchronization      permittedSynchronization,
+                                boolean                       generateIntegrationReport,
+                                String                        integrationServiceFullName,
+                                String                        integrationDaemonName,
+                                IntegrationContextManager     contextManager,
+                                IntegrationConnectorScheduler scheduler,
+                                String                        integrationGroupName,
+                                AuditLog                      auditLog)
     {
         final String actionDescription = "Initializing integration connector";
 
@@ -123,6 +128,8 @@ public class IntegrationConnectorHandler
         this.permittedSynchronization    = permittedSynchronization;
         this.generateIntegrationReport   = generateIntegrationReport;
         this.contextManager              = contextManager;
+        this.scheduler                   = scheduler;
+        this.integrationGroupName        = integrationGroupName;
         this.auditLog                    = auditLog;
 
         this.reinitializeConnector(actionDescription);
@@ -420,28 +427,12 @@ public class IntegrationConnectorHandler
 
         try
         {
-            if (needDedicatedThread)
+            if (scheduledConnector != null)
             {
-                if (integrationConnectorDedicatedThread != null)
-                {
-                    integrationConnectorDedicatedThread.stop();
-                }
-
-                integrationConnectorDedicatedThread = new IntegrationConnectorDedicatedThread(integrationDaemonName, this, auditLog);
-
-                integrationConnectorDedicatedThread.start();
+                scheduledConnector.stop();
             }
-            else
-            {
-                if (integrationConnectorRefreshThread != null)
-                {
-                    integrationConnectorRefreshThread.stop();
-                }
 
-                integrationConnectorRefreshThread = new IntegrationConnectorRefreshThread(integrationDaemonName, this, auditLog);
-
-                integrationConnectorRefreshThread.start();
-            }
+            scheduledConnector = scheduler.schedule(this, integrationGroupName);
         }
         catch (Exception error)
         {
@@ -774,6 +765,14 @@ public class IntegrationConnectorHandler
         permittedSynchronization = registeredIntegrationConnectorElement.getRegistrationProperties().getPermittedSynchronization();
         minMinutesBetweenRefresh = registeredIntegrationConnectorElement.getRegistrationProperties().getRefreshTimeInterval();
 
+        /*
+         * The scheduler works out when the connector is next due from these values.
+         */
+        if (scheduledConnector != null)
+        {
+            scheduledConnector.wake();
+        }
+
         if (needDedicatedThread != registeredIntegrationConnectorElement.getProperties().getUsesBlockingCalls())
         {
             needDedicatedThread = registeredIntegrationConnectorElement.getProperties().getUsesBlockingCalls();
@@ -870,20 +869,15 @@ public class IntegrationConnectorHandler
      */
     private synchronized void resetConnectorHandler()
     {
-        if (integrationConnectorDedicatedThread != null)
-        {
-            integrationConnectorDedicatedThread.stop();
-        }
-
-        if (integrationConnectorRefreshThread != null)
+        if (scheduledConnector != null)
         {
-            integrationConnectorRefreshThread.stop();
+            scheduledConnector.stop();
         }
 
         this.updateStatus(null);
         this.genericConnector                    = null;
         this.integrationConnector                = null;
-        this.integrationConnectorDedicatedThread = null;
+        this.scheduledConnector                  = null;
         this.failingExceptionMessage             = null;
         this.lastRefreshTime                     = null;
     }
@@ -17,6 +17,7 @@ import org.odpi.openmetadata.governanceservers.integrationdaemonservices.propert
 import org.odpi.openmetadata.governanceservers.integrationdaemonservices.properties.IntegrationGroupStatus;
 import org.odpi.openmetadata.governanceservers.integrationdaemonservices.properties.IntegrationGroupSummary;
 import org.odpi.openmetadata.governanceservers.integrationdaemonservices.registration.IntegrationServiceRegistry;
+import org.odpi.openmetadata.governanceservers.integrationdaemonservices.threads.IntegrationConnectorScheduler;
 
 import java.util.ArrayList;
 import java.util.HashMap;
@@ -39,6 +40,7 @@ public class IntegrationGroupHandler
 
 
     private final GovernanceConfigurationClient configurationClient;        /* Initialized in constructor */
+    private final IntegrationConnectorScheduler scheduler;                  /* Initialized in constructor */
 
     private final IntegrationConnectorCacheMap           integrationConnectorLookupTable;
     private final Map<String, IntegrationContextManager> contextManagerMap;
@@ -55,6 +57,7 @@ public class IntegrationGroupHandler
      * @param serverName the name of the integration daemon server where the integration group is running
      * @param serverUserId user id for the server to use
      * @param configurationClient client to retrieve the configuration
+     * @param scheduler scheduler that calls the integration connectors
      * @param auditLog logging destination
      * @param maxPageSize maximum number of results that can be returned in a single request
      */
@@ -65,6 +68,7 @@ public class IntegrationGroupHandler
                                    String                                 serverName,
                                    String                                 serverUserId,
                                    GovernanceConfigurationClient          configurationClient,
+                                   IntegrationConnectorScheduler          scheduler,
                                    AuditLog                               auditLog,
                                    int                                    maxPageSize)
     {
@@ -75,6 +79,7 @@ public class IntegrationGroupHandler
         this.serverName                      = serverName;
         this.serverUserId                    = serverUserId;
         this.configurationClient             = configurationClient;
+        this.scheduler                       = scheduler;
         this.auditLog                        = auditLog;
         this.maxPageSize                     = maxPageSize;
     }
@@ -403,6 +408,8 @@ public class IntegrationGroupHandler
                                                                            integrationServiceName,
                                                                            serverName,
                                                                            contextManager,
+                                                                           scheduler,
+                                                                           integrationGroupName,
                                                                            auditLog);
                         /*
                          * This is a local list for status reporting
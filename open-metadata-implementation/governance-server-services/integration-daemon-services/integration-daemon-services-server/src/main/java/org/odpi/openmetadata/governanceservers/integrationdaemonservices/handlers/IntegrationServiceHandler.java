@@ -13,6 +13,7 @@ import org.odpi.openmetadata.governanceservers.integrationdaemonservices.ffdc.In
 import org.odpi.openmetadata.governanceservers.integrationdaemonservices.ffdc.IntegrationDaemonServicesErrorCode;
 import org.odpi.openmetadata.governanceservers.integrationdaemonservices.properties.IntegrationConnectorReport;
 import org.odpi.openmetadata.governanceservers.integrationdaemonservices.properties.IntegrationServiceSummary;
+import org.odpi.openmetadata.governanceservers.integrationdaemonservices.threads.IntegrationConnectorScheduler;
 
 import java.util.ArrayList;
 import java.util.List;
@@ -30,6 +31,7 @@ public class IntegrationServiceHandler
     private final String                    localServerUserId;             /* Initialized in constructor */
     private final IntegrationServiceConfig  serviceConfig;                 /* Initialized in constructor */
     private final IntegrationContextManager contextManager;                /* Initialized in constructor */
+    private final IntegrationConnectorScheduler scheduler;                 /* Initialized in constructor */
     private final AuditLog                  auditLog;                      /* Initialized in constructor */
 
     private final List<IntegrationConnectorHandler> connectorHandlers = new ArrayList<>();
@@ -42,18 +44,21 @@ public class IntegrationServiceHandler
      * @param localServerUserId userId for server requests
      * @param serviceConfig configuration for this specific integration service
      * @param contextManager context manager instance for this integration service
+     * @param scheduler scheduler that calls the integration connectors
      * @param auditLog logging destination
      */
-    public IntegrationServiceHandler(String                    localServerName,
-                                     String                    localServerUserId,
-                                     IntegrationServiceConfig  serviceConfig,
-                                     IntegrationContextManager contextManager,
-                                     AuditLog                  auditLog)
+    public IntegrationServiceHandler(String                        localServerName,
+                                     String                        localServerUserId,
+                                     IntegrationServiceConfig      serviceConfig,
+                                     IntegrationContextManager     contextManager,
+                                     IntegrationConnectorScheduler scheduler,
+                                     AuditLog                      auditLog)
     {
         this.localServerName       = localServerName;
         this.localServerUserId     = localServerUserId;
         this.serviceConfig         = serviceConfig;
         this.contextManager        = contextManager;
+        this.scheduler             = scheduler;
         this.auditLog              = auditLog;
     }
 
@@ -124,6 +129,8 @@ public class IntegrationServiceHandler
                                                                                                    serviceConfig.getIntegrationServiceFullName(),
                                                                                                    localServerName,
                                                                                                    contextManager,
+                                                                                                   scheduler,
+                                                                                                   null,
                                                                                                    auditLog);
 
                     connectorHandlers.add(connectorHandler);
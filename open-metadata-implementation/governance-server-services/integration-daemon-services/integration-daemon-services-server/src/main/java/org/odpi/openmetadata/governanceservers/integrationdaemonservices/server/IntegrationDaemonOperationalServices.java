@@ -20,6 +20,7 @@ import org.odpi.openmetadata.governanceservers.integrationdaemonservices.handler
 import org.odpi.openmetadata.governanceservers.integrationdaemonservices.handlers.IntegrationServiceHandler;
 import org.odpi.openmetadata.governanceservers.integrationdaemonservices.registration.IntegrationServiceRegistry;
 import org.odpi.openmetadata.governanceservers.integrationdaemonservices.threads.GroupConfigurationRefreshThread;
+import org.odpi.openmetadata.governanceservers.integrationdaemonservices.threads.IntegrationConnectorScheduler;
 import org.odpi.openmetadata.serveroperations.properties.OMAGServerServiceStatus;
 import org.odpi.openmetadata.serveroperations.properties.ServerActiveStatus;
 
@@ -45,6 +46,7 @@ public class IntegrationDaemonOperationalServices
 
     private AuditLog                        auditLog                  = null;
     private IntegrationDaemonInstance       integrationDaemonInstance = null;
+    private IntegrationConnectorScheduler   connectorScheduler        = null;
     private final Map<String, ServerActiveStatus> serviceStatusMap          = new HashMap<>();
 
     private final List<GroupConfigurationRefreshThread> configurationRefreshThreads = new ArrayList<>();
@@ -106,6 +108,11 @@ public class IntegrationDaemonOperationalServices
                                                           methodName);
             }
 
+            /*
+             * A single scheduler calls all the integration connectors hosted in this daemon.
+             */
+            connectorScheduler = new IntegrationConnectorScheduler(localServerName, auditLog);
+
             IntegrationConnectorCacheMap           daemonConnectorHandlers      = new IntegrationConnectorCacheMap();
             Map<String, IntegrationServiceHandler> integrationServiceHandlerMap = new HashMap<>();
 
@@ -168,6 +175,7 @@ public class IntegrationDaemonOperationalServices
                                                                                                             localServerUserId,
                                                                                                             integrationServiceConfig,
                                                                                                             contextManager,
+                                                                                                            connectorScheduler,
                                                                                                             auditLog);
 
                         List<IntegrationConnectorHandler> serviceConnectorHandlers = integrationServiceHandler.initialize();
@@ -253,6 +261,9 @@ public class IntegrationDaemonOperationalServices
                             integrationServiceNameMap.put(registeredServiceURLMarker, integrationServiceConfig.getIntegrationServiceFullName());
                         }
 
+                        connectorScheduler.setGroupLimit(integrationGroupConfig.getIntegrationGroupQualifiedName(),
+                                                         integrationGroupConfig.getMaxConcurrentRefreshes());
+
                         IntegrationGroupHandler groupHandler = new IntegrationGroupHandler(integrationGroupConfig.getIntegrationGroupQualifiedName(),
                                                                                            contextManagerMap,
                                                                                            integrationServiceNameMap,
@@ -260,6 +271,7 @@ public class IntegrationDaemonOperationalServices
                                                                                            localServerName,
                                                                                            localServerUserId,
                                                                                            configurationClient,
+                                                                                           connectorScheduler,
                                                                                            auditLog,
                                                                                            maxPageSize);
 
@@ -645,6 +657,11 @@ public class IntegrationDaemonOperationalServices
             integrationDaemonInstance.shutdown();
         }
 
+        if (connectorScheduler != null)
+        {
+            connectorScheduler.shutdown();
+        }
+
         for (String serviceName : serviceStatusMap.keySet())
         {
             serviceStatusMap.put(serviceName, ServerActiveStatus.INACTIVE);
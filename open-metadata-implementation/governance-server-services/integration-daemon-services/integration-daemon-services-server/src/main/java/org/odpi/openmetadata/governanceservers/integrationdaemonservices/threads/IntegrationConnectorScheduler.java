@@ -0,0 +1,616 @@
+/* SPDX-License-Identifier: Apache-2.0 */
+/* Copyright Contributors to the ODPi Egeria project. */
+
+package org.odpi.openmetadata.governanceservers.integrationdaemonservices.threads;
+
+import org.odpi.openmetadata.frameworks.auditlog.AuditLog;
+import org.odpi.openmetadata.governanceservers.integrationdaemonservices.ffdc.IntegrationDaemonServicesAuditCode;
+import org.odpi.openmetadata.governanceservers.integrationdaemonservices.handlers.IntegrationConnectorHandler;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.Date;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * IntegrationConnectorScheduler drives the integration connectors hosted by an integration daemon.  A single timer
+ * thread works out when each connector is next due to be refreshed and hands the refresh() call to a bounded pool of
+ * worker threads.  This replaces a polling thread per connector.  The size of the worker pool sets the maximum number
+ * of concurrent refresh calls for the whole daemon and an optional limit may be set for each integration group.
+ * A random jitter is added to each scheduled time so that connectors configured with the same refresh interval
+ * do not all call the metadata server at the same moment.
+ * <br><br>
+ * Connectors that use blocking calls have engage() called on a thread of their own since engage() does not return until the
+ * connector is stopped.
+ */
+public class IntegrationConnectorScheduler
+{
+    private static final Logger log = LoggerFactory.getLogger(IntegrationConnectorScheduler.class);
+
+    /**
+     * System property that sets the maximum number of refresh calls that may run concurrently in the integration daemon.
+     */
+    public static final String MAX_CONCURRENT_REFRESHES_PROPERTY = "integration.daemon.max.concurrent.refreshes";
+
+    /**
+     * System property that sets the maximum random delay (in milliseconds) added to each scheduled refresh.
+     */
+    public static final String MAX_JITTER_PROPERTY = "integration.daemon.refresh.jitter.millis";
+
+    private static final long defaultMaxJitterMillis = 5000;
+    private static final long retryDelayMillis       = 1000;
+    private static final long maxWaitMillis          = 60000;
+
+    private final String                    integrationDaemonName;
+    private final int                       maxConcurrentRefreshes;
+    private final long                      maxJitterMillis;
+    private final AuditLog                  auditLog;
+    private final ScheduledExecutorService  timer;
+    private final ExecutorService           refreshWorkers;
+    private final ExecutorService           dedicatedWorkers;
+    private final Map<String, Semaphore>    groupPermits = new ConcurrentHashMap<>();
+
+
+    /**
+     * Constructor takes the concurrency and jitter settings from the system properties, or uses the defaults.
+     *
+     * @param integrationDaemonName name of this integration daemon server
+     * @param auditLog logging destination
+     */
+    public IntegrationConnectorScheduler(String   integrationDaemonName,
+                                         AuditLog auditLog)
+    {
+        this(integrationDaemonName,
+             Integer.getInteger(MAX_CONCURRENT_REFRESHES_PROPERTY, Runtime.getRuntime().availableProcessors() * 4),
+             Long.getLong(MAX_JITTER_PROPERTY, defaultMaxJitterMillis),
+             auditLog);
+    }
+
+
+    /**
+     * Constructor supplies the concurrency and jitter settings.
+     *
+     * @param integrationDaemonName name of this integration daemon server
+     * @param maxConcurrentRefreshes maximum number of refresh() calls that may run at the same time
+     * @param maxJitterMillis maximum random delay added to each scheduled refresh
+     * @param auditLog logging destination
+     */
+    public IntegrationConnectorScheduler(String   integrationDaemonName,
+                                         int      maxConcurrentRefreshes,
+                                         long     maxJitterMillis,
+                                         AuditLog auditLog)
+    {
+        final String actionDescription = "Start integration connector scheduler";
+
+        this.integrationDaemonName  = integrationDaemonName;
+        this.maxConcurrentRefreshes = Math.max(1, maxConcurrentRefreshes);
+        this.maxJitterMillis        = Math.max(0, maxJitterMillis);
+        this.auditLog               = auditLog;
+
+        this.timer            = Executors.newSingleThreadScheduledExecutor(new NamedThreadFactory("::IntegrationConnectorScheduler"));
+        this.refreshWorkers   = Executors.newFixedThreadPool(this.maxConcurrentRefreshes, new NamedThreadFactory("::IntegrationConnectorRefresh:"));
+        this.dedicatedWorkers = Executors.newCachedThreadPool(new NamedThreadFactory("::DedicatedConnectorThread:"));
+
+        auditLog.logMessage(actionDescription,
+                            IntegrationDaemonServicesAuditCode.CONNECTOR_SCHEDULER_STARTING.getMessageDefinition(integrationDaemonName,
+                                                                                                                 Integer.toString(this.maxConcurrentRefreshes),
+                                                                                                                 Long.toString(this.maxJitterMillis)));
+    }
+
+
+    /**
+     * Set the maximum number of connectors from the named integration group that may be refreshing at the same time.
+     *
+     * @param integrationGroupName name of the integration group
+     * @param maxConcurrentRefreshes limit for the group - zero or less means only the daemon-wide limit applies
+     */
+    public void setGroupLimit(String integrationGroupName,
+                              int    maxConcurrentRefreshes)
+    {
+        if (integrationGroupName != null)
+        {
+            if (maxConcurrentRefreshes > 0)
+            {
+                groupPermits.put(integrationGroupName, new Semaphore(maxConcurrentRefreshes));
+            }
+            else
+            {
+                groupPermits.remove(integrationGroupName);
+            }
+        }
+    }
+
+
+    /**
+     * Start calling the connector.  Refresh-style connectors are called on the shared worker pool; connectors that use
+     * blocking calls are engaged on their own thread.
+     *
+     * @param connectorHandler wrapper for the connector
+     * @param integrationGroupName name of the integration group that the connector belongs to (null for integration services)
+     * @return handle used to stop calling the connector
+     */
+    public ScheduledIntegrationConnector schedule(IntegrationConnectorHandler connectorHandler,
+                                                  String                      integrationGroupName)
+    {
+        if (connectorHandler.needsDedicatedThread())
+        {
+            DedicatedConnector dedicatedConnector = new DedicatedConnector(connectorHandler);
+
+            dedicatedConnector.start();
+
+            return dedicatedConnector;
+        }
+        else
+        {
+            RefreshingConnector refreshingConnector = new RefreshingConnector(connectorHandler, integrationGroupName);
+
+            refreshingConnector.start();
+
+            return refreshingConnector;
+        }
+    }
+
+
+    /**
+     * Stop the scheduler and its worker threads.  Any refresh calls in progress are interrupted.
+     */
+    public void shutdown()
+    {
+        final String actionDescription = "Stop integration connector scheduler";
+
+        auditLog.logMessage(actionDescription,
+                            IntegrationDaemonServicesAuditCode.CONNECTOR_SCHEDULER_TERMINATING.getMessageDefinition(integrationDaemonName));
+
+        timer.shutdownNow();
+        refreshWorkers.shutdownNow();
+        dedicatedWorkers.shutdownNow();
+    }
+
+
+    /**
+     * Return a random delay to spread out calls that would otherwise happen at the same time.
+     *
+     * @return milliseconds between zero and the maximum jitter
+     */
+    long jitter()
+    {
+        if (maxJitterMillis == 0)
+        {
+            return 0;
+        }
+
+        return ThreadLocalRandom.current().nextLong(maxJitterMillis + 1);
+    }
+
+
+    /**
+     * Is the connector within its permitted run window?
+     *
+     * @param connectorHandler wrapper for the connector
+     * @param now current time
+     * @return boolean
+     */
+    private boolean isActive(IntegrationConnectorHandler connectorHandler,
+                             long                        now)
+    {
+        Date startDate = connectorHandler.getStartDate();
+        Date stopDate  = connectorHandler.getStopDate();
+
+        return ((startDate == null) || (now > startDate.getTime())) &&
+               ((stopDate == null)  || (now < stopDate.getTime()));
+    }
+
+
+    /**
+     * Manages the refresh() calls for a single connector.  Each pass through run() either refreshes the connector or
+     * works out how long to wait before it is due.  The connector handler calls wake() when the connector's
+     * registration properties (start/stop date and refresh interval) change.  The wait is also capped as a safeguard.
+     */
+    private class RefreshingConnector implements ScheduledIntegrationConnector, Runnable
+    {
+        private final IntegrationConnectorHandler connectorHandler;
+        private final String                      integrationGroupName;
+
+        private volatile boolean            running = true;
+        private volatile ScheduledFuture<?> nextCheck = null;
+
+
+        /**
+         * Constructor.
+         *
+         * @param connectorHandler wrapper for the connector
+         * @param integrationGroupName name of the integration group (or null)
+         */
+        RefreshingConnector(IntegrationConnectorHandler connectorHandler,
+                            String                      integrationGroupName)
+        {
+            this.connectorHandler     = connectorHandler;
+            this.integrationGroupName = integrationGroupName;
+        }
+
+
+        /**
+         * Schedule the first check - jittered so that connectors starting together do not refresh together.
+         */
+        void start()
+        {
+            final String actionDescription = "Periodic refresh of connector";
+
+            auditLog.logMessage(actionDescription,
+                                IntegrationDaemonServicesAuditCode.REFRESH_THREAD_STARTING.getMessageDefinition(connectorHandler.getIntegrationConnectorName()));
+
+            scheduleCheck(jitter());
+        }
+
+
+        /**
+         * Stop scheduling refresh calls for this connector.
+         */
+        @Override
+        public void stop()
+        {
+            final String actionDescription = "Periodic refresh of connector";
+
+            if (running)
+            {
+                running = false;
+
+                ScheduledFuture<?> pending = nextCheck;
+
+                if (pending != null)
+                {
+                    pending.cancel(false);
+                }
+
+                auditLog.logMessage(actionDescription,
+                                    IntegrationDaemonServicesAuditCode.REFRESH_THREAD_TERMINATING.getMessageDefinition(connectorHandler.getIntegrationConnectorName()));
+            }
+        }
+
+
+        /**
+         * Check straight away whether the connector is due for a refresh.  This runs on the timer thread so that it
+         * does not overlap a check in progress.  If the connector is being refreshed, nothing is done because the next
+         * check is scheduled when the refresh completes.
+         */
+        @Override
+        public void wake()
+        {
+            try
+            {
+                timer.execute(() ->
+                {
+                    ScheduledFuture<?> pending = nextCheck;
+
+                    if ((running) && (pending != null) && (pending.cancel(false)))
+                    {
+                        check();
+                    }
+                });
+            }
+            catch (RejectedExecutionException error)
+            {
+                log.debug("Wake rejected - scheduler is shutting down", error);
+            }
+        }
+
+
+        /**
+         * Runs on the timer thread.  Determine whether the connector is due for a refresh and, if so, pass it to
+         * the worker pool.
+         */
+        private void check()
+        {
+            if (! running)
+            {
+                return;
+            }
+
+            long now = System.currentTimeMillis();
+
+            if (! isActive(connectorHandler, now))
+            {
+                Date startDate = connectorHandler.getStartDate();
+
+                if ((startDate != null) && (startDate.getTime() > now))
+                {
+                    scheduleCheck(Math.min(startDate.getTime() - now, maxWaitMillis) + jitter());
+                }
+                else
+                {
+                    scheduleCheck(maxWaitMillis);
+                }
+
+                return;
+            }
+
+            Date lastRefreshTime          = connectorHandler.getLastRefreshTime();
+            long minMinutesBetweenRefresh = connectorHandler.getMinMinutesBetweenRefresh();
+
+            if (lastRefreshTime == null)
+            {
+                submitRefresh();
+            }
+            else if (minMinutesBetweenRefresh > 0)
+            {
+                long nextRefreshTime = lastRefreshTime.getTime() + (minMinutesBetweenRefresh * 60000);
+
+                if (nextRefreshTime < now)
+                {
+                    submitRefresh();
+                }
+                else
+                {
+                    scheduleCheck(Math.min(nextRefreshTime - now + jitter(), maxWaitMillis));
+                }
+            }
+            else
+            {
+                /*
+                 * No periodic refresh - keep watching in case the connector is restarted or its interval changes.
+                 */
+                scheduleCheck(maxWaitMillis);
+            }
+        }
+
+
+        /**
+         * Hand the refresh call to the worker pool.
+         */
+        private void submitRefresh()
+        {
+            try
+            {
+                refreshWorkers.execute(this);
+            }
+            catch (RejectedExecutionException error)
+            {
+                log.debug("Refresh rejected - scheduler is shutting down", error);
+            }
+        }
+
+
+        /**
+         * Runs on a worker thread.  Refresh the connector if the group limit allows it, and then schedule the next check.
+         */
+        @Override
+        public void run()
+        {
+            final String actionDescription = "Periodic refresh of connector";
+
+            if (! running)
+            {
+                return;
+            }
+
+            Semaphore permits = (integrationGroupName == null) ? null : groupPermits.get(integrationGroupName);
+
+            if ((permits != null) && (! permits.tryAcquire()))
+            {
+                scheduleCheck(retryDelayMillis + jitter());
+                return;
+            }
+
+            try
+            {
+                connectorHandler.refreshConnector(actionDescription);
+            }
+            catch (Exception error)
+            {
+                auditLog.logException(actionDescription,
+                                      IntegrationDaemonServicesAuditCode.REFRESH_THREAD_CONNECTOR_ERROR.getMessageDefinition(connectorHandler.getIntegrationConnectorName(),
+                                                                                                                             error.getClass().getName(),
+                                                                                                                             error.getMessage()),
+                                      error);
+            }
+            finally
+            {
+                if (permits != null)
+                {
+                    permits.release();
+                }
+            }
+
+            scheduleCheck(retryDelayMillis);
+        }
+
+
+        /**
+         * Arrange for check() to be called after the requested delay.
+         *
+         * @param delayMillis delay in milliseconds
+         */
+        private void scheduleCheck(long delayMillis)
+        {
+            if (running)
+            {
+                try
+                {
+                    nextCheck = timer.schedule(this::check, Math.max(delayMillis, retryDelayMillis), TimeUnit.MILLISECONDS);
+                }
+                catch (RejectedExecutionException error)
+                {
+                    log.debug("Check rejected - scheduler is shutting down", error);
+                }
+            }
+        }
+    }
+
+
+    /**
+     * Manages the engage() calls for a connector that uses blocking calls.  The connector is engaged on a dedicated thread
+     * and, if engage() returns, it is re-engaged after a short delay provided it is still within its run window.
+     */
+    private class DedicatedConnector implements ScheduledIntegrationConnector, Runnable
+    {
+        private final IntegrationConnectorHandler connectorHandler;
+
+        private volatile boolean running = true;
+
+
+        /**
+         * Constructor.
+         *
+         * @param connectorHandler wrapper for the connector
+         */
+        DedicatedConnector(IntegrationConnectorHandler connectorHandler)
+        {
+            this.connectorHandler = connectorHandler;
+        }
+
+
+        /**
+         * Start the dedicated thread.
+         */
+        void start()
+        {
+            final String actionDescription = "Run dedicated connector thread";
+
+            auditLog.logMessage(actionDescription,
+                                IntegrationDaemonServicesAuditCode.CONNECTOR_THREAD_STARTING.getMessageDefinition(connectorHandler.getIntegrationConnectorName(),
+                                                                                                                  integrationDaemonName));
+            scheduleEngage(0);
+        }
+
+
+        /**
+         * Stop re-engaging the connector.
+         */
+        @Override
+        public void stop()
+        {
+            final String actionDescription = "Run dedicated connector thread";
+
+            if (running)
+            {
+                running = false;
+
+                auditLog.logMessage(actionDescription,
+                                    IntegrationDaemonServicesAuditCode.CONNECTOR_THREAD_TERMINATING.getMessageDefinition(connectorHandler.getIntegrationConnectorName(),
+                                                                                                                         integrationDaemonName));
+            }
+        }
+
+
+        /**
+         * Nothing to do since the run window is checked each time the connector is re-engaged.
+         */
+        @Override
+        public void wake()
+        {
+        }
+
+
+        /**
+         * Runs on the dedicated thread.  Engage the connector if it is within its run window.
+         */
+        @Override
+        public void run()
+        {
+            final String actionDescription = "Run dedicated connector thread";
+
+            if (! running)
+            {
+                return;
+            }
+
+            if (isActive(connectorHandler, System.currentTimeMillis()))
+            {
+                connectorHandler.engageConnector(actionDescription);
+
+                auditLog.logMessage(actionDescription,
+                                    IntegrationDaemonServicesAuditCode.ENGAGE_RETURNED.getMessageDefinition(connectorHandler.getIntegrationConnectorName(),
+                                                                                                            integrationDaemonName));
+            }
+
+            scheduleEngage(retryDelayMillis);
+        }
+
+
+        /**
+         * Arrange for the connector to be engaged after the requested delay.
+         *
+         * @param delayMillis delay in milliseconds
+         */
+        private void scheduleEngage(long delayMillis)
+        {
+            if (running)
+            {
+                try
+                {
+                    timer.schedule(() -> submitEngage(), delayMillis, TimeUnit.MILLISECONDS);
+                }
+                catch (RejectedExecutionException error)
+                {
+                    log.debug("Engage rejected - scheduler is shutting down", error);
+                }
+            }
+        }
+
+
+        /**
+         * Pass the engage call to a dedicated thread.
+         */
+        private void submitEngage()
+        {
+            try
+            {
+                dedicatedWorkers.execute(this);
+            }
+            catch (RejectedExecutionException error)
+            {
+                log.debug("Engage rejected - scheduler is shutting down", error);
+            }
+        }
+    }
+
+
+    /**
+     * Names the threads created by the scheduler after the integration daemon.  The threads are daemon threads so
+     * that they do not hold up the JVM.
+     */
+    private class NamedThreadFactory implements ThreadFactory
+    {
+        private final String        threadName;
+        private final AtomicInteger threadNumber = new AtomicInteger(0);
+
+
+        /**
+         * Constructor.
+         *
+         * @param threadName suffix for the thread name
+         */
+        NamedThreadFactory(String threadName)
+        {
+            this.threadName = threadName;
+        }
+
+
+        /**
+         * Create a new thread.
+         *
+         * @param runnable work for the thread
+         * @return new thread
+         */
+        @Override
+        public Thread newThread(Runnable runnable)
+        {
+            Thread thread = new Thread(runnable, integrationDaemonName + threadName + threadNumber.incrementAndGet());
+
+            thread.setDaemon(true);
+
+            return thread;
+        }
+    }
+}
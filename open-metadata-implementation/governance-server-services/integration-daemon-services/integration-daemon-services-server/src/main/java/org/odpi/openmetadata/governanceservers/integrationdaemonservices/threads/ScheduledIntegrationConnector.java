@@ -0,0 +1,23 @@
+/* SPDX-License-Identifier: Apache-2.0 */
+/* Copyright Contributors to the ODPi Egeria project. */
+
+package org.odpi.openmetadata.governanceservers.integrationdaemonservices.threads;
+
+/**
+ * ScheduledIntegrationConnector is returned by the IntegrationConnectorScheduler when it starts calling an
+ * integration connector.  The connector handler uses it to stop the calls when the connector is restarted or shut down.
+ */
+public interface ScheduledIntegrationConnector
+{
+    /**
+     * Stop calling the connector.
+     */
+    void stop();
+
+
+    /**
+     * Work out again when the connector is next due to be called.  This is used when its start date, stop date or
+     * refresh interval has changed.
+     */
+    void wake();
+}
@@ -0,0 +1,273 @@
+/* SPDX-License-Identifier: Apache-2.0 */
+/* Copyright Contributors to the ODPi Egeria project. */
+package org.odpi.openmetadata.governanceservers.integrationdaemonservices.handlers;
+
+import org.odpi.openmetadata.frameworks.auditlog.AuditLog;
+import org.odpi.openmetadata.governanceservers.integrationdaemonservices.threads.IntegrationConnectorScheduler;
+
+import java.util.Date;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.AtomicInteger;
+
+
+/**
+ * StubIntegrationConnectorHandler stands in for the handler of a real integration connector when testing the
+ * integration connector scheduler.  It does not create a connector.  Instead, it records when the scheduler calls
+ * refresh and engage, and how many of these calls are running at the same time.
+ */
+public class StubIntegrationConnectorHandler extends IntegrationConnectorHandler
+{
+    private final boolean       usesBlockingCalls;
+    private final long          callDurationMillis;
+    private final AtomicInteger running;
+    private final AtomicInteger maxRunning;
+
+    private volatile Date       startDate;
+    private volatile Date       stopDate;
+    private volatile long       minMinutesBetweenRefresh;
+    private volatile Date       lastRefreshTime = null;
+    private volatile boolean    interrupted     = false;
+
+    private final List<Long>    callTimes = new CopyOnWriteArrayList<>();
+
+
+    /**
+     * Constructor.
+     *
+     * @param connectorName name of the connector
+     * @param usesBlockingCalls should the connector be engaged on a dedicated thread
+     * @param minMinutesBetweenRefresh refresh interval (0 for no periodic refresh)
+     * @param callDurationMillis how long each refresh or engage call takes
+     * @param running count of the calls in progress - shared by the connectors of a test
+     * @param maxRunning highest number of calls in progress at the same time - shared by the connectors of a test
+     * @param scheduler scheduler that calls the connector
+     * @param auditLog logging destination
+     */
+    public StubIntegrationConnectorHandler(String                        connectorName,
+                                           boolean                       usesBlockingCalls,
+                                           long                          minMinutesBetweenRefresh,
+                                           long                          callDurationMillis,
+                                           AtomicInteger                 running,
+                                           AtomicInteger                 maxRunning,
+                                           IntegrationConnectorScheduler scheduler,
+                                           AuditLog                      auditLog)
+    {
+        super(connectorName,
+              null,
+              connectorName,
+              "testUser",
+              null,
+              null,
+              minMinutesBetweenRefresh,
+              null,
+              null,
+              usesBlockingCalls,
+              null,
+              false,
+              "Test Integration Service",
+              "testDaemon",
+              null,
+              scheduler,
+              null,
+              auditLog);
+
+        this.usesBlockingCalls        = usesBlockingCalls;
+        this.minMinutesBetweenRefresh = minMinutesBetweenRefresh;
+        this.callDurationMillis       = callDurationMillis;
+        this.running                  = running;
+        this.maxRunning               = maxRunning;
+    }
+
+
+    /**
+     * The stub has no connector to create.  The test schedules the handler itself.
+     *
+     * @param actionDescription description of caller's operation
+     */
+    @Override
+    public synchronized void reinitializeConnector(String actionDescription)
+    {
+    }
+
+
+    /**
+     * Return whether the connector is engaged on a dedicated thread.
+     *
+     * @return boolean
+     */
+    @Override
+    public boolean needsDedicatedThread()
+    {
+        return usesBlockingCalls;
+    }
+
+
+    /**
+     * Return the earliest time that the connector can run.
+     *
+     * @return date or null
+     */
+    @Override
+    public Date getStartDate()
+    {
+        return startDate;
+    }
+
+
+    /**
+     * Set the earliest time that the connector can run.
+     *
+     * @param startDate date or null
+     */
+    public void setStartDate(Date startDate)
+    {
+        this.startDate = startDate;
+    }
+
+
+    /**
+     * Return the latest time that the connector can run.
+     *
+     * @return date or null
+     */
+    @Override
+    public Date getStopDate()
+    {
+        return stopDate;
+    }
+
+
+    /**
+     * Set the latest time that the connector can run.
+     *
+     * @param stopDate date or null
+     */
+    public void setStopDate(Date stopDate)
+    {
+        this.stopDate = stopDate;
+    }
+
+
+    /**
+     * Return the refresh interval.
+     *
+     * @return minutes
+     */
+    @Override
+    public long getMinMinutesBetweenRefresh()
+    {
+        return minMinutesBetweenRefresh;
+    }
+
+
+    /**
+     * Set the refresh interval.
+     *
+     * @param minMinutesBetweenRefresh minutes
+     */
+    public void setMinMinutesBetweenRefresh(long minMinutesBetweenRefresh)
+    {
+        this.minMinutesBetweenRefresh = minMinutesBetweenRefresh;
+    }
+
+
+    /**
+     * Return the time of the last refresh.
+     *
+     * @return date or null
+     */
+    @Override
+    public Date getLastRefreshTime()
+    {
+        return lastRefreshTime;
+    }
+
+
+    /**
+     * Set the time of the last refresh, as if the connector had been refreshed at that time.
+     *
+     * @param lastRefreshTime date or null
+     */
+    public void setLastRefreshTime(Date lastRefreshTime)
+    {
+        this.lastRefreshTime = lastRefreshTime;
+    }
+
+
+    /**
+     * Record the refresh call.
+     *
+     * @param actionDescription external caller's activity
+     */
+    @Override
+    public void refreshConnector(String actionDescription)
+    {
+        this.recordCall();
+
+        if (minMinutesBetweenRefresh > 0)
+        {
+            lastRefreshTime = new Date();
+        }
+    }
+
+
+    /**
+     * Record the engage call.
+     *
+     * @param actionDescription external caller's activity
+     */
+    @Override
+    public void engageConnector(String actionDescription)
+    {
+        this.recordCall();
+    }
+
+
+    /**
+     * Return the times of the refresh or engage calls.
+     *
+     * @return list of times in milliseconds
+     */
+    public List<Long> getCallTimes()
+    {
+        return callTimes;
+    }
+
+
+    /**
+     * Return whether a call was interrupted while it was running.
+     *
+     * @return boolean
+     */
+    public boolean wasInterrupted()
+    {
+        return interrupted;
+    }
+
+
+    /**
+     * Record a call and keep it running for the requested time.
+     */
+    private void recordCall()
+    {
+        callTimes.add(System.currentTimeMillis());
+        maxRunning.accumulateAndGet(running.incrementAndGet(), Math::max);
+
+        try
+        {
+            if (callDurationMillis > 0)
+            {
+                Thread.sleep(callDurationMillis);
+            }
+        }
+        catch (InterruptedException error)
+        {
+            interrupted = true;
+        }
+        finally
+        {
+            running.decrementAndGet();
+        }
+    }
+}
@@ -0,0 +1,388 @@
+/* SPDX-License-Identifier: Apache-2.0 */
+/* Copyright Contributors to the ODPi Egeria project. */
+package org.odpi.openmetadata.governanceservers.integrationdaemonservices.threads;
+
+import org.odpi.openmetadata.frameworks.auditlog.AuditLog;
+import org.odpi.openmetadata.frameworks.auditlog.AuditLogDestination;
+import org.odpi.openmetadata.frameworks.auditlog.AuditLogRecord;
+import org.odpi.openmetadata.frameworks.auditlog.ComponentDevelopmentStatus;
+import org.odpi.openmetadata.governanceservers.integrationdaemonservices.ffdc.IntegrationDaemonServicesAuditCode;
+import org.odpi.openmetadata.governanceservers.integrationdaemonservices.handlers.StubIntegrationConnectorHandler;
+import org.testng.annotations.AfterMethod;
+import org.testng.annotations.BeforeMethod;
+import org.testng.annotations.Test;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Date;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.BooleanSupplier;
+
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertTrue;
+
+
+/**
+ * Verify that the integration connector scheduler calls each connector when it is due, spreads the calls out with
+ * jitter, respects the daemon-wide and per-group limits on concurrent refreshes, re-engages connectors that use
+ * blocking calls, and stops calling connectors when they are stopped or the scheduler is shut down.
+ * The connectors are stub connector handlers that record when they are called.
+ */
+public class IntegrationConnectorSchedulerTest
+{
+    private static final long timeoutMillis = 5000;
+
+    private final List<String>    messageIds = Collections.synchronizedList(new ArrayList<>());
+    private final AtomicInteger   running    = new AtomicInteger();
+    private final AtomicInteger   maxRunning = new AtomicInteger();
+
+    private AuditLog                      auditLog  = null;
+    private IntegrationConnectorScheduler scheduler = null;
+
+
+    /**
+     * Clear the results of the previous test.
+     */
+    @BeforeMethod
+    public void setUp()
+    {
+        messageIds.clear();
+        running.set(0);
+        maxRunning.set(0);
+
+        auditLog = new AuditLog(new TestAuditLogDestination(),
+                                1,
+                                ComponentDevelopmentStatus.IN_DEVELOPMENT,
+                                "testComponent",
+                                "test",
+                                null);
+    }
+
+
+    /**
+     * Stop the scheduler's threads.
+     */
+    @AfterMethod
+    public void tearDown()
+    {
+        if (scheduler != null)
+        {
+            scheduler.shutdown();
+            scheduler = null;
+        }
+    }
+
+
+    /**
+     * The jitter is never negative and never more than the configured maximum, and there is none when the
+     * maximum is zero.
+     */
+    @Test
+    public void testJitterBounds()
+    {
+        scheduler = new IntegrationConnectorScheduler("testDaemon", 1, 200, auditLog);
+
+        Set<Long> values = new HashSet<>();
+
+        for (int i = 0; i < 1000; i++)
+        {
+            long jitter = scheduler.jitter();
+
+            assertTrue((jitter >= 0) && (jitter <= 200), "Jitter out of range: " + jitter);
+            values.add(jitter);
+        }
+
+        assertTrue(values.size() > 1);
+
+        scheduler.shutdown();
+        scheduler = new IntegrationConnectorScheduler("testDaemon", 1, -10, auditLog);
+
+        assertEquals(scheduler.jitter(), 0L);
+    }
+
+
+    /**
+     * A connector that has never been refreshed, or whose refresh interval has passed, is refreshed straight away.
+     * A connector refreshed within its interval waits until the interval has passed.
+     *
+     * @throws Exception test failure
+     */
+    @Test
+    public void testDueTimeCalculation() throws Exception
+    {
+        scheduler = new IntegrationConnectorScheduler("testDaemon", 4, 0, auditLog);
+
+        StubIntegrationConnectorHandler neverRefreshed = this.getConnector("neverRefreshed", false, 1, 0);
+        StubIntegrationConnectorHandler overdue        = this.getConnector("overdue", false, 1, 0);
+        StubIntegrationConnectorHandler notDue         = this.getConnector("notDue", false, 1, 0);
+
+        overdue.setLastRefreshTime(new Date(System.currentTimeMillis() - 120000));
+        notDue.setLastRefreshTime(new Date(System.currentTimeMillis() - 30000));
+
+        scheduler.schedule(neverRefreshed, null);
+        scheduler.schedule(overdue, null);
+        scheduler.schedule(notDue, null);
+
+        this.waitFor(() -> (neverRefreshed.getCallTimes().size() == 1) && (overdue.getCallTimes().size() == 1));
+
+        Thread.sleep(2500);
+
+        assertEquals(neverRefreshed.getCallTimes().size(), 1);
+        assertEquals(overdue.getCallTimes().size(), 1);
+        assertEquals(notDue.getCallTimes().size(), 0);
+    }
+
+
+    /**
+     * Changing the refresh interval or start date takes effect as soon as the connector is woken, rather than
+     * when the capped wait runs out.
+     *
+     * @throws Exception test failure
+     */
+    @Test
+    public void testWakeAppliesChangedProperties() throws Exception
+    {
+        scheduler = new IntegrationConnectorScheduler("testDaemon", 4, 0, auditLog);
+
+        StubIntegrationConnectorHandler intervalChanged  = this.getConnector("intervalChanged", false, 2, 0);
+        StubIntegrationConnectorHandler startDateChanged = this.getConnector("startDateChanged", false, 1, 0);
+
+        intervalChanged.setLastRefreshTime(new Date(System.currentTimeMillis() - 90000));
+        startDateChanged.setStartDate(new Date(System.currentTimeMillis() + 3600000));
+
+        ScheduledIntegrationConnector intervalSchedule  = scheduler.schedule(intervalChanged, null);
+        ScheduledIntegrationConnector startDateSchedule = scheduler.schedule(startDateChanged, null);
+
+        Thread.sleep(1500);
+
+        assertEquals(intervalChanged.getCallTimes().size(), 0);
+        assertEquals(startDateChanged.getCallTimes().size(), 0);
+
+        long wakeTime = System.currentTimeMillis();
+
+        intervalChanged.setMinMinutesBetweenRefresh(1);
+        intervalSchedule.wake();
+        startDateChanged.setStartDate(null);
+        startDateSchedule.wake();
+
+        this.waitFor(() -> (intervalChanged.getCallTimes().size() == 1) && (startDateChanged.getCallTimes().size() == 1));
+
+        assertTrue(intervalChanged.getCallTimes().get(0) - wakeTime < 1000);
+        assertTrue(startDateChanged.getCallTimes().get(0) - wakeTime < 1000);
+    }
+
+
+    /**
+     * No more refresh calls run at the same time than the size of the scheduler's worker pool.
+     *
+     * @throws Exception test failure
+     */
+    @Test
+    public void testGlobalLimit() throws Exception
+    {
+        scheduler = new IntegrationConnectorScheduler("testDaemon", 2, 0, auditLog);
+
+        List<StubIntegrationConnectorHandler> connectors = new ArrayList<>();
+
+        for (int i = 0; i < 6; i++)
+        {
+            StubIntegrationConnectorHandler connector = this.getConnector("connector" + i, false, 1, 300);
+
+            connectors.add(connector);
+            scheduler.schedule(connector, null);
+        }
+
+        this.waitFor(() -> connectors.stream().allMatch(connector -> connector.getCallTimes().size() == 1));
+
+        assertEquals(maxRunning.get(), 2);
+    }
+
+
+    /**
+     * A connector that can not get one of its group's permits is retried later, so every connector in the group is
+     * refreshed while no more than the group limit run at the same time.
+     *
+     * @throws Exception test failure
+     */
+    @Test
+    public void testGroupLimitWithRetry() throws Exception
+    {
+        scheduler = new IntegrationConnectorScheduler("testDaemon", 4, 0, auditLog);
+        scheduler.setGroupLimit("testGroup", 1);
+
+        List<StubIntegrationConnectorHandler> connectors = new ArrayList<>();
+
+        for (int i = 0; i < 3; i++)
+        {
+            StubIntegrationConnectorHandler connector = this.getConnector("groupConnector" + i, false, 1, 300);
+
+            connectors.add(connector);
+            scheduler.schedule(connector, "testGroup");
+        }
+
+        this.waitFor(() -> connectors.stream().allMatch(connector -> connector.getCallTimes().size() == 1));
+
+        assertEquals(maxRunning.get(), 1);
+    }
+
+
+    /**
+     * A connector that uses blocking calls is engaged on its own thread and re-engaged when engage() returns,
+     * but only while it is within its run window.
+     *
+     * @throws Exception test failure
+     */
+    @Test
+    public void testDedicatedThreadReengaged() throws Exception
+    {
+        scheduler = new IntegrationConnectorScheduler("testDaemon", 1, 0, auditLog);
+
+        StubIntegrationConnectorHandler blocking = this.getConnector("blocking", true, 0, 100);
+        StubIntegrationConnectorHandler stopped  = this.getConnector("stopped", true, 0, 0);
+
+        stopped.setStopDate(new Date(System.currentTimeMillis() - 1000));
+
+        scheduler.schedule(blocking, null);
+        scheduler.schedule(stopped, null);
+
+        this.waitFor(() -> blocking.getCallTimes().size() >= 2);
+
+        assertTrue(messageIds.contains(IntegrationDaemonServicesAuditCode.ENGAGE_RETURNED.getMessageDefinition().getMessageId()));
+        assertEquals(stopped.getCallTimes().size(), 0);
+    }
+
+
+    /**
+     * Once a connector is stopped, it is not called again.
+     *
+     * @throws Exception test failure
+     */
+    @Test
+    public void testStop() throws Exception
+    {
+        scheduler = new IntegrationConnectorScheduler("testDaemon", 1, 0, auditLog);
+
+        StubIntegrationConnectorHandler refreshing = this.getConnector("refreshing", false, 0, 0);
+        StubIntegrationConnectorHandler blocking   = this.getConnector("blocking", true, 0, 0);
+
+        ScheduledIntegrationConnector refreshingSchedule = scheduler.schedule(refreshing, null);
+        ScheduledIntegrationConnector blockingSchedule   = scheduler.schedule(blocking, null);
+
+        this.waitFor(() -> (refreshing.getCallTimes().size() >= 2) && (blocking.getCallTimes().size() >= 2));
+
+        refreshingSchedule.stop();
+        blockingSchedule.stop();
+
+        Thread.sleep(200);
+
+        int refreshCount = refreshing.getCallTimes().size();
+        int engageCount  = blocking.getCallTimes().size();
+
+        Thread.sleep(2500);
+
+        assertEquals(refreshing.getCallTimes().size(), refreshCount);
+        assertEquals(blocking.getCallTimes().size(), engageCount);
+        assertTrue(messageIds.contains(IntegrationDaemonServicesAuditCode.REFRESH_THREAD_TERMINATING.getMessageDefinition("refreshing").getMessageId()));
+    }
+
+
+    /**
+     * Shutting down the scheduler interrupts the refresh calls in progress, and no connector is called afterwards,
+     * even one scheduled after the shutdown.
+     *
+     * @throws Exception test failure
+     */
+    @Test
+    public void testShutdown() throws Exception
+    {
+        scheduler = new IntegrationConnectorScheduler("testDaemon", 1, 0, auditLog);
+
+        StubIntegrationConnectorHandler slow = this.getConnector("slow", false, 0, 30000);
+
+        scheduler.schedule(slow, null);
+
+        this.waitFor(() -> running.get() == 1);
+
+        scheduler.shutdown();
+
+        this.waitFor(slow::wasInterrupted);
+
+        StubIntegrationConnectorHandler late = this.getConnector("late", false, 0, 0);
+
+        scheduler.schedule(late, null);
+
+        Thread.sleep(2000);
+
+        assertEquals(slow.getCallTimes().size(), 1);
+        assertEquals(late.getCallTimes().size(), 0);
+        assertTrue(messageIds.contains(IntegrationDaemonServicesAuditCode.CONNECTOR_SCHEDULER_TERMINATING.getMessageDefinition("testDaemon").getMessageId()));
+    }
+
+
+    /**
+     * Return a stub connector handler that shares this test's concurrency counters.
+     *
+     * @param connectorName name of the connector
+     * @param usesBlockingCalls should the connector be engaged on a dedicated thread
+     * @param minMinutesBetweenRefresh refresh interval (0 for no periodic refresh)
+     * @param callDurationMillis how long each call takes
+     * @return connector handler
+     */
+    private StubIntegrationConnectorHandler getConnector(String  connectorName,
+                                                         boolean usesBlockingCalls,
+                                                         long    minMinutesBetweenRefresh,
+                                                         long    callDurationMillis)
+    {
+        return new StubIntegrationConnectorHandler(connectorName,
+                                                   usesBlockingCalls,
+                                                   minMinutesBetweenRefresh,
+                                                   callDurationMillis,
+                                                   running,
+                                                   maxRunning,
+                                                   scheduler,
+                                                   auditLog);
+    }
+
+
+    /**
+     * Wait for a condition to become true.
+     *
+     * @param condition condition to test
+     * @throws Exception the condition did not become true in time
+     */
+    private void waitFor(BooleanSupplier condition) throws Exception
+    {
+        long deadline = System.currentTimeMillis() + timeoutMillis;
+
+        while (! condition.getAsBoolean())
+        {
+            if (System.currentTimeMillis() > deadline)
+            {
+                throw new AssertionError("Condition not met within " + timeoutMillis + " milliseconds");
+            }
+
+            Thread.sleep(20);
+        }
+    }
+
+
+    /**
+     * Audit log destination that records the identifiers of the logged messages.
+     */
+    private class TestAuditLogDestination extends AuditLogDestination
+    {
+        /**
+         * Record the message identifier.
+         *
+         * @param logRecord log record
+         */
+        @Override
+        public void addLogRecord(AuditLogRecord logRecord)
+        {
+            messageIds.add(logRecord.getMessageId());
+        }
+    }
+}
@@ -29,8 +29,13 @@ import org.slf4j.LoggerFactory;
 
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Map;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.CompletionException;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
 
 
 /**
@@ -58,6 +63,13 @@ import java.util.concurrent.CompletionException;
  *         connectors that implement OpenMetadataTopic.
  *     </li>
  * </ul>
+ * <p>
+ *     Outbound events are sent on the connector's own send thread in the order they are requested.  Inbound
+ *     events are passed to each registered listener on the listener's own thread so that the listeners
+ *     process events concurrently, but each listener sees the events in the order that they arrived.
+ *     Both the outbound queue and each listener's inbound queue are bounded (see the sendQueueSize and
+ *     listenerQueueSize configuration properties).  When a queue is full, the caller waits.
+ * </p>
  */
 public class OMRSTopicConnector extends ConnectorBase implements OMRSTopic,
                                                                  VirtualConnectorExtension,
@@ -67,15 +79,23 @@ public class OMRSTopicConnector extends ConnectorBase implements OMRSTopic,
     private static final Logger       log      = LoggerFactory.getLogger(OMRSTopicConnector.class);
 
     private static final ObjectMapper OBJECT_MAPPER = new ObjectMapper();
-    private static final ObjectReader OBJECT_READER = OBJECT_MAPPER.reader();
-    private static final ObjectWriter OBJECT_WRITER = OBJECT_MAPPER.writer();
+    private static final ObjectReader OBJECT_READER = OBJECT_MAPPER.readerFor(OMRSEventBean.class);
+    private static final ObjectWriter OBJECT_WRITER = OBJECT_MAPPER.writerFor(OMRSEventBean.class);
 
     private static final String unknownTopicName = "<Unknown>";
 
+    private static final int  defaultSendQueueSize     = 1000;
+    private static final int  defaultListenerQueueSize = 100;
+    private static final long shutdownWaitTime         = 5000L;
+
     private List<Connector> embeddedConnectors = null;
 
-    private final List<OMRSTopicListener>          internalTopicListeners = new ArrayList<>();
+    private final List<OMRSTopicListener>          internalTopicListeners = new CopyOnWriteArrayList<>();
     private final List<OpenMetadataTopicConnector> eventBusConnectors     = new ArrayList<>();
+    private final List<OMRSTopicListenerDispatcher> listenerDispatchers   = new CopyOnWriteArrayList<>();
+
+    private volatile ThreadPoolExecutor sendExecutor       = null;
+    private int                         listenerQueueSize  = 0;
 
     private String                    connectionName       = OMRSAuditingComponent.OMRS_TOPIC_CONNECTOR.getComponentName();
     private String                    topicName = unknownTopicName;
@@ -163,7 +183,7 @@ public class OMRSTopicConnector extends ConnectorBase implements OMRSTopic,
     {
         if (topicListener != null)
         {
-            internalTopicListeners.add(new OMRSTopicListenerWrapper(topicListener, auditLog));
+            this.addTopicListener(new OMRSTopicListenerWrapper(topicListener, auditLog));
         }
         else
         {
@@ -189,9 +209,9 @@ public class OMRSTopicConnector extends ConnectorBase implements OMRSTopic,
     {
         if (topicListener != null)
         {
-            internalTopicListeners.add(new OMRSTopicListenerWrapper(topicListener,
-                                                                    serviceName,
-                                                                    auditLog.createNewAuditLog(OMRSAuditingComponent.ENTERPRISE_TOPIC_LISTENER)));
+            this.addTopicListener(new OMRSTopicListenerWrapper(topicListener,
+                                                               serviceName,
+                                                               auditLog.createNewAuditLog(OMRSAuditingComponent.ENTERPRISE_TOPIC_LISTENER)));
         }
         else
         {
@@ -217,9 +237,9 @@ public class OMRSTopicConnector extends ConnectorBase implements OMRSTopic,
     {
         if (topicListener != null)
         {
-            internalTopicListeners.add(new OMRSTopicListenerWrapper(topicListener,
-                                                                    serviceName,
-                                                                    auditLog.createNewAuditLog(OMRSAuditingComponent.ENTERPRISE_TOPIC_LISTENER)));
+            this.addTopicListener(new OMRSTopicListenerWrapper(topicListener,
+                                                               serviceName,
+                                                               auditLog.createNewAuditLog(OMRSAuditingComponent.ENTERPRISE_TOPIC_LISTENER)));
         }
         else
         {
@@ -232,6 +252,69 @@ public class OMRSTopicConnector extends ConnectorBase implements OMRSTopic,
     }
 
 
+    /**
+     * Add a wrapped listener.  If the connector has started, the listener's dispatcher is created straight away.
+     *
+     * @param topicListener wrapped listener
+     */
+    private synchronized void addTopicListener(OMRSTopicListener topicListener)
+    {
+        internalTopicListeners.add(topicListener);
+
+        if (listenerQueueSize > 0)
+        {
+            this.addListenerDispatcher(topicListener);
+        }
+    }
+
+
+    /**
+     * Create the dispatcher that passes inbound events to a listener on its own thread.
+     *
+     * @param topicListener wrapped listener
+     */
+    private void addListenerDispatcher(OMRSTopicListener topicListener)
+    {
+        listenerDispatchers.add(new OMRSTopicListenerDispatcher(topicListener,
+                                                                "OMRSTopicListener " + (listenerDispatchers.size() + 1) + ": " + topicName,
+                                                                listenerQueueSize));
+    }
+
+
+    /**
+     * Create the send thread and the listeners' dispatchers using the queue sizes from the configuration properties.
+     */
+    private synchronized void startEventThreads()
+    {
+        int                 sendQueueSize           = defaultSendQueueSize;
+        int                 configuredQueueSize     = defaultListenerQueueSize;
+        Map<String, Object> configurationProperties = null;
+
+        if (connectionProperties != null)
+        {
+            configurationProperties = connectionProperties.getConfigurationProperties();
+        }
+
+        if (super.getIntConfigurationProperty(OMRSTopicProvider.SEND_QUEUE_SIZE_PROPERTY, configurationProperties) > 0)
+        {
+            sendQueueSize = super.getIntConfigurationProperty(OMRSTopicProvider.SEND_QUEUE_SIZE_PROPERTY, configurationProperties);
+        }
+
+        if (super.getIntConfigurationProperty(OMRSTopicProvider.LISTENER_QUEUE_SIZE_PROPERTY, configurationProperties) > 0)
+        {
+            configuredQueueSize = super.getIntConfigurationProperty(OMRSTopicProvider.LISTENER_QUEUE_SIZE_PROPERTY, configurationProperties);
+        }
+
+        sendExecutor      = OMRSTopicListenerDispatcher.newBoundedExecutor("OMRSTopicConnector send: " + topicName, 1, sendQueueSize);
+        listenerQueueSize = configuredQueueSize;
+
+        for (OMRSTopicListener topicListener : internalTopicListeners)
+        {
+            this.addListenerDispatcher(topicListener);
+        }
+    }
+
+
     /**
      * Indicates that the connector is completely configured and can begin processing.
      * OMRSTopicConnector needs to pass on the start() to its embedded connectors.
@@ -309,6 +392,8 @@ public class OMRSTopicConnector extends ConnectorBase implements OMRSTopic,
         }
         else
         {
+            this.startEventThreads();
+
             for (OpenMetadataTopicConnector eventBusConnector : eventBusConnectors)
             {
                 eventBusConnector.start();
@@ -414,7 +499,9 @@ public class OMRSTopicConnector extends ConnectorBase implements OMRSTopic,
 
 
     /**
-     * Sends the supplied event outbound to the OMRSTopicListeners using the event bus connectors.
+     * Sends the supplied event outbound to the OMRSTopicListeners using the event bus connectors.  The event is
+     * queued for the connector's send thread.  If the queue is full, this method waits for space.  Events sent
+     * before the connector is started are sent on the caller's thread.
      *
      * @param event    OMRSEvent object containing the event properties
      * @param logEvent should an audit log message be created?
@@ -425,7 +512,21 @@ public class OMRSTopicConnector extends ConnectorBase implements OMRSTopic,
         final String methodName = "sendEvent";
         if (event != null)
         {
-            return CompletableFuture.supplyAsync(() -> sendEventTask(event, logEvent));
+            try
+            {
+                if (sendExecutor != null)
+                {
+                    return CompletableFuture.supplyAsync(() -> sendEventTask(event, logEvent), sendExecutor);
+                }
+
+                return CompletableFuture.completedFuture(sendEventTask(event, logEvent));
+            }
+            catch (CompletionException | RejectedExecutionException error)
+            {
+                log.debug("Unable to queue event: " + error.getMessage());
+
+                return CompletableFuture.failedFuture(error);
+            }
         }
         else
         {
@@ -495,7 +596,6 @@ public class OMRSTopicConnector extends ConnectorBase implements OMRSTopic,
     public void processEvent(String event)
     {
         final String actionDescription = "Process an OMRS Event";
-        final String methodName = "processEvent";
 
         if (event != null)
         {
@@ -506,7 +606,7 @@ public class OMRSTopicConnector extends ConnectorBase implements OMRSTopic,
              */
             try
             {
-                eventBean = OBJECT_READER.readValue(event, OMRSEventBean.class);
+                eventBean = OBJECT_READER.readValue(event);
             }
             catch (Exception   exception)
             {
@@ -522,31 +622,22 @@ public class OMRSTopicConnector extends ConnectorBase implements OMRSTopic,
             /*
              * If the event bean is successfully created then pass it on to the registered listeners.
              */
-            if (eventBean instanceof OMRSEventV1)
+            if (eventBean instanceof OMRSEventV1 eventV1)
             {
-                OMRSEventBean finalEventBean = eventBean;
-                //internalTopicListeners.parallelStream().forEach((topicListener) ->
-                for (OMRSTopicListener topicListener : internalTopicListeners)
+                if (listenerDispatchers.isEmpty())
                 {
-                    try
+                    for (OMRSTopicListener topicListener : internalTopicListeners)
                     {
-                        this.processOMRSEvent((OMRSEventV1) finalEventBean, topicListener);
+                        this.processOMRSEvent(event, eventV1, topicListener);
                     }
-                    catch (Exception  error)
+                }
+                else
+                {
+                    for (OMRSTopicListenerDispatcher listenerDispatcher : listenerDispatchers)
                     {
-                        log.debug("Unable to pass event to one of the topic listeners");
-
-                        if (auditLog != null)
-                        {
-                            auditLog.logException(methodName,
-                                                  OMRSAuditCode.EVENT_PROCESSING_ERROR.getMessageDefinition(event,
-                                                                                                            error.toString(),
-                                                                                                            topicListener.toString()),
-                                                  event,
-                                                  error);
-                        }
+                        listenerDispatcher.dispatchEvent(topicListener -> this.processOMRSEvent(event, eventV1, topicListener));
                     }
-                } //);
+                }
             }
         }
         else
@@ -561,6 +652,40 @@ public class OMRSTopicConnector extends ConnectorBase implements OMRSTopic,
     }
 
 
+    /**
+     * Pass the OMRS Event bean to a listener and log any error that it returns.
+     *
+     * @param event inbound event string (used for diagnostics)
+     * @param eventBean Version 1 of the OMRSEvent that defines the category and payload of the incoming event.
+     * @param topicListener listener that will receive the event.
+     */
+    private void processOMRSEvent(String             event,
+                                  OMRSEventV1        eventBean,
+                                  OMRSTopicListener  topicListener)
+    {
+        final String methodName = "processEvent";
+
+        try
+        {
+            this.processOMRSEvent(eventBean, topicListener);
+        }
+        catch (Exception  error)
+        {
+            log.debug("Unable to pass event to one of the topic listeners");
+
+            if (auditLog != null)
+            {
+                auditLog.logException(methodName,
+                                      OMRSAuditCode.EVENT_PROCESSING_ERROR.getMessageDefinition(event,
+                                                                                                error.toString(),
+                                                                                                topicListener.toString()),
+                                      event,
+                                      error);
+            }
+        }
+    }
+
+
     /**
      * Process the OMRS Event bean.  The processing is careful of nulls and ignores an event
      * that is incorrectly formatted.  The assumption is that the unformatted part of the message
@@ -626,9 +751,34 @@ public class OMRSTopicConnector extends ConnectorBase implements OMRSTopic,
     @Override
     public  void disconnect() throws ConnectorCheckedException
     {
+        /*
+         * Send the events that are already queued before disconnecting the event bus connectors.
+         */
+        if (sendExecutor != null)
+        {
+            sendExecutor.shutdown();
+
+            try
+            {
+                if (! sendExecutor.awaitTermination(shutdownWaitTime, TimeUnit.MILLISECONDS))
+                {
+                    log.debug("Outbound events still queued at disconnect: " + sendExecutor.getQueue().size());
+                }
+            }
+            catch (InterruptedException error)
+            {
+                Thread.currentThread().interrupt();
+            }
+        }
+
         super.disconnectConnectors(this.embeddedConnectors);
         super.disconnect();
 
+        for (OMRSTopicListenerDispatcher listenerDispatcher : listenerDispatchers)
+        {
+            listenerDispatcher.shutdown(shutdownWaitTime);
+        }
+
         final String actionDescription = "Disconnect OMRS Topic Connector";
 
         if ((auditLog != null) && (! unknownTopicName.equals(topicName)))
@@ -0,0 +1,188 @@
+/* SPDX-License-Identifier: Apache-2.0 */
+/* Copyright Contributors to the ODPi Egeria project. */
+package org.odpi.openmetadata.repositoryservices.connectors.omrstopic;
+
+import org.odpi.openmetadata.repositoryservices.events.future.CompletedFuture;
+import org.odpi.openmetadata.repositoryservices.events.future.DelegatableFuture;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.RejectedExecutionHandler;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+
+/**
+ * OMRSTopicListenerDispatcher passes events to one OMRSTopicListener on its own thread.  Each listener registered
+ * with the OMRSTopicConnector has a dispatcher, so that a slow listener does not hold up the others, while
+ * each listener still receives the events in the order they arrived on the topic.
+ * <br><br>
+ * The queue of waiting events is bounded.  When it is full, the thread that is delivering events from the
+ * event bus waits until there is space.  This limits the memory used by events that have been received but
+ * not processed.
+ * <br><br>
+ * The processing of each event is registered with the caller's InternalOMRSEventProcessingContext so that the
+ * event bus connector does not treat the event as processed until every listener has finished with it.
+ */
+class OMRSTopicListenerDispatcher
+{
+    private static final Logger log = LoggerFactory.getLogger(OMRSTopicListenerDispatcher.class);
+
+    private final OMRSTopicListener  topicListener;
+    private final ThreadPoolExecutor listenerThread;
+
+
+    /**
+     * Constructor
+     *
+     * @param topicListener listener to pass the events to
+     * @param threadName name of the dispatcher's thread
+     * @param queueSize maximum number of events waiting for the listener
+     */
+    OMRSTopicListenerDispatcher(OMRSTopicListener topicListener,
+                                String            threadName,
+                                int               queueSize)
+    {
+        this.topicListener  = topicListener;
+        this.listenerThread = newBoundedExecutor(threadName, 1, queueSize);
+    }
+
+
+    /**
+     * Queue an event for the listener.  This method waits if the listener's queue is full.
+     *
+     * @param eventProcessor function that passes the event to the listener
+     */
+    void dispatchEvent(Consumer<OMRSTopicListener> eventProcessor)
+    {
+        InternalOMRSEventProcessingContext context   = InternalOMRSEventProcessingContext.getInstance();
+        String                             messageId = context.getCurrentMessageId();
+        DelegatableFuture                  future    = new DelegatableFuture();
+
+        context.addAsyncProcessingResult(future);
+
+        try
+        {
+            listenerThread.execute(() -> this.processEvent(eventProcessor, messageId, future));
+        }
+        catch (RejectedExecutionException error)
+        {
+            log.debug("Event not passed to listener {} because it is shutting down", topicListener);
+
+            future.setDelegate(CompletedFuture.INSTANCE);
+        }
+    }
+
+
+    /**
+     * Pass an event to the listener.  This runs on the dispatcher's thread.
+     *
+     * @param eventProcessor function that passes the event to the listener
+     * @param messageId identifier of the message from the event bus
+     * @param future future registered with the thread that received the event
+     */
+    private void processEvent(Consumer<OMRSTopicListener> eventProcessor,
+                              String                      messageId,
+                              DelegatableFuture           future)
+    {
+        try
+        {
+            InternalOMRSEventProcessingContext.clear();
+            InternalOMRSEventProcessingContext.getInstance().setCurrentMessageId(messageId);
+
+            eventProcessor.accept(topicListener);
+
+            future.setDelegate(InternalOMRSEventProcessingContext.getInstance().getOverallAsyncProcessingResult());
+        }
+        catch (Exception error)
+        {
+            log.debug("Listener {} failed to process event: {}", topicListener, error.getMessage());
+
+            future.setDelegate(CompletedFuture.INSTANCE);
+        }
+    }
+
+
+    /**
+     * Process the events already queued and stop the dispatcher's thread.
+     *
+     * @param waitTime maximum time in milliseconds to wait for the queued events to be processed
+     */
+    void shutdown(long waitTime)
+    {
+        listenerThread.shutdown();
+
+        try
+        {
+            if (! listenerThread.awaitTermination(waitTime, TimeUnit.MILLISECONDS))
+            {
+                log.debug("Listener {} did not finish processing its queued events", topicListener);
+            }
+        }
+        catch (InterruptedException error)
+        {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+
+    /**
+     * Create an executor that runs tasks in order on a fixed number of daemon threads.  The tasks wait in
+     * a queue of the requested size and the caller waits when the queue is full.  A task that is not run
+     * because the executor is shut down is rejected with RejectedExecutionException.
+     *
+     * @param threadName name of the threads
+     * @param threadCount number of threads
+     * @param queueSize maximum number of waiting tasks
+     * @return executor
+     */
+    static ThreadPoolExecutor newBoundedExecutor(String threadName,
+                                                 int    threadCount,
+                                                 int    queueSize)
+    {
+        RejectedExecutionHandler waitForSpace = (task, executor) ->
+        {
+            if (executor.isShutdown())
+            {
+                throw new RejectedExecutionException(threadName + " is shut down");
+            }
+
+            try
+            {
+                executor.getQueue().put(task);
+            }
+            catch (InterruptedException error)
+            {
+                Thread.currentThread().interrupt();
+
+                throw new RejectedExecutionException(threadName + " was interrupted waiting for space in the queue", error);
+            }
+
+            /*
+             * The executor may have shut down while the caller was waiting for space.  Its thread may then
+             * have ended without seeing the task, so the task is taken back and rejected.  If the task has
+             * already been taken from the queue, it is run as normal.
+             */
+            if ((executor.isShutdown()) && (executor.remove(task)))
+            {
+                throw new RejectedExecutionException(threadName + " shut down while waiting for space in the queue");
+            }
+        };
+
+        return new ThreadPoolExecutor(threadCount,
+                                      threadCount,
+                                      0L,
+                                      TimeUnit.MILLISECONDS,
+                                      new ArrayBlockingQueue<>(Math.max(queueSize, 1)),
+                                      runnable ->
+                                      {
+                                          Thread thread = new Thread(runnable, threadName);
+
+                                          thread.setDaemon(true);
+                                          return thread;
+                                      },
+                                      waitForSpace);
+    }
+}
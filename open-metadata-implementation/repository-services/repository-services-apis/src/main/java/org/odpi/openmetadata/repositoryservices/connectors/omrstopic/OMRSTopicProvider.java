@@ -11,6 +11,19 @@ import org.odpi.openmetadata.repositoryservices.auditlog.OMRSAuditingComponent;
  */
 public class OMRSTopicProvider extends ConnectorProviderBase
 {
+    /**
+     * Configuration property for the maximum number of outbound events waiting to be sent to the event bus.
+     * When the queue is full, the caller waits.  The default is 1000.
+     */
+    public static final String SEND_QUEUE_SIZE_PROPERTY = "sendQueueSize";
+
+    /**
+     * Configuration property for the maximum number of inbound events waiting for each registered listener.
+     * When a listener's queue is full, the event bus waits.  The default is 100.
+     */
+    public static final String LISTENER_QUEUE_SIZE_PROPERTY = "listenerQueueSize";
+
+
     /**
      * Constructor used to initialize the ConnectorProviderBase with the Java class name of the specific
      * OMRS Connector implementation.
@@ -0,0 +1,143 @@
+/* SPDX-License-Identifier: Apache-2.0 */
+/* Copyright Contributors to the ODPi Egeria project. */
+package org.odpi.openmetadata.repositoryservices.connectors.stores.archivestore;
+
+import org.odpi.openmetadata.repositoryservices.connectors.stores.archivestore.properties.OpenMetadataArchive;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.archivestore.properties.OpenMetadataArchiveInstanceStore;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.archivestore.properties.OpenMetadataArchiveProperties;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.archivestore.properties.OpenMetadataArchiveTypeStore;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.instances.ClassificationEntityExtension;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.instances.EntityDetail;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.instances.Relationship;
+
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.List;
+
+/**
+ * OpenMetadataArchiveContentsReader is the OpenMetadataArchiveReader for an archive that is already in memory.
+ * It is used by archive stores that do not provide their own streaming reader.
+ */
+public class OpenMetadataArchiveContentsReader implements OpenMetadataArchiveReader
+{
+    private final OpenMetadataArchive archiveContents;
+
+
+    /**
+     * Constructor
+     *
+     * @param archiveContents contents of the archive
+     */
+    public OpenMetadataArchiveContentsReader(OpenMetadataArchive archiveContents)
+    {
+        this.archiveContents = archiveContents;
+    }
+
+
+    /**
+     * Return the header properties of the archive.
+     *
+     * @return properties or null if the archive has no properties
+     */
+    @Override
+    public OpenMetadataArchiveProperties getArchiveProperties()
+    {
+        return archiveContents.getArchiveProperties();
+    }
+
+
+    /**
+     * Return the type store of the archive.
+     *
+     * @return type store or null if the archive has no types
+     */
+    @Override
+    public OpenMetadataArchiveTypeStore getArchiveTypeStore()
+    {
+        return archiveContents.getArchiveTypeStore();
+    }
+
+
+    /**
+     * Return an iterator over the entities in the instance store.
+     *
+     * @return iterator (empty if the archive has no entities)
+     */
+    @Override
+    public Iterator<EntityDetail> getEntities()
+    {
+        OpenMetadataArchiveInstanceStore instanceStore = archiveContents.getArchiveInstanceStore();
+
+        if (instanceStore == null)
+        {
+            return Collections.emptyIterator();
+        }
+
+        return this.getIterator(instanceStore.getEntities());
+    }
+
+
+    /**
+     * Return an iterator over the relationships in the instance store.
+     *
+     * @return iterator (empty if the archive has no relationships)
+     */
+    @Override
+    public Iterator<Relationship> getRelationships()
+    {
+        OpenMetadataArchiveInstanceStore instanceStore = archiveContents.getArchiveInstanceStore();
+
+        if (instanceStore == null)
+        {
+            return Collections.emptyIterator();
+        }
+
+        return this.getIterator(instanceStore.getRelationships());
+    }
+
+
+    /**
+     * Return an iterator over the classifications in the instance store.
+     *
+     * @return iterator (empty if the archive has no classifications)
+     */
+    @Override
+    public Iterator<ClassificationEntityExtension> getClassifications()
+    {
+        OpenMetadataArchiveInstanceStore instanceStore = archiveContents.getArchiveInstanceStore();
+
+        if (instanceStore == null)
+        {
+            return Collections.emptyIterator();
+        }
+
+        return this.getIterator(instanceStore.getClassifications());
+    }
+
+
+    /**
+     * Return an iterator for a list that may be null.
+     *
+     * @param elements list of elements
+     * @return iterator
+     * @param <T> type of element
+     */
+    private <T> Iterator<T> getIterator(List<T> elements)
+    {
+        if (elements == null)
+        {
+            return Collections.emptyIterator();
+        }
+
+        return elements.iterator();
+    }
+
+
+    /**
+     * Nothing to release.
+     */
+    @Override
+    public void close()
+    {
+    }
+}
@@ -0,0 +1,87 @@
+/* SPDX-License-Identifier: Apache-2.0 */
+/* Copyright Contributors to the ODPi Egeria project. */
+package org.odpi.openmetadata.repositoryservices.connectors.stores.archivestore;
+
+import org.odpi.openmetadata.repositoryservices.connectors.stores.archivestore.properties.OpenMetadataArchiveProperties;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.archivestore.properties.OpenMetadataArchiveTypeStore;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.instances.ClassificationEntityExtension;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.instances.EntityDetail;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.instances.Relationship;
+
+import java.util.Iterator;
+
+/**
+ * <p>
+ * OpenMetadataArchiveReader provides sequential access to the contents of an open metadata archive.  It allows an
+ * archive store to return the instances in the archive one at a time rather than building the whole archive in
+ * memory first.
+ * </p>
+ * <p>
+ *     The sections of the archive should be requested in the order that they are processed:
+ * </p>
+ * <ul>
+ *     <li>
+ *         Archive header properties
+ *     </li>
+ *     <li>
+ *         Type store
+ *     </li>
+ *     <li>
+ *         Entities, then relationships, then classifications from the instance store
+ *     </li>
+ * </ul>
+ * <p>
+ *     Requesting a section skips the unread part of the previous instance iterator, so each iterator should be
+ *     consumed before the next section is requested.  Elements that can not be read are logged by the archive
+ *     store and returned as null.
+ * </p>
+ */
+public interface OpenMetadataArchiveReader extends AutoCloseable
+{
+    /**
+     * Return the header properties of the archive.
+     *
+     * @return properties or null if the archive has no properties
+     */
+    OpenMetadataArchiveProperties getArchiveProperties();
+
+
+    /**
+     * Return the type store of the archive.  The type definitions are returned together because they are
+     * needed before any of the instances can be processed.
+     *
+     * @return type store or null if the archive has no types
+     */
+    OpenMetadataArchiveTypeStore getArchiveTypeStore();
+
+
+    /**
+     * Return an iterator over the entities in the instance store.
+     *
+     * @return iterator (empty if the archive has no entities)
+     */
+    Iterator<EntityDetail> getEntities();
+
+
+    /**
+     * Return an iterator over the relationships in the instance store.
+     *
+     * @return iterator (empty if the archive has no relationships)
+     */
+    Iterator<Relationship> getRelationships();
+
+
+    /**
+     * Return an iterator over the classifications in the instance store.
+     *
+     * @return iterator (empty if the archive has no classifications)
+     */
+    Iterator<ClassificationEntityExtension> getClassifications();
+
+
+    /**
+     * Release any resources held by the reader.
+     */
+    @Override
+    void close();
+}
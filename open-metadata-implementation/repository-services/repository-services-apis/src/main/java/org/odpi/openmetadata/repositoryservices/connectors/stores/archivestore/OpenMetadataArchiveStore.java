@@ -38,6 +38,27 @@ public interface OpenMetadataArchiveStore
     OpenMetadataArchive getArchiveContents() throws RepositoryErrorException;
 
 
+    /**
+     * Return a reader that steps through the contents of the archive.  Archive stores that are able to read
+     * their contents incrementally override this method so that large archives are not held in memory.
+     * The caller must close the reader.
+     *
+     * @return reader or null if the archive is empty
+     * @throws RepositoryErrorException there is a problem accessing the archive
+     */
+    default OpenMetadataArchiveReader getArchiveReader() throws RepositoryErrorException
+    {
+        OpenMetadataArchive archiveContents = this.getArchiveContents();
+
+        if (archiveContents == null)
+        {
+            return null;
+        }
+
+        return new OpenMetadataArchiveContentsReader(archiveContents);
+    }
+
+
     /**
      * Set new contents into the archive.  This overrides any content previously stored.
      *
@@ -0,0 +1,107 @@
+/* SPDX-License-Identifier: Apache-2.0 */
+/* Copyright Contributors to the ODPi Egeria project. */
+package org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore;
+
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.instances.EntityDetail;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.instances.InstanceGraph;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.instances.Relationship;
+import org.odpi.openmetadata.repositoryservices.ffdc.exception.EntityConflictException;
+import org.odpi.openmetadata.repositoryservices.ffdc.exception.EntityNotKnownException;
+import org.odpi.openmetadata.repositoryservices.ffdc.exception.FunctionNotSupportedException;
+import org.odpi.openmetadata.repositoryservices.ffdc.exception.InvalidEntityException;
+import org.odpi.openmetadata.repositoryservices.ffdc.exception.InvalidParameterException;
+import org.odpi.openmetadata.repositoryservices.ffdc.exception.InvalidRelationshipException;
+import org.odpi.openmetadata.repositoryservices.ffdc.exception.PropertyErrorException;
+import org.odpi.openmetadata.repositoryservices.ffdc.exception.RelationshipConflictException;
+import org.odpi.openmetadata.repositoryservices.ffdc.exception.RepositoryErrorException;
+import org.odpi.openmetadata.repositoryservices.ffdc.exception.TypeErrorException;
+import org.odpi.openmetadata.repositoryservices.ffdc.exception.UserNotAuthorizedException;
+
+import java.util.List;
+import java.util.Map;
+
+/**
+ * OMRSReferenceCopyBatchStore is an optional interface that may be implemented by the metadata collection of a
+ * repository connector that is able to look up and store reference copies in bulk.  It is used when large
+ * numbers of reference copies are loaded into the local repository, such as when an open metadata archive is
+ * loaded at server start up.
+ * <br><br>
+ * The caller is responsible for validating the instances and checking them against the stored instances
+ * before passing them to saveReferenceCopyBatch().  This means the repository connector can store the
+ * instances without repeating the checks made by saveEntityReferenceCopy() and saveRelationshipReferenceCopy().
+ * Repository connectors that do not implement this interface continue to receive the instances one at a time.
+ */
+public interface OMRSReferenceCopyBatchStore
+{
+    /**
+     * Return the stored versions of the requested entities.  Entities that are not stored in the metadata
+     * collection are omitted from the result.  As with isEntityKnown(), entities in DELETED state are returned.
+     *
+     * @param userId unique identifier for requesting user.
+     * @param entityGUIDs unique identifiers of the entities to look up.
+     * @return map of entity unique identifier to stored entity
+     * @throws InvalidParameterException the list of guids is null.
+     * @throws RepositoryErrorException there is a problem communicating with the metadata repository where
+     *                                  the metadata collection is stored.
+     * @throws UserNotAuthorizedException the userId is not permitted to perform this operation.
+     */
+    Map<String, EntityDetail> getKnownEntities(String       userId,
+                                               List<String> entityGUIDs) throws InvalidParameterException,
+                                                                                RepositoryErrorException,
+                                                                                UserNotAuthorizedException;
+
+
+    /**
+     * Return the stored versions of the requested relationships.  Relationships that are not stored in the
+     * metadata collection are omitted from the result.  As with isRelationshipKnown(), relationships in DELETED
+     * state are returned.
+     *
+     * @param userId unique identifier for requesting user.
+     * @param relationshipGUIDs unique identifiers of the relationships to look up.
+     * @return map of relationship unique identifier to stored relationship
+     * @throws InvalidParameterException the list of guids is null.
+     * @throws RepositoryErrorException there is a problem communicating with the metadata repository where
+     *                                  the metadata collection is stored.
+     * @throws UserNotAuthorizedException the userId is not permitted to perform this operation.
+     */
+    Map<String, Relationship> getKnownRelationships(String       userId,
+                                                    List<String> relationshipGUIDs) throws InvalidParameterException,
+                                                                                           RepositoryErrorException,
+                                                                                           UserNotAuthorizedException;
+
+
+    /**
+     * Save a batch of validated reference copies.  The entities are saved before the relationships so that
+     * the relationships may refer to entities from the same batch.
+     *
+     * @param userId unique identifier for requesting user.
+     * @param instances entities and relationships to save.
+     * @throws InvalidParameterException the instance graph is null.
+     * @throws RepositoryErrorException there is a problem communicating with the metadata repository where
+     *                                    the metadata collection is stored.
+     * @throws TypeErrorException the requested type is not known, or not supported in the metadata repository
+     *                            hosting the metadata collection.
+     * @throws EntityNotKnownException one of the entities identified by a relationship is not found in the
+     *                                   metadata collection.
+     * @throws PropertyErrorException one or more of the requested properties are not defined, or have different
+     *                                  characteristics in the TypeDef for the instance's type.
+     * @throws EntityConflictException a new entity conflicts with an existing entity.
+     * @throws InvalidEntityException a new entity has invalid contents.
+     * @throws RelationshipConflictException a new relationship conflicts with an existing relationship.
+     * @throws InvalidRelationshipException a new relationship has invalid contents.
+     * @throws FunctionNotSupportedException the repository does not support reference copies of instances.
+     * @throws UserNotAuthorizedException the userId is not permitted to perform this operation.
+     */
+    void saveReferenceCopyBatch(String        userId,
+                                InstanceGraph instances) throws InvalidParameterException,
+                                                                RepositoryErrorException,
+                                                                TypeErrorException,
+                                                                EntityNotKnownException,
+                                                                PropertyErrorException,
+                                                                EntityConflictException,
+                                                                RelationshipConflictException,
+                                                                InvalidEntityException,
+                                                                InvalidRelationshipException,
+                                                                FunctionNotSupportedException,
+                                                                UserNotAuthorizedException;
+}
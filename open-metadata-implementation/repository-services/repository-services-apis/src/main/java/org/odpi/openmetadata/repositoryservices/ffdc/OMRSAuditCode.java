@@ -589,6 +589,41 @@ public enum OMRSAuditCode implements AuditLogMessageSet
                               "or a Repository Proxy that connects to a third party repository that supports this type of metadata.  " +
                               "Detail of the different types of servers are found in the admin guide."),
 
+    /**
+     * OMRS-AUDIT-0056 - The Open Metadata Repository Services (OMRS) has bulk loaded the instances from open metadata archive {0}: {1} instances were saved in batches, {2} were already stored and {3} were processed individually
+     */
+    BULK_LOADED_ARCHIVE_INSTANCES("OMRS-AUDIT-0056",
+                                  AuditLogRecordSeverityLevel.INFO,
+                                  "The Open Metadata Repository Services (OMRS) has bulk loaded the instances from open metadata archive {0}: {1} instances " +
+                                          "were saved in batches, {2} were already stored and {3} were processed individually",
+                                  "The local repository connector supports batched saves of reference copies so the entities and relationships from the " +
+                                          "open metadata archive were validated and checked against the repository in bulk.  Instances that could not be " +
+                                          "handled in bulk (for example, those that conflict with a stored instance) were processed one at a time as if they " +
+                                          "had arrived as events, and any errors for these instances are logged separately.",
+                                  "Verify that the expected content has loaded into the local repository."),
+
+    /**
+     * OMRS-AUDIT-0057 - The Open Metadata Repository Services (OMRS) has loaded the open metadata types from snapshot {0}
+     */
+    LOADED_TYPES_SNAPSHOT("OMRS-AUDIT-0057",
+                          AuditLogRecordSeverityLevel.INFO,
+                          "The Open Metadata Repository Services (OMRS) has loaded the open metadata types from snapshot {0}",
+                          "The snapshot of the open metadata types was written when the server platform was built.  Its checksum " +
+                                  "and version match the open metadata types in the platform, so it is used rather than building the " +
+                                  "types from code.  The types are validated by the repository content manager in the usual way.",
+                          "No action is required.  This is part of the normal operation of the server."),
+
+    /**
+     * OMRS-AUDIT-0058 - The Open Metadata Repository Services (OMRS) has built the open metadata types from code because {0}
+     */
+    TYPES_SNAPSHOT_NOT_USED("OMRS-AUDIT-0058",
+                            AuditLogRecordSeverityLevel.INFO,
+                            "The Open Metadata Repository Services (OMRS) has built the open metadata types from code because {0}",
+                            "The snapshot of the open metadata types could not be used, so the types were built by the open metadata " +
+                                    "types archive code.  The server continues to start with the same types, although it takes longer.",
+                            "If the platform was built with the usual build process, check that the open metadata types jar contains " +
+                                    "the snapshot and that it was built from the same version of the code."),
+
     /**
      * OMRS-AUDIT-0060 - Registering with open metadata repository cohort {0} using metadata collection id {1}
      */
@@ -641,6 +676,24 @@ public enum OMRSAuditCode implements AuditLogMessageSet
                          "The local server has started up the logging destinations defined in the configuration document.",
                          "Validate that all the logging destinations are working."),
 
+    /**
+     * OMRS-AUDIT-0065 - The {0} event manager is coalescing instance events that arrive within {1} milliseconds of one another
+     */
+    EVENT_COALESCING_ENABLED("OMRS-AUDIT-0065",
+                             AuditLogRecordSeverityLevel.STARTUP,
+                             "The {0} event manager is coalescing instance events that arrive within {1} milliseconds of one another",
+                             "The event manager holds new, updated and refreshed instance events for a short time.  If a newer version of the same instance arrives in that time, only the newer version is passed on.  Repeated copies of the same event are discarded.  Other events, such as delete and purge events, are passed on in the order they arrive, after any held events.",
+                             "No action is required.  The coalescing window is set in the cohort configuration and can be set to zero to pass every event on as it arrives."),
+
+    /**
+     * OMRS-AUDIT-0066 - The {0} event manager passed on {1} instance events, discarded {2} repeated events and merged {3} events into a later version of the same instance
+     */
+    EVENT_COALESCING_STATISTICS("OMRS-AUDIT-0066",
+                                AuditLogRecordSeverityLevel.SHUTDOWN,
+                                "The {0} event manager passed on {1} instance events, discarded {2} repeated events and merged {3} events into a later version of the same instance",
+                                "The event manager is shutting down and has passed on all the instance events that it was holding.",
+                                "Use these counts to judge whether the coalescing window is reducing the load on the server.  If few events are discarded or merged, the coalescing window can be set to zero."),
+
     /**
      * OMRS-AUDIT-0100 - Unable parse an incoming event {0} due to exception {1}
      */
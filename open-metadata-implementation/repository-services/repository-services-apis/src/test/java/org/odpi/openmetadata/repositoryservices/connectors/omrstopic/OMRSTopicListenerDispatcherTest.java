@@ -0,0 +1,254 @@
+/* SPDX-License-Identifier: Apache-2.0 */
+/* Copyright Contributors to the ODPi Egeria project. */
+package org.odpi.openmetadata.repositoryservices.connectors.omrstopic;
+
+import org.testng.annotations.BeforeMethod;
+import org.testng.annotations.Test;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertFalse;
+import static org.testng.Assert.assertNotNull;
+import static org.testng.Assert.assertTrue;
+
+
+/**
+ * Verify that each listener receives its events in order on its own thread, and that the caller waits when
+ * a listener's queue is full.
+ */
+public class OMRSTopicListenerDispatcherTest
+{
+    private static final long waitTime = 10000;
+
+
+    /**
+     * Start each test with an empty event processing context.
+     */
+    @BeforeMethod
+    public void setUp()
+    {
+        InternalOMRSEventProcessingContext.clear();
+    }
+
+
+    /**
+     * The events reach the listener in the order they were dispatched, even though the queue is much smaller
+     * than the number of events, and the processing of every event is complete when the dispatcher shuts down.
+     */
+    @Test
+    public void testEventsArriveInOrder()
+    {
+        List<Integer>               processedEvents = Collections.synchronizedList(new ArrayList<>());
+        OMRSTopicListenerDispatcher dispatcher      = this.getDispatcher("orderedListener", 4);
+        List<Integer>               expectedEvents  = new ArrayList<>();
+
+        for (int eventNumber = 0; eventNumber < 50; eventNumber++)
+        {
+            final int thisEvent = eventNumber;
+
+            expectedEvents.add(thisEvent);
+            dispatcher.dispatchEvent(listener -> processedEvents.add(thisEvent));
+        }
+
+        dispatcher.shutdown(waitTime);
+
+        assertEquals(processedEvents, expectedEvents);
+        assertTrue(InternalOMRSEventProcessingContext.getInstance().getOverallAsyncProcessingResult().isDone());
+    }
+
+
+    /**
+     * A listener that is blocked does not hold up the events for another listener.
+     *
+     * @throws Exception test failure
+     */
+    @Test
+    public void testSlowListenerDoesNotHoldUpOthers() throws Exception
+    {
+        List<Integer>               slowEvents     = Collections.synchronizedList(new ArrayList<>());
+        List<Integer>               fastEvents     = Collections.synchronizedList(new ArrayList<>());
+        CountDownLatch              releaseSlow    = new CountDownLatch(1);
+        CountDownLatch              fastFinished   = new CountDownLatch(3);
+        OMRSTopicListenerDispatcher slowDispatcher = this.getDispatcher("slowListener", 4);
+        OMRSTopicListenerDispatcher fastDispatcher = this.getDispatcher("fastListener", 4);
+
+        for (int eventNumber = 0; eventNumber < 3; eventNumber++)
+        {
+            final int thisEvent = eventNumber;
+
+            slowDispatcher.dispatchEvent(listener ->
+                                         {
+                                             this.waitFor(releaseSlow);
+                                             slowEvents.add(thisEvent);
+                                         });
+            fastDispatcher.dispatchEvent(listener ->
+                                         {
+                                             fastEvents.add(thisEvent);
+                                             fastFinished.countDown();
+                                         });
+        }
+
+        assertTrue(fastFinished.await(waitTime, TimeUnit.MILLISECONDS));
+        assertEquals(fastEvents, List.of(0, 1, 2));
+        assertTrue(slowEvents.isEmpty());
+        assertFalse(InternalOMRSEventProcessingContext.getInstance().getOverallAsyncProcessingResult().isDone());
+
+        releaseSlow.countDown();
+        slowDispatcher.shutdown(waitTime);
+        fastDispatcher.shutdown(waitTime);
+
+        assertEquals(slowEvents, List.of(0, 1, 2));
+        assertTrue(InternalOMRSEventProcessingContext.getInstance().getOverallAsyncProcessingResult().isDone());
+    }
+
+
+    /**
+     * When the queue is full, the caller waits until the listener has taken an event from the queue.
+     *
+     * @throws Exception test failure
+     */
+    @Test
+    public void testFullQueueMakesCallerWait() throws Exception
+    {
+        List<Integer>               processedEvents = Collections.synchronizedList(new ArrayList<>());
+        CountDownLatch              firstStarted    = new CountDownLatch(1);
+        CountDownLatch              releaseFirst    = new CountDownLatch(1);
+        OMRSTopicListenerDispatcher dispatcher      = this.getDispatcher("boundedListener", 2);
+
+        dispatcher.dispatchEvent(listener ->
+                                 {
+                                     firstStarted.countDown();
+                                     this.waitFor(releaseFirst);
+                                     processedEvents.add(0);
+                                 });
+
+        assertTrue(firstStarted.await(waitTime, TimeUnit.MILLISECONDS));
+
+        /*
+         * Fill the queue.
+         */
+        dispatcher.dispatchEvent(listener -> processedEvents.add(1));
+        dispatcher.dispatchEvent(listener -> processedEvents.add(2));
+
+        Thread caller = new Thread(() -> dispatcher.dispatchEvent(listener -> processedEvents.add(3)));
+
+        caller.start();
+        caller.join(200);
+
+        assertTrue(caller.isAlive());
+
+        releaseFirst.countDown();
+        caller.join(waitTime);
+
+        assertFalse(caller.isAlive());
+
+        dispatcher.shutdown(waitTime);
+
+        assertEquals(processedEvents, List.of(0, 1, 2, 3));
+    }
+
+
+    /**
+     * A task that is waiting for space in the queue when the executor shuts down is rejected rather than
+     * being left in the queue after the executor's thread has ended.
+     *
+     * @throws Exception test failure
+     */
+    @Test
+    public void testShutdownWhileWaitingForSpace() throws Exception
+    {
+        List<Integer>              processedTasks = Collections.synchronizedList(new ArrayList<>());
+        CountDownLatch             firstStarted   = new CountDownLatch(1);
+        CountDownLatch             releaseFirst   = new CountDownLatch(1);
+        CountDownLatch             releaseSecond  = new CountDownLatch(1);
+        AtomicReference<Exception> callerError    = new AtomicReference<>();
+        ThreadPoolExecutor         executor       = OMRSTopicListenerDispatcher.newBoundedExecutor("testExecutor", 1, 1);
+
+        executor.execute(() ->
+                         {
+                             firstStarted.countDown();
+                             this.waitFor(releaseFirst);
+                             processedTasks.add(1);
+                         });
+
+        assertTrue(firstStarted.await(waitTime, TimeUnit.MILLISECONDS));
+
+        /*
+         * The second task fills the queue and holds up the thread once it starts, so the third task
+         * is put in the queue while the executor is shut down.
+         */
+        executor.execute(() ->
+                         {
+                             this.waitFor(releaseSecond);
+                             processedTasks.add(2);
+                         });
+
+        Thread caller = new Thread(() ->
+                                   {
+                                       try
+                                       {
+                                           executor.execute(() -> processedTasks.add(3));
+                                       }
+                                       catch (RejectedExecutionException error)
+                                       {
+                                           callerError.set(error);
+                                       }
+                                   });
+
+        caller.start();
+        caller.join(200);
+        assertTrue(caller.isAlive());
+
+        executor.shutdown();
+        releaseFirst.countDown();
+        caller.join(waitTime);
+
+        assertFalse(caller.isAlive());
+        assertNotNull(callerError.get());
+
+        releaseSecond.countDown();
+
+        assertTrue(executor.awaitTermination(waitTime, TimeUnit.MILLISECONDS));
+        assertEquals(processedTasks, List.of(1, 2));
+    }
+
+
+    /**
+     * Create a dispatcher.
+     *
+     * @param listenerName name of the listener
+     * @param queueSize maximum number of waiting events
+     * @return dispatcher
+     */
+    private OMRSTopicListenerDispatcher getDispatcher(String listenerName,
+                                                      int    queueSize)
+    {
+        return new OMRSTopicListenerDispatcher(new OMRSTopicListenerBase(listenerName), listenerName, queueSize);
+    }
+
+
+    /**
+     * Wait for the test to release a listener.
+     *
+     * @param latch latch released by the test
+     */
+    private void waitFor(CountDownLatch latch)
+    {
+        try
+        {
+            latch.await(waitTime, TimeUnit.MILLISECONDS);
+        }
+        catch (InterruptedException error)
+        {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
@@ -3,8 +3,10 @@
 package org.odpi.openmetadata.repositoryservices.archivemanager;
 
 import org.odpi.openmetadata.frameworks.auditlog.AuditLog;
-import org.odpi.openmetadata.opentypes.OpenMetadataTypesArchive;
+import org.odpi.openmetadata.opentypes.OpenMetadataTypesSnapshot;
 
+import org.odpi.openmetadata.repositoryservices.connectors.stores.archivestore.OpenMetadataArchiveContentsReader;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.archivestore.OpenMetadataArchiveReader;
 import org.odpi.openmetadata.repositoryservices.connectors.stores.archivestore.OpenMetadataArchiveStore;
 import org.odpi.openmetadata.repositoryservices.events.OMRSInstanceEventProcessorClassificationExtension;
 import org.odpi.openmetadata.repositoryservices.ffdc.OMRSAuditCode;
@@ -20,10 +22,12 @@ import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollec
 import org.odpi.openmetadata.repositoryservices.events.OMRSTypeDefEventProcessorInterface;
 import org.odpi.openmetadata.repositoryservices.ffdc.exception.RepositoryErrorException;
 import org.odpi.openmetadata.repositoryservices.localrepository.repositoryconnector.LocalOMRSInstanceEventProcessor;
+import org.odpi.openmetadata.repositoryservices.localrepository.repositoryconnector.LocalOMRSReferenceCopyBatchResults;
 import org.odpi.openmetadata.repositoryservices.localrepository.repositorycontentmanager.OMRSRepositoryContentManager;
 
 import java.util.ArrayList;
 import java.util.Date;
+import java.util.Iterator;
 import java.util.List;
 
 /**
@@ -37,6 +41,11 @@ public class OMRSArchiveManager
     private OMRSRepositoryContentManager            repositoryContentManager    = null;
     private LocalOMRSInstanceEventProcessor         localInstanceEventProcessor = null;
 
+    /*
+     * Number of instances read from an archive before they are passed to the local repository.
+     */
+    private static final int instanceChunkSize = 1000;
+
 
     /*
      * The audit log provides a verifiable record of the open metadata archives that have been loaded into
@@ -142,11 +151,24 @@ public class OMRSArchiveManager
      */
     private void processOpenMetadataTypes()
     {
-        OpenMetadataTypesArchive openMetadataTypesArchive = new OpenMetadataTypesArchive();
-        OpenMetadataArchive      openMetadataTypes        = openMetadataTypesArchive.getOpenMetadataArchive();
+        final String actionDescription = "Load open metadata types";
 
-        repositoryContentManager.setOpenMetadataTypesOriginGUID(openMetadataTypesArchive.getArchiveGUID());
-        processOpenMetadataArchive(openMetadataTypes, "Open Metadata Types", repositoryContentManager, localInstanceEventProcessor);
+        OpenMetadataTypesSnapshot openMetadataTypesSnapshot = new OpenMetadataTypesSnapshot();
+        OpenMetadataArchive       openMetadataTypes         = openMetadataTypesSnapshot.getOpenMetadataArchive();
+
+        if (openMetadataTypesSnapshot.getFallbackReason() == null)
+        {
+            auditLog.logMessage(actionDescription,
+                                OMRSAuditCode.LOADED_TYPES_SNAPSHOT.getMessageDefinition(openMetadataTypesSnapshot.getSnapshotName()));
+        }
+        else
+        {
+            auditLog.logMessage(actionDescription,
+                                OMRSAuditCode.TYPES_SNAPSHOT_NOT_USED.getMessageDefinition(openMetadataTypesSnapshot.getFallbackReason()));
+        }
+
+        repositoryContentManager.setOpenMetadataTypesOriginGUID(openMetadataTypesSnapshot.getArchiveGUID());
+        processOpenMetadataArchive(new OpenMetadataArchiveContentsReader(openMetadataTypes), "Open Metadata Types", repositoryContentManager, localInstanceEventProcessor);
     }
 
 
@@ -169,19 +191,21 @@ public class OMRSArchiveManager
         {
             /*
              * Each archive store has a header, a section of new type definitions (TypeDefs) and a section of
-             * metadata instances.
+             * metadata instances.  The reader allows the instances to be processed without holding the
+             * whole archive in memory.
              */
-            OpenMetadataArchive archiveContent = archiveStore.getArchiveContents();
-
-            if (archiveContent == null)
+            try (OpenMetadataArchiveReader archiveReader = archiveStore.getArchiveReader())
             {
-                final String     actionDescription = "Process Open Metadata Archive";
+                if (archiveReader == null)
+                {
+                    final String     actionDescription = "Process Open Metadata Archive";
 
-                auditLog.logMessage(actionDescription, OMRSAuditCode.EMPTY_ARCHIVE.getMessageDefinition(archiveSource));
-            }
-            else
-            {
-                processOpenMetadataArchive(archiveContent, archiveSource, typeDefProcessor, instanceProcessor);
+                    auditLog.logMessage(actionDescription, OMRSAuditCode.EMPTY_ARCHIVE.getMessageDefinition(archiveSource));
+                }
+                else
+                {
+                    processOpenMetadataArchive(archiveReader, archiveSource, typeDefProcessor, instanceProcessor);
+                }
             }
         }
     }
@@ -189,29 +213,29 @@ public class OMRSArchiveManager
 
     /**
      * Step through the content of an open metadata archive, passing its contents to the local repository (if it
-     * exists).
+     * exists).  The instances are passed to the repository in chunks so that only a chunk of the archive's
+     * instances need to be in memory at any one time.
      *
-     * @param archiveContent open metadata archive to process
+     * @param archiveReader reader for the open metadata archive to process
      * @param archiveSource source of the archive - such as file name
      * @param typeDefProcessor processor of type definitions found in the archive
      * @param instanceProcessor processor of instances that have been found in the archive
      */
-    private void processOpenMetadataArchive(OpenMetadataArchive                   archiveContent,
+    private void processOpenMetadataArchive(OpenMetadataArchiveReader             archiveReader,
                                             String                                archiveSource,
                                             OMRSTypeDefEventProcessorInterface    typeDefProcessor,
                                             OMRSInstanceEventProcessorInterface   instanceProcessor)
     {
         final String     actionDescription = "Process Open Metadata Archive";
 
-        OpenMetadataArchiveProperties archiveProperties = archiveContent.getArchiveProperties();
+        OpenMetadataArchiveProperties archiveProperties = archiveReader.getArchiveProperties();
 
         if (archiveProperties != null)
         {
             auditLog.logMessage(actionDescription, OMRSAuditCode.PROCESSING_ARCHIVE.getMessageDefinition(archiveProperties.getArchiveName()));
 
 
-            OpenMetadataArchiveTypeStore     archiveTypeStore     = archiveContent.getArchiveTypeStore();
-            OpenMetadataArchiveInstanceStore archiveInstanceStore = archiveContent.getArchiveInstanceStore();
+            OpenMetadataArchiveTypeStore     archiveTypeStore     = archiveReader.getArchiveTypeStore();
 
             int                              typeCount            = 0;
             int                              instanceCount        = 0;
@@ -222,9 +246,59 @@ public class OMRSArchiveManager
                 typeCount = this.processTypeDefStore(archiveProperties, archiveTypeStore, typeDefProcessor);
             }
 
-            if (archiveInstanceStore != null)
+            if (instanceProcessor == null)
+            {
+                if (this.hasInstances(archiveReader))
+                {
+                    final String instanceActionDescription = "Processing instances from archive";
+
+                    auditLog.logMessage(instanceActionDescription, OMRSAuditCode.NO_INSTANCE_PROCESSOR.getMessageDefinition());
+                }
+            }
+            else
             {
-                instanceCount = this.processInstanceStore(archiveProperties, archiveInstanceStore, instanceProcessor);
+                LocalOMRSReferenceCopyBatchResults bulkResults = new LocalOMRSReferenceCopyBatchResults();
+
+                Iterator<EntityDetail> entities = archiveReader.getEntities();
+
+                while (entities.hasNext())
+                {
+                    OpenMetadataArchiveInstanceStore archiveInstanceStore = new OpenMetadataArchiveInstanceStore();
+
+                    archiveInstanceStore.setEntities(this.getNextChunk(entities));
+                    instanceCount += this.processInstanceStore(archiveProperties, archiveInstanceStore, instanceProcessor, bulkResults);
+                }
+
+                Iterator<Relationship> relationships = archiveReader.getRelationships();
+
+                while (relationships.hasNext())
+                {
+                    OpenMetadataArchiveInstanceStore archiveInstanceStore = new OpenMetadataArchiveInstanceStore();
+
+                    archiveInstanceStore.setRelationships(this.getNextChunk(relationships));
+                    instanceCount += this.processInstanceStore(archiveProperties, archiveInstanceStore, instanceProcessor, bulkResults);
+                }
+
+                Iterator<ClassificationEntityExtension> classifications = archiveReader.getClassifications();
+
+                while (classifications.hasNext())
+                {
+                    OpenMetadataArchiveInstanceStore archiveInstanceStore = new OpenMetadataArchiveInstanceStore();
+
+                    archiveInstanceStore.setClassifications(this.getNextChunk(classifications));
+                    instanceCount += this.processInstanceStore(archiveProperties, archiveInstanceStore, instanceProcessor, bulkResults);
+                }
+
+                if (bulkResults.getSavedInBatchCount() + bulkResults.getAlreadyStoredCount() + bulkResults.getProcessedIndividualCount() > 0)
+                {
+                    final String instanceActionDescription = "Processing instances from archive";
+
+                    auditLog.logMessage(instanceActionDescription,
+                                        OMRSAuditCode.BULK_LOADED_ARCHIVE_INSTANCES.getMessageDefinition(archiveProperties.getArchiveName(),
+                                                                                                         Long.toString(bulkResults.getSavedInBatchCount()),
+                                                                                                         Long.toString(bulkResults.getAlreadyStoredCount()),
+                                                                                                         Long.toString(bulkResults.getProcessedIndividualCount())));
+                }
             }
 
             auditLog.logMessage(actionDescription,
@@ -239,6 +313,41 @@ public class OMRSArchiveManager
     }
 
 
+    /**
+     * Return whether the archive has any instances.  This is used when there is no local repository, so the
+     * instances are not processed.
+     *
+     * @param archiveReader reader for the archive
+     * @return boolean
+     */
+    private boolean hasInstances(OpenMetadataArchiveReader archiveReader)
+    {
+        return (archiveReader.getEntities().hasNext()) ||
+               (archiveReader.getRelationships().hasNext()) ||
+               (archiveReader.getClassifications().hasNext());
+    }
+
+
+    /**
+     * Return the next chunk of elements from one of the archive's instance sections.
+     *
+     * @param elements iterator over the section
+     * @return list of up to instanceChunkSize elements
+     * @param <T> type of element
+     */
+    private <T> List<T> getNextChunk(Iterator<T> elements)
+    {
+        List<T> chunk = new ArrayList<>();
+
+        while ((elements.hasNext()) && (chunk.size() < instanceChunkSize))
+        {
+            chunk.add(elements.next());
+        }
+
+        return chunk;
+    }
+
+
     /**
      * The TypeStore is in two parts.  First there is an optional list of patches to existing TypeDefs.
      * Then an optional list of new TypeDefs.  It is possible that this archive has been processed before
@@ -353,16 +462,20 @@ public class OMRSArchiveManager
      * It is possible that this archive has been processed before
      * and so any duplicates detected are ignored.  However, conflicting instances are detected.
      * Any problems found in applying the archive contents are recorded on the audit log.
+     * If the local repository is able to save reference copies in batches, the entities and
+     * relationships are loaded in bulk rather than one event at a time.
      *
      * @param archiveProperties properties describing the archive used in logging
      * @param archiveInstanceStore the instance store to process
      * @param instanceProcessor the processor to add the instances to the local repository.  It may be null
      *                          if there is no local repository configured for this server.
+     * @param bulkResults accumulated results of the instances loaded in bulk from the archive
      * @return instance count
      */
     private int  processInstanceStore(OpenMetadataArchiveProperties             archiveProperties,
                                       OpenMetadataArchiveInstanceStore          archiveInstanceStore,
-                                      OMRSInstanceEventProcessorInterface       instanceProcessor)
+                                      OMRSInstanceEventProcessorInterface       instanceProcessor,
+                                      LocalOMRSReferenceCopyBatchResults        bulkResults)
     {
         List<EntityDetail>                  entities        = archiveInstanceStore.getEntities();
         List<Relationship>                  relationships   = archiveInstanceStore.getRelationships();
@@ -394,90 +507,105 @@ public class OMRSArchiveManager
                 originatorServerType = OpenMetadataArchiveType.REPOSITORY_BACKUP.getName();
             }
 
-            if (entities != null)
+            if (instanceProcessor instanceof LocalOMRSInstanceEventProcessor localProcessor && localProcessor.isReferenceCopyBatchSupported())
+            {
+                instanceCount = this.processInstancesInBulk(archiveProperties,
+                                                            archiveId,
+                                                            homeMetadataCollectionId,
+                                                            originatorServerType,
+                                                            provenanceType,
+                                                            entities,
+                                                            relationships,
+                                                            localProcessor,
+                                                            bulkResults);
+            }
+            else
             {
-                for (EntityDetail entity : entities)
+                if (entities != null)
                 {
-                    if (entity != null)
+                    for (EntityDetail entity : entities)
                     {
-                        this.setInstanceAuditHeader(localMetadataCollectionId,
-                                                    homeMetadataCollectionId,
-                                                    archiveName,
-                                                    originatorName,
-                                                    archiveCreationTime,
-                                                    provenanceType,
-                                                    originatorLicense,
-                                                    entity);
-
-                        /*
-                         * There is no need to support delete in archive because the elements are
-                         * reference copies and can be deleted from the receiving repositories.
-                         */
-                        if (entity.getVersion() == 1L)
+                        if (entity != null)
                         {
-                            instanceProcessor.processNewEntityEvent(archiveId,
-                                                                    homeMetadataCollectionId,
-                                                                    archiveName,
-                                                                    originatorServerType,
-                                                                    originatorOrganizationName,
-                                                                    entity);
-                        }
-                        else
-                        {
-                            instanceProcessor.processUpdatedEntityEvent(archiveId,
+                            this.setInstanceAuditHeader(localMetadataCollectionId,
+                                                        homeMetadataCollectionId,
+                                                        archiveName,
+                                                        originatorName,
+                                                        archiveCreationTime,
+                                                        provenanceType,
+                                                        originatorLicense,
+                                                        entity);
+
+                            /*
+                             * There is no need to support delete in archive because the elements are
+                             * reference copies and can be deleted from the receiving repositories.
+                             */
+                            if (entity.getVersion() == 1L)
+                            {
+                                instanceProcessor.processNewEntityEvent(archiveId,
                                                                         homeMetadataCollectionId,
                                                                         archiveName,
                                                                         originatorServerType,
                                                                         originatorOrganizationName,
-                                                                        null,
                                                                         entity);
-                        }
+                            }
+                            else
+                            {
+                                instanceProcessor.processUpdatedEntityEvent(archiveId,
+                                                                            homeMetadataCollectionId,
+                                                                            archiveName,
+                                                                            originatorServerType,
+                                                                            originatorOrganizationName,
+                                                                            null,
+                                                                            entity);
+                            }
 
-                        instanceCount++;
+                            instanceCount++;
+                        }
                     }
                 }
-            }
 
-            if (relationships != null)
-            {
-                for (Relationship relationship : relationships)
+                if (relationships != null)
                 {
-                    if (relationship != null)
+                    for (Relationship relationship : relationships)
                     {
-                        this.setInstanceAuditHeader(localMetadataCollectionId,
-                                                    homeMetadataCollectionId,
-                                                    archiveName,
-                                                    originatorName,
-                                                    archiveCreationTime,
-                                                    provenanceType,
-                                                    originatorLicense,
-                                                    relationship);
-
-                        /*
-                         * There is no need to support delete in archive because the elements are
-                         * reference copies and can be deleted from the receiving repositories.
-                         */
-                        if (relationship.getVersion() == 1L)
+                        if (relationship != null)
                         {
-                            instanceProcessor.processNewRelationshipEvent(archiveId,
-                                                                          homeMetadataCollectionId,
-                                                                          archiveName,
-                                                                          originatorServerType,
-                                                                          originatorOrganizationName,
-                                                                          relationship);
-                        }
-                        else
-                        {
-                            instanceProcessor.processUpdatedRelationshipEvent(archiveId,
+                            this.setInstanceAuditHeader(localMetadataCollectionId,
+                                                        homeMetadataCollectionId,
+                                                        archiveName,
+                                                        originatorName,
+                                                        archiveCreationTime,
+                                                        provenanceType,
+                                                        originatorLicense,
+                                                        relationship);
+
+                            /*
+                             * There is no need to support delete in archive because the elements are
+                             * reference copies and can be deleted from the receiving repositories.
+                             */
+                            if (relationship.getVersion() == 1L)
+                            {
+                                instanceProcessor.processNewRelationshipEvent(archiveId,
                                                                               homeMetadataCollectionId,
                                                                               archiveName,
                                                                               originatorServerType,
                                                                               originatorOrganizationName,
-                                                                              null,
                                                                               relationship);
-                        }
+                            }
+                            else
+                            {
+                                instanceProcessor.processUpdatedRelationshipEvent(archiveId,
+                                                                                  homeMetadataCollectionId,
+                                                                                  archiveName,
+                                                                                  originatorServerType,
+                                                                                  originatorOrganizationName,
+                                                                                  null,
+                                                                                  relationship);
+                            }
 
-                        instanceCount ++;
+                            instanceCount ++;
+                        }
                     }
                 }
             }
@@ -542,6 +670,84 @@ public class OMRSArchiveManager
     }
 
 
+    /**
+     * Load the entities and relationships from the archive through the local repository's batch interface.
+     * The results are added to the results for the whole archive so that a single audit log record
+     * summarizes them.
+     *
+     * @param archiveProperties properties describing the archive used in logging
+     * @param archiveId identifier of the archive used as the source name
+     * @param homeMetadataCollectionId metadata collection id of the archive
+     * @param originatorServerType type of archive
+     * @param provenanceType provenance type to set in the instances
+     * @param entities entities from the archive (may be null)
+     * @param relationships relationships from the archive (may be null)
+     * @param localProcessor instance processor for the local repository
+     * @param bulkResults accumulated results for the archive
+     * @return instance count
+     */
+    private int processInstancesInBulk(OpenMetadataArchiveProperties      archiveProperties,
+                                       String                             archiveId,
+                                       String                             homeMetadataCollectionId,
+                                       String                             originatorServerType,
+                                       InstanceProvenanceType             provenanceType,
+                                       List<EntityDetail>                 entities,
+                                       List<Relationship>                 relationships,
+                                       LocalOMRSInstanceEventProcessor    localProcessor,
+                                       LocalOMRSReferenceCopyBatchResults bulkResults)
+    {
+        String archiveName = archiveProperties.getArchiveName();
+
+        if (entities != null)
+        {
+            for (EntityDetail entity : entities)
+            {
+                if (entity != null)
+                {
+                    this.setInstanceAuditHeader(localMetadataCollectionId,
+                                                homeMetadataCollectionId,
+                                                archiveName,
+                                                archiveProperties.getOriginatorName(),
+                                                archiveProperties.getCreationDate(),
+                                                provenanceType,
+                                                archiveProperties.getOriginatorLicense(),
+                                                entity);
+                }
+            }
+        }
+
+        if (relationships != null)
+        {
+            for (Relationship relationship : relationships)
+            {
+                if (relationship != null)
+                {
+                    this.setInstanceAuditHeader(localMetadataCollectionId,
+                                                homeMetadataCollectionId,
+                                                archiveName,
+                                                archiveProperties.getOriginatorName(),
+                                                archiveProperties.getCreationDate(),
+                                                provenanceType,
+                                                archiveProperties.getOriginatorLicense(),
+                                                relationship);
+                }
+            }
+        }
+
+        LocalOMRSReferenceCopyBatchResults results = localProcessor.processReferenceCopyBatch(archiveId,
+                                                                                              homeMetadataCollectionId,
+                                                                                              archiveName,
+                                                                                              originatorServerType,
+                                                                                              archiveProperties.getOriginatorOrganization(),
+                                                                                              entities,
+                                                                                              relationships);
+
+        bulkResults.addResults(results);
+
+        return (int) (results.getSavedInBatchCount() + results.getAlreadyStoredCount() + results.getProcessedIndividualCount());
+    }
+
+
     /**
      * Set up the header of an archive instance.  The header information from the archive
      * is used in the instance header unless it is set up explicitly in an export archive.
@@ -0,0 +1,411 @@
+/* SPDX-License-Identifier: Apache-2.0 */
+/* Copyright Contributors to the ODPi Egeria project. */
+package org.odpi.openmetadata.repositoryservices.eventmanagement;
+
+import org.odpi.openmetadata.repositoryservices.connectors.omrstopic.InternalOMRSEventProcessingContext;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.instances.InstanceHeader;
+import org.odpi.openmetadata.repositoryservices.events.OMRSInstanceEvent;
+import org.odpi.openmetadata.repositoryservices.events.OMRSInstanceEventType;
+import org.odpi.openmetadata.repositoryservices.events.future.CompletedFuture;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.ArrayDeque;
+import java.util.Arrays;
+import java.util.Deque;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ScheduledThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+
+/**
+ * OMRSInstanceEventCoalescer is an optional stage in the OMRSRepositoryEventManager that reduces the number of
+ * instance events passed to the event consumers.  It is used when a coalescing window is set in the cohort
+ * configuration.
+ * <ul>
+ *     <li>
+ *         An event that repeats an event received within the window (same instance, version, originating
+ *         metadata collection and event type) is discarded.  This is typical when the same event is received
+ *         through several cohorts.
+ *     </li>
+ *     <li>
+ *         New, updated and refreshed entity and relationship events are held for the window.  If a later version
+ *         of the same instance arrives while the event is held, the held event is replaced by the later version
+ *         and keeps its place in the sequence of events.
+ *     </li>
+ *     <li>
+ *         All other events, such as classification, delete, purge, re-home, re-type and batch events, are
+ *         never held.  When one of these events arrives, all the held events are passed on before it so that
+ *         the consumers see the events in the order that they arrived.
+ *     </li>
+ * </ul>
+ * The events are passed to the consumers on a single thread owned by this class.  Each held event is registered
+ * with the OMRS topic's event processing context so that the topic connector does not treat it as processed
+ * until it has been passed on.
+ */
+public class OMRSInstanceEventCoalescer
+{
+    private static final Logger log = LoggerFactory.getLogger(OMRSInstanceEventCoalescer.class);
+
+    /*
+     * These are the events that can be replaced by a later version of the same instance.
+     */
+    private static final Set<OMRSInstanceEventType> coalescedEventTypes = Set.of(OMRSInstanceEventType.NEW_ENTITY_EVENT,
+                                                                                  OMRSInstanceEventType.UPDATED_ENTITY_EVENT,
+                                                                                  OMRSInstanceEventType.REFRESHED_ENTITY_EVENT,
+                                                                                  OMRSInstanceEventType.NEW_RELATIONSHIP_EVENT,
+                                                                                  OMRSInstanceEventType.UPDATED_RELATIONSHIP_EVENT,
+                                                                                  OMRSInstanceEventType.REFRESHED_RELATIONSHIP_EVENT);
+
+    private final String                             eventManagerName;
+    private final long                               coalescingWindow;
+    private final OMRSRecentInstanceEvents           recentEvents;
+    private final Consumer<OMRSInstanceEvent>        eventDistributor;
+    private final ScheduledThreadPoolExecutor        distributionThread;
+
+    private final Map<String, HeldInstanceEvent>     heldEvents     = new LinkedHashMap<>();
+    private final Deque<BufferedInstanceEvent>       readyEvents    = new ArrayDeque<>();
+
+    private long distributedEventCount = 0;
+    private long droppedEventCount     = 0;
+    private long mergedEventCount      = 0;
+
+
+    /**
+     * Constructor
+     *
+     * @param eventManagerName name of the event manager that owns this stage (used for the thread name)
+     * @param coalescingWindow time in milliseconds that events are held for
+     * @param recentEvents table of recent events used to discard repeated events (may be shared between event managers)
+     * @param eventDistributor function that passes an event to the consumers
+     */
+    public OMRSInstanceEventCoalescer(String                      eventManagerName,
+                                      long                        coalescingWindow,
+                                      OMRSRecentInstanceEvents    recentEvents,
+                                      Consumer<OMRSInstanceEvent> eventDistributor)
+    {
+        this.eventManagerName   = eventManagerName;
+        this.coalescingWindow   = coalescingWindow;
+        this.recentEvents       = recentEvents;
+        this.eventDistributor   = eventDistributor;
+        this.distributionThread = new ScheduledThreadPoolExecutor(1, runnable ->
+                                                                     {
+                                                                         Thread thread = new Thread(runnable, eventManagerName + " event coalescer");
+
+                                                                         thread.setDaemon(true);
+                                                                         return thread;
+                                                                     });
+
+        /*
+         * The held events are all released at shutdown so the timers waiting for their windows are not needed.
+         */
+        this.distributionThread.setExecuteExistingDelayedTasksAfterShutdownPolicy(false);
+    }
+
+
+    /**
+     * Return the time in milliseconds that events are held for.
+     *
+     * @return milliseconds
+     */
+    public long getCoalescingWindow()
+    {
+        return coalescingWindow;
+    }
+
+
+    /**
+     * Accept an instance event from the event manager.  The event is discarded, held or queued to be passed on.
+     *
+     * @param event instance event
+     */
+    public void submitInstanceEvent(OMRSInstanceEvent event)
+    {
+        InstanceHeader instance  = this.getInstance(event);
+        String         messageId = InternalOMRSEventProcessingContext.getInstance().getCurrentMessageId();
+
+        synchronized (this)
+        {
+            if ((instance != null) && (recentEvents.isRepeatedEvent(this.getEventKey(event, instance), coalescingWindow)))
+            {
+                log.debug("{} discarding repeated {} for instance {} version {}", eventManagerName, event.getInstanceEventType(), instance.getGUID(), instance.getVersion());
+                droppedEventCount ++;
+                return;
+            }
+
+            if ((instance != null) && (coalescedEventTypes.contains(event.getInstanceEventType())))
+            {
+                HeldInstanceEvent heldEvent = heldEvents.get(instance.getGUID());
+
+                if (heldEvent != null)
+                {
+                    mergedEventCount ++;
+
+                    if (instance.getVersion() > heldEvent.version)
+                    {
+                        log.debug("{} replacing held event for instance {} version {} with version {}", eventManagerName, instance.getGUID(), heldEvent.version, instance.getVersion());
+
+                        BufferedInstanceEvent replacedEvent = heldEvent.bufferedEvent;
+
+                        heldEvent.bufferedEvent = this.registerEvent(event, messageId);
+                        heldEvent.version       = instance.getVersion();
+
+                        replacedEvent.getFuture().setDelegate(CompletedFuture.INSTANCE);
+                    }
+
+                    return;
+                }
+
+                heldEvents.put(instance.getGUID(), new HeldInstanceEvent(this.registerEvent(event, messageId),
+                                                                         instance.getVersion(),
+                                                                         System.currentTimeMillis() + coalescingWindow));
+
+                distributionThread.schedule(this::distributeExpiredEvents, coalescingWindow, TimeUnit.MILLISECONDS);
+            }
+            else
+            {
+                /*
+                 * This event must not overtake any of the held events.
+                 */
+                this.releaseHeldEvents(Long.MAX_VALUE);
+                readyEvents.add(this.registerEvent(event, messageId));
+
+                distributionThread.execute(this::distributeReadyEvents);
+            }
+        }
+    }
+
+
+    /**
+     * Pass on all the held events and stop the distribution thread.  Calling shutdown again has no effect.
+     */
+    public void shutdown()
+    {
+        synchronized (this)
+        {
+            if (distributionThread.isShutdown())
+            {
+                return;
+            }
+
+            this.releaseHeldEvents(Long.MAX_VALUE);
+            distributionThread.execute(this::distributeReadyEvents);
+            distributionThread.shutdown();
+        }
+
+        try
+        {
+            if (! distributionThread.awaitTermination(coalescingWindow + 1000, TimeUnit.MILLISECONDS))
+            {
+                log.debug("{} event coalescer did not finish passing on its events", eventManagerName);
+            }
+        }
+        catch (InterruptedException error)
+        {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+
+    /**
+     * Return the number of events passed on to the consumers.
+     *
+     * @return count
+     */
+    public synchronized long getDistributedEventCount()
+    {
+        return distributedEventCount;
+    }
+
+
+    /**
+     * Return the number of events discarded because they repeated a recent event.
+     *
+     * @return count
+     */
+    public synchronized long getDroppedEventCount()
+    {
+        return droppedEventCount;
+    }
+
+
+    /**
+     * Return the number of events that were not passed on because a later version of the same instance
+     * arrived within the window.
+     *
+     * @return count
+     */
+    public synchronized long getMergedEventCount()
+    {
+        return mergedEventCount;
+    }
+
+
+    /**
+     * Return the instance that the event describes.
+     *
+     * @param event instance event
+     * @return entity, relationship or null if the event is not about a single instance
+     */
+    private InstanceHeader getInstance(OMRSInstanceEvent event)
+    {
+        if (event.getEntity() != null)
+        {
+            return event.getEntity();
+        }
+
+        return event.getRelationship();
+    }
+
+
+    /**
+     * Return the key used to recognise repeated events.
+     *
+     * @param event instance event
+     * @param instance instance from the event
+     * @return key
+     */
+    private List<Object> getEventKey(OMRSInstanceEvent event,
+                                     InstanceHeader    instance)
+    {
+        String originatorMetadataCollectionId = null;
+
+        if (event.getEventOriginator() != null)
+        {
+            originatorMetadataCollectionId = event.getEventOriginator().getMetadataCollectionId();
+        }
+
+        return Arrays.asList(instance.getGUID(), instance.getVersion(), originatorMetadataCollectionId, event.getInstanceEventType());
+    }
+
+
+    /**
+     * Wrap the event so that the topic connector waits for it to be passed on before treating it as processed.
+     *
+     * @param event instance event
+     * @param messageId identifier of the message that delivered the event
+     * @return buffered event
+     */
+    private BufferedInstanceEvent registerEvent(OMRSInstanceEvent event,
+                                                String            messageId)
+    {
+        BufferedInstanceEvent bufferedEvent = new BufferedInstanceEvent(event, messageId);
+
+        InternalOMRSEventProcessingContext.getInstance().addAsyncProcessingResult(bufferedEvent.getFuture());
+
+        return bufferedEvent;
+    }
+
+
+    /**
+     * Move the held events whose window has passed to the ready queue.  The events are held in the order that
+     * they arrived so the search stops at the first event that is still within its window.  Called while
+     * synchronized.
+     *
+     * @param currentTime events with an expiry time before this time are released
+     */
+    private void releaseHeldEvents(long currentTime)
+    {
+        Iterator<HeldInstanceEvent> iterator = heldEvents.values().iterator();
+
+        while (iterator.hasNext())
+        {
+            HeldInstanceEvent heldEvent = iterator.next();
+
+            if (heldEvent.expiryTime > currentTime)
+            {
+                break;
+            }
+
+            readyEvents.add(heldEvent.bufferedEvent);
+            iterator.remove();
+        }
+    }
+
+
+    /**
+     * Called on the distribution thread when a held event's window has passed.
+     */
+    private void distributeExpiredEvents()
+    {
+        synchronized (this)
+        {
+            this.releaseHeldEvents(System.currentTimeMillis());
+        }
+
+        this.distributeReadyEvents();
+    }
+
+
+    /**
+     * Pass the ready events to the consumers.  This only runs on the distribution thread so the events are
+     * passed on one at a time in the order that they were queued.
+     */
+    private void distributeReadyEvents()
+    {
+        while (true)
+        {
+            BufferedInstanceEvent bufferedEvent;
+
+            synchronized (this)
+            {
+                bufferedEvent = readyEvents.poll();
+
+                if (bufferedEvent == null)
+                {
+                    return;
+                }
+
+                distributedEventCount ++;
+            }
+
+            try
+            {
+                InternalOMRSEventProcessingContext.clear();
+                InternalOMRSEventProcessingContext.getInstance().setCurrentMessageId(bufferedEvent.getMessageId());
+
+                eventDistributor.accept(bufferedEvent.getEvent());
+
+                bufferedEvent.getFuture().setDelegate(InternalOMRSEventProcessingContext.getInstance().getOverallAsyncProcessingResult());
+            }
+            catch (Exception error)
+            {
+                log.error("{} unable to pass on {} event", eventManagerName, bufferedEvent.getEvent().getInstanceEventType(), error);
+
+                bufferedEvent.getFuture().setDelegate(CompletedFuture.INSTANCE);
+            }
+        }
+    }
+
+
+    /**
+     * An event that is held until its window has passed.
+     */
+    private static class HeldInstanceEvent
+    {
+        private       BufferedInstanceEvent bufferedEvent;
+        private       long                  version;
+        private final long                  expiryTime;
+
+
+        /**
+         * Constructor
+         *
+         * @param bufferedEvent event and its future
+         * @param version version of the instance in the event
+         * @param expiryTime time that the event is released
+         */
+        private HeldInstanceEvent(BufferedInstanceEvent bufferedEvent,
+                                  long                  version,
+                                  long                  expiryTime)
+        {
+            this.bufferedEvent = bufferedEvent;
+            this.version       = version;
+            this.expiryTime    = expiryTime;
+        }
+    }
+}
@@ -0,0 +1,76 @@
+/* SPDX-License-Identifier: Apache-2.0 */
+/* Copyright Contributors to the ODPi Egeria project. */
+package org.odpi.openmetadata.repositoryservices.eventmanagement;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * OMRSRecentInstanceEvents remembers the instance events that have recently been received by the local server
+ * so that repeated copies of the same event can be discarded.  An event is identified by the unique identifier
+ * and version of the instance it describes, the metadata collection that sent it and the type of event.
+ * <br><br>
+ * One OMRSRecentInstanceEvents object is shared by the inbound event managers of all the cohorts that the
+ * server belongs to.  This means an event that is received through several cohorts is only processed once.
+ */
+public class OMRSRecentInstanceEvents
+{
+    /*
+     * When the table reaches this size, the expired entries are removed (at most once per window).
+     */
+    private static final int cleanUpThreshold = 10000;
+
+    private final Map<List<Object>, Long> eventExpiryTimes = new HashMap<>();
+    private       long                    nextCleanUpTime  = 0;
+
+
+    /**
+     * Default constructor
+     */
+    public OMRSRecentInstanceEvents()
+    {
+    }
+
+
+    /**
+     * Record that an event has been received and return whether it has already been received within the
+     * supplied time window.
+     *
+     * @param eventKey identifying values of the event
+     * @param window time in milliseconds that the event is remembered for
+     * @return true if the event is a repeat of a recent event
+     */
+    public synchronized boolean isRepeatedEvent(List<Object> eventKey,
+                                                long         window)
+    {
+        long currentTime = System.currentTimeMillis();
+        Long expiryTime  = eventExpiryTimes.get(eventKey);
+
+        if ((expiryTime != null) && (expiryTime > currentTime))
+        {
+            return true;
+        }
+
+        if ((eventExpiryTimes.size() >= cleanUpThreshold) && (currentTime >= nextCleanUpTime))
+        {
+            eventExpiryTimes.values().removeIf(existingExpiryTime -> existingExpiryTime <= currentTime);
+            nextCleanUpTime = currentTime + window;
+        }
+
+        eventExpiryTimes.put(eventKey, currentTime + window);
+
+        return false;
+    }
+
+
+    /**
+     * Return the number of events remembered.
+     *
+     * @return count
+     */
+    public synchronized int size()
+    {
+        return eventExpiryTimes.size();
+    }
+}
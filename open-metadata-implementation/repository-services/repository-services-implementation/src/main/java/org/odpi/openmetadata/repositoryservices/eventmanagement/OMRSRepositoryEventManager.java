@@ -39,6 +39,7 @@ public class OMRSRepositoryEventManager extends OMRSRepositoryEventBuilder
     private final OMRSRepositoryEventExchangeRule           exchangeRule;          /* set in constructor */
 
     private boolean                                   isActive               = false;
+    private OMRSInstanceEventCoalescer                eventCoalescer         = null;
 
     /*
      * The audit log provides a verifiable record of the open metadata archives that have been loaded into
@@ -185,6 +186,87 @@ public class OMRSRepositoryEventManager extends OMRSRepositoryEventBuilder
     }
 
 
+    /**
+     * Request that instance events from the same instance that arrive within the supplied window are coalesced
+     * so that only the latest version is passed to the consumers, and that repeated events are discarded.
+     * This is used for the inbound events from a cohort.  It must be called before start().
+     *
+     * @param coalescingWindow time in milliseconds that events are held for (zero or less means no coalescing)
+     * @param recentEvents table of recent events shared with the event managers of the other cohorts
+     */
+    public void setEventCoalescing(long                     coalescingWindow,
+                                   OMRSRecentInstanceEvents recentEvents)
+    {
+        final String actionDescription = "Set up event coalescing";
+
+        if ((coalescingWindow > 0) && (recentEvents != null) && (eventCoalescer == null))
+        {
+            eventCoalescer = new OMRSInstanceEventCoalescer(super.eventProcessorName,
+                                                            coalescingWindow,
+                                                            recentEvents,
+                                                            this::distributeInstanceEvent);
+
+            auditLog.logMessage(actionDescription,
+                                OMRSAuditCode.EVENT_COALESCING_ENABLED.getMessageDefinition(super.eventProcessorName,
+                                                                                            Long.toString(coalescingWindow)));
+        }
+    }
+
+
+    /**
+     * Return the number of instance events discarded because they repeated an event received within the
+     * coalescing window.
+     *
+     * @return count (zero if coalescing is not enabled)
+     */
+    public long getDroppedInstanceEventCount()
+    {
+        if (eventCoalescer != null)
+        {
+            return eventCoalescer.getDroppedEventCount();
+        }
+
+        return 0;
+    }
+
+
+    /**
+     * Return the number of instance events that were not passed on because a later version of the same
+     * instance arrived within the coalescing window.
+     *
+     * @return count (zero if coalescing is not enabled)
+     */
+    public long getMergedInstanceEventCount()
+    {
+        if (eventCoalescer != null)
+        {
+            return eventCoalescer.getMergedEventCount();
+        }
+
+        return 0;
+    }
+
+
+    /**
+     * Pass on any instance events held for coalescing and stop the coalescing thread.
+     */
+    public void disconnect()
+    {
+        final String actionDescription = "Disconnect OMRS Event Manager";
+
+        if (eventCoalescer != null)
+        {
+            eventCoalescer.shutdown();
+
+            auditLog.logMessage(actionDescription,
+                                OMRSAuditCode.EVENT_COALESCING_STATISTICS.getMessageDefinition(super.eventProcessorName,
+                                                                                               Long.toString(eventCoalescer.getDistributedEventCount()),
+                                                                                               Long.toString(eventCoalescer.getDroppedEventCount()),
+                                                                                               Long.toString(eventCoalescer.getMergedEventCount())));
+        }
+    }
+
+
     /**
      * Send out all the buffered events, beginning with the TypeDef events and
      * then the instance events.  Typically, the TypeDef events should cover all the
@@ -373,7 +455,11 @@ public class OMRSRepositoryEventManager extends OMRSRepositoryEventBuilder
     public void sendInstanceEvent(String            sourceName,
                                   OMRSInstanceEvent instanceEvent)
     {
-        if (isActive)
+        if ((isActive) && (eventCoalescer != null))
+        {
+            eventCoalescer.submitInstanceEvent(instanceEvent);
+        }
+        else if (isActive)
         {
             this.distributeInstanceEvent(instanceEvent);
         }
@@ -24,7 +24,13 @@ import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollec
 import org.odpi.openmetadata.repositoryservices.eventmanagement.*;
 import org.odpi.openmetadata.repositoryservices.ffdc.OMRSErrorCode;
 
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
 import java.util.UUID;
+import java.util.stream.Collectors;
 
 
 /**
@@ -40,6 +46,11 @@ public class LocalOMRSInstanceEventProcessor extends OMRSInstanceEventProcessor
 
     private final static MessageFormatter messageFormatter = new MessageFormatter();
 
+    /*
+     * Number of instances looked up and saved in each call to the repository by processReferenceCopyBatch().
+     */
+    private final static int referenceCopyBatchSize = 1000;
+
     private final String                          localMetadataCollectionId;
     private final String                          localServerName;
     private final OMRSRepositoryConnector         localRepositoryConnector;
@@ -2061,7 +2072,10 @@ public class LocalOMRSInstanceEventProcessor extends OMRSInstanceEventProcessor
 
     /**
      * An open metadata repository is passing information about a collection of entities and relationships
-     * with the other repositories in the cohort.
+     * with the other repositories in the cohort.  If the local repository is able to look up and save reference
+     * copies in bulk, the instances are checked against the stored instances with one lookup per batch and the
+     * new instances are saved with one call to the repository per batch.  Otherwise, the instances are passed
+     * to the repository's saveInstanceReferenceCopies() method.
      *
      * @param sourceName name of the source of the event.  It may be the cohort name for incoming events or the
      *                   local repository, or event mapper name.
@@ -2086,8 +2100,28 @@ public class LocalOMRSInstanceEventProcessor extends OMRSInstanceEventProcessor
         {
             verifyEventProcessor(methodName);
 
-            localMetadataCollection.saveInstanceReferenceCopies(localRepositoryConnector.getServerUserId(),
-                                                                instances);
+            if (instances == null)
+            {
+                return;
+            }
+
+            if (this.isReferenceCopyBatchSupported())
+            {
+                LocalOMRSReferenceCopyBatchResults results = this.processReferenceCopyBatch(sourceName,
+                                                                                            originatorMetadataCollectionId,
+                                                                                            originatorServerName,
+                                                                                            originatorServerType,
+                                                                                            originatorOrganizationName,
+                                                                                            instances.getEntities(),
+                                                                                            instances.getRelationships());
+
+                log.debug("Batch event from {} processed: {}", originatorServerName, results);
+            }
+            else
+            {
+                localMetadataCollection.saveInstanceReferenceCopies(localRepositoryConnector.getServerUserId(),
+                                                                    instances);
+            }
         }
         catch (Exception error)
         {
@@ -2099,6 +2133,409 @@ public class LocalOMRSInstanceEventProcessor extends OMRSInstanceEventProcessor
     }
 
 
+    /**
+     * Return whether the local repository is able to look up and save reference copies in bulk.  If it is not,
+     * large collections of instances should be passed to the event processing methods one at a time.
+     *
+     * @return boolean
+     */
+    public boolean isReferenceCopyBatchSupported()
+    {
+        return (localMetadataCollection instanceof LocalOMRSMetadataCollection localCollection) && (localCollection.isReferenceCopyBatchSupported());
+    }
+
+
+    /**
+     * Save a large collection of new and updated entities and relationships, such as the contents of an open
+     * metadata archive, as reference copies.  The instances are validated in parallel and checked against the
+     * stored instances in batches.  Instances that are not yet stored are saved in batches; instances that are
+     * already stored at the same, or a later, version are skipped.  Everything else (invalid instances,
+     * conflicts, newer versions, instances filtered by the exchange rule and batches that the repository fails
+     * to save) is passed through processNew/UpdatedEntityEvent and processNew/UpdatedRelationshipEvent so it is
+     * handled and logged exactly as before.  The entities are processed before the relationships.
+     *
+     * @param sourceName                     name of the source of the instances.
+     * @param originatorMetadataCollectionId unique identifier for the metadata collection that the instances came from.
+     * @param originatorServerName           name of the server that the instances came from.
+     * @param originatorServerType           type of server that the instances came from.
+     * @param originatorOrganizationName     name of the organization that owns the server that the instances came from.
+     * @param entities                       entities to save (may be null)
+     * @param relationships                  relationships to save (may be null)
+     * @return counts of how each instance was processed
+     */
+    public LocalOMRSReferenceCopyBatchResults processReferenceCopyBatch(String             sourceName,
+                                                                        String             originatorMetadataCollectionId,
+                                                                        String             originatorServerName,
+                                                                        String             originatorServerType,
+                                                                        String             originatorOrganizationName,
+                                                                        List<EntityDetail> entities,
+                                                                        List<Relationship> relationships)
+    {
+        final String methodName = "processReferenceCopyBatch";
+        final String entityParameterName = "entity";
+        final String relationshipParameterName = "relationship";
+
+        LocalOMRSReferenceCopyBatchResults results = new LocalOMRSReferenceCopyBatchResults();
+
+        if (! this.isReferenceCopyBatchSupported())
+        {
+            if (entities != null)
+            {
+                this.processEntitiesIndividually(sourceName, originatorMetadataCollectionId, originatorServerName, originatorServerType, originatorOrganizationName, entities, results);
+            }
+
+            if (relationships != null)
+            {
+                this.processRelationshipsIndividually(sourceName, originatorMetadataCollectionId, originatorServerName, originatorServerType, originatorOrganizationName, relationships, results);
+            }
+
+            return results;
+        }
+
+        LocalOMRSMetadataCollection batchStore = (LocalOMRSMetadataCollection) localMetadataCollection;
+        String                      userId     = localRepositoryConnector.getServerUserId();
+
+        if (entities != null)
+        {
+            List<EntityDetail> candidateEntities  = new ArrayList<>();
+            List<EntityDetail> individualEntities = new ArrayList<>();
+
+            this.selectBatchCandidates(sourceName, entityParameterName, entities, candidateEntities, individualEntities, methodName);
+            this.processEntitiesIndividually(sourceName, originatorMetadataCollectionId, originatorServerName, originatorServerType, originatorOrganizationName, individualEntities, results);
+
+            for (int start = 0; start < candidateEntities.size(); start = start + referenceCopyBatchSize)
+            {
+                List<EntityDetail> batch         = candidateEntities.subList(start, Math.min(start + referenceCopyBatchSize, candidateEntities.size()));
+                List<EntityDetail> newEntities   = new ArrayList<>();
+                long               alreadyStored = 0;
+
+                individualEntities = new ArrayList<>();
+
+                try
+                {
+                    Map<String, EntityDetail> storedEntities = batchStore.getKnownEntities(userId, this.getGUIDs(batch));
+
+                    for (EntityDetail entity : batch)
+                    {
+                        EntityDetail storedEntity = storedEntities.get(entity.getGUID());
+
+                        if (storedEntity == null)
+                        {
+                            newEntities.add(entity);
+                        }
+                        else if (this.isAlreadyStored(entity, storedEntity))
+                        {
+                            alreadyStored ++;
+                        }
+                        else
+                        {
+                            individualEntities.add(entity);
+                        }
+                    }
+
+                    if (! newEntities.isEmpty())
+                    {
+                        InstanceGraph instances = new InstanceGraph();
+
+                        instances.setEntities(newEntities);
+                        batchStore.saveReferenceCopyBatch(userId, instances);
+                    }
+                }
+                catch (Exception error)
+                {
+                    log.debug("Unable to save batch of {} entities from {}; processing them individually", batch.size(), sourceName, error);
+
+                    newEntities        = new ArrayList<>();
+                    individualEntities = batch;
+                    alreadyStored      = 0;
+                }
+
+                for (EntityDetail entity : newEntities)
+                {
+                    if (localMetadataCollectionId.equals(entity.getReplicatedBy()))
+                    {
+                        outboundRepositoryEventProcessor.processNewEntityEvent(sourceName, originatorMetadataCollectionId, originatorServerName, originatorServerType, originatorOrganizationName, entity);
+                    }
+                }
+
+                results.addSavedInBatch(newEntities.size());
+
+                results.addAlreadyStored(alreadyStored);
+
+                this.processEntitiesIndividually(sourceName, originatorMetadataCollectionId, originatorServerName, originatorServerType, originatorOrganizationName, individualEntities, results);
+            }
+        }
+
+        if (relationships != null)
+        {
+            List<Relationship> candidateRelationships  = new ArrayList<>();
+            List<Relationship> individualRelationships = new ArrayList<>();
+
+            this.selectBatchCandidates(sourceName, relationshipParameterName, relationships, candidateRelationships, individualRelationships, methodName);
+            this.processRelationshipsIndividually(sourceName, originatorMetadataCollectionId, originatorServerName, originatorServerType, originatorOrganizationName, individualRelationships, results);
+
+            for (int start = 0; start < candidateRelationships.size(); start = start + referenceCopyBatchSize)
+            {
+                List<Relationship> batch            = candidateRelationships.subList(start, Math.min(start + referenceCopyBatchSize, candidateRelationships.size()));
+                List<Relationship> newRelationships = new ArrayList<>();
+                long               alreadyStored    = 0;
+
+                individualRelationships = new ArrayList<>();
+
+                try
+                {
+                    Map<String, Relationship> storedRelationships = batchStore.getKnownRelationships(userId, this.getGUIDs(batch));
+
+                    for (Relationship relationship : batch)
+                    {
+                        Relationship storedRelationship = storedRelationships.get(relationship.getGUID());
+
+                        if (storedRelationship == null)
+                        {
+                            newRelationships.add(relationship);
+                        }
+                        else if (this.isAlreadyStored(relationship, storedRelationship))
+                        {
+                            alreadyStored ++;
+                        }
+                        else
+                        {
+                            individualRelationships.add(relationship);
+                        }
+                    }
+
+                    if (! newRelationships.isEmpty())
+                    {
+                        InstanceGraph instances = new InstanceGraph();
+
+                        instances.setRelationships(newRelationships);
+                        batchStore.saveReferenceCopyBatch(userId, instances);
+                    }
+                }
+                catch (Exception error)
+                {
+                    log.debug("Unable to save batch of {} relationships from {}; processing them individually", batch.size(), sourceName, error);
+
+                    newRelationships        = new ArrayList<>();
+                    individualRelationships = batch;
+                    alreadyStored           = 0;
+                }
+
+                for (Relationship relationship : newRelationships)
+                {
+                    if (localMetadataCollectionId.equals(relationship.getReplicatedBy()))
+                    {
+                        outboundRepositoryEventProcessor.processNewRelationshipEvent(sourceName, originatorMetadataCollectionId, originatorServerName, originatorServerType, originatorOrganizationName, relationship);
+                    }
+                }
+
+                results.addSavedInBatch(newRelationships.size());
+
+                results.addAlreadyStored(alreadyStored);
+
+                this.processRelationshipsIndividually(sourceName, originatorMetadataCollectionId, originatorServerName, originatorServerType, originatorOrganizationName, individualRelationships, results);
+            }
+        }
+
+        return results;
+    }
+
+
+    /**
+     * Split the instances into those that can be saved in a batch and those that need to go through the usual
+     * event processing.  The instance headers are validated in parallel.  The exchange rule is then checked
+     * in order since it may learn new types as it goes.  Any instance that appears more than once is
+     * processed individually so that the versions are compared in the usual way.
+     *
+     * @param sourceName name of the source of the instances
+     * @param parameterName name of the instance kind for error messages
+     * @param instances instances to split
+     * @param batchCandidates list to add the instances that can be saved in a batch
+     * @param individualInstances list to add the instances that need to be processed individually
+     * @param methodName calling method
+     * @param <T> entity or relationship
+     */
+    private <T extends InstanceHeader> void selectBatchCandidates(String  sourceName,
+                                                                  String  parameterName,
+                                                                  List<T> instances,
+                                                                  List<T> batchCandidates,
+                                                                  List<T> individualInstances,
+                                                                  String  methodName)
+    {
+        Map<Boolean, List<T>> validatedInstances = instances.parallelStream()
+                                                            .filter(instance -> instance != null)
+                                                            .collect(Collectors.partitioningBy(instance -> this.isValidReferenceInstance(sourceName, parameterName, instance, methodName)));
+
+        Set<String> batchGUIDs = new HashSet<>();
+
+        for (T instance : validatedInstances.get(true))
+        {
+            if (((verifyEventToSave(sourceName, instance)) || (verifyEventToLearn(sourceName, instance))) && (batchGUIDs.add(instance.getGUID())))
+            {
+                batchCandidates.add(instance);
+            }
+            else
+            {
+                individualInstances.add(instance);
+            }
+        }
+
+        individualInstances.addAll(validatedInstances.get(false));
+    }
+
+
+    /**
+     * Validate the header of an instance that is to be saved as a reference copy.  The exception is not logged
+     * here since the instance will be passed through the usual event processing, which logs it.
+     *
+     * @param sourceName name of the source of the instance
+     * @param parameterName name of the instance kind for error messages
+     * @param instance instance to validate
+     * @param methodName calling method
+     * @return boolean flag indicating whether the instance header is valid
+     */
+    private boolean isValidReferenceInstance(String         sourceName,
+                                             String         parameterName,
+                                             InstanceHeader instance,
+                                             String         methodName)
+    {
+        try
+        {
+            repositoryValidator.validateReferenceInstanceHeader(sourceName,
+                                                                localMetadataCollectionId,
+                                                                parameterName,
+                                                                instance,
+                                                                auditLog,
+                                                                methodName);
+            return true;
+        }
+        catch (Exception error)
+        {
+            return false;
+        }
+    }
+
+
+    /**
+     * Return whether the stored instance is the same instance as the incoming one at the same, or a later,
+     * version.  This is the case that compareAndValidateReferenceInstance() silently ignores.
+     *
+     * @param incomingInstance instance to save
+     * @param storedInstance instance in the repository
+     * @return boolean
+     */
+    private boolean isAlreadyStored(InstanceHeader incomingInstance,
+                                    InstanceHeader storedInstance)
+    {
+        return (incomingInstance.getCreateTime() != null) &&
+               (incomingInstance.getCreateTime().equals(storedInstance.getCreateTime())) &&
+               (storedInstance.getVersion() >= incomingInstance.getVersion());
+    }
+
+
+    /**
+     * Extract the unique identifiers of the instances.
+     *
+     * @param instances instances
+     * @return list of guids
+     */
+    private List<String> getGUIDs(List<? extends InstanceHeader> instances)
+    {
+        List<String> guids = new ArrayList<>(instances.size());
+
+        for (InstanceHeader instance : instances)
+        {
+            guids.add(instance.getGUID());
+        }
+
+        return guids;
+    }
+
+
+    /**
+     * Pass entities through the usual new/updated entity event processing.
+     *
+     * @param sourceName                     name of the source of the instances.
+     * @param originatorMetadataCollectionId unique identifier for the metadata collection that the instances came from.
+     * @param originatorServerName           name of the server that the instances came from.
+     * @param originatorServerType           type of server that the instances came from.
+     * @param originatorOrganizationName     name of the organization that owns the server that the instances came from.
+     * @param entities                       entities to process
+     * @param results                        counts to update
+     */
+    private void processEntitiesIndividually(String                             sourceName,
+                                             String                             originatorMetadataCollectionId,
+                                             String                             originatorServerName,
+                                             String                             originatorServerType,
+                                             String                             originatorOrganizationName,
+                                             List<EntityDetail>                 entities,
+                                             LocalOMRSReferenceCopyBatchResults results)
+    {
+        long count = 0;
+
+        for (EntityDetail entity : entities)
+        {
+            if (entity != null)
+            {
+                if (entity.getVersion() == 1L)
+                {
+                    this.processNewEntityEvent(sourceName, originatorMetadataCollectionId, originatorServerName, originatorServerType, originatorOrganizationName, entity);
+                }
+                else
+                {
+                    this.processUpdatedEntityEvent(sourceName, originatorMetadataCollectionId, originatorServerName, originatorServerType, originatorOrganizationName, null, entity);
+                }
+
+                count ++;
+            }
+        }
+
+        results.addProcessedIndividually(count);
+    }
+
+
+    /**
+     * Pass relationships through the usual new/updated relationship event processing.
+     *
+     * @param sourceName                     name of the source of the instances.
+     * @param originatorMetadataCollectionId unique identifier for the metadata collection that the instances came from.
+     * @param originatorServerName           name of the server that the instances came from.
+     * @param originatorServerType           type of server that the instances came from.
+     * @param originatorOrganizationName     name of the organization that owns the server that the instances came from.
+     * @param relationships                  relationships to process
+     * @param results                        counts to update
+     */
+    private void processRelationshipsIndividually(String                             sourceName,
+                                                  String                             originatorMetadataCollectionId,
+                                                  String                             originatorServerName,
+                                                  String                             originatorServerType,
+                                                  String                             originatorOrganizationName,
+                                                  List<Relationship>                 relationships,
+                                                  LocalOMRSReferenceCopyBatchResults results)
+    {
+        long count = 0;
+
+        for (Relationship relationship : relationships)
+        {
+            if (relationship != null)
+            {
+                if (relationship.getVersion() == 1L)
+                {
+                    this.processNewRelationshipEvent(sourceName, originatorMetadataCollectionId, originatorServerName, originatorServerType, originatorOrganizationName, relationship);
+                }
+                else
+                {
+                    this.processUpdatedRelationshipEvent(sourceName, originatorMetadataCollectionId, originatorServerName, originatorServerType, originatorOrganizationName, null, relationship);
+                }
+
+                count ++;
+            }
+        }
+
+        results.addProcessedIndividually(count);
+    }
+
+
     /**
      * An open metadata repository has detected two metadata instances with the same identifier (guid).
      * This is a serious error because it could lead to corruption of the metadata collections within the cohort.
@@ -4,6 +4,7 @@ package org.odpi.openmetadata.repositoryservices.localrepository.repositoryconne
 
 import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.OMRSMetadataCollectionBase;
 import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.OMRSMetadataDefaultRepositorySecurity;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.OMRSReferenceCopyBatchStore;
 import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.OpenMetadataRepositorySecurity;
 import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.HistorySequencingOrder;
 import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.search.SearchClassifications;
@@ -22,14 +23,16 @@ import org.odpi.openmetadata.repositoryservices.localrepository.OMRSLocalReposit
 import org.odpi.openmetadata.repositoryservices.localrepository.repositorycontentmanager.OMRSTypeDefManager;
 
 import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.List;
 import java.util.Date;
+import java.util.Map;
 
 /**
  * LocalOMRSMetadataCollection provides a wrapper around the metadata collection for the real local repository.
  * Its role is to manage outbound repository events and audit logging/debug for the real local repository.
  */
-public class LocalOMRSMetadataCollection extends OMRSMetadataCollectionBase
+public class LocalOMRSMetadataCollection extends OMRSMetadataCollectionBase implements OMRSReferenceCopyBatchStore
 {
     private final OMRSMetadataCollection     realMetadataCollection;
     private final String                     localServerName;
@@ -7264,4 +7267,281 @@ public class LocalOMRSMetadataCollection extends OMRSMetadataCollectionBase
             }
         }
     }
+
+
+    /* ======================================================
+     * OMRSReferenceCopyBatchStore
+     */
+
+
+    /**
+     * Return whether the real repository connector is able to look up and save reference copies in bulk.
+     * If it is not, the methods below still work, but they make one call to the real repository per instance.
+     *
+     * @return boolean
+     */
+    boolean isReferenceCopyBatchSupported()
+    {
+        return realMetadataCollection instanceof OMRSReferenceCopyBatchStore;
+    }
+
+
+    /**
+     * Validate that a parameter passed to one of the batch methods is not null.
+     *
+     * @param parameterValue value passed
+     * @param parameterName name of the parameter
+     * @param methodName calling method
+     * @throws InvalidParameterException the parameter is null
+     */
+    private void validateBatchParameter(Object parameterValue,
+                                        String parameterName,
+                                        String methodName) throws InvalidParameterException
+    {
+        if (parameterValue == null)
+        {
+            throw new InvalidParameterException(OMRSErrorCode.NULL_PARAMETER.getMessageDefinition(methodName),
+                                                this.getClass().getName(),
+                                                methodName,
+                                                parameterName);
+        }
+    }
+
+
+    /**
+     * Return the stored versions of the requested entities.  Entities that are not stored in the metadata
+     * collection, or that the security verifier hides from the caller, are omitted from the result.
+     *
+     * @param userId unique identifier for requesting user.
+     * @param entityGUIDs unique identifiers of the entities to look up.
+     * @return map of entity unique identifier to stored entity
+     * @throws InvalidParameterException the list of guids is null.
+     * @throws RepositoryErrorException there is a problem communicating with the metadata repository where
+     *                                  the metadata collection is stored.
+     * @throws UserNotAuthorizedException the userId is not permitted to perform this operation.
+     */
+    @Override
+    public Map<String, EntityDetail> getKnownEntities(String       userId,
+                                                      List<String> entityGUIDs) throws InvalidParameterException,
+                                                                                       RepositoryErrorException,
+                                                                                       UserNotAuthorizedException
+    {
+        final String methodName = "getKnownEntities";
+        final String guidsParameterName = "entityGUIDs";
+
+        /*
+         * Validate parameters
+         */
+        super.basicRequestValidation(userId, methodName);
+        this.validateBatchParameter(entityGUIDs, guidsParameterName, methodName);
+
+        /*
+         * Perform operation
+         */
+        Map<String, EntityDetail> retrievedEntities;
+
+        if (realMetadataCollection instanceof OMRSReferenceCopyBatchStore realBatchStore)
+        {
+            retrievedEntities = realBatchStore.getKnownEntities(userId, entityGUIDs);
+        }
+        else
+        {
+            retrievedEntities = new HashMap<>();
+
+            for (String entityGUID : entityGUIDs)
+            {
+                EntityDetail entity = realMetadataCollection.isEntityKnown(userId, entityGUID);
+
+                if (entity != null)
+                {
+                    retrievedEntities.put(entityGUID, entity);
+                }
+            }
+        }
+
+        Map<String, EntityDetail> validatedEntities = new HashMap<>();
+
+        if (retrievedEntities != null)
+        {
+            for (Map.Entry<String, EntityDetail> retrievedEntity : retrievedEntities.entrySet())
+            {
+                EntityDetail validatedEntity = this.getValidatedEntity(userId, retrievedEntity.getValue());
+
+                if (validatedEntity != null)
+                {
+                    validatedEntities.put(retrievedEntity.getKey(), validatedEntity);
+                }
+            }
+        }
+
+        return validatedEntities;
+    }
+
+
+    /**
+     * Return the stored versions of the requested relationships.  Relationships that are not stored in the
+     * metadata collection, or that the security verifier hides from the caller, are omitted from the result.
+     *
+     * @param userId unique identifier for requesting user.
+     * @param relationshipGUIDs unique identifiers of the relationships to look up.
+     * @return map of relationship unique identifier to stored relationship
+     * @throws InvalidParameterException the list of guids is null.
+     * @throws RepositoryErrorException there is a problem communicating with the metadata repository where
+     *                                  the metadata collection is stored.
+     * @throws UserNotAuthorizedException the userId is not permitted to perform this operation.
+     */
+    @Override
+    public Map<String, Relationship> getKnownRelationships(String       userId,
+                                                           List<String> relationshipGUIDs) throws InvalidParameterException,
+                                                                                                  RepositoryErrorException,
+                                                                                                  UserNotAuthorizedException
+    {
+        final String methodName = "getKnownRelationships";
+        final String guidsParameterName = "relationshipGUIDs";
+
+        /*
+         * Validate parameters
+         */
+        super.basicRequestValidation(userId, methodName);
+        this.validateBatchParameter(relationshipGUIDs, guidsParameterName, methodName);
+
+        /*
+         * Perform operation
+         */
+        Map<String, Relationship> retrievedRelationships;
+
+        if (realMetadataCollection instanceof OMRSReferenceCopyBatchStore realBatchStore)
+        {
+            retrievedRelationships = realBatchStore.getKnownRelationships(userId, relationshipGUIDs);
+        }
+        else
+        {
+            retrievedRelationships = new HashMap<>();
+
+            for (String relationshipGUID : relationshipGUIDs)
+            {
+                Relationship relationship = realMetadataCollection.isRelationshipKnown(userId, relationshipGUID);
+
+                if (relationship != null)
+                {
+                    retrievedRelationships.put(relationshipGUID, relationship);
+                }
+            }
+        }
+
+        Map<String, Relationship> validatedRelationships = new HashMap<>();
+
+        if (retrievedRelationships != null)
+        {
+            for (Map.Entry<String, Relationship> retrievedRelationship : retrievedRelationships.entrySet())
+            {
+                Relationship validatedRelationship = this.getValidatedRelationship(userId, retrievedRelationship.getValue());
+
+                if (validatedRelationship != null)
+                {
+                    validatedRelationships.put(retrievedRelationship.getKey(), validatedRelationship);
+                }
+            }
+        }
+
+        return validatedRelationships;
+    }
+
+
+    /**
+     * Save a batch of validated reference copies.  Instances from a future version of the OMRS, or that the
+     * security verifier does not permit to be saved, are removed from the batch before it is passed to the
+     * real repository.
+     *
+     * @param userId unique identifier for requesting user.
+     * @param instances entities and relationships to save.
+     * @throws InvalidParameterException the instance graph is null.
+     * @throws RepositoryErrorException there is a problem communicating with the metadata repository where
+     *                                    the metadata collection is stored.
+     * @throws TypeErrorException the requested type is not known, or not supported in the metadata repository
+     *                            hosting the metadata collection.
+     * @throws EntityNotKnownException one of the entities identified by a relationship is not found in the
+     *                                   metadata collection.
+     * @throws PropertyErrorException one or more of the requested properties are not defined, or have different
+     *                                  characteristics in the TypeDef for the instance's type.
+     * @throws EntityConflictException a new entity conflicts with an existing entity.
+     * @throws InvalidEntityException a new entity has invalid contents.
+     * @throws RelationshipConflictException a new relationship conflicts with an existing relationship.
+     * @throws InvalidRelationshipException a new relationship has invalid contents.
+     * @throws FunctionNotSupportedException the repository does not support reference copies of instances.
+     * @throws UserNotAuthorizedException the userId is not permitted to perform this operation.
+     */
+    @Override
+    public void saveReferenceCopyBatch(String        userId,
+                                       InstanceGraph instances) throws InvalidParameterException,
+                                                                       RepositoryErrorException,
+                                                                       TypeErrorException,
+                                                                       EntityNotKnownException,
+                                                                       PropertyErrorException,
+                                                                       EntityConflictException,
+                                                                       RelationshipConflictException,
+                                                                       InvalidEntityException,
+                                                                       InvalidRelationshipException,
+                                                                       FunctionNotSupportedException,
+                                                                       UserNotAuthorizedException
+    {
+        final String methodName = "saveReferenceCopyBatch";
+        final String instancesParameterName = "instances";
+
+        /*
+         * Validate parameters
+         */
+        super.basicRequestValidation(userId, methodName);
+        this.validateBatchParameter(instances, instancesParameterName, methodName);
+
+        List<EntityDetail> validatedEntities = new ArrayList<>();
+
+        if (instances.getEntities() != null)
+        {
+            for (EntityDetail entity : instances.getEntities())
+            {
+                if ((entity != null) &&
+                    (entity.getHeaderVersion() <= InstanceAuditHeader.CURRENT_AUDIT_HEADER_VERSION) &&
+                    (securityVerifier.validateEntityReferenceCopySave(entity)))
+                {
+                    validatedEntities.add(entity);
+                }
+            }
+        }
+
+        List<Relationship> validatedRelationships = new ArrayList<>();
+
+        if (instances.getRelationships() != null)
+        {
+            for (Relationship relationship : instances.getRelationships())
+            {
+                if ((relationship != null) &&
+                    (relationship.getHeaderVersion() <= InstanceAuditHeader.CURRENT_AUDIT_HEADER_VERSION) &&
+                    (securityVerifier.validateRelationshipReferenceCopySave(relationship)))
+                {
+                    validatedRelationships.add(relationship);
+                }
+            }
+        }
+
+        if ((! validatedEntities.isEmpty()) || (! validatedRelationships.isEmpty()))
+        {
+            InstanceGraph validatedInstances = new InstanceGraph();
+
+            validatedInstances.setEntities(validatedEntities);
+            validatedInstances.setRelationships(validatedRelationships);
+
+            /*
+             * delegate processing to the real metadata collection
+             */
+            if (realMetadataCollection instanceof OMRSReferenceCopyBatchStore realBatchStore)
+            {
+                realBatchStore.saveReferenceCopyBatch(userId, validatedInstances);
+            }
+            else
+            {
+                realMetadataCollection.saveInstanceReferenceCopies(userId, validatedInstances);
+            }
+        }
+    }
 }
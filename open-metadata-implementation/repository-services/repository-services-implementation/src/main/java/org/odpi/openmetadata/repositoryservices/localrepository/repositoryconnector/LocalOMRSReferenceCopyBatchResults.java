@@ -0,0 +1,125 @@
+/* SPDX-License-Identifier: Apache-2.0 */
+/* Copyright Contributors to the ODPi Egeria project. */
+package org.odpi.openmetadata.repositoryservices.localrepository.repositoryconnector;
+
+/**
+ * LocalOMRSReferenceCopyBatchResults counts what happened to the instances passed to
+ * LocalOMRSInstanceEventProcessor.processReferenceCopyBatch().  It is used to write a single summary
+ * audit log record rather than one record per instance.
+ */
+public class LocalOMRSReferenceCopyBatchResults
+{
+    private long savedInBatchCount        = 0;
+    private long alreadyStoredCount       = 0;
+    private long processedIndividualCount = 0;
+
+
+    /**
+     * Default constructor
+     */
+    public LocalOMRSReferenceCopyBatchResults()
+    {
+    }
+
+
+    /**
+     * Add the counts from another set of results.  This is used to summarize the results from
+     * several calls to processReferenceCopyBatch().
+     *
+     * @param results results to add
+     */
+    public void addResults(LocalOMRSReferenceCopyBatchResults results)
+    {
+        if (results != null)
+        {
+            savedInBatchCount        += results.getSavedInBatchCount();
+            alreadyStoredCount       += results.getAlreadyStoredCount();
+            processedIndividualCount += results.getProcessedIndividualCount();
+        }
+    }
+
+
+    /**
+     * Record that instances were saved through the batch interface of the repository.
+     *
+     * @param count number of instances
+     */
+    void addSavedInBatch(long count)
+    {
+        savedInBatchCount += count;
+    }
+
+
+    /**
+     * Record that instances were skipped because the same, or a later, version is already stored.
+     *
+     * @param count number of instances
+     */
+    void addAlreadyStored(long count)
+    {
+        alreadyStoredCount += count;
+    }
+
+
+    /**
+     * Record that instances were passed through the usual event processing because they could not be
+     * handled in a batch.
+     *
+     * @param count number of instances
+     */
+    void addProcessedIndividually(long count)
+    {
+        processedIndividualCount += count;
+    }
+
+
+    /**
+     * Return the number of instances that were saved through the batch interface of the repository.
+     *
+     * @return count
+     */
+    public long getSavedInBatchCount()
+    {
+        return savedInBatchCount;
+    }
+
+
+    /**
+     * Return the number of instances that were skipped because the same, or a later, version is already stored.
+     *
+     * @return count
+     */
+    public long getAlreadyStoredCount()
+    {
+        return alreadyStoredCount;
+    }
+
+
+    /**
+     * Return the number of instances that were passed through the usual event processing.  This includes
+     * instances that failed validation, conflicted with a stored instance, were filtered by the exchange
+     * rule or were in a batch that the repository failed to save.
+     *
+     * @return count
+     */
+    public long getProcessedIndividualCount()
+    {
+        return processedIndividualCount;
+    }
+
+
+    /**
+     * Standard toString method.
+     *
+     * @return print out of variables in a JSON-style
+     */
+    @Override
+    public String toString()
+    {
+        return "LocalOMRSReferenceCopyBatchResults{" +
+                "savedInBatchCount=" + savedInBatchCount +
+                ", alreadyStoredCount=" + alreadyStoredCount +
+                ", processedIndividualCount=" + processedIndividualCount +
+                '}';
+    }
+}
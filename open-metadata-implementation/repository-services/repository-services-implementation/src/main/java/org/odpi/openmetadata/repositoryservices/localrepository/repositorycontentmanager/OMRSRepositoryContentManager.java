@@ -21,6 +21,8 @@ import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
 
 /**
  * OMRSRepositoryContentManager supports an in-memory cache of TypeDefs for the local server.  It is used by the OMRS
@@ -52,19 +54,25 @@ public class OMRSRepositoryContentManager extends OMRSTypeDefEventProcessor impl
     private OMRSRepositoryEventManager      outboundRepositoryEventManager = null;
     private String                          openTypesOriginGUID            = null;
 
-    private final Map<String, TypeDef>            knownTypeDefGUIDs              = new HashMap<>();
-    private final Map<String, TypeDef>            knownTypeDefNames              = new HashMap<>();
+    private final Map<String, TypeDef>            knownTypeDefGUIDs              = new ConcurrentHashMap<>();
+    private final Map<String, TypeDef>            knownTypeDefNames              = new ConcurrentHashMap<>();
     private final Map<String, AttributeTypeDef>   knownAttributeTypeDefGUIDs     = new HashMap<>();
     private final Map<String, AttributeTypeDef>   knownAttributeTypeDefNames     = new HashMap<>();
-    private final Map<String, TypeDef>            activeTypeDefGUIDs             = new HashMap<>();
-    private final Map<String, TypeDef>            activeTypeDefNames             = new HashMap<>();
+    private final Map<String, TypeDef>            activeTypeDefGUIDs             = new ConcurrentHashMap<>();
+    private final Map<String, TypeDef>            activeTypeDefNames             = new ConcurrentHashMap<>();
     private final Map<String, AttributeTypeDef>   activeAttributeTypeDefGUIDs    = new HashMap<>();
     private final Map<String, AttributeTypeDef>   activeAttributeTypeDefNames    = new HashMap<>();
-    private final Map<String, List<TypeDefLink>>  typeDefSuperTypes              = new HashMap<>();
-    private final Map<String, InstanceType>       knownInstanceTypes             = new HashMap<>();
     private final Map<String, String>             metadataCollectionNames        = new HashMap<>();
     private final Map<String, Set<String>>        knownPropertyToTypeDefNames    = new HashMap<>();
 
+    /*
+     * The type registry snapshot holds the type hierarchies and attribute lists calculated from knownTypeDefNames.
+     * Any change to the known TypeDefs increments typeDefChangeCount, and the next reader builds a new snapshot.
+     */
+    private final AtomicLong                      typeDefChangeCount             = new AtomicLong(0);
+    private final Object                          typeRegistryLock               = new Object();
+    private volatile OMRSTypeRegistrySnapshot     typeRegistry                   = null;
+
 
     /*
      * The audit log provides a verifiable record of the open metadata archives that have been loaded into
@@ -152,8 +160,15 @@ public class OMRSRepositoryContentManager extends OMRSTypeDefEventProcessor impl
      */
     private void cacheTypeDef(String  sourceName, TypeDef      newTypeDef, boolean isLocallySupported)
     {
+        if ((newTypeDef.getGUID() == null) || (newTypeDef.getName() == null))
+        {
+            log.error("TypeDef from {} has a null identifier and can not be cached: {}", sourceName, newTypeDef);
+            return;
+        }
+
         knownTypeDefGUIDs.put(newTypeDef.getGUID(), newTypeDef);
         knownTypeDefNames.put(newTypeDef.getName(), newTypeDef);
+        typeDefChangeCount.incrementAndGet();
 
         if (isLocallySupported)
         {
@@ -236,15 +251,28 @@ public class OMRSRepositoryContentManager extends OMRSTypeDefEventProcessor impl
                                 String  obsoleteTypeDefName,
                                 boolean isLocallySupported)
     {
-        knownTypeDefGUIDs.remove(obsoleteTypeDefGUID);
-        knownTypeDefNames.remove(obsoleteTypeDefName);
+        if (obsoleteTypeDefGUID != null)
+        {
+            knownTypeDefGUIDs.remove(obsoleteTypeDefGUID);
 
-        if (isLocallySupported)
+            if (isLocallySupported)
+            {
+                activeTypeDefGUIDs.remove(obsoleteTypeDefGUID);
+            }
+        }
+
+        if (obsoleteTypeDefName != null)
         {
-            activeTypeDefGUIDs.remove(obsoleteTypeDefGUID);
-            activeTypeDefNames.remove(obsoleteTypeDefName);
+            knownTypeDefNames.remove(obsoleteTypeDefName);
+
+            if (isLocallySupported)
+            {
+                activeTypeDefNames.remove(obsoleteTypeDefName);
+            }
         }
 
+        typeDefChangeCount.incrementAndGet();
+
         log.debug("Removed Type {} from {}", obsoleteTypeDefName, sourceName);
         uncacheTypeDefPropertyLookup(sourceName, obsoleteTypeDefName);
     }
@@ -345,6 +373,7 @@ public class OMRSRepositoryContentManager extends OMRSTypeDefEventProcessor impl
         {
             knownTypeDefGUIDs.remove(obsoleteTypeDefGUID);
             knownTypeDefNames.remove(obsoleteTypeDefName);
+            typeDefChangeCount.incrementAndGet();
 
             if (localRepositoryConnector != null)
             {
@@ -501,93 +530,101 @@ public class OMRSRepositoryContentManager extends OMRSTypeDefEventProcessor impl
 
 
     /**
-     * Evaluate the superTypes for a type.  The results are cached in typeDefSuperTypes.
+     * Return the current type registry snapshot, building a new one if the known TypeDefs have changed since
+     * the last snapshot was built.
      *
-     * @param sourceName source of the request (used for logging)
-     * @param typeName name of type to process
-     * @param methodName calling method
-     * @return list of supertype links or null if top level
+     * @return type registry snapshot
      */
-    public List<TypeDefLink>   getSuperTypes(String    sourceName,
-                                             String    typeName,
-                                             String    methodName)
+    private OMRSTypeRegistrySnapshot getTypeRegistry()
     {
-        final String  thisMethodName = "getSuperTypes";
+        OMRSTypeRegistrySnapshot currentTypeRegistry = typeRegistry;
 
-        List<TypeDefLink>   typeHierarchy = typeDefSuperTypes.get(typeName);
-
-        if (typeHierarchy == null)
+        if ((currentTypeRegistry == null) || (currentTypeRegistry.getTypeDefChangeCount() != typeDefChangeCount.get()))
         {
-            /*
-             * The type hierarchy is not known at this time (it is evaluated lazily).
-             */
-            typeHierarchy = new ArrayList<>();
-
-            TypeDef typeDef = knownTypeDefNames.get(typeName);
-
-            if (typeDef != null)
+            synchronized (typeRegistryLock)
             {
-                TypeDefLink superTypeLink = typeDef.getSuperType();
+                long changeCount = typeDefChangeCount.get();
 
-                while (superTypeLink != null)
+                currentTypeRegistry = typeRegistry;
+
+                if ((currentTypeRegistry == null) || (currentTypeRegistry.getTypeDefChangeCount() != changeCount))
                 {
-                    String superTypeName = superTypeLink.getName();
+                    currentTypeRegistry = new OMRSTypeRegistrySnapshot(changeCount, knownTypeDefNames.values());
+                    typeRegistry = currentTypeRegistry;
 
-                    if (superTypeName != null)
-                    {
-                        log.debug(typeName + " has super type " + superTypeName);
+                    log.debug("Built type registry snapshot {}", changeCount);
+                }
+            }
+        }
 
-                        typeHierarchy.add(superTypeLink);
+        return currentTypeRegistry;
+    }
 
-                        /*
-                         * Retrieve the TypeDef for this super type
-                         */
-                        TypeDef superTypeDef = knownTypeDefNames.get(superTypeName);
 
-                        if (superTypeDef != null)
-                        {
-                            /*
-                             * Retrieve the super type for this super typeDef.  It will be null if the type is top-level.
-                             */
-                            superTypeLink = superTypeDef.getSuperType();
-                        }
-                        else
-                        {
-                            log.error(superTypeName + " supertype is not known in TypeDef cache");
-                            throwContentManagerLogicError(sourceName, methodName, thisMethodName);
-                        }
-                    }
-                    else
-                    {
-                        log.error("Corrupted TypeDef cache, no name for " + superTypeLink);
-                        throwContentManagerLogicError(sourceName, methodName, thisMethodName);
-                    }
-                }
+    /**
+     * Return the identifier of a type in the type registry snapshot.  If the type is not known, or its
+     * type hierarchy is not valid, a logic error is thrown.
+     *
+     * @param sourceName source of the request (used for logging)
+     * @param currentTypeRegistry type registry snapshot
+     * @param typeName name of type to process
+     * @param methodName calling method
+     * @param thisMethodName method that detected the error
+     * @return type identifier
+     */
+    private int getValidTypeId(String                   sourceName,
+                               OMRSTypeRegistrySnapshot currentTypeRegistry,
+                               String                   typeName,
+                               String                   methodName,
+                               String                   thisMethodName)
+    {
+        Integer typeId = currentTypeRegistry.getTypeIdByName(typeName);
 
-                /*
-                 * Cache the resulting superType list
-                 */
-                typeDefSuperTypes.put(typeName, typeHierarchy);
-            }
-            else
-            {
-                log.error(typeName + " type is not known in TypeDef cache");
-                throwContentManagerLogicError(sourceName, methodName, thisMethodName + "(" + typeName + ")");
-            }
+        if (typeId == null)
+        {
+            log.error("{} type is not known in TypeDef cache", typeName);
+            throwContentManagerLogicError(sourceName, methodName, thisMethodName + "(" + typeName + ")");
         }
+        else if (! currentTypeRegistry.hasValidHierarchy(typeId))
+        {
+            log.error("{} type has a supertype that is not known in TypeDef cache", typeName);
+            throwContentManagerLogicError(sourceName, methodName, thisMethodName);
+        }
+
+        return typeId;
+    }
+
+
+    /**
+     * Return the superTypes for a type.  The type hierarchies are calculated when the type registry snapshot is built.
+     *
+     * @param sourceName source of the request (used for logging)
+     * @param typeName name of type to process
+     * @param methodName calling method
+     * @return list of supertype links or null if top level
+     */
+    public List<TypeDefLink>   getSuperTypes(String    sourceName,
+                                             String    typeName,
+                                             String    methodName)
+    {
+        final String  thisMethodName = "getSuperTypes";
+
+        OMRSTypeRegistrySnapshot currentTypeRegistry = getTypeRegistry();
+        List<TypeDefLink>        typeHierarchy       = currentTypeRegistry.getSuperTypes(getValidTypeId(sourceName,
+                                                                                                         currentTypeRegistry,
+                                                                                                         typeName,
+                                                                                                         methodName,
+                                                                                                         thisMethodName));
 
         if (typeHierarchy.isEmpty())
         {
             /*
-             * The type hierarchy has been evaluated and this type has no supertypes.
+             * This type has no supertypes.
              */
             return null;
         }
         else
         {
-            /*
-             * The type hierarchy is known and can be returned directly.
-             */
             return typeHierarchy;
         }
     }
@@ -608,7 +645,7 @@ public class OMRSRepositoryContentManager extends OMRSTypeDefEventProcessor impl
     {
         final String methodName = "isTypeOf";
 
-        log.debug("isTypeOf: sourceName = " + sourceName + "; actualTypeName = " + actualTypeName + "; expectedTypeName = " + expectedTypeName);
+        log.debug("isTypeOf: sourceName = {}; actualTypeName = {}; expectedTypeName = {}", sourceName, actualTypeName, expectedTypeName);
 
         if (expectedTypeName == null)
         {
@@ -632,36 +669,17 @@ public class OMRSRepositoryContentManager extends OMRSTypeDefEventProcessor impl
          */
         if (actualTypeName.equals(expectedTypeName))
         {
-            log.debug("Simple match success");
             return true;
         }
 
         /*
          * Looking for a match in the superTypes.
          */
-        List<TypeDefLink>   typeHierarchy = this.getSuperTypes(sourceName, actualTypeName, methodName);
-
-        if (typeHierarchy != null)
-        {
-            for (TypeDefLink superType : typeHierarchy)
-            {
-                if (superType != null)
-                {
-                    if (expectedTypeName.equals(superType.getName()))
-                    {
-                        log.debug("SuperType match success");
-                        return true;
-                    }
+        OMRSTypeRegistrySnapshot currentTypeRegistry = getTypeRegistry();
+        int                      actualTypeId        = getValidTypeId(sourceName, currentTypeRegistry, actualTypeName, methodName, methodName);
+        Integer                  expectedTypeId      = currentTypeRegistry.getTypeIdByName(expectedTypeName);
 
-                    log.debug("No match with " + superType.getName());
-                }
-            }
-        }
-
-        /*
-         * No match found
-         */
-        return false;
+        return (expectedTypeId != null) && (currentTypeRegistry.isTypeOf(actualTypeId, expectedTypeId));
     }
 
 
@@ -682,14 +700,13 @@ public class OMRSRepositoryContentManager extends OMRSTypeDefEventProcessor impl
     {
         final String methodName = "isTypeOfByGUID";
 
-        log.debug("IsTypeOfByGUID: sourceName = " + sourceName + "; actualTypeName = " + actualTypeName + "; expectedTypeGUID = " + expectedTypeGUID);
+        log.debug("IsTypeOfByGUID: sourceName = {}; actualTypeName = {}; expectedTypeGUID = {}", sourceName, actualTypeName, expectedTypeGUID);
 
         if (expectedTypeGUID == null)
         {
             /*
              * If the expected type GUID is null, it means that any type is allowed.
              */
-            log.debug("Any type will do");
             return true;
         }
 
@@ -699,7 +716,6 @@ public class OMRSRepositoryContentManager extends OMRSTypeDefEventProcessor impl
          */
         if (actualTypeGUID == null)
         {
-            log.debug("No type to test against");
             return false;
         }
 
@@ -708,32 +724,17 @@ public class OMRSRepositoryContentManager extends OMRSTypeDefEventProcessor impl
          */
         if (actualTypeGUID.equals(expectedTypeGUID))
         {
-            log.debug("Simple match success");
             return true;
         }
 
         /*
          * Looking for a match in the superTypes.
          */
-       List<TypeDefLink>   typeHierarchy = this.getSuperTypes(sourceName, actualTypeName, methodName);
+        OMRSTypeRegistrySnapshot currentTypeRegistry = getTypeRegistry();
+        int                      actualTypeId        = getValidTypeId(sourceName, currentTypeRegistry, actualTypeName, methodName, methodName);
+        Integer                  expectedTypeId      = currentTypeRegistry.getTypeIdByGUID(expectedTypeGUID);
 
-        if (typeHierarchy != null)
-        {
-            for (TypeDefLink superType : typeHierarchy)
-            {
-                if (superType != null)
-                {
-                    if (expectedTypeGUID.equals(superType.getGUID()))
-                    {
-                        log.debug("SuperType match success");
-                        return true;
-                    }
-                    log.debug("No match with " + superType.getGUID());
-                }
-            }
-        }
-
-        return false;
+        return (expectedTypeId != null) && (currentTypeRegistry.isTypeOf(actualTypeId, expectedTypeId));
     }
 
 
@@ -760,7 +761,8 @@ public class OMRSRepositoryContentManager extends OMRSTypeDefEventProcessor impl
 
         if (isValidTypeCategory(sourceName, category, typeName, methodName))
         {
-            InstanceType    instanceType = knownInstanceTypes.get(typeName);
+            OMRSTypeRegistrySnapshot currentTypeRegistry = getTypeRegistry();
+            InstanceType             instanceType        = currentTypeRegistry.getInstanceType(typeName);
 
             if (instanceType != null)
             {
@@ -849,9 +851,9 @@ public class OMRSRepositoryContentManager extends OMRSTypeDefEventProcessor impl
                 }
 
                 /*
-                 * Cache the instance type for next time
+                 * Cache the instance type for next time.  The cache is discarded when the TypeDefs change.
                  */
-                knownInstanceTypes.put(typeName, instanceType);
+                currentTypeRegistry.putInstanceType(typeName, instanceType);
 
                 return instanceType;
             }
@@ -1506,6 +1508,23 @@ public class OMRSRepositoryContentManager extends OMRSTypeDefEventProcessor impl
             return null;
         }
 
+        /*
+         * Use the attribute list calculated in the type registry snapshot if the TypeDef is the version that is cached.
+         */
+        OMRSTypeRegistrySnapshot currentTypeRegistry = getTypeRegistry();
+        Integer                  typeId              = currentTypeRegistry.getTypeIdByName(typeDef.getName());
+
+        if ((typeId != null) && (currentTypeRegistry.hasValidHierarchy(typeId)))
+        {
+            TypeDef cachedTypeDef = currentTypeRegistry.getTypeDef(typeId);
+
+            if ((cachedTypeDef == typeDef) ||
+                ((Objects.equals(cachedTypeDef.getGUID(), typeDef.getGUID())) && (cachedTypeDef.getVersion() == typeDef.getVersion())))
+            {
+                return currentTypeRegistry.getAllPropertiesDefinition(typeId);
+            }
+        }
+
         List<TypeDefAttribute>    propertiesDefinition = typeDef.getPropertiesDefinition();
 
         /*
@@ -1586,6 +1605,7 @@ public class OMRSRepositoryContentManager extends OMRSTypeDefEventProcessor impl
                 if (!isKnownType(sourceName, typeDef.getGUID(), typeDef.getName()))
                 {
                     knownTypeDefNames.put(typeDef.getName(), typeDef);
+                    typeDefChangeCount.incrementAndGet();
                 }
             }
             else
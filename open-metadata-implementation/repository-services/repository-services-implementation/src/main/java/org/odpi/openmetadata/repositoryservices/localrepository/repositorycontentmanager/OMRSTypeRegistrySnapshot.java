@@ -0,0 +1,280 @@
+/* SPDX-License-Identifier: Apache-2.0 */
+/* Copyright Contributors to the ODPi Egeria project. */
+package org.odpi.openmetadata.repositoryservices.localrepository.repositorycontentmanager;
+
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.instances.InstanceType;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.typedefs.TypeDef;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.typedefs.TypeDefAttribute;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.typedefs.TypeDefLink;
+
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * OMRSTypeRegistrySnapshot is an immutable view of the TypeDefs known to the OMRSRepositoryContentManager at a
+ * point in time.  Each TypeDef is given a dense integer identifier and its type hierarchy and full list of
+ * attributes (including those inherited from its super types) are calculated when the snapshot is built.
+ * This means that testing whether one type is a subtype of another is a single bit test.
+ * <br><br>
+ * The content manager builds a new snapshot after its TypeDefs change and swaps it in with a single volatile
+ * write.  Request threads read whichever snapshot is current without locking.  The only mutable state is the
+ * cache of InstanceType objects which is populated lazily and discarded with the snapshot.
+ */
+class OMRSTypeRegistrySnapshot
+{
+    private final long                         typeDefChangeCount;
+    private final Map<String, Integer>         typeIdsByName           = new HashMap<>();
+    private final Map<String, Integer>         typeIdsByGUID           = new HashMap<>();
+    private final List<TypeDef>                typeDefs                = new ArrayList<>();
+    private final List<BitSet>                 superTypeIds            = new ArrayList<>();
+    private final List<List<TypeDefLink>>      superTypeLinks          = new ArrayList<>();
+    private final List<List<TypeDefAttribute>> allPropertiesDefinition = new ArrayList<>();
+    private final Map<String, InstanceType>    instanceTypes           = new ConcurrentHashMap<>();
+
+
+    /**
+     * Build the snapshot from the known TypeDefs.
+     *
+     * @param typeDefChangeCount count of changes to the content manager's TypeDefs when this snapshot was built
+     * @param knownTypeDefs TypeDefs to include in the snapshot
+     */
+    OMRSTypeRegistrySnapshot(long                typeDefChangeCount,
+                             Collection<TypeDef> knownTypeDefs)
+    {
+        this.typeDefChangeCount = typeDefChangeCount;
+
+        for (TypeDef typeDef : knownTypeDefs)
+        {
+            if ((typeDef != null) && (typeDef.getName() != null) && (! typeIdsByName.containsKey(typeDef.getName())))
+            {
+                int typeId = typeDefs.size();
+
+                typeDefs.add(typeDef);
+                typeIdsByName.put(typeDef.getName(), typeId);
+
+                if (typeDef.getGUID() != null)
+                {
+                    typeIdsByGUID.put(typeDef.getGUID(), typeId);
+                }
+            }
+        }
+
+        for (int typeId = 0; typeId < typeDefs.size(); typeId++)
+        {
+            resolveHierarchy(typeId);
+        }
+    }
+
+
+    /**
+     * Work up the type hierarchy of a TypeDef, recording the identifiers of its super types, the links to
+     * its super types and all of its attributes.  If one of the super types is not known, or the
+     * hierarchy loops back on itself, the hierarchy is recorded as null so that the content manager can
+     * report the error when the type is used.
+     *
+     * @param typeId identifier of the TypeDef to process
+     */
+    private void resolveHierarchy(int typeId)
+    {
+        TypeDef                typeDef              = typeDefs.get(typeId);
+        BitSet                 typeIds              = new BitSet(typeDefs.size());
+        List<TypeDefLink>      links                = new ArrayList<>();
+        List<TypeDefAttribute> propertiesDefinition = new ArrayList<>();
+        boolean                validHierarchy       = true;
+
+        typeIds.set(typeId);
+        addPropertiesDefinition(propertiesDefinition, typeDef);
+
+        TypeDefLink superTypeLink = typeDef.getSuperType();
+
+        while ((superTypeLink != null) && (validHierarchy))
+        {
+            Integer superTypeId = null;
+
+            if (superTypeLink.getName() != null)
+            {
+                superTypeId = typeIdsByName.get(superTypeLink.getName());
+            }
+
+            if ((superTypeId == null) || (typeIds.get(superTypeId)))
+            {
+                validHierarchy = false;
+            }
+            else
+            {
+                TypeDef superTypeDef = typeDefs.get(superTypeId);
+
+                typeIds.set(superTypeId);
+                links.add(superTypeLink);
+                addPropertiesDefinition(propertiesDefinition, superTypeDef);
+
+                superTypeLink = superTypeDef.getSuperType();
+            }
+        }
+
+        if (validHierarchy)
+        {
+            superTypeIds.add(typeIds);
+            superTypeLinks.add(links);
+            allPropertiesDefinition.add(propertiesDefinition);
+        }
+        else
+        {
+            superTypeIds.add(null);
+            superTypeLinks.add(null);
+            allPropertiesDefinition.add(null);
+        }
+    }
+
+
+    /**
+     * Add the attributes defined directly in a TypeDef to the accumulated list.
+     *
+     * @param propertiesDefinition accumulated list
+     * @param typeDef TypeDef to extract attributes from
+     */
+    private void addPropertiesDefinition(List<TypeDefAttribute> propertiesDefinition,
+                                         TypeDef                typeDef)
+    {
+        List<TypeDefAttribute> typeDefAttributes = typeDef.getPropertiesDefinition();
+
+        if (typeDefAttributes != null)
+        {
+            propertiesDefinition.addAll(typeDefAttributes);
+        }
+    }
+
+
+    /**
+     * Return the count of TypeDef changes that this snapshot reflects.
+     *
+     * @return long
+     */
+    long getTypeDefChangeCount()
+    {
+        return typeDefChangeCount;
+    }
+
+
+    /**
+     * Return the identifier for the named TypeDef.
+     *
+     * @param typeName unique name of the TypeDef
+     * @return identifier or null if the type is not known
+     */
+    Integer getTypeIdByName(String typeName)
+    {
+        return typeIdsByName.get(typeName);
+    }
+
+
+    /**
+     * Return the identifier for the TypeDef with the supplied unique identifier.
+     *
+     * @param typeGUID unique identifier of the TypeDef
+     * @return identifier or null if the type is not known
+     */
+    Integer getTypeIdByGUID(String typeGUID)
+    {
+        return typeIdsByGUID.get(typeGUID);
+    }
+
+
+    /**
+     * Return the TypeDef that the snapshot was built from.
+     *
+     * @param typeId identifier of the TypeDef
+     * @return TypeDef
+     */
+    TypeDef getTypeDef(int typeId)
+    {
+        return typeDefs.get(typeId);
+    }
+
+
+    /**
+     * Return whether the type hierarchy of the TypeDef could be resolved.
+     *
+     * @param typeId identifier of the TypeDef
+     * @return boolean
+     */
+    boolean hasValidHierarchy(int typeId)
+    {
+        return superTypeIds.get(typeId) != null;
+    }
+
+
+    /**
+     * Return whether a type is the same as, or a subtype of, another type.
+     *
+     * @param actualTypeId identifier of the type to test (must have a valid hierarchy)
+     * @param expectedTypeId identifier of the type that is expected
+     * @return boolean
+     */
+    boolean isTypeOf(int actualTypeId,
+                     int expectedTypeId)
+    {
+        return superTypeIds.get(actualTypeId).get(expectedTypeId);
+    }
+
+
+    /**
+     * Return the links to the super types of the TypeDef, starting with its immediate super type.
+     *
+     * @param typeId identifier of the TypeDef
+     * @return list of links (empty if the type has no super type) or null if the hierarchy is not valid
+     */
+    List<TypeDefLink> getSuperTypes(int typeId)
+    {
+        return superTypeLinks.get(typeId);
+    }
+
+
+    /**
+     * Return the attributes of the TypeDef and all of its super types.
+     *
+     * @param typeId identifier of the TypeDef
+     * @return new list of attributes or null if the hierarchy is not valid
+     */
+    List<TypeDefAttribute> getAllPropertiesDefinition(int typeId)
+    {
+        List<TypeDefAttribute> propertiesDefinition = allPropertiesDefinition.get(typeId);
+
+        if (propertiesDefinition == null)
+        {
+            return null;
+        }
+
+        return new ArrayList<>(propertiesDefinition);
+    }
+
+
+    /**
+     * Return a cached instance type.
+     *
+     * @param typeName name of the type
+     * @return instance type or null if it has not yet been built
+     */
+    InstanceType getInstanceType(String typeName)
+    {
+        return instanceTypes.get(typeName);
+    }
+
+
+    /**
+     * Save an instance type built from a TypeDef in this snapshot.
+     *
+     * @param typeName name of the type
+     * @param instanceType instance type
+     */
+    void putInstanceType(String       typeName,
+                         InstanceType instanceType)
+    {
+        instanceTypes.put(typeName, instanceType);
+    }
+}
@@ -49,6 +49,8 @@ public class OMRSCohortManager
 
     private String                       localMetadataCollectionId        = null;
     private OMRSRepositoryEventPublisher outboundRepositoryEventPublisher = null;
+    private long                         eventCoalescingWindow            = 0L;
+    private OMRSRecentInstanceEvents     recentInstanceEvents             = null;
 
     private final AuditLog                     auditLog;
 
@@ -66,6 +68,20 @@ public class OMRSCohortManager
     }
 
 
+    /**
+     * Set up the coalescing of incoming instance events.  This must be called before initialize().
+     *
+     * @param eventCoalescingWindow time in milliseconds that incoming instance events are held (zero means no coalescing)
+     * @param recentInstanceEvents table of recent instance events shared by all the cohorts that the server belongs to
+     */
+    void setEventCoalescing(long                     eventCoalescingWindow,
+                            OMRSRecentInstanceEvents recentInstanceEvents)
+    {
+        this.eventCoalescingWindow = eventCoalescingWindow;
+        this.recentInstanceEvents  = recentInstanceEvents;
+    }
+
+
     /**
      * The constructor defines the minimum information necessary to connect to a cohort.  If these values
      * are not correctly configured, the constructor will throw an exception.
@@ -152,6 +168,8 @@ public class OMRSCohortManager
                                                                                new OMRSRepositoryContentValidator(localRepositoryContentManager),
                                                                                auditLog.createNewAuditLog(OMRSAuditingComponent.REPOSITORY_EVENT_MANAGER));
 
+            this.cohortRepositoryEventManager.setEventCoalescing(eventCoalescingWindow, recentInstanceEvents);
+
             /*
              * Create event publisher(s) for the cohort registry to use to send registration requests.
              */
@@ -567,6 +585,11 @@ public class OMRSCohortManager
                 cohortInstancesTopicConnector.disconnect();
             }
 
+            if (cohortRepositoryEventManager != null)
+            {
+                cohortRepositoryEventManager.disconnect();
+            }
+
             cohortConnectionStatus = CohortConnectionStatus.DISCONNECTED;
         }
         catch (ConnectorCheckedException   error)
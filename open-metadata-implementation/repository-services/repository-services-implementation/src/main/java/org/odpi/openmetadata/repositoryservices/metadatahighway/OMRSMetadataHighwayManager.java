@@ -45,6 +45,7 @@ public class OMRSMetadataHighwayManager
     private final OMRSConnectionConsumer       enterpriseAccessConnectionConsumer; /* set in constructor */
     private final OMRSTopicConnector           enterpriseAccessTopicConnector;     /* set in constructor */
     private final AuditLog                     auditLog;
+    private final OMRSRecentInstanceEvents     recentInstanceEvents = new OMRSRecentInstanceEvents();
 
     private static final Logger log = LoggerFactory.getLogger(OMRSMetadataHighwayManager.class);
 
@@ -226,6 +227,8 @@ public class OMRSMetadataHighwayManager
                     = new OMRSRepositoryEventExchangeRule(cohortConfig.getEventsToProcessRule(),
                                                           cohortConfig.getSelectedTypesToProcess());
 
+            cohortManager.setEventCoalescing(cohortConfig.getEventCoalescingWindow(), recentInstanceEvents);
+
             cohortManager.initialize(cohortConfig.getCohortName(),
                                      localMetadataCollectionId,
                                      localMetadataCollectionName,
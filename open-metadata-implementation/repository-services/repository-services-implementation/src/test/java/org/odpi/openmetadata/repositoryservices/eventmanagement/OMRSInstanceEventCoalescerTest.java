@@ -0,0 +1,192 @@
+/* SPDX-License-Identifier: Apache-2.0 */
+/* Copyright Contributors to the ODPi Egeria project. */
+package org.odpi.openmetadata.repositoryservices.eventmanagement;
+
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.instances.EntityDetail;
+import org.odpi.openmetadata.repositoryservices.events.OMRSInstanceEvent;
+import org.odpi.openmetadata.repositoryservices.events.OMRSInstanceEventType;
+import org.testng.annotations.AfterMethod;
+import org.testng.annotations.BeforeMethod;
+import org.testng.annotations.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.testng.Assert.assertEquals;
+
+
+/**
+ * Verify that the event coalescer never lets a held event overtake a delete or purge event.  The coalescing
+ * window is long so the held events are only passed on when a later event forces them out.
+ */
+public class OMRSInstanceEventCoalescerTest
+{
+    private static final long coalescingWindow = 60000;
+
+    private final List<String> distributedEvents = new ArrayList<>();
+
+    private OMRSInstanceEventCoalescer coalescer = null;
+
+
+    /**
+     * Create a coalescer that records the events it passes on.
+     */
+    @BeforeMethod
+    public void setUp()
+    {
+        distributedEvents.clear();
+
+        coalescer = new OMRSInstanceEventCoalescer("testEventManager",
+                                                   coalescingWindow,
+                                                   new OMRSRecentInstanceEvents(),
+                                                   this::recordEvent);
+    }
+
+
+    /**
+     * Stop the distribution thread.
+     */
+    @AfterMethod
+    public void tearDown()
+    {
+        coalescer.shutdown();
+    }
+
+
+    /**
+     * A delete event pushes out the held event for the same entity, which has been replaced by its latest
+     * version, and is passed on after it.
+     */
+    @Test
+    public void testDeleteFollowsHeldUpdate()
+    {
+        coalescer.submitInstanceEvent(new OMRSInstanceEvent(OMRSInstanceEventType.NEW_ENTITY_EVENT, this.getEntity("entity-1", 1)));
+        coalescer.submitInstanceEvent(new OMRSInstanceEvent(OMRSInstanceEventType.UPDATED_ENTITY_EVENT, this.getEntity("entity-1", 1), this.getEntity("entity-1", 2)));
+        coalescer.submitInstanceEvent(new OMRSInstanceEvent(OMRSInstanceEventType.DELETED_ENTITY_EVENT, this.getEntity("entity-1", 3)));
+
+        this.waitForEvents(2);
+
+        assertEquals(distributedEvents, List.of("UPDATED_ENTITY_EVENT:entity-1:2",
+                                                "DELETED_ENTITY_EVENT:entity-1:3"));
+        assertEquals(coalescer.getMergedEventCount(), 1);
+    }
+
+
+    /**
+     * A purge event, which does not carry the entity, pushes out all the held events in the order they arrived
+     * and is passed on after them.  The events submitted after the purge are held again.
+     */
+    @Test
+    public void testPurgeFollowsHeldEvents()
+    {
+        coalescer.submitInstanceEvent(new OMRSInstanceEvent(OMRSInstanceEventType.NEW_ENTITY_EVENT, this.getEntity("entity-1", 1)));
+        coalescer.submitInstanceEvent(new OMRSInstanceEvent(OMRSInstanceEventType.NEW_ENTITY_EVENT, this.getEntity("entity-2", 1)));
+        coalescer.submitInstanceEvent(new OMRSInstanceEvent(OMRSInstanceEventType.DELETED_ENTITY_EVENT, this.getEntity("entity-1", 2)));
+        coalescer.submitInstanceEvent(new OMRSInstanceEvent(OMRSInstanceEventType.PURGED_ENTITY_EVENT, "type-guid", "TestEntity", "entity-1"));
+        coalescer.submitInstanceEvent(new OMRSInstanceEvent(OMRSInstanceEventType.NEW_ENTITY_EVENT, this.getEntity("entity-3", 1)));
+
+        this.waitForEvents(4);
+
+        assertEquals(distributedEvents, List.of("NEW_ENTITY_EVENT:entity-1:1",
+                                                "NEW_ENTITY_EVENT:entity-2:1",
+                                                "DELETED_ENTITY_EVENT:entity-1:2",
+                                                "PURGED_ENTITY_EVENT:entity-1"));
+
+        coalescer.shutdown();
+
+        assertEquals(distributedEvents.get(4), "NEW_ENTITY_EVENT:entity-3:1");
+    }
+
+
+    /**
+     * A repeat of a delete event is discarded, and an update that arrives after the delete is held and passed on
+     * after it rather than being merged into an event that is already on its way.
+     */
+    @Test
+    public void testRepeatedDeleteIsDiscarded()
+    {
+        coalescer.submitInstanceEvent(new OMRSInstanceEvent(OMRSInstanceEventType.NEW_ENTITY_EVENT, this.getEntity("entity-1", 1)));
+        coalescer.submitInstanceEvent(new OMRSInstanceEvent(OMRSInstanceEventType.DELETED_ENTITY_EVENT, this.getEntity("entity-1", 2)));
+        coalescer.submitInstanceEvent(new OMRSInstanceEvent(OMRSInstanceEventType.DELETED_ENTITY_EVENT, this.getEntity("entity-1", 2)));
+        coalescer.submitInstanceEvent(new OMRSInstanceEvent(OMRSInstanceEventType.UPDATED_ENTITY_EVENT, this.getEntity("entity-1", 1), this.getEntity("entity-1", 3)));
+
+        coalescer.shutdown();
+
+        assertEquals(distributedEvents, List.of("NEW_ENTITY_EVENT:entity-1:1",
+                                                "DELETED_ENTITY_EVENT:entity-1:2",
+                                                "UPDATED_ENTITY_EVENT:entity-1:3"));
+        assertEquals(coalescer.getDroppedEventCount(), 1);
+    }
+
+
+    /**
+     * Record an event passed on by the coalescer.
+     *
+     * @param event instance event
+     */
+    private void recordEvent(OMRSInstanceEvent event)
+    {
+        String description = event.getInstanceEventType().name();
+
+        if (event.getEntity() != null)
+        {
+            description = description + ":" + event.getEntity().getGUID() + ":" + event.getEntity().getVersion();
+        }
+        else
+        {
+            description = description + ":" + event.getInstanceGUID();
+        }
+
+        synchronized (distributedEvents)
+        {
+            distributedEvents.add(description);
+            distributedEvents.notifyAll();
+        }
+    }
+
+
+    /**
+     * Wait until the coalescer has passed on the expected number of events.
+     *
+     * @param eventCount number of events
+     */
+    private void waitForEvents(int eventCount)
+    {
+        long endTime = System.currentTimeMillis() + 10000;
+
+        synchronized (distributedEvents)
+        {
+            while ((distributedEvents.size() < eventCount) && (System.currentTimeMillis() < endTime))
+            {
+                try
+                {
+                    distributedEvents.wait(100);
+                }
+                catch (InterruptedException error)
+                {
+                    Thread.currentThread().interrupt();
+                    return;
+                }
+            }
+        }
+    }
+
+
+    /**
+     * Create an entity.
+     *
+     * @param guid unique identifier
+     * @param version version of the entity
+     * @return entity
+     */
+    private EntityDetail getEntity(String guid,
+                                   long   version)
+    {
+        EntityDetail entity = new EntityDetail();
+
+        entity.setGUID(guid);
+        entity.setVersion(version);
+
+        return entity;
+    }
+}
@@ -0,0 +1,711 @@
+/* SPDX-License-Identifier: Apache-2.0 */
+/* Copyright Contributors to the ODPi Egeria project. */
+package org.odpi.openmetadata.repositoryservices.localrepository.repositoryconnector;
+
+import org.odpi.openmetadata.adminservices.configuration.properties.LocalRepositoryMode;
+import org.odpi.openmetadata.adminservices.configuration.properties.OpenMetadataExchangeRule;
+import org.odpi.openmetadata.frameworks.auditlog.ComponentDevelopmentStatus;
+import org.odpi.openmetadata.repositoryservices.auditlog.OMRSAuditLog;
+import org.odpi.openmetadata.repositoryservices.auditlog.OMRSAuditLogDestination;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.OMRSMetadataCollectionBase;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.OMRSReferenceCopyBatchStore;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.instances.EntityDetail;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.instances.InstanceAuditHeader;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.instances.InstanceGraph;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.instances.InstanceProvenanceType;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.instances.InstanceStatus;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.instances.InstanceType;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.instances.Relationship;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.typedefs.EntityDef;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.typedefs.TypeDefCategory;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.repositoryconnector.OMRSRepositoryConnector;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.repositoryconnector.OMRSRepositoryHelper;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.repositoryconnector.OMRSRepositoryValidator;
+import org.odpi.openmetadata.repositoryservices.eventmanagement.OMRSRepositoryEventExchangeRule;
+import org.odpi.openmetadata.repositoryservices.ffdc.OMRSErrorCode;
+import org.odpi.openmetadata.repositoryservices.ffdc.exception.RepositoryErrorException;
+import org.odpi.openmetadata.repositoryservices.localrepository.repositorycontentmanager.OMRSRepositoryContentHelper;
+import org.odpi.openmetadata.repositoryservices.localrepository.repositorycontentmanager.OMRSRepositoryContentManager;
+import org.odpi.openmetadata.repositoryservices.localrepository.repositorycontentmanager.OMRSRepositoryContentValidator;
+import org.testng.annotations.BeforeMethod;
+import org.testng.annotations.Test;
+
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertFalse;
+import static org.testng.Assert.assertTrue;
+
+
+/**
+ * Verify the rules that processReferenceCopyBatch uses to decide whether each instance is saved in a batch,
+ * skipped or passed through the individual event processing.  This is the path used for open metadata archives
+ * and for instance batch events.  Instance batch events are also checked against a repository that can not
+ * save reference copies in bulk.
+ */
+public class LocalOMRSReferenceCopyBatchTest
+{
+    private static final String localServerName           = "testServer";
+    private static final String localMetadataCollectionId = "local-collection";
+    private static final String remoteMetadataCollectionId = "remote-collection";
+    private static final String sourceName                = "testSource";
+
+    private EntityDef                       entityDef;
+    private TestInstanceStore               realStore;
+    private LocalOMRSInstanceEventProcessor eventProcessor;
+
+
+    /**
+     * Set up a local repository wrapping a real repository that records how the instances are saved.
+     *
+     * @throws Exception unable to start the connector
+     */
+    @BeforeMethod
+    public void setUp() throws Exception
+    {
+        this.startLocalRepository(true);
+    }
+
+
+    /**
+     * Start a local repository wrapping a real repository that records how the instances are saved.
+     *
+     * @param batchSupported does the real repository implement OMRSReferenceCopyBatchStore
+     * @throws Exception unable to start the connector
+     */
+    private void startLocalRepository(boolean batchSupported) throws Exception
+    {
+        OMRSAuditLog auditLog = new OMRSAuditLog(new OMRSAuditLogDestination(localServerName, "testType", "testOrganization", null),
+                                                 1,
+                                                 ComponentDevelopmentStatus.IN_DEVELOPMENT,
+                                                 "testComponent",
+                                                 "test",
+                                                 null);
+
+        OMRSRepositoryContentManager contentManager = new OMRSRepositoryContentManager("testUser", auditLog);
+
+        entityDef = new EntityDef();
+        entityDef.setName("TestEntity");
+        entityDef.setVersion(1);
+        entityDef.setVersionName("1.0");
+        entityDef.setGUID(UUID.randomUUID().toString());
+        entityDef.setValidInstanceStatusList(List.of(InstanceStatus.ACTIVE, InstanceStatus.DELETED));
+        contentManager.addTypeDef(sourceName, entityDef);
+
+        OMRSRepositoryContentHelper    repositoryHelper    = new OMRSRepositoryContentHelper(contentManager);
+        OMRSRepositoryContentValidator repositoryValidator = new OMRSRepositoryContentValidator(contentManager);
+
+        TestRepositoryConnector realConnector = new TestRepositoryConnector(repositoryHelper, repositoryValidator, batchSupported);
+
+        LocalOMRSRepositoryConnector localConnector = new LocalOMRSRepositoryConnector(realConnector,
+                                                                                       LocalRepositoryMode.PLUGIN_REPOSITORY,
+                                                                                       null,
+                                                                                       null,
+                                                                                       contentManager,
+                                                                                       new OMRSRepositoryEventExchangeRule(OpenMetadataExchangeRule.ALL, null));
+
+        localConnector.setServerName(localServerName);
+        localConnector.setServerUserId("testUser");
+        localConnector.setAuditLog(auditLog);
+        localConnector.setRepositoryHelper(repositoryHelper);
+        localConnector.setRepositoryValidator(repositoryValidator);
+        localConnector.setMetadataCollectionId(localMetadataCollectionId);
+        localConnector.start();
+
+        realStore      = realConnector.store;
+        eventProcessor = localConnector.getIncomingInstanceEventProcessor();
+    }
+
+
+    /**
+     * Entities that are not stored are saved together in one call.
+     */
+    @Test
+    public void testNewEntitiesAreSavedInBatch()
+    {
+        List<EntityDetail> entities = List.of(this.getEntity(1), this.getEntity(1), this.getEntity(1));
+
+        assertTrue(eventProcessor.isReferenceCopyBatchSupported());
+
+        LocalOMRSReferenceCopyBatchResults results = this.process(entities);
+
+        assertEquals(results.getSavedInBatchCount(), 3);
+        assertEquals(results.getAlreadyStoredCount(), 0);
+        assertEquals(results.getProcessedIndividualCount(), 0);
+        assertEquals(this.getBatchStore().batchSizes, List.of(3));
+        assertTrue(realStore.individualSaves.isEmpty());
+        assertEquals(realStore.entities.size(), 3);
+    }
+
+
+    /**
+     * An entity that is already stored at the same or a later version is skipped; a newer version of a stored
+     * entity is passed through the individual processing, which saves it.
+     */
+    @Test
+    public void testStoredEntitiesAreSkippedOrUpdatedIndividually()
+    {
+        EntityDetail sameVersion  = this.getEntity(2);
+        EntityDetail olderVersion = this.getEntity(2);
+        EntityDetail newerVersion = this.getEntity(3);
+
+        realStore.entities.put(sameVersion.getGUID(), this.copyEntity(sameVersion, 2));
+        realStore.entities.put(olderVersion.getGUID(), this.copyEntity(olderVersion, 5));
+        realStore.entities.put(newerVersion.getGUID(), this.copyEntity(newerVersion, 2));
+
+        LocalOMRSReferenceCopyBatchResults results = this.process(List.of(sameVersion, olderVersion, newerVersion));
+
+        assertEquals(results.getSavedInBatchCount(), 0);
+        assertEquals(results.getAlreadyStoredCount(), 2);
+        assertEquals(results.getProcessedIndividualCount(), 1);
+        assertTrue(this.getBatchStore().batchSizes.isEmpty());
+        assertEquals(realStore.individualSaves, List.of(newerVersion.getGUID()));
+        assertEquals(realStore.entities.get(newerVersion.getGUID()).getVersion(), 3L);
+        assertEquals(realStore.entities.get(olderVersion.getGUID()).getVersion(), 5L);
+    }
+
+
+    /**
+     * An entity with the same GUID as a stored entity but a different creation time is a conflict, so it is
+     * not skipped but passed to the individual processing, which does not overwrite the stored entity.
+     */
+    @Test
+    public void testConflictingEntityIsProcessedIndividually()
+    {
+        EntityDetail incoming = this.getEntity(2);
+        EntityDetail stored   = this.copyEntity(incoming, 1);
+
+        stored.setCreateTime(new Date(incoming.getCreateTime().getTime() - 60000));
+        realStore.entities.put(incoming.getGUID(), stored);
+
+        LocalOMRSReferenceCopyBatchResults results = this.process(List.of(incoming));
+
+        assertEquals(results.getAlreadyStoredCount(), 0);
+        assertEquals(results.getProcessedIndividualCount(), 1);
+        assertTrue(realStore.individualSaves.isEmpty());
+        assertEquals(realStore.entities.get(incoming.getGUID()).getVersion(), 1L);
+    }
+
+
+    /**
+     * When the repository fails to save a batch, each entity in the batch is processed individually.
+     */
+    @Test
+    public void testFailedBatchFallsBackToIndividualProcessing()
+    {
+        List<EntityDetail> entities = List.of(this.getEntity(1), this.getEntity(1));
+
+        this.getBatchStore().failBatches = true;
+
+        LocalOMRSReferenceCopyBatchResults results = this.process(entities);
+
+        assertEquals(results.getSavedInBatchCount(), 0);
+        assertEquals(results.getProcessedIndividualCount(), 2);
+        assertEquals(realStore.individualSaves, List.of(entities.get(0).getGUID(), entities.get(1).getGUID()));
+        assertEquals(realStore.entities.size(), 2);
+    }
+
+
+    /**
+     * Only the first copy of an instance that appears twice is a batch candidate; the second copy goes through
+     * the individual processing so that the versions are compared.  The later version is kept.
+     */
+    @Test
+    public void testDuplicateEntityIsProcessedIndividually()
+    {
+        EntityDetail firstCopy   = this.getEntity(1);
+        EntityDetail secondCopy  = this.copyEntity(firstCopy, 2);
+        EntityDetail otherEntity = this.getEntity(1);
+
+        LocalOMRSReferenceCopyBatchResults results = this.process(List.of(firstCopy, secondCopy, otherEntity));
+
+        assertEquals(results.getSavedInBatchCount(), 1);
+        assertEquals(results.getAlreadyStoredCount(), 1);
+        assertEquals(results.getProcessedIndividualCount(), 1);
+        assertEquals(this.getBatchStore().batchSizes, List.of(1));
+        assertEquals(realStore.individualSaves, List.of(secondCopy.getGUID()));
+        assertEquals(realStore.entities.get(firstCopy.getGUID()).getVersion(), 2L);
+        assertTrue(realStore.entities.containsKey(otherEntity.getGUID()));
+    }
+
+
+    /**
+     * An instance with an invalid header is not batched.  It is passed to the individual processing, which
+     * rejects it.
+     */
+    @Test
+    public void testInvalidEntityIsProcessedIndividually()
+    {
+        EntityDetail validEntity   = this.getEntity(1);
+        EntityDetail invalidEntity = this.getEntity(1);
+        InstanceType unknownType   = invalidEntity.getType();
+
+        unknownType.setTypeDefGUID(UUID.randomUUID().toString());
+        unknownType.setTypeDefName("UnknownEntity");
+        invalidEntity.setType(unknownType);
+
+        LocalOMRSReferenceCopyBatchResults results = this.process(List.of(validEntity, invalidEntity));
+
+        assertEquals(results.getSavedInBatchCount(), 1);
+        assertEquals(results.getProcessedIndividualCount(), 1);
+        assertEquals(this.getBatchStore().batchSizes, List.of(1));
+        assertTrue(realStore.individualSaves.isEmpty());
+        assertFalse(realStore.entities.containsKey(invalidEntity.getGUID()));
+    }
+
+
+    /**
+     * An instance batch event saves the new instances in one batch and skips the instances that are already
+     * stored at the same version.
+     */
+    @Test
+    public void testBatchEventSkipsStoredInstances()
+    {
+        EntityDetail storedEntity = this.getEntity(1);
+        EntityDetail newEntity1   = this.getEntity(1);
+        EntityDetail newEntity2   = this.getEntity(1);
+
+        realStore.entities.put(storedEntity.getGUID(), this.copyEntity(storedEntity, 1));
+
+        this.sendBatchEvent(List.of(storedEntity, newEntity1, newEntity2));
+
+        assertEquals(this.getBatchStore().batchSizes, List.of(2));
+        assertTrue(realStore.individualSaves.isEmpty());
+        assertTrue(realStore.graphSizes.isEmpty());
+        assertEquals(realStore.entities.size(), 3);
+    }
+
+
+    /**
+     * When the repository fails to save the batch from an instance batch event, each instance is saved individually.
+     */
+    @Test
+    public void testBatchEventFallsBackToIndividualProcessing()
+    {
+        List<EntityDetail> entities = List.of(this.getEntity(1), this.getEntity(1));
+
+        this.getBatchStore().failBatches = true;
+
+        this.sendBatchEvent(entities);
+
+        assertTrue(this.getBatchStore().batchSizes.isEmpty());
+        assertEquals(realStore.individualSaves, List.of(entities.get(0).getGUID(), entities.get(1).getGUID()));
+        assertEquals(realStore.entities.size(), 2);
+    }
+
+
+    /**
+     * A repository that can not save reference copies in bulk receives the instance batch event through
+     * saveInstanceReferenceCopies as before.
+     *
+     * @throws Exception unable to start the connector
+     */
+    @Test
+    public void testBatchEventWithoutBatchStore() throws Exception
+    {
+        this.startLocalRepository(false);
+
+        List<EntityDetail> entities = List.of(this.getEntity(1), this.getEntity(1));
+
+        assertFalse(eventProcessor.isReferenceCopyBatchSupported());
+
+        this.sendBatchEvent(entities);
+
+        assertEquals(realStore.graphSizes, List.of(2));
+        assertTrue(realStore.individualSaves.isEmpty());
+        assertEquals(realStore.entities.size(), 2);
+    }
+
+
+    /**
+     * Pass entities through the batch processing.
+     *
+     * @param entities entities to save
+     * @return results
+     */
+    private LocalOMRSReferenceCopyBatchResults process(List<EntityDetail> entities)
+    {
+        return eventProcessor.processReferenceCopyBatch(sourceName,
+                                                        remoteMetadataCollectionId,
+                                                        "remoteServer",
+                                                        "remoteServerType",
+                                                        "remoteOrganization",
+                                                        entities,
+                                                        null);
+    }
+
+
+    /**
+     * Pass entities to the local repository in an instance batch event.
+     *
+     * @param entities entities to save
+     */
+    private void sendBatchEvent(List<EntityDetail> entities)
+    {
+        InstanceGraph instances = new InstanceGraph();
+
+        instances.setEntities(entities);
+
+        eventProcessor.processInstanceBatchEvent(sourceName,
+                                                 remoteMetadataCollectionId,
+                                                 "remoteServer",
+                                                 "remoteServerType",
+                                                 "remoteOrganization",
+                                                 instances);
+    }
+
+
+    /**
+     * Return the real repository as a batch store.
+     *
+     * @return store
+     */
+    private TestReferenceCopyStore getBatchStore()
+    {
+        return (TestReferenceCopyStore)realStore;
+    }
+
+
+    /**
+     * Create an entity homed in the remote metadata collection.
+     *
+     * @param version version of the entity
+     * @return entity
+     */
+    private EntityDetail getEntity(long version)
+    {
+        InstanceType instanceType = new InstanceType();
+
+        instanceType.setTypeDefCategory(TypeDefCategory.ENTITY_DEF);
+        instanceType.setTypeDefGUID(entityDef.getGUID());
+        instanceType.setTypeDefName(entityDef.getName());
+        instanceType.setTypeDefVersion(entityDef.getVersion());
+
+        EntityDetail entity = new EntityDetail();
+
+        entity.setHeaderVersion(InstanceAuditHeader.CURRENT_AUDIT_HEADER_VERSION);
+        entity.setGUID(UUID.randomUUID().toString());
+        entity.setType(instanceType);
+        entity.setInstanceProvenanceType(InstanceProvenanceType.LOCAL_COHORT);
+        entity.setMetadataCollectionId(remoteMetadataCollectionId);
+        entity.setStatus(InstanceStatus.ACTIVE);
+        entity.setCreatedBy("testUser");
+        entity.setCreateTime(new Date(1700000000000L));
+        entity.setVersion(version);
+
+        return entity;
+    }
+
+
+    /**
+     * Copy an entity with a different version.
+     *
+     * @param entity entity to copy
+     * @param version version of the copy
+     * @return copy
+     */
+    private EntityDetail copyEntity(EntityDetail entity,
+                                    long         version)
+    {
+        EntityDetail copy = new EntityDetail(entity);
+
+        copy.setVersion(version);
+
+        return copy;
+    }
+
+
+    /**
+     * Real repository connector for the test.
+     */
+    private static class TestRepositoryConnector extends OMRSRepositoryConnector
+    {
+        private final OMRSRepositoryHelper    repositoryHelper;
+        private final OMRSRepositoryValidator repositoryValidator;
+        private final boolean                 batchSupported;
+
+        private TestInstanceStore store = null;
+
+
+        /**
+         * Constructor.
+         *
+         * @param repositoryHelper helper
+         * @param repositoryValidator validator
+         * @param batchSupported should the metadata collection implement OMRSReferenceCopyBatchStore
+         */
+        TestRepositoryConnector(OMRSRepositoryHelper    repositoryHelper,
+                                OMRSRepositoryValidator repositoryValidator,
+                                boolean                 batchSupported)
+        {
+            this.repositoryHelper    = repositoryHelper;
+            this.repositoryValidator = repositoryValidator;
+            this.batchSupported      = batchSupported;
+        }
+
+
+        /**
+         * Create the metadata collection once its identifier is known.
+         *
+         * @param metadataCollectionId unique identifier of the metadata collection
+         */
+        @Override
+        public void setMetadataCollectionId(String metadataCollectionId)
+        {
+            super.setMetadataCollectionId(metadataCollectionId);
+
+            if (batchSupported)
+            {
+                store = new TestReferenceCopyStore(this, repositoryHelper, repositoryValidator, metadataCollectionId);
+            }
+            else
+            {
+                store = new TestInstanceStore(this, repositoryHelper, repositoryValidator, metadataCollectionId);
+            }
+
+            super.metadataCollection = store;
+        }
+    }
+
+
+    /**
+     * Real metadata collection that keeps the instances in maps and records how they were saved.
+     */
+    private static class TestInstanceStore extends OMRSMetadataCollectionBase
+    {
+        final Map<String, EntityDetail> entities        = new HashMap<>();
+        final Map<String, Relationship> relationships   = new HashMap<>();
+        final List<Integer>             graphSizes      = new ArrayList<>();
+        final List<String>              individualSaves = new ArrayList<>();
+
+
+        /**
+         * Constructor.
+         *
+         * @param parentConnector owning connector
+         * @param repositoryHelper helper
+         * @param repositoryValidator validator
+         * @param metadataCollectionId unique identifier of the metadata collection
+         */
+        TestInstanceStore(OMRSRepositoryConnector parentConnector,
+                          OMRSRepositoryHelper    repositoryHelper,
+                          OMRSRepositoryValidator repositoryValidator,
+                          String                  metadataCollectionId)
+        {
+            super(parentConnector, "Test Repository", repositoryHelper, repositoryValidator, metadataCollectionId);
+        }
+
+
+        /**
+         * Return the stored entity.
+         *
+         * @param userId calling user
+         * @param guid unique identifier of the entity
+         * @return entity or null
+         */
+        @Override
+        public EntityDetail isEntityKnown(String userId,
+                                          String guid)
+        {
+            return entities.get(guid);
+        }
+
+
+        /**
+         * Return the stored relationship.
+         *
+         * @param userId calling user
+         * @param guid unique identifier of the relationship
+         * @return relationship or null
+         */
+        @Override
+        public Relationship isRelationshipKnown(String userId,
+                                                String guid)
+        {
+            return relationships.get(guid);
+        }
+
+
+        /**
+         * Save one entity, recording that it was saved individually.
+         *
+         * @param userId calling user
+         * @param entity entity to save
+         */
+        @Override
+        public void saveEntityReferenceCopy(String       userId,
+                                            EntityDetail entity)
+        {
+            individualSaves.add(entity.getGUID());
+            entities.put(entity.getGUID(), entity);
+        }
+
+
+        /**
+         * Save one relationship, recording that it was saved individually.
+         *
+         * @param userId calling user
+         * @param relationship relationship to save
+         */
+        @Override
+        public void saveRelationshipReferenceCopy(String       userId,
+                                                  Relationship relationship)
+        {
+            individualSaves.add(relationship.getGUID());
+            relationships.put(relationship.getGUID(), relationship);
+        }
+
+
+        /**
+         * Save an instance graph in one call, recording its size.
+         *
+         * @param userId calling user
+         * @param instances instances to save
+         */
+        @Override
+        public void saveInstanceReferenceCopies(String        userId,
+                                                InstanceGraph instances)
+        {
+            graphSizes.add(this.storeInstances(instances));
+        }
+
+
+        /**
+         * Add the instances from a graph to the maps.
+         *
+         * @param instances instances to save
+         * @return number of instances saved
+         */
+        int storeInstances(InstanceGraph instances)
+        {
+            int instanceCount = 0;
+
+            if (instances.getEntities() != null)
+            {
+                for (EntityDetail entity : instances.getEntities())
+                {
+                    entities.put(entity.getGUID(), entity);
+                    instanceCount++;
+                }
+            }
+
+            if (instances.getRelationships() != null)
+            {
+                for (Relationship relationship : instances.getRelationships())
+                {
+                    relationships.put(relationship.getGUID(), relationship);
+                    instanceCount++;
+                }
+            }
+
+            return instanceCount;
+        }
+    }
+
+
+    /**
+     * Real metadata collection that is also able to look up and save reference copies in bulk.
+     */
+    private static class TestReferenceCopyStore extends TestInstanceStore implements OMRSReferenceCopyBatchStore
+    {
+        final List<Integer> batchSizes = new ArrayList<>();
+
+        boolean failBatches = false;
+
+
+        /**
+         * Constructor.
+         *
+         * @param parentConnector owning connector
+         * @param repositoryHelper helper
+         * @param repositoryValidator validator
+         * @param metadataCollectionId unique identifier of the metadata collection
+         */
+        TestReferenceCopyStore(OMRSRepositoryConnector parentConnector,
+                               OMRSRepositoryHelper    repositoryHelper,
+                               OMRSRepositoryValidator repositoryValidator,
+                               String                  metadataCollectionId)
+        {
+            super(parentConnector, repositoryHelper, repositoryValidator, metadataCollectionId);
+        }
+
+
+        /**
+         * Return the stored entities from a list.
+         *
+         * @param userId calling user
+         * @param entityGUIDs unique identifiers of the entities
+         * @return map of unique identifier to stored entity
+         */
+        @Override
+        public Map<String, EntityDetail> getKnownEntities(String       userId,
+                                                          List<String> entityGUIDs)
+        {
+            Map<String, EntityDetail> knownEntities = new HashMap<>();
+
+            for (String guid : entityGUIDs)
+            {
+                if (entities.containsKey(guid))
+                {
+                    knownEntities.put(guid, entities.get(guid));
+                }
+            }
+
+            return knownEntities;
+        }
+
+
+        /**
+         * Return the stored relationships from a list.
+         *
+         * @param userId calling user
+         * @param relationshipGUIDs unique identifiers of the relationships
+         * @return map of unique identifier to stored relationship
+         */
+        @Override
+        public Map<String, Relationship> getKnownRelationships(String       userId,
+                                                               List<String> relationshipGUIDs)
+        {
+            Map<String, Relationship> knownRelationships = new HashMap<>();
+
+            for (String guid : relationshipGUIDs)
+            {
+                if (relationships.containsKey(guid))
+                {
+                    knownRelationships.put(guid, relationships.get(guid));
+                }
+            }
+
+            return knownRelationships;
+        }
+
+
+        /**
+         * Save a batch in one call, recording its size.
+         *
+         * @param userId calling user
+         * @param instances instances to save
+         * @throws RepositoryErrorException the test has asked for batches to fail
+         */
+        @Override
+        public void saveReferenceCopyBatch(String        userId,
+                                           InstanceGraph instances) throws RepositoryErrorException
+        {
+            if (failBatches)
+            {
+                throw new RepositoryErrorException(OMRSErrorCode.REPOSITORY_LOGIC_ERROR.getMessageDefinition("Test Repository",
+                                                                                                             "saveReferenceCopyBatch",
+                                                                                                             "Test failure"),
+                                                   this.getClass().getName(),
+                                                   "saveReferenceCopyBatch");
+            }
+
+            batchSizes.add(this.storeInstances(instances));
+        }
+    }
+}
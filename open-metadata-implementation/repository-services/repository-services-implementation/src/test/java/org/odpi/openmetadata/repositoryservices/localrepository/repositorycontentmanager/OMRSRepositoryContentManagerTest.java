@@ -7,7 +7,9 @@ import org.odpi.openmetadata.frameworks.auditlog.ComponentDevelopmentStatus;
 import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.instances.InstanceStatus;
 import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.instances.InstanceType;
 import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.typedefs.EntityDef;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.typedefs.TypeDefAttribute;
 import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.typedefs.TypeDefCategory;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.typedefs.TypeDefLink;
 import org.odpi.openmetadata.repositoryservices.ffdc.exception.TypeErrorException;
 import org.testng.annotations.Test;
 
@@ -16,6 +18,9 @@ import java.util.List;
 import java.util.UUID;
 
 import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertFalse;
+import static org.testng.Assert.assertNull;
+import static org.testng.Assert.assertTrue;
 
 public class OMRSRepositoryContentManagerTest
 {
@@ -45,4 +50,99 @@ public class OMRSRepositoryContentManagerTest
         assertEquals(instanceType.getTypeDefName(), "EntityType1");
         assertEquals(instanceType.getTypeDefGUID(), entityDefGUID);
     }
+
+
+    @Test
+    public void testIsTypeOf()
+    {
+        AuditLog auditLog = new AuditLog(null, 1, ComponentDevelopmentStatus.IN_DEVELOPMENT, null, null, null);
+        OMRSRepositoryContentManager testSubject = new OMRSRepositoryContentManager("testserver", auditLog);
+
+        EntityDef rootDef = getEntityDef("RootType", null, "rootProperty");
+        EntityDef middleDef = getEntityDef("MiddleType", rootDef, "middleProperty");
+        EntityDef leafDef = getEntityDef("LeafType", middleDef, "leafProperty");
+        EntityDef otherDef = getEntityDef("OtherType", null, null);
+
+        testSubject.addTypeDef("unittest", rootDef);
+        testSubject.addTypeDef("unittest", middleDef);
+        testSubject.addTypeDef("unittest", leafDef);
+        testSubject.addTypeDef("unittest", otherDef);
+
+        assertTrue(testSubject.isTypeOf("unittest", "LeafType", "LeafType"));
+        assertTrue(testSubject.isTypeOf("unittest", "LeafType", "MiddleType"));
+        assertTrue(testSubject.isTypeOf("unittest", "LeafType", "RootType"));
+        assertTrue(testSubject.isTypeOf("unittest", "LeafType", null));
+        assertFalse(testSubject.isTypeOf("unittest", "RootType", "LeafType"));
+        assertFalse(testSubject.isTypeOf("unittest", "LeafType", "OtherType"));
+        assertFalse(testSubject.isTypeOf("unittest", "LeafType", "UnknownType"));
+        assertFalse(testSubject.isTypeOf("unittest", null, "RootType"));
+
+        assertTrue(testSubject.isTypeOfByGUID("unittest", leafDef.getGUID(), "LeafType", rootDef.getGUID()));
+        assertFalse(testSubject.isTypeOfByGUID("unittest", middleDef.getGUID(), "MiddleType", leafDef.getGUID()));
+
+        List<TypeDefLink> superTypes = testSubject.getSuperTypes("unittest", "LeafType", "testIsTypeOf");
+
+        assertEquals(superTypes.size(), 2);
+        assertEquals(superTypes.get(0).getName(), "MiddleType");
+        assertEquals(superTypes.get(1).getName(), "RootType");
+        assertNull(testSubject.getSuperTypes("unittest", "RootType", "testIsTypeOf"));
+
+        List<TypeDefAttribute> properties = testSubject.getAllPropertiesForTypeDef("unittest", leafDef, "testIsTypeOf");
+
+        assertEquals(properties.size(), 3);
+        assertEquals(properties.get(0).getAttributeName(), "leafProperty");
+        assertEquals(properties.get(2).getAttributeName(), "rootProperty");
+
+        /*
+         * Changing the type hierarchy is reflected in the next query.
+         */
+        EntityDef newLeafDef = getEntityDef("LeafType", otherDef, null);
+
+        newLeafDef.setGUID(leafDef.getGUID());
+        newLeafDef.setVersion(2);
+        testSubject.updateTypeDef("unittest", newLeafDef);
+
+        assertTrue(testSubject.isTypeOf("unittest", "LeafType", "OtherType"));
+        assertFalse(testSubject.isTypeOf("unittest", "LeafType", "RootType"));
+    }
+
+
+    /**
+     * Create an entity type for testing.
+     *
+     * @param typeName name of the type
+     * @param superType super type or null
+     * @param propertyName name of the single property defined by the type, or null
+     * @return entity type
+     */
+    private EntityDef getEntityDef(String    typeName,
+                                   EntityDef superType,
+                                   String    propertyName)
+    {
+        EntityDef entityDef = new EntityDef();
+
+        entityDef.setName(typeName);
+        entityDef.setVersion(1);
+        entityDef.setVersionName("1.0");
+        entityDef.setGUID(UUID.randomUUID().toString());
+
+        if (superType != null)
+        {
+            TypeDefLink superTypeLink = new TypeDefLink();
+
+            superTypeLink.setName(superType.getName());
+            superTypeLink.setGUID(superType.getGUID());
+            entityDef.setSuperType(superTypeLink);
+        }
+
+        if (propertyName != null)
+        {
+            TypeDefAttribute attribute = new TypeDefAttribute();
+
+            attribute.setAttributeName(propertyName);
+            entityDef.setPropertiesDefinition(List.of(attribute));
+        }
+
+        return entityDef;
+    }
 }
@@ -14,7 +14,12 @@ import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.http.converter.HttpMessageConverter;
 import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+import org.springframework.http.converter.smile.MappingJackson2SmileHttpMessageConverter;
+import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+
+import java.util.List;
 
 import static com.fasterxml.jackson.annotation.JsonInclude.Include.NON_NULL;
 
@@ -23,6 +28,11 @@ import static com.fasterxml.jackson.annotation.JsonInclude.Include.NON_NULL;
  * json bean Jackson object mapper singleton instance configuration
  * and
  * yaml bean Jackson object mapper singleton instance configuration
+ * and
+ * smile (binary JSON) bean Jackson object mapper singleton instance configuration.
+ * The smile mapper backs an additional HTTP message converter that is only selected when a caller
+ * explicitly asks for application/x-jackson-smile in its Accept header, so external callers
+ * continue to receive JSON.
  */
 @Slf4j
 @Configuration
@@ -53,6 +63,37 @@ public class ObjectMapperConfiguration {
         return newObjectMapper(jackson2ObjectMapperBuilder);
     }
 
+    /**
+     * @return SmileMapper a binary-format ObjectMapper configured in the same way as the JSON object mapper
+     */
+    @Bean
+    @Qualifier("smileObjectMapper")
+    public ObjectMapper smileMapper() {
+        /*
+         * A dedicated builder is used because the injected builder may be shared with the JSON object mapper.
+         */
+        return newObjectMapper(Jackson2ObjectMapperBuilder.smile());
+    }
+
+    /**
+     * Register the smile message converter after the JSON converters so that JSON remains the default
+     * representation when the caller does not request a specific media type.
+     *
+     * @param smileMapper smile object mapper
+     * @return web MVC configurer
+     */
+    @Bean
+    WebMvcConfigurer smileMessageConverterConfigurer(@Qualifier("smileObjectMapper") ObjectMapper smileMapper) {
+        return new WebMvcConfigurer() {
+            @Override
+            public void extendMessageConverters(List<HttpMessageConverter<?>> converters) {
+                converters.removeIf(converter -> converter instanceof MappingJackson2SmileHttpMessageConverter);
+                converters.add(new MappingJackson2SmileHttpMessageConverter(smileMapper));
+                log.debug("Smile content negotiation enabled with {} message converters", converters.size());
+            }
+        };
+    }
+
     /**
      * @return YAMLMapper a convenience version of ObjectMapper which is configured with YAMLFactory
      */
@@ -3,18 +3,28 @@
 package org.odpi.openmetadata.serverchassis.springboot.config;
 
 
+import com.fasterxml.jackson.core.JsonFactory;
 import com.fasterxml.jackson.databind.DeserializationFeature;
 import com.fasterxml.jackson.databind.MapperFeature;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.dataformat.smile.SmileFactory;
 import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.odpi.openmetadata.serverchassis.springboot.config.ObjectMapperConfiguration;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
 import org.springframework.test.context.ContextConfiguration;
 import org.springframework.test.context.junit.jupiter.SpringExtension;
 
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
 import static org.junit.jupiter.api.Assertions.*;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
@@ -28,6 +38,10 @@ class ObjectMapperConfigurationTest {
     @Autowired
     ObjectMapper objectMapper;
 
+    @Autowired
+    @Qualifier("smileObjectMapper")
+    ObjectMapper smileMapper;
+
     @Test
     void autowiredObjectMapperIsNotNull() {
         assertNotNull(objectMapper);
@@ -74,4 +88,125 @@ class ObjectMapperConfigurationTest {
                 ));
 
     }
-}
\ No newline at end of file
+
+    @Test
+    void smileObjectMapperMatchesJsonConfiguration() {
+        assertTrue(smileMapper.getFactory() instanceof SmileFactory);
+        assertFalse(smileMapper.getDeserializationConfig().isEnabled(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES));
+        assertTrue(smileMapper.getDeserializationConfig().isEnabled(MapperFeature.ACCEPT_CASE_INSENSITIVE_PROPERTIES));
+        assertFalse(smileMapper.getSerializationConfig().isEnabled(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS));
+        assertTrue(objectMapper.getFactory() instanceof JsonFactory);
+        assertFalse(objectMapper.getFactory() instanceof SmileFactory);
+    }
+
+    /**
+     * Checks that a response shaped like a large entity list is smaller in smile and round-trips unchanged.
+     */
+    @Test
+    void smileIsSmallerThanJsonForTypicalResponses() throws Exception {
+        Map<String, Object> response = typicalListResponse(2000);
+
+        byte[] json = objectMapper.writeValueAsBytes(response);
+        byte[] smile = smileMapper.writeValueAsBytes(response);
+
+        assertTrue(smile.length < json.length);
+        assertEquals(objectMapper.readValue(json, Map.class), smileMapper.readValue(smile, Map.class));
+    }
+
+    /**
+     * Compares the serialization and deserialization time of a response shaped like a large entity list.
+     * Each operation is warmed up before it is timed and the median of the timed runs is reported, so that
+     * JIT compilation and garbage collection do not dominate the result.  This only runs when the build is
+     * started with -PsmileBenchmark since its timings depend on the machine.
+     */
+    @Test
+    @EnabledIfSystemProperty(named = "smile.benchmark", matches = "true")
+    void smileSerializationBenchmark() throws Exception {
+        final int warmUpRuns = 50;
+        final int timedRuns  = 200;
+
+        Map<String, Object> response = typicalListResponse(2000);
+
+        byte[] json = objectMapper.writeValueAsBytes(response);
+        byte[] smile = smileMapper.writeValueAsBytes(response);
+
+        long jsonWrite = medianNanos(warmUpRuns, timedRuns, () -> objectMapper.writeValueAsBytes(response));
+        long smileWrite = medianNanos(warmUpRuns, timedRuns, () -> smileMapper.writeValueAsBytes(response));
+        long jsonRead = medianNanos(warmUpRuns, timedRuns, () -> objectMapper.readValue(json, Map.class));
+        long smileRead = medianNanos(warmUpRuns, timedRuns, () -> smileMapper.readValue(smile, Map.class));
+
+        System.out.printf("JSON:  %d bytes, write %d us, read %d us%n", json.length, jsonWrite / 1000, jsonRead / 1000);
+        System.out.printf("Smile: %d bytes, write %d us, read %d us%n", smile.length, smileWrite / 1000, smileRead / 1000);
+
+        assertTrue(smileWrite + smileRead < jsonWrite + jsonRead);
+    }
+
+    /**
+     * Return the median time of an operation after it has been warmed up.
+     *
+     * @param warmUpRuns number of untimed runs
+     * @param timedRuns number of timed runs
+     * @param operation operation to time
+     * @return median time in nanoseconds
+     * @throws Exception the operation failed
+     */
+    private long medianNanos(int warmUpRuns, int timedRuns, BenchmarkOperation operation) throws Exception {
+        for (int i = 0; i < warmUpRuns; i++) {
+            operation.run();
+        }
+
+        long[] times = new long[timedRuns];
+
+        for (int i = 0; i < timedRuns; i++) {
+            long start = System.nanoTime();
+            operation.run();
+            times[i] = System.nanoTime() - start;
+        }
+
+        Arrays.sort(times);
+
+        return times[timedRuns / 2];
+    }
+
+    /**
+     * An operation timed by the benchmark.
+     */
+    private interface BenchmarkOperation {
+        /**
+         * Run the operation once.
+         *
+         * @throws Exception the operation failed
+         */
+        void run() throws Exception;
+    }
+
+    private Map<String, Object> typicalListResponse(int elementCount) {
+        List<Map<String, Object>> elements = new ArrayList<>();
+
+        for (int i = 0; i < elementCount; i++) {
+            Map<String, Object> properties = new HashMap<>();
+            properties.put("qualifiedName", "Asset::" + i);
+            properties.put("displayName", "Asset " + i);
+            properties.put("description", "Description of asset " + i);
+
+            Map<String, Object> entity = new HashMap<>();
+            entity.put("class", "EntityDetail");
+            entity.put("headerVersion", 1);
+            entity.put("instanceProvenanceType", "LOCAL_COHORT");
+            entity.put("metadataCollectionId", "f076a951-fcd0-483b-a06e-d0c7abb61b84");
+            entity.put("guid", "e8b2c6a9-3d51-4c47-9a50-" + String.format("%012d", i));
+            entity.put("version", (long) i);
+            entity.put("createTime", 1700000000000L + i);
+            entity.put("properties", properties);
+
+            elements.add(entity);
+        }
+
+        Map<String, Object> response = new HashMap<>();
+        response.put("class", "EntityListResponse");
+        response.put("relatedHTTPCode", 200);
+        response.put("entities", elements);
+
+        return response;
+    }
+}
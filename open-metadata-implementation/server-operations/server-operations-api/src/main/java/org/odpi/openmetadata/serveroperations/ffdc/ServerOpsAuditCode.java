@@ -103,6 +103,16 @@ public enum ServerOpsAuditCode implements AuditLogMessageSet
                             "Review the shutdown messages to ensure that all the subsystems have successfully released the" +
                                     "resources that they were using.  Restart the server whenever its services are needed again."),
 
+    /**
+     * SERVER-OPS-0008 - The {0} service started in {1} milliseconds in server {2}
+     */
+    SERVICE_START_UP_TIME("SERVER-OPS-0008",
+                          AuditLogRecordSeverityLevel.STARTUP,
+                          "The {0} service started in {1} milliseconds in server {2}",
+                          "The service has completed its initialization.  The time taken is recorded so that slow services can be identified.",
+                          "No action is required.  If the server is slow to start, compare the start-up times of its services to find " +
+                                  "the ones that are delaying it."),
+
     /**
      * SERVER-OPS-0010 - The Open Metadata Access Services (OMASs) are starting
      */
@@ -113,7 +123,7 @@ public enum ServerOpsAuditCode implements AuditLogMessageSet
                 "These provide specialist APIs for accessing open metadata.  Many of the access services support " +
                 "both a REST API and event-based interaction through a topic.  They also support options that " +
                 "control their behavior and the scope of the metadata that they work with.  The access service " +
-                "subsystems are started one at a time.  A fatal error in any of them prevents the server from starting.",
+                "subsystems are started concurrently.  A fatal error in any of them prevents the server from starting.",
         "The server's configuration document lists the access services that should be started in this server.  " +
                 "Verify that the expected access services are started and that they each report that their components are " +
                 "working correctly."),
@@ -223,7 +233,7 @@ public enum ServerOpsAuditCode implements AuditLogMessageSet
             "The Open Metadata View Services (OMVSs) are starting",
             "The operational admin services are initializing the view service subsystems in a metadata server instance.  " +
                     "These provide specialist task orientated APIs for viewing open metadata.  The view services support " +
-                    "a REST API. The view service subsystems are started one at a time.  A fatal error in any of them prevents the server from starting.",
+                    "a REST API. The view service subsystems are started concurrently.  A fatal error in any of them prevents the server from starting.",
             "The server's configuration document lists the view services that should be started in this server.  " +
                     "Verify that the expected view services are started and that they each report that their components are " +
                     "working correctly."),
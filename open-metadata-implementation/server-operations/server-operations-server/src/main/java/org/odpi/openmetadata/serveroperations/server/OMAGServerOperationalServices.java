@@ -53,6 +53,10 @@ import org.slf4j.LoggerFactory;
 import java.util.ArrayList;
 import java.util.Date;
 import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
 
 /**
  * OMAGServerOperationalServices will provide support to start, manage and stop services in the OMAG Server.
@@ -70,6 +74,14 @@ public class OMAGServerOperationalServices
     private final static RESTCallLogger restCallLogger = new RESTCallLogger(LoggerFactory.getLogger(OMAGServerOperationalServices.class),
                                                                             CommonServicesDescription.SERVER_OPERATIONS.getServiceName());
 
+    /*
+     * Upper limits on the number of threads used to start servers and the services within a server.
+     */
+    private final static int maxServerStartUpThreads  = 4;
+    private final static int maxServiceStartUpThreads = 8;
+
+    private final OMAGServiceStartUpExecutor serviceStartUpExecutor = new OMAGServiceStartUpExecutor(maxServiceStartUpThreads);
+
     /*
      * =============================================================
      * Initialization and shutdown
@@ -77,9 +89,9 @@ public class OMAGServerOperationalServices
 
     /**
      * Activate the list of open metadata and governance servers using the stored configuration information.
-     * The code works through the list, starting each server in turn.  It stops if one of the servers fails to
-     * start and returns the error.  Otherwise, it continues through the list, returning the successful
-     * start-up messages.
+     * The servers are started in parallel on a bounded pool of threads.  Once they have all completed, the
+     * error from the first server in the list that failed to start is returned.  Otherwise, the successful
+     * start-up messages are returned in the order of the list.
      *
      * @param userId  user that is issuing the request
      * @param serverNames  list of server names
@@ -98,30 +110,40 @@ public class OMAGServerOperationalServices
 
         if (serverNames != null)
         {
+            List<String> startUpServerNames = new ArrayList<>();
+
             for (String serverName : serverNames)
             {
                 if (serverName != null)
                 {
-                    response = activateWithStoredConfig(userId, serverName.trim());
+                    startUpServerNames.add(serverName.trim());
+                }
+            }
+
+            List<SuccessMessageResponse> serverResponses = this.activateServersConcurrently(userId, startUpServerNames);
+
+            for (int i = 0; i < serverResponses.size(); i++)
+            {
+                SuccessMessageResponse serverResponse = serverResponses.get(i);
 
-                    if (response.getRelatedHTTPCode() == 200)
+                if (serverResponse.getRelatedHTTPCode() == 200)
+                {
+                    String serverStartUpMessage = "OMAG Server '" + startUpServerNames.get(i) + "' successful start , with message: " +
+                            serverResponse.getSuccessMessage() + System.lineSeparator();
+                    if (startUpMessage == null)
                     {
-                        String serverStartUpMessage = "OMAG Server '" + serverName + "' successful start , with message: " +
-                                response.getSuccessMessage() + System.lineSeparator();
-                        if (startUpMessage == null)
-                        {
-                            startUpMessage = serverStartUpMessage;
-                        }
-                        else
-                        {
-                            startUpMessage += serverStartUpMessage;
-                        }
+                        startUpMessage = serverStartUpMessage;
                     }
                     else
                     {
-                        break;
+                        startUpMessage += serverStartUpMessage;
                     }
                 }
+                else
+                {
+                    response = serverResponse;
+                    break;
+                }
             }
         }
         else
@@ -138,6 +160,73 @@ public class OMAGServerOperationalServices
     }
 
 
+    /**
+     * Start each of the named servers using its stored configuration.  The servers are independent of one
+     * another, so they are started on a bounded pool of threads.
+     *
+     * @param userId  user that is issuing the request
+     * @param serverNames  list of server names
+     * @return response for each server in the same order as the server names
+     */
+    private List<SuccessMessageResponse> activateServersConcurrently(String       userId,
+                                                                    List<String> serverNames)
+    {
+        final String methodName = "activateServerListWithStoredConfig";
+
+        List<SuccessMessageResponse> serverResponses = new ArrayList<>();
+
+        if (serverNames.isEmpty())
+        {
+            return serverResponses;
+        }
+
+        ExecutorService executorService = Executors.newFixedThreadPool(Math.min(serverNames.size(), maxServerStartUpThreads));
+
+        try
+        {
+            List<Future<SuccessMessageResponse>> startUpResults = new ArrayList<>();
+
+            for (String serverName : serverNames)
+            {
+                startUpResults.add(executorService.submit(() -> activateWithStoredConfig(userId, serverName)));
+            }
+
+            for (Future<SuccessMessageResponse> startUpResult : startUpResults)
+            {
+                SuccessMessageResponse serverResponse = new SuccessMessageResponse();
+
+                try
+                {
+                    serverResponse = startUpResult.get();
+                }
+                catch (ExecutionException error)
+                {
+                    exceptionHandler.capturePlatformRuntimeException(serverNames.get(serverResponses.size()),
+                                                                     methodName,
+                                                                     serverResponse,
+                                                                     error.getCause());
+                }
+                catch (InterruptedException error)
+                {
+                    Thread.currentThread().interrupt();
+                    exceptionHandler.capturePlatformRuntimeException(serverNames.get(serverResponses.size()),
+                                                                     methodName,
+                                                                     serverResponse,
+                                                                     error);
+                }
+
+                serverResponses.add(serverResponse);
+            }
+        }
+        finally
+        {
+            executorService.shutdown();
+        }
+
+        return serverResponses;
+    }
+
+
     /**
      * Activate the open metadata and governance services using the stored configuration information.
      *
@@ -866,7 +955,8 @@ public class OMAGServerOperationalServices
 
 
     /**
-     * Start up the access services.
+     * Start up the access services.  The enabled access services are started concurrently and the
+     * first failure (in configuration order) is returned once all of them have completed.
      *
      * @param instance server instance
      * @param accessServiceConfigList configured access services
@@ -877,7 +967,6 @@ public class OMAGServerOperationalServices
      * @param activatedServiceList list of services (subsystems) running in the server
      * @throws OMAGConfigurationErrorException problem with the configuration
      */
-    @SuppressWarnings(value = "deprecation")
     private void initializeAccessServices(OMAGOperationalServicesInstance instance,
                                           List<AccessServiceConfig>       accessServiceConfigList,
                                           OMRSOperationalServices         operationalRepositoryServices,
@@ -898,8 +987,8 @@ public class OMAGServerOperationalServices
             /*
              * Need to count the access services because of the possibility of deprecated or disabled access services in the list.
              */
-            int  configuredAccessServiceCount = 0;
-            int  enabledAccessServiceCount = 0;
+            int                       configuredAccessServiceCount = 0;
+            List<AccessServiceConfig> enabledAccessServiceList     = new ArrayList<>();
 
             for (AccessServiceConfig  accessServiceConfig : accessServiceConfigList)
             {
@@ -909,65 +998,8 @@ public class OMAGServerOperationalServices
 
                     if (ServiceOperationalStatus.ENABLED.equals(accessServiceConfig.getAccessServiceOperationalStatus()))
                     {
-                        enabledAccessServiceCount ++;
+                        enabledAccessServiceList.add(accessServiceConfig);
                         instance.setServerServiceActiveStatus(accessServiceConfig.getAccessServiceFullName(), ServerActiveStatus.STARTING);
-
-                        try
-                        {
-                            AccessServiceAdmin accessServiceAdmin = this.getAccessServiceAdminClass(accessServiceConfig, auditLog, serverName);
-
-                            accessServiceAdmin.setFullServiceName(accessServiceConfig.getAccessServiceFullName());
-
-
-                            /*
-                             * Each access service has its own audit log instance.
-                             */
-                            OMRSAuditLog accessServicesAuditLog
-                                    = operationalRepositoryServices.getAuditLog(accessServiceConfig.getAccessServiceId(),
-                                                                                accessServiceConfig.getAccessServiceDevelopmentStatus(),
-                                                                                accessServiceConfig.getAccessServiceFullName(),
-                                                                                accessServiceConfig.getAccessServiceDescription(),
-                                                                                accessServiceConfig.getAccessServiceWiki());
-
-                            /*
-                             * We will switch to the new version of this method once all access services have move from using OMRSAuditLog to
-                             * AuditLog.  The default implementation of this method delegates to the new version of the method so
-                             */
-                            accessServiceAdmin.initialize(accessServiceConfig,
-                                                          enterpriseTopicConnector,
-                                                          operationalRepositoryServices.getEnterpriseOMRSRepositoryConnector(accessServiceConfig.getAccessServiceFullName()),
-                                                          accessServicesAuditLog,
-                                                          localServerUserId);
-                            operationalAccessServiceAdminList.add(accessServiceAdmin);
-                            activatedServiceList.add(accessServiceConfig.getAccessServiceFullName());
-                            instance.setServerServiceActiveStatus(accessServiceAdmin.getFullServiceName(), ServerActiveStatus.RUNNING);
-                        }
-                        catch (OMAGConfigurationErrorException error)
-                        {
-                            auditLog.logException(methodName,
-                                                  ServerOpsAuditCode.ACCESS_SERVICE_INSTANCE_FAILURE.getMessageDefinition(accessServiceConfig.getAccessServiceName(),
-                                                                                                                          error.getMessage()),
-                                                  accessServiceConfig.toString(),
-                                                  error);
-                            throw error;
-                        }
-                        catch (Exception error)
-                        {
-                            auditLog.logException(methodName,
-                                                  ServerOpsAuditCode.ACCESS_SERVICE_INSTANCE_FAILURE.getMessageDefinition(error.getMessage(),
-                                                                                                                          accessServiceConfig.getAccessServiceName(),
-                                                                                                                          error.getMessage()),
-                                                  accessServiceConfig.toString(),
-                                                  error);
-
-                            throw new OMAGConfigurationErrorException(
-                                    ServerOpsErrorCode.UNEXPECTED_INITIALIZATION_EXCEPTION.getMessageDefinition(serverName,
-                                                                                                                accessServiceConfig.getAccessServiceName(),
-                                                                                                                error.getMessage()),
-                                    this.getClass().getName(),
-                                    methodName,
-                                    error);
-                        }
                     }
                     else
                     {
@@ -978,8 +1010,25 @@ public class OMAGServerOperationalServices
                 }
             }
 
+            serviceStartUpExecutor.startServices(enabledAccessServiceList,
+                                                 accessServiceConfig -> this.initializeAccessService(instance,
+                                                                                                     accessServiceConfig,
+                                                                                                     operationalRepositoryServices,
+                                                                                                     enterpriseTopicConnector,
+                                                                                                     localServerUserId,
+                                                                                                     serverName,
+                                                                                                     auditLog),
+                                                 operationalAccessServiceAdminList,
+                                                 serverName,
+                                                 methodName);
+
+            for (AccessServiceConfig accessServiceConfig : enabledAccessServiceList)
+            {
+                activatedServiceList.add(accessServiceConfig.getAccessServiceFullName());
+            }
+
             auditLog.logMessage(actionDescription,
-                                ServerOpsAuditCode.ALL_ACCESS_SERVICES_STARTED.getMessageDefinition(Integer.toString(enabledAccessServiceCount),
+                                ServerOpsAuditCode.ALL_ACCESS_SERVICES_STARTED.getMessageDefinition(Integer.toString(enabledAccessServiceList.size()),
                                                                                                     Integer.toString(configuredAccessServiceCount)));
         }
 
@@ -991,9 +1040,100 @@ public class OMAGServerOperationalServices
     }
 
 
+    /**
+     * Start up a single access service.  This method is called on one of the start-up threads.
+     *
+     * @param instance server instance
+     * @param accessServiceConfig configuration for the access service
+     * @param operationalRepositoryServices repository services
+     * @param enterpriseTopicConnector events from the cohort
+     * @param localServerUserId servers userId
+     * @param serverName server name
+     * @param auditLog audit log for the server
+     * @return running access service
+     * @throws OMAGConfigurationErrorException problem with the configuration
+     */
+    @SuppressWarnings(value = "deprecation")
+    private AccessServiceAdmin initializeAccessService(OMAGOperationalServicesInstance instance,
+                                                       AccessServiceConfig             accessServiceConfig,
+                                                       OMRSOperationalServices         operationalRepositoryServices,
+                                                       OMRSTopicConnector              enterpriseTopicConnector,
+                                                       String                          localServerUserId,
+                                                       String                          serverName,
+                                                       OMRSAuditLog                    auditLog) throws OMAGConfigurationErrorException
+    {
+        final String methodName = "initializeAccessService";
+        final String actionDescription = "Initialize Access Services";
+
+        long startTime = System.currentTimeMillis();
+
+        try
+        {
+            AccessServiceAdmin accessServiceAdmin = this.getAccessServiceAdminClass(accessServiceConfig, auditLog, serverName);
+
+            accessServiceAdmin.setFullServiceName(accessServiceConfig.getAccessServiceFullName());
+
+
+            /*
+             * Each access service has its own audit log instance.
+             */
+            OMRSAuditLog accessServicesAuditLog
+                    = operationalRepositoryServices.getAuditLog(accessServiceConfig.getAccessServiceId(),
+                                                                accessServiceConfig.getAccessServiceDevelopmentStatus(),
+                                                                accessServiceConfig.getAccessServiceFullName(),
+                                                                accessServiceConfig.getAccessServiceDescription(),
+                                                                accessServiceConfig.getAccessServiceWiki());
+
+            /*
+             * We will switch to the new version of this method once all access services have move from using OMRSAuditLog to
+             * AuditLog.  The default implementation of this method delegates to the new version of the method so
+             */
+            accessServiceAdmin.initialize(accessServiceConfig,
+                                          enterpriseTopicConnector,
+                                          operationalRepositoryServices.getEnterpriseOMRSRepositoryConnector(accessServiceConfig.getAccessServiceFullName()),
+                                          accessServicesAuditLog,
+                                          localServerUserId);
+            instance.setServerServiceActiveStatus(accessServiceAdmin.getFullServiceName(), ServerActiveStatus.RUNNING);
+
+            auditLog.logMessage(actionDescription,
+                                ServerOpsAuditCode.SERVICE_START_UP_TIME.getMessageDefinition(accessServiceConfig.getAccessServiceFullName(),
+                                                                                              Long.toString(System.currentTimeMillis() - startTime),
+                                                                                              serverName));
+            return accessServiceAdmin;
+        }
+        catch (OMAGConfigurationErrorException error)
+        {
+            auditLog.logException(methodName,
+                                  ServerOpsAuditCode.ACCESS_SERVICE_INSTANCE_FAILURE.getMessageDefinition(accessServiceConfig.getAccessServiceName(),
+                                                                                                          error.getMessage()),
+                                  accessServiceConfig.toString(),
+                                  error);
+            throw error;
+        }
+        catch (Exception error)
+        {
+            auditLog.logException(methodName,
+                                  ServerOpsAuditCode.ACCESS_SERVICE_INSTANCE_FAILURE.getMessageDefinition(error.getMessage(),
+                                                                                                          accessServiceConfig.getAccessServiceName(),
+                                                                                                          error.getMessage()),
+                                  accessServiceConfig.toString(),
+                                  error);
+
+            throw new OMAGConfigurationErrorException(
+                    ServerOpsErrorCode.UNEXPECTED_INITIALIZATION_EXCEPTION.getMessageDefinition(serverName,
+                                                                                                accessServiceConfig.getAccessServiceName(),
+                                                                                                error.getMessage()),
+                    this.getClass().getName(),
+                    methodName,
+                    error);
+        }
+    }
+
+
 
     /**
-     * Start up the view services.
+     * Start up the view services.  The enabled view services are started concurrently and the
+     * first failure (in configuration order) is returned once all of them have completed.
      *
      * @param instance                      server instance
      * @param viewServiceConfigList         configured view services
@@ -1025,8 +1165,8 @@ public class OMAGServerOperationalServices
             /*
              * Need to count the view services because of the possibility of deprecated or disabled view services in the list.
              */
-            int configuredViewServiceCount = 0;
-            int enabledViewServiceCount = 0;
+            int                     configuredViewServiceCount = 0;
+            List<ViewServiceConfig> enabledViewServiceList     = new ArrayList<>();
 
             for (ViewServiceConfig viewServiceConfig : viewServiceConfigList)
             {
@@ -1034,58 +1174,8 @@ public class OMAGServerOperationalServices
 
                 if (ServiceOperationalStatus.ENABLED.equals(viewServiceConfig.getViewServiceOperationalStatus()))
                 {
-                    enabledViewServiceCount++;
+                    enabledViewServiceList.add(viewServiceConfig);
                     instance.setServerServiceActiveStatus(viewServiceConfig.getViewServiceFullName(), ServerActiveStatus.STARTING);
-
-                    try
-                    {
-                        ViewServiceAdmin viewServiceAdmin = this.getViewServiceAdminClass(viewServiceConfig, auditLog, serverName);
-
-                        /*
-                         * Each view service has its own audit log instance.
-                         */
-                        OMRSAuditLog viewServicesAuditLog
-                                = operationalRepositoryServices.getAuditLog(viewServiceConfig.getViewServiceId(),
-                                                                            viewServiceConfig.getViewServiceDevelopmentStatus(),
-                                                                            viewServiceConfig.getViewServiceFullName(),
-                                                                            viewServiceConfig.getViewServiceDescription(),
-                                                                            viewServiceConfig.getViewServiceWiki());
-
-                        viewServiceAdmin.initialize(serverName,
-                                                    viewServiceConfig,
-                                                    viewServicesAuditLog,
-                                                    localServerUserId,
-                                                    maxPageSize);
-                        operationalViewServiceAdminList.add(viewServiceAdmin);
-                        activatedServiceList.add(viewServiceConfig.getViewServiceFullName());
-                        instance.setServerServiceActiveStatus(viewServiceConfig.getViewServiceFullName(), ServerActiveStatus.RUNNING);
-                    }
-                    catch (OMAGConfigurationErrorException error)
-                    {
-                        auditLog.logException(methodName,
-                                              ServerOpsAuditCode.VIEW_SERVICE_INSTANCE_FAILURE.getMessageDefinition(viewServiceConfig.getViewServiceName(),
-                                                                                                                    error.getMessage()),
-                                              viewServiceConfig.toString(),
-                                              error);
-                        throw error;
-                    }
-                    catch (Exception error)
-                    {
-                        auditLog.logException(methodName,
-                                              ServerOpsAuditCode.VIEW_SERVICE_INSTANCE_FAILURE.getMessageDefinition(error.getMessage(),
-                                                                                                                    viewServiceConfig.getViewServiceName(),
-                                                                                                                    error.getMessage()),
-                                              viewServiceConfig.toString(),
-                                              error);
-
-                        throw new OMAGConfigurationErrorException(
-                                ServerOpsErrorCode.UNEXPECTED_INITIALIZATION_EXCEPTION.getMessageDefinition(serverName,
-                                                                                                            viewServiceConfig.getViewServiceName(),
-                                                                                                            error.getMessage()),
-                                this.getClass().getName(),
-                                methodName,
-                                error);
-                    }
                 }
                 else
                 {
@@ -1093,11 +1183,27 @@ public class OMAGServerOperationalServices
                                         ServerOpsAuditCode.SKIPPING_VIEW_SERVICE.getMessageDefinition(viewServiceConfig.getViewServiceFullName(),
                                                                                                       serverName));
                 }
+            }
 
+            serviceStartUpExecutor.startServices(enabledViewServiceList,
+                                                 viewServiceConfig -> this.initializeViewService(instance,
+                                                                                                 viewServiceConfig,
+                                                                                                 operationalRepositoryServices,
+                                                                                                 localServerUserId,
+                                                                                                 serverName,
+                                                                                                 maxPageSize,
+                                                                                                 auditLog),
+                                                 operationalViewServiceAdminList,
+                                                 serverName,
+                                                 methodName);
+
+            for (ViewServiceConfig viewServiceConfig : enabledViewServiceList)
+            {
+                activatedServiceList.add(viewServiceConfig.getViewServiceFullName());
             }
 
             auditLog.logMessage(actionDescription,
-                                ServerOpsAuditCode.ALL_VIEW_SERVICES_STARTED.getMessageDefinition(Integer.toString(enabledViewServiceCount),
+                                ServerOpsAuditCode.ALL_VIEW_SERVICES_STARTED.getMessageDefinition(Integer.toString(enabledViewServiceList.size()),
                                                                                                   Integer.toString(configuredViewServiceCount)));
         }
 
@@ -1109,6 +1215,88 @@ public class OMAGServerOperationalServices
     }
 
 
+    /**
+     * Start up a single view service.  This method is called on one of the start-up threads.
+     *
+     * @param instance                      server instance
+     * @param viewServiceConfig             configuration for the view service
+     * @param operationalRepositoryServices repository services
+     * @param localServerUserId             servers userId
+     * @param serverName                    server name
+     * @param maxPageSize                   maximum page size. 0 means unlimited
+     * @param auditLog                      audit log
+     * @return running view service
+     * @throws OMAGConfigurationErrorException problem with the configuration
+     */
+    private ViewServiceAdmin initializeViewService(OMAGOperationalServicesInstance instance,
+                                                   ViewServiceConfig               viewServiceConfig,
+                                                   OMRSOperationalServices         operationalRepositoryServices,
+                                                   String                          localServerUserId,
+                                                   String                          serverName,
+                                                   int                             maxPageSize,
+                                                   OMRSAuditLog                    auditLog) throws OMAGConfigurationErrorException
+    {
+        final String methodName = "initializeViewService";
+        final String actionDescription = "Initialize View Services";
+
+        long startTime = System.currentTimeMillis();
+
+        try
+        {
+            ViewServiceAdmin viewServiceAdmin = this.getViewServiceAdminClass(viewServiceConfig, auditLog, serverName);
+
+            /*
+             * Each view service has its own audit log instance.
+             */
+            OMRSAuditLog viewServicesAuditLog
+                    = operationalRepositoryServices.getAuditLog(viewServiceConfig.getViewServiceId(),
+                                                                viewServiceConfig.getViewServiceDevelopmentStatus(),
+                                                                viewServiceConfig.getViewServiceFullName(),
+                                                                viewServiceConfig.getViewServiceDescription(),
+                                                                viewServiceConfig.getViewServiceWiki());
+
+            viewServiceAdmin.initialize(serverName,
+                                        viewServiceConfig,
+                                        viewServicesAuditLog,
+                                        localServerUserId,
+                                        maxPageSize);
+            instance.setServerServiceActiveStatus(viewServiceConfig.getViewServiceFullName(), ServerActiveStatus.RUNNING);
+
+            auditLog.logMessage(actionDescription,
+                                ServerOpsAuditCode.SERVICE_START_UP_TIME.getMessageDefinition(viewServiceConfig.getViewServiceFullName(),
+                                                                                              Long.toString(System.currentTimeMillis() - startTime),
+                                                                                              serverName));
+            return viewServiceAdmin;
+        }
+        catch (OMAGConfigurationErrorException error)
+        {
+            auditLog.logException(methodName,
+                                  ServerOpsAuditCode.VIEW_SERVICE_INSTANCE_FAILURE.getMessageDefinition(viewServiceConfig.getViewServiceName(),
+                                                                                                        error.getMessage()),
+                                  viewServiceConfig.toString(),
+                                  error);
+            throw error;
+        }
+        catch (Exception error)
+        {
+            auditLog.logException(methodName,
+                                  ServerOpsAuditCode.VIEW_SERVICE_INSTANCE_FAILURE.getMessageDefinition(error.getMessage(),
+                                                                                                        viewServiceConfig.getViewServiceName(),
+                                                                                                        error.getMessage()),
+                                  viewServiceConfig.toString(),
+                                  error);
+
+            throw new OMAGConfigurationErrorException(
+                    ServerOpsErrorCode.UNEXPECTED_INITIALIZATION_EXCEPTION.getMessageDefinition(serverName,
+                                                                                                viewServiceConfig.getViewServiceName(),
+                                                                                                error.getMessage()),
+                    this.getClass().getName(),
+                    methodName,
+                    error);
+        }
+    }
+
+
     /**
      * Create an instance of the access service's admin class from the class name in the configuration.
      *
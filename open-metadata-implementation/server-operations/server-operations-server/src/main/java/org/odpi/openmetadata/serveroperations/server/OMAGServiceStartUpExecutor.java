@@ -0,0 +1,148 @@
+/* SPDX-License-Identifier: Apache-2.0 */
+/* Copyright Contributors to the ODPi Egeria project. */
+package org.odpi.openmetadata.serveroperations.server;
+
+import org.odpi.openmetadata.adminservices.ffdc.exception.OMAGConfigurationErrorException;
+import org.odpi.openmetadata.serveroperations.ffdc.ServerOpsErrorCode;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+/**
+ * OMAGServiceStartUpExecutor starts a tier of services, such as the access services or the view services,
+ * on a bounded pool of threads.
+ */
+class OMAGServiceStartUpExecutor
+{
+    private final int maxThreads;
+
+
+    /**
+     * ServiceStarter starts one service from its configuration.  It is used to pass the start-up logic of a
+     * tier of services to startServices.
+     *
+     * @param <C> type of the service's configuration
+     * @param <A> type of the service's admin class
+     */
+    @FunctionalInterface
+    interface ServiceStarter<C, A>
+    {
+        /**
+         * Start the service.
+         *
+         * @param serviceConfig configuration for the service
+         * @return admin object for the running service
+         * @throws OMAGConfigurationErrorException problem with the configuration
+         */
+        A startService(C serviceConfig) throws OMAGConfigurationErrorException;
+    }
+
+
+    /**
+     * Constructor.
+     *
+     * @param maxThreads upper limit on the number of services started at the same time
+     */
+    OMAGServiceStartUpExecutor(int maxThreads)
+    {
+        this.maxThreads = maxThreads;
+    }
+
+
+    /**
+     * Start a tier of services on a bounded pool of threads.  The admin objects of the services that start are
+     * added to the started services list in configuration order, even if another service fails, so that they
+     * are shut down when the server start-up is abandoned.  Once all the services have completed, the first
+     * failure in configuration order is thrown.  This means the errors reported are the same as when the
+     * services were started one at a time.
+     *
+     * @param serviceConfigList configuration for the enabled services in the tier
+     * @param serviceStarter logic to start one service
+     * @param startedServiceList list to add the admin objects to
+     * @param serverName server name
+     * @param methodName calling method
+     * @param <C> type of the service's configuration
+     * @param <A> type of the service's admin class
+     * @throws OMAGConfigurationErrorException problem with the configuration of one of the services
+     */
+    <C, A> void startServices(List<C>              serviceConfigList,
+                              ServiceStarter<C, A> serviceStarter,
+                              List<A>              startedServiceList,
+                              String               serverName,
+                              String               methodName) throws OMAGConfigurationErrorException
+    {
+        if (serviceConfigList.isEmpty())
+        {
+            return;
+        }
+
+        ExecutorService executorService = Executors.newFixedThreadPool(Math.min(serviceConfigList.size(), maxThreads));
+
+        try
+        {
+            List<Future<A>> startUpResults = new ArrayList<>();
+
+            for (C serviceConfig : serviceConfigList)
+            {
+                startUpResults.add(executorService.submit(() -> serviceStarter.startService(serviceConfig)));
+            }
+
+            Throwable firstFailure = null;
+
+            for (Future<A> startUpResult : startUpResults)
+            {
+                try
+                {
+                    startedServiceList.add(startUpResult.get());
+                }
+                catch (ExecutionException error)
+                {
+                    if (firstFailure == null)
+                    {
+                        firstFailure = error.getCause();
+                    }
+                }
+                catch (InterruptedException error)
+                {
+                    Thread.currentThread().interrupt();
+
+                    if (firstFailure == null)
+                    {
+                        firstFailure = error;
+                    }
+                }
+            }
+
+            if (firstFailure instanceof OMAGConfigurationErrorException configurationError)
+            {
+                throw configurationError;
+            }
+            else if (firstFailure instanceof RuntimeException runtimeError)
+            {
+                throw runtimeError;
+            }
+            else if (firstFailure instanceof Error error)
+            {
+                throw error;
+            }
+            else if (firstFailure != null)
+            {
+                throw new OMAGConfigurationErrorException(
+                        ServerOpsErrorCode.UNEXPECTED_INITIALIZATION_EXCEPTION.getMessageDefinition(serverName,
+                                                                                                    methodName,
+                                                                                                    firstFailure.getMessage()),
+                        this.getClass().getName(),
+                        methodName,
+                        firstFailure);
+            }
+        }
+        finally
+        {
+            executorService.shutdownNow();
+        }
+    }
+}
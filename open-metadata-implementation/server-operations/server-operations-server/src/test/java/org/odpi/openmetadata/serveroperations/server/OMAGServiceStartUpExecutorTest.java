@@ -0,0 +1,203 @@
+/* SPDX-License-Identifier: Apache-2.0 */
+/* Copyright Contributors to the ODPi Egeria project. */
+package org.odpi.openmetadata.serveroperations.server;
+
+import org.odpi.openmetadata.adminservices.ffdc.exception.OMAGConfigurationErrorException;
+import org.odpi.openmetadata.serveroperations.ffdc.ServerOpsErrorCode;
+import org.testng.annotations.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertTrue;
+import static org.testng.Assert.fail;
+
+
+/**
+ * Verify that a tier of services started in parallel reports the same results as starting them one at a time.
+ */
+public class OMAGServiceStartUpExecutorTest
+{
+    private static final String serverName = "testServer";
+    private static final String methodName = "testStartUp";
+
+
+    /**
+     * The admin objects are returned in configuration order whatever order the services finish in.
+     *
+     * @throws Exception test failure
+     */
+    @Test
+    public void testAdminObjectsInConfigurationOrder() throws Exception
+    {
+        List<Integer> serviceConfigList = List.of(40, 30, 20, 10, 0);
+        List<String>  startedServices   = new ArrayList<>();
+
+        new OMAGServiceStartUpExecutor(8).startServices(serviceConfigList,
+                                                        delay ->
+                                                        {
+                                                            this.pause(delay);
+                                                            return "service-" + delay;
+                                                        },
+                                                        startedServices,
+                                                        serverName,
+                                                        methodName);
+
+        assertEquals(startedServices, List.of("service-40", "service-30", "service-20", "service-10", "service-0"));
+    }
+
+
+    /**
+     * Every service runs to completion when one fails.  The services that started are all returned so they can
+     * be shut down, and the failure of the first service in configuration order is thrown.
+     */
+    @Test
+    public void testFirstFailureInConfigurationOrder()
+    {
+        List<String> serviceConfigList = List.of("service-1", "fail-2", "service-3", "fail-4", "service-5");
+        List<String> startedServices   = new ArrayList<>();
+
+        try
+        {
+            new OMAGServiceStartUpExecutor(8).startServices(serviceConfigList,
+                                                            serviceName ->
+                                                            {
+                                                                if (serviceName.equals("fail-4"))
+                                                                {
+                                                                    throw this.getError(serviceName);
+                                                                }
+                                                                else if (serviceName.equals("fail-2"))
+                                                                {
+                                                                    /*
+                                                                     * Fail after the later service has failed.
+                                                                     */
+                                                                    this.pause(50);
+                                                                    throw this.getError(serviceName);
+                                                                }
+
+                                                                return serviceName;
+                                                            },
+                                                            startedServices,
+                                                            serverName,
+                                                            methodName);
+            fail("Start-up failure not reported");
+        }
+        catch (OMAGConfigurationErrorException error)
+        {
+            assertTrue(error.getReportedErrorMessage().contains("fail-2"), error.getReportedErrorMessage());
+        }
+
+        assertEquals(startedServices, List.of("service-1", "service-3", "service-5"));
+    }
+
+
+    /**
+     * A runtime exception from a service is thrown unchanged.
+     *
+     * @throws Exception test failure
+     */
+    @Test(expectedExceptions = IllegalStateException.class)
+    public void testRuntimeExceptionIsRethrown() throws Exception
+    {
+        new OMAGServiceStartUpExecutor(2).startServices(List.of("service-1", "service-2"),
+                                                        serviceName ->
+                                                        {
+                                                            throw new IllegalStateException(serviceName);
+                                                        },
+                                                        new ArrayList<>(),
+                                                        serverName,
+                                                        methodName);
+    }
+
+
+    /**
+     * The services run at the same time, but no more of them than the thread limit.
+     *
+     * @throws Exception test failure
+     */
+    @Test
+    public void testConcurrencyIsBounded() throws Exception
+    {
+        final int maxThreads = 3;
+
+        List<Integer>  serviceConfigList = List.of(1, 2, 3, 4, 5, 6, 7, 8, 9);
+        List<Integer>  startedServices   = new ArrayList<>();
+        AtomicInteger  running           = new AtomicInteger(0);
+        AtomicInteger  maxRunning        = new AtomicInteger(0);
+        CountDownLatch allThreadsBusy    = new CountDownLatch(maxThreads);
+
+        new OMAGServiceStartUpExecutor(maxThreads).startServices(serviceConfigList,
+                                                                 serviceNumber ->
+                                                                 {
+                                                                     maxRunning.accumulateAndGet(running.incrementAndGet(), Math::max);
+                                                                     allThreadsBusy.countDown();
+                                                                     this.waitFor(allThreadsBusy);
+                                                                     this.pause(10);
+                                                                     running.decrementAndGet();
+
+                                                                     return serviceNumber;
+                                                                 },
+                                                                 startedServices,
+                                                                 serverName,
+                                                                 methodName);
+
+        assertEquals(startedServices, serviceConfigList);
+        assertEquals(maxRunning.get(), maxThreads);
+    }
+
+
+    /**
+     * Sleep while a service starts.
+     *
+     * @param milliseconds time to sleep
+     */
+    private void pause(long milliseconds)
+    {
+        try
+        {
+            Thread.sleep(milliseconds);
+        }
+        catch (InterruptedException error)
+        {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+
+    /**
+     * Wait until the other services are running.
+     *
+     * @param latch latch counting the running services
+     */
+    private void waitFor(CountDownLatch latch)
+    {
+        try
+        {
+            latch.await(10, TimeUnit.SECONDS);
+        }
+        catch (InterruptedException error)
+        {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+
+    /**
+     * Return a configuration error for a service.
+     *
+     * @param serviceName name of the service
+     * @return exception
+     */
+    private OMAGConfigurationErrorException getError(String serviceName)
+    {
+        return new OMAGConfigurationErrorException(ServerOpsErrorCode.UNEXPECTED_INITIALIZATION_EXCEPTION.getMessageDefinition(serverName,
+                                                                                                                               serviceName,
+                                                                                                                               "Test failure"),
+                                                   this.getClass().getName(),
+                                                   methodName);
+    }
+}
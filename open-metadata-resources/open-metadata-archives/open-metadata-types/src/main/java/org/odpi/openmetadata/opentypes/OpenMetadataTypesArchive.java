@@ -109,6 +109,17 @@ public class OpenMetadataTypesArchive
     }
 
 
+    /**
+     * Return the version of this archive.
+     *
+     * @return String version
+     */
+    public String getArchiveVersion()
+    {
+        return archiveVersion;
+    }
+
+
     /**
      * Returns the open metadata type archive containing all the standard open metadata types.
      *
@@ -0,0 +1,313 @@
+/* SPDX-License-Identifier: Apache-2.0 */
+/* Copyright Contributors to the ODPi Egeria project. */
+package org.odpi.openmetadata.opentypes;
+
+import org.odpi.openmetadata.repositoryservices.connectors.stores.archivestore.properties.OpenMetadataArchive;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.archivestore.properties.OpenMetadataArchiveProperties;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.ObjectInputFilter;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HexFormat;
+
+/**
+ * OpenMetadataTypesSnapshot returns the open metadata types archive from a binary snapshot that was written when
+ * this module was built.  This avoids running the type archive builder code each time a server starts.
+ * <br><br>
+ * The snapshot is the Java serialized form of the archive built by OpenMetadataTypesArchive.  It is stored on the
+ * class path with a SHA-256 checksum calculated when it was written.  The snapshot is only used if its checksum
+ * matches and its archive GUID and version match the code in this module.  Otherwise, the archive is built from
+ * the code as before.
+ * <br><br>
+ * The snapshot is verified once per JVM.  Each call to getOpenMetadataArchive() returns a new copy of the
+ * archive so that servers running in the same platform do not share the type definition objects.
+ */
+public class OpenMetadataTypesSnapshot
+{
+    static final String snapshotFolderName    = "open-metadata-types";
+    static final String snapshotFilePrefix    = "OpenMetadataTypes-";
+    static final String snapshotFileExtension = ".snapshot";
+    static final String checksumFileExtension = ".sha256";
+
+    private static final String checksumAlgorithm = "SHA-256";
+
+    /*
+     * Only JDK and Egeria classes are accepted from the snapshot.
+     */
+    private static final ObjectInputFilter snapshotFilter = ObjectInputFilter.Config.createFilter("java.**;org.odpi.openmetadata.**;!*");
+
+    /*
+     * The verified snapshot is shared by all instances of this class.
+     */
+    private static boolean snapshotChecked         = false;
+    private static byte[]  verifiedSnapshot        = null;
+    private static String  snapshotRejectionReason = null;
+
+    private final OpenMetadataTypesArchive typesArchive   = new OpenMetadataTypesArchive();
+    private       String                   fallbackReason = null;
+
+
+    /**
+     * Default constructor
+     */
+    public OpenMetadataTypesSnapshot()
+    {
+    }
+
+
+    /**
+     * Return the unique identifier for the open metadata types archive.
+     *
+     * @return String guid
+     */
+    public String getArchiveGUID()
+    {
+        return typesArchive.getArchiveGUID();
+    }
+
+
+    /**
+     * Return the name of the snapshot resource for the current version of the open metadata types.
+     *
+     * @return resource name
+     */
+    public String getSnapshotName()
+    {
+        return getSnapshotResourceName(typesArchive.getArchiveVersion());
+    }
+
+
+    /**
+     * Return the open metadata types archive.  It comes from the snapshot if it is valid, otherwise it is built
+     * from the code.
+     *
+     * @return populated open metadata archive object
+     */
+    public OpenMetadataArchive getOpenMetadataArchive()
+    {
+        OpenMetadataArchive archive = this.readVerifiedSnapshot();
+
+        if (archive != null)
+        {
+            fallbackReason = null;
+
+            return archive;
+        }
+
+        /*
+         * An archive builder can only be used once so a new one is created each time.
+         */
+        return new OpenMetadataTypesArchive().getOpenMetadataArchive();
+    }
+
+
+    /**
+     * Return the reason why the last call to getOpenMetadataArchive() built the archive from the code rather
+     * than using the snapshot.
+     *
+     * @return description of the problem, or null if the snapshot was used
+     */
+    public String getFallbackReason()
+    {
+        return fallbackReason;
+    }
+
+
+    /**
+     * Return a copy of the archive from the snapshot.  The snapshot is verified the first time that it is used.
+     *
+     * @return archive or null if there is no valid snapshot (the fallback reason is set)
+     */
+    private OpenMetadataArchive readVerifiedSnapshot()
+    {
+        byte[] snapshot;
+
+        synchronized (OpenMetadataTypesSnapshot.class)
+        {
+            if (! snapshotChecked)
+            {
+                snapshotChecked = true;
+
+                try
+                {
+                    OpenMetadataArchive archive = this.loadSnapshot();
+
+                    if (archive == null)
+                    {
+                        fallbackReason = snapshotRejectionReason;
+                    }
+
+                    return archive;
+                }
+                catch (Exception error)
+                {
+                    snapshotRejectionReason = "snapshot " + this.getSnapshotName() + " could not be read: " + error.getMessage();
+                    fallbackReason          = snapshotRejectionReason;
+
+                    return null;
+                }
+            }
+
+            snapshot = verifiedSnapshot;
+        }
+
+        if (snapshot == null)
+        {
+            fallbackReason = snapshotRejectionReason;
+
+            return null;
+        }
+
+        try
+        {
+            return deserialize(snapshot);
+        }
+        catch (Exception error)
+        {
+            fallbackReason = "snapshot " + this.getSnapshotName() + " could not be read: " + error.getMessage();
+
+            return null;
+        }
+    }
+
+
+    /**
+     * Read the snapshot from the class path and check it against its checksum and the code in this module.
+     * If it is valid, it is saved for later calls.
+     *
+     * @return archive from the snapshot or null if the snapshot is not valid (the reason is saved)
+     * @throws IOException problem reading the snapshot
+     * @throws ClassNotFoundException the snapshot contains a class that is not known
+     * @throws NoSuchAlgorithmException the checksum algorithm is not available
+     */
+    private OpenMetadataArchive loadSnapshot() throws IOException, ClassNotFoundException, NoSuchAlgorithmException
+    {
+        String snapshotName = this.getSnapshotName();
+        byte[] snapshot     = readResource(snapshotName);
+        byte[] checksum     = readResource(snapshotName + checksumFileExtension);
+
+        if ((snapshot == null) || (checksum == null))
+        {
+            snapshotRejectionReason = "there is no snapshot called " + snapshotName + " on the class path";
+            return null;
+        }
+
+        String expectedChecksum = new String(checksum, StandardCharsets.UTF_8).trim();
+        String actualChecksum   = getChecksum(snapshot);
+
+        if (! actualChecksum.equals(expectedChecksum))
+        {
+            snapshotRejectionReason = "the checksum of snapshot " + snapshotName + " is " + actualChecksum + " rather than " + expectedChecksum;
+            return null;
+        }
+
+        OpenMetadataArchive           archive           = deserialize(snapshot);
+        OpenMetadataArchiveProperties archiveProperties = archive.getArchiveProperties();
+
+        if ((archiveProperties == null) ||
+            (! typesArchive.getArchiveGUID().equals(archiveProperties.getArchiveGUID())) ||
+            (! typesArchive.getArchiveVersion().equals(archiveProperties.getArchiveVersion())))
+        {
+            snapshotRejectionReason = "snapshot " + snapshotName + " was not built from this version of the open metadata types";
+            return null;
+        }
+
+        verifiedSnapshot = snapshot;
+
+        return archive;
+    }
+
+
+    /**
+     * Read a resource from the class path.
+     *
+     * @param resourceName name of the resource
+     * @return contents or null if the resource is not present
+     * @throws IOException problem reading the resource
+     */
+    private static byte[] readResource(String resourceName) throws IOException
+    {
+        try (InputStream inputStream = OpenMetadataTypesSnapshot.class.getResourceAsStream(resourceName))
+        {
+            if (inputStream == null)
+            {
+                return null;
+            }
+
+            return inputStream.readAllBytes();
+        }
+    }
+
+
+    /**
+     * Return the class path resource name for the snapshot of a version of the open metadata types.
+     *
+     * @param archiveVersion version of the open metadata types archive
+     * @return resource name
+     */
+    static String getSnapshotResourceName(String archiveVersion)
+    {
+        return "/" + snapshotFolderName + "/" + snapshotFilePrefix + archiveVersion + snapshotFileExtension;
+    }
+
+
+    /**
+     * Serialize an archive in the format used for the snapshot.
+     *
+     * @param archive archive to serialize
+     * @return serialized archive
+     * @throws IOException problem serializing the archive
+     */
+    static byte[] serialize(OpenMetadataArchive archive) throws IOException
+    {
+        ByteArrayOutputStream byteStream = new ByteArrayOutputStream();
+
+        try (ObjectOutputStream objectStream = new ObjectOutputStream(byteStream))
+        {
+            objectStream.writeObject(archive);
+        }
+
+        return byteStream.toByteArray();
+    }
+
+
+    /**
+     * Create a new copy of the archive from the snapshot.
+     *
+     * @param snapshot serialized archive
+     * @return archive
+     * @throws IOException problem reading the snapshot
+     * @throws ClassNotFoundException the snapshot contains a class that is not known
+     */
+    static OpenMetadataArchive deserialize(byte[] snapshot) throws IOException, ClassNotFoundException
+    {
+        try (ObjectInputStream objectStream = new ObjectInputStream(new ByteArrayInputStream(snapshot)))
+        {
+            objectStream.setObjectInputFilter(snapshotFilter);
+
+            return (OpenMetadataArchive) objectStream.readObject();
+        }
+    }
+
+
+    /**
+     * Return the checksum of the snapshot contents.
+     *
+     * @param snapshot snapshot contents
+     * @return hex encoded SHA-256 digest
+     * @throws NoSuchAlgorithmException the checksum algorithm is not available
+     */
+    static String getChecksum(byte[] snapshot) throws NoSuchAlgorithmException
+    {
+        MessageDigest messageDigest = MessageDigest.getInstance(checksumAlgorithm);
+
+        return HexFormat.of().formatHex(messageDigest.digest(snapshot));
+    }
+}
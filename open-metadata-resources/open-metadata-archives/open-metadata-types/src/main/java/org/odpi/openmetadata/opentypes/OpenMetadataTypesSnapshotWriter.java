@@ -0,0 +1,73 @@
+/* SPDX-License-Identifier: Apache-2.0 */
+/* Copyright Contributors to the ODPi Egeria project. */
+package org.odpi.openmetadata.opentypes;
+
+import org.odpi.openmetadata.repositoryservices.connectors.stores.archivestore.properties.OpenMetadataArchive;
+
+import java.io.File;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+
+/**
+ * OpenMetadataTypesSnapshotWriter is run during the build to write the snapshot of the open metadata types used by
+ * OpenMetadataTypesSnapshot.  The snapshot and its checksum are written into the supplied folder, which is then
+ * packaged into the jar for this module.
+ */
+public class OpenMetadataTypesSnapshotWriter
+{
+    /**
+     * Default constructor
+     */
+    public OpenMetadataTypesSnapshotWriter()
+    {
+    }
+
+
+    /**
+     * Build the open metadata types archive from the code and write it out as a snapshot with its checksum.
+     *
+     * @param folderName name of the folder that will be added to the class path
+     * @throws Exception problem building or writing the snapshot
+     */
+    public void writeOpenMetadataTypesSnapshot(String folderName) throws Exception
+    {
+        OpenMetadataTypesArchive typesArchive = new OpenMetadataTypesArchive();
+        OpenMetadataArchive      archive      = typesArchive.getOpenMetadataArchive();
+        byte[]                   snapshot     = OpenMetadataTypesSnapshot.serialize(archive);
+        String                   checksum     = OpenMetadataTypesSnapshot.getChecksum(snapshot);
+
+        File snapshotFile = new File(folderName + OpenMetadataTypesSnapshot.getSnapshotResourceName(typesArchive.getArchiveVersion()));
+        File checksumFile = new File(snapshotFile.getPath() + OpenMetadataTypesSnapshot.checksumFileExtension);
+
+        Files.createDirectories(snapshotFile.getParentFile().toPath());
+        Files.write(snapshotFile.toPath(), snapshot);
+        Files.writeString(checksumFile.toPath(), checksum, StandardCharsets.UTF_8);
+
+        System.out.println("Wrote open metadata types snapshot " + snapshotFile.getPath() + " with checksum " + checksum);
+    }
+
+
+    /**
+     * Main program to write the snapshot.
+     *
+     * @param args the folder to write the snapshot into
+     */
+    public static void main(String[] args)
+    {
+        if (args.length != 1)
+        {
+            System.out.println("Please specify the folder to write the snapshot into");
+            System.exit(-1);
+        }
+
+        try
+        {
+            new OpenMetadataTypesSnapshotWriter().writeOpenMetadataTypesSnapshot(args[0]);
+        }
+        catch (Exception error)
+        {
+            System.out.println("Unable to write open metadata types snapshot: " + error);
+            System.exit(-1);
+        }
+    }
+}
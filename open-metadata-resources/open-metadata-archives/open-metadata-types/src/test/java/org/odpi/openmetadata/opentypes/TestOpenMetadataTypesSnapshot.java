@@ -0,0 +1,75 @@
+/* SPDX-License-Identifier: Apache-2.0 */
+/* Copyright Contributors to the ODPi Egeria project. */
+
+package org.odpi.openmetadata.opentypes;
+
+
+import org.odpi.openmetadata.repositoryservices.connectors.stores.archivestore.properties.OpenMetadataArchive;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.archivestore.properties.OpenMetadataArchiveTypeStore;
+import org.testng.annotations.Test;
+
+import java.io.File;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertNotNull;
+
+/**
+ * Test that the snapshot of the open metadata types matches the archive built from the code.
+ */
+public class TestOpenMetadataTypesSnapshot
+{
+    @Test
+    public void testSnapshotMatchesArchive() throws Exception
+    {
+        Path folder = Files.createTempDirectory("types-snapshot");
+
+        new OpenMetadataTypesSnapshotWriter().writeOpenMetadataTypesSnapshot(folder.toString());
+
+        OpenMetadataTypesArchive typesArchive = new OpenMetadataTypesArchive();
+        String                   snapshotName = OpenMetadataTypesSnapshot.getSnapshotResourceName(typesArchive.getArchiveVersion());
+        File                     snapshotFile = new File(folder.toString() + snapshotName);
+        File                     checksumFile = new File(snapshotFile.getPath() + OpenMetadataTypesSnapshot.checksumFileExtension);
+
+        byte[] snapshot = Files.readAllBytes(snapshotFile.toPath());
+
+        /*
+         * The archive uses fixed GUIDs and dates so building it again must give the same checksum.
+         */
+        String rebuiltChecksum = OpenMetadataTypesSnapshot.getChecksum(OpenMetadataTypesSnapshot.serialize(typesArchive.getOpenMetadataArchive()));
+
+        assertEquals(Files.readString(checksumFile.toPath(), StandardCharsets.UTF_8), OpenMetadataTypesSnapshot.getChecksum(snapshot));
+        assertEquals(rebuiltChecksum, OpenMetadataTypesSnapshot.getChecksum(snapshot));
+    }
+
+
+    @Test
+    public void testSnapshotCopy() throws Exception
+    {
+        OpenMetadataArchive codeArchive = new OpenMetadataTypesArchive().getOpenMetadataArchive();
+        byte[]              snapshot    = OpenMetadataTypesSnapshot.serialize(codeArchive);
+
+        OpenMetadataArchive          snapshotArchive = OpenMetadataTypesSnapshot.deserialize(snapshot);
+        OpenMetadataArchiveTypeStore typeStore       = snapshotArchive.getArchiveTypeStore();
+
+        assertNotNull(typeStore);
+        assertEquals(typeStore.getNewTypeDefs().size(), codeArchive.getArchiveTypeStore().getNewTypeDefs().size());
+        assertEquals(OpenMetadataTypesSnapshot.getChecksum(OpenMetadataTypesSnapshot.serialize(snapshotArchive)),
+                     OpenMetadataTypesSnapshot.getChecksum(snapshot));
+    }
+
+
+    @Test
+    public void testFallback()
+    {
+        OpenMetadataTypesSnapshot snapshot = new OpenMetadataTypesSnapshot();
+
+        /*
+         * Whether the snapshot is on the test class path or not, the archive is always returned.
+         */
+        assertNotNull(snapshot.getOpenMetadataArchive().getArchiveTypeStore());
+        assertNotNull(snapshot.getOpenMetadataArchive().getArchiveTypeStore());
+    }
+}
@@ -61,6 +61,7 @@ public class ComponentIdReport
     private static final String apacheAtlasRESTConnectorProviderClassName = "org.odpi.openmetadata.adapters.connectors.apacheatlas.resource.ApacheAtlasRESTProvider";
     private static final String apacheAtlasSurveyServiceProviderClassName = "org.odpi.openmetadata.adapters.connectors.apacheatlas.survey.SurveyApacheAtlasProvider";
     private static final String sequentialSurveyPipelineProviderClassName = "org.odpi.openmetadata.frameworks.surveyaction.SequentialSurveyPipelineProvider";
+    private static final String parallelSurveyPipelineProviderClassName = "org.odpi.openmetadata.frameworks.surveyaction.ParallelSurveyPipelineProvider";
     private static final String folderSurveyActionProviderClassName = "org.odpi.openmetadata.adapters.connectors.surveyaction.surveyfolder.FolderSurveyServiceProvider";
     private static final String fileSurveyActionProviderClassName = "org.odpi.openmetadata.adapters.connectors.surveyaction.surveyfile.FileSurveyServiceProvider";
     private static final String csvFileSurveyActionProviderClassName = "org.odpi.openmetadata.adapters.connectors.surveyaction.surveycsv.CSVSurveyServiceProvider";
@@ -264,6 +265,7 @@ public class ComponentIdReport
         this.addConnectorDescription(fileSurveyActionProviderClassName, report);
         this.addConnectorDescription(csvFileSurveyActionProviderClassName, report);
         this.addConnectorDescription(sequentialSurveyPipelineProviderClassName, report);
+        this.addConnectorDescription(parallelSurveyPipelineProviderClassName, report);
         this.addConnectorDescription(postgresServerCatalogProviderClassName, report);
         this.addConnectorDescription(postgresServerSurveyProviderClassName, report);
         this.addConnectorDescription(postgresDatabaseSurveyProviderClassName, report);
@@ -10,6 +10,7 @@ import org.odpi.openmetadata.frameworks.connectors.properties.beans.Connection;
 import java.io.File;
 import java.io.FileOutputStream;
 import java.io.IOException;
+import java.nio.file.Files;
 import java.util.List;
 
 
@@ -18,6 +19,7 @@ import java.util.List;
  */
 public class EgeriaReport
 {
+    private final File             reportFile;
     private final FileOutputStream fileOutStream;
     private final boolean          printToConsole;
 
@@ -347,7 +349,7 @@ public class EgeriaReport
 
         this.printToConsole = printToConsole;
 
-        File reportFile = new File(reportFileName);
+        this.reportFile = new File(reportFileName);
 
         if (reportFile.exists())
         {
@@ -364,6 +366,68 @@ public class EgeriaReport
     }
 
 
+    /**
+     * Set up a segment of a report.  The segment is written to a temporary file with no header so that it can be
+     * appended to the report later.
+     *
+     * @param segmentFile temporary file to write markdown content to
+     * @throws IOException problem writing file
+     */
+    private EgeriaReport(File segmentFile) throws IOException
+    {
+        this.reportFile     = segmentFile;
+        this.printToConsole = false;
+
+        fileOutStream = new FileOutputStream(segmentFile);
+    }
+
+
+    /**
+     * Create a segment that content can be written to while other content is still being added to this report.
+     * The segment is added to the end of the report with appendSegment.
+     *
+     * @return segment of the report
+     * @throws IOException unable to create the temporary file for the segment
+     */
+    public EgeriaReport createSegment() throws IOException
+    {
+        File segmentFile = File.createTempFile("egeria-report-", ".md");
+
+        segmentFile.deleteOnExit();
+
+        return new EgeriaReport(segmentFile);
+    }
+
+
+    /**
+     * Add the content of a segment to the end of this report.  The segment's temporary file is removed.
+     *
+     * @param segment segment created by createSegment
+     * @throws IOException unable to copy the segment into the report
+     */
+    public void appendSegment(EgeriaReport segment) throws IOException
+    {
+        segment.fileOutStream.close();
+
+        Files.copy(segment.reportFile.toPath(), fileOutStream);
+
+        segment.discardSegment();
+    }
+
+
+    /**
+     * Remove a segment's temporary file without adding it to a report.
+     *
+     * @throws IOException unable to remove the temporary file
+     */
+    public void discardSegment() throws IOException
+    {
+        fileOutStream.close();
+
+        Files.deleteIfExists(reportFile.toPath());
+    }
+
+
     /**
      * This adds the last line to the report.
      *
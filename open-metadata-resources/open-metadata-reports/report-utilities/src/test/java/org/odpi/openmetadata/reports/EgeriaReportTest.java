@@ -0,0 +1,147 @@
+/* SPDX-License-Identifier: Apache-2.0 */
+/* Copyright Contributors to the ODPi Egeria project. */
+package org.odpi.openmetadata.reports;
+
+import org.testng.annotations.AfterMethod;
+import org.testng.annotations.BeforeMethod;
+import org.testng.annotations.Test;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.util.HashSet;
+import java.util.Set;
+
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertFalse;
+import static org.testng.Assert.assertTrue;
+
+
+/**
+ * Verify that the segments of an EgeriaReport are added to the end of the report, and that their temporary
+ * files are removed.
+ */
+public class EgeriaReportTest
+{
+    private File reportFile = null;
+
+
+    /**
+     * Choose the file for the report.
+     *
+     * @throws IOException unable to create the file
+     */
+    @BeforeMethod
+    public void setUp() throws IOException
+    {
+        reportFile = File.createTempFile("egeria-report-test", ".md");
+    }
+
+
+    /**
+     * Remove the report.
+     *
+     * @throws IOException unable to remove the file
+     */
+    @AfterMethod
+    public void tearDown() throws IOException
+    {
+        Files.deleteIfExists(reportFile.toPath());
+    }
+
+
+    /**
+     * Content written to a segment appears after the content written to the report while the segment was open,
+     * without the report's license header, and the segment's temporary file is removed.
+     *
+     * @throws IOException problem writing the report
+     */
+    @Test
+    public void testAppendSegment() throws IOException
+    {
+        Set<String> segmentFilesBefore = this.getSegmentFiles();
+
+        EgeriaReport report = new EgeriaReport(reportFile.getAbsolutePath(), false);
+
+        report.printReportLine(0, "before");
+
+        EgeriaReport segment = report.createSegment();
+
+        assertEquals(this.getSegmentFiles().size(), segmentFilesBefore.size() + 1);
+
+        segment.printReportLine(0, "segment line 1");
+        report.printReportLine(0, "after");
+        segment.printReportLine(0, "segment line 2");
+
+        report.appendSegment(segment);
+        report.closeReport();
+
+        String contents = Files.readString(reportFile.toPath());
+
+        assertTrue(contents.indexOf("before") < contents.indexOf("after"));
+        assertTrue(contents.indexOf("after") < contents.indexOf("segment line 1"));
+        assertTrue(contents.indexOf("segment line 1") < contents.indexOf("segment line 2"));
+        assertTrue(contents.indexOf("segment line 2") < contents.indexOf("snippets/abbr.md"));
+        assertEquals(contents.indexOf("SPDX-License-Identifier"), contents.lastIndexOf("SPDX-License-Identifier"));
+
+        assertEquals(this.getSegmentFiles(), segmentFilesBefore);
+
+        /*
+         * The caller discards the segment in a finally block, so discarding an appended segment must be harmless.
+         */
+        segment.discardSegment();
+    }
+
+
+    /**
+     * A discarded segment adds nothing to the report and its temporary file is removed.
+     *
+     * @throws IOException problem writing the report
+     */
+    @Test
+    public void testDiscardSegment() throws IOException
+    {
+        Set<String> segmentFilesBefore = this.getSegmentFiles();
+
+        EgeriaReport report = new EgeriaReport(reportFile.getAbsolutePath(), false);
+
+        report.printReportLine(0, "report line");
+
+        EgeriaReport segment = report.createSegment();
+
+        segment.printReportLine(0, "segment line");
+        segment.discardSegment();
+        report.closeReport();
+
+        String contents = Files.readString(reportFile.toPath());
+
+        assertTrue(contents.contains("report line"));
+        assertFalse(contents.contains("segment line"));
+        assertEquals(this.getSegmentFiles(), segmentFilesBefore);
+    }
+
+
+    /**
+     * Return the names of the temporary files used for segments.
+     *
+     * @return set of file names
+     */
+    private Set<String> getSegmentFiles()
+    {
+        Set<String> segmentFiles = new HashSet<>();
+        File[]      tempFiles    = new File(System.getProperty("java.io.tmpdir")).listFiles();
+
+        if (tempFiles != null)
+        {
+            for (File tempFile : tempFiles)
+            {
+                if (tempFile.getName().startsWith("egeria-report-") && ! tempFile.getName().startsWith("egeria-report-test"))
+                {
+                    segmentFiles.add(tempFile.getName());
+                }
+            }
+        }
+
+        return segmentFiles;
+    }
+}